@@ -0,0 +1,33 @@
+package com.meryt.demographics.domain;
+
+import java.time.LocalDate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import com.meryt.demographics.benchmark.AbstractBenchmark;
+import com.meryt.demographics.domain.person.Gender;
+import com.meryt.demographics.domain.person.Person;
+import com.meryt.demographics.generator.random.Randomness;
+
+public class PlagueBenchmark extends AbstractBenchmark {
+
+    private static final LocalDate ON_DATE = LocalDate.of(1350, 6, 1);
+
+    private Plague blackDeath;
+    private Person person;
+
+    @Setup
+    public void setUp() {
+        Randomness.setSeed(1L);
+        blackDeath = Plague.getPlagueForDate(ON_DATE);
+        person = new Person();
+        person.setGender(Gender.MALE);
+        person.setBirthDate(LocalDate.of(1320, 6, 1));
+        person.setDeathDate(LocalDate.of(1380, 1, 1));
+    }
+
+    @Benchmark
+    public boolean didPersonDieOnDate() {
+        return blackDeath.didPersonDieOnDate(person, ON_DATE);
+    }
+}
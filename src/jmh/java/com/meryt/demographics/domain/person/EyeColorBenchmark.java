@@ -0,0 +1,24 @@
+package com.meryt.demographics.domain.person;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import com.meryt.demographics.benchmark.AbstractBenchmark;
+import com.meryt.demographics.generator.random.Randomness;
+
+public class EyeColorBenchmark extends AbstractBenchmark {
+
+    @Param({"CC", "TC", "TT"})
+    private String genes;
+
+    @Setup
+    public void setUp() {
+        Randomness.setSeed(1L);
+    }
+
+    @Benchmark
+    public EyeColor randomFromGenes() {
+        return EyeColor.randomFromGenes(genes);
+    }
+}
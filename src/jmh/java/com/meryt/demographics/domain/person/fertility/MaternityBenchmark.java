@@ -0,0 +1,56 @@
+package com.meryt.demographics.domain.person.fertility;
+
+import java.time.LocalDate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import com.meryt.demographics.benchmark.AbstractBenchmark;
+import com.meryt.demographics.domain.person.Gender;
+import com.meryt.demographics.domain.person.Person;
+import com.meryt.demographics.generator.person.FertilityGenerator;
+import com.meryt.demographics.generator.random.Randomness;
+
+public class MaternityBenchmark extends AbstractBenchmark {
+
+    private static final LocalDate BIRTH_DATE = LocalDate.of(1700, 8, 1);
+
+    private Maternity maternity;
+    private LocalDate day;
+    private LocalDate[] cycleDays;
+
+    @Setup
+    public void setUp() {
+        Randomness.setSeed(1L);
+        Person woman = new Person();
+        woman.setGender(Gender.FEMALE);
+        woman.setBirthDate(BIRTH_DATE);
+        woman.setMaternity(new FertilityGenerator().randomMaternity(woman));
+        maternity = woman.getMaternity();
+        // A date part-way through a cycle in her late twenties, some time after a birth
+        day = LocalDate.of(1728, 3, 10);
+        maternity.setLastBirthDate(day.minusYears(1));
+        maternity.setNumBirths(2);
+        maternity.cycleToDate(day, true);
+        cycleDays = new LocalDate[maternity.getCycleLength()];
+        for (int i = 0; i < cycleDays.length; i++) {
+            cycleDays[i] = maternity.getLastCycleDate().plusDays(i);
+        }
+    }
+
+    @Benchmark
+    public double getConceptionProbability() {
+        return maternity.getConceptionProbability(BIRTH_DATE, day);
+    }
+
+    /**
+     * Every day of a cycle, so that both the fertile window and the days outside it are looked up
+     */
+    @Benchmark
+    public double getConceptionProbabilityOverCycle() {
+        double total = 0;
+        for (LocalDate cycleDay : cycleDays) {
+            total += maternity.getConceptionProbability(BIRTH_DATE, cycleDay);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,49 @@
+package com.meryt.demographics.generator.family;
+
+import java.time.LocalDate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import com.meryt.demographics.benchmark.AbstractBenchmark;
+import com.meryt.demographics.domain.person.Gender;
+import com.meryt.demographics.domain.person.Person;
+import com.meryt.demographics.domain.person.SocialClass;
+import com.meryt.demographics.generator.random.Randomness;
+
+public class MatchMakerBenchmark extends AbstractBenchmark {
+
+    private static final LocalDate ON_DATE = LocalDate.of(1750, 6, 1);
+
+    private Person man;
+    private Person woman;
+
+    @Setup
+    public void setUp() {
+        Randomness.setSeed(1L);
+        man = createPerson(1, Gender.MALE, LocalDate.of(1722, 3, 1), SocialClass.GENTLEMAN);
+        woman = createPerson(2, Gender.FEMALE, LocalDate.of(1728, 9, 15), SocialClass.YEOMAN_OR_MERCHANT);
+    }
+
+    @Benchmark
+    public boolean checkCompatibility() {
+        return MatchMaker.checkCompatibility(man, woman, ON_DATE);
+    }
+
+    @Benchmark
+    public double getDesireToMarryProbability() {
+        return MatchMaker.getDesireToMarryProbability(man, ON_DATE, 1, LocalDate.of(1748, 1, 1), null);
+    }
+
+    private static Person createPerson(long id, Gender gender, LocalDate birthDate, SocialClass socialClass) {
+        Person person = new Person();
+        person.setId(id);
+        person.setGender(gender);
+        person.setBirthDate(birthDate);
+        person.setDeathDate(birthDate.plusYears(60));
+        person.setSocialClass(socialClass);
+        person.setDomesticity(0.6);
+        person.setComeliness(0.5);
+        person.setCharisma(0.5);
+        return person;
+    }
+}
@@ -0,0 +1,89 @@
+package com.meryt.demographics.generator.family;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.meryt.demographics.benchmark.AbstractBenchmark;
+import com.meryt.demographics.domain.family.Family;
+import com.meryt.demographics.domain.person.Gender;
+import com.meryt.demographics.domain.person.Person;
+import com.meryt.demographics.generator.person.FertilityGenerator;
+import com.meryt.demographics.generator.person.PersonGenerator;
+import com.meryt.demographics.generator.random.Randomness;
+import com.meryt.demographics.response.calendar.CalendarDayEvent;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks a 30-year marriage for conceptions, miscarriages and births. Children are stubbed out so that only the
+ * day-skipping and the fertility calculations are measured.
+ */
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PregnancyCheckerBenchmark extends AbstractBenchmark {
+
+    private static final LocalDate WEDDING_DATE = LocalDate.of(1720, 5, 1);
+    private static final LocalDate END_DATE = WEDDING_DATE.plusYears(30);
+
+    private final FertilityGenerator fertilityGenerator = new FertilityGenerator();
+    private PersonGenerator personGenerator;
+    private PregnancyChecker checker;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        Randomness.setSeed(1L);
+        personGenerator = mock(PersonGenerator.class);
+        when(personGenerator.generateChildrenForParents(any(), any(), anyBoolean(), anyBoolean()))
+                .thenAnswer(invocation -> createChild(invocation.getArgument(1)));
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        Person husband = new Person();
+        husband.setId(1);
+        husband.setGender(Gender.MALE);
+        husband.setBirthDate(LocalDate.of(1695, 2, 1));
+        husband.setDeathDate(LocalDate.of(1770, 1, 1));
+        husband.setPaternity(fertilityGenerator.randomPaternity());
+
+        Person wife = new Person();
+        wife.setId(2);
+        wife.setGender(Gender.FEMALE);
+        wife.setBirthDate(LocalDate.of(1700, 8, 1));
+        wife.setDeathDate(LocalDate.of(1770, 1, 1));
+        wife.setMaternity(fertilityGenerator.randomMaternity(wife));
+        wife.getMaternity().cycleToDate(WEDDING_DATE, true);
+
+        Family family = new Family();
+        family.setHusband(husband);
+        family.setWife(wife);
+        family.setWeddingDate(WEDDING_DATE);
+
+        checker = new PregnancyChecker(personGenerator, family, false);
+    }
+
+    @Benchmark
+    public List<CalendarDayEvent> checkDateRange() {
+        return checker.checkDateRange(WEDDING_DATE, END_DATE);
+    }
+
+    private static List<Person> createChild(LocalDate birthDate) {
+        Person child = new Person();
+        child.setGender(Gender.FEMALE);
+        child.setBirthDate(birthDate);
+        child.setDeathDate(birthDate.plusYears(50));
+        return Collections.singletonList(child);
+    }
+}
@@ -0,0 +1,88 @@
+package com.meryt.demographics.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import com.meryt.demographics.benchmark.AbstractBenchmark;
+import com.meryt.demographics.domain.family.Family;
+import com.meryt.demographics.domain.person.Gender;
+import com.meryt.demographics.domain.person.Person;
+import com.meryt.demographics.domain.person.SocialClass;
+import com.meryt.demographics.domain.title.TitleInheritanceStyle;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Finds heirs on a synthetic pedigree in which every generation but the last died before the root person, so the
+ * search has to recurse all the way down.
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HeirServiceBenchmark extends AbstractBenchmark {
+
+    private static final int YEARS_PER_GENERATION = 25;
+
+    @Param({"3", "5"})
+    private int generations;
+
+    @Param({"2", "4"})
+    private int childrenPerFamily;
+
+    @Param({"HEIRS_MALE_OF_THE_BODY", "HEIRS_OF_THE_BODY"})
+    private TitleInheritanceStyle inheritanceStyle;
+
+    private HeirService heirService;
+    private Person root;
+    private LocalDate onDate;
+    private long nextId;
+
+    @Setup
+    public void setUp() {
+        heirService = new HeirService(mock(PersonService.class));
+        nextId = 1;
+        LocalDate rootBirthDate = LocalDate.of(1600, 1, 1);
+        onDate = rootBirthDate.plusYears((long) YEARS_PER_GENERATION * (generations + 1));
+        root = createPerson(Gender.MALE, rootBirthDate, onDate);
+        addDescendants(root, 1);
+    }
+
+    @Benchmark
+    public List<Person> findPotentialHeirsForPerson() {
+        return heirService.findPotentialHeirsForPerson(root, onDate, inheritanceStyle, true, false);
+    }
+
+    private void addDescendants(Person parent, int generation) {
+        if (generation > generations) {
+            return;
+        }
+        Family family = new Family();
+        for (int i = 0; i < childrenPerFamily; i++) {
+            LocalDate birthDate = parent.getBirthDate().plusYears(YEARS_PER_GENERATION).plusDays(400L * i);
+            // Everyone but the last generation dies before the root, so their own heirs must be found
+            LocalDate deathDate = generation < generations ? onDate.minusDays(1) : onDate.plusYears(40);
+            Person child = createPerson(i % 2 == 0 ? Gender.MALE : Gender.FEMALE, birthDate, deathDate);
+            family.addChild(child);
+            addDescendants(child, generation + 1);
+        }
+        if (parent.isMale()) {
+            parent.addFatheredFamily(family);
+        } else {
+            parent.addMotheredFamily(family);
+        }
+    }
+
+    private Person createPerson(Gender gender, LocalDate birthDate, LocalDate deathDate) {
+        Person person = new Person();
+        person.setId(nextId++);
+        person.setGender(gender);
+        person.setSocialClass(SocialClass.GENTLEMAN);
+        person.setBirthDate(birthDate);
+        person.setDeathDate(deathDate);
+        person.setFinishedGeneration(true);
+        return person;
+    }
+}
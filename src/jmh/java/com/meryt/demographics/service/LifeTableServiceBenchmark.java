@@ -0,0 +1,49 @@
+package com.meryt.demographics.service;
+
+import java.time.LocalDate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import com.meryt.demographics.benchmark.AbstractBenchmark;
+import com.meryt.demographics.domain.person.Gender;
+import com.meryt.demographics.generator.random.Randomness;
+
+/**
+ * Measures drawing a random lifespan from a life table that is already in memory, so the database is not involved.
+ */
+public class LifeTableServiceBenchmark extends AbstractBenchmark {
+
+    private static final LocalDate BIRTH_DATE = LocalDate.of(1720, 1, 1);
+
+    private LifeTableService lifeTableService;
+
+    @Setup
+    public void setUp() {
+        Randomness.setSeed(1L);
+        double[] lx = syntheticLxValues();
+        lifeTableService = new LifeTableService((period, gender) -> lx.clone());
+    }
+
+    @Benchmark
+    public long randomLifeExpectancy() {
+        return lifeTableService.randomLifeExpectancy(BIRTH_DATE, null, null, Gender.MALE);
+    }
+
+    @Benchmark
+    public long randomLifeExpectancyForAdult() {
+        return lifeTableService.randomLifeExpectancy(BIRTH_DATE, 30, 70, Gender.FEMALE);
+    }
+
+    /**
+     * A Gompertz-Makeham survival curve with high infant mortality, roughly the shape of the real tables
+     */
+    static double[] syntheticLxValues() {
+        double[] lx = new double[111];
+        lx[0] = 1.0;
+        for (int age = 1; age < lx.length; age++) {
+            double hazard = 0.01 + 0.0002 * Math.exp(0.085 * age) + (age < 5 ? 0.1 / age : 0.0);
+            lx[age] = lx[age - 1] * Math.exp(-hazard);
+        }
+        return lx;
+    }
+}
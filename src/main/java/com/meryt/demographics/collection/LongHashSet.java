@@ -0,0 +1,165 @@
+package com.meryt.demographics.collection;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import lombok.NonNull;
+
+/**
+ * A set of primitive longs (e.g. person IDs), using open addressing with linear probing. Unlike a HashSet of Longs,
+ * adding and checking IDs does not box them, and the whole set is two arrays.
+ *
+ * Not thread-safe.
+ */
+public class LongHashSet {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final long EMPTY = 0L;
+
+    /**
+     * Slots holding the keys, where EMPTY marks a free slot. The key 0 itself is tracked separately.
+     */
+    private long[] keys;
+    private boolean containsZero;
+    private int size;
+    private int resizeThreshold;
+
+    public LongHashSet() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize the number of keys the set should hold without resizing
+     */
+    public LongHashSet(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    @NonNull
+    public static LongHashSet of(@NonNull Iterable<Long> values) {
+        LongHashSet set = new LongHashSet();
+        for (Long value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    /**
+     * @return true if the value was not already present
+     */
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int mask = keys.length - 1;
+        int slot = slotFor(value, mask);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = value;
+        if (++size > resizeThreshold) {
+            rehash(keys.length * 2);
+        }
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (value == EMPTY) {
+            return containsZero;
+        }
+        int mask = keys.length - 1;
+        int slot = slotFor(value, mask);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void forEach(@NonNull LongConsumer action) {
+        if (containsZero) {
+            action.accept(EMPTY);
+        }
+        for (long key : keys) {
+            if (key != EMPTY) {
+                action.accept(key);
+            }
+        }
+    }
+
+    /**
+     * Gets the values in ascending order
+     */
+    @NonNull
+    public long[] toSortedArray() {
+        long[] values = new long[size];
+        int i = 0;
+        if (containsZero) {
+            values[i++] = EMPTY;
+        }
+        for (long key : keys) {
+            if (key != EMPTY) {
+                values[i++] = key;
+            }
+        }
+        Arrays.sort(values);
+        return values;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        allocate(newCapacity);
+        int mask = keys.length - 1;
+        for (long key : oldKeys) {
+            if (key != EMPTY) {
+                int slot = slotFor(key, mask);
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        // Keep the load factor at or below one half, so probe sequences stay short
+        resizeThreshold = capacity / 2;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity / 2 < expectedSize) {
+            capacity *= 2;
+        }
+        return capacity;
+    }
+
+    /**
+     * Spreads the bits of the key (the SplitMix64 finalizer), since sequential IDs would otherwise cluster
+     */
+    private static int slotFor(long value, int mask) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        z = z ^ (z >>> 31);
+        return (int) z & mask;
+    }
+}
@@ -1,11 +1,16 @@
 package com.meryt.demographics.controllers;
 
+import java.util.List;
 import lombok.NonNull;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.meryt.demographics.domain.family.AncestryDiscrepancy;
+import com.meryt.demographics.rest.BadRequestException;
 import com.meryt.demographics.service.AncestryService;
 
 @RestController
@@ -22,4 +27,27 @@ public class AncestryController {
         ancestryService.updateAncestryTable();
     }
 
+    /**
+     * Recomputes the ancestry of the given people and their descendants
+     *
+     * @param personIds the IDs of the people whose parents have changed
+     * @return the number of people whose ancestry was recomputed
+     */
+    @RequestMapping(value = "/api/ancestry/repair", method = RequestMethod.POST)
+    public int repairAncestryTable(@RequestBody List<Long> personIds) {
+        if (personIds == null || personIds.isEmpty()) {
+            throw new BadRequestException("At least one person ID is required");
+        }
+        return ancestryService.repairAncestryTable(personIds);
+    }
+
+    @RequestMapping(value = "/api/ancestry/verify", method = RequestMethod.GET)
+    public List<AncestryDiscrepancy> verifyAncestryTable(
+            @RequestParam(value = "maxResults", required = false) Integer maxResults) {
+        if (maxResults != null && maxResults < 1) {
+            throw new BadRequestException("maxResults must be a positive integer");
+        }
+        return ancestryService.verifyAncestryTable(maxResults == null ? 100 : maxResults);
+    }
+
 }
@@ -1,23 +1,38 @@
 package com.meryt.demographics.controllers;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.meryt.demographics.domain.person.Person;
 import com.meryt.demographics.request.AdvanceToDatePost;
+import com.meryt.demographics.response.CalendarJobResponse;
 import com.meryt.demographics.response.calendar.CalendarDayEvent;
+import com.meryt.demographics.response.calendar.CalendarDayEventsResponse;
 import com.meryt.demographics.rest.BadRequestException;
 import com.meryt.demographics.rest.ConflictException;
+import com.meryt.demographics.rest.ResourceNotFoundException;
+import com.meryt.demographics.service.CalendarEventListener;
+import com.meryt.demographics.service.CalendarJob;
+import com.meryt.demographics.service.CalendarJobService;
 import com.meryt.demographics.service.CalendarService;
 import com.meryt.demographics.service.ConfigurationService;
 import com.meryt.demographics.service.ControllerHelperService;
@@ -26,16 +41,24 @@ import com.meryt.demographics.service.ControllerHelperService;
 @RestController
 public class CalendarController {
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final ConfigurationService configurationService;
     private final CalendarService calendarService;
     private final ControllerHelperService controllerHelperService;
+    private final CalendarJobService calendarJobService;
+    private final ObjectMapper objectMapper;
 
     public CalendarController(@Autowired @NonNull ConfigurationService configurationService,
                               @Autowired @NonNull CalendarService calendarService,
-                              @Autowired @NonNull ControllerHelperService controllerHelperService) {
+                              @Autowired @NonNull ControllerHelperService controllerHelperService,
+                              @Autowired @NonNull CalendarJobService calendarJobService,
+                              @Autowired @NonNull ObjectMapper objectMapper) {
         this.configurationService = configurationService;
         this.calendarService = calendarService;
         this.controllerHelperService = controllerHelperService;
+        this.calendarJobService = calendarJobService;
+        this.objectMapper = objectMapper;
     }
 
     @RequestMapping(value = "/api/calendar/errors", method = RequestMethod.GET)
@@ -67,13 +90,115 @@ public class CalendarController {
     @RequestMapping(value = "/api/calendar/pause", method = RequestMethod.POST)
     public LocalDate pauseCheck() {
         LocalDate currentDate = configurationService.getCurrentDate();
-        log.info(String.format("Pausing calendar check; last fully completed date is %s", currentDate));
-        configurationService.pauseCheck();
+        int numCancelled = calendarService.cancelRunningAdvances();
+        log.info(String.format("Pausing %d calendar check(s); last fully completed date is %s", numCancelled,
+                currentDate));
         return currentDate;
     }
 
     @RequestMapping(value = "/api/calendar/currentDate", method = RequestMethod.POST)
     public Map<LocalDate, List<CalendarDayEvent>> advanceToDate(@RequestBody AdvanceToDatePost nextDatePost) {
+        checkNotAdvancing();
+        LocalDate toDate = validateAndGetToDate(nextDatePost);
+        return calendarService.advanceToDay(toDate, nextDatePost);
+    }
+
+    /**
+     * Same as {@link #advanceToDate(AdvanceToDatePost)}, except that each day's events are written as a line of JSON
+     * as soon as the day is finished, rather than all at once at the end.
+     */
+    @RequestMapping(value = "/api/calendar/currentDate/stream", method = RequestMethod.POST,
+            produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> advanceToDateAsStream(@RequestBody AdvanceToDatePost nextDatePost) {
+        checkNotAdvancing();
+        LocalDate toDate = validateAndGetToDate(nextDatePost);
+        StreamingResponseBody body = outputStream -> calendarService.advanceToDay(toDate, nextDatePost,
+                streamingListener(outputStream, "", "\n"));
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Same as {@link #advanceToDate(AdvanceToDatePost)}, except that each day's events are sent as a server-sent event
+     * as soon as the day is finished, rather than all at once at the end.
+     */
+    @RequestMapping(value = "/api/calendar/currentDate/events", method = RequestMethod.POST,
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<StreamingResponseBody> advanceToDateAsEvents(@RequestBody AdvanceToDatePost nextDatePost) {
+        checkNotAdvancing();
+        LocalDate toDate = validateAndGetToDate(nextDatePost);
+        StreamingResponseBody body = outputStream -> calendarService.advanceToDay(toDate, nextDatePost,
+                streamingListener(outputStream, "event: day\ndata: ", "\n\n"));
+        return ResponseEntity.ok().contentType(MediaType.TEXT_EVENT_STREAM).body(body);
+    }
+
+    /**
+     * Starts advancing the calendar in the background. Progress is committed every sessionFlushDays days (30 if not
+     * specified), so a cancelled or failed job can be resumed by submitting a new one. Jobs run one at a time, and
+     * while one runs, the synchronous advance endpoints are rejected.
+     */
+    @RequestMapping(value = "/api/calendar/jobs", method = RequestMethod.POST)
+    public CalendarJobResponse postCalendarJob(@RequestBody AdvanceToDatePost nextDatePost) {
+        LocalDate toDate = validateAndGetToDate(nextDatePost);
+        return new CalendarJobResponse(calendarJobService.submit(toDate, nextDatePost));
+    }
+
+    @RequestMapping(value = "/api/calendar/jobs", method = RequestMethod.GET)
+    public List<CalendarJobResponse> getCalendarJobs() {
+        return calendarJobService.findAll().stream()
+                .map(CalendarJobResponse::new)
+                .collect(Collectors.toList());
+    }
+
+    @RequestMapping(value = "/api/calendar/jobs/{jobId}", method = RequestMethod.GET)
+    public CalendarJobResponse getCalendarJob(@PathVariable long jobId) {
+        return new CalendarJobResponse(loadJob(jobId));
+    }
+
+    /**
+     * Cancels a job. If it is running, it stops after the current day and commits its progress.
+     */
+    @RequestMapping(value = "/api/calendar/jobs/{jobId}", method = RequestMethod.DELETE)
+    public CalendarJobResponse cancelCalendarJob(@PathVariable long jobId) {
+        CalendarJob job = loadJob(jobId);
+        calendarJobService.cancel(job);
+        return new CalendarJobResponse(job);
+    }
+
+    /**
+     * Rejects a request to advance while a job or another request is advancing the calendar. The streaming endpoints
+     * only start advancing after the response has begun, so this is checked up front to give a proper error.
+     */
+    private void checkNotAdvancing() {
+        if (calendarService.isAdvancing()) {
+            throw new ConflictException("Cannot advance the calendar: another advance or calendar job is running");
+        }
+    }
+
+    private CalendarJob loadJob(long jobId) {
+        CalendarJob job = calendarJobService.find(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("No calendar job found for ID " + jobId);
+        }
+        return job;
+    }
+
+    private CalendarEventListener streamingListener(@NonNull OutputStream outputStream,
+                                                    @NonNull String prefix,
+                                                    @NonNull String suffix) {
+        return (date, events) -> {
+            try {
+                outputStream.write(prefix.getBytes(StandardCharsets.UTF_8));
+                outputStream.write(objectMapper.writeValueAsBytes(new CalendarDayEventsResponse(date, events)));
+                outputStream.write(suffix.getBytes(StandardCharsets.UTF_8));
+                outputStream.flush();
+            } catch (IOException e) {
+                // Most likely the client went away. Abort the run rather than simulating for nobody.
+                throw new UncheckedIOException("Failed to write calendar events for " + date, e);
+            }
+        };
+    }
+
+    private LocalDate validateAndGetToDate(@NonNull AdvanceToDatePost nextDatePost) {
         LocalDate currentDate = configurationService.getCurrentDate();
 
         nextDatePost.validate();
@@ -91,8 +216,7 @@ public class CalendarController {
         } else {
             toDate = nextDatePost.getDate();
         }
-
-        return calendarService.advanceToDay(toDate, nextDatePost);
+        return toDate;
     }
 
 }
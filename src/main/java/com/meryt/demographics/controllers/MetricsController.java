@@ -0,0 +1,39 @@
+package com.meryt.demographics.controllers;
+
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.meryt.demographics.profiler.MetricsRegistry;
+import com.meryt.demographics.response.metrics.MetricsResponse;
+
+@RestController
+public class MetricsController {
+
+    private final MetricsRegistry metricsRegistry;
+
+    public MetricsController(@Autowired @NonNull MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    /**
+     * Gets the timings of every profiled phase and the value of every counter, aggregated across all runs since the
+     * application started or the metrics were last reset
+     */
+    @RequestMapping(value = "/api/metrics", method = RequestMethod.GET)
+    public MetricsResponse getMetrics() {
+        return new MetricsResponse(metricsRegistry);
+    }
+
+    /**
+     * Resets all metrics to zero, returning their values from just before the reset
+     */
+    @RequestMapping(value = "/api/metrics", method = RequestMethod.DELETE)
+    public MetricsResponse resetMetrics() {
+        MetricsResponse response = new MetricsResponse(metricsRegistry);
+        metricsRegistry.reset();
+        return response;
+    }
+}
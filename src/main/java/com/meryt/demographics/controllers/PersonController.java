@@ -51,6 +51,7 @@ import com.meryt.demographics.response.PersonDetailResponse;
 import com.meryt.demographics.response.PersonFamilyResponse;
 import com.meryt.demographics.response.PersonHeirResponse;
 import com.meryt.demographics.response.PersonPotentialSpouseResponse;
+import com.meryt.demographics.response.PersonPotentialSpousesResponse;
 import com.meryt.demographics.response.PersonResponse;
 import com.meryt.demographics.response.PersonTitleResponse;
 import com.meryt.demographics.response.RelatedPersonResponse;
@@ -596,10 +597,13 @@ public class PersonController {
      * @param minHusbandAge minimum age for men to marry
      * @param minWifeAge minimum age for women to marry
      * @param maxWifeAge maximum age for women to marry
-     * @return a list of potential spouses with their relationship to the person
+     * @param afterCompatibility to get the next page, the nextAfterCompatibility of the previous page
+     * @param afterId to get the next page, the nextAfterId of the previous page
+     * @param pageSize the maximum number of potential spouses to return (default 20)
+     * @return a page of potential spouses, most compatible first, with their relationship to the person
      */
     @RequestMapping(value = "/api/persons/{personId}/potential-spouses", method = RequestMethod.GET)
-    public List<PersonPotentialSpouseResponse> getPersonPotentialSpouses(@PathVariable long personId,
+    public PersonPotentialSpousesResponse getPersonPotentialSpouses(@PathVariable long personId,
                                                            @RequestParam(value = "onDate", required = false)
                                                                    String onDate,
                                                            @RequestParam(value = "minHusbandAge", required = true)
@@ -611,8 +615,18 @@ public class PersonController {
                                                            @RequestParam(value = "minSocialClass", required = false)
                                                                          String minSocialClass,
                                                            @RequestParam(value = "maxSocialClass", required = false)
-                                                                         String maxSocialClass) {
+                                                                         String maxSocialClass,
+                                                           @RequestParam(value = "afterCompatibility", required = false)
+                                                                         Double afterCompatibility,
+                                                           @RequestParam(value = "afterId", required = false)
+                                                                         Long afterId,
+                                                           @RequestParam(value = "pageSize", required = false)
+                                                                         Integer pageSize) {
         final Person person = controllerHelperService.loadPerson(personId);
+        int size = pageSize != null ? pageSize : 20;
+        if (size < 1) {
+            throw new BadRequestException("pageSize must be at least 1");
+        }
         LocalDate date = controllerHelperService.parseDate(onDate);
         LocalDate searchDate = MatchMaker.getDateToStartMarriageSearch(person, minHusbandAge, minWifeAge);
         if (date != null && date.isAfter(searchDate)) {
@@ -638,11 +652,16 @@ public class PersonController {
         // If a specific date is given, include only people eligible on that day. Otherwise include people eligible
         // in the future.
         boolean includeFuture = onDate == null;
-        return personService.findPotentialSpouseWithRelationship(person, searchDate, includeFuture, familyParameters)
+        // Ask for one extra to find out whether there is another page
+        List<PersonPotentialSpouseResponse> potentialSpouses = personService.findRankedPotentialSpouses(person,
+                        searchDate, includeFuture, familyParameters, afterCompatibility, afterId, size + 1)
                 .stream()
-                .map(pr -> new PersonPotentialSpouseResponse(person, pr.getPerson(), finalSearchDate,
-                        pr.getRelationship()))
+                .map(ps -> new PersonPotentialSpouseResponse(person, ps.getPerson(), finalSearchDate,
+                        ps.getRelationship(), ps.getCompatibility()))
                 .collect(Collectors.toList());
+        boolean hasMore = potentialSpouses.size() > size;
+        return new PersonPotentialSpousesResponse(potentialSpouses.subList(0, Math.min(size, potentialSpouses.size())),
+                hasMore);
     }
 
     /**
@@ -1,7 +0,0 @@
-package com.meryt.demographics.domain;
-
-public interface ConfigurationConstants {
-
-    public static String CONFIG_STOP_CHECK = "stop_check";
-
-}
@@ -2,6 +2,7 @@ package com.meryt.demographics.domain;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import javax.annotation.Nullable;
 import lombok.AccessLevel;
@@ -96,6 +97,19 @@ public class Plague implements DateRange {
                 .orElse(null);
     }
 
+    /**
+     * Gets the first plague that starts strictly after the given date, if any.
+     *
+     * @return the next plague, or else null
+     */
+    @Nullable
+    public static Plague getNextPlagueAfter(@NonNull LocalDate date) {
+        return PLAGUES.stream()
+                .filter(p -> p.getFromDate().isAfter(date))
+                .min(Comparator.comparing(Plague::getFromDate))
+                .orElse(null);
+    }
+
     @Getter
     private final String name;
     @Getter
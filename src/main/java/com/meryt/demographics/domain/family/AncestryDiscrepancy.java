@@ -0,0 +1,17 @@
+package com.meryt.demographics.domain.family;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A pair of people whose row in the ancestry closure does not match their ancestry as recorded in their families.
+ * Either distance is null if the row is missing from, or should not be in, the closure.
+ */
+@Getter
+@AllArgsConstructor
+public class AncestryDiscrepancy {
+    private final long ancestorId;
+    private final long descendantId;
+    private final Integer expectedDistance;
+    private final Integer actualDistance;
+}
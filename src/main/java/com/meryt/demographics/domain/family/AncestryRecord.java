@@ -8,7 +8,9 @@ import lombok.Setter;
 public class AncestryRecord {
     private long ancestorId;
     private long descendantId;
-    private String via;
-    private String path;
+    /**
+     * The IDs of the people between the ancestor and the descendant, from the ancestor down, or null if there are none
+     */
+    private long[] via;
     private long distance;
 }
@@ -7,9 +7,9 @@ public class LeastCommonAncestorRelationship {
     private long subject1;
     private long subject2;
     private long leastCommonAncestor;
-    private String subject1Via;
+    private long[] subject1Via;
     private int subject1Distance;
-    private String subject2Via;
+    private long[] subject2Via;
     private int subject2Distance;
 
     public int getDistance() {
@@ -0,0 +1,220 @@
+package com.meryt.demographics.domain.family;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+import lombok.NonNull;
+
+import com.meryt.demographics.collection.LongHashSet;
+
+/**
+ * A compact copy of the family tree holding only each person's parents, so that whether two people are too closely
+ * related to marry can be answered without querying the ancestry closure.
+ *
+ * People are numbered densely in the order they are first seen, and their fathers and mothers are stored as those
+ * numbers in parallel arrays. A person's ancestors (including the person, at distance 0) up to some number of
+ * generations are found by walking the arrays, and are cached sorted by number, so that two people are compared by
+ * merging their two short ancestor lists.
+ *
+ * The methods are synchronized, since births may be recorded while spouses are being looked for.
+ */
+public class PedigreeGraph {
+
+    private static final int NONE = -1;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MAX_DEPTH = Byte.MAX_VALUE;
+
+    private final Map<Long, Integer> indexById = new HashMap<>();
+    private int[] fathers = new int[INITIAL_CAPACITY];
+    private int[] mothers = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Each person's ancestors and their distances, sorted by index, as found to ancestorDepths[index] generations.
+     * A depth of -1 means nothing is cached.
+     */
+    private int[][] ancestors = new int[INITIAL_CAPACITY][];
+    private byte[][] ancestorDistances = new byte[INITIAL_CAPACITY][];
+    private byte[] ancestorDepths = new byte[INITIAL_CAPACITY];
+    private boolean hasCachedAncestors;
+
+    public PedigreeGraph() {
+        Arrays.fill(ancestorDepths, (byte) NONE);
+    }
+
+    /**
+     * Adds the person, or sets their parents if they are already known (e.g. because they were added as someone's
+     * parent first).
+     *
+     * @param personId the person
+     * @param fatherId the ID of the person's father, if known
+     * @param motherId the ID of the person's mother, if known
+     */
+    public synchronized void addPerson(long personId, @Nullable Long fatherId, @Nullable Long motherId) {
+        boolean isNew = !indexById.containsKey(personId);
+        int index = indexOf(personId);
+        int father = fatherId == null ? NONE : indexOf(fatherId);
+        int mother = motherId == null ? NONE : indexOf(motherId);
+        if (fathers[index] == father && mothers[index] == mother) {
+            return;
+        }
+        fathers[index] = father;
+        mothers[index] = mother;
+        if (!isNew && hasCachedAncestors) {
+            // The person's descendants may have cached ancestor lists that do not go through these parents
+            Arrays.fill(ancestorDepths, 0, size, (byte) NONE);
+            hasCachedAncestors = false;
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Determines whether the two people share an ancestor (either may be the ancestor) such that the sum of their
+     * distances from it is at most maxDegrees. Siblings are 2 degrees apart, first cousins 4.
+     */
+    public synchronized boolean isRelatedWithin(long personId, long otherId, int maxDegrees) {
+        Integer index = indexById.get(personId);
+        Integer otherIndex = indexById.get(otherId);
+        if (index == null || otherIndex == null) {
+            return personId == otherId;
+        }
+        return shareAncestorWithin(index, otherIndex, maxDegrees);
+    }
+
+    /**
+     * Finds the people in the list who are related to the person within maxDegrees, as in
+     * {@link #isRelatedWithin(long, long, int)}.
+     *
+     * @return the IDs of the related people
+     */
+    @NonNull
+    public synchronized LongHashSet findRelatedWithin(long personId,
+                                                      @NonNull Collection<Long> otherIds,
+                                                      int maxDegrees) {
+        LongHashSet results = new LongHashSet();
+        Integer index = indexById.get(personId);
+        if (index == null) {
+            return results;
+        }
+        for (Long otherId : otherIds) {
+            Integer otherIndex = indexById.get(otherId);
+            if (otherIndex != null && shareAncestorWithin(index, otherIndex, maxDegrees)) {
+                results.add(otherId);
+            }
+        }
+        return results;
+    }
+
+    private boolean shareAncestorWithin(int index, int otherIndex, int maxDegrees) {
+        if (maxDegrees < 0) {
+            return false;
+        }
+        int depth = Math.min(maxDegrees, MAX_DEPTH);
+        int[] mine = ancestorsOf(index, depth);
+        byte[] myDistances = ancestorDistances[index];
+        int[] theirs = ancestorsOf(otherIndex, depth);
+        byte[] theirDistances = ancestorDistances[otherIndex];
+
+        int i = 0;
+        int j = 0;
+        while (i < mine.length && j < theirs.length) {
+            if (mine[i] < theirs[j]) {
+                i++;
+            } else if (mine[i] > theirs[j]) {
+                j++;
+            } else {
+                if (myDistances[i] + theirDistances[j] <= maxDegrees) {
+                    return true;
+                }
+                i++;
+                j++;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the person's ancestors to at least the given depth (the cached list may go deeper), walking breadth-first
+     * so that each ancestor is found first at their shortest distance.
+     */
+    private int[] ancestorsOf(int index, int depth) {
+        if (ancestorDepths[index] >= depth) {
+            return ancestors[index];
+        }
+        int[] found = new int[8];
+        byte[] distances = new byte[8];
+        found[0] = index;
+        int count = 1;
+        for (int next = 0; next < count && distances[next] < depth; next++) {
+            for (int parent : new int[] { fathers[found[next]], mothers[found[next]] }) {
+                if (parent == NONE || contains(found, count, parent)) {
+                    continue;
+                }
+                if (count == found.length) {
+                    found = Arrays.copyOf(found, count * 2);
+                    distances = Arrays.copyOf(distances, count * 2);
+                }
+                found[count] = parent;
+                distances[count] = (byte) (distances[next] + 1);
+                count++;
+            }
+        }
+
+        // Sort by index, carrying the distances along in the low bits
+        long[] packed = new long[count];
+        for (int i = 0; i < count; i++) {
+            packed[i] = ((long) found[i] << 8) | distances[i];
+        }
+        Arrays.sort(packed);
+        int[] sortedAncestors = new int[count];
+        byte[] sortedDistances = new byte[count];
+        for (int i = 0; i < count; i++) {
+            sortedAncestors[i] = (int) (packed[i] >>> 8);
+            sortedDistances[i] = (byte) (packed[i] & 0xff);
+        }
+
+        ancestors[index] = sortedAncestors;
+        ancestorDistances[index] = sortedDistances;
+        ancestorDepths[index] = (byte) depth;
+        hasCachedAncestors = true;
+        return sortedAncestors;
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int indexOf(long personId) {
+        Integer index = indexById.get(personId);
+        if (index != null) {
+            return index;
+        }
+        if (size == fathers.length) {
+            grow(size * 2);
+        }
+        fathers[size] = NONE;
+        mothers[size] = NONE;
+        indexById.put(personId, size);
+        return size++;
+    }
+
+    private void grow(int capacity) {
+        int oldCapacity = fathers.length;
+        fathers = Arrays.copyOf(fathers, capacity);
+        mothers = Arrays.copyOf(mothers, capacity);
+        ancestors = Arrays.copyOf(ancestors, capacity);
+        ancestorDistances = Arrays.copyOf(ancestorDistances, capacity);
+        ancestorDepths = Arrays.copyOf(ancestorDepths, capacity);
+        Arrays.fill(ancestorDepths, oldCapacity, capacity, (byte) NONE);
+    }
+}
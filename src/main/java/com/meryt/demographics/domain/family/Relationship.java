@@ -21,8 +21,8 @@ public class Relationship {
 
     private final String name;
     private final int degreeOfSeparation;
-    private final String personVia;
-    private final String relatedPersonVia;
+    private final long[] personVia;
+    private final long[] relatedPersonVia;
 
     /**
      * Returns true if the people are a parent and a child
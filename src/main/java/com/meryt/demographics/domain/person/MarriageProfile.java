@@ -0,0 +1,86 @@
+package com.meryt.demographics.domain.person;
+
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * The parts of a person that matchmaking looks at on every proposal, reduced to numbers: their traits as a bitmask
+ * of trait IDs, the sum of their trait ratings, and the date until which they hold (or will yet take up) an
+ * occupation that does not allow marriage.
+ *
+ * A profile is built from the person's traits and occupations when first asked for, and cached on the person until
+ * either changes.
+ */
+public class MarriageProfile {
+
+    private final long[] traitBits;
+
+    @Getter
+    private final int traitRatingSum;
+
+    /**
+     * The latest date before which the person has or will have an occupation that does not allow marriage, or null
+     * if they never do
+     */
+    private final LocalDate mayNotMarryUntil;
+
+    private MarriageProfile(long[] traitBits, int traitRatingSum, LocalDate mayNotMarryUntil) {
+        this.traitBits = traitBits;
+        this.traitRatingSum = traitRatingSum;
+        this.mayNotMarryUntil = mayNotMarryUntil;
+    }
+
+    @NonNull
+    static MarriageProfile of(@NonNull Person person) {
+        long maxTraitId = 0;
+        int ratingSum = 0;
+        for (Trait trait : person.getTraits()) {
+            maxTraitId = Math.max(maxTraitId, trait.getId());
+            ratingSum += trait.getRating();
+        }
+        long[] bits = new long[(int) (maxTraitId >> 6) + 1];
+        for (Trait trait : person.getTraits()) {
+            bits[(int) (trait.getId() >> 6)] |= 1L << trait.getId();
+        }
+
+        LocalDate mayNotMarryUntil = null;
+        for (PersonOccupationPeriod period : person.getOccupations()) {
+            if (period.getOccupation().isMayMarry()) {
+                continue;
+            }
+            // A period counts if it contains the date or has not yet started, so it counts until the later of its
+            // two dates
+            LocalDate until;
+            if (period.getToDate() == null) {
+                until = LocalDate.MAX;
+            } else {
+                until = period.getToDate().isAfter(period.getFromDate()) ? period.getToDate() : period.getFromDate();
+            }
+            if (mayNotMarryUntil == null || until.isAfter(mayNotMarryUntil)) {
+                mayNotMarryUntil = until;
+            }
+        }
+        return new MarriageProfile(bits, ratingSum, mayNotMarryUntil);
+    }
+
+    /**
+     * Counts the traits this person has in common with the other
+     */
+    public int countSharedTraits(@NonNull MarriageProfile other) {
+        int shared = 0;
+        int length = Math.min(traitBits.length, other.traitBits.length);
+        for (int i = 0; i < length; i++) {
+            shared += Long.bitCount(traitBits[i] & other.traitBits[i]);
+        }
+        return shared;
+    }
+
+    /**
+     * Determines whether the person holds, on this date or at any time after it, an occupation that does not allow
+     * marriage
+     */
+    public boolean hasNoMarriageOccupationOnOrAfter(@NonNull LocalDate onDate) {
+        return mayNotMarryUntil != null && onDate.isBefore(mayNotMarryUntil);
+    }
+}
@@ -30,6 +30,7 @@ import jakarta.persistence.OrderBy;
 import jakarta.persistence.PrimaryKeyJoinColumn;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
@@ -199,6 +200,40 @@ public class Person {
     )
     private List<Storyline> storylines = new ArrayList<>();
 
+    /**
+     * Derived from the traits and occupations when matchmaking first needs it, and discarded when either changes
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private MarriageProfile marriageProfile;
+
+    @NonNull
+    public MarriageProfile getMarriageProfile() {
+        if (marriageProfile == null) {
+            marriageProfile = MarriageProfile.of(this);
+        }
+        return marriageProfile;
+    }
+
+    /**
+     * Discards the cached marriage profile. Must be called after changing the traits or occupations other than through
+     * the methods of this class.
+     */
+    public void invalidateMarriageProfile() {
+        marriageProfile = null;
+    }
+
+    public void setTraits(@NonNull Set<Trait> traits) {
+        this.traits = traits;
+        invalidateMarriageProfile();
+    }
+
+    public void addTraits(@NonNull Collection<Trait> traitsToAdd) {
+        getTraits().addAll(traitsToAdd);
+        invalidateMarriageProfile();
+    }
+
     public Fertility getFertility() {
         if (gender == null) {
             return null;
@@ -628,6 +663,7 @@ public class Person {
                     newPeriod.getToDate(), newPeriod.getFromDate()));
         }
         getOccupations().add(newPeriod);
+        invalidateMarriageProfile();
     }
 
     /**
@@ -639,6 +675,7 @@ public class Person {
                 period.setToDate(onDate);
             }
         }
+        invalidateMarriageProfile();
     }
 
     public boolean isDomesticServant(@NonNull LocalDate onDate) {
@@ -10,9 +10,13 @@ import com.meryt.demographics.domain.family.Relationship;
 
 @Getter
 @AllArgsConstructor
-public class RelatedPerson {
+public class PotentialSpouse {
     @NonNull
     private final Person person;
     @Nullable
     private final Relationship relationship;
+    /**
+     * The chance, from 0.0 to 1.0, that the two would find each other compatible
+     */
+    private final double compatibility;
 }
@@ -0,0 +1,154 @@
+package com.meryt.demographics.domain.person.fertility;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * The factors that make up a woman's daily chance of conception, as tables indexed by whole days or years, so that
+ * looking one up is a bounds check and an array access.
+ */
+@UtilityClass
+class FertilityTables {
+
+    /**
+     * The daily chance of conception on days outside the fertile window
+     */
+    private static final double BASE_DAILY_CONCEPTION_PROBABILITY = 0.007;
+
+    /**
+     * Chance of conception indexed by the number of days before the next cycle begins. Days not in the table use
+     * the base probability.
+     */
+    private static final double[] DAILY_CONCEPTION_PROBABILITY_BY_DAYS_BEFORE_CYCLE = {
+            0.007, 0.007, 0.007, 0.007, 0.007, 0.007, 0.007, 0.007, 0.007, 0.007,
+            0.02, 0.05, 0.09, 0.15, 0.26, 0.20, 0.14, 0.11, 0.04, 0.01
+    };
+
+    /**
+     * Age in years at and after which a woman can no longer conceive
+     */
+    static final int INFERTILE_AGE = 48;
+
+    /**
+     * Age fertility factor indexed by the woman's age in years, up to the infertile age
+     */
+    private static final double[] AGE_FERTILITY_FACTOR_BY_YEARS = bands(
+            new int[]    { 11,  25,  30,   35,   36,   37,   38,   39,   40,
+                           41,   42,   43,   44,   45,   46,   47,   INFERTILE_AGE },
+            new double[] { 0.0, 1.0, 0.95, 0.83, 0.75, 0.70, 0.65, 0.60, 0.55,
+                           0.50, 0.45, 0.40, 0.30, 0.25, 0.15, 0.10, 0.05 });
+
+    /**
+     * Breastfeeding fertility factor indexed by days since the last birth. Days beyond the end of the table have a
+     * factor of 1.
+     */
+    private static final double[] BREASTFEEDING_FERTILITY_FACTOR_BY_DAYS = bands(
+            new int[]    { 6 * 30, 7 * 30, 8 * 30, 9 * 30, 10 * 30, 11 * 30, 12 * 30, 13 * 30, 15 * 30, 17 * 30,
+                           19 * 30, 21 * 30, 23 * 30 },
+            new double[] { 0.0112, 0.05,   0.15,   0.25,   0.30,    0.35,    0.40,    0.45,    0.55,    0.65,
+                           0.75,    0.85,    0.95 });
+
+    /**
+     * For each entry of the daily conception table, the index of the first entry of the run of equal entries it is
+     * in. The days before the cycle count down as time goes on, so this is where the run ends in time.
+     */
+    private static final int[] DAILY_CONCEPTION_RUN_STARTS =
+            runStarts(DAILY_CONCEPTION_PROBABILITY_BY_DAYS_BEFORE_CYCLE);
+
+    /**
+     * For each entry of the breastfeeding table, the index of the last entry of the run of equal entries it is in
+     */
+    private static final int[] BREASTFEEDING_RUN_ENDS = runEnds(BREASTFEEDING_FERTILITY_FACTOR_BY_DAYS);
+
+    static double getDailyConceptionProbability(long daysBeforeCycle) {
+        if (daysBeforeCycle < 0 || daysBeforeCycle >= DAILY_CONCEPTION_PROBABILITY_BY_DAYS_BEFORE_CYCLE.length) {
+            return BASE_DAILY_CONCEPTION_PROBABILITY;
+        }
+        return DAILY_CONCEPTION_PROBABILITY_BY_DAYS_BEFORE_CYCLE[(int) daysBeforeCycle];
+    }
+
+    static double getAgeFertilityFactor(long ageInYears) {
+        if (ageInYears < 0 || ageInYears >= AGE_FERTILITY_FACTOR_BY_YEARS.length) {
+            return 0;
+        }
+        return AGE_FERTILITY_FACTOR_BY_YEARS[(int) ageInYears];
+    }
+
+    static double getBreastfeedingFertilityFactor(long daysSinceBirth) {
+        if (daysSinceBirth < 0 || daysSinceBirth >= BREASTFEEDING_FERTILITY_FACTOR_BY_DAYS.length) {
+            return 1;
+        }
+        return BREASTFEEDING_FERTILITY_FACTOR_BY_DAYS[(int) daysSinceBirth];
+    }
+
+    /**
+     * Gets the lowest number of days before the cycle, counting down from the given number, down to which the daily
+     * chance of conception stays the same
+     *
+     * @return the lowest number, or Long.MIN_VALUE if the chance never changes from here on down
+     */
+    static long getDaysBeforeCycleRunStart(long daysBeforeCycle) {
+        double[] table = DAILY_CONCEPTION_PROBABILITY_BY_DAYS_BEFORE_CYCLE;
+        if (daysBeforeCycle < 0) {
+            return Long.MIN_VALUE;
+        }
+        int start;
+        if (daysBeforeCycle >= table.length) {
+            if (table[table.length - 1] != BASE_DAILY_CONCEPTION_PROBABILITY) {
+                return table.length;
+            }
+            start = DAILY_CONCEPTION_RUN_STARTS[table.length - 1];
+        } else {
+            start = DAILY_CONCEPTION_RUN_STARTS[(int) daysBeforeCycle];
+        }
+        return start == 0 && table[0] == BASE_DAILY_CONCEPTION_PROBABILITY ? Long.MIN_VALUE : start;
+    }
+
+    /**
+     * Gets the highest number of days since the last birth, counting up from the given number, up to which the
+     * breastfeeding fertility factor stays the same
+     *
+     * @return the highest number, or Long.MAX_VALUE if the factor never changes from here on
+     */
+    static long getBreastfeedingRunEnd(long daysSinceBirth) {
+        double[] table = BREASTFEEDING_FERTILITY_FACTOR_BY_DAYS;
+        if (daysSinceBirth < 0) {
+            return -1;
+        } else if (daysSinceBirth >= table.length) {
+            return Long.MAX_VALUE;
+        }
+        int end = BREASTFEEDING_RUN_ENDS[(int) daysSinceBirth];
+        return end == table.length - 1 && table[end] == 1 ? Long.MAX_VALUE : end;
+    }
+
+    private static int[] runStarts(double[] table) {
+        int[] starts = new int[table.length];
+        for (int i = 0; i < table.length; i++) {
+            starts[i] = i > 0 && table[i - 1] == table[i] ? starts[i - 1] : i;
+        }
+        return starts;
+    }
+
+    private static int[] runEnds(double[] table) {
+        int[] ends = new int[table.length];
+        for (int i = table.length - 1; i >= 0; i--) {
+            ends[i] = i < table.length - 1 && table[i + 1] == table[i] ? ends[i + 1] : i;
+        }
+        return ends;
+    }
+
+    /**
+     * Expands a step function into a table: index i gets the value of the first band whose (exclusive) upper bound
+     * is above i. The table ends at the last upper bound.
+     */
+    private static double[] bands(int[] upperBounds, double[] values) {
+        double[] table = new double[upperBounds[upperBounds.length - 1]];
+        int band = 0;
+        for (int i = 0; i < table.length; i++) {
+            while (i >= upperBounds[band]) {
+                band++;
+            }
+            table[i] = values[band];
+        }
+        return table;
+    }
+}
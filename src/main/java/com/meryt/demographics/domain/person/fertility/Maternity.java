@@ -4,12 +4,17 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
@@ -58,6 +63,113 @@ public class Maternity extends Fertility {
     private double withdrawalFactor;
     private boolean havingRelations;
     private int cycleLength = 28;
+    /**
+     * The day on which she will next conceive if nothing that her chance of conception depends on changes, or the day
+     * after the last on which she could conceive if she will not. Drawn ahead by the pregnancy checker, and cleared
+     * when she conceives or when her husband, frequency or withdrawal change.
+     */
+    private LocalDate plannedConceptionDate;
+    /**
+     * The first day after the last check date on which anything can happen to the woman's fertility, or null if
+     * nothing can happen until this record changes. Kept up to date whenever the record is saved.
+     */
+    @Setter(AccessLevel.NONE)
+    private LocalDate nextEventDate;
+
+    @PrePersist
+    @PreUpdate
+    void updateNextEventDate() {
+        nextEventDate = calculateNextEventDate();
+    }
+
+    /**
+     * Calculates the first day after the last check date on which she may miscarry, give birth or conceive. A
+     * pregnancy ends on a known date. Otherwise she may conceive so long as she is having relations with a living
+     * husband and is not too old: on her planned conception day if one has been drawn, else on any day from the next.
+     */
+    @Nullable
+    LocalDate calculateNextEventDate() {
+        if (lastCheckDate == null) {
+            return null;
+        }
+        LocalDate nextDay = lastCheckDate.plusDays(1);
+        if (isPregnant(nextDay)) {
+            if (miscarriageDate != null && !miscarriageDate.isBefore(nextDay) && miscarriageDate.isBefore(dueDate)) {
+                return miscarriageDate;
+            }
+            return dueDate;
+        }
+        if (father == null || !havingRelations || frequencyFactor <= 0 || lastCycleDate == null) {
+            return null;
+        }
+        LocalDate day = plannedConceptionDate != null && plannedConceptionDate.isAfter(lastCheckDate)
+                ? plannedConceptionDate
+                : nextDay;
+        // Conception requires the father to have been living 3 days before
+        if (father.getDeathDate() != null && day.isAfter(father.getDeathDate().plusDays(3))) {
+            return null;
+        }
+        Person mother = getPerson();
+        if (mother != null && mother.getBirthDate() != null
+                && !day.isBefore(getInfertileFromDate(mother.getBirthDate()))) {
+            return null;
+        }
+        if (mother != null && mother.getDeathDate() != null && day.isAfter(mother.getDeathDate())) {
+            return null;
+        }
+        return day;
+    }
+
+    public void setFather(Person father) {
+        if (this.father != father) {
+            plannedConceptionDate = null;
+        }
+        this.father = father;
+    }
+
+    public void setHavingRelations(boolean havingRelations) {
+        if (this.havingRelations != havingRelations) {
+            plannedConceptionDate = null;
+        }
+        this.havingRelations = havingRelations;
+    }
+
+    public void setFrequencyFactor(double frequencyFactor) {
+        if (this.frequencyFactor != frequencyFactor) {
+            plannedConceptionDate = null;
+        }
+        this.frequencyFactor = frequencyFactor;
+    }
+
+    public void setWithdrawalFactor(double withdrawalFactor) {
+        if (this.withdrawalFactor != withdrawalFactor) {
+            plannedConceptionDate = null;
+        }
+        this.withdrawalFactor = withdrawalFactor;
+    }
+
+    /**
+     * Copies the fields that her chance of conception depends on into a new record, which is never saved, so that
+     * days can be checked ahead on the copy without changing this one
+     */
+    @NonNull
+    public Maternity copyConceptionState() {
+        Maternity copy = new Maternity();
+        copy.setFertilityFactor(getFertilityFactor());
+        copy.father = father;
+        copy.conceptionDate = conceptionDate;
+        copy.dueDate = dueDate;
+        copy.lastCycleDate = lastCycleDate;
+        copy.lastCheckDate = lastCheckDate;
+        copy.breastfeedingTill = breastfeedingTill;
+        copy.lastBirthDate = lastBirthDate;
+        copy.numBirths = numBirths;
+        copy.frequencyFactor = frequencyFactor;
+        copy.withdrawalFactor = withdrawalFactor;
+        copy.havingRelations = havingRelations;
+        copy.cycleLength = cycleLength;
+        return copy;
+    }
 
     public boolean isPregnant(@NonNull LocalDate onDate) {
         return null != conceptionDate && conceptionDate.isBefore(onDate) && null != dueDate
@@ -116,7 +228,7 @@ public class Maternity extends Fertility {
 
         double percentChance;
         if (lastBirthDate != null && day.isAfter(lastBirthDate)
-                && LocalDateComparator.daysBetween(lastBirthDate, day) < 30) {
+                && day.toEpochDay() - lastBirthDate.toEpochDay() < 30) {
             percentChance = 0.00045;
         } else {
             percentChance = getDailyConceptionProbability(day);
@@ -149,6 +261,73 @@ public class Maternity extends Fertility {
         return percentChance;
     }
 
+    /**
+     * Gets the last day of the band of days starting on the given day over which her chance of conception, as given
+     * by {@link #getConceptionProbability(LocalDate, LocalDate)}, is the same, when each day is checked after its
+     * chance is taken. The band ends before her pregnancy, cycle, last birth, breastfeeding or age next changes her
+     * chance. It may end sooner than it has to, but never later.
+     *
+     * @param mothersBirthDate her birth date
+     * @param day the first day of the band, which is the day after the last day checked
+     * @return the last day of the band, which is on or after the given day
+     */
+    @NonNull
+    public LocalDate getLastDayOfConceptionBand(@NonNull LocalDate mothersBirthDate, @NonNull LocalDate day) {
+        long first = day.toEpochDay();
+        long last = Long.MAX_VALUE;
+
+        // She becomes pregnant the day after conception, and stops being pregnant the day after the due date
+        if (conceptionDate != null) {
+            last = endBefore(last, first, conceptionDate.toEpochDay() + 1);
+        }
+        if (dueDate != null) {
+            last = endBefore(last, first, dueDate.toEpochDay() + 1);
+        }
+
+        if (lastCycleDate != null) {
+            // A cycle date in the future is the first day she may conceive. The next cycle date is checked on the
+            // day itself, so the day after is the first to count from it.
+            long lastCycleDay = lastCycleDate.toEpochDay();
+            last = endBefore(last, first, lastCycleDay);
+            last = endBefore(last, first, lastCycleDay + 28 + 1);
+            long daysBeforeCycle = lastCycleDay + cycleLength - first;
+            long runStart = FertilityTables.getDaysBeforeCycleRunStart(daysBeforeCycle);
+            if (runStart != Long.MIN_VALUE) {
+                last = Math.min(last, first + daysBeforeCycle - runStart);
+            }
+        }
+
+        if (lastBirthDate != null) {
+            // The days just after a birth have their own chance
+            long lastBirthDay = lastBirthDate.toEpochDay();
+            last = endBefore(last, first, lastBirthDay + 1);
+            last = endBefore(last, first, lastBirthDay + 30);
+            if (breastfeedingTill != null) {
+                last = endBefore(last, first, lastBirthDay);
+                if (first >= lastBirthDay) {
+                    long runEnd = FertilityTables.getBreastfeedingRunEnd(first - lastBirthDay);
+                    if (runEnd != Long.MAX_VALUE) {
+                        last = Math.min(last, lastBirthDay + runEnd);
+                    }
+                }
+                // Breastfeeding ends when a day after the till date is checked
+                last = endBefore(last, first, Math.max(breastfeedingTill.toEpochDay() + 2, first + 1));
+            }
+        }
+
+        long ageInYears = ChronoUnit.YEARS.between(mothersBirthDate, day);
+        last = endBefore(last, first, mothersBirthDate.plusYears(ageInYears + 1).toEpochDay());
+
+        return LocalDate.ofEpochDay(last);
+    }
+
+    /**
+     * Ends the band before the day a change takes effect, if the change is after the first day of the band
+     */
+    private static long endBefore(long lastDay, long firstDay, long changeDay) {
+        return changeDay > firstDay ? Math.min(lastDay, changeDay - 1) : lastDay;
+    }
+
     @JsonIgnore
     public double getEffectiveFertilityFactor(@NonNull LocalDate day) {
         if (isPregnant(day)) {
@@ -161,21 +340,8 @@ public class Maternity extends Fertility {
         if (getLastCycleDate() == null) {
             return 0;
         }
-        LocalDate nextCycleDate = getLastCycleDate().plusDays(getCycleLength());
-        int daysBeforeCycle = (int) LocalDateComparator.daysBetween(day, nextCycleDate);
-        switch (daysBeforeCycle) {
-            case 10: return 0.02;
-            case 11: return 0.05;
-            case 12: return 0.09;
-            case 13: return 0.15;
-            case 14: return 0.26;
-            case 15: return 0.20;
-            case 16: return 0.14;
-            case 17: return 0.11;
-            case 18: return 0.04;
-            case 19: return 0.01;
-            default: return 0.007;
-        }
+        long daysBeforeCycle = getLastCycleDate().toEpochDay() + getCycleLength() - day.toEpochDay();
+        return FertilityTables.getDailyConceptionProbability(daysBeforeCycle);
     }
 
     private boolean isLastCycleDateNullOrInFuture(@NonNull LocalDate day) {
@@ -210,16 +376,36 @@ public class Maternity extends Fertility {
      * Called by checker to Update any conditions that have expired
      */
     public void checkDay(@NonNull LocalDate day) {
-        if (getBreastfeedingTill() != null && day.isAfter(getBreastfeedingTill())) {
+        checkDays(day, day);
+    }
+
+    /**
+     * Updates any conditions that have expired over a range of days, with the same result as calling
+     * {@link #checkDay(LocalDate)} for each day in turn
+     *
+     * @param fromDay the first day checked
+     * @param toDay the last day checked, inclusive
+     */
+    public void checkDays(@NonNull LocalDate fromDay, @NonNull LocalDate toDay) {
+        if (getBreastfeedingTill() != null && toDay.isAfter(getBreastfeedingTill())) {
             setBreastfeedingTill(null);
         }
 
         LocalDate nextCycleDate = getNextCycleDate();
-        if (nextCycleDate != null && nextCycleDate.isEqual(day)) {
-            setLastCycleDate(day);
+        while (nextCycleDate != null && !nextCycleDate.isBefore(fromDay) && !nextCycleDate.isAfter(toDay)) {
+            setLastCycleDate(nextCycleDate);
+            nextCycleDate = getNextCycleDate();
         }
 
-        setLastCheckDate(day);
+        setLastCheckDate(toDay);
+    }
+
+    /**
+     * Gets the first day on which a woman born on this date can no longer conceive, on account of her age
+     */
+    @NonNull
+    public static LocalDate getInfertileFromDate(@NonNull LocalDate mothersBirthDate) {
+        return mothersBirthDate.plusYears(FertilityTables.INFERTILE_AGE);
     }
 
     private LocalDate getNextCycleDate() {
@@ -246,6 +432,7 @@ public class Maternity extends Fertility {
      *                      greater than.
      */
     public void cycleToDate(@NonNull LocalDate toDate, boolean forceLessThan) {
+        plannedConceptionDate = null;
         if (lastCycleDate == null || lastCycleDate.equals(toDate)) {
             setLastCycleDate(toDate);
         }
@@ -258,6 +445,7 @@ public class Maternity extends Fertility {
     }
 
     public void cycleForwardsToDate(@NonNull LocalDate toDate, boolean forceLessThan) {
+        plannedConceptionDate = null;
         while (lastCycleDate.isBefore(toDate)) {
             LocalDate d = getNextCycleDate();
             if (d == null) {
@@ -276,55 +464,19 @@ public class Maternity extends Fertility {
         }
     }
 
-    @SuppressWarnings("squid:S3776") // cognitive complexity
     private double getBreastfeedingFertilityFactor(@NonNull LocalDate day) {
         if (getLastBirthDate() == null || getBreastfeedingTill() == null
                 || day.isBefore(getLastBirthDate())) {
             return 1;
         }
 
-        // Get the number of days she has been breast-feeding
-        int bfSince = (int) LocalDateComparator.daysBetween(getLastBirthDate(), day);
-        if (bfSince < 6 * 30)       { return 0.0112; }
-        else if (bfSince < 7 * 30)  { return 0.05; }
-        else if (bfSince < 8 * 30)  { return 0.15; }
-        else if (bfSince < 9 * 30)  { return 0.25; }
-        else if (bfSince < 10 * 30) { return 0.30; }
-        else if (bfSince < 11 * 30) { return 0.35; }
-        else if (bfSince < 12 * 30) { return 0.40; }
-        else if (bfSince < 13 * 30) { return 0.45; }
-        else if (bfSince < 15 * 30) { return 0.55; }
-        else if (bfSince < 17 * 30) { return 0.65; }
-        else if (bfSince < 19 * 30) { return 0.75; }
-        else if (bfSince < 21 * 30) { return 0.85; }
-        else if (bfSince < 23 * 30) { return 0.95; }
-		else {
-            return 1;
-        }
+        // Look up by the number of days she has been breast-feeding
+        return FertilityTables.getBreastfeedingFertilityFactor(day.toEpochDay() - getLastBirthDate().toEpochDay());
     }
 
-    @SuppressWarnings("squid:S3776") // cognitive complexity
-    private double getAgeFertilityFactor(@NonNull LocalDate mothersBirthDate, @NonNull LocalDate day) {
-        int ageInYears = mothersBirthDate.until(day).getYears();
-
-        if      (11 > ageInYears) { return 0.0;  }
-        else if (25 > ageInYears) { return 1;    }
-        else if (30 > ageInYears) { return 0.95; }
-        else if (35 > ageInYears) { return 0.83; }
-        else if (36 > ageInYears) { return 0.75; }
-        else if (37 > ageInYears) { return 0.70; }
-        else if (38 > ageInYears) { return 0.65; }
-        else if (39 > ageInYears) { return 0.60; }
-        else if (40 > ageInYears) { return 0.55; }
-        else if (41 > ageInYears) { return 0.50; }
-        else if (42 > ageInYears) { return 0.45; }
-        else if (43 > ageInYears) { return 0.40; }
-        else if (44 > ageInYears) { return 0.30; }
-        else if (45 > ageInYears) { return 0.25; }
-        else if (46 > ageInYears) { return 0.15; }
-        else if (47 > ageInYears) { return 0.10; }
-        else if (48 > ageInYears) { return 0.05; }
-		else { return 0; }
+    private static double getAgeFertilityFactor(@NonNull LocalDate mothersBirthDate, @NonNull LocalDate day) {
+        // Whole years, as Period.between would give, but without building a Period
+        return FertilityTables.getAgeFertilityFactor(ChronoUnit.YEARS.between(mothersBirthDate, day));
     }
 
 }
@@ -9,7 +9,6 @@ import java.util.Optional;
 import javax.annotation.Nullable;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.math3.distribution.NormalDistribution;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -23,6 +22,7 @@ import com.meryt.demographics.generator.person.PersonGenerator;
 import com.meryt.demographics.generator.random.BetweenDie;
 import com.meryt.demographics.generator.random.Die;
 import com.meryt.demographics.generator.random.PercentDie;
+import com.meryt.demographics.generator.random.Randomness;
 import com.meryt.demographics.profiler.Profiler;
 import com.meryt.demographics.request.PersonParameters;
 import com.meryt.demographics.request.RandomFamilyParameters;
@@ -75,11 +75,27 @@ public class FamilyGenerator {
      */
     @Nullable
     public Family generate(@NonNull Person founder, @NonNull RandomFamilyParameters familyParameters) {
+        return generate(founder, familyParameters, null);
+    }
+
+    /**
+     * This method will attempt to generate a family for the given founder. If the attempt fails (no spouse could be
+     * found) returns null.
+     *
+     * @param founder the founder (may be male or female)
+     * @param familyParameters additional parameters
+     * @param marriageMarket if non-null, existing spouses are looked for in this index rather than in the database
+     * @return a family with a husband and wife and possibly children, or null
+     */
+    @Nullable
+    public Family generate(@NonNull Person founder,
+                           @NonNull RandomFamilyParameters familyParameters,
+                           @Nullable MarriageMarketIndex marriageMarket) {
 
         Family family = null;
         int numTries = familyParameters.getTriesUntilGiveUp() == null ? 1 : familyParameters.getTriesUntilGiveUp();
         for (int i = 0; i < numTries; i++) {
-            family = searchForSpouse(founder, familyParameters);
+            family = searchForSpouse(founder, familyParameters, marriageMarket);
             if (family != null && family.getHusband() != null && family.getWife() != null) {
                 log.info(String.format("%s married %s on %s", family.getHusband().getName(), family.getWife().getName(),
                         family.getWeddingDate()));
@@ -178,7 +194,9 @@ public class FamilyGenerator {
     }
 
     @Nullable
-    private Family searchForSpouse(@NonNull Person person, @NonNull RandomFamilyParameters familyParameters) {
+    private Family searchForSpouse(@NonNull Person person,
+                                   @NonNull RandomFamilyParameters familyParameters,
+                                   @Nullable MarriageMarketIndex marriageMarket) {
 
         LocalDate untilDate = familyParameters.getReferenceDate();
 
@@ -193,7 +211,7 @@ public class FamilyGenerator {
                 familyParameters.getMinHusbandAgeOrDefault(),
                 familyParameters.getMinWifeAgeOrDefault());
 
-        return attemptToFindSpouse(startDate, endDate, person, familyParameters, null);
+        return attemptToFindSpouse(startDate, endDate, person, familyParameters, null, marriageMarket);
     }
 
     /**
@@ -208,115 +226,200 @@ public class FamilyGenerator {
                                       @NonNull Person person,
                                       @NonNull RandomFamilyParameters familyParameters,
                                       @Nullable Profiler profiler) {
+        return attemptToFindSpouse(startDate, endDate, person, familyParameters, profiler, null);
+    }
 
-        List<Person> previousSpouses = person.getSpouses();
-        LocalDate lastSpouseDeathDate = previousSpouses.isEmpty()
-                ? null
-                : previousSpouses.get(previousSpouses.size() - 1).getDeathDate();
-        for (LocalDate currentDate = startDate;
-                currentDate.isBefore(endDate) || currentDate.equals(endDate);
-                currentDate = currentDate.plusDays(1)) {
-
-            if (profiler != null) profiler.start("lastLivingSonDeathDate");
-            LocalDate lastLivingSonDeathDate = person.getLivingChildren(startDate).stream()
-                    .filter(p -> p.isMale() && p.getDeathDate() != null)
-                    .sorted(Comparator.comparing(Person::getDeathDate).reversed())
-                    .map(Person::getDeathDate)
-                    .findFirst()
-                    .orElse(null);
-            if (profiler != null) profiler.stop();
+    /**
+     * Run a loop from start date to end date and attempt to find a spouse during that time.
+     * @param startDate date to begin looping at (e.g. when person reaches marriageable age)
+     * @param endDate date to stop looping
+     * @param person the person seeking a spouse
+     * @param marriageMarket if non-null, existing spouses are looked for in this index rather than in the database
+     */
+    @Nullable
+    public Family attemptToFindSpouse(@NonNull LocalDate startDate,
+                                      @NonNull LocalDate endDate,
+                                      @NonNull Person person,
+                                      @NonNull RandomFamilyParameters familyParameters,
+                                      @Nullable Profiler profiler,
+                                      @Nullable MarriageMarketIndex marriageMarket) {
+
+        MarriageDateSampler sampler = newMarriageDateSampler(person, startDate, profiler);
+        for (LocalDate currentDate = nextDesireToMarryDate(sampler, startDate, endDate, profiler);
+                currentDate != null;
+                currentDate = nextDesireToMarryDate(sampler, currentDate.plusDays(1), endDate, profiler)) {
+            // He wants to get married. Can he find a spouse?
+            if (familyParameters.getSpouse() != null) {
+                Person spouse = familyParameters.getSpouse();
+                Integer minAge = spouse.isFemale()
+                        ? familyParameters.getMinWifeAge()
+                        : familyParameters.getMinHusbandAge();
+                if (minAge != null && spouse.getAgeInYears(currentDate) < minAge) {
+                    return null;
+                }
+            }
+            Family family = proposeMarriage(person, currentDate, familyParameters, profiler, marriageMarket);
+            if (family != null) {
+                return family;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Rolls whether the person wants to marry on this date, with the same probability as attemptToFindSpouse uses
+     * for a single day.
+     */
+    public boolean wantsToMarry(@NonNull Person person, @NonNull LocalDate onDate) {
+        return newMarriageDateSampler(person, onDate, null).nextDesireToMarryDate(onDate, onDate) != null;
+    }
 
-            if (profiler != null) profiler.start("getDesireToMarryProbability");
-            double percentPerDay = MatchMaker.getDesireToMarryProbability(
-                    person,
-                    currentDate,
-                    previousSpouses.size(),
-                    lastSpouseDeathDate,
-                    lastLivingSonDeathDate);
+    /**
+     * Draws the next day in the range on which the person wants to marry, with the same probability for each day as
+     * {@link #wantsToMarry(Person, LocalDate)} rolling for the days in turn.
+     *
+     * @return a day in the range, or null if the person does not want to marry on any day of it
+     */
+    @Nullable
+    public LocalDate nextDesireToMarryDate(@NonNull Person person,
+                                           @NonNull LocalDate fromDate,
+                                           @NonNull LocalDate toDate) {
+        return newMarriageDateSampler(person, fromDate, null).nextDesireToMarryDate(fromDate, toDate);
+    }
+
+    /**
+     * Finds or generates a potential spouse for a person who wants to marry on this date, and creates a family if the
+     * two are compatible. The family is not saved.
+     *
+     * @param marriageMarket if non-null, existing spouses are looked for in this index rather than in the database
+     * @return a new family, or null if the proposal failed
+     */
+    @Nullable
+    public Family proposeMarriage(@NonNull Person person,
+                                  @NonNull LocalDate currentDate,
+                                  @NonNull RandomFamilyParameters familyParameters,
+                                  @Nullable Profiler profiler,
+                                  @Nullable MarriageMarketIndex marriageMarket) {
+        Person potentialSpouse;
+        // Set if the potential spouse is a new random person, who is only completed if the two are compatible
+        SpouseCandidate generatedSpouse = null;
+        if (familyParameters.getSpouse() != null) {
+            potentialSpouse = familyParameters.getSpouse();
+        } else if (familyParameters.shouldAttemptToFindExistingSpouse()) {
+            if (profiler != null) profiler.start("attemptToFindExistingSpouse");
+            // We're not given a spouse, but are allowed to chose an eligible one from the database.
+            if (profiler != null) profiler.start("findPotentialSpouses");
+            List<Person> potentialSpouses = personService.findPotentialSpouses(person, currentDate,
+                    false, familyParameters, profiler, marriageMarket);
             if (profiler != null) profiler.stop();
-            if (PercentDie.roll() <= percentPerDay) {
-                // He wants to get married. Can he find a spouse?
-                Person potentialSpouse;
-                if (familyParameters.getSpouse() != null) {
-                    potentialSpouse = familyParameters.getSpouse();
-                    Integer minAge = potentialSpouse.isFemale()
-                            ? familyParameters.getMinWifeAge()
-                            : familyParameters.getMinHusbandAge();
-                    if (minAge != null && potentialSpouse.getAgeInYears(currentDate) < minAge) {
-                        return null;
-                    }
-                } else if (familyParameters.shouldAttemptToFindExistingSpouse()) {
-                    if (profiler != null) profiler.start("attemptToFindExistingSpouse");
-                    // We're not given a spouse, but are allowed to chose an eligible one from the database.
-                    if (profiler != null) profiler.start("findPotentialSpouses");
-                    List<Person> potentialSpouses = personService.findPotentialSpouses(person, currentDate,
-                            false, familyParameters, profiler);
-                    if (profiler != null) profiler.stop();
-                    if (familyParameters.getMinSpouseSelection() != null &&
-                            potentialSpouses.size() < familyParameters.getMinSpouseSelection()) {
-                        // If there are fewer potential spouses than the min selection size, we may need to generate
-                        // a spouse. Get a random value between 1 and the selection size, and if the value is above
-                        // the size of the list, generate a random person. Otherwise use the die roll as the index
-                        // into the list.
-                        int roll = new Die(familyParameters.getMinSpouseSelection()).roll();
-                        if (roll > potentialSpouses.size()) {
-                            // generate a random spouse
-                            if (profiler != null) profiler.start("generateRandomPotentialSpouse");
-                            potentialSpouse = generateRandomPotentialSpouse(person, currentDate, familyParameters);
-                            if (profiler != null) profiler.stop();
-                        } else {
-                            potentialSpouse = potentialSpouses.get(roll - 1);
-                        }
-                    } else if (potentialSpouses.isEmpty()) {
-                        if (profiler != null) profiler.start("generateRandomPotentialSpouse");
-                        potentialSpouse = generateRandomPotentialSpouse(person, currentDate, familyParameters);
-                        if (profiler != null) profiler.stop();
-                    } else {
-                        potentialSpouse = potentialSpouses.get(new Die(potentialSpouses.size()).roll() - 1);
-                    }
-                    if (profiler != null) profiler.stop();
-                } else {
+            if (familyParameters.getMinSpouseSelection() != null &&
+                    potentialSpouses.size() < familyParameters.getMinSpouseSelection()) {
+                // If there are fewer potential spouses than the min selection size, we may need to generate
+                // a spouse. Get a random value between 1 and the selection size, and if the value is above
+                // the size of the list, generate a random person. Otherwise use the die roll as the index
+                // into the list.
+                int roll = new Die(familyParameters.getMinSpouseSelection()).roll();
+                if (roll > potentialSpouses.size()) {
                     // generate a random spouse
                     if (profiler != null) profiler.start("generateRandomPotentialSpouse");
-                    potentialSpouse = generateRandomPotentialSpouse(person, currentDate, familyParameters);
+                    generatedSpouse = generateRandomPotentialSpouse(person, currentDate, familyParameters);
+                    potentialSpouse = generatedSpouse.getPerson();
                     if (profiler != null) profiler.stop();
+                } else {
+                    potentialSpouse = potentialSpouses.get(roll - 1);
                 }
+            } else if (potentialSpouses.isEmpty()) {
+                if (profiler != null) profiler.start("generateRandomPotentialSpouse");
+                generatedSpouse = generateRandomPotentialSpouse(person, currentDate, familyParameters);
+                potentialSpouse = generatedSpouse.getPerson();
+                if (profiler != null) profiler.stop();
+            } else {
+                potentialSpouse = potentialSpouses.get(new Die(potentialSpouses.size()).roll() - 1);
+            }
+            if (profiler != null) profiler.stop();
+        } else {
+            // generate a random spouse
+            if (profiler != null) profiler.start("generateRandomPotentialSpouse");
+            generatedSpouse = generateRandomPotentialSpouse(person, currentDate, familyParameters);
+            potentialSpouse = generatedSpouse.getPerson();
+            if (profiler != null) profiler.stop();
+        }
 
-                if (profiler != null) profiler.start("MatchMaker.checkCompatibility");
-                boolean areCompatible = MatchMaker.checkCompatibility(person, potentialSpouse, currentDate);
+        if (profiler != null) profiler.start("MatchMaker.checkCompatibility");
+        boolean areCompatible = MatchMaker.checkCompatibility(person, potentialSpouse, currentDate);
+        if (profiler != null) profiler.stop();
+        if (areCompatible) {
+            if (generatedSpouse != null) {
+                if (profiler != null) profiler.start("materializeRandomPotentialSpouse");
+                generatedSpouse.materialize(personGenerator);
                 if (profiler != null) profiler.stop();
-                if (areCompatible) {
-                    Family family = new Family();
-                    if (person.isMale()) {
-                        family.setHusband(person);
-                    } else {
-                        family.setWife(person);
-                    }
-
-                    family.setWeddingDate(currentDate);
-                    family.addSpouse(potentialSpouse);
-                    family.getWife().getMaternity().setFather(family.getHusband());
-                    Occupation husbandOcc = family.getHusband().getOccupation(currentDate);
-                    if (husbandOcc != null && !husbandOcc.isMayMarry()) {
-                        family.getHusband().quitJob(currentDate);
-                    }
-                    Occupation wifeOcc = family.getWife().getOccupation(currentDate);
-                    if (wifeOcc != null && !wifeOcc.isMayMarry()) {
-                        family.getWife().quitJob(currentDate);
-                    }
-                    return family;
-                }
             }
+            Family family = new Family();
+            if (person.isMale()) {
+                family.setHusband(person);
+            } else {
+                family.setWife(person);
+            }
+
+            family.setWeddingDate(currentDate);
+            family.addSpouse(potentialSpouse);
+            family.getWife().getMaternity().setFather(family.getHusband());
+            Occupation husbandOcc = family.getHusband().getOccupation(currentDate);
+            if (husbandOcc != null && !husbandOcc.isMayMarry()) {
+                family.getHusband().quitJob(currentDate);
+            }
+            Occupation wifeOcc = family.getWife().getOccupation(currentDate);
+            if (wifeOcc != null && !wifeOcc.isMayMarry()) {
+                family.getWife().quitJob(currentDate);
+            }
+            return family;
         }
         return null;
     }
 
-    private Person generateRandomPotentialSpouse(@NonNull Person person,
-                                                 @NonNull LocalDate onDate,
-                                                 @NonNull RandomFamilyParameters familyParameters) {
-        // Generate a random person of the appropriate gender
-        // and age, and do a random check against the domesticity and other factors. If success, do a marriage.
-        // Otherwise discard the random person and continue searching.
+    /**
+     * Creates a sampler for the days on which the person wants to marry, for a search beginning on the start date
+     */
+    @NonNull
+    private static MarriageDateSampler newMarriageDateSampler(@NonNull Person person,
+                                                              @NonNull LocalDate startDate,
+                                                              @Nullable Profiler profiler) {
+        List<Person> previousSpouses = person.getSpouses();
+        LocalDate lastSpouseDeathDate = previousSpouses.isEmpty()
+                ? null
+                : previousSpouses.get(previousSpouses.size() - 1).getDeathDate();
+        // Only children living at the start of the search are considered
+        if (profiler != null) profiler.start("lastLivingSonDeathDate");
+        LocalDate lastLivingSonDeathDate = person.getLivingChildren(startDate).stream()
+                .filter(p -> p.isMale() && p.getDeathDate() != null)
+                .map(Person::getDeathDate)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        if (profiler != null) profiler.stop();
+
+        return new MarriageDateSampler(person, previousSpouses.size(), lastSpouseDeathDate, lastLivingSonDeathDate);
+    }
+
+    @Nullable
+    private static LocalDate nextDesireToMarryDate(@NonNull MarriageDateSampler sampler,
+                                                   @NonNull LocalDate fromDate,
+                                                   @NonNull LocalDate endDate,
+                                                   @Nullable Profiler profiler) {
+        if (profiler != null) profiler.start("nextDesireToMarryDate");
+        LocalDate date = sampler.nextDesireToMarryDate(fromDate, endDate);
+        if (profiler != null) profiler.stop();
+        return date;
+    }
+
+    /**
+     * Generates a random person of the appropriate gender and age, with only the attributes needed to check their
+     * compatibility. If the check succeeds the candidate is materialized and married; otherwise it is discarded
+     * having cost no name or life table lookups.
+     */
+    @NonNull
+    private SpouseCandidate generateRandomPotentialSpouse(@NonNull Person person,
+                                                          @NonNull LocalDate onDate,
+                                                          @NonNull RandomFamilyParameters familyParameters) {
         LocalDate birthDate = getRandomSpouseBirthDate(person, onDate, familyParameters);
         SocialClass socialClass = getRandomSpouseSocialClass(person);
         PersonParameters spouseParameters = new PersonParameters();
@@ -328,8 +431,7 @@ public class FamilyGenerator {
         spouseParameters.setLastName(familyParameters.getSpouseLastName());
         spouseParameters.setNameCulture(familyParameters.getNameCulture());
         spouseParameters.setAllowBlondHair(familyParameters.isAllowBlondHair());
-        return personGenerator.generate(spouseParameters);
-
+        return new SpouseCandidate(personGenerator.generateSpouseCandidate(spouseParameters), spouseParameters);
     }
 
     private void validate(RandomFamilyParameters familyParameters) {
@@ -373,7 +475,7 @@ public class FamilyGenerator {
      * @return a random rank using a normal distribution
      */
     private SocialClass getRandomSpouseSocialClass(@NonNull Person person) {
-        double randomRank = new NormalDistribution(person.getSocialClass().getRank(), 1).sample();
+        double randomRank = Randomness.nextGaussian(person.getSocialClass().getRank(), 1);
         long rank = Math.round(randomRank);
         if (rank < SocialClass.PAUPER.getRank()) {
             rank = SocialClass.PAUPER.getRank();
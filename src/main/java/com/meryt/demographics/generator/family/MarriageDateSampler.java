@@ -0,0 +1,94 @@
+package com.meryt.demographics.generator.family;
+
+import java.time.LocalDate;
+import java.time.Period;
+import javax.annotation.Nullable;
+import lombok.NonNull;
+
+import com.meryt.demographics.domain.person.Person;
+import com.meryt.demographics.generator.random.Randomness;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+
+/**
+ * Draws the days on which a person wants to marry, with the same probability per day as rolling against
+ * {@link MatchMaker#getDesireToMarryProbability} every day, but without visiting every day.
+ *
+ * This uses thinning: within each year of the person's age, the per-day probability never exceeds a bound that only
+ * depends on the age, so the next day on which the bound would fire is drawn from a geometric distribution, and that
+ * day is then accepted with probability (actual probability / bound). The work done is therefore proportional to the
+ * number of candidate days rather than to the length of the search.
+ */
+class MarriageDateSampler {
+
+    private final Person person;
+    private final Integer numPreviousSpouses;
+    private final LocalDate lastSpouseDeathDate;
+    private final LocalDate lastLivingSonDeathDate;
+
+    MarriageDateSampler(@NonNull Person person,
+                        @Nullable Integer numPreviousSpouses,
+                        @Nullable LocalDate lastSpouseDeathDate,
+                        @Nullable LocalDate lastLivingSonDeathDate) {
+        if (person.getBirthDate() == null) {
+            throw new NullPointerException("Cannot sample marriage dates without person birth date");
+        }
+        this.person = person;
+        this.numPreviousSpouses = numPreviousSpouses;
+        this.lastSpouseDeathDate = lastSpouseDeathDate;
+        this.lastLivingSonDeathDate = lastLivingSonDeathDate;
+    }
+
+    /**
+     * Gets the next day on which the person wants to marry
+     *
+     * @param fromDate the first day to consider
+     * @param toDate the last day to consider, inclusive
+     * @return a date in the range, or null if the person does not want to marry on any day of it
+     */
+    @Nullable
+    LocalDate nextDesireToMarryDate(@NonNull LocalDate fromDate, @NonNull LocalDate toDate) {
+        LocalDate birthDate = person.getBirthDate();
+        LocalDate date = fromDate;
+        while (!date.isAfter(toDate)) {
+            int age = Period.between(birthDate, date).getYears();
+            if (age > MatchMaker.MAX_AGE_TO_MARRY) {
+                return null;
+            }
+            LocalDate nextBirthday = nextBirthday(birthDate, age);
+            LocalDate segmentEnd = nextBirthday.isAfter(toDate) ? toDate.plusDays(1) : nextBirthday;
+
+            double bound = MatchMaker.getMaxDesireToMarryProbability(person, age);
+            if (bound <= 0.0) {
+                date = segmentEnd;
+                continue;
+            }
+            long skip = Randomness.nextGeometric(bound);
+            if (skip >= DAYS.between(date, segmentEnd)) {
+                // No candidate day at this age. Since each day is independent, start afresh at the next birthday.
+                date = segmentEnd;
+                continue;
+            }
+            date = date.plusDays(skip);
+            double probability = MatchMaker.getDesireToMarryProbability(person, date, numPreviousSpouses,
+                    lastSpouseDeathDate, lastLivingSonDeathDate);
+            if (Randomness.nextDouble() * bound < probability) {
+                return date;
+            }
+            date = date.plusDays(1);
+        }
+        return null;
+    }
+
+    /**
+     * Gets the first date on which the person is older than the given age, using the same age calculation as
+     * MatchMaker (which differs from plusYears for people born on February 29)
+     */
+    private static LocalDate nextBirthday(@NonNull LocalDate birthDate, int age) {
+        LocalDate birthday = birthDate.plusYears(age + 1);
+        while (Period.between(birthDate, birthday).getYears() <= age) {
+            birthday = birthday.plusDays(1);
+        }
+        return birthday;
+    }
+}
@@ -0,0 +1,175 @@
+package com.meryt.demographics.generator.family;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import javax.annotation.Nullable;
+import lombok.NonNull;
+
+import com.meryt.demographics.domain.person.Gender;
+import com.meryt.demographics.domain.person.Person;
+
+/**
+ * An in-memory index of the people who may be found as spouses, bucketed by gender, birth year and social class rank,
+ * so that looking for candidates is a range scan rather than a database query per proposal.
+ *
+ * A person is in the index if they would be returned by PersonRepository.findPotentialSpouses on some date: they are
+ * not a story character, have not finished their generation, and have never married (or, for a woman, married only
+ * once). Whether they are alive is checked when searching, since the date of the search is not known in advance.
+ *
+ * The index must be told about changes to the people in it, by calling {@link #update(Person)} after a person marries
+ * or finishes their generation, and after a new person is saved. Only then are a person's families looked at, so that
+ * searching does not load every candidate's families. It is not thread-safe.
+ */
+public class MarriageMarketIndex {
+
+    private final Map<Gender, NavigableMap<Integer, Map<Integer, List<Person>>>> buckets = new EnumMap<>(Gender.class);
+
+    /**
+     * The bucket each person was put in, so they can be removed even if their birth date or class changed since
+     */
+    private final Map<Person, List<Person>> bucketByPerson = new IdentityHashMap<>();
+
+    public MarriageMarketIndex(@NonNull Collection<Person> people) {
+        for (Person person : people) {
+            update(person);
+        }
+    }
+
+    private MarriageMarketIndex() {
+    }
+
+    /**
+     * Builds an index of people already known to be eligible, such as those loaded by
+     * PersonRepository.findMarriageMarket, whose query checks their families. Their families are not loaded again.
+     */
+    @NonNull
+    public static MarriageMarketIndex ofEligible(@NonNull Collection<Person> people) {
+        MarriageMarketIndex index = new MarriageMarketIndex();
+        for (Person person : people) {
+            if (hasEligibleFields(person)) {
+                index.add(person);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Adds the person if they are eligible, or removes them if they are no longer eligible.
+     */
+    public void update(@NonNull Person person) {
+        remove(person);
+        if (isEligible(person)) {
+            add(person);
+        }
+    }
+
+    public void remove(@NonNull Person person) {
+        List<Person> bucket = bucketByPerson.remove(person);
+        if (bucket != null) {
+            bucket.removeIf(p -> p == person);
+        }
+    }
+
+    private void add(@NonNull Person person) {
+        List<Person> bucket = buckets.computeIfAbsent(person.getGender(), g -> new TreeMap<>())
+                .computeIfAbsent(person.getBirthDate().getYear(), y -> new HashMap<>())
+                .computeIfAbsent(person.getSocialClassRank(), r -> new ArrayList<>());
+        bucket.add(person);
+        bucketByPerson.put(person, bucket);
+    }
+
+    public int size() {
+        return bucketByPerson.size();
+    }
+
+    /**
+     * Finds the people of the given gender who are living on the date and born in the given range, with a social class
+     * rank in the given range. Returns the same people as PersonRepository.findPotentialSpouses, in the same order.
+     *
+     * @param gender the gender of the people to find
+     * @param aliveOnDate the date on which they must be living
+     * @param minBirthDate if non-null, the earliest birth date, inclusive
+     * @param maxBirthDate if non-null, the latest birth date, inclusive
+     * @param minRank the lowest social class rank, inclusive
+     * @param maxRank the highest social class rank, inclusive
+     * @return a new list, ordered by birth date
+     */
+    @NonNull
+    public List<Person> findCandidates(@NonNull Gender gender,
+                                       @NonNull LocalDate aliveOnDate,
+                                       @Nullable LocalDate minBirthDate,
+                                       @Nullable LocalDate maxBirthDate,
+                                       int minRank,
+                                       int maxRank) {
+        List<Person> results = new ArrayList<>();
+        NavigableMap<Integer, Map<Integer, List<Person>>> byYear = buckets.get(gender);
+        if (byYear == null) {
+            return results;
+        }
+        int maxYear = maxBirthDate == null || maxBirthDate.isAfter(aliveOnDate)
+                ? aliveOnDate.getYear()
+                : maxBirthDate.getYear();
+        if (minBirthDate != null && minBirthDate.getYear() > maxYear) {
+            return results;
+        } else if (minBirthDate != null) {
+            byYear = byYear.subMap(minBirthDate.getYear(), true, maxYear, true);
+        } else {
+            byYear = byYear.headMap(maxYear, true);
+        }
+
+        for (Map<Integer, List<Person>> byRank : byYear.values()) {
+            for (Map.Entry<Integer, List<Person>> bucket : byRank.entrySet()) {
+                if (bucket.getKey() < minRank || bucket.getKey() > maxRank) {
+                    continue;
+                }
+                for (Person person : bucket.getValue()) {
+                    if (matches(person, aliveOnDate, minBirthDate, maxBirthDate)) {
+                        results.add(person);
+                    }
+                }
+            }
+        }
+        results.sort(Comparator.comparing(Person::getBirthDate).thenComparing(Person::getId));
+        return results;
+    }
+
+    /**
+     * Checks the conditions of the query that do not depend on the date
+     */
+    static boolean isEligible(@NonNull Person person) {
+        if (!hasEligibleFields(person)) {
+            return false;
+        }
+        int maxFamilies = person.isMale() ? 0 : 1;
+        return person.getFamilies().size() <= maxFamilies;
+    }
+
+    /**
+     * Checks the conditions of the query that only depend on the person's own fields. These are checked again when
+     * searching, in case the index was not updated after a change.
+     */
+    private static boolean hasEligibleFields(@NonNull Person person) {
+        return !person.isStoryCharacter() && !person.isFinishedGeneration()
+                && person.getGender() != null && person.getBirthDate() != null && person.getDeathDate() != null;
+    }
+
+    private static boolean matches(@NonNull Person person,
+                                   @NonNull LocalDate aliveOnDate,
+                                   @Nullable LocalDate minBirthDate,
+                                   @Nullable LocalDate maxBirthDate) {
+        return hasEligibleFields(person)
+                && person.getBirthDate().isBefore(aliveOnDate)
+                && person.getDeathDate().isAfter(aliveOnDate)
+                && (minBirthDate == null || !person.getBirthDate().isBefore(minBirthDate))
+                && (maxBirthDate == null || !person.getBirthDate().isAfter(maxBirthDate));
+    }
+}
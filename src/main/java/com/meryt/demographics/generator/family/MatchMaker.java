@@ -2,19 +2,16 @@ package com.meryt.demographics.generator.family;
 
 import java.time.LocalDate;
 import java.time.Period;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import javax.annotation.Nullable;
 import lombok.NonNull;
 import org.apache.commons.math3.distribution.BetaDistribution;
 
 import com.meryt.demographics.domain.Occupation;
 import com.meryt.demographics.domain.family.Family;
+import com.meryt.demographics.domain.person.MarriageProfile;
 import com.meryt.demographics.domain.person.Person;
-import com.meryt.demographics.domain.person.PersonOccupationPeriod;
 import com.meryt.demographics.domain.person.SocialClass;
-import com.meryt.demographics.domain.person.Trait;
 import com.meryt.demographics.generator.random.PercentDie;
 import com.meryt.demographics.time.LocalDateComparator;
 
@@ -26,6 +23,8 @@ public class MatchMaker {
     private static final BetaDistribution DESIRE_TO_MARRY_BETA = new BetaDistribution(2, 5);
     private static final double DESIRE_TO_MARRY_MAX = 2.5;
     private static final double BASE_PER_DAY_MARRY_DESIRE_PERCENT = 0.0019;
+    private static final double TITLED_DESIRE_TO_MARRY_FACTOR = 1.5;
+    static final int MAX_AGE_TO_MARRY = 100;
 
     private MatchMaker() {
         // hide constructor of class with static methods
@@ -84,12 +83,7 @@ public class MatchMaker {
             throw new NullPointerException("Cannot calculate without person birth date");
         }
         int age = Period.between(birthDate, onDate).getYears();
-        if (age > 100) {
-            return 0.0;
-        }
-        double adjustedAge = age / 100.0;
-        double ageAdjustedDesirePercent = (DESIRE_TO_MARRY_BETA.density(adjustedAge) / DESIRE_TO_MARRY_MAX);
-        double dailyAgeAdjustedDesirePercent = ageAdjustedDesirePercent * person.getDomesticity() * BASE_PER_DAY_MARRY_DESIRE_PERCENT;
+        double dailyAgeAdjustedDesirePercent = getAgeAdjustedDesireToMarryProbability(person, age);
         // Previous marriages reduce desire to marry again for women, and likewise for men assuming they have at
         // least one living a son. A man without sons is not affected by previous marriages.
         if (numPreviousSpouses != null && numPreviousSpouses > 0 &&
@@ -106,12 +100,29 @@ public class MatchMaker {
 
         // A person with titles to pass on is highly motivated to marry
         if (person.getTitles(onDate) != null) {
-            dailyAgeAdjustedDesirePercent *= 1.5;
+            dailyAgeAdjustedDesirePercent *= TITLED_DESIRE_TO_MARRY_FACTOR;
         }
 
         return dailyAgeAdjustedDesirePercent;
     }
 
+    /**
+     * Gets an upper bound for {@link #getDesireToMarryProbability} on any day on which the person is the given age.
+     * The other factors can only reduce the probability, except for holding a title.
+     */
+    static double getMaxDesireToMarryProbability(@NonNull Person person, int age) {
+        return getAgeAdjustedDesireToMarryProbability(person, age) * TITLED_DESIRE_TO_MARRY_FACTOR;
+    }
+
+    private static double getAgeAdjustedDesireToMarryProbability(@NonNull Person person, int age) {
+        if (age > MAX_AGE_TO_MARRY) {
+            return 0.0;
+        }
+        double adjustedAge = age / 100.0;
+        double ageAdjustedDesirePercent = (DESIRE_TO_MARRY_BETA.density(adjustedAge) / DESIRE_TO_MARRY_MAX);
+        return ageAdjustedDesirePercent * person.getDomesticity() * BASE_PER_DAY_MARRY_DESIRE_PERCENT;
+    }
+
     /**
      * Determine whether two such people will desire to be married. First checks that their social classes are
      * compatible or at least that the lesser partner is highly desirable; then check that their traits are compatible.
@@ -123,25 +134,9 @@ public class MatchMaker {
     static boolean checkCompatibility(@NonNull Person person,
                                       @NonNull Person potentialSpouse,
                                       @NonNull LocalDate onDate) {
-        if (person.getGender() == potentialSpouse.getGender()) {
+        if (!mayConsiderMarriage(person, potentialSpouse, onDate)) {
             return false;
         }
-        if (!person.isLiving(onDate) || !potentialSpouse.isLiving(onDate)) {
-            return false;
-        }
-        if (potentialSpouse.isMarriedNowOrAfter(onDate)) {
-            return false;
-        }
-
-        // If the person has or will ever have a job where they are not allowed to marry, greatly reduce the chance
-        // they will marry.
-        double occupationFactor = 1.0;
-        for (PersonOccupationPeriod occupation : potentialSpouse.getOccupations()) {
-            if ((occupation.contains(onDate) || occupation.getFromDate().isAfter(onDate))
-                && !occupation.getOccupation().isMayMarry()) {
-                occupationFactor = 0.1;
-            }
-        }
 
         Person man = person.isMale() ? person : potentialSpouse;
         Person woman = person.isMale() ? potentialSpouse : person;
@@ -149,28 +144,76 @@ public class MatchMaker {
             return false;
         }
 
+        return (PercentDie.roll() < getPersonalCompatibilityChance(person, potentialSpouse, woman, onDate));
+    }
+
+    /**
+     * Scores each candidate by the chance that {@link #checkCompatibility} would succeed for them and the person,
+     * between 0.0 and 1.0. No dice are rolled, so the scores can be used to rank the candidates.
+     *
+     * @param person the person we're checking for
+     * @param candidates the potential spouses
+     * @param onDate the date (an older woman is less discriminating)
+     * @return the scores, in the same order as the candidates
+     */
+    @NonNull
+    public static double[] scoreCompatibility(@NonNull Person person,
+                                              @NonNull List<Person> candidates,
+                                              @NonNull LocalDate onDate) {
+        double[] scores = new double[candidates.size()];
+        for (int i = 0; i < scores.length; i++) {
+            Person potentialSpouse = candidates.get(i);
+            if (!mayConsiderMarriage(person, potentialSpouse, onDate)) {
+                continue;
+            }
+            Person man = person.isMale() ? person : potentialSpouse;
+            Person woman = person.isMale() ? potentialSpouse : person;
+            scores[i] = toProbability(getSocialClassCompatibilityChance(man, woman, onDate))
+                    * toProbability(getPersonalCompatibilityChance(person, potentialSpouse, woman, onDate));
+        }
+        return scores;
+    }
+
+    private static boolean mayConsiderMarriage(@NonNull Person person,
+                                               @NonNull Person potentialSpouse,
+                                               @NonNull LocalDate onDate) {
+        return person.getGender() != potentialSpouse.getGender()
+                && person.isLiving(onDate) && potentialSpouse.isLiving(onDate)
+                && !potentialSpouse.isMarriedNowOrAfter(onDate);
+    }
+
+    /**
+     * Gets the chance that the two will get on, based on their domesticity, attractiveness, traits and occupations.
+     * May be below 0.0 or above 1.0.
+     */
+    private static double getPersonalCompatibilityChance(@NonNull Person person,
+                                                         @NonNull Person potentialSpouse,
+                                                         @NonNull Person woman,
+                                                         @NonNull LocalDate onDate) {
+        MarriageProfile personProfile = person.getMarriageProfile();
+        MarriageProfile spouseProfile = potentialSpouse.getMarriageProfile();
+
+        // If the person has or will ever have a job where they are not allowed to marry, greatly reduce the chance
+        // they will marry.
+        double occupationFactor = spouseProfile.hasNoMarriageOccupationOnOrAfter(onDate) ? 0.1 : 1.0;
+
         double comelinessDiff = Math.abs(person.getComeliness() - potentialSpouse.getComeliness());
         double charismaDiff = Math.abs(person.getCharisma() - potentialSpouse.getCharisma());
         double personDom = person.getDomesticity();
         double spouseDom = potentialSpouse.getDomesticity();
         double femaleAgeModifier = femaleAgeDesireToMarryModifier(woman, onDate);
 
-        Set<Trait> sharedTraits = new HashSet<>(person.getTraits());
-        sharedTraits.retainAll(potentialSpouse.getTraits());
-
         // People who share one or more traits will get on especially well.
-        double sharedTraitModifier = 0.25 * sharedTraits.size();
+        double sharedTraitModifier = 0.25 * personProfile.countSharedTraits(spouseProfile);
 
         // A person with desirable traits will be a desirable partner. If both have bad traits, it will greatly
         // decrease compatibility. If both have good traits, it will increase. If they cancel each other out, it
         // means one spouse was desirable and the other not particularly.
-        double traitModifier = getTraitModifier(person, 0.03) + getTraitModifier(potentialSpouse, 0.03);
+        double traitModifier = getTraitModifier(personProfile, 0.03) + getTraitModifier(spouseProfile, 0.03);
 
-        double percentChance = occupationFactor * (
+        return occupationFactor * (
                 (personDom + spouseDom + femaleAgeModifier + sharedTraitModifier + traitModifier)
                     - Math.max(comelinessDiff, charismaDiff));
-
-        return (PercentDie.roll() < percentChance);
     }
 
     /**
@@ -186,13 +229,27 @@ public class MatchMaker {
     private static boolean checkSocialClassCompatibility(@NonNull Person man,
                                                          @NonNull Person woman,
                                                          @NonNull LocalDate onDate) {
+        int diff = man.getSocialClass().getRank() - woman.getSocialClass().getRank();
+        // A man can marry at his rank or 1 lower without problem.
+        if (diff == 0 || diff == 1) {
+            return true;
+        }
+        return (PercentDie.roll() < getSocialClassCompatibilityChance(man, woman, onDate));
+    }
+
+    /**
+     * Gets the chance that the couple pass {@link #checkSocialClassCompatibility}. May be below 0.0 or above 1.0.
+     */
+    private static double getSocialClassCompatibilityChance(@NonNull Person man,
+                                                            @NonNull Person woman,
+                                                            @NonNull LocalDate onDate) {
         SocialClass manClass = man.getSocialClass();
         SocialClass womanClass = woman.getSocialClass();
 
         int diff = manClass.getRank() - womanClass.getRank();
         // A man can marry at his rank or 1 lower without problem.
         if (diff == 0 || diff == 1) {
-            return true;
+            return 1.0;
         }
         // A woman cannot readily marry below her rank and must check attractiveness etc. as if the difference was 1
         // greater than it really is.
@@ -215,7 +272,7 @@ public class MatchMaker {
         double attractiveness = Math.max(lesser.getComeliness(), lesser.getCharisma());
 
         // Get the ranking from the traits. Positive traits provide a bonus, negative traits a malus.
-        attractiveness += getTraitModifier(lesser, 0.05);
+        attractiveness += getTraitModifier(lesser.getMarriageProfile(), 0.05);
 
         // An aging woman of a greater rank will be less discriminating
         attractiveness += femaleAgeDesireToMarryModifier(greater, onDate);
@@ -226,21 +283,22 @@ public class MatchMaker {
         // rank diff = 4, min attractiveness = 0.9
         double minAttractiveness = 0.5 + (0.1 * diff);
 
-        return (PercentDie.roll() < (attractiveness - minAttractiveness));
+        return attractiveness - minAttractiveness;
+    }
+
+    private static double toProbability(double chance) {
+        return Math.max(0.0, Math.min(1.0, chance));
     }
 
     /**
      * Gets a modifier based on a person's traits sum of + and - values.
      *
-     * @param person the person whose traits to check
+     * @param profile the marriage profile of the person whose traits to check
      * @param baseModifier the value by which to multiple the integer sum, e.g. 0.05
      * @return a double
      */
-    private static double getTraitModifier(@NonNull Person person, double baseModifier) {
-        int rating = person.getTraits().stream()
-                .mapToInt(Trait::getRating)
-                .sum();
-        return (baseModifier * rating);
+    private static double getTraitModifier(@NonNull MarriageProfile profile, double baseModifier) {
+        return (baseModifier * profile.getTraitRatingSum());
     }
 
     /**
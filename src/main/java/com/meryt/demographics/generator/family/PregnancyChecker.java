@@ -3,6 +3,8 @@ package com.meryt.demographics.generator.family;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 
 import com.meryt.demographics.domain.family.Family;
@@ -12,6 +14,7 @@ import com.meryt.demographics.domain.person.fertility.Paternity;
 import com.meryt.demographics.generator.person.PersonGenerator;
 import com.meryt.demographics.generator.random.Die;
 import com.meryt.demographics.generator.random.PercentDie;
+import com.meryt.demographics.generator.random.Randomness;
 import com.meryt.demographics.response.calendar.BirthEvent;
 import com.meryt.demographics.response.calendar.CalendarDayEvent;
 import com.meryt.demographics.response.calendar.ConceptionEvent;
@@ -20,7 +23,8 @@ import com.meryt.demographics.response.calendar.MiscarriageEvent;
 
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.math3.distribution.NormalDistribution;
+
+import static java.time.temporal.ChronoUnit.DAYS;
 
 @Slf4j
 public class PregnancyChecker {
@@ -56,40 +60,244 @@ public class PregnancyChecker {
     }
 
     /**
-     * Loop over dates so long as the mother is living and check for births etc.
+     * Checks for conceptions, births and miscarriages on each day in the range that the mother is living.
+     * <p>
+     * Rather than rolling for each day, this jumps from event to event. A pregnancy jumps straight to its birth or
+     * miscarriage. Otherwise the conception day is drawn with a single roll, by walking the days until their
+     * combined chance of conception passes an exponentially distributed threshold, which gives each day the same
+     * chance of being the conception day as rolling against it in turn would. Stretches in which she cannot conceive
+     * at all (e.g. after her husband's death or her menopause) are skipped without looking at each day.
      */
     public List<CalendarDayEvent> checkDateRange(@NonNull LocalDate startDate,
                                                  @NonNull LocalDate endDate) {
+        return checkDays(startDate, endDate, false).stream()
+                .map(Supplier::get)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Checks the range as {@link #checkDateRange} does, but stops before a birth, since generating the children needs
+     * the database, and leaves the events to be created later, since they describe the people involved by their
+     * lazily-loaded titles and traits. Only the parents' dates and fertility are read, so as long as those are
+     * loaded, this may be run away from the thread that owns the JPA session.
+     *
+     * @return suppliers of the events, to be called on the thread that owns the JPA session. If a birth is due in the
+     * range, the maternity's last check date is left before it, and the rest of the range can be checked with
+     * {@link #checkDateRange}.
+     */
+    public List<Supplier<CalendarDayEvent>> checkDateRangeUntilBirth(@NonNull LocalDate startDate,
+                                                                     @NonNull LocalDate endDate) {
+        return checkDays(startDate, endDate, true);
+    }
 
+    private List<Supplier<CalendarDayEvent>> checkDays(@NonNull LocalDate startDate,
+                                                       @NonNull LocalDate endDate,
+                                                       boolean stopBeforeBirth) {
+        List<Supplier<CalendarDayEvent>> results = new ArrayList<>();
         LocalDate currentDay = startDate;
-        LocalDate endBeforeDate = endDate.plusDays(1);
+        while (!currentDay.isAfter(endDate) && mother.isLiving(currentDay)) {
+            LocalDate lastDay = mother.getDeathDate() == null || mother.getDeathDate().isAfter(endDate)
+                    ? endDate
+                    : mother.getDeathDate();
+
+            LocalDate eventDay;
+            if (maternity.isPregnant(currentDay)) {
+                eventDay = getNextPregnancyEventDate(currentDay);
+                if (eventDay.isAfter(lastDay)) {
+                    maternity.checkDays(currentDay, lastDay);
+                    break;
+                }
+                if (eventDay.isAfter(currentDay)) {
+                    maternity.checkDays(currentDay, eventDay.minusDays(1));
+                }
+                if (eventDay.isEqual(maternity.getDueDate())) {
+                    if (stopBeforeBirth) {
+                        break;
+                    }
+                    for (CalendarDayEvent event : giveBirth(eventDay)) {
+                        results.add(() -> event);
+                    }
+                } else {
+                    results.addAll(miscarry(eventDay));
+                }
+            } else {
+                eventDay = findConceptionDay(currentDay, lastDay);
+                if (eventDay == null) {
+                    break;
+                }
+                results.add(conceive(father, eventDay));
+            }
 
-        List<CalendarDayEvent> results = new ArrayList<>();
-        while (currentDay.isBefore(endBeforeDate) && mother.isLiving(currentDay)) {
-            results.addAll(checkDay(currentDay));
-            currentDay = currentDay.plusDays(1);
+            // Advances the last-check-date etc.
+            maternity.checkDay(eventDay);
+            currentDay = eventDay.plusDays(1);
         }
         return results;
     }
 
-    private List<CalendarDayEvent> checkDay(@NonNull LocalDate day) {
-        List<CalendarDayEvent> results = new ArrayList<>();
-        if (maternity.isPregnant(day)) {
-            if (day.isEqual(maternity.getDueDate())) {
-                results.addAll(giveBirth(day));
-            } else if (maternity.getMiscarriageDate() != null && day.isEqual(maternity.getMiscarriageDate())) {
-                results.add(miscarry(day));
+    /**
+     * Gets the day on which a pregnancy ongoing on this day ends: the miscarriage date if she has yet to miscarry,
+     * otherwise the due date
+     */
+    @NonNull
+    private LocalDate getNextPregnancyEventDate(@NonNull LocalDate day) {
+        LocalDate miscarriageDate = maternity.getMiscarriageDate();
+        if (miscarriageDate != null && !miscarriageDate.isBefore(day)
+                && miscarriageDate.isBefore(maternity.getDueDate())) {
+            return miscarriageDate;
+        }
+        return maternity.getDueDate();
+    }
+
+    /**
+     * Finds the day in the range on which the mother conceives, if any, checking the days before it as it goes.
+     * <p>
+     * The conception day is drawn ahead and kept on the maternity as her planned conception day, so that the calendar
+     * need not stop for her until then. Each day's chance only depends on dates known in advance (her cycle, her
+     * age, her husband's age and death), so the plan stays good until something else it depends on changes, which
+     * clears it.
+     *
+     * @return the conception day, or null if she does not conceive in the range (in which case every day in it has
+     * been checked)
+     */
+    @Nullable
+    private LocalDate findConceptionDay(@NonNull LocalDate fromDay, @NonNull LocalDate toDay) {
+        if (maternity.getFather() == null) {
+            maternity.setFather(father);
+        }
+
+        LocalDate day = fromDay;
+        while (!day.isAfter(toDay)) {
+            LocalDate plannedDay = maternity.getPlannedConceptionDate();
+            if (plannedDay == null || plannedDay.isBefore(day)) {
+                plannedDay = planConceptionDay(day);
+                maternity.setPlannedConceptionDate(plannedDay);
+            }
+            if (plannedDay == null || plannedDay.isAfter(toDay)) {
+                break;
             }
-        } else {
-            CalendarDayEvent result = attemptConception(day);
-            if (result != null) {
-                results.add(result);
+            if (plannedDay.isAfter(day)) {
+                maternity.checkDays(day, plannedDay.minusDays(1));
             }
+            if (getConceptionProbability(maternity, plannedDay) > 0) {
+                maternity.setPlannedConceptionDate(null);
+                return plannedDay;
+            }
+            // She can no longer conceive on the planned day, e.g. because it is the day after the last on which she
+            // could, or her husband has since died
+            maternity.checkDay(plannedDay);
+            day = plannedDay.plusDays(1);
+        }
+        if (!day.isAfter(toDay)) {
+            maternity.checkDays(day, toDay);
         }
+        return null;
+    }
 
-        // Advances the last-check-date etc.
-        maternity.checkDay(day);
-        return results;
+    /**
+     * Draws the day, on or after the given day, on which the mother will conceive if nothing changes. The days are
+     * checked on a copy of her maternity, so hers is left as it is.
+     *
+     * @return the conception day; the day after the last on which she could conceive, if she does not; or null if
+     * she cannot conceive at all from the given day
+     */
+    @Nullable
+    private LocalDate planConceptionDay(@NonNull LocalDate fromDay) {
+        LocalDate lastPossibleDay = getLastPossibleConceptionDay();
+        if (lastPossibleDay == null || lastPossibleDay.isBefore(fromDay)) {
+            return null;
+        }
+
+        Maternity ahead = maternity.copyConceptionState();
+        // The chance of not conceiving by some day is the product of (1 - p) over the days so far, or
+        // exp(-sum of -log(1 - p)), so conception happens on the day that sum first exceeds an Exp(1) draw. Her
+        // chance is the same on every day of a band, so the sum grows linearly over it, and the day it passes the
+        // draw can be solved for directly.
+        double threshold = -Math.log(1.0 - Randomness.nextDouble());
+        double hazard = 0;
+        LocalDate day = fromDay;
+        while (!day.isAfter(lastPossibleDay)) {
+            LocalDate lastDayOfBand = getLastDayOfConceptionBand(ahead, day, lastPossibleDay);
+            double percentChance = getConceptionProbability(ahead, day);
+            if (percentChance > 0) {
+                double dailyHazard = -Math.log1p(-Math.min(percentChance, 1.0));
+                long daysInBand = DAYS.between(day, lastDayOfBand) + 1;
+                if (hazard + dailyHazard * daysInBand > threshold) {
+                    // The first whole number of days whose hazard takes the sum past the draw
+                    long daysToConception = (long) Math.floor((threshold - hazard) / dailyHazard) + 1;
+                    return day.plusDays(Math.min(daysToConception, daysInBand) - 1);
+                }
+                hazard += dailyHazard * daysInBand;
+            }
+            ahead.checkDays(day, lastDayOfBand);
+            day = lastDayOfBand.plusDays(1);
+        }
+        return lastPossibleDay.plusDays(1);
+    }
+
+    /**
+     * Gets the last day of the band of days starting on the given day over which her chance of conceiving by her
+     * husband is the same. This is her own band, cut short where the husband's age in years (as his fertility
+     * counts it) changes, three days after his death, and at the last day she could conceive.
+     */
+    @NonNull
+    private LocalDate getLastDayOfConceptionBand(@NonNull Maternity maternity,
+                                                 @NonNull LocalDate day,
+                                                 @NonNull LocalDate lastPossibleDay) {
+        LocalDate lastDay = maternity.getLastDayOfConceptionBand(mother.getBirthDate(), day);
+        if (lastDay.isAfter(lastPossibleDay)) {
+            lastDay = lastPossibleDay;
+        }
+        // His fertility counts his age in years as whole multiples of 365 days
+        long fathersAgeInDays = father.getAgeInDays(day);
+        LocalDate fathersNextYear = day.plusDays(365 * (Math.floorDiv(fathersAgeInDays, 365) + 1) - fathersAgeInDays);
+        if (!fathersNextYear.isAfter(lastDay)) {
+            lastDay = fathersNextYear.minusDays(1);
+        }
+        // He must be living three days before
+        LocalDate firstDayBornThreeDaysBefore = father.getBirthDate().plusDays(3);
+        if (firstDayBornThreeDaysBefore.isAfter(day) && !firstDayBornThreeDaysBefore.isAfter(lastDay)) {
+            lastDay = firstDayBornThreeDaysBefore.minusDays(1);
+        }
+        if (father.getDeathDate() != null) {
+            LocalDate firstDayDeadThreeDaysBefore = father.getDeathDate().plusDays(4);
+            if (firstDayDeadThreeDaysBefore.isAfter(day) && !firstDayDeadThreeDaysBefore.isAfter(lastDay)) {
+                lastDay = firstDayDeadThreeDaysBefore.minusDays(1);
+            }
+        }
+        return lastDay;
+    }
+
+    /**
+     * Gets the last day on which conception is possible at all, or null if it is never possible
+     */
+    @Nullable
+    private LocalDate getLastPossibleConceptionDay() {
+        if (maternity.getFrequencyFactor() <= 0 || !maternity.isHavingRelations() || father == null ||
+                father.getFertility() == null || father.getBirthDate() == null ||
+                maternity.getLastCycleDate() == null) {
+            return null;
+        }
+        LocalDate lastDay = Maternity.getInfertileFromDate(mother.getBirthDate());
+        // The father must have been living three days before
+        if (father.getDeathDate() != null && father.getDeathDate().plusDays(3).isBefore(lastDay)) {
+            lastDay = father.getDeathDate().plusDays(3);
+        }
+        if (mother.getDeathDate() != null && mother.getDeathDate().isBefore(lastDay)) {
+            lastDay = mother.getDeathDate();
+        }
+        return lastDay;
+    }
+
+    private double getConceptionProbability(@NonNull Maternity maternity, @NonNull LocalDate day) {
+        if (father == null || !father.isLiving(day.minusDays(3))) {
+            return 0;
+        }
+        double percentChance = maternity.getConceptionProbability(mother.getBirthDate(), day);
+        if (percentChance <= 0) {
+            return 0;
+        }
+        return percentChance * ((Paternity) father.getFertility()).getAdjustedFertilityFactor(father.getAgeInDays(day));
     }
 
     private List<CalendarDayEvent> giveBirth(@NonNull LocalDate day) {
@@ -121,8 +329,16 @@ public class PregnancyChecker {
         return results;
     }
 
-    private CalendarDayEvent miscarry(@NonNull LocalDate day) {
+    /**
+     * Ends the pregnancy in a miscarriage, which the mother may not survive
+     *
+     * @return the miscarriage event, followed by her death event if she died. As with a death in childbirth, the
+     * death is reported so that it can be processed even if the day has already been passed.
+     */
+    private List<Supplier<CalendarDayEvent>> miscarry(@NonNull LocalDate day) {
         log.info(String.format("%s miscarried on %s", family.getWife().getName(), day));
+        List<Supplier<CalendarDayEvent>> results = new ArrayList<>();
+        results.add(() -> new MiscarriageEvent(day, mother));
 
         maternity.setNumMiscarriages(maternity.getNumMiscarriages() + 1);
         if (maternity.getLastBirthDate() == null || day.isAfter(maternity.getLastBirthDate())) {
@@ -133,10 +349,11 @@ public class PregnancyChecker {
             log.info(String.format("%s died due to a miscarriage on %s", family.getWife().getName(), day));
             family.getWife().setCauseOfDeath("miscarriage");
             family.getWife().setDeathDate(day);
+            results.add(() -> new DeathEvent(day, mother));
         }
 
         maternity.clearPregnancyFields();
-        return new MiscarriageEvent(day, family.getWife());
+        return results;
     }
 
     private List<CalendarDayEvent> createChildren(@NonNull LocalDate birthDate,
@@ -161,26 +378,7 @@ public class PregnancyChecker {
         return results;
     }
 
-    @Nullable
-    private CalendarDayEvent attemptConception(@NonNull LocalDate day) {
-        if (maternity.getFather() == null) {
-            maternity.setFather(father);
-        }
-        if (maternity.getFrequencyFactor() <= 0 || !maternity.isHavingRelations() || father == null ||
-            father.getFertility() == null || !father.isLiving(day.minusDays(3))) {
-            return null;
-        }
-
-        double percentChance = maternity.getConceptionProbability(mother.getBirthDate(), day);
-        percentChance *= ((Paternity) father.getFertility()).getAdjustedFertilityFactor(father.getAgeInDays(day));
-
-        if (PercentDie.roll() < percentChance) {
-            return conceive(father, day);
-        }
-        return null;
-    }
-
-    private CalendarDayEvent conceive(@NonNull Person father, @NonNull LocalDate day) {
+    private Supplier<CalendarDayEvent> conceive(@NonNull Person father, @NonNull LocalDate day) {
         maternity.setConceptionDate(day);
         maternity.setFather(father);
         maternity.setDueDate(maternity.getConceptionDate().plusDays(getRandomGestation()));
@@ -201,11 +399,12 @@ public class PregnancyChecker {
                 day,
                 maternity.getDueDate(),
                 father.getName()));
-        return new ConceptionEvent(day, mother, father, maternity.getDueDate());
+        LocalDate dueDate = maternity.getDueDate();
+        return () -> new ConceptionEvent(day, mother, father, dueDate);
     }
 
     private int getRandomGestation() {
-        return (int) Math.round(new NormalDistribution(HUMAN_GESTATION_DAYS, GESTATION_STD_DEV).sample());
+        return (int) Math.round(Randomness.nextGaussian(HUMAN_GESTATION_DAYS, GESTATION_STD_DEV));
     }
 
     private void attemptMiscarriage(@NonNull LocalDate day) {
@@ -0,0 +1,34 @@
+package com.meryt.demographics.generator.family;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import com.meryt.demographics.domain.person.Person;
+import com.meryt.demographics.generator.person.PersonGenerator;
+import com.meryt.demographics.request.PersonParameters;
+
+/**
+ * A randomly generated potential spouse who so far has only what matchmaking needs, along with the parameters they
+ * were generated with, so that they can be finished off as a full person only if the proposal succeeds.
+ */
+class SpouseCandidate {
+
+    @Getter
+    private final Person person;
+    private final PersonParameters parameters;
+
+    SpouseCandidate(@NonNull Person person, @NonNull PersonParameters parameters) {
+        this.person = person;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Gives the candidate a name, lifespan and fertility
+     *
+     * @return the completed person
+     */
+    @NonNull
+    Person materialize(@NonNull PersonGenerator personGenerator) {
+        return personGenerator.completeSpouseCandidate(person, parameters);
+    }
+}
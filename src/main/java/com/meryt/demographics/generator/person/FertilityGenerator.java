@@ -8,6 +8,7 @@ import com.meryt.demographics.domain.person.Person;
 import com.meryt.demographics.domain.person.fertility.Maternity;
 import com.meryt.demographics.domain.person.fertility.Paternity;
 import com.meryt.demographics.generator.random.BetweenDie;
+import com.meryt.demographics.generator.random.RandomnessGenerator;
 import com.meryt.demographics.math.FunkyBetaDistribution;
 
 public class FertilityGenerator {
@@ -24,6 +25,15 @@ public class FertilityGenerator {
     private static final int  FIRST_PERIOD_BASE_MIN_AGE_YEARS = 11;
     private static final int  FIRST_PERIOD_BASE_MAX_AGE_YEARS = 16;
 
+    private static final BetaDistribution FERTILITY_BETA = new FunkyBetaDistribution(RAND_FERTILITY_ALPHA,
+            RAND_FERTILITY_BETA);
+    private static final BetaDistribution FREQUENCY_BETA = new FunkyBetaDistribution(RAND_FREQUENCY_ALPHA,
+            RAND_FREQUENCY_BETA);
+    private static final BetaDistribution WITHDRAWAL_BETA = new FunkyBetaDistribution(RAND_WITHDRAWAL_ALPHA,
+            RAND_WITHDRAWAL_BETA);
+    private static final BetaDistribution FIRST_PERIOD_BETA = new BetaDistribution(RandomnessGenerator.INSTANCE,
+            RAND_FIRST_PERIOD_ALPHA, RAND_FIRST_PERIOD_BETA);
+
 
 
     public Maternity randomMaternity(@NonNull Person woman) {
@@ -45,15 +55,15 @@ public class FertilityGenerator {
     }
 
     private double randFertilityFactor() {
-        return new FunkyBetaDistribution(RAND_FERTILITY_ALPHA, RAND_FERTILITY_BETA).sample();
+        return FERTILITY_BETA.sample();
     }
 
     private double randFrequencyFactor() {
-        return new FunkyBetaDistribution(RAND_FREQUENCY_ALPHA, RAND_FREQUENCY_BETA).sample();
+        return FREQUENCY_BETA.sample();
     }
 
     private double randWithdrawalFactor() {
-        return new FunkyBetaDistribution(RAND_WITHDRAWAL_ALPHA, RAND_WITHDRAWAL_BETA).sample();
+        return WITHDRAWAL_BETA.sample();
     }
 
     private int randCycleLength() {
@@ -61,7 +71,7 @@ public class FertilityGenerator {
     }
 
     private LocalDate randFirstCycleDate(@NonNull LocalDate birthDate) {
-        double betaVal = new BetaDistribution(RAND_FIRST_PERIOD_ALPHA, RAND_FIRST_PERIOD_BETA).sample();
+        double betaVal = FIRST_PERIOD_BETA.sample();
         int minAge = FIRST_PERIOD_BASE_MIN_AGE_YEARS * 365;
         int maxAge = FIRST_PERIOD_BASE_MAX_AGE_YEARS * 365;
         return birthDate.plusDays((long) Math.floor((betaVal * (maxAge - minAge)) + minAge));
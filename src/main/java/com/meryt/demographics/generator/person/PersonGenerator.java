@@ -10,7 +10,6 @@ import javax.annotation.Nullable;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.math3.distribution.BetaDistribution;
-import org.apache.commons.math3.distribution.NormalDistribution;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -25,6 +24,8 @@ import com.meryt.demographics.domain.person.SocialClass;
 import com.meryt.demographics.generator.random.BetweenDie;
 import com.meryt.demographics.generator.random.Die;
 import com.meryt.demographics.generator.random.PercentDie;
+import com.meryt.demographics.generator.random.Randomness;
+import com.meryt.demographics.generator.random.RandomnessGenerator;
 import com.meryt.demographics.math.FunkyBetaDistribution;
 import com.meryt.demographics.request.PersonParameters;
 import com.meryt.demographics.service.LifeTableService;
@@ -50,7 +51,8 @@ public class PersonGenerator {
 
     private static final BetaDistribution DOMESTICITY_BETA = new FunkyBetaDistribution(RAND_DOMESTICITY_ALPHA,
             RAND_DOMESTICITY_BETA);
-	private static final BetaDistribution TRAIT_BETA = new BetaDistribution(RAND_TRAIT_ALPHA, RAND_TRAIT_BETA);
+	private static final BetaDistribution TRAIT_BETA = new BetaDistribution(RandomnessGenerator.INSTANCE,
+            RAND_TRAIT_ALPHA, RAND_TRAIT_BETA);
 
     private final NameService nameService;
     private final LifeTableService lifeTableService;
@@ -74,15 +76,94 @@ public class PersonGenerator {
     public Person generate(@NonNull PersonParameters personParameters) {
         personParameters.validate();
 
+        Person person = new Person();
+        person.setGender(personParameters.getGender() == null ? Gender.random() : personParameters.getGender());
+
+        generateAndSetNames(personParameters, person);
+
+        generatePersonLifespan(personParameters, person);
+
+        // Set the social class from the parents if they are present.
+        SocialClass socialClass = socialClassService.getCalculatedChildSocialClass(personParameters.getFather(),
+                personParameters.getMother(), person, false, person.getDeathDate());
+
+        if (socialClass != null) {
+            person.setSocialClass(socialClass);
+        } else {
+            person.setSocialClass(randomSocialClass(personParameters));
+        }
+
+        generateAndSetTraits(personParameters, person);
+
+        if (personParameters.getFather() != null && personParameters.getMother() != null) {
+            Person father = personParameters.getFather();
+            Person mother = personParameters.getMother();
+            Family existingFamily = father.getFamilies().stream()
+                    .filter(f -> f.getWife() != null && f.getWife().getId() == mother.getId())
+                    .findFirst().orElse(null);
+            if (existingFamily != null) {
+                existingFamily.addChild(person);
+            } else {
+                Family family = new Family();
+                family.setHusband(father);
+                family.setWife(mother);
+                family.addChild(person);
+            }
+        }
+
+        generateAndSetFertility(person);
+
+        return person;
+    }
+
+    /**
+     * Generates only the parts of a random person that matchmaking looks at: gender, birth date, social class,
+     * personality and traits. The person has no name, death date or fertility, so generating one does not look up
+     * names or life tables, and it is cheap to discard if the match fails. If it succeeds, pass the same parameters
+     * to {@link #completeSpouseCandidate} to fill in the rest.
+     *
+     * @param personParameters parameters giving the gender and birth date, and no parents
+     * @return a person who is not yet fit to be saved
+     */
+    @NonNull
+    public Person generateSpouseCandidate(@NonNull PersonParameters personParameters) {
+        if (personParameters.getGender() == null || personParameters.getBirthDate() == null) {
+            throw new IllegalArgumentException("A spouse candidate requires a gender and birth date");
+        }
+        if (personParameters.getFather() != null || personParameters.getMother() != null) {
+            throw new IllegalArgumentException("A spouse candidate cannot have parents");
+        }
+        Person person = new Person();
+        person.setGender(personParameters.getGender());
+        person.setBirthDate(personParameters.getBirthDate());
+        person.setSocialClass(randomSocialClass(personParameters));
+        generateAndSetTraits(personParameters, person);
+        return person;
+    }
+
+    /**
+     * Gives a person made by {@link #generateSpouseCandidate} a name, lifespan and fertility, as
+     * {@link #generate} would have.
+     *
+     * @param candidate the partly generated person
+     * @param personParameters the parameters the candidate was generated with
+     * @return the same person
+     */
+    @NonNull
+    public Person completeSpouseCandidate(@NonNull Person candidate, @NonNull PersonParameters personParameters) {
+        generateAndSetNames(personParameters, candidate);
+        generatePersonLifespan(personParameters, candidate);
+        generateAndSetFertility(candidate);
+        return candidate;
+    }
+
+    private void generateAndSetNames(@NonNull PersonParameters personParameters, @NonNull Person person) {
         LocalDate nameDate = (personParameters.getBirthDate() == null && personParameters.getBirthYear() == null)
                 ? personParameters.getAliveOnDate()
                 : (personParameters.getBirthDate() == null
                     ? LocalDate.of(personParameters.getBirthYear(), 1, 1)
                     : personParameters.getBirthDate());
 
-        Person person = new Person();
-        person.setGender(personParameters.getGender() == null ? Gender.random() : personParameters.getGender());
-
         // People didn't use last names till about 1400. But if one is specified, use it.
         if (!PersonParameters.NO_LAST_NAME.equals(personParameters.getLastName())) {
             if (personParameters.getLastName() != null) {
@@ -109,51 +190,28 @@ public class PersonGenerator {
             person.setFirstName(firstName.getName());
             person.setFirstNameCulture(firstName.getCulture());
         }
+    }
 
-        generatePersonLifespan(personParameters, person);
-
-        // Set the social class from the parents if they are present.
-        SocialClass socialClass = socialClassService.getCalculatedChildSocialClass(personParameters.getFather(),
-                personParameters.getMother(), person, false, person.getDeathDate());
-
-        if (socialClass != null) {
-            person.setSocialClass(socialClass);
+    /**
+     * Gets a random social class, optionally between two classes specified in the parameters
+     */
+    @NonNull
+    private static SocialClass randomSocialClass(@NonNull PersonParameters personParameters) {
+        if (personParameters.getMinSocialClass() != null || personParameters.getMaxSocialClass() != null) {
+            return SocialClass.randomBetween(personParameters.getMinSocialClass(),
+                    personParameters.getMaxSocialClass());
         } else {
-            // Otherwise get a random social class, optionally between two specified classes
-            if (personParameters.getMinSocialClass() != null || personParameters.getMaxSocialClass() != null) {
-                person.setSocialClass(SocialClass.randomBetween(personParameters.getMinSocialClass(),
-                        personParameters.getMaxSocialClass()));
-            } else {
-                person.setSocialClass(SocialClass.random());
-            }
-        }
-
-        generateAndSetTraits(personParameters, person);
-
-        if (personParameters.getFather() != null && personParameters.getMother() != null) {
-            Person father = personParameters.getFather();
-            Person mother = personParameters.getMother();
-            Family existingFamily = father.getFamilies().stream()
-                    .filter(f -> f.getWife() != null && f.getWife().getId() == mother.getId())
-                    .findFirst().orElse(null);
-            if (existingFamily != null) {
-                existingFamily.addChild(person);
-            } else {
-                Family family = new Family();
-                family.setHusband(father);
-                family.setWife(mother);
-                family.addChild(person);
-            }
+            return SocialClass.random();
         }
+    }
 
+    private static void generateAndSetFertility(@NonNull Person person) {
         FertilityGenerator fertilityGenerator = new FertilityGenerator();
         if (person.isMale()) {
             person.setPaternity(fertilityGenerator.randomPaternity());
         } else {
             person.setMaternity(fertilityGenerator.randomMaternity(person));
         }
-
-        return person;
     }
 
     /**
@@ -426,7 +484,7 @@ public class PersonGenerator {
     private void generateAndSetTraits(@NonNull PersonParameters personParameters, @NonNull Person person) {
 
         // A person gets 1-3 random traits
-        person.getTraits().addAll(traitService.randomTraits(new Die(3).roll()));
+        person.addTraits(traitService.randomTraits(new Die(3).roll()));
 
         Person favoredParent = null;
         Person otherParent = null;
@@ -535,14 +593,14 @@ public class PersonGenerator {
 
         if (pHeight == null) {
             // Just get a height from random distribution
-            return new NormalDistribution(avgForGender, AVG_ADULT_HEIGHT_STD_DEV).sample();
+            return Randomness.nextGaussian(avgForGender, AVG_ADULT_HEIGHT_STD_DEV);
         } else {
             double modifier = gender == Gender.MALE ? 1.0 : 1.08;
             // get a height based on parents' - using Galton's formula
             double childHeight = avgForGender + 0.6115 *
                     // Use male mean since female is adjusted by 1.08
                     ((pHeight - AVG_ADULT_MALE_HEIGHT) / modifier);
-            return new NormalDistribution(childHeight, AVG_ADULT_HEIGHT_STD_DEV).sample();
+            return Randomness.nextGaussian(childHeight, AVG_ADULT_HEIGHT_STD_DEV);
         }
     }
 
@@ -562,7 +620,7 @@ public class PersonGenerator {
             double diff = ((parentTrait - otherParentTrait) / 3);
             mean -= diff;
         }
-        return new NormalDistribution(mean, 0.1).sample();
+        return Randomness.nextGaussian(mean, 0.1);
     }
 
     /**
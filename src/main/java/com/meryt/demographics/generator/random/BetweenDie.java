@@ -1,6 +1,5 @@
 package com.meryt.demographics.generator.random;
 
-import java.util.Random;
 import lombok.experimental.UtilityClass;
 
 /**
@@ -9,8 +8,6 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public class BetweenDie {
 
-    private static final Random random = new Random();
-
     public static int roll(int lowerBound, int upperBound) {
         if (lowerBound > upperBound) {
             throw new IllegalArgumentException("Lower bound cannot be greater than upper bound");
@@ -19,6 +16,6 @@ public class BetweenDie {
             return lowerBound;
         }
 
-        return random.nextInt(upperBound - lowerBound ) + lowerBound;
+        return Randomness.nextInt(upperBound - lowerBound ) + lowerBound;
     }
 }
@@ -1,13 +1,10 @@
 package com.meryt.demographics.generator.random;
 
-import java.util.Random;
-
 /**
  * A die with a certain number of faces that can be rolled.
  */
 public class Die {
 
-    private final Random random = new Random();
     private final int faces;
 
     public Die(int faces) {
@@ -18,7 +15,7 @@ public class Die {
      * Roll die once and return the value
      */
     public int roll() {
-        return random.nextInt(faces) + 1;
+        return Randomness.nextInt(faces) + 1;
     }
 
     /**
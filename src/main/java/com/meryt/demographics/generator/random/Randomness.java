@@ -0,0 +1,128 @@
+package com.meryt.demographics.generator.random;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+/**
+ * The source of all random numbers in the simulation. Each thread draws from its own {@link SplittableRandom}
+ * stream, so there is no contention between threads and no generator is allocated per roll.
+ *
+ * All streams derive from a single master seed. After {@link #setSeed(long)}, the calling thread's stream is
+ * reproducible, and so is any partition stream obtained from {@link #forPartition(long, long)}, regardless of which
+ * thread runs the partition or in what order.
+ */
+@UtilityClass
+public class Randomness {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private static volatile long masterSeed = System.nanoTime() ^ System.currentTimeMillis();
+    private static final AtomicLong threadCounter = new AtomicLong();
+
+    private static final ThreadLocal<SplittableRandom> current = ThreadLocal.withInitial(() ->
+            new SplittableRandom(mix(masterSeed, threadCounter.incrementAndGet())));
+
+    /**
+     * Sets the master seed, and resets the calling thread's stream to start from it.
+     */
+    public static void setSeed(long seed) {
+        masterSeed = seed;
+        threadCounter.set(0);
+        current.set(new SplittableRandom(seed));
+    }
+
+    /**
+     * Gets the calling thread's stream
+     */
+    @NonNull
+    public static SplittableRandom current() {
+        return current.get();
+    }
+
+    /**
+     * Gets a new stream for a unit of parallel work, determined only by the master seed and the keys (e.g. the
+     * date and a person ID). The same keys always produce the same stream for a given master seed.
+     */
+    @NonNull
+    public static SplittableRandom forPartition(long streamKey, long partitionKey) {
+        return new SplittableRandom(mix(mix(masterSeed, streamKey), partitionKey));
+    }
+
+    /**
+     * Combines an identifier for a unit of work and its date into a stream key for {@link #forPartition(long, long)}
+     */
+    public static long streamKey(long workId, @NonNull LocalDate date) {
+        return mix(workId, date.toEpochDay());
+    }
+
+    /**
+     * Runs the supplier with the calling thread's stream temporarily replaced by the given stream, so that any dice
+     * rolled by it draw from that stream.
+     */
+    public static <T> T withStream(@NonNull SplittableRandom stream, @NonNull Supplier<T> supplier) {
+        SplittableRandom previous = current.get();
+        current.set(stream);
+        try {
+            return supplier.get();
+        } finally {
+            current.set(previous);
+        }
+    }
+
+    /**
+     * Gets a value in [0.0, 1.0)
+     */
+    public static double nextDouble() {
+        return current.get().nextDouble();
+    }
+
+    /**
+     * Gets a value in [0, bound)
+     */
+    public static int nextInt(int bound) {
+        return current.get().nextInt(bound);
+    }
+
+    public static long nextLong() {
+        return current.get().nextLong();
+    }
+
+    public static double nextGaussian() {
+        return current.get().nextGaussian();
+    }
+
+    /**
+     * Gets a normally distributed value with the given mean and standard deviation
+     */
+    public static double nextGaussian(double mean, double standardDeviation) {
+        return current.get().nextGaussian(mean, standardDeviation);
+    }
+
+    /**
+     * Gets the number of days that pass before the first success, if each day succeeds with the given probability,
+     * with the same distribution as rolling against the probability day by day. Long.MAX_VALUE if the probability is
+     * zero.
+     */
+    public static long nextGeometric(double probability) {
+        if (probability >= 1.0) {
+            return 0;
+        }
+        // 1 - nextDouble() is in (0, 1], so the log is finite
+        double skip = Math.floor(Math.log(1.0 - nextDouble()) / Math.log1p(-probability));
+        return skip >= Long.MAX_VALUE ? Long.MAX_VALUE : (long) skip;
+    }
+
+    /**
+     * Combines two values into a well-distributed seed (the SplitMix64 finalizer)
+     */
+    static long mix(long a, long b) {
+        long z = a + (b + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
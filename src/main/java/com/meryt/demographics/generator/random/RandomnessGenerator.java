@@ -0,0 +1,75 @@
+package com.meryt.demographics.generator.random;
+
+import org.apache.commons.math3.random.RandomGenerator;
+
+/**
+ * Adapts {@link Randomness} to the commons-math random generator interface, so that distributions sample from the
+ * calling thread's stream. A single instance (and a single distribution using it) may be shared between threads.
+ */
+public class RandomnessGenerator implements RandomGenerator {
+
+    public static final RandomnessGenerator INSTANCE = new RandomnessGenerator();
+
+    private RandomnessGenerator() {
+        // use the shared instance
+    }
+
+    @Override
+    public void setSeed(int seed) {
+        Randomness.setSeed(seed);
+    }
+
+    @Override
+    public void setSeed(int[] seed) {
+        long combined = 0;
+        for (int s : seed) {
+            combined = combined * 31 + s;
+        }
+        Randomness.setSeed(combined);
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        Randomness.setSeed(seed);
+    }
+
+    @Override
+    public void nextBytes(byte[] bytes) {
+        Randomness.current().nextBytes(bytes);
+    }
+
+    @Override
+    public int nextInt() {
+        return Randomness.current().nextInt();
+    }
+
+    @Override
+    public int nextInt(int n) {
+        return Randomness.nextInt(n);
+    }
+
+    @Override
+    public long nextLong() {
+        return Randomness.nextLong();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return Randomness.current().nextBoolean();
+    }
+
+    @Override
+    public float nextFloat() {
+        return Randomness.current().nextFloat();
+    }
+
+    @Override
+    public double nextDouble() {
+        return Randomness.nextDouble();
+    }
+
+    @Override
+    public double nextGaussian() {
+        return Randomness.nextGaussian();
+    }
+}
@@ -1,11 +1,11 @@
 package com.meryt.demographics.math;
 
-import java.util.Random;
 import org.apache.commons.math3.distribution.BetaDistribution;
 
-public class FunkyBetaDistribution extends BetaDistribution {
+import com.meryt.demographics.generator.random.Randomness;
+import com.meryt.demographics.generator.random.RandomnessGenerator;
 
-    private final Random randomGen = new Random();
+public class FunkyBetaDistribution extends BetaDistribution {
 
     private final double ga;
     private final double bu;
@@ -17,7 +17,7 @@ public class FunkyBetaDistribution extends BetaDistribution {
     }
 
     FunkyBetaDistribution(double alpha, double beta, double ga, double bu, double zo, double meu) {
-        super(alpha, beta);
+        super(RandomnessGenerator.INSTANCE, alpha, beta);
         this.ga = ga;
         this.bu = bu;
         this.zo = zo;
@@ -50,12 +50,12 @@ public class FunkyBetaDistribution extends BetaDistribution {
     private double gabu() {
         int intBu = (int) (bu * 100.0);
         int intGa = (int) (ga * 100.0);
-        return (randomGen.nextInt(intBu - intGa) + intGa) / 100.0;
+        return (Randomness.nextInt(intBu - intGa) + intGa) / 100.0;
     }
 
     private double zomeu() {
         int intZo = (int) (zo * 100.0);
         int intMeu = (int) (meu * 100.0);
-        return (randomGen.nextInt(intMeu - intZo) + intZo) / 100.0;
+        return (Randomness.nextInt(intMeu - intZo) + intZo) / 100.0;
     }
 }
@@ -0,0 +1,64 @@
+package com.meryt.demographics.profiler;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aggregates phase timings and counters across all calendar runs and threads since the application started (or the
+ * registry was last reset), so that regressions in a single phase can be spotted between runs.
+ */
+@Component
+public class MetricsRegistry {
+
+    private final ConcurrentMap<String, PhaseMetrics> phases = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Records one run of a phase
+     *
+     * @param phase the name of the phase
+     * @param nanos the time it took, in nanoseconds
+     */
+    public void record(@NonNull String phase, long nanos) {
+        phases.computeIfAbsent(phase, p -> new PhaseMetrics()).record(nanos);
+    }
+
+    public void increment(@NonNull String counter) {
+        increment(counter, 1);
+    }
+
+    public void increment(@NonNull String counter, long delta) {
+        counters.computeIfAbsent(counter, c -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * Gets the metrics of every phase recorded so far, ordered by name
+     */
+    @NonNull
+    public Map<String, PhaseMetrics> getPhases() {
+        return new TreeMap<>(phases);
+    }
+
+    /**
+     * Gets the current value of every counter, ordered by name
+     */
+    @NonNull
+    public Map<String, Long> getCounters() {
+        Map<String, Long> results = new TreeMap<>();
+        counters.forEach((name, value) -> results.put(name, value.sum()));
+        return results;
+    }
+
+    /**
+     * Zeroes every phase and counter. Recording may continue concurrently.
+     */
+    public void reset() {
+        phases.values().forEach(PhaseMetrics::reset);
+        counters.values().forEach(LongAdder::reset);
+    }
+}
@@ -0,0 +1,21 @@
+package com.meryt.demographics.profiler;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event covering one run of a profiled phase, so that phases can be lined up against
+ * allocation and CPU samples in a recording. Only has a cost when a recording is enabled.
+ */
+@Name("com.meryt.demographics.Phase")
+@Label("Simulation Phase")
+@Category("Demographics")
+@Description("One run of a profiled phase of the calendar simulation")
+class PhaseEvent extends Event {
+
+    @Label("Phase")
+    String phase;
+}
@@ -0,0 +1,87 @@
+package com.meryt.demographics.profiler;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The aggregated timings of a single named phase: the number of times it ran, the total and maximum time, and a
+ * histogram of durations in power-of-two nanosecond buckets. Safe to record to from many threads at once.
+ */
+public class PhaseMetrics {
+
+    /**
+     * Bucket i holds durations d where 2^(i-1) <= d < 2^i nanoseconds (bucket 0 holds durations of 0)
+     */
+    static final int NUM_BUCKETS = 64;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    private final AtomicLongArray buckets = new AtomicLongArray(NUM_BUCKETS);
+
+    void record(long nanos) {
+        long duration = Math.max(0, nanos);
+        count.increment();
+        totalNanos.add(duration);
+        maxNanos.accumulate(duration);
+        buckets.incrementAndGet(bucketFor(duration));
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Gets an upper bound on the given quantile of the recorded durations, accurate to within a factor of 2.
+     *
+     * @param quantile a value between 0.0 and 1.0
+     * @return the upper bound of the bucket containing the quantile (capped at the maximum), or 0 if nothing was
+     * recorded
+     */
+    public long getQuantileNanos(double quantile) {
+        long[] counts = new long[NUM_BUCKETS];
+        long total = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    void reset() {
+        count.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            buckets.set(i, 0);
+        }
+    }
+
+    static int bucketFor(long nanos) {
+        return Math.min(NUM_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos));
+    }
+
+    private static long bucketUpperBound(int bucket) {
+        return bucket >= 63 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+}
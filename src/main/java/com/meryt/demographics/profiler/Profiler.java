@@ -4,32 +4,57 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Times the nested phases of a single run with nanosecond precision. Each phase that is stopped is also recorded to the
+ * metrics registry, if there is one, and emitted as a JFR event. The methods are synchronized so that the timings can
+ * be read from another thread while the run is in progress, but starting and stopping phases is meant to be done by
+ * the one thread doing the run.
+ */
 @Slf4j
 public class Profiler {
 
-    private Map<String, Profile> profiles = new LinkedHashMap<>();
+    private final Map<String, Profile> profiles = new LinkedHashMap<>();
 
-    private List<String> mostRecentlyStarted = new ArrayList<>();
+    private final List<String> mostRecentlyStarted = new ArrayList<>();
 
-    public void start(@NonNull String profileName) {
+    @Nullable
+    private final MetricsRegistry registry;
+
+    public Profiler() {
+        this(null);
+    }
+
+    /**
+     * @param registry the registry to which to report each phase as it is stopped, or null to keep the timings local
+     */
+    public Profiler(@Nullable MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    public synchronized void start(@NonNull String profileName) {
         getOrInit(profileName).start();
         mostRecentlyStarted.add(profileName);
     }
 
-    public void stop() {
+    public synchronized void stop() {
         if (mostRecentlyStarted.isEmpty()) {
             throw new IllegalStateException("No profile was recently started");
         }
         stop(mostRecentlyStarted.get(mostRecentlyStarted.size() - 1));
     }
 
-    public void stop(@NonNull String profileName) {
-        getOrFail(profileName).stop();
+    public synchronized void stop(@NonNull String profileName) {
+        long nanos = getOrFail(profileName).stop();
+        if (registry != null) {
+            registry.record(profileName, nanos);
+        }
         for (int i = mostRecentlyStarted.size() - 1; i >= 0; i--) {
             if (mostRecentlyStarted.get(i).equals(profileName)) {
                 mostRecentlyStarted.remove(i);
@@ -38,7 +63,18 @@ public class Profiler {
         }
     }
 
-    public void logResults() {
+    /**
+     * Gets the total elapsed milliseconds of each profile so far, in the order the profiles were first started. Time
+     * in a profile that is still running is not included.
+     */
+    @NonNull
+    public synchronized Map<String, Long> getElapsedMillis() {
+        Map<String, Long> results = new LinkedHashMap<>();
+        profiles.forEach((name, profile) -> results.put(name, TimeUnit.NANOSECONDS.toMillis(profile.getElapsed())));
+        return results;
+    }
+
+    public synchronized void logResults() {
         String result = profiles.values().stream()
                 .map(Profile::getResult)
                 .collect(Collectors.joining(" "));
@@ -63,6 +99,10 @@ public class Profiler {
     private static class Profile {
         private boolean running;
         private long startTime;
+        private PhaseEvent event;
+        /**
+         * Total elapsed nanoseconds
+         */
         @Getter
         private long elapsed = 0;
 
@@ -77,19 +117,31 @@ public class Profiler {
                 throw new IllegalStateException(name + " profiler is already started");
             }
             running = true;
-            startTime = System.currentTimeMillis();
+            event = new PhaseEvent();
+            if (event.isEnabled()) {
+                event.phase = name;
+                event.begin();
+            }
+            startTime = System.nanoTime();
         }
 
-        void stop() {
+        /**
+         * Stops the profile and returns the nanoseconds elapsed since it was started
+         */
+        long stop() {
             if (!running) {
                 throw new IllegalStateException(name + " profiler is not running");
             }
+            long nanos = System.nanoTime() - startTime;
             running = false;
-            elapsed += System.currentTimeMillis() - startTime;
+            elapsed += nanos;
+            event.commit();
+            event = null;
+            return nanos;
         }
 
         String getResult() {
-            return String.format("%s=%d", name, elapsed);
+            return String.format("%s=%d", name, TimeUnit.NANOSECONDS.toMillis(elapsed));
         }
     }
 
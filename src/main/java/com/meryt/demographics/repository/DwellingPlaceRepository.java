@@ -32,6 +32,16 @@ public interface DwellingPlaceRepository extends PagingAndSortingRepository<Dwel
      * @param onDate the date on which to check
      * @return a list of 0 or more dwellings
      */
+    default List<DwellingPlace> findDerelictHouses(@NonNull LocalDate onDate, int yearsBeforeRuined) {
+        // The house is derelict once more than yearsBeforeRuined whole (365-day) years have passed since it was last
+        // occupied
+        return findDerelictHousesLastOccupiedBy(onDate, onDate.minusDays((yearsBeforeRuined + 1) * 365L));
+    }
+
+    /**
+     * Find houses that are not entailed and not attached to a parent, whose last household moved out on or before
+     * the latest end date, and which have had no household since
+     */
     @Query(value = "SELECT dp.*\n" +
             "FROM dwelling_places dp\n" +
             "INNER JOIN (\n" +
@@ -44,11 +54,11 @@ public interface DwellingPlaceRepository extends PagingAndSortingRepository<Dwel
             "    AND NOT dp.entailed\n" +
             "    AND dp.entailed_title_id IS NULL\n" +
             "    AND dp.ruined_date IS NULL\n" +
-            "    AND dp.founded_date < CAST(:onDate AS DATE)\n" +
-            "    GROUP BY 1\n" +
-            "    HAVING MAX(COALESCE(hl.to_date, '2100-01-01')) < '2100-01-01' \n" +
-            "        AND ((CAST(:onDate AS DATE) - CAST(MAX(hl.to_date) AS DATE)) / 365) > :yearsBeforeRuined \n" +
+            "    AND dp.founded_date < :onDate\n" +
+            "    GROUP BY hl.dwelling_place_id\n" +
+            "    HAVING COUNT(*) = COUNT(hl.to_date) \n" +
+            "        AND MAX(hl.to_date) <= :latestEndDate \n" +
             ") AS y ON y.dwelling_place_id = dp.id",
             nativeQuery =  true)
-    List<DwellingPlace> findDerelictHouses(@NonNull LocalDate onDate, int yearsBeforeRuined);
+    List<DwellingPlace> findDerelictHousesLastOccupiedBy(@NonNull LocalDate onDate, @NonNull LocalDate latestEndDate);
 }
@@ -12,16 +12,22 @@ import com.meryt.demographics.domain.family.Family;
 @Repository
 public interface FamilyRepository extends CrudRepository<Family, Long> {
 
+    /**
+     * Finds marriages where both spouses are living on the given date but do not live in the same household (or
+     * only one of them lives in a household)
+     */
     @Query(value =
             "SELECT\n" +
             "    f.*\n" +
             "FROM families f\n" +
-            "INNER JOIN living_persons husbands ON f.husband_id = husbands.id\n" +
+            "INNER JOIN persons husbands ON f.husband_id = husbands.id\n" +
+            "  AND husbands.birth_date <= :onDate AND husbands.death_date > :onDate\n" +
             "LEFT JOIN household_inhabitants hi1 ON husbands.id = hi1.person_id\n" +
-            "  AND DATERANGE(hi1.from_date, hi1.to_date) @> CAST(:onDate AS DATE)\n" +
-            "INNER JOIN living_persons wives ON f.wife_id = wives.id\n" +
+            "  AND hi1.from_date <= :onDate AND (hi1.to_date IS NULL OR hi1.to_date > :onDate)\n" +
+            "INNER JOIN persons wives ON f.wife_id = wives.id\n" +
+            "  AND wives.birth_date <= :onDate AND wives.death_date > :onDate\n" +
             "LEFT JOIN household_inhabitants hi2 ON wives.id = hi2.person_id\n" +
-            "    AND DATERANGE(hi2.from_date, hi2.to_date) @> CAST(:onDate AS DATE)\n" +
+            "  AND hi2.from_date <= :onDate AND (hi2.to_date IS NULL OR hi2.to_date > :onDate)\n" +
             "WHERE hi1.household_id IS DISTINCT FROM hi2.household_id",
             nativeQuery =  true)
     List<Family> loadFamiliesNotInSameHousehold(@NonNull LocalDate onDate);
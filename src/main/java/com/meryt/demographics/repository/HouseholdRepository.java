@@ -21,6 +21,13 @@ public interface HouseholdRepository extends CrudRepository<Household, Long> {
             nativeQuery =  true)
     List<Household> findHouseholdsWithoutHouses(@NonNull LocalDate onDate);
 
+    @Query(value = "SELECT DISTINCT h.* FROM households h " +
+            "INNER JOIN household_locations hl ON h.id = hl.household_id " +
+            "    AND hl.from_date <= :onDate " +
+            "    AND (hl.to_date IS NULL OR hl.to_date > :onDate)",
+            nativeQuery =  true)
+    List<Household> findHouseholdsWithLocations(@NonNull LocalDate onDate);
+
     @Query(value = "SELECT * FROM households h " +
             "LEFT JOIN household_locations hl ON h.id = hl.household_id " +
             "    AND hl.from_date <= :onDate " +
@@ -33,10 +40,12 @@ public interface HouseholdRepository extends CrudRepository<Household, Long> {
             "    h.*\n" +
             "FROM (  SELECT household_id, MAX(to_date) \n" +
             "        FROM household_inhabitants \n" +
-            "        GROUP BY 1 \n" +
+            "        GROUP BY household_id \n" +
             "        HAVING MAX(to_date) < :onDate) y \n" +
             "INNER JOIN household_locations hl \n" +
-            "    ON y.household_id = hl.household_id AND DATERANGE(hl.from_date, hl.to_date) @> CAST(:onDate AS DATE) \n" +
+            "    ON y.household_id = hl.household_id \n" +
+            "    AND hl.from_date <= :onDate \n" +
+            "    AND (hl.to_date IS NULL OR hl.to_date > :onDate) \n" +
             "INNER JOIN households h ON y.household_id = h.id\n",
             nativeQuery =  true)
     List<Household> loadHouseholdsWithoutInhabitantsInLocations(@NonNull LocalDate onDate);
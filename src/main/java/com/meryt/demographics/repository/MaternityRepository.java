@@ -1,10 +1,26 @@
 package com.meryt.demographics.repository;
 
+import java.time.LocalDate;
+import javax.annotation.Nullable;
+import lombok.NonNull;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.meryt.demographics.domain.person.fertility.Maternity;
 
 @Repository
 public interface MaternityRepository extends CrudRepository<Maternity, Long> {
+
+    /**
+     * Gets the earliest next event date strictly after the given date, for women who are still expected to be living
+     * on it and who may conceive or are pregnant, or null if there are none.
+     */
+    @Nullable
+    @Query("SELECT MIN(m.nextEventDate) FROM Maternity m " +
+            "WHERE m.nextEventDate > :afterDate " +
+            "AND m.person.deathDate >= m.nextEventDate " +
+            "AND (m.conceptionDate IS NOT NULL OR (m.father IS NOT NULL AND m.havingRelations = TRUE))")
+    LocalDate findNextEventDateAfter(@Param("afterDate") @NonNull LocalDate afterDate);
 }
@@ -19,8 +19,24 @@ public interface PersonRepository extends PagingAndSortingRepository<Person, Lon
 
     List<Person> findByDeathDate(LocalDate deathDate);
 
+    /**
+     * Gets the earliest death date strictly after the given date, or null if nobody dies after it.
+     */
+    @Nullable
+    @Query("SELECT MIN(p.deathDate) FROM Person p WHERE p.deathDate > :afterDate")
+    LocalDate findNextDeathDateAfter(@Param("afterDate") @NonNull LocalDate afterDate);
+
     List<Person> findByFounderTrueOrderByBirthDate();
 
+    /**
+     * Gets the highest ID of anyone, or 0 if there is nobody. IDs come from a sequence, so anyone with a higher ID was
+     * added later.
+     */
+    @Query("SELECT COALESCE(MAX(p.id), 0) FROM Person p")
+    long findMaxId();
+
+    List<Person> findByIdGreaterThanOrderById(long id);
+
     List<Person> findByStoryCharacterIsTrue();
 
     @Query("SELECT p from Person p " +
@@ -87,6 +103,39 @@ public interface PersonRepository extends PagingAndSortingRepository<Person, Lon
                                       @Param("maxBirthDate") @Nullable LocalDate maxBirthDate,
                                       @Param("minAgeAtDeath") @NonNull Integer minAgeAtDeath);
 
+    /**
+     * Gets everyone who may be found by findPotentialSpouses on this date when looking for someone to marry that day,
+     * so that they can be indexed in memory. Only women of a marriageable age and men old enough to marry are loaded.
+     *
+     * @param minWifeBirthDate the earliest birth date of a woman who is not too old to marry on the date
+     * @param maxWifeBirthDate the latest birth date of a woman who is old enough to marry on the date
+     * @param maxHusbandBirthDate the latest birth date of a man who is old enough to marry on the date
+     */
+    @Query("SELECT p FROM Person p " +
+            "WHERE (p.motheredFamilies IS EMPTY OR (SIZE(p.motheredFamilies) = 1)) " +
+            "AND p.fatheredFamilies IS EMPTY " +
+            "AND ((p.gender = 'FEMALE' AND p.birthDate >= :minWifeBirthDate AND p.birthDate <= :maxWifeBirthDate) " +
+            "    OR (p.gender = 'MALE' AND p.birthDate <= :maxHusbandBirthDate)) " +
+            "AND p.birthDate < :aliveOnDate " +
+            "AND p.deathDate > :aliveOnDate " +
+            "AND p.finishedGeneration = FALSE " +
+            "AND p.storyCharacter = FALSE " +
+            "ORDER BY p.birthDate")
+    List<Person> findMarriageMarket(@Param("aliveOnDate") @NonNull LocalDate aliveOnDate,
+                                    @Param("minWifeBirthDate") @NonNull LocalDate minWifeBirthDate,
+                                    @Param("maxWifeBirthDate") @NonNull LocalDate maxWifeBirthDate,
+                                    @Param("maxHusbandBirthDate") @NonNull LocalDate maxHusbandBirthDate);
+
+    /**
+     * Gets the ID of every person with the IDs of their father and mother (either may be null), for building the
+     * in-memory pedigree graph
+     */
+    @Query("SELECT p.id, h.id, w.id FROM Person p " +
+            "LEFT JOIN p.family f " +
+            "LEFT JOIN f.husband h " +
+            "LEFT JOIN f.wife w")
+    List<Object[]> findAllParentIds();
+
     @Query("SELECT p FROM Person p " +
             "WHERE (:gender IS NULL OR p.gender = :gender) " +
             "AND (p.fatheredFamilies IS EMPTY OR NOT EXISTS " +
@@ -125,17 +174,24 @@ public interface PersonRepository extends PagingAndSortingRepository<Person, Lon
     List<Person> findUnfinishedNonResidents(@Param("gender") @Nullable Gender gender);
 
     /**
-     * Gets all women who are living on or before this date and whose last check day is on or before this date
+     * Gets all women who are living on or before this date, whose last check day is on or before this date, and who
+     * may conceive, miscarry or give birth by this date. Their maternities, families, and the fathers and their
+     * paternities are fetched along with them, so that their days can be checked without going back to the database.
      * @param checkDate the date the check should be done. Will find women whose last check day was well before this
      *                  date, not only 1 day behind
      * @return a list of women, possibly empty
      */
     @NonNull
     @Query("SELECT p from Person p " +
+            "JOIN FETCH p.maternity m " +
+            "LEFT JOIN FETCH m.father f " +
+            "LEFT JOIN FETCH f.paternity " +
+            "LEFT JOIN FETCH p.motheredFamilies " +
             "WHERE p.gender = 'FEMALE' " +
-            "AND p.maternity.lastCheckDate < :check_date " +
-            "AND p.deathDate > p.maternity.lastCheckDate " +
-            "AND (p.maternity.conceptionDate IS NOT NULL OR (p.maternity.father IS NOT NULL AND p.maternity.havingRelations = TRUE)) " +
+            "AND m.lastCheckDate < :check_date " +
+            "AND m.nextEventDate <= :check_date " +
+            "AND p.deathDate > m.lastCheckDate " +
+            "AND (m.conceptionDate IS NOT NULL OR (m.father IS NOT NULL AND m.havingRelations = TRUE)) " +
             "AND YEAR(CAST(:check_date AS date)) - YEAR(p.birthDate) >= 13 " +
             "AND YEAR(CAST(:check_date AS date)) - YEAR(p.birthDate) <= 55 " +
             "ORDER BY p.birthDate")
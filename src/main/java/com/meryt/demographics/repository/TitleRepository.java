@@ -2,8 +2,10 @@ package com.meryt.demographics.repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import javax.annotation.Nullable;
 import lombok.NonNull;
 
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
@@ -16,4 +18,11 @@ public interface TitleRepository extends PagingAndSortingRepository<Title, Long>
     List<Title> findAllByOrderByNameAsc();
 
     List<Title> findAllByNextAbeyanceCheckDateIsLessThanEqualAndExtinctIsFalse(@NonNull LocalDate date);
+
+    /**
+     * Gets the earliest abeyance check date of any title that is not extinct, or null if no title needs checking.
+     */
+    @Nullable
+    @Query("SELECT MIN(t.nextAbeyanceCheckDate) FROM Title t WHERE t.extinct = FALSE")
+    LocalDate findNextAbeyanceCheckDate();
 }
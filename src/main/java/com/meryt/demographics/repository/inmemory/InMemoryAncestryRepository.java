@@ -0,0 +1,351 @@
+package com.meryt.demographics.repository.inmemory;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.meryt.demographics.collection.LongHashSet;
+import com.meryt.demographics.domain.family.AncestryDiscrepancy;
+import com.meryt.demographics.domain.family.AncestryRecord;
+import com.meryt.demographics.domain.family.Family;
+import com.meryt.demographics.domain.family.LeastCommonAncestorRelationship;
+import com.meryt.demographics.domain.person.Person;
+import com.meryt.demographics.repository.AncestryRepository;
+import com.meryt.demographics.repository.PersonRepository;
+
+/**
+ * Computes ancestry by walking the family tree of loaded persons, rather than reading a closure table. The results
+ * have the same shape as those of the ancestry table and the least_common_ancestors view: "via" lists the IDs of the
+ * people between the ancestor and the descendant, from the ancestor down, and a person is their own ancestor at
+ * distance 0.
+ */
+@Repository
+@Profile("inmemory")
+@Transactional(readOnly = true)
+public class InMemoryAncestryRepository implements AncestryRepository {
+
+    private final PersonRepository personRepository;
+
+    public InMemoryAncestryRepository(@Autowired @NonNull PersonRepository personRepository) {
+        this.personRepository = personRepository;
+    }
+
+    @Override
+    @NonNull
+    public List<AncestryRecord> getDescendants(long personId) {
+        Person person = personRepository.findById(personId).orElse(null);
+        if (person == null) {
+            return Collections.emptyList();
+        }
+        List<AncestryRecord> results = new ArrayList<>();
+        for (Map.Entry<Long, Lineage> entry : descendantsOf(person).entrySet()) {
+            if (entry.getKey() == personId) {
+                continue;
+            }
+            Lineage lineage = entry.getValue();
+            AncestryRecord rec = new AncestryRecord();
+            rec.setAncestorId(personId);
+            rec.setDescendantId(entry.getKey());
+            rec.setVia(lineage.getVia());
+            rec.setDistance(lineage.distance);
+            results.add(rec);
+        }
+        // The same order as the SQL query, in which a null via sorts last
+        results.sort(Comparator.comparing(AncestryRecord::getDistance)
+                .thenComparing(AncestryRecord::getVia, Comparator.nullsLast(Arrays::compare))
+                .thenComparing(AncestryRecord::getDescendantId));
+        return results;
+    }
+
+    @Override
+    @NonNull
+    public List<LeastCommonAncestorRelationship> getRelatives(long personId, @Nullable Long maxDistance) {
+        return findRelatives(personId, maxDistance, null);
+    }
+
+    @Override
+    @NonNull
+    public List<LeastCommonAncestorRelationship> getLivingRelatives(long personId,
+                                                                    @NonNull LocalDate onDate,
+                                                                    @Nullable Long maxDistance) {
+        return findRelatives(personId, maxDistance, onDate);
+    }
+
+    @Override
+    @NonNull
+    public LongHashSet getTooCloselyRelatedPeople(long personId,
+                                                  @NonNull List<Long> otherPeopleIds,
+                                                  int minDegreeSeparation) {
+        LongHashSet results = new LongHashSet();
+        Person person = personRepository.findById(personId).orElse(null);
+        if (person == null || otherPeopleIds.isEmpty()) {
+            return results;
+        }
+        Map<Long, Lineage> ancestors = ancestorsOf(person);
+        for (Long otherId : otherPeopleIds) {
+            if (results.contains(otherId)) {
+                continue;
+            }
+            Person other = personRepository.findById(otherId).orElse(null);
+            if (other == null) {
+                continue;
+            }
+            LeastCommonAncestorRelationship rel = leastCommonAncestor(personId, ancestors, otherId, ancestorsOf(other));
+            if (rel != null && rel.getDistance() <= minDegreeSeparation) {
+                results.add(otherId);
+            }
+        }
+        return results;
+    }
+
+    @Override
+    @Nullable
+    public LeastCommonAncestorRelationship getLeastCommonAncestorInfo(long person1Id, long person2Id) {
+        Person person1 = personRepository.findById(person1Id).orElse(null);
+        Person person2 = personRepository.findById(person2Id).orElse(null);
+        if (person1 == null || person2 == null) {
+            return null;
+        }
+        return leastCommonAncestor(person1Id, ancestorsOf(person1), person2Id, ancestorsOf(person2));
+    }
+
+    @Override
+    @NonNull
+    public Map<Long, LeastCommonAncestorRelationship> getLeastCommonAncestorInfoToPerson(
+            @NonNull Collection<Long> otherPeopleIds,
+            long personId) {
+        Map<Long, LeastCommonAncestorRelationship> results = new HashMap<>();
+        Person person = personRepository.findById(personId).orElse(null);
+        if (person == null) {
+            return results;
+        }
+        Map<Long, Lineage> personAncestors = ancestorsOf(person);
+        for (Long otherId : otherPeopleIds) {
+            Person other = personRepository.findById(otherId).orElse(null);
+            if (other == null) {
+                continue;
+            }
+            LeastCommonAncestorRelationship rel = leastCommonAncestor(otherId, ancestorsOf(other), personId,
+                    personAncestors);
+            if (rel != null) {
+                results.put(otherId, rel);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Does nothing, since there is no stored closure to rebuild.
+     */
+    @Override
+    public void updateAncestryTable() {
+        // ancestry is computed on demand
+    }
+
+    /**
+     * Does nothing, since there is no stored closure to repair.
+     */
+    @Override
+    public int repairAncestry(@NonNull Collection<Long> personIds) {
+        return 0;
+    }
+
+    /**
+     * Finds nothing, since ancestry computed on demand always matches the families.
+     */
+    @Override
+    @NonNull
+    public List<AncestryDiscrepancy> verifyAncestry(int maxResults) {
+        return Collections.emptyList();
+    }
+
+    @NonNull
+    private List<LeastCommonAncestorRelationship> findRelatives(long personId,
+                                                                @Nullable Long maxDistance,
+                                                                @Nullable LocalDate onDate) {
+        Person person = personRepository.findById(personId).orElse(null);
+        if (person == null) {
+            return Collections.emptyList();
+        }
+        Map<Long, LeastCommonAncestorRelationship> closest = new HashMap<>();
+        for (Map.Entry<Long, Lineage> ancestor : ancestorsOf(person).entrySet()) {
+            Lineage upward = ancestor.getValue();
+            for (Map.Entry<Long, Lineage> descendant : descendantsOf(upward.person).entrySet()) {
+                long relativeId = descendant.getKey();
+                Lineage downward = descendant.getValue();
+                if (relativeId == personId
+                        || (maxDistance != null && upward.distance + downward.distance > maxDistance)
+                        || (onDate != null && !isLiving(downward.person, onDate))) {
+                    continue;
+                }
+                LeastCommonAncestorRelationship existing = closest.get(relativeId);
+                if (existing == null || existing.getDistance() > upward.distance + downward.distance) {
+                    closest.put(relativeId, toRelationship(personId, relativeId, ancestor.getKey(), upward, downward));
+                }
+            }
+        }
+        return closest.values().stream()
+                .sorted(Comparator.comparing(LeastCommonAncestorRelationship::getDistance))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Mirrors the living check in the SQL queries, which requires a known death date after the date
+     */
+    private static boolean isLiving(@NonNull Person person, @NonNull LocalDate onDate) {
+        return person.getBirthDate() != null
+                && !person.getBirthDate().isAfter(onDate)
+                && person.getDeathDate() != null
+                && person.getDeathDate().isAfter(onDate);
+    }
+
+    @Nullable
+    private static LeastCommonAncestorRelationship leastCommonAncestor(long person1Id,
+                                                                       @NonNull Map<Long, Lineage> person1Ancestors,
+                                                                       long person2Id,
+                                                                       @NonNull Map<Long, Lineage> person2Ancestors) {
+        LeastCommonAncestorRelationship best = null;
+        for (Map.Entry<Long, Lineage> entry : person2Ancestors.entrySet()) {
+            Lineage upward = person1Ancestors.get(entry.getKey());
+            if (upward == null) {
+                continue;
+            }
+            Lineage downward = entry.getValue();
+            if (best == null
+                    || best.getDistance() > upward.distance + downward.distance
+                    || (best.getDistance() == upward.distance + downward.distance
+                        && best.getSubject1Distance() > upward.distance)) {
+                best = toRelationship(person1Id, person2Id, entry.getKey(), upward, downward);
+            }
+        }
+        return best;
+    }
+
+    private static LeastCommonAncestorRelationship toRelationship(long subject1,
+                                                                  long subject2,
+                                                                  long ancestorId,
+                                                                  @NonNull Lineage subject1Lineage,
+                                                                  @NonNull Lineage subject2Lineage) {
+        LeastCommonAncestorRelationship rel = new LeastCommonAncestorRelationship();
+        rel.setSubject1(subject1);
+        rel.setSubject2(subject2);
+        rel.setLeastCommonAncestor(ancestorId);
+        rel.setSubject1Via(subject1Lineage.getVia());
+        rel.setSubject1Distance(subject1Lineage.distance);
+        rel.setSubject2Via(subject2Lineage.getVia());
+        rel.setSubject2Distance(subject2Lineage.distance);
+        return rel;
+    }
+
+    /**
+     * Walks up the tree breadth-first, so that each ancestor is reached by its shortest line of descent
+     *
+     * @return a map of ancestor ID to the line from that ancestor down to the person, including the person at
+     * distance 0
+     */
+    @NonNull
+    private static Map<Long, Lineage> ancestorsOf(@NonNull Person person) {
+        Map<Long, Lineage> results = new LinkedHashMap<>();
+        Deque<Lineage> queue = new ArrayDeque<>();
+        Lineage self = new Lineage(person, 0, Collections.emptyList());
+        results.put(person.getId(), self);
+        queue.add(self);
+        while (!queue.isEmpty()) {
+            Lineage current = queue.poll();
+            List<Long> via = new ArrayList<>();
+            if (current.distance > 0) {
+                via.add(current.person.getId());
+                via.addAll(current.via);
+            }
+            for (Person parent : parentsOf(current.person)) {
+                if (!results.containsKey(parent.getId())) {
+                    Lineage lineage = new Lineage(parent, current.distance + 1, via);
+                    results.put(parent.getId(), lineage);
+                    queue.add(lineage);
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Walks down the tree breadth-first, so that each descendant is reached by its shortest line of descent
+     *
+     * @return a map of descendant ID to the line from the person down to that descendant, including the person at
+     * distance 0
+     */
+    @NonNull
+    private static Map<Long, Lineage> descendantsOf(@NonNull Person person) {
+        Map<Long, Lineage> results = new LinkedHashMap<>();
+        Deque<Lineage> queue = new ArrayDeque<>();
+        Lineage self = new Lineage(person, 0, Collections.emptyList());
+        results.put(person.getId(), self);
+        queue.add(self);
+        while (!queue.isEmpty()) {
+            Lineage current = queue.poll();
+            List<Long> via = new ArrayList<>(current.via);
+            if (current.distance > 0) {
+                via.add(current.person.getId());
+            }
+            for (Family family : current.person.getFamilies()) {
+                for (Person child : family.getChildren()) {
+                    if (!results.containsKey(child.getId())) {
+                        Lineage lineage = new Lineage(child, current.distance + 1, via);
+                        results.put(child.getId(), lineage);
+                        queue.add(lineage);
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    @NonNull
+    private static List<Person> parentsOf(@NonNull Person person) {
+        List<Person> parents = new ArrayList<>(2);
+        if (person.getFather() != null) {
+            parents.add(person.getFather());
+        }
+        if (person.getMother() != null) {
+            parents.add(person.getMother());
+        }
+        return parents;
+    }
+
+    /**
+     * A person reached while walking the tree, with their distance from the starting person and the IDs of the people
+     * in between, ordered from the ancestor down
+     */
+    private static class Lineage {
+        private final Person person;
+        private final int distance;
+        private final List<Long> via;
+
+        private Lineage(@NonNull Person person, int distance, @NonNull List<Long> via) {
+            this.person = person;
+            this.distance = distance;
+            this.via = via;
+        }
+
+        @Nullable
+        private long[] getVia() {
+            return via.isEmpty() ? null : via.stream().mapToLong(Long::longValue).toArray();
+        }
+    }
+}
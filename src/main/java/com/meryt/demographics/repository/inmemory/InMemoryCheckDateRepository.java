@@ -0,0 +1,31 @@
+package com.meryt.demographics.repository.inmemory;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.Nullable;
+import lombok.NonNull;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import com.meryt.demographics.repository.CheckDateRepository;
+
+/**
+ * Keeps the current date in memory. It starts out unset, like an empty check_date table.
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryCheckDateRepository implements CheckDateRepository {
+
+    private final AtomicReference<LocalDate> currentDate = new AtomicReference<>();
+
+    @Override
+    @Nullable
+    public LocalDate getCurrentDate() {
+        return currentDate.get();
+    }
+
+    @Override
+    public void setCurrentDate(@NonNull LocalDate date) {
+        currentDate.set(date);
+    }
+}
@@ -0,0 +1,62 @@
+package com.meryt.demographics.repository.inmemory;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import com.meryt.demographics.repository.CheckDateRepository;
+import com.meryt.demographics.repository.ConfigurationRepository;
+
+@Repository
+@Profile("inmemory")
+public class InMemoryConfigurationRepository implements ConfigurationRepository {
+
+    private static final String LAST_CHECK_DATE_KEY = "last_check_date";
+
+    private final CheckDateRepository checkDateRepository;
+
+    /**
+     * ConcurrentHashMap does not allow null values, so null values are stored as absent keys that are listed here
+     */
+    private final Map<String, String> values = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> nullKeys = new ConcurrentHashMap<>();
+
+    public InMemoryConfigurationRepository(@Autowired @NonNull CheckDateRepository checkDateRepository) {
+        this.checkDateRepository = checkDateRepository;
+    }
+
+    @Override
+    public void setValue(@NonNull String key, @Nullable String value) {
+        if (values.containsKey(key) || nullKeys.containsKey(key)) {
+            upsertValue(key, value);
+        }
+    }
+
+    @Override
+    public void upsertValue(@NonNull String key, @Nullable String value) {
+        if (value == null) {
+            values.remove(key);
+            nullKeys.put(key, true);
+        } else {
+            nullKeys.remove(key);
+            values.put(key, value);
+        }
+    }
+
+    @Override
+    public Map<String, String> getAllConfiguration() {
+        Map<String, String> results = new HashMap<>(values);
+        nullKeys.keySet().forEach(key -> results.put(key, null));
+        LocalDate currentDate = checkDateRepository.getCurrentDate();
+        if (currentDate != null) {
+            results.put(LAST_CHECK_DATE_KEY, currentDate.toString());
+        }
+        return results;
+    }
+}
@@ -0,0 +1,58 @@
+package com.meryt.demographics.repository.inmemory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.meryt.demographics.domain.person.Gender;
+import com.meryt.demographics.repository.LifeTableRepository;
+
+/**
+ * Loads each life table once and keeps its lx values in memory.
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryLifeTableRepository implements LifeTableRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Map<String, double[]> lxValues = new ConcurrentHashMap<>();
+
+    public InMemoryLifeTableRepository(@Autowired NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public double[] getLxValues(@NonNull String period, @Nullable Gender gender) {
+        String column = "total_living";
+        if (gender != null) {
+            column = gender == Gender.MALE ? "male_living" : "female_living";
+        }
+        double[] values = lxValues.computeIfAbsent(period + "." + column, k -> loadLxValues(period, k));
+        return values.clone();
+    }
+
+    private double[] loadLxValues(@NonNull String period, @NonNull String key) {
+        String column = key.substring(key.indexOf('.') + 1);
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("period", period);
+        List<Long> living = jdbcTemplate.queryForList(
+                String.format("SELECT %s FROM life_table WHERE period = :period ORDER BY age", column),
+                params, Long.class);
+        double[] values = new double[living.size()];
+        if (living.isEmpty()) {
+            return values;
+        }
+        double radix = living.get(0);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = living.get(i) / radix;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,203 @@
+package com.meryt.demographics.repository.inmemory;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.meryt.demographics.domain.person.FirstName;
+import com.meryt.demographics.domain.person.Gender;
+import com.meryt.demographics.domain.person.LastName;
+import com.meryt.demographics.generator.random.Randomness;
+import com.meryt.demographics.repository.NameRepository;
+import com.meryt.demographics.rest.BadRequestException;
+
+/**
+ * Holds all names in memory and picks from them with the simulation's own random streams, so names are reproducible
+ * for a given seed. Follows the same rules as the random-first-name query: a name is chosen from the period containing
+ * the date, or else the latest period before it, or else the earliest period.
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryNameRepository implements NameRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private volatile List<FirstName> firstNames;
+    private volatile List<LastName> lastNames;
+
+    /**
+     * The candidate names and their cumulative weights, keyed by gender, cultures and period start date
+     */
+    private final Map<List<Object>, WeightedNames> weightedNamesCache = new ConcurrentHashMap<>();
+
+    public InMemoryNameRepository(@Autowired NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @NonNull
+    public FirstName randomFirstNameObject(@NonNull Gender gender,
+                                           @Nullable Set<String> excludeNames,
+                                           @Nullable LocalDate onDate,
+                                           @Nullable Set<String> cultures) {
+        List<FirstName> matching = getFirstNames().stream()
+                .filter(n -> n.getGender() == gender && isInCultures(n.getCulture(), cultures))
+                .collect(Collectors.toList());
+        LocalDate periodDate = getBestPeriodDate(matching, onDate);
+        if (periodDate == null) {
+            throw new BadRequestException("No first name found for gender " + gender + " and cultures " + cultures);
+        }
+
+        WeightedNames names = weightedNamesCache.computeIfAbsent(
+                List.of(gender, cultures == null ? Collections.emptySet() : Set.copyOf(cultures), periodDate),
+                k -> new WeightedNames(matching.stream()
+                        .filter(n -> isInPeriod(n, periodDate))
+                        .collect(Collectors.toList())));
+
+        if (excludeNames != null && names.names.stream().allMatch(n -> excludeNames.contains(n.getName()))) {
+            throw new BadRequestException("Every first name for gender " + gender + " has been excluded");
+        }
+        FirstName firstName;
+        do {
+            firstName = names.random();
+        } while (excludeNames != null && excludeNames.contains(firstName.getName()));
+        return copy(firstName);
+    }
+
+    @Override
+    @NonNull
+    public String randomFirstName(@NonNull Gender gender,
+                                  @Nullable Set<String> excludeNames,
+                                  @Nullable LocalDate onDate,
+                                  @Nullable Set<String> cultures) {
+        return randomFirstNameObject(gender, excludeNames, onDate, cultures).getName();
+    }
+
+    @Override
+    @NonNull
+    public LastName randomLastNameObject(@Nullable Set<String> cultures) {
+        List<LastName> matching = getLastNames().stream()
+                .filter(n -> isInCultures(n.getCulture(), cultures))
+                .collect(Collectors.toList());
+        if (matching.isEmpty()) {
+            throw new BadRequestException("No last name found for cultures " + cultures);
+        }
+        LastName lastName = matching.get(Randomness.nextInt(matching.size()));
+        return new LastName(lastName.getName(), lastName.getCulture());
+    }
+
+    @Override
+    @NonNull
+    public String randomLastName(@Nullable Set<String> cultures) {
+        return randomLastNameObject(cultures).getName();
+    }
+
+    /**
+     * Gets the date on which to look for names: the date itself if some name is in use on it, else the start of the
+     * latest period before it, else the start of the earliest period.
+     */
+    @Nullable
+    private static LocalDate getBestPeriodDate(@NonNull List<FirstName> names, @Nullable LocalDate onDate) {
+        if (onDate != null) {
+            if (names.stream().anyMatch(n -> isInPeriod(n, onDate))) {
+                return onDate;
+            }
+            LocalDate latestBefore = names.stream()
+                    .map(FirstName::getFromDate)
+                    .filter(d -> d.isBefore(onDate))
+                    .max(LocalDate::compareTo)
+                    .orElse(null);
+            if (latestBefore != null) {
+                return latestBefore;
+            }
+        }
+        return names.stream().map(FirstName::getFromDate).min(LocalDate::compareTo).orElse(null);
+    }
+
+    private static boolean isInPeriod(@NonNull FirstName name, @NonNull LocalDate date) {
+        return !name.getFromDate().isAfter(date) && name.getToDate().isAfter(date);
+    }
+
+    private static boolean isInCultures(@NonNull String culture, @Nullable Set<String> cultures) {
+        return cultures == null || cultures.isEmpty() || cultures.contains(culture);
+    }
+
+    private static FirstName copy(@NonNull FirstName name) {
+        return new FirstName(name.getName(), name.getGender(), name.getRank(), name.getWeight(), name.getCulture(),
+                name.getFromDate(), name.getToDate());
+    }
+
+    private List<FirstName> getFirstNames() {
+        if (firstNames == null) {
+            synchronized (this) {
+                if (firstNames == null) {
+                    firstNames = jdbcTemplate.query(
+                            "SELECT name, gender, rank, weight, culture, from_date, to_date FROM names_first " +
+                                    "ORDER BY name, from_date",
+                            Collections.emptyMap(),
+                            (rs, rowNum) -> new FirstName(
+                                    rs.getString("name"),
+                                    Gender.from(rs.getString("gender")),
+                                    rs.getInt("rank"),
+                                    rs.getDouble("weight"),
+                                    rs.getString("culture"),
+                                    rs.getDate("from_date").toLocalDate(),
+                                    rs.getDate("to_date").toLocalDate()));
+                }
+            }
+        }
+        return firstNames;
+    }
+
+    private List<LastName> getLastNames() {
+        if (lastNames == null) {
+            synchronized (this) {
+                if (lastNames == null) {
+                    lastNames = jdbcTemplate.query("SELECT name, culture FROM names_last ORDER BY name, culture",
+                            Collections.emptyMap(),
+                            (rs, rowNum) -> new LastName(rs.getString("name"), rs.getString("culture")));
+                }
+            }
+        }
+        return lastNames;
+    }
+
+    /**
+     * A set of names from which one can be picked in proportion to its weight
+     */
+    private static class WeightedNames {
+        private final List<FirstName> names;
+        private final double[] cumulativeWeights;
+
+        WeightedNames(@NonNull List<FirstName> names) {
+            this.names = new ArrayList<>(names);
+            this.cumulativeWeights = new double[names.size()];
+            double total = 0;
+            for (int i = 0; i < names.size(); i++) {
+                total += names.get(i).getWeight();
+                cumulativeWeights[i] = total;
+            }
+        }
+
+        FirstName random() {
+            double value = Randomness.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+            int index = Arrays.binarySearch(cumulativeWeights, value);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            return names.get(Math.min(index, names.size() - 1));
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.meryt.demographics.repository.inmemory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import lombok.NonNull;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.meryt.demographics.domain.place.DwellingPlace;
+import com.meryt.demographics.domain.place.DwellingPlaceType;
+import com.meryt.demographics.generator.random.Randomness;
+import com.meryt.demographics.repository.DwellingPlaceRepository;
+import com.meryt.demographics.repository.TownTemplateRepository;
+
+/**
+ * Keeps the town map templates in memory, and checks which maps and house polygons are in use against the loaded
+ * dwelling places.
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryTownTemplateRepository implements TownTemplateRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DwellingPlaceRepository dwellingPlaceRepository;
+
+    private volatile Templates templates;
+
+    public InMemoryTownTemplateRepository(@Autowired NamedParameterJdbcTemplate jdbcTemplate,
+                                          @Autowired @NonNull DwellingPlaceRepository dwellingPlaceRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dwellingPlaceRepository = dwellingPlaceRepository;
+    }
+
+    @Override
+    @NonNull
+    public String getUnusedMapId(boolean isEngland) {
+        Set<String> usedMapIds = dwellingPlaceRepository.findByType(DwellingPlaceType.TOWN).stream()
+                .map(DwellingPlace::getMapId)
+                .filter(id -> id != null)
+                .collect(Collectors.toSet());
+        List<String> candidates = (isEngland ? getTemplates().englandMapIds : getTemplates().scotlandMapIds).stream()
+                .filter(id -> !usedMapIds.contains(id))
+                .collect(Collectors.toList());
+        if (candidates.isEmpty()) {
+            throw new IllegalStateException("No unused town maps remain for " + (isEngland ? "England" : "Scotland"));
+        }
+        return candidates.get(Randomness.nextInt(candidates.size()));
+    }
+
+    @Override
+    @Nullable
+    public Pair<String, Double> getClosestAvailablePolygonForMapId(@NonNull String mapId, double desiredValue) {
+        List<Pair<String, Integer>> polygons = getTemplates().polygonsByMapId.getOrDefault(mapId,
+                Collections.emptyList());
+        Set<String> usedPolygonIds = dwellingPlaceRepository.findByType(DwellingPlaceType.TOWN).stream()
+                .filter(town -> mapId.equals(town.getMapId()))
+                .flatMap(town -> town.getDwellingPlaces().stream())
+                .filter(DwellingPlace::isHouse)
+                .map(DwellingPlace::getMapId)
+                .filter(id -> id != null)
+                .collect(Collectors.toSet());
+
+        Pair<String, Integer> below = null;
+        Pair<String, Integer> above = null;
+        for (Pair<String, Integer> polygon : polygons) {
+            if (usedPolygonIds.contains(polygon.getLeft())) {
+                continue;
+            }
+            int value = polygon.getRight();
+            if (value <= desiredValue && (below == null || value > below.getRight())) {
+                below = polygon;
+            }
+            if (value >= desiredValue && (above == null || value < above.getRight())) {
+                above = polygon;
+            }
+        }
+        Pair<String, Integer> result = below != null ? below : above;
+        return result == null ? null : Pair.of(result.getLeft(), result.getRight().doubleValue());
+    }
+
+    private Templates getTemplates() {
+        if (templates == null) {
+            synchronized (this) {
+                if (templates == null) {
+                    templates = loadTemplates();
+                }
+            }
+        }
+        return templates;
+    }
+
+    private Templates loadTemplates() {
+        Templates loaded = new Templates();
+        jdbcTemplate.query("SELECT town_map_id, valid_england, valid_scotland FROM town_templates " +
+                "ORDER BY town_map_id", Collections.emptyMap(), (RowCallbackHandler) rs -> {
+            if (rs.getBoolean("valid_england")) {
+                loaded.englandMapIds.add(rs.getString("town_map_id"));
+            }
+            if (rs.getBoolean("valid_scotland")) {
+                loaded.scotlandMapIds.add(rs.getString("town_map_id"));
+            }
+        });
+        jdbcTemplate.query("SELECT town_map_id, polygon_id, polygon_value FROM town_house_templates " +
+                "ORDER BY town_map_id, polygon_id", Collections.emptyMap(), (RowCallbackHandler) rs -> {
+            loaded.polygonsByMapId.computeIfAbsent(rs.getString("town_map_id"), k -> new ArrayList<>())
+                    .add(Pair.of(rs.getString("polygon_id"), rs.getInt("polygon_value")));
+        });
+        return loaded;
+    }
+
+    private static class Templates {
+        private final List<String> englandMapIds = new ArrayList<>();
+        private final List<String> scotlandMapIds = new ArrayList<>();
+        private final Map<String, List<Pair<String, Integer>>> polygonsByMapId = new HashMap<>();
+    }
+}
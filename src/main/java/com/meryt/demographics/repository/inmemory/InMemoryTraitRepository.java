@@ -0,0 +1,71 @@
+package com.meryt.demographics.repository.inmemory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.meryt.demographics.domain.person.Trait;
+import com.meryt.demographics.generator.random.Randomness;
+import com.meryt.demographics.repository.TraitRepository;
+
+@Repository
+@Profile("inmemory")
+public class InMemoryTraitRepository implements TraitRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private volatile List<Trait> traits;
+
+    public InMemoryTraitRepository(@Autowired NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @NonNull
+    public List<Trait> randomTraits(int num) {
+        if (num <= 0) {
+            return new ArrayList<>();
+        }
+        List<Trait> allTraits = getTraits();
+        // Partial Fisher-Yates shuffle over the indexes, so that the picks are distinct
+        int[] indexes = new int[allTraits.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = i;
+        }
+        int count = Math.min(num, indexes.length);
+        List<Trait> results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int j = i + Randomness.nextInt(indexes.length - i);
+            int swap = indexes[i];
+            indexes[i] = indexes[j];
+            indexes[j] = swap;
+            results.add(copy(allTraits.get(indexes[i])));
+        }
+        return results;
+    }
+
+    private static Trait copy(@NonNull Trait trait) {
+        Trait copy = new Trait();
+        copy.setId(trait.getId());
+        copy.setRating(trait.getRating());
+        copy.setName(trait.getName());
+        return copy;
+    }
+
+    private List<Trait> getTraits() {
+        if (traits == null) {
+            synchronized (this) {
+                if (traits == null) {
+                    traits = jdbcTemplate.query("SELECT id, rating, name FROM traits ORDER BY id",
+                            Collections.emptyMap(), new BeanPropertyRowMapper<>(Trait.class));
+                }
+            }
+        }
+        return traits;
+    }
+}
@@ -0,0 +1,271 @@
+package com.meryt.demographics.repository.jdbc;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.meryt.demographics.collection.LongHashSet;
+import com.meryt.demographics.domain.family.AncestryDiscrepancy;
+import com.meryt.demographics.domain.family.AncestryRecord;
+import com.meryt.demographics.domain.family.LeastCommonAncestorRelationship;
+import com.meryt.demographics.repository.AncestryRepository;
+import com.meryt.demographics.repository.rowmappers.LeastCommonAncestorRelationshipMapper;
+
+@Repository
+@Profile("!inmemory")
+public class JdbcAncestryRepository implements AncestryRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcAncestryRepository(@Autowired NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @NonNull
+    public List<AncestryRecord> getDescendants(long personId) {
+        String query = "SELECT ancestor_id, descendant_id, via, distance FROM ancestry " +
+                "WHERE ancestor_id = :ancestor " +
+                "AND ancestor_id != descendant_id " +
+                "ORDER BY distance, via, descendant_id";
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("ancestor", personId);
+        try {
+            return jdbcTemplate.query(query, params, (rs, rowNum) -> {
+                AncestryRecord rec = new AncestryRecord();
+                rec.setAncestorId(rs.getLong("ancestor_id"));
+                rec.setDescendantId(rs.getLong("descendant_id"));
+                rec.setVia(LeastCommonAncestorRelationshipMapper.getIds(rs, "via"));
+                rec.setDistance(rs.getInt("distance"));
+                return rec;
+            });
+        } catch (EmptyResultDataAccessException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Gets all persons related to this person, living or dead
+     * @param personId the person (will be subject1 in the results
+     * @return 0 or more relationship records (the record relating a person to himself is not included)
+     */
+    @Override
+    @NonNull
+    public List<LeastCommonAncestorRelationship> getRelatives(long personId, @Nullable Long maxDistance) {
+        String query =
+                "WITH rels AS (" +
+                        "SELECT DISTINCT ON (subject_2) *, " +
+                        "(subject_1_distance + subject_2_distance) AS distance " +
+                        "FROM least_common_ancestors " +
+                        "WHERE subject_1 = :personId " +
+                        "AND subject_2 != :personId " +
+                        "AND (:maxDistance IS NULL OR (subject_1_distance + subject_2_distance <= :maxDistance)) " +
+                        "ORDER BY subject_2, (subject_1_distance + subject_2_distance)) " +
+                        "SELECT * FROM rels ORDER BY distance; ";
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("personId", personId);
+        params.addValue("maxDistance", maxDistance);
+        try {
+            return jdbcTemplate.query(query, params, new LeastCommonAncestorRelationshipMapper());
+        } catch (EmptyResultDataAccessException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Gets all persons related to this person, living on the given date
+     * @param personId the person (will be subject1 in the results
+     * @param onDate the date used to determine whether the person is living
+     * @return 0 or more relationship records (the record relating a person to himself is not included)
+     */
+    @Override
+    @NonNull
+    public List<LeastCommonAncestorRelationship> getLivingRelatives(long personId,
+                                                                    @NonNull LocalDate onDate,
+                                                                    @Nullable Long maxDistance) {
+        String query =
+                "WITH relas AS (" +
+                        "SELECT DISTINCT ON (lca.subject_2) lca.*, " +
+                        "(lca.subject_1_distance + lca.subject_2_distance) AS distance " +
+                        "FROM least_common_ancestors lca " +
+                        "INNER JOIN persons p ON lca.subject_2 = p.id " +
+                        "WHERE lca.subject_1 = :personId " +
+                        "AND lca.subject_2 != :personId " +
+                        "AND p.birth_date <= CAST(:onDate AS DATE) " +
+                        "AND p.death_date > CAST(:onDate AS DATE) " +
+                        "AND (:maxDistance IS NULL OR (lca.subject_1_distance + lca.subject_2_distance <= :maxDistance)) " +
+                        "ORDER BY lca.subject_2, (lca.subject_1_distance + lca.subject_2_distance)) " +
+                        "SELECT * FROM relas ORDER BY distance ";
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("personId", personId);
+        params.addValue("onDate", onDate);
+        params.addValue("maxDistance", maxDistance);
+        try {
+            return jdbcTemplate.query(query, params, new LeastCommonAncestorRelationshipMapper());
+        } catch (EmptyResultDataAccessException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Given the ID of a person and a list of IDs of other people, return a list of the other people's IDs such that
+     * the person's degree of separation is equal to or less than the given minDegreeSeparation. That is, we want
+     * to return all people too closely related to the person to marry that person.
+     *
+     * @param personId the target person
+     * @param otherPeopleIds a list of other people's IDs, from some source
+     * @param minDegreeSeparation the minimum degree of separation for marriage; any relationship this close or less
+     *                            will cause the person's ID to be returned as an invalid person to marry
+     * @return the IDs of the people who are too closely related to the target person to marry
+     */
+    @Override
+    @NonNull
+    public LongHashSet getTooCloselyRelatedPeople(long personId,
+                                                  @NonNull List<Long> otherPeopleIds,
+                                                  int minDegreeSeparation) {
+        String query = "SELECT " +
+                "subject_2 AS person_id " +
+                "FROM least_common_ancestors " +
+                "WHERE subject_1 = :personId " +
+                "AND subject_2 IN (:otherIds) " +
+                "GROUP BY subject_2 " +
+                "HAVING MIN(subject_1_distance + subject_2_distance) <= :minDegreeSeparation ";
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("personId", personId);
+        params.addValue("otherIds", otherPeopleIds);
+        params.addValue("minDegreeSeparation", minDegreeSeparation);
+
+        LongHashSet results = new LongHashSet();
+        if (otherPeopleIds.isEmpty()) {
+            return results;
+        }
+        jdbcTemplate.query(query, params, (RowCallbackHandler) rs -> results.add(rs.getLong("person_id")));
+        return results;
+    }
+
+    /**
+     * Gets a record representing a least common ancestor relationship between two people.
+     * @param person1Id the first person
+     * @param person2Id the second person
+     * @return a LeastCommonAncestorRelationship or null if they are not blood relatives
+     */
+    @Override
+    @Nullable
+    public LeastCommonAncestorRelationship getLeastCommonAncestorInfo(long person1Id, long person2Id) {
+        String query = "SELECT " +
+                                "subject_1, " +
+                                "subject_2, " +
+                                "least_common_ancestor, " +
+                                "subject_1_via, " +
+                                "subject_1_distance, " +
+                                "subject_2_via, " +
+                                "subject_2_distance " +
+                        "FROM least_common_ancestors " +
+                        "WHERE subject_1 = :person1Id AND subject_2 = :person2Id " +
+                        "ORDER BY (subject_1_distance + subject_2_distance), subject_1_distance, subject_2_distance " +
+                        "LIMIT 1";
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("person1Id", person1Id);
+        params.addValue("person2Id", person2Id);
+
+        try {
+            return jdbcTemplate.queryForObject(query, params, new LeastCommonAncestorRelationshipMapper());
+        } catch (EmptyResultDataAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the least common ancestor relationship of each of the other people to the person, in one query. Each
+     * record has the other person as subject 1 and the person as subject 2.
+     * @param otherPeopleIds the people who will be subject 1
+     * @param personId the person who will be subject 2
+     * @return the records keyed by the other person's ID; people who are not blood relatives are absent
+     */
+    @Override
+    @NonNull
+    public Map<Long, LeastCommonAncestorRelationship> getLeastCommonAncestorInfoToPerson(
+            @NonNull Collection<Long> otherPeopleIds,
+            long personId) {
+        Map<Long, LeastCommonAncestorRelationship> results = new HashMap<>();
+        if (otherPeopleIds.isEmpty()) {
+            return results;
+        }
+        String query = "SELECT DISTINCT ON (subject_1) " +
+                                "subject_1, " +
+                                "subject_2, " +
+                                "least_common_ancestor, " +
+                                "subject_1_via, " +
+                                "subject_1_distance, " +
+                                "subject_2_via, " +
+                                "subject_2_distance " +
+                        "FROM least_common_ancestors " +
+                        "WHERE subject_1 IN (:otherIds) AND subject_2 = :personId " +
+                        "ORDER BY subject_1, (subject_1_distance + subject_2_distance), subject_1_distance, " +
+                        "subject_2_distance";
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("otherIds", otherPeopleIds);
+        params.addValue("personId", personId);
+
+        for (LeastCommonAncestorRelationship rel : jdbcTemplate.query(query, params,
+                new LeastCommonAncestorRelationshipMapper())) {
+            results.put(rel.getSubject1(), rel);
+        }
+        return results;
+    }
+
+    /**
+     * Truncates and rebuilds the ancestry table in the database.
+     */
+    @Override
+    public void updateAncestryTable() {
+        jdbcTemplate.queryForRowSet("SELECT * FROM rebuild_ancestry()", Collections.emptyMap());
+    }
+
+    /**
+     * Recomputes the ancestry rows of the people and their descendants. The triggers on persons and families already
+     * do this whenever someone's parents change, so this is only needed if they were bypassed.
+     */
+    @Override
+    public int repairAncestry(@NonNull Collection<Long> personIds) {
+        if (personIds.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("personIds", personIds.stream().mapToInt(Long::intValue).toArray());
+        Integer repaired = jdbcTemplate.queryForObject("SELECT repair_ancestry(:personIds)", params, Integer.class);
+        return repaired == null ? 0 : repaired;
+    }
+
+    @Override
+    @NonNull
+    public List<AncestryDiscrepancy> verifyAncestry(int maxResults) {
+        String query = "SELECT ancestor_id, descendant_id, expected_distance, actual_distance " +
+                "FROM verify_ancestry() LIMIT :maxResults";
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("maxResults", maxResults);
+        return jdbcTemplate.query(query, params, (rs, rowNum) -> new AncestryDiscrepancy(
+                rs.getLong("ancestor_id"),
+                rs.getLong("descendant_id"),
+                (Integer) rs.getObject("expected_distance"),
+                (Integer) rs.getObject("actual_distance")));
+    }
+}
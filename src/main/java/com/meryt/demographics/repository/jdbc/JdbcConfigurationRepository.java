@@ -0,0 +1,62 @@
+package com.meryt.demographics.repository.jdbc;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.meryt.demographics.repository.ConfigurationRepository;
+
+@Repository
+@Profile("!inmemory")
+public class JdbcConfigurationRepository implements ConfigurationRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcConfigurationRepository(@Autowired NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void setValue(@NonNull String key, @Nullable String value) {
+        String query = "UPDATE configuration SET value = :value WHERE key = :key";
+        Map<String, String> params = new HashMap<>();
+        params.put("key", key);
+        params.put("value", value);
+        jdbcTemplate.update(query, params);
+    }
+
+    /**
+     * Insert or update a configuration entry. If the key exists, its value is updated; otherwise a new row is inserted.
+     */
+    @Override
+    public void upsertValue(@NonNull String key, @Nullable String value) {
+        String query = "INSERT INTO configuration (key, value) VALUES (:key, :value) " +
+                "ON CONFLICT (key) DO UPDATE SET value = EXCLUDED.value";
+        Map<String, String> params = new HashMap<>();
+        params.put("key", key);
+        params.put("value", value);
+        jdbcTemplate.update(query, params);
+    }
+
+    @Override
+    public Map<String, String> getAllConfiguration() {
+        String query = "SELECT key, value::TEXT FROM configuration " +
+                       "UNION " +
+                       "SELECT 'last_check_date' AS key, last_check_date::TEXT AS value FROM check_date";
+        return jdbcTemplate.query(query, (rs, rowNum) -> {
+            Map<String, String> row = new HashMap<>();
+            row.put("key", rs.getString("key"));
+            row.put("value", rs.getString("value"));
+            return row;
+        }).stream().collect(Collectors.toMap(
+            row -> row.get("key"),
+            row -> row.get("value")
+        ));
+    }
+}
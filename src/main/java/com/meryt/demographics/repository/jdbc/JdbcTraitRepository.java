@@ -0,0 +1,42 @@
+package com.meryt.demographics.repository.jdbc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.meryt.demographics.domain.person.Trait;
+import com.meryt.demographics.repository.TraitRepository;
+
+@Repository
+@Profile("!inmemory")
+public class JdbcTraitRepository implements TraitRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcTraitRepository(@Autowired NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Gets :num random distinct traits
+     *
+     * @param num the number of traits to return
+     * @return a list of Traits with no duplicates
+     */
+    @Override
+    @NonNull
+    public List<Trait> randomTraits(int num) {
+        if (num <= 0) {
+            return new ArrayList<>();
+        }
+        String query = "SELECT id, rating, name FROM traits ORDER BY random() LIMIT " + num;
+        return jdbcTemplate.query(query, Collections.emptyMap(), new BeanPropertyRowMapper<>(Trait.class));
+    }
+
+}
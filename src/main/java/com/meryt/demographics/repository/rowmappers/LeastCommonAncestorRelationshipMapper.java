@@ -1,5 +1,6 @@
 package com.meryt.demographics.repository.rowmappers;
 
+import java.sql.Array;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import javax.annotation.Nullable;
@@ -16,10 +17,33 @@ public class LeastCommonAncestorRelationshipMapper implements RowMapper<LeastCom
         rel.setSubject1(rs.getLong("subject_1"));
         rel.setSubject2(rs.getLong("subject_2"));
         rel.setLeastCommonAncestor(rs.getLong("least_common_ancestor"));
-        rel.setSubject1Via(rs.getString("subject_1_via"));
-        rel.setSubject2Via(rs.getString("subject_2_via"));
+        rel.setSubject1Via(getIds(rs, "subject_1_via"));
+        rel.setSubject2Via(getIds(rs, "subject_2_via"));
         rel.setSubject1Distance(rs.getInt("subject_1_distance"));
         rel.setSubject2Distance(rs.getInt("subject_2_distance"));
         return rel;
     }
+
+    /**
+     * Reads an integer array column of person IDs, such as an ancestry via
+     *
+     * @return the IDs, or null if the column is null
+     */
+    @Nullable
+    public static long[] getIds(ResultSet rs, String columnLabel) throws SQLException {
+        Array array = rs.getArray(columnLabel);
+        if (array == null) {
+            return null;
+        }
+        try {
+            Object[] values = (Object[]) array.getArray();
+            long[] ids = new long[values.length];
+            for (int i = 0; i < values.length; i++) {
+                ids[i] = ((Number) values[i]).longValue();
+            }
+            return ids;
+        } finally {
+            array.free();
+        }
+    }
 }
@@ -24,6 +24,7 @@ public class AdvanceToDatePost {
     private Integer firstDayOfYear;
     /**
      * Number of days to check at once for maternities, since this is the most expensive part of the calculations.
+     * Ignored if eventDriven is set.
      */
     private Integer maternityNumDays;
     /**
@@ -43,6 +44,24 @@ public class AdvanceToDatePost {
     private Boolean generateMarriages;
     private Boolean processImmigrants;
     private Boolean processQuarterDays;
+    /**
+     * If true, skip over days on which nothing is scheduled (no deaths, maternity events, abeyance checks, quarter
+     * days, first day of the year, or plague) instead of checking every day. The days on which marriages, immigrant
+     * arrivals and new titles happen are drawn ahead, so they are scheduled too. In this mode maternityNumDays is
+     * ignored, since each woman is checked on her own next event date.
+     */
+    private Boolean eventDriven;
+    /**
+     * If set, run each chunk of this many simulated days in a single transaction, with the living population,
+     * households, places and titles loaded up front, so that changes are written to the database in batches rather
+     * than on every save. If null or 0, every save is written immediately.
+     */
+    private Integer sessionFlushDays;
+    /**
+     * If set, seeds the random number generator at the start of the run, so that a run from the same database state
+     * with the same seed produces the same results
+     */
+    private Long randomSeed;
 
     public void validate() {
         if (date == null && advanceDays == null) {
@@ -54,6 +73,9 @@ public class AdvanceToDatePost {
         if (advanceDays != null && advanceDays < 0) {
             throw new BadRequestException("advanceDays must be 0 or a positive integer");
         }
+        if (sessionFlushDays != null && sessionFlushDays < 0) {
+            throw new BadRequestException("sessionFlushDays must be 0 or a positive integer");
+        }
     }
 
     public int getFirstMonthOfYearOrDefault() {
@@ -68,6 +90,14 @@ public class AdvanceToDatePost {
         return maternityNumDays == null ? 1 : maternityNumDays;
     }
 
+    public boolean getEventDrivenOrDefault() {
+        return eventDriven != null && eventDriven;
+    }
+
+    public int getSessionFlushDaysOrDefault() {
+        return sessionFlushDays == null ? 0 : sessionFlushDays;
+    }
+
     public boolean isSuppressedEventType(@NonNull CalendarDayEvent event) {
         return suppressedEventTypes != null && !suppressedEventTypes.isEmpty()
                 && suppressedEventTypes.contains(event.getType().name());
@@ -61,9 +61,15 @@ public class RandomTitleParameters {
     }
 
     public boolean shouldCreateNewTitleOnDay() {
-        double percentChance = (getNumNewTitlesPerCenturyOrDefault() / 100.0) / 365.0;
         double roll = PercentDie.roll();
-        return (roll <= percentChance);
+        return (roll <= getDailyNewTitleProbability());
+    }
+
+    /**
+     * Gets the chance that a new title is created on any one day
+     */
+    public double getDailyNewTitleProbability() {
+        return (getNumNewTitlesPerCenturyOrDefault() / 100.0) / 365.0;
     }
 
     private int getNumNewTitlesPerCenturyOrDefault() {
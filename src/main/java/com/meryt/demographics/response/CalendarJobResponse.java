@@ -0,0 +1,39 @@
+package com.meryt.demographics.response;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+import lombok.Getter;
+import lombok.NonNull;
+
+import com.meryt.demographics.service.CalendarJob;
+
+@Getter
+public class CalendarJobResponse {
+
+    private final long id;
+    private final CalendarJob.Status status;
+    private final LocalDate startDate;
+    private final LocalDate toDate;
+    private final LocalDate currentDate;
+    private final long numEvents;
+    private final double eventsPerSecond;
+    private final Instant startedAt;
+    private final Instant finishedAt;
+    private final Map<String, Long> phaseTimings;
+    private final String error;
+
+    public CalendarJobResponse(@NonNull CalendarJob job) {
+        this.id = job.getId();
+        this.status = job.getStatus();
+        this.startDate = job.getStartDate();
+        this.toDate = job.getToDate();
+        this.currentDate = job.getCurrentDate();
+        this.numEvents = job.getNumEvents().sum();
+        this.eventsPerSecond = job.getEventsPerSecond();
+        this.startedAt = job.getStartedAt();
+        this.finishedAt = job.getFinishedAt();
+        this.phaseTimings = job.getPhaseTimings();
+        this.error = job.getError();
+    }
+}
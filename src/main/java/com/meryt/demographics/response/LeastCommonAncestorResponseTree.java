@@ -29,23 +29,23 @@ class LeastCommonAncestorResponseTree extends PersonReference {
 
         super(personService.load(lcaRelationship.getLeastCommonAncestor()));
 
-        String[] personOneIds = lcaRelationship.getSubject1Via() == null
-                ? new String[0]
-                : lcaRelationship.getSubject1Via().split(",");
-        String[] personTwoIds = lcaRelationship.getSubject2Via() == null
-                ? new String[0]
-                : lcaRelationship.getSubject2Via().split(",");
+        long[] personOneIds = lcaRelationship.getSubject1Via() == null
+                ? new long[0]
+                : lcaRelationship.getSubject1Via();
+        long[] personTwoIds = lcaRelationship.getSubject2Via() == null
+                ? new long[0]
+                : lcaRelationship.getSubject2Via();
 
         children.add(new LeastCommonAncestorResponseTree(personOneIds, person, personService));
         children.add(new LeastCommonAncestorResponseTree(personTwoIds, otherPerson, personService));
     }
 
-    private LeastCommonAncestorResponseTree(@NonNull String[] path,
+    private LeastCommonAncestorResponseTree(@NonNull long[] path,
                                             @NonNull Person terminalPerson,
                                             @NonNull PersonService personService) {
-        super(path.length == 0 ? terminalPerson : personService.load(Long.valueOf(path[0])));
+        super(path.length == 0 ? terminalPerson : personService.load(path[0]));
         if (path.length == 1) {
-            children.add(new LeastCommonAncestorResponseTree(new String[0], terminalPerson, personService));
+            children.add(new LeastCommonAncestorResponseTree(new long[0], terminalPerson, personService));
         } else if (path.length > 1) {
             children.add(new LeastCommonAncestorResponseTree(Arrays.copyOfRange(path, 1, path.length), terminalPerson,
                     personService));
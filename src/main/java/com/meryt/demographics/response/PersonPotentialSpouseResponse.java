@@ -23,11 +23,13 @@ public class PersonPotentialSpouseResponse {
     private final String ageDifference;
     private final String ageOnSearchDate;
     private final Relationship relationship;
+    private final double compatibility;
 
     public PersonPotentialSpouseResponse(@NonNull Person person,
                                          @NonNull Person spouse,
                                          @NonNull LocalDate searchDate,
-                                         @Nullable Relationship relationship) {
+                                         @Nullable Relationship relationship,
+                                         double compatibility) {
         id = spouse.getId();
         name = spouse.getName();
         birthDate = spouse.getBirthDate();
@@ -44,6 +46,7 @@ public class PersonPotentialSpouseResponse {
         }
         ageOnSearchDate = spouse.getAge(searchDate);
         this.relationship = relationship;
+        this.compatibility = compatibility;
     }
 
 
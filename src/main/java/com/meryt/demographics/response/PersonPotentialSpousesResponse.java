@@ -0,0 +1,28 @@
+package com.meryt.demographics.response;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * A page of potential spouses, ranked by compatibility. To get the next page, pass nextAfterCompatibility and
+ * nextAfterId as afterCompatibility and afterId; they are null on the last page.
+ */
+@Getter
+public class PersonPotentialSpousesResponse {
+
+    private final List<PersonPotentialSpouseResponse> potentialSpouses;
+    private final Double nextAfterCompatibility;
+    private final Long nextAfterId;
+
+    public PersonPotentialSpousesResponse(@NonNull List<PersonPotentialSpouseResponse> potentialSpouses,
+                                          boolean hasMore) {
+        this.potentialSpouses = potentialSpouses;
+        PersonPotentialSpouseResponse last = hasMore && !potentialSpouses.isEmpty()
+                ? potentialSpouses.get(potentialSpouses.size() - 1)
+                : null;
+        this.nextAfterCompatibility = last == null ? null : last.getCompatibility();
+        this.nextAfterId = last == null ? null : last.getId();
+    }
+}
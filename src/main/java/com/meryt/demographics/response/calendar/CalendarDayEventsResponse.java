@@ -0,0 +1,16 @@
+package com.meryt.demographics.response.calendar;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The events for a single date, as written to a streamed calendar advance.
+ */
+@Getter
+@AllArgsConstructor
+public class CalendarDayEventsResponse {
+    private final LocalDate date;
+    private final List<CalendarDayEvent> events;
+}
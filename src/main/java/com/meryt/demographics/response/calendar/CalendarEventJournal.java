@@ -0,0 +1,98 @@
+package com.meryt.demographics.response.calendar;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import lombok.NonNull;
+
+/**
+ * An append-only journal of the events generated during a calendar run. Events are appended to a bucket for their
+ * day (indexed by epoch day), and are only sorted, by date and then by type, when the journal is read. Appending is
+ * therefore constant-time no matter how long the run is.
+ */
+public class CalendarEventJournal {
+
+    private final Map<Long, List<CalendarDayEvent>> days = new HashMap<>();
+    private int size;
+
+    /**
+     * Adds an event under its own date
+     */
+    public void add(@NonNull CalendarDayEvent event) {
+        add(event, event.getDate());
+    }
+
+    /**
+     * Adds an event under the given date, which may differ from the event's own date (e.g. property transfers that
+     * take effect some time after the death that caused them)
+     */
+    public void add(@NonNull CalendarDayEvent event, @NonNull LocalDate onDate) {
+        days.computeIfAbsent(onDate.toEpochDay(), d -> new ArrayList<>()).add(event);
+        size++;
+    }
+
+    public void addAll(@NonNull Collection<? extends CalendarDayEvent> events, @NonNull LocalDate onDate) {
+        for (CalendarDayEvent event : events) {
+            add(event, onDate);
+        }
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the total number of events appended since the journal was created or last drained
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the events in the journal as a map of date to events, ordered by date and with each day's events ordered
+     * by type (events of the same type stay in the order they were added). Days with no events after filtering are
+     * omitted.
+     *
+     * @param include a filter determining which events to include
+     * @return a new map, which the caller may modify
+     */
+    @NonNull
+    public Map<LocalDate, List<CalendarDayEvent>> toMap(@NonNull Predicate<CalendarDayEvent> include) {
+        Map<LocalDate, List<CalendarDayEvent>> results = new TreeMap<>();
+        for (Map.Entry<Long, List<CalendarDayEvent>> day : days.entrySet()) {
+            List<CalendarDayEvent> events = new ArrayList<>(day.getValue().size());
+            for (CalendarDayEvent event : day.getValue()) {
+                if (include.test(event)) {
+                    events.add(event);
+                }
+            }
+            if (!events.isEmpty()) {
+                events.sort(Comparator.comparing(CalendarDayEvent::getType));
+                results.put(LocalDate.ofEpochDay(day.getKey()), events);
+            }
+        }
+        return results;
+    }
+
+    @NonNull
+    public Map<LocalDate, List<CalendarDayEvent>> toMap() {
+        return toMap(e -> true);
+    }
+
+    /**
+     * Same as {@link #toMap(Predicate)}, but also empties the journal.
+     */
+    @NonNull
+    public Map<LocalDate, List<CalendarDayEvent>> drain(@NonNull Predicate<CalendarDayEvent> include) {
+        Map<LocalDate, List<CalendarDayEvent>> results = toMap(include);
+        days.clear();
+        size = 0;
+        return results;
+    }
+}
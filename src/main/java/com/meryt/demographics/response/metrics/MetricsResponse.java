@@ -0,0 +1,20 @@
+package com.meryt.demographics.response.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.NonNull;
+
+import com.meryt.demographics.profiler.MetricsRegistry;
+
+@Getter
+public class MetricsResponse {
+
+    private final Map<String, Long> counters;
+    private final Map<String, PhaseMetricsResponse> phases = new LinkedHashMap<>();
+
+    public MetricsResponse(@NonNull MetricsRegistry registry) {
+        this.counters = registry.getCounters();
+        registry.getPhases().forEach((name, metrics) -> phases.put(name, new PhaseMetricsResponse(metrics)));
+    }
+}
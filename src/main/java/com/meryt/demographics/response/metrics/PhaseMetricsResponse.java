@@ -0,0 +1,34 @@
+package com.meryt.demographics.response.metrics;
+
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.NonNull;
+
+import com.meryt.demographics.profiler.PhaseMetrics;
+
+/**
+ * The aggregated timings of one phase. Quantiles are upper bounds from a power-of-two histogram, so they are accurate
+ * to within a factor of 2.
+ */
+@Getter
+public class PhaseMetricsResponse {
+
+    private final long count;
+    private final long totalMillis;
+    private final double meanMicros;
+    private final long p50Micros;
+    private final long p90Micros;
+    private final long p99Micros;
+    private final long maxMicros;
+
+    public PhaseMetricsResponse(@NonNull PhaseMetrics metrics) {
+        this.count = metrics.getCount();
+        long totalNanos = metrics.getTotalNanos();
+        this.totalMillis = TimeUnit.NANOSECONDS.toMillis(totalNanos);
+        this.meanMicros = count == 0 ? 0.0 : (totalNanos / 1000.0) / count;
+        this.p50Micros = TimeUnit.NANOSECONDS.toMicros(metrics.getQuantileNanos(0.5));
+        this.p90Micros = TimeUnit.NANOSECONDS.toMicros(metrics.getQuantileNanos(0.9));
+        this.p99Micros = TimeUnit.NANOSECONDS.toMicros(metrics.getQuantileNanos(0.99));
+        this.maxMicros = TimeUnit.NANOSECONDS.toMicros(metrics.getMaxNanos());
+    }
+}
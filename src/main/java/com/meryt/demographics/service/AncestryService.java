@@ -2,7 +2,10 @@ package com.meryt.demographics.service;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import javax.annotation.Nullable;
 import lombok.NonNull;
@@ -12,34 +15,111 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.util.StringUtils;
 
+import com.meryt.demographics.collection.LongHashSet;
+import com.meryt.demographics.domain.family.AncestryDiscrepancy;
 import com.meryt.demographics.domain.family.AncestryRecord;
 import com.meryt.demographics.domain.family.Family;
 import com.meryt.demographics.domain.family.LeastCommonAncestorRelationship;
+import com.meryt.demographics.domain.family.PedigreeGraph;
 import com.meryt.demographics.domain.family.Relationship;
 import com.meryt.demographics.domain.person.Person;
 import com.meryt.demographics.domain.person.PersonCapitalPeriod;
 import com.meryt.demographics.domain.place.DwellingPlaceOwnerPeriod;
 import com.meryt.demographics.repository.AncestryRepository;
+import com.meryt.demographics.repository.PersonRepository;
 
 @Slf4j
 @Service
 public class AncestryService {
 
     private final AncestryRepository ancestryRepository;
+    private final PersonRepository personRepository;
 
-    public AncestryService(@Autowired @NonNull AncestryRepository ancestryRepository) {
+    /**
+     * The parents of everyone in the database, loaded when first needed for a kinship check
+     */
+    private volatile PedigreeGraph pedigree;
+
+    public AncestryService(@Autowired @NonNull AncestryRepository ancestryRepository,
+                           @Autowired @NonNull PersonRepository personRepository) {
         this.ancestryRepository = ancestryRepository;
+        this.personRepository = personRepository;
     }
 
     /**
-     * Truncates and rebuilds the ancestry table in the database.
+     * Truncates and rebuilds the ancestry table in the database. Also discards the pedigree graph, so that it is
+     * reloaded from the database when next needed.
+     * <p>
+     * The table is kept up to date by triggers as people are saved, so this is only needed if it was changed by hand.
+     * Use {@link #verifyAncestryTable(int)} to find out.
      */
     public void updateAncestryTable() {
         log.info("Truncating and rebuilding ancestry table");
         ancestryRepository.updateAncestryTable();
+        pedigree = null;
         log.info("Ancestry table regeneration complete");
     }
 
+    /**
+     * Recomputes the ancestry of the people and their descendants only, and discards the pedigree graph.
+     *
+     * @return the number of people whose ancestry was recomputed
+     */
+    public int repairAncestryTable(@NonNull Collection<Long> personIds) {
+        int repaired = ancestryRepository.repairAncestry(personIds);
+        pedigree = null;
+        log.info(String.format("Repaired ancestry of %d people", repaired));
+        return repaired;
+    }
+
+    /**
+     * Compares the ancestry table with the families of everyone in the database. This reads the whole family tree,
+     * so it is meant for checking the table after bulk changes rather than for routine use.
+     *
+     * @param maxResults the maximum number of discrepancies to return
+     * @return the rows that are missing, unexpected or wrong; empty if the table is correct
+     */
+    @NonNull
+    public List<AncestryDiscrepancy> verifyAncestryTable(int maxResults) {
+        return ancestryRepository.verifyAncestry(maxResults);
+    }
+
+    /**
+     * Adds a newly saved person and their parents to the pedigree graph, if it has been loaded. Should be called
+     * whenever a child is born, so that kinship checks see them without reloading the graph.
+     */
+    void recordBirth(@NonNull Person person) {
+        PedigreeGraph graph = pedigree;
+        if (graph == null || person.getId() == 0) {
+            return;
+        }
+        Person father = person.getFather();
+        Person mother = person.getMother();
+        graph.addPerson(person.getId(),
+                father == null || father.getId() == 0 ? null : father.getId(),
+                mother == null || mother.getId() == 0 ? null : mother.getId());
+    }
+
+    @NonNull
+    private PedigreeGraph getPedigree() {
+        PedigreeGraph graph = pedigree;
+        if (graph == null) {
+            synchronized (this) {
+                graph = pedigree;
+                if (graph == null) {
+                    log.info("Loading pedigree graph");
+                    graph = new PedigreeGraph();
+                    for (Object[] row : personRepository.findAllParentIds()) {
+                        graph.addPerson((Long) row[0], (Long) row[1], (Long) row[2]);
+                    }
+                    log.info(String.format("Loaded pedigree graph of %d people", graph.size()));
+                    pedigree = graph;
+                }
+            }
+        }
+        return graph;
+    }
+
     @NonNull
     List<AncestryRecord> getDescendants(long personId) {
         return ancestryRepository.getDescendants(personId);
@@ -112,6 +192,48 @@ public class AncestryService {
         return calculateRelationship(person1, person2, false);
     }
 
+    /**
+     * Calculates the relationship of each of the other people to the person, as calculateRelationship(other, person)
+     * would, but looking up the blood relationships of all of them in one query.
+     *
+     * @param person the related person (person 2)
+     * @param others the subject people (person 1)
+     * @return the relationships keyed by the other person's ID; people who are not related in any way are absent
+     */
+    @NonNull
+    public Map<Long, Relationship> calculateRelationshipsTo(@NonNull Person person,
+                                                            @NonNull Collection<Person> others) {
+        Map<Long, Relationship> results = new HashMap<>();
+        if (person.getId() == 0) {
+            return results;
+        }
+        List<Long> bloodRelativeCandidateIds = new ArrayList<>();
+        for (Person other : others) {
+            if (other.getId() == 0) {
+                continue;
+            }
+            Relationship relationship = other.getId() == person.getId()
+                    ? new Relationship(Relationship.SELF, 0, null, null)
+                    : determineMaritalRelationship(other, person);
+            if (relationship != null) {
+                results.put(other.getId(), relationship);
+            } else {
+                bloodRelativeCandidateIds.add(other.getId());
+            }
+        }
+
+        Map<Long, LeastCommonAncestorRelationship> leastCommonAncestors =
+                ancestryRepository.getLeastCommonAncestorInfoToPerson(bloodRelativeCandidateIds, person.getId());
+        for (Person other : others) {
+            LeastCommonAncestorRelationship leastCommonAncestor = leastCommonAncestors.get(other.getId());
+            if (leastCommonAncestor != null && !results.containsKey(other.getId())) {
+                results.put(other.getId(), determineLeastCommonAncestorRelationship(other, person,
+                        leastCommonAncestor));
+            }
+        }
+        return results;
+    }
+
     /**
      * Determines whether people are married or otherwise in a relationship (i.e. have a family record) and if so
      * what type
@@ -150,23 +272,28 @@ public class AncestryService {
      * marriage.
      *
      * Given a list of person IDs, gets a filtered list of IDs such that the remaining people have a degree of
-     * separation from personId of at least minDegreesSeparation.
+     * separation from personId of more than minDegreesSeparation. The check is done against the in-memory pedigree
+     * graph rather than the least_common_ancestors view.
      *
      * @param personId the target person
      * @param potentialSpouseIds a list of potential spouses
      * @param minDegreesSeparation the minimum relationship distance
-     * @return a possibly-empty list of potential spouse IDs such that they are not too closely related to the target
+     * @return a possibly-empty set of potential spouse IDs such that they are not too closely related to the target
      */
-    List<Long> getMarriageablePersonIds(long personId,
-                                        @NonNull List<Long> potentialSpouseIds,
-                                        int minDegreesSeparation) {
+    @NonNull
+    LongHashSet getMarriageablePersonIds(long personId,
+                                         @NonNull List<Long> potentialSpouseIds,
+                                         int minDegreesSeparation) {
+        LongHashSet marriageablePeople = new LongHashSet(potentialSpouseIds.size());
         if (potentialSpouseIds.isEmpty()) {
-            return new ArrayList<>();
+            return marriageablePeople;
+        }
+        LongHashSet relatives = getPedigree().findRelatedWithin(personId, potentialSpouseIds, minDegreesSeparation);
+        for (long id : potentialSpouseIds) {
+            if (!relatives.contains(id)) {
+                marriageablePeople.add(id);
+            }
         }
-        List<Long> relatives = ancestryRepository.getTooCloselyRelatedPeople(personId, potentialSpouseIds,
-                minDegreesSeparation);
-        List<Long> marriageablePeople = new ArrayList<>(potentialSpouseIds);
-        marriageablePeople.removeAll(relatives);
         return marriageablePeople;
     }
 
@@ -184,7 +311,22 @@ public class AncestryService {
         if (relationship == null) {
             return null;
         }
+        return determineLeastCommonAncestorRelationship(person1, person2, relationship);
+    }
 
+    /**
+     * Determines a relationship from the least common ancestor record of the two people
+     *
+     * @param person1 subject person
+     * @param person2 related person
+     * @param relationship the least common ancestor record, with person1 as subject 1
+     * @return the relationship, or null if it cannot be named
+     */
+    @Nullable
+    private Relationship determineLeastCommonAncestorRelationship(
+            @NonNull Person person1,
+            @NonNull Person person2,
+            @NonNull LeastCommonAncestorRelationship relationship) {
         // Check for parental and grandparental relationships
         if (relationship.getSubject1Distance() == 0) {
             String prefix = getGrandPrefix(relationship.getSubject2Distance());
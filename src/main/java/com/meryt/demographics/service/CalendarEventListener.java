@@ -0,0 +1,43 @@
+package com.meryt.demographics.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.NonNull;
+
+import com.meryt.demographics.profiler.Profiler;
+import com.meryt.demographics.response.calendar.CalendarDayEvent;
+
+/**
+ * Receives the events generated while advancing the calendar as soon as each simulated day has finished, so that
+ * they can be streamed to a client rather than held in memory until the end of the run.
+ */
+@FunctionalInterface
+public interface CalendarEventListener {
+
+    /**
+     * Called with the (non-empty) events for a date. Maternities are checked in batches, so the date may be earlier
+     * than the day just processed, and the same date may be reported more than once.
+     *
+     * @param date the date of the events
+     * @param events the events, ordered by type
+     */
+    void onEvents(@NonNull LocalDate date, @NonNull List<CalendarDayEvent> events);
+
+    /**
+     * Called once the run has started, before any day is processed.
+     *
+     * @param currentDate the current date the run starts from
+     */
+    default void onStart(@NonNull LocalDate currentDate) {
+    }
+
+    /**
+     * Called after each simulated day has been processed, after any events for it have been passed to
+     * {@link #onEvents(LocalDate, List)}.
+     *
+     * @param date the day that was processed, which is now the current date
+     * @param profiler the profiler for the run so far
+     */
+    default void onDayFinished(@NonNull LocalDate date, @NonNull Profiler profiler) {
+    }
+}
@@ -0,0 +1,116 @@
+package com.meryt.demographics.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import lombok.NonNull;
+
+import com.meryt.demographics.profiler.Profiler;
+import com.meryt.demographics.request.AdvanceToDatePost;
+import com.meryt.demographics.response.calendar.CalendarDayEvent;
+
+/**
+ * A calendar advance run in the background by the {@link CalendarJobService}. The job records its own progress as
+ * the run reports each finished day. Events are counted but not kept.
+ */
+@Getter
+public class CalendarJob implements CalendarEventListener {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        CANCELLED,
+        FAILED
+    }
+
+    private final long id;
+    private final AdvanceToDatePost request;
+    private final LocalDate toDate;
+    private final CancellationToken cancellationToken = new CancellationToken();
+    private final LongAdder numEvents = new LongAdder();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile LocalDate startDate;
+    private volatile LocalDate currentDate;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile Map<String, Long> phaseTimings = Collections.emptyMap();
+    private volatile String error;
+
+    CalendarJob(long id, @NonNull AdvanceToDatePost request, @NonNull LocalDate toDate) {
+        this.id = id;
+        this.request = request;
+        this.toDate = toDate;
+    }
+
+    @Override
+    public void onStart(@NonNull LocalDate currentDate) {
+        this.startDate = currentDate;
+        this.currentDate = currentDate;
+        this.startedAt = Instant.now();
+    }
+
+    @Override
+    public void onEvents(@NonNull LocalDate date, @NonNull List<CalendarDayEvent> events) {
+        numEvents.add(events.size());
+    }
+
+    @Override
+    public void onDayFinished(@NonNull LocalDate date, @NonNull Profiler profiler) {
+        currentDate = date;
+        phaseTimings = profiler.getElapsedMillis();
+    }
+
+    /**
+     * Gets the number of events generated per second of wall-clock time since the job started
+     */
+    public double getEventsPerSecond() {
+        if (startedAt == null) {
+            return 0;
+        }
+        Instant end = finishedAt == null ? Instant.now() : finishedAt;
+        long millis = Duration.between(startedAt, end).toMillis();
+        return millis == 0 ? 0 : numEvents.sum() * 1000.0 / millis;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.CANCELLED || status == Status.FAILED;
+    }
+
+    void cancel() {
+        cancellationToken.cancel();
+        if (status == Status.QUEUED) {
+            finish(Status.CANCELLED, null);
+        }
+    }
+
+    /**
+     * Marks the job as running. It may still have to wait for another advance to finish; the start date is set when
+     * the advance itself starts.
+     */
+    void start() {
+        this.status = Status.RUNNING;
+    }
+
+    /**
+     * Marks the job as failed. The days since the last checkpoint were rolled back, so the current date reverts to
+     * the last committed date.
+     */
+    void fail(@Nullable LocalDate lastCommittedDate, @Nullable String error) {
+        this.currentDate = lastCommittedDate;
+        finish(Status.FAILED, error);
+    }
+
+    void finish(@NonNull Status status, @Nullable String error) {
+        this.error = error;
+        this.finishedAt = Instant.now();
+        this.status = status;
+    }
+}
@@ -0,0 +1,160 @@
+package com.meryt.demographics.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.meryt.demographics.request.AdvanceToDatePost;
+
+/**
+ * Runs calendar advances as background jobs, one at a time, in the order they were submitted. A job that comes up
+ * while a synchronous advance is running waits for it to finish.
+ *
+ * Each job commits its progress (including the current date) every sessionFlushDays simulated days, so if a job is
+ * cancelled or fails, or the server goes down, a new job will pick up from the last committed date. The job's entity
+ * manager is cleared at each checkpoint, so it only holds the entities of the days since the last one.
+ *
+ * Finished jobs are kept so that their results can be looked up, but only the most recent
+ * {@link #MAX_FINISHED_JOBS} of them.
+ */
+@Slf4j
+@Service
+public class CalendarJobService {
+
+    /**
+     * Number of simulated days between checkpoints, if the request does not specify sessionFlushDays
+     */
+    static final int DEFAULT_CHECKPOINT_DAYS = 30;
+
+    /**
+     * Number of finished jobs to keep; older ones are forgotten as new jobs are submitted
+     */
+    static final int MAX_FINISHED_JOBS = 50;
+
+    private final CalendarService calendarService;
+    private final ConfigurationService configurationService;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "calendar-job"));
+    private final Map<Long, CalendarJob> jobs = new ConcurrentSkipListMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    public CalendarJobService(@Autowired @NonNull CalendarService calendarService,
+                              @Autowired @NonNull ConfigurationService configurationService,
+                              @Autowired @NonNull EntityManagerFactory entityManagerFactory) {
+        this.calendarService = calendarService;
+        this.configurationService = configurationService;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Queues a job to advance the calendar to the given date.
+     *
+     * @param toDate the date to advance to (inclusive)
+     * @param request the advance parameters. If sessionFlushDays is not set, a default is used so that the job is
+     *                checkpointed.
+     * @return the new job
+     */
+    @NonNull
+    public CalendarJob submit(@NonNull LocalDate toDate, @NonNull AdvanceToDatePost request) {
+        if (request.getSessionFlushDaysOrDefault() == 0) {
+            request.setSessionFlushDays(DEFAULT_CHECKPOINT_DAYS);
+        }
+        evictFinishedJobs();
+        CalendarJob job = new CalendarJob(nextId.getAndIncrement(), request, toDate);
+        jobs.put(job.getId(), job);
+        executor.submit(() -> run(job));
+        log.info(String.format("Queued calendar job %d to advance to %s", job.getId(), toDate));
+        return job;
+    }
+
+    @Nullable
+    public CalendarJob find(long jobId) {
+        return jobs.get(jobId);
+    }
+
+    @NonNull
+    public List<CalendarJob> findAll() {
+        return new ArrayList<>(jobs.values());
+    }
+
+    /**
+     * Cancels the job. A queued job will never start; a running job stops after the day it is processing and
+     * commits its progress.
+     */
+    public void cancel(@NonNull CalendarJob job) {
+        log.info(String.format("Cancelling calendar job %d", job.getId()));
+        job.cancel();
+    }
+
+    /**
+     * Forgets the oldest finished jobs beyond the retention limit. Jobs are keyed by ID, so they are iterated in the
+     * order they were submitted.
+     */
+    void evictFinishedJobs() {
+        List<Long> finishedIds = new ArrayList<>();
+        for (CalendarJob job : jobs.values()) {
+            if (job.isFinished()) {
+                finishedIds.add(job.getId());
+            }
+        }
+        for (int i = 0; i < finishedIds.size() - MAX_FINISHED_JOBS; i++) {
+            jobs.remove(finishedIds.get(i));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.values().forEach(CalendarJob::cancel);
+        executor.shutdown();
+    }
+
+    private void run(@NonNull CalendarJob job) {
+        if (job.isFinished()) {
+            return;
+        }
+
+        // There is no web request to hold the entity manager open, so bind one to this thread for the whole run,
+        // the same way the open-in-view interceptor does for requests.
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            job.start();
+            log.info(String.format("Starting calendar job %d to %s", job.getId(), job.getToDate()));
+            // The checkpoints commit and then clear this thread's entity manager, through the shared one the
+            // calendar service uses, so the run does not accumulate every entity it touches.
+            calendarService.advanceToDayWhenIdle(job.getToDate(), job.getRequest(), job,
+                    job.getCancellationToken());
+            job.finish(job.getCancellationToken().isCancelled()
+                    ? CalendarJob.Status.CANCELLED
+                    : CalendarJob.Status.COMPLETED, null);
+            log.info(String.format("Calendar job %d is %s at %s", job.getId(), job.getStatus(),
+                    job.getCurrentDate()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.finish(CalendarJob.Status.CANCELLED, null);
+        } catch (RuntimeException e) {
+            log.error(String.format("Calendar job %d failed", job.getId()), e);
+            job.fail(configurationService.getCurrentDate(), e.getMessage());
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            EntityManagerFactoryUtils.closeEntityManager(entityManager);
+        }
+    }
+}
@@ -1,19 +1,24 @@
 package com.meryt.demographics.service;
 
 import java.time.LocalDate;
-import java.time.Month;
+import java.time.MonthDay;
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.meryt.demographics.domain.Occupation;
 import com.meryt.demographics.domain.Plague;
@@ -28,14 +33,18 @@ import com.meryt.demographics.domain.place.Household;
 import com.meryt.demographics.domain.place.Parish;
 import com.meryt.demographics.domain.title.Title;
 import com.meryt.demographics.generator.family.FamilyGenerator;
+import com.meryt.demographics.generator.family.MarriageMarketIndex;
 import com.meryt.demographics.generator.random.BetweenDie;
 import com.meryt.demographics.generator.random.PercentDie;
+import com.meryt.demographics.generator.random.Randomness;
+import com.meryt.demographics.profiler.MetricsRegistry;
 import com.meryt.demographics.profiler.Profiler;
 import com.meryt.demographics.request.AdvanceToDatePost;
 import com.meryt.demographics.request.RandomFamilyParameters;
 import com.meryt.demographics.request.RandomTitleParameters;
 import com.meryt.demographics.response.calendar.BirthEvent;
 import com.meryt.demographics.response.calendar.CalendarDayEvent;
+import com.meryt.demographics.response.calendar.CalendarEventJournal;
 import com.meryt.demographics.response.calendar.CalendarEventType;
 import com.meryt.demographics.response.calendar.DeathEvent;
 import com.meryt.demographics.response.calendar.EmploymentEvent;
@@ -44,11 +53,22 @@ import com.meryt.demographics.response.calendar.NewFarmEvent;
 import com.meryt.demographics.response.calendar.PropertyTransferEvent;
 import com.meryt.demographics.response.calendar.TitleCreationEvent;
 import com.meryt.demographics.rest.BadRequestException;
+import com.meryt.demographics.rest.ConflictException;
+import com.meryt.demographics.time.CalendarScheduler;
+import com.meryt.demographics.time.LocalDateComparator;
+
+import static java.time.temporal.ChronoUnit.DAYS;
 
 @Slf4j
 @Service
 public class CalendarService {
 
+    // Identifies the maternity phase, which rolls dice in parallel, when deriving its random streams
+    private static final long MATERNITY_STREAM = 3;
+
+    // Women are checked in chunks of this many consecutive IDs, so that each task has more to do than one woman's days
+    private static final long MATERNITY_CHUNK_SIZE = 256;
+
     private final ConfigurationService configurationService;
     private final PersonService personService;
     private final FamilyGenerator familyGenerator;
@@ -62,6 +82,22 @@ public class CalendarService {
     private final HouseholdDwellingPlaceService householdDwellingPlaceService;
     private final TitleService titleService;
     private final HouseholdService householdService;
+    private final ParallelWorkService parallelWorkService;
+    private final PlatformTransactionManager transactionManager;
+    private final MetricsRegistry metricsRegistry;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * The cancellation tokens of all advances currently running, so that they can be paused
+     */
+    private final Set<CancellationToken> runningAdvances = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Held for the whole of an advance, so that only one advance writes to the calendar at a time
+     */
+    private final ReentrantLock advanceLock = new ReentrantLock();
 
     public CalendarService(@Autowired @NonNull ConfigurationService configurationService,
                            @Autowired @NonNull PersonService personService,
@@ -75,7 +111,10 @@ public class CalendarService {
                            @Autowired @NonNull ImmigrationService immigrationService,
                            @Autowired @NonNull HouseholdDwellingPlaceService householdDwellingPlaceService,
                            @Autowired @NonNull TitleService titleService,
-                           @Autowired @NonNull HouseholdService householdService) {
+                           @Autowired @NonNull HouseholdService householdService,
+                           @Autowired @NonNull ParallelWorkService parallelWorkService,
+                           @Autowired @NonNull PlatformTransactionManager transactionManager,
+                           @Autowired @NonNull MetricsRegistry metricsRegistry) {
         this.configurationService = configurationService;
         this.personService = personService;
         this.familyGenerator = familyGenerator;
@@ -89,139 +128,317 @@ public class CalendarService {
         this.householdDwellingPlaceService = householdDwellingPlaceService;
         this.titleService = titleService;
         this.householdService = householdService;
+        this.parallelWorkService = parallelWorkService;
+        this.transactionManager = transactionManager;
+        this.metricsRegistry = metricsRegistry;
     }
 
     /**
-     * Perform checks on current date up to given date.
+     * Perform checks on current date up to given date. If the request is event-driven, days on which nothing is
+     * scheduled to happen are skipped entirely; otherwise every day is checked.
      *
      * @param toDate the end date (inclusive)
      * @return a list of things that happened on this day
      */
     public Map<LocalDate, List<CalendarDayEvent>> advanceToDay(@NonNull LocalDate toDate,
                                                                @NonNull AdvanceToDatePost nextDatePost) {
-        Profiler profiler = new Profiler();
+        return advanceToDay(toDate, nextDatePost, null);
+    }
+
+    /**
+     * Perform checks on current date up to given date, optionally passing each day's events to a listener as soon as
+     * the day is finished.
+     *
+     * @param toDate the end date (inclusive)
+     * @param listener if non-null, receives the events after each day is processed, and the events are not kept
+     * @return the things that happened on each day, or an empty map if a listener was given
+     */
+    public Map<LocalDate, List<CalendarDayEvent>> advanceToDay(@NonNull LocalDate toDate,
+                                                               @NonNull AdvanceToDatePost nextDatePost,
+                                                               @Nullable CalendarEventListener listener) {
+        return advanceToDay(toDate, nextDatePost, listener, new CancellationToken());
+    }
+
+    /**
+     * Perform checks on current date up to given date, stopping early if the token is cancelled. The token is also
+     * cancelled by {@link #cancelRunningAdvances()}.
+     *
+     * @param toDate the end date (inclusive)
+     * @param listener if non-null, receives the events after each day is processed, and the events are not kept
+     * @param cancellationToken checked before each day is processed
+     * @return the things that happened on each day, or an empty map if a listener was given
+     * @throws ConflictException if another advance (such as a calendar job) is already running
+     */
+    public Map<LocalDate, List<CalendarDayEvent>> advanceToDay(@NonNull LocalDate toDate,
+                                                               @NonNull AdvanceToDatePost nextDatePost,
+                                                               @Nullable CalendarEventListener listener,
+                                                               @NonNull CancellationToken cancellationToken) {
+        if (!advanceLock.tryLock()) {
+            throw new ConflictException("Cannot advance the calendar: another advance is already running");
+        }
+        try {
+            return runAdvance(toDate, nextDatePost, listener, cancellationToken);
+        } finally {
+            advanceLock.unlock();
+        }
+    }
+
+    /**
+     * Same as {@link #advanceToDay(LocalDate, AdvanceToDatePost, CalendarEventListener, CancellationToken)}, except
+     * that if another advance is running, this waits for it to finish rather than failing. Used by queued jobs.
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    Map<LocalDate, List<CalendarDayEvent>> advanceToDayWhenIdle(@NonNull LocalDate toDate,
+                                                                @NonNull AdvanceToDatePost nextDatePost,
+                                                                @Nullable CalendarEventListener listener,
+                                                                @NonNull CancellationToken cancellationToken)
+            throws InterruptedException {
+        advanceLock.lockInterruptibly();
+        try {
+            return runAdvance(toDate, nextDatePost, listener, cancellationToken);
+        } finally {
+            advanceLock.unlock();
+        }
+    }
+
+    /**
+     * Checks whether an advance is running, so that a request to start another can be rejected before any work is
+     * done. The lock taken by the advance itself is what actually keeps them apart.
+     */
+    public boolean isAdvancing() {
+        return advanceLock.isLocked();
+    }
+
+    private Map<LocalDate, List<CalendarDayEvent>> runAdvance(@NonNull LocalDate toDate,
+                                                              @NonNull AdvanceToDatePost nextDatePost,
+                                                              @Nullable CalendarEventListener listener,
+                                                              @NonNull CancellationToken cancellationToken) {
+        runningAdvances.add(cancellationToken);
+        try {
+            return doAdvanceToDay(toDate, nextDatePost, listener, cancellationToken);
+        } finally {
+            runningAdvances.remove(cancellationToken);
+        }
+    }
+
+    /**
+     * Asks every advance currently running to stop after the day it is processing.
+     *
+     * @return the number of advances that were running
+     */
+    public int cancelRunningAdvances() {
+        int count = 0;
+        for (CancellationToken token : runningAdvances) {
+            token.cancel();
+            count++;
+        }
+        return count;
+    }
+
+    private Map<LocalDate, List<CalendarDayEvent>> doAdvanceToDay(@NonNull LocalDate toDate,
+                                                                  @NonNull AdvanceToDatePost nextDatePost,
+                                                                  @Nullable CalendarEventListener listener,
+                                                                  @NonNull CancellationToken cancellationToken) {
+        Profiler profiler = new Profiler(metricsRegistry);
         profiler.start("advanceToDay");
 
-        Profiler marriageProfiler = new Profiler();
+        Profiler marriageProfiler = new Profiler(metricsRegistry);
 
         LocalDate currentDate = configurationService.getCurrentDate();
         if (currentDate == null) {
             throw new IllegalStateException("Current date is null");
         }
+        if (listener != null) {
+            listener.onStart(currentDate);
+        }
 
-        configurationService.unpauseCheck();
+        if (nextDatePost.getRandomSeed() != null) {
+            Randomness.setSeed(nextDatePost.getRandomSeed());
+        }
 
         RandomFamilyParameters familyParameters = nextDatePost.getFamilyParameters();
         RandomTitleParameters titleParameters = nextDatePost.getTitleParameters();
 
-        Map<LocalDate, List<CalendarDayEvent>> results = new TreeMap<>();
-        int i = 0;
+        CalendarEventJournal journal = new CalendarEventJournal();
         int matBatchSize = nextDatePost.getMaternityNumDaysOrDefault();
         if (matBatchSize <= 0) {
             throw new BadRequestException("maternityNumDays must be a positive integer (defaults to 1 if not specified)");
         }
-        for (LocalDate date = currentDate.plusDays(1); !date.isAfter(toDate); date = date.plusDays(1)) {
-            log.debug(String.format("Checking for events on %s", date));
 
-            if (configurationService.isPauseCheck()) {
-                log.info("Checking is paused; exiting loop.");
-                break;
-            }
+        CalendarScheduler scheduler = null;
+        RandomEventPlan plan = null;
+        LocalDate date = currentDate.plusDays(1);
+        if (nextDatePost.getEventDrivenOrDefault()) {
+            scheduler = new CalendarScheduler(toDate);
+            plan = new RandomEventPlan();
+            planRandomEvents(plan, currentDate, toDate, nextDatePost);
+            scheduleNextDates(scheduler, plan, currentDate, nextDatePost);
+            date = scheduler.peekNextDate();
+        }
 
-            if (nextDatePost.getGenerateMarriages()) {
-                profiler.start("generateMarriagesToDate");
-                Map<LocalDate, List<CalendarDayEvent>> marriageEvents = generateMarriagesToDate(date, familyParameters,
-                        nextDatePost.getFarmNamesOrDefault(), marriageProfiler);
-                results = mergeMaps(results, marriageEvents);
-                profiler.stop("generateMarriagesToDate");
-            }
+        try (SimulationSession session = new SimulationSession(transactionManager, entityManager,
+                nextDatePost.getSessionFlushDaysOrDefault(), chunkStartDate -> {
+                    profiler.start("loadWorkingSet");
+                    loadWorkingSet(chunkStartDate);
+                    profiler.stop("loadWorkingSet");
+                })) {
+            while (date != null && !date.isAfter(toDate)) {
+                log.debug(String.format("Checking for events on %s", date));
+                session.beforeDay(date);
 
-            // Say the batch size is 7. If so, we don't check on the 0th through 5th date, but do on the 6th.
-            // Or, in case the number of days is such that less than a full 7 days fits in at the end, we always
-            // check on the last day of the iteration.
-            if (i % matBatchSize == (matBatchSize - 1) || date.equals(toDate)) {
-                // Allow the maternity check to rebuild ancestry only if:
-                // - the number of days between ancestry rebuilds is left null, or
-                // - the number of days to check is less than the number of days between rebuilds (e.g. we are only
-                //   checking one day at a time, we don't want to rebuild ancestry every time, we only want to do it
-                //   if there were births)
-                profiler.start("advanceMaternitiesToDay");
-                Map<LocalDate, List<CalendarDayEvent>> maternityEvents = advanceMaternitiesToDay(date);
-                results = mergeMaps(results, maternityEvents);
-                profiler.stop("advanceMaternitiesToDay");
-            }
+                if (cancellationToken.isCancelled()) {
+                    log.info("Checking is paused; exiting loop.");
+                    break;
+                }
 
-            if (isDuringPlague(date)) {
-                profiler.start("processPlagueDeathsOnDay");
-                processPlagueDeathsOnDay(date);
-                profiler.stop("processPlagueDeathsOnDay");
-            }
+                if (nextDatePost.getGenerateMarriages()) {
+                    profiler.start("generateMarriagesToDate");
+                    List<Person> suitors = plan == null
+                            ? findSuitors(date, familyParameters, marriageProfiler)
+                            : findPlannedSuitors(date, plan, familyParameters);
+                    generateMarriagesToDate(date, suitors, familyParameters, nextDatePost.getFarmNamesOrDefault(),
+                            marriageProfiler, journal);
+                    // The maternity check finds the new wives with a query
+                    session.flush();
+                    profiler.stop("generateMarriagesToDate");
+                }
 
-            profiler.start("processDeathsOnDay");
-            Map<LocalDate, List<CalendarDayEvent>> deathEvents = processDeathsOnDay(date);
-            results = mergeMaps(results, deathEvents);
-            profiler.stop("processDeathsOnDay");
-
-            if (nextDatePost.getProcessImmigrants()) {
-                if (familyParameters.isSkipCreateHouseholds() || familyParameters.isSkipManageCapital()) {
-                    profiler.start("processImmigrants");
-                    Map<LocalDate, List<CalendarDayEvent>> immigrantEvents = processImmigrants(date,
-                            nextDatePost.getChanceNewFamilyPerYear(), familyParameters);
-                    results = mergeMaps(results, immigrantEvents);
-                    profiler.stop("processImmigrants");
+                // When skipping days, the days processed include every woman's next event date, and only women with
+                // something due are loaded, so they are checked on every day processed. Otherwise, say the batch size
+                // is 7. If so, we don't check on the 1st through 6th day after the start, but do on the 7th. Or, in
+                // case the number of days is such that less than a full 7 days fits in at the end, we always check on
+                // the last day of the iteration.
+                if (scheduler != null
+                        || DAYS.between(currentDate, date) % matBatchSize == 0
+                        || date.equals(toDate)) {
+                    // Allow the maternity check to rebuild ancestry only if:
+                    // - the number of days between ancestry rebuilds is left null, or
+                    // - the number of days to check is less than the number of days between rebuilds (e.g. we are only
+                    //   checking one day at a time, we don't want to rebuild ancestry every time, we only want to do it
+                    //   if there were births)
+                    profiler.start("advanceMaternitiesToDay");
+                    advanceMaternitiesToDay(date, journal);
+                    // The death checks find the children who died at birth with a query
+                    session.flush();
+                    profiler.stop("advanceMaternitiesToDay");
                 }
-            }
 
-            profiler.start("processTitlesInAbeyance");
-            Map<LocalDate, List<CalendarDayEvent>> titleEvents = processTitlesInAbeyance(date);
-            results = mergeMaps(results, titleEvents);
-            profiler.stop("processTitlesInAbeyance");
+                if (isDuringPlague(date)) {
+                    profiler.start("processPlagueDeathsOnDay");
+                    processPlagueDeathsOnDay(date);
+                    // The death checks find the plague's victims by their death date with a query
+                    session.flush();
+                    profiler.stop("processPlagueDeathsOnDay");
+                }
 
-            if (titleParameters != null) {
-                profiler.start("processNewTitles");
-                Map<LocalDate, List<CalendarDayEvent>> newTitleEvents = processNewTitles(titleParameters, date);
-                results = mergeMaps(results, newTitleEvents);
-                profiler.stop("processNewTitles");
-            }
+                profiler.start("processDeathsOnDay");
+                processDeathsOnDay(date, journal);
+                // The abeyance check finds the titles of the dead with a query, and the later phases query the
+                // households and places they left
+                session.flush();
+                profiler.stop("processDeathsOnDay");
 
-            if (date.getMonthValue() == nextDatePost.getFirstMonthOfYearOrDefault()
-                    && date.getDayOfMonth() == nextDatePost.getFirstDayOfYearOrDefault()) {
-                if (!familyParameters.isSkipManageCapital()) {
-                    profiler.start("distributeCapital");
-                    distributeCapital(date);
-                    profiler.stop("distributeCapital");
+                if (nextDatePost.getProcessImmigrants()) {
+                    if (familyParameters.isSkipCreateHouseholds() || familyParameters.isSkipManageCapital()) {
+                        profiler.start("processImmigrants");
+                        if (plan != null) {
+                            for (long parishId : plan.getArrivalParishIds(date)) {
+                                processImmigrantArrival((Parish) dwellingPlaceService.load(parishId), date,
+                                        familyParameters, journal);
+                            }
+                        } else {
+                            processImmigrants(date, nextDatePost.getChanceNewFamilyPerYear(), familyParameters,
+                                    journal);
+                        }
+                        session.flush();
+                        profiler.stop("processImmigrants");
+                    }
                 }
-                if (!familyParameters.isSkipCreateHouseholds()) {
-                    profiler.start("condemnRuinedHouses");
-                    condemnRuinedHouses(date);
-                    profiler.stop("condemnRuinedHouses");
-                    profiler.start("cleanUpEmptyHouseholds");
-                    cleanUpEmptyHouseholds(date);
-                    profiler.stop("cleanUpEmptyHouseholds");
+
+                profiler.start("processTitlesInAbeyance");
+                processTitlesInAbeyance(date, journal);
+                session.flush();
+                profiler.stop("processTitlesInAbeyance");
+
+                if (titleParameters != null) {
+                    profiler.start("processNewTitles");
+                    processNewTitles(titleParameters, date, plan, journal);
+                    session.flush();
+                    profiler.stop("processNewTitles");
+                }
+
+                if (date.getMonthValue() == nextDatePost.getFirstMonthOfYearOrDefault()
+                        && date.getDayOfMonth() == nextDatePost.getFirstDayOfYearOrDefault()) {
+                    if (!familyParameters.isSkipManageCapital()) {
+                        profiler.start("distributeCapital");
+                        distributeCapital(date);
+                        session.flush();
+                        profiler.stop("distributeCapital");
+                    }
+                    if (!familyParameters.isSkipCreateHouseholds()) {
+                        profiler.start("condemnRuinedHouses");
+                        condemnRuinedHouses(date);
+                        session.flush();
+                        profiler.stop("condemnRuinedHouses");
+                        profiler.start("cleanUpEmptyHouseholds");
+                        cleanUpEmptyHouseholds(date);
+                        session.flush();
+                        profiler.stop("cleanUpEmptyHouseholds");
+                    }
+                }
+
+                if (nextDatePost.getProcessQuarterDays() && isQuarterDay(date)) {
+                    if (!familyParameters.isSkipCreateHouseholds()) {
+                        profiler.start("moveHouseholdsToBetterHouses");
+                        moveHouseholdsToBetterHouses(date);
+                        session.flush();
+                        profiler.stop("moveHouseholdsToBetterHouses");
+                        profiler.start("hireAndFireDomesticServants");
+                        hireAndFireDomesticServants(date);
+                        session.flush();
+                        profiler.stop("hireAndFireDomesticServants");
+                        profiler.start("hireEstateEmployees");
+                        hireEstateEmployees(date);
+                        profiler.stop("hireEstateEmployees");
+                    }
+                }
+
+                configurationService.setCurrentDate(date);
+                metricsRegistry.increment("daysProcessed");
+
+                profiler.start("flushSession");
+                session.afterDay(date);
+                profiler.stop("flushSession");
+
+                if (listener != null) {
+                    if (!journal.isEmpty()) {
+                        metricsRegistry.increment("eventsGenerated", journal.size());
+                        journal.drain(e -> isIncludedEvent(e, nextDatePost)).forEach(listener::onEvents);
+                    }
+                    listener.onDayFinished(date, profiler);
                 }
-            }
 
-            if (nextDatePost.getProcessQuarterDays() && isQuarterDay(date)) {
-                if (!familyParameters.isSkipCreateHouseholds()) {
-                    profiler.start("moveHouseholdsToBetterHouses");
-                    moveHouseholdsToBetterHouses(date);
-                    profiler.stop("moveHouseholdsToBetterHouses");
-                    profiler.start("hireAndFireDomesticServants");
-                    hireAndFireDomesticServants(date);
-                    profiler.stop("hireAndFireDomesticServants");
-                    profiler.start("hireEstateEmployees");
-                    hireEstateEmployees(date);
-                    profiler.stop("hireEstateEmployees");
+                if (scheduler == null) {
+                    date = date.plusDays(1);
+                } else {
+                    profiler.start("scheduleNextDates");
+                    updatePlan(plan, date, toDate, nextDatePost);
+                    scheduleNextDates(scheduler, plan, date, nextDatePost);
+                    profiler.stop("scheduleNextDates");
+                    date = scheduler.peekNextDate();
                 }
             }
 
-            configurationService.setCurrentDate(date);
-            i++;
+            profiler.start("flushSession");
+            session.commit();
+            profiler.stop("flushSession");
         }
 
         checkForErrors(configurationService.getCurrentDate());
 
-        filterOutEventTypes(results, nextDatePost);
+        metricsRegistry.increment("eventsGenerated", journal.size());
+        Map<LocalDate, List<CalendarDayEvent>> results = journal.toMap(e -> isIncludedEvent(e, nextDatePost));
 
         log.info("Finished advancing calendar");
 
@@ -231,10 +448,214 @@ public class CalendarService {
         return results;
     }
 
-    private Map<LocalDate, List<CalendarDayEvent>> generateMarriagesToDate(@NonNull LocalDate date,
-                                                                           @NonNull RandomFamilyParameters familyParameters,
-                                                                           @NonNull List<String> farmNames,
-                                                                           @NonNull Profiler profiler) {
+    /**
+     * Loads what most days touch into the persistence context, a few queries in all: the living population, the
+     * households that are living somewhere, the dwelling places, and the titles
+     */
+    private void loadWorkingSet(@NonNull LocalDate onDate) {
+        personService.findAllLiving(onDate);
+        householdService.loadHouseholdsWithLocations(onDate);
+        dwellingPlaceService.loadAll();
+        titleService.findAll();
+    }
+
+    /**
+     * Draws the whole plan of the days on which the phases that would otherwise roll dice every day succeed, from the
+     * day after the given date to the end of the advance
+     */
+    private void planRandomEvents(@NonNull RandomEventPlan plan,
+                                  @NonNull LocalDate afterDate,
+                                  @NonNull LocalDate toDate,
+                                  @NonNull AdvanceToDatePost post) {
+        RandomFamilyParameters familyParameters = post.getFamilyParameters();
+        LocalDate fromDate = afterDate.plusDays(1);
+
+        plan.setLastPersonId(personService.findLastPersonId());
+        if (post.getGenerateMarriages()) {
+            List<Person> unmarriedPeople = personService.findUnmarriedPeopleBetween(fromDate, toDate,
+                    familyParameters.getMinHusbandAgeOrDefault(),
+                    familyParameters.getMaxHusbandAgeOrDefault(),
+                    familyParameters.getMinWifeAgeOrDefault(),
+                    familyParameters.getMaxWifeAgeOrDefault());
+            for (Person person : unmarriedPeople) {
+                plan.setSuitorDate(person.getId(), drawMarriageDate(person, fromDate, toDate, familyParameters));
+            }
+        }
+
+        if (isPlanningArrivals(post)) {
+            for (DwellingPlace parish : dwellingPlaceService.loadByType(DwellingPlaceType.PARISH)) {
+                plan.setArrivalDate(parish.getId(), drawArrivalDate(fromDate, toDate, post));
+            }
+        }
+
+        plan.setNewTitleDate(drawNewTitleDate(fromDate, toDate, post));
+    }
+
+    /**
+     * Draws again the dates of whoever the day's events may have changed the chances of, and leaves the rest of the
+     * plan as it was drawn. These are:
+     * <ul>
+     *     <li>the people who wanted to marry on the day, whether or not they found a spouse, and their new spouses</li>
+     *     <li>the people who died on the day, and their widows and widowers</li>
+     *     <li>the people added on the day (e.g. born, immigrated), some of whom come of age later in the advance</li>
+     *     <li>the parishes in which a family arrived on the day, and the new title if one was created</li>
+     * </ul>
+     */
+    private void updatePlan(@NonNull RandomEventPlan plan,
+                            @NonNull LocalDate date,
+                            @NonNull LocalDate toDate,
+                            @NonNull AdvanceToDatePost post) {
+        RandomFamilyParameters familyParameters = post.getFamilyParameters();
+        LocalDate nextDay = date.plusDays(1);
+
+        if (post.getGenerateMarriages()) {
+            SortedMap<Long, Person> changed = new TreeMap<>();
+            for (Person person : personService.loadInOrder(plan.getSuitorIds(date))) {
+                changed.put(person.getId(), person);
+            }
+            for (Person person : personService.findByDeathDate(date)) {
+                changed.put(person.getId(), person);
+            }
+            for (Person person : new ArrayList<>(changed.values())) {
+                for (Person spouse : person.getSpouses()) {
+                    changed.putIfAbsent(spouse.getId(), spouse);
+                }
+            }
+            for (Person person : personService.findAddedAfter(plan.getLastPersonId())) {
+                changed.putIfAbsent(person.getId(), person);
+                plan.setLastPersonId(person.getId());
+            }
+            for (Person person : changed.values()) {
+                plan.setSuitorDate(person.getId(), drawMarriageDate(person, nextDay, toDate, familyParameters));
+            }
+        }
+
+        if (isPlanningArrivals(post)) {
+            for (long parishId : plan.getArrivalParishIds(date)) {
+                plan.setArrivalDate(parishId, drawArrivalDate(nextDay, toDate, post));
+            }
+        }
+
+        if (date.equals(plan.getNewTitleDate())) {
+            plan.setNewTitleDate(drawNewTitleDate(nextDay, toDate, post));
+        }
+    }
+
+    /**
+     * Reschedules every source of calendar work with its next date strictly after the given date. Sources backed by
+     * the database are re-queried each time, since processing a day may add or move events (e.g. a birth adds a death
+     * date, a death puts a title in abeyance). The phases that roll dice every day are scheduled from the plan.
+     *
+     * @param scheduler the scheduler to update
+     * @param plan the plan of the days on which the daily rolls succeed, already updated for the date
+     * @param afterDate the date that was just processed
+     * @param post the request, which determines which phases are enabled
+     */
+    private void scheduleNextDates(@NonNull CalendarScheduler scheduler,
+                                   @NonNull RandomEventPlan plan,
+                                   @NonNull LocalDate afterDate,
+                                   @NonNull AdvanceToDatePost post) {
+        RandomFamilyParameters familyParameters = post.getFamilyParameters();
+        LocalDate nextDay = afterDate.plusDays(1);
+
+        scheduler.schedule(CalendarScheduler.Source.MARRIAGE, plan.getNextMarriageDate());
+        scheduler.schedule(CalendarScheduler.Source.IMMIGRANT, plan.getNextArrivalDate());
+        scheduler.schedule(CalendarScheduler.Source.NEW_TITLE, plan.getNewTitleDate());
+
+        scheduler.schedule(CalendarScheduler.Source.DEATH, personService.findNextDeathDateAfter(afterDate));
+
+        scheduler.schedule(CalendarScheduler.Source.MATERNITY, fertilityService.findNextEventDateAfter(afterDate));
+
+        LocalDate nextAbeyanceCheck = titleService.findNextAbeyanceCheckDate();
+        if (nextAbeyanceCheck != null && !nextAbeyanceCheck.isAfter(afterDate)) {
+            // An overdue check is picked up on the next day processed
+            nextAbeyanceCheck = nextDay;
+        }
+        scheduler.schedule(CalendarScheduler.Source.ABEYANCE, nextAbeyanceCheck);
+
+        if (!familyParameters.isSkipManageCapital() || !familyParameters.isSkipCreateHouseholds()) {
+            MonthDay firstOfYear = MonthDay.of(post.getFirstMonthOfYearOrDefault(), post.getFirstDayOfYearOrDefault());
+            scheduler.schedule(CalendarScheduler.Source.FIRST_OF_YEAR,
+                    CalendarScheduler.nextMonthDayAfter(firstOfYear, afterDate));
+        } else {
+            scheduler.schedule(CalendarScheduler.Source.FIRST_OF_YEAR, null);
+        }
+
+        if (post.getProcessQuarterDays() && !familyParameters.isSkipCreateHouseholds()) {
+            scheduler.schedule(CalendarScheduler.Source.QUARTER_DAY, CalendarScheduler.nextQuarterDayAfter(afterDate));
+        } else {
+            scheduler.schedule(CalendarScheduler.Source.QUARTER_DAY, null);
+        }
+
+        if (isDuringPlague(nextDay)) {
+            scheduler.schedule(CalendarScheduler.Source.PLAGUE, nextDay);
+        } else {
+            Plague nextPlague = Plague.getNextPlagueAfter(afterDate);
+            scheduler.schedule(CalendarScheduler.Source.PLAGUE, nextPlague == null ? null : nextPlague.getFromDate());
+        }
+    }
+
+    /**
+     * Draws the next day in the range on which the person wants to marry. Only the days on which they are unmarried
+     * and of an age to marry are drawn from.
+     *
+     * @return a day in the range, or null if they are not free to marry or do not want to on any day of it
+     */
+    @Nullable
+    private LocalDate drawMarriageDate(@NonNull Person person,
+                                       @NonNull LocalDate fromDate,
+                                       @NonNull LocalDate toDate,
+                                       @NonNull RandomFamilyParameters familyParameters) {
+        if (!person.isLiving(fromDate) || person.isMarriedNowOrAfter(fromDate)
+                || person.isFinishedGeneration() || person.isStoryCharacter()) {
+            return null;
+        }
+        int minAge = person.isMale()
+                ? familyParameters.getMinHusbandAgeOrDefault()
+                : familyParameters.getMinWifeAgeOrDefault();
+        int maxAge = person.isMale()
+                ? familyParameters.getMaxHusbandAgeOrDefault()
+                : familyParameters.getMaxWifeAgeOrDefault();
+        LocalDate firstDay = LocalDateComparator.max(fromDate, person.getBirthDate().plusYears(minAge));
+        LocalDate lastDay = LocalDateComparator.min(toDate, person.getDeathDate(),
+                person.getBirthDate().plusYears(maxAge + 1L).minusDays(1));
+        if (lastDay.isBefore(firstDay)) {
+            return null;
+        }
+        return familyGenerator.nextDesireToMarryDate(person, firstDay, lastDay);
+    }
+
+    private boolean isPlanningArrivals(@NonNull AdvanceToDatePost post) {
+        RandomFamilyParameters familyParameters = post.getFamilyParameters();
+        return post.getProcessImmigrants()
+                && post.getChanceNewFamilyPerYear() != null
+                && (familyParameters.isSkipCreateHouseholds() || familyParameters.isSkipManageCapital());
+    }
+
+    @Nullable
+    private LocalDate drawArrivalDate(@NonNull LocalDate fromDate,
+                                      @NonNull LocalDate toDate,
+                                      @NonNull AdvanceToDatePost post) {
+        return RandomEventPlan.drawNextDate(fromDate, toDate, post.getChanceNewFamilyPerYear() / 365.0);
+    }
+
+    @Nullable
+    private LocalDate drawNewTitleDate(@NonNull LocalDate fromDate,
+                                       @NonNull LocalDate toDate,
+                                       @NonNull AdvanceToDatePost post) {
+        RandomTitleParameters titleParameters = post.getTitleParameters();
+        return titleParameters == null
+                ? null
+                : RandomEventPlan.drawNextDate(fromDate, toDate, titleParameters.getDailyNewTitleProbability());
+    }
+
+    /**
+     * Rolls for each unmarried person of an age to marry whether they want to marry today
+     */
+    @NonNull
+    private List<Person> findSuitors(@NonNull LocalDate date,
+                                     @NonNull RandomFamilyParameters familyParameters,
+                                     @NonNull Profiler profiler) {
         profiler.start("findUnmarriedPeople");
         List<Person> unmarriedPeople = personService.findUnmarriedPeople(date,
                 familyParameters.getMinHusbandAgeOrDefault(),
@@ -244,118 +665,198 @@ public class CalendarService {
                 false, // residentsOnly
                 null); // gender (i.e. find both genders)
         profiler.stop();
-        Map<LocalDate, List<CalendarDayEvent>> results = new TreeMap<>();
-        List<CalendarDayEvent> dayResults = new ArrayList<>();
 
-        for (Person person : unmarriedPeople) {
-            profiler.start("attemptToFindSpouse");
-            Family family = familyGenerator.attemptToFindSpouse(date, date, person, familyParameters, profiler);
+        // Everyone rolls for whether they want to marry today before anyone is matched
+        profiler.start("wantsToMarry");
+        List<Person> suitors = unmarriedPeople.stream()
+                .filter(p -> familyGenerator.wantsToMarry(p, date))
+                .collect(Collectors.toList());
+        profiler.stop();
+        return suitors;
+    }
+
+    /**
+     * Gets the people planned to want to marry today who are still free to, and of an age to, marry
+     */
+    @NonNull
+    private List<Person> findPlannedSuitors(@NonNull LocalDate date,
+                                            @NonNull RandomEventPlan plan,
+                                            @NonNull RandomFamilyParameters familyParameters) {
+        return personService.loadInOrder(plan.getSuitorIds(date)).stream()
+                .filter(p -> p.isLiving(date) && !p.isMarriedNowOrAfter(date))
+                .filter(p -> {
+                    int age = p.getAgeInYears(date);
+                    return p.isMale()
+                            ? age >= familyParameters.getMinHusbandAgeOrDefault()
+                                && age <= familyParameters.getMaxHusbandAgeOrDefault()
+                            : age >= familyParameters.getMinWifeAgeOrDefault()
+                                && age <= familyParameters.getMaxWifeAgeOrDefault();
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Has each of the people who want to marry today propose to someone, and sets up the marriages that result
+     */
+    private void generateMarriagesToDate(@NonNull LocalDate date,
+                                         @NonNull List<Person> suitors,
+                                         @NonNull RandomFamilyParameters familyParameters,
+                                         @NonNull List<String> farmNames,
+                                         @NonNull Profiler profiler,
+                                         @NonNull CalendarEventJournal journal) {
+        if (suitors.isEmpty()) {
+            return;
+        }
+
+        // Resolve all proposals in one pass over an index of the marriage market, loaded with a single query. A
+        // family created here is attached to both spouses in memory, so neither can be found again as a candidate.
+        profiler.start("loadMarriageMarket");
+        MarriageMarketIndex marriageMarket = personService.loadMarriageMarket(date, familyParameters);
+        profiler.stop();
+        List<Family> newFamilies = new ArrayList<>();
+        List<Person> matchedSuitors = new ArrayList<>();
+        for (Person suitor : suitors) {
+            if (suitor.isMarriedNowOrAfter(date)) {
+                // Already accepted a proposal today
+                continue;
+            }
+            profiler.start("proposeMarriage");
+            Family family = familyGenerator.proposeMarriage(suitor, date, familyParameters, profiler, marriageMarket);
             profiler.stop();
             if (family != null) {
-                profiler.start("creatingNewFamily");
-                familyService.save(family);
-                dayResults.add(new MarriageEvent(date, family));
-                logMarriage(family, date);
-                family = familyService.setupMarriage(family, family.getWeddingDate(),
-                        !familyParameters.isSkipCreateHouseholds(), !familyParameters.isSkipManageCapital(), true);
-                // setupMarriage() might have disabled the maternity check so save this value so we know whether to
-                // restore it or not
-                boolean previousHavingRelationsValue = family.getWife().getMaternity().isHavingRelations();
-                family.getWife().getMaternity().setHavingRelations(false);
-                // If the woman is randomly generated her last check date is in the past. Bring her up to yesterday so
-                // that in the next step when we advance maternities, she will start with her wedding night.
-                fertilityService.cycleToDate(family.getWife(), date.minusDays(1), false);
-                family.getWife().getMaternity().setHavingRelations(previousHavingRelationsValue);
-                personService.save(family.getWife());
-
-                Household household = person.getHousehold(date);
-                if (household != null) {
-                    DwellingPlace householdLocation = household.getDwellingPlace(date);
-                    if (householdLocation != null) {
-                        Occupation occupation = occupationService.findAvailableOccupationForPerson(person,
-                                householdLocation, date);
-                        if (occupation != null) {
-                            person.addOccupation(occupation, date);
-                            personService.save(person);
-                            dayResults.add(new EmploymentEvent(date, person, occupation));
-
-                            if (occupation.isFarmOwner()) {
-                                DwellingPlace dwellingPlace = person.getResidence(date);
-                                if (dwellingPlace != null && dwellingPlace.isHouse()
-                                        && !dwellingPlace.getParent().isFarm()
-                                        /* disallow putting a farm above a manor house (farm houses are also
-                                         * attached to their parents, but they are excluded in the previous line */
-                                        && !dwellingPlace.isAttachedToParent()
-                                        && !dwellingPlace.isEntailed()) {
-                                    Farm farm = householdDwellingPlaceService.convertRuralHouseToFarm(
-                                            (Dwelling) dwellingPlace, date, farmNames);
-                                    if (farm != null) {
-                                        dayResults.add(new NewFarmEvent(date, farm));
-                                    }
+                marriageMarket.update(family.getHusband());
+                marriageMarket.update(family.getWife());
+                newFamilies.add(family);
+                matchedSuitors.add(suitor);
+            }
+        }
+        if (newFamilies.isEmpty()) {
+            return;
+        }
+
+        profiler.start("saveNewFamilies");
+        newFamilies = familyService.saveAll(newFamilies);
+        profiler.stop();
+
+        // The people changed below are saved together after the loop, so their updates can be written in batches
+        List<Person> updatedPeople = new ArrayList<>();
+        for (int i = 0; i < newFamilies.size(); i++) {
+            Family family = newFamilies.get(i);
+            Person person = matchedSuitors.get(i);
+            profiler.start("creatingNewFamily");
+            journal.add(new MarriageEvent(date, family));
+            logMarriage(family, date);
+            family = familyService.setupMarriage(family, family.getWeddingDate(),
+                    !familyParameters.isSkipCreateHouseholds(), !familyParameters.isSkipManageCapital(), true);
+            // setupMarriage() might have disabled the maternity check so save this value so we know whether to
+            // restore it or not
+            boolean previousHavingRelationsValue = family.getWife().getMaternity().isHavingRelations();
+            family.getWife().getMaternity().setHavingRelations(false);
+            // If the woman is randomly generated her last check date is in the past. Bring her up to yesterday so
+            // that in the next step when we advance maternities, she will start with her wedding night.
+            fertilityService.cycleToDate(family.getWife(), date.minusDays(1), false);
+            family.getWife().getMaternity().setHavingRelations(previousHavingRelationsValue);
+            updatedPeople.add(family.getWife());
+
+            Household household = person.getHousehold(date);
+            if (household != null) {
+                DwellingPlace householdLocation = household.getDwellingPlace(date);
+                if (householdLocation != null) {
+                    Occupation occupation = occupationService.findAvailableOccupationForPerson(person,
+                            householdLocation, date);
+                    if (occupation != null) {
+                        person.addOccupation(occupation, date);
+                        if (person != family.getWife()) {
+                            updatedPeople.add(person);
+                        }
+                        journal.add(new EmploymentEvent(date, person, occupation));
+
+                        if (occupation.isFarmOwner()) {
+                            DwellingPlace dwellingPlace = person.getResidence(date);
+                            if (dwellingPlace != null && dwellingPlace.isHouse()
+                                    && !dwellingPlace.getParent().isFarm()
+                                    /* disallow putting a farm above a manor house (farm houses are also
+                                     * attached to their parents, but they are excluded in the previous line */
+                                    && !dwellingPlace.isAttachedToParent()
+                                    && !dwellingPlace.isEntailed()) {
+                                Farm farm = householdDwellingPlaceService.convertRuralHouseToFarm(
+                                        (Dwelling) dwellingPlace, date, farmNames);
+                                if (farm != null) {
+                                    journal.add(new NewFarmEvent(date, farm));
                                 }
                             }
-
                         }
+
                     }
                 }
-                profiler.stop();
             }
-        }
-        if (!dayResults.isEmpty()) {
-            results.put(date, dayResults);
+            profiler.stop();
         }
 
-        return results;
+        profiler.start("saveMarriedPeople");
+        personService.saveAll(updatedPeople);
+        profiler.stop();
     }
 
-    private Map<LocalDate, List<CalendarDayEvent>> advanceMaternitiesToDay(@NonNull LocalDate date) {
+    private void advanceMaternitiesToDay(@NonNull LocalDate date, @NonNull CalendarEventJournal journal) {
         List<Person> women = personService.findWomenWithPendingMaternities(date);
         log.info(women.size() + " women need to be checked");
-        Map<LocalDate, List<CalendarDayEvent>> results = new TreeMap<>();
+        SortedMap<Long, MaternityCycle> cycles = new TreeMap<>();
         for (Person woman : women) {
             // FIXME HACK we have inheritance problems with a woman dying before her expected death date. So don't
             // allow her to die in (at least) these conditions.
             boolean allowMaternalDeath = woman.getTitles().isEmpty() && woman.getOwnedDwellingPlaces().isEmpty();
-            List<CalendarDayEvent> daysResults = fertilityService.cycleToDate(woman, date, allowMaternalDeath);
-            for (CalendarDayEvent result : daysResults) {
-                if (!results.containsKey(result.getDate())) {
-                    results.put(result.getDate(), new ArrayList<>());
-                }
-                results.get(result.getDate()).add(result);
+            MaternityCycle cycle = fertilityService.startCycle(woman, date, allowMaternalDeath);
+            if (cycle != null) {
+                cycles.put(woman.getId(), cycle);
+            }
+        }
+
+        // Women are independent of each other until one gives birth, so check their days up to then in parallel, in
+        // chunks of women by ID. The births need the database, so they are checked serially afterwards, in order of
+        // the women's IDs.
+        parallelWorkService.forEachInParallel(cycles, MATERNITY_CHUNK_SIZE,
+                Randomness.streamKey(MATERNITY_STREAM, date), MaternityCycle::checkDaysUntilBirth);
+        fertilityService.finishCycles(new ArrayList<>(cycles.values()));
+
+        for (MaternityCycle cycle : cycles.values()) {
+            Person woman = cycle.getWoman();
+            for (CalendarDayEvent result : cycle.getEvents()) {
+                journal.add(result);
                 if (result.getType() == CalendarEventType.BIRTH) {
                     BirthEvent event = (BirthEvent) result;
                     // If the child died before the given date, process the death, since we will have already passed
                     // it by in the main loop due to the batching of maternity checks.
                     if (event.getChild().getDeathDate().isBefore(date)) {
-                        Map<LocalDate, List<CalendarDayEvent>> childDeathResults = processSingleDeath(event.getChild(),
-                                event.getChild().getDeathDate());
-                        results = mergeMaps(results, childDeathResults);
+                        processSingleDeath(event.getChild(), event.getChild().getDeathDate(), journal);
                     }
                 }
                 if (result.getType() == CalendarEventType.DEATH && !result.getDate().equals(date)) {
-                    // A mother died in childbirth but the date is in the past according to our batching logic.
+                    // A mother died in childbirth or of a miscarriage but the date is in the past according to our
+                    // batching logic.
                     // Go back and process her death.
-                    Map<LocalDate, List<CalendarDayEvent>> deathResults = processSingleDeath(woman, result.getDate());
-                    results = mergeMaps(results, deathResults);
+                    processSingleDeath(woman, result.getDate(), journal);
                 }
             }
         }
-        return results;
     }
 
-    private Map<LocalDate, List<CalendarDayEvent>> processDeathsOnDay(@NonNull LocalDate date) {
+    private void processDeathsOnDay(@NonNull LocalDate date, @NonNull CalendarEventJournal journal) {
         List<Person> peopleDyingToday = personService.findByDeathDate(date);
-        Map<LocalDate, List<CalendarDayEvent>> results = new TreeMap<>();
         for (Person person : peopleDyingToday) {
-            Map<LocalDate, List<CalendarDayEvent>> singleResult = processSingleDeath(person, date);
-            results = mergeMaps(results, singleResult);
+            processSingleDeath(person, date, journal);
         }
-
-        return results;
     }
 
     public Map<LocalDate, List<CalendarDayEvent>> processSingleDeath(@NonNull Person person, @NonNull LocalDate date) {
-        Map<LocalDate, List<CalendarDayEvent>> results = new TreeMap<>();
+        CalendarEventJournal journal = new CalendarEventJournal();
+        processSingleDeath(person, date, journal);
+        return journal.toMap();
+    }
+
+    private void processSingleDeath(@NonNull Person person,
+                                    @NonNull LocalDate date,
+                                    @NonNull CalendarEventJournal journal) {
         List<CalendarDayEvent> daysResults = new ArrayList<>();
         log.info(String.format("%d %s died on %s, aged %d", person.getId(), person.getName(), date,
                 person.getAgeInYears(date)));
@@ -364,10 +865,10 @@ public class CalendarService {
         daysResults.addAll(inheritanceService.processDeath(person));
         daysResults.add(new DeathEvent(date, person));
         daysResults.addAll(events);
-        if (!daysResults.isEmpty()) {
-            results.put(date, daysResults);
+        // All of these are recorded under the death date, whatever their own dates
+        for (CalendarDayEvent event : daysResults) {
+            journal.add(event, date);
         }
-        return results;
     }
 
     /**
@@ -378,65 +879,43 @@ public class CalendarService {
      * @param chanceNewFamilyPerYear the percent chance of a new family being generated within a year (will divide by
      *                               365 to get chance per day... not really accurate, I know)
      * @param familyParameters the parameters used to generate the new family, if one comes up
-     * @return a map of events generated (possibly empty)
+     * @param journal the journal to which any events are added
      */
-    private Map<LocalDate, List<CalendarDayEvent>> processImmigrants(@NonNull LocalDate date,
-                                                                     @Nullable Double chanceNewFamilyPerYear,
-                                                                     @NonNull RandomFamilyParameters familyParameters) {
-        Map<LocalDate, List<CalendarDayEvent>> results = new HashMap<>();
-        List<CalendarDayEvent> dayResults = new ArrayList<>();
+    private void processImmigrants(@NonNull LocalDate date,
+                                   @Nullable Double chanceNewFamilyPerYear,
+                                   @NonNull RandomFamilyParameters familyParameters,
+                                   @NonNull CalendarEventJournal journal) {
         if (chanceNewFamilyPerYear == null) {
-            return results;
+            return;
         }
 
         for (DwellingPlace parish :  dwellingPlaceService.loadByType(DwellingPlaceType.PARISH)) {
             double chance = chanceNewFamilyPerYear / 365.0;
             if (PercentDie.roll() < chance) {
-                // Someone might want to immigrate. But if the population density is such that it is exerting outward
-                // pressure, they will not come after all. So only come if the density is low enough or the roll is
-                // high enough.
-                double chanceOfEmigrating = ((Parish) parish).getChanceOfEmigrating(date);
-                if (PercentDie.roll() > chanceOfEmigrating) {
-                    dayResults.addAll(immigrationService.processImmigrantArrival((Parish) parish,
-                           familyParameters, date));
-                }
+                processImmigrantArrival((Parish) parish, date, familyParameters, journal);
             }
         }
+    }
 
-        if (!dayResults.isEmpty()) {
-            results.put(date, dayResults);
+    /**
+     * Someone might want to immigrate to the parish. But if the population density is such that it is exerting
+     * outward pressure, they will not come after all. So only come if the density is low enough or the roll is high
+     * enough.
+     */
+    private void processImmigrantArrival(@NonNull Parish parish,
+                                         @NonNull LocalDate date,
+                                         @NonNull RandomFamilyParameters familyParameters,
+                                         @NonNull CalendarEventJournal journal) {
+        if (PercentDie.roll() > parish.getChanceOfEmigrating(date)) {
+            journal.addAll(immigrationService.processImmigrantArrival(parish, familyParameters, date), date);
         }
-
-        return results;
     }
 
-
-    private Map<LocalDate, List<CalendarDayEvent>> processTitlesInAbeyance(@NonNull LocalDate onDate) {
+    private void processTitlesInAbeyance(@NonNull LocalDate onDate, @NonNull CalendarEventJournal journal) {
         List<Title> titles = titleService.findTitlesForAbeyanceCheck(onDate);
-        Map<LocalDate, List<CalendarDayEvent>> results = new HashMap<>();
-        List<CalendarDayEvent> dayResults = new ArrayList<>();
-
         for (Title title : titles) {
-            List<CalendarDayEvent> result = titleService.checkForSingleTitleHeir(title, onDate, null);
-            dayResults.addAll(result);
-        }
-        if (!dayResults.isEmpty()) {
-            results.put(onDate, dayResults);
+            journal.addAll(titleService.checkForSingleTitleHeir(title, onDate, null), onDate);
         }
-        return results;
-    }
-
-    private Map<LocalDate, List<CalendarDayEvent>> mergeMaps(Map<LocalDate, List<CalendarDayEvent>> map1,
-                                                             Map<LocalDate, List<CalendarDayEvent>> map2) {
-        Map<LocalDate, List<CalendarDayEvent>> map3 = new TreeMap<>(map1);
-        map2.forEach((k, v) -> map3.merge(k, v, (v1, v2) -> {
-            List<CalendarDayEvent> list = new ArrayList<>(v1);
-            list.addAll(v2);
-            return list.stream()
-                .sorted(Comparator.comparing(CalendarDayEvent::getType))
-                .collect(Collectors.toList());
-        }));
-        return map3;
     }
 
     private void logMarriage(@NonNull Family family, @NonNull LocalDate date) {
@@ -459,15 +938,12 @@ public class CalendarService {
                 wife.getId(), wife.getName(), wife.getAgeInYears(date), wifeOccupationName, wifeLocation, date));
     }
 
-    private void filterOutEventTypes(Map<LocalDate, List<CalendarDayEvent>> map1,
-                                     @NonNull AdvanceToDatePost post) {
-        for (Map.Entry<LocalDate, List<CalendarDayEvent>> entry : map1.entrySet()) {
-            entry.getValue().removeIf(post::isSuppressedEventType);
-            entry.getValue().removeIf(e -> e.getType() == CalendarEventType.PROPERTY_TRANSFER &&
-                    !((PropertyTransferEvent) e).getDwellingPlace().getType().equals("ESTATE"));
+    private boolean isIncludedEvent(@NonNull CalendarDayEvent event, @NonNull AdvanceToDatePost post) {
+        if (post.isSuppressedEventType(event)) {
+            return false;
         }
-
-        map1.values().removeIf(List::isEmpty);
+        return event.getType() != CalendarEventType.PROPERTY_TRANSFER
+                || ((PropertyTransferEvent) event).getDwellingPlace().getType().equals("ESTATE");
     }
 
     public void checkForErrors(@NonNull LocalDate onDate) {
@@ -494,16 +970,7 @@ public class CalendarService {
     }
 
     private boolean isQuarterDay(@NonNull LocalDate date) {
-        if (date.getDayOfMonth() == 2 && date.getMonth() == Month.FEBRUARY) {
-            return true;
-        }
-        if (date.getDayOfMonth() == 15 && date.getMonth() == Month.MAY) {
-            return true;
-        }
-        if (date.getDayOfMonth() == 1 && date.getMonth() == Month.AUGUST) {
-            return true;
-        }
-        return date.getDayOfMonth() == 11 && date.getMonth() == Month.NOVEMBER;
+        return CalendarScheduler.isQuarterDay(date);
     }
 
     /**
@@ -541,17 +1008,24 @@ public class CalendarService {
         householdService.cleanUpHouseholdsWithoutInhabitantsInLocations(date);
     }
 
-    private Map<LocalDate, List<CalendarDayEvent>> processNewTitles(@NonNull RandomTitleParameters titleParameters,
-                                                                    @NonNull LocalDate onDate) {
-        Map<LocalDate, List<CalendarDayEvent>> results = new HashMap<>();
-        List<CalendarDayEvent> events = new ArrayList<>();
-        Title newTitle = titleService.checkNewTitleCreation(titleParameters, onDate);
+    /**
+     * Creates a new title if one is due today: if there is a plan, on its new title date, otherwise on a daily roll
+     */
+    private void processNewTitles(@NonNull RandomTitleParameters titleParameters,
+                                  @NonNull LocalDate onDate,
+                                  @Nullable RandomEventPlan plan,
+                                  @NonNull CalendarEventJournal journal) {
+        Title newTitle;
+        if (plan == null) {
+            newTitle = titleService.checkNewTitleCreation(titleParameters, onDate);
+        } else {
+            newTitle = onDate.equals(plan.getNewTitleDate())
+                    ? titleService.createRandomTitle(titleParameters, onDate)
+                    : null;
+        }
         if (newTitle != null) {
-            CalendarDayEvent event = new TitleCreationEvent(onDate, newTitle);
-            results.put(onDate, events);
-            events.add(event);
+            journal.add(new TitleCreationEvent(onDate, newTitle));
         }
-        return results;
     }
 
     private boolean isDuringPlague(@NonNull LocalDate date) {
@@ -569,11 +1043,15 @@ public class CalendarService {
                 continue;
             }
             if (plague.didPersonDieOnDate(p, date)) {
-                log.info(String.format("%s died of %s on %s", p.getIdAndName(), plague.getName(), date));
-                p.setDeathDate(date);
-                p.setCauseOfDeath(plague.getName());
-                personService.save(p);
+                killByPlague(p, plague, date);
             }
         }
     }
+
+    private void killByPlague(@NonNull Person person, @NonNull Plague plague, @NonNull LocalDate date) {
+        log.info(String.format("%s died of %s on %s", person.getIdAndName(), plague.getName(), date));
+        person.setDeathDate(date);
+        person.setCauseOfDeath(plague.getName());
+        personService.save(person);
+    }
 }
@@ -0,0 +1,17 @@
+package com.meryt.demographics.service;
+
+/**
+ * An in-process flag used to ask a long-running calendar advance to stop after the day it is currently processing.
+ */
+public class CancellationToken {
+
+    private volatile boolean cancelled;
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
@@ -48,18 +48,6 @@ public class ConfigurationService {
         checkDateRepository.setCurrentDate(date);
     }
 
-    public void pauseCheck() {
-        configurationRepository.pauseCheck();
-    }
-
-    public void unpauseCheck() {
-        configurationRepository.unpauseCheck();
-    }
-
-    public boolean isPauseCheck() {
-        return configurationRepository.isPauseCheck();
-    }
-
     public Map<String, String> getAllConfiguration() {
         return configurationRepository.getAllConfiguration();
     }
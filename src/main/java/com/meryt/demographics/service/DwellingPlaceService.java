@@ -55,6 +55,11 @@ public class DwellingPlaceService {
         return dwellingPlaceRepository.findById(placeId).orElse(null);
     }
 
+    @NonNull
+    Iterable<DwellingPlace> loadAll() {
+        return dwellingPlaceRepository.findAll();
+    }
+
     public List<DwellingPlace> loadByType(DwellingPlaceType type) {
         return dwellingPlaceRepository.findByType(type);
     }
@@ -9,6 +9,7 @@ import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -35,22 +36,50 @@ public class FamilyService {
     private final HouseholdService householdService;
     private final PersonService personService;
     private final HouseholdDwellingPlaceService householdDwellingPlaceService;
+    private final AncestryService ancestryService;
 
     FamilyService(@Autowired FamilyRepository familyRepository,
                   @Autowired HouseholdService householdService,
                   @Autowired PersonService personService,
-                  @Autowired HouseholdDwellingPlaceService householdDwellingPlaceService) {
+                  @Autowired HouseholdDwellingPlaceService householdDwellingPlaceService,
+                  @Autowired AncestryService ancestryService) {
         this.familyRepository = familyRepository;
         this.householdService = householdService;
         this.personService = personService;
         this.householdDwellingPlaceService = householdDwellingPlaceService;
+        this.ancestryService = ancestryService;
     }
 
     /**
-     * Save a family using the repository
+     * Save a family using the repository. Any children saved along with it are added to the pedigree graph.
      */
     public Family save(@NonNull Family family) {
-        return familyRepository.save(family);
+        Family savedFamily = familyRepository.save(family);
+        recordBirths(savedFamily);
+        return savedFamily;
+    }
+
+    /**
+     * Saves the families together, so that their inserts can be written in JDBC batches
+     *
+     * @return the saved families, in the same order
+     */
+    @NonNull
+    public List<Family> saveAll(@NonNull List<Family> families) {
+        List<Family> results = new ArrayList<>(families.size());
+        familyRepository.saveAll(families).forEach(results::add);
+        results.forEach(this::recordBirths);
+        return results;
+    }
+
+    /**
+     * Adds the family's children to the pedigree graph. If the children were never loaded, none can have been added
+     * since, so there is nothing to record.
+     */
+    private void recordBirths(@NonNull Family family) {
+        if (Hibernate.isInitialized(family.getChildren())) {
+            family.getChildren().forEach(ancestryService::recordBirth);
+        }
     }
 
     /**
@@ -227,7 +256,8 @@ public class FamilyService {
     }
 
     /**
-     * Combines the households. The wife and any of her minor children always join the man's household.
+     * Combines the households. The wife and any of her minor children always join the man's household. Everyone who
+     * moves is saved together at the end.
      *
      * @param family the newly wedded family
      */
@@ -236,6 +266,7 @@ public class FamilyService {
         Person man = family.getHusband();
         Person woman = family.getWife();
 
+        List<Person> movedPeople = new ArrayList<>();
         Household womanHousehold = woman.getHousehold(date);
         Household manHousehold = man.getHousehold(date);
         if (manHousehold == null || !man.equals(manHousehold.getHead(date))) {
@@ -245,16 +276,15 @@ public class FamilyService {
                 log.info(String.format("Creating household for %d %s to head", man.getId(), man.getName()));
                 manHousehold = new Household();
                 man = householdService.addPersonToHousehold(man, manHousehold, date, true);
-                personService.save(man);
-                householdService.addChildrenToHousehold(man, manHousehold, date).forEach(personService::save);
+                movedPeople.add(man);
+                movedPeople.addAll(householdService.addChildrenToHousehold(man, manHousehold, date));
             } else {
                 // If the wife is the head of her household, add the man to it but make him the head.
                 log.info(String.format("Making %d %s head of the household %d %s was previously heading",
                         man.getId(), man.getName(), woman.getId(), woman.getName()));
                 woman = householdService.addPersonToHousehold(woman, womanHousehold, date, false);
-                personService.save(woman);
                 man = householdService.addPersonToHousehold(man, womanHousehold, date, true);
-                personService.save(man);
+                personService.saveAll(List.of(woman, man));
                 // If the man had some children, add them to the wife's household.
                 householdService.addStepchildrenToHousehold(woman, family, womanHousehold);
                 return womanHousehold;
@@ -263,9 +293,10 @@ public class FamilyService {
             log.info(String.format("%d %s is already head of a household; adding wife", man.getId(), man.getName()));
         }
         woman = householdService.addPersonToHousehold(woman, manHousehold, date, false);
-        personService.save(woman);
+        movedPeople.add(woman);
+        movedPeople.addAll(householdService.addStepchildrenToHousehold(man, family, manHousehold));
 
-        householdService.addStepchildrenToHousehold(man, family, manHousehold).forEach(personService::save);
+        personService.saveAll(movedPeople);
         return manHousehold;
     }
 
@@ -2,8 +2,10 @@ package com.meryt.demographics.service;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import javax.annotation.Nullable;
 import lombok.NonNull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -39,9 +41,35 @@ public class FertilityService {
         this.householdService = householdService;
     }
 
+    /**
+     * Gets the next date after the given date on which a living woman may conceive, miscarry or give birth, if any.
+     */
+    @Nullable
+    LocalDate findNextEventDateAfter(@NonNull LocalDate afterDate) {
+        return maternityRepository.findNextEventDateAfter(afterDate);
+    }
+
     public List<CalendarDayEvent> cycleToDate(@NonNull Person woman,
                                               @NonNull LocalDate toDate,
                                               boolean allowMaternalDeath) {
+        MaternityCycle cycle = startCycle(woman, toDate, allowMaternalDeath);
+        if (cycle == null) {
+            return new ArrayList<>();
+        }
+        cycle.checkDaysUntilBirth();
+        finishCycles(Collections.singletonList(cycle));
+        return cycle.getEvents();
+    }
+
+    /**
+     * Gets a woman ready to be cycled to the date: gives her a maternity if she has none, and finds the family any
+     * children will be born into. The days can then be checked with {@link MaternityCycle#checkDaysUntilBirth()} away
+     * from the JPA session, and the cycle completed with {@link #finishCycles(List)}.
+     *
+     * @return the cycle, or null if she has already been checked past the date
+     */
+    @Nullable
+    MaternityCycle startCycle(@NonNull Person woman, @NonNull LocalDate toDate, boolean allowMaternalDeath) {
         if (!woman.isFemale()) {
             throw new IllegalArgumentException("cycleToDate can only operate on women");
         }
@@ -50,19 +78,16 @@ public class FertilityService {
             woman = personService.save(woman);
         }
 
-        List<CalendarDayEvent> results = new ArrayList<>();
         final Maternity maternity = (Maternity) woman.getFertility();
 
         if (maternity.getLastCheckDate() == null) {
             maternity.setLastCheckDate(maternity.getLastCycleDate());
         }
         if (toDate.isBefore(maternity.getLastCheckDate())) {
-            return results;
+            return null;
         }
 
         Family family;
-        // Track the number of births. If this number changes, we should save the family since children have been born.
-        int currentNumBirths = maternity.getNumBirths();
         if (maternity.getFather() != null) {
             Optional<Family> familyOptional = woman.getFamilies().stream()
                     .filter(f -> f.getHusband() != null && f.getHusband().getId() == maternity.getFather().getId())
@@ -80,35 +105,50 @@ public class FertilityService {
         }
 
         PregnancyChecker pregnancyChecker = new PregnancyChecker(personGenerator, family, allowMaternalDeath);
-        results.addAll(pregnancyChecker.checkDateRange(maternity.getLastCheckDate(), toDate));
-        // Save the woman which saves the maternity record
-        maternity.setPerson(woman);
-        for (Person child : family.getChildren()) {
-            if (child.getId() == 0) {
-                Household motherHousehold = woman.getHousehold(child.getBirthDate());
-                child = personService.save(child);
+        return new MaternityCycle(woman, family, toDate, pregnancyChecker);
+    }
+
+    /**
+     * Checks the births and remaining days of cycles whose days up to their births have been checked, then saves the
+     * children, their household memberships, the families with births, and the maternities. Everything is saved
+     * after all of the cycles are done, so that Hibernate can write the inserts in JDBC batches.
+     */
+    void finishCycles(@NonNull List<MaternityCycle> cycles) {
+        List<Person> newChildren = new ArrayList<>();
+        List<Family> familiesWithBirths = new ArrayList<>();
+        for (MaternityCycle cycle : cycles) {
+            cycle.checkRemainingDays();
+            if (cycle.hasBirths()) {
+                newChildren.addAll(cycle.getNewChildren());
+                familiesWithBirths.add(cycle.getFamily());
+            }
+            cycle.removeDeadFather();
+        }
+
+        // Save the children before their families, so that the families' merges find them already persisted
+        personService.saveAll(newChildren);
+        List<Person> housedChildren = new ArrayList<>();
+        for (MaternityCycle cycle : cycles) {
+            for (Person child : cycle.getNewChildren()) {
+                Household motherHousehold = cycle.getWoman().getHousehold(child.getBirthDate());
                 if (motherHousehold != null && child.isLiving(child.getBirthDate().plusDays(1))) {
                     householdService.addPersonToHousehold(child, motherHousehold, child.getBirthDate(), false);
-                    personService.save(child);
+                    housedChildren.add(child);
                 }
             }
         }
-        if (maternity.getNumBirths() != currentNumBirths) {
-            familyService.save(family);
-        }
+        personService.saveAll(housedChildren);
+        familyService.saveAll(familiesWithBirths);
 
-        // Remove father if the woman is not pregnant and he is dead. This can be used to optimize which women are
-        // loaded for cycling to date.
-        if (!maternity.isPregnant(toDate)) {
-            Person father = maternity.getFather();
-            if (father != null && !father.isLiving(toDate)) {
-                maternity.setFather(null);
-            }
+        List<Maternity> maternities = new ArrayList<>(cycles.size());
+        List<Person> women = new ArrayList<>(cycles.size());
+        for (MaternityCycle cycle : cycles) {
+            cycle.getMaternity().setPerson(cycle.getWoman());
+            maternities.add(cycle.getMaternity());
+            women.add(cycle.getWoman());
         }
-
-        woman.setMaternity(maternityRepository.save(maternity));
-        personService.save(woman);
-        return results;
+        maternityRepository.saveAll(maternities);
+        personService.saveAll(women);
     }
 
     private Maternity generateMaternity(@NonNull Person woman) {
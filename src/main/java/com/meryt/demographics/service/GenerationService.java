@@ -26,6 +26,7 @@ import com.meryt.demographics.domain.title.Peerage;
 import com.meryt.demographics.domain.title.Title;
 import com.meryt.demographics.domain.title.TitleInheritanceStyle;
 import com.meryt.demographics.generator.family.FamilyGenerator;
+import com.meryt.demographics.generator.family.MarriageMarketIndex;
 import com.meryt.demographics.generator.family.MatchMaker;
 import com.meryt.demographics.generator.random.BetweenDie;
 import com.meryt.demographics.generator.random.Die;
@@ -222,6 +223,9 @@ public class GenerationService {
         LocalDate untilDate = configurationService.parseDate(personFamilyPost.getUntilDate());
         boolean shouldLoopUntilReferenceDate = untilDate != null;
 
+        // Everyone who could be found as a spouse has not yet finished their generation
+        MarriageMarketIndex marriageMarket = new MarriageMarketIndex(personService.loadUnfinishedPersons());
+
         List<Family> results = new ArrayList<>();
         for (int i = 0; i < unfinishedPersons.size(); i++) {
             Person person = unfinishedPersons.get(i);
@@ -254,13 +258,14 @@ public class GenerationService {
                                 familyParameters.getMinWifeAgeOrDefault())).isEmpty())) {
                     // For women, only generate a new family if the person has been married no more than once and has no
                     // living children when she starts the search.
-                    family = familyGenerator.generate(person, familyParameters);
+                    family = familyGenerator.generate(person, familyParameters, marriageMarket);
                 }
                 if (family == null) {
                     personHadAFamilyInLastRound = false;
                     if (untilDate == null || person.getDeathDate().isBefore(untilDate) || person.isSurvivedByASpouse()) {
                         person.setFinishedGeneration(true);
                         personService.save(person);
+                        marriageMarket.update(person);
                     }
                 } else {
                     personHadAFamilyInLastRound = true;
@@ -276,6 +281,10 @@ public class GenerationService {
                     }
                     family = familyService.save(family);
                     results.add(family);
+                    // The spouses may have left the market, and any new spouse and children may now enter it
+                    marriageMarket.update(family.getHusband());
+                    marriageMarket.update(family.getWife());
+                    family.getChildren().forEach(marriageMarket::update);
                 }
             } while (shouldLoopUntilReferenceDate && !person.isFinishedGeneration() && personHadAFamilyInLastRound
                     && !person.isMarriedNowOrAfter(untilDate));
@@ -68,6 +68,13 @@ public class HouseholdService {
         householdLocationRepository.delete(householdLocationPeriod);
     }
 
+    /**
+     * Finds all households that are in some location on the date
+     */
+    public List<Household> loadHouseholdsWithLocations(@NonNull LocalDate onDate) {
+        return householdRepository.findHouseholdsWithLocations(onDate);
+    }
+
     /**
      * Finds all households that are not in any location.
      *
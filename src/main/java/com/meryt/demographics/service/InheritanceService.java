@@ -143,6 +143,7 @@ public class InheritanceService {
                         person.getIdAndName(), occupation.getName()));
                 period.setToDate(onDate);
             }
+            person.invalidateMarriageProfile();
         }
     }
 
@@ -1,10 +1,13 @@
 package com.meryt.demographics.service;
 
 import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nullable;
 
 import com.meryt.demographics.domain.person.Gender;
 import com.meryt.demographics.generator.random.Die;
+import com.meryt.demographics.generator.random.Randomness;
 import com.meryt.demographics.repository.LifeTableRepository;
 import lombok.NonNull;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,6 +23,12 @@ public class LifeTableService {
 
     private final LifeTableRepository lifeTableRepository;
 
+    /**
+     * The lx values of each life table that has been used, keyed by period and gender. The arrays are never handed
+     * out or modified, so they can be shared by every thread generating people.
+     */
+    private final Map<String, double[]> lxValues = new ConcurrentHashMap<>();
+
     public LifeTableService(@Autowired LifeTableRepository lifeTableRepository) {
         this.lifeTableRepository = lifeTableRepository;
     }
@@ -67,7 +76,7 @@ public class LifeTableService {
             return (minAgeYears * 365) + new Die(365).roll() - 1;
         }
 
-        double[] lx = lifeTableRepository.getLxValues(period.name().toLowerCase(), gender);
+        double[] lx = getLxValues(period, gender);
 
         double maxLx = 0.0;
         if (maxAgeYears != null && maxAgeYears < lx.length) {
@@ -82,17 +91,9 @@ public class LifeTableService {
         double minLx = lx[minAgeYears];
 
         // Get a random value between the min lx and max lx
-        double num;
-        do {
-            num = Math.random();
-        } while (minLx < num || maxLx > num);
-
-        int age = 0;
-        for (; age < lx.length; age++) {
-            if (lx[age] < num) {
-                break;
-            }
-        }
+        double num = maxLx + Randomness.nextDouble() * (minLx - maxLx);
+
+        int age = findFirstAgeBelow(lx, num);
 
         if (0 == age) {
             throw new ArrayIndexOutOfBoundsException(String.format(
@@ -104,4 +105,33 @@ public class LifeTableService {
         return (age * (365 - 1)) + (new Die(365).roll() - 1);
     }
 
+    /**
+     * Gets the lx values of the life table, loading them from the repository the first time the table is used
+     */
+    @NonNull
+    private double[] getLxValues(@NonNull LifeTablePeriod period, @Nullable Gender gender) {
+        return lxValues.computeIfAbsent(period.name() + "." + gender,
+                k -> lifeTableRepository.getLxValues(period.name().toLowerCase(), gender).clone());
+    }
+
+    /**
+     * Binary searches the lx values, which never increase with age, for the first age whose value is below the given
+     * value
+     *
+     * @return the age, or the length of the table if no age is below the value
+     */
+    static int findFirstAgeBelow(@NonNull double[] lx, double value) {
+        int low = 0;
+        int high = lx.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (lx[mid] < value) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
 }
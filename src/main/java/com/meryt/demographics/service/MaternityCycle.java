@@ -0,0 +1,100 @@
+package com.meryt.demographics.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.NonNull;
+
+import com.meryt.demographics.domain.family.Family;
+import com.meryt.demographics.domain.person.Person;
+import com.meryt.demographics.domain.person.fertility.Maternity;
+import com.meryt.demographics.generator.family.PregnancyChecker;
+import com.meryt.demographics.response.calendar.BirthEvent;
+import com.meryt.demographics.response.calendar.CalendarDayEvent;
+import com.meryt.demographics.response.calendar.CalendarEventType;
+
+/**
+ * A woman's maternity being checked up to a date. The days up to her next birth only read what is already loaded, so
+ * they can be checked for many women in parallel; the birth and the days after it need the database to generate the
+ * children, so they are checked afterwards on the thread that owns the JPA session.
+ */
+class MaternityCycle {
+
+    @Getter
+    private final Person woman;
+    @Getter
+    private final Maternity maternity;
+    @Getter
+    private final Family family;
+    private final LocalDate toDate;
+    private final PregnancyChecker pregnancyChecker;
+    private final int initialNumBirths;
+    private final List<Supplier<CalendarDayEvent>> pendingEvents = new ArrayList<>();
+    @Getter
+    private final List<CalendarDayEvent> events = new ArrayList<>();
+
+    MaternityCycle(@NonNull Person woman,
+                   @NonNull Family family,
+                   @NonNull LocalDate toDate,
+                   @NonNull PregnancyChecker pregnancyChecker) {
+        this.woman = woman;
+        this.maternity = woman.getMaternity();
+        this.family = family;
+        this.toDate = toDate;
+        this.pregnancyChecker = pregnancyChecker;
+        this.initialNumBirths = maternity.getNumBirths();
+    }
+
+    /**
+     * Checks the days up to her next birth or the end date. Does not touch the database, so may be run in parallel
+     * with other women's cycles.
+     */
+    void checkDaysUntilBirth() {
+        pendingEvents.addAll(pregnancyChecker.checkDateRangeUntilBirth(maternity.getLastCheckDate(), toDate));
+    }
+
+    /**
+     * Creates the events of the days already checked, then checks the birth and the remaining days, if a birth is due
+     * by the end date. Must be run on the thread that owns the JPA session.
+     */
+    void checkRemainingDays() {
+        for (Supplier<CalendarDayEvent> event : pendingEvents) {
+            events.add(event.get());
+        }
+        pendingEvents.clear();
+        if (maternity.getDueDate() != null && !maternity.getDueDate().isAfter(toDate)) {
+            events.addAll(pregnancyChecker.checkDateRange(maternity.getLastCheckDate(), toDate));
+        }
+    }
+
+    boolean hasBirths() {
+        return maternity.getNumBirths() != initialNumBirths;
+    }
+
+    /**
+     * Gets the children born during this cycle, who have not yet been saved
+     */
+    @NonNull
+    List<Person> getNewChildren() {
+        return events.stream()
+                .filter(e -> e.getType() == CalendarEventType.BIRTH)
+                .map(e -> ((BirthEvent) e).getChild())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Removes the father if the woman is not pregnant and he is dead. This can be used to optimize which women are
+     * loaded for cycling to date.
+     */
+    void removeDeadFather() {
+        if (!maternity.isPregnant(toDate)) {
+            Person father = maternity.getFather();
+            if (father != null && !father.isLiving(toDate)) {
+                maternity.setFather(null);
+            }
+        }
+    }
+}
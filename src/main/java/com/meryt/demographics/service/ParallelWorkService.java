@@ -0,0 +1,114 @@
+package com.meryt.demographics.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import jakarta.annotation.PreDestroy;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.meryt.demographics.generator.random.Randomness;
+
+/**
+ * Runs work that is independent per partition (e.g. per woman) concurrently on a fork-join pool.
+ *
+ * The JPA session is confined to the calling thread, so the partitions must be built on the calling thread, and the
+ * work run on each partition must only read state that is already loaded. In practice that limits it to dice rolls
+ * and other calculations over loaded entities; anything that writes to the database stays on the calling thread. The
+ * results are returned once every partition has finished, ordered by partition key, so the caller can apply them
+ * serially and deterministically.
+ */
+@Slf4j
+@Service
+public class ParallelWorkService {
+
+    private final ForkJoinPool pool;
+
+    public ParallelWorkService(@Value("${demographics.calendar.parallelism:0}") int parallelism) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(threads);
+        log.info(String.format("Using %d threads for parallel work", threads));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Runs the function on every partition concurrently and waits for all of them to complete. Each partition rolls
+     * its dice from its own random stream, derived from the master seed, the stream key, and the partition key, so
+     * the results are reproducible no matter how the partitions are scheduled.
+     *
+     * @param partitions the partitions, keyed by a stable ID (e.g. a person's ID)
+     * @param streamKey identifies this unit of work (e.g. the phase and the date) when deriving random streams
+     * @param function the work to do for each partition. Must not touch the database or uninitialized lazy
+     *                 associations.
+     * @return the result for each partition, ordered by key
+     */
+    @NonNull
+    public <T, R> SortedMap<Long, R> computeInParallel(@NonNull SortedMap<Long, T> partitions,
+                                                       long streamKey,
+                                                       @NonNull BiFunction<Long, T, R> function) {
+        SortedMap<Long, ForkJoinTask<R>> tasks = new TreeMap<>();
+        for (Map.Entry<Long, T> entry : partitions.entrySet()) {
+            SplittableRandom stream = Randomness.forPartition(streamKey, entry.getKey());
+            tasks.put(entry.getKey(), pool.submit(() -> Randomness.withStream(stream,
+                    () -> function.apply(entry.getKey(), entry.getValue()))));
+        }
+
+        SortedMap<Long, R> results = new TreeMap<>();
+        for (Map.Entry<Long, ForkJoinTask<R>> entry : tasks.entrySet()) {
+            try {
+                results.put(entry.getKey(), entry.getValue().get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for partition " + entry.getKey(), e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Failed to process partition " + entry.getKey(), e.getCause());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Runs the action on every item concurrently, in chunks of consecutive keys, and waits for all of them to
+     * complete. Each item rolls its dice from its own random stream, derived from the stream key and the item's key,
+     * so the results do not depend on how the items are chunked or scheduled: they are the same as running the action
+     * on each item in turn with that item's stream. Chunking keeps the number of tasks down when there are many small
+     * items, such as one woman's maternity each.
+     *
+     * @param items the items, keyed by a stable ID (e.g. a person's ID)
+     * @param chunkSize the number of consecutive keys in each chunk
+     * @param streamKey identifies this unit of work (e.g. the phase and the date) when deriving random streams
+     * @param action the work to do for each item. Must not touch the database or uninitialized lazy associations.
+     */
+    public <T> void forEachInParallel(@NonNull SortedMap<Long, T> items,
+                                      long chunkSize,
+                                      long streamKey,
+                                      @NonNull Consumer<T> action) {
+        SortedMap<Long, List<Map.Entry<Long, T>>> chunks = new TreeMap<>();
+        for (Map.Entry<Long, T> entry : items.entrySet()) {
+            chunks.computeIfAbsent(Math.floorDiv(entry.getKey(), chunkSize), k -> new ArrayList<>()).add(entry);
+        }
+        computeInParallel(chunks, streamKey, (chunkKey, chunk) -> {
+            for (Map.Entry<Long, T> entry : chunk) {
+                Randomness.withStream(Randomness.forPartition(streamKey, entry.getKey()), () -> {
+                    action.accept(entry.getValue());
+                    return null;
+                });
+            }
+            return chunk.size();
+        });
+    }
+}
@@ -6,6 +6,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import lombok.NonNull;
@@ -15,18 +16,21 @@ import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.meryt.demographics.collection.LongHashSet;
 import com.meryt.demographics.domain.Occupation;
 import com.meryt.demographics.domain.family.AncestryRecord;
 import com.meryt.demographics.domain.family.LeastCommonAncestorRelationship;
+import com.meryt.demographics.domain.family.Relationship;
 import com.meryt.demographics.domain.person.Gender;
 import com.meryt.demographics.domain.person.Person;
 import com.meryt.demographics.domain.person.PersonCapitalPeriod;
-import com.meryt.demographics.domain.person.RelatedPerson;
+import com.meryt.demographics.domain.person.PotentialSpouse;
 import com.meryt.demographics.domain.person.SocialClass;
 import com.meryt.demographics.domain.place.Estate;
 import com.meryt.demographics.domain.place.Household;
 import com.meryt.demographics.domain.place.HouseholdLocationPeriod;
 import com.meryt.demographics.generator.WealthGenerator;
+import com.meryt.demographics.generator.family.MarriageMarketIndex;
 import com.meryt.demographics.generator.family.MatchMaker;
 import com.meryt.demographics.profiler.Profiler;
 import jakarta.persistence.EntityManager;
@@ -66,6 +70,18 @@ public class PersonService {
         return personRepository.save(person);
     }
 
+    /**
+     * Saves the people together, so that their inserts can be written in JDBC batches
+     *
+     * @return the saved people, in the same order
+     */
+    @NonNull
+    public List<Person> saveAll(@NonNull List<Person> people) {
+        List<Person> results = new ArrayList<>(people.size());
+        personRepository.saveAll(people).forEach(results::add);
+        return results;
+    }
+
     public Page<Person> findAll(@NonNull PersonCriteria personCriteria) {
         return personSearchRepository.findPersons(personCriteria);
     }
@@ -83,6 +99,32 @@ public class PersonService {
         return personRepository.findAllById(ids);
     }
 
+    /**
+     * Finds the people with the given IDs, in order of ID
+     */
+    @NonNull
+    List<Person> loadInOrder(@NonNull List<Long> ids) {
+        List<Person> people = new ArrayList<>();
+        loadAll(ids).forEach(people::add);
+        people.sort(Comparator.comparing(Person::getId));
+        return people;
+    }
+
+    /**
+     * Gets the highest person ID, so that the people added after now can later be found with {@link #findAddedAfter}
+     */
+    long findLastPersonId() {
+        return personRepository.findMaxId();
+    }
+
+    /**
+     * Finds the people added since the person with the given ID was (e.g. born or immigrated), in order of ID
+     */
+    @NonNull
+    List<Person> findAddedAfter(long lastPersonId) {
+        return personRepository.findByIdGreaterThanOrderById(lastPersonId);
+    }
+
     @NonNull
     List<Person> loadFounders() {
         return personRepository.findByFounderTrueOrderByBirthDate();
@@ -129,6 +171,11 @@ public class PersonService {
         return personRepository.findByDeathDate(deathDate);
     }
 
+    @Nullable
+    LocalDate findNextDeathDateAfter(@NonNull LocalDate afterDate) {
+        return personRepository.findNextDeathDateAfter(afterDate);
+    }
+
     @NonNull
     List<Person> findUnmarriedPeople(@NonNull LocalDate checkDate,
                                      int minHusbandAge,
@@ -150,6 +197,44 @@ public class PersonService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Gets the people who are unmarried and living on the first date and who are of an age to marry on at least one
+     * day of the range
+     */
+    @NonNull
+    List<Person> findUnmarriedPeopleBetween(@NonNull LocalDate fromDate,
+                                            @NonNull LocalDate toDate,
+                                            int minHusbandAge,
+                                            int maxHusbandAge,
+                                            int minWifeAge,
+                                            int maxWifeAge) {
+        int minAge = Math.min(minHusbandAge, minWifeAge);
+        int maxAge = Math.max(maxHusbandAge, maxWifeAge);
+        List<Person> results = personRepository.findUnmarriedPeople(fromDate, fromDate.minusYears(maxAge),
+                toDate.minusYears(minAge), null);
+        return results.stream()
+                .filter(p -> (p.isFemale()
+                                && p.getAgeInYears(toDate) >= minWifeAge && p.getAgeInYears(fromDate) <= maxWifeAge)
+                          || (p.isMale()
+                                && p.getAgeInYears(toDate) >= minHusbandAge
+                                && p.getAgeInYears(fromDate) <= maxHusbandAge))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Builds an index of everyone who may be found as a potential spouse by someone looking on this date. These are
+     * the same bounds on the spouse's age that {@link #findPotentialSpouses} applies when not including future
+     * spouses, so children and women past marrying age are not loaded at all.
+     */
+    @NonNull
+    MarriageMarketIndex loadMarriageMarket(@NonNull LocalDate onDate,
+                                           @NonNull RandomFamilyParameters familyParameters) {
+        return MarriageMarketIndex.ofEligible(personRepository.findMarriageMarket(onDate,
+                onDate.minusYears(familyParameters.getMaxMarriageableWifeAgeOrDefault()),
+                onDate.minusYears(familyParameters.getMinWifeAgeOrDefault()),
+                onDate.minusYears(familyParameters.getMinHusbandAgeOrDefault())));
+    }
+
     @NonNull
     List<Person> findUnmarriedPeopleBySocialClassAndGenderAndAge(@NonNull List<SocialClass> socialClasses,
                                                                  @Nullable Gender gender,
@@ -382,6 +467,26 @@ public class PersonService {
                                              boolean includeFutureSpouses,
                                              @NonNull RandomFamilyParameters familyParameters,
                                              @Nullable Profiler profiler) {
+        return findPotentialSpouses(person, onDate, includeFutureSpouses, familyParameters, profiler, null);
+    }
+
+    /**
+     * Find potential spouses for a person based on family parameters.
+     *
+     * @param person the person looking for a spouse
+     * @param onDate the date he or she looks (or begins looking if includeFutureSpouses is true)
+     * @param includeFutureSpouses if true, results may include spouses who are not yet eligible but will be in the
+     *                             person's lifespan
+     * @param familyParameters extra parameters
+     * @param marriageMarket if non-null, candidates are found in this index rather than by querying the database
+     * @return a list of potential spouses, possibly empty, with their relationship to the person
+     */
+    public List<Person> findPotentialSpouses(@NonNull Person person,
+                                             @Nullable LocalDate onDate,
+                                             boolean includeFutureSpouses,
+                                             @NonNull RandomFamilyParameters familyParameters,
+                                             @Nullable Profiler profiler,
+                                             @Nullable MarriageMarketIndex marriageMarket) {
         int minHusbandAge = familyParameters.getMinHusbandAgeOrDefault();
         int minWifeAge = familyParameters.getMinWifeAgeOrDefault();
         LocalDate searchDate = MatchMaker.getDateToStartMarriageSearch(person, minHusbandAge, minWifeAge);
@@ -429,16 +534,29 @@ public class PersonService {
 
         final int maxRankPersonMayAspireToMarry = person.getMaxSocialClassMayAspireToMarry().getRank();
 
-        if (profiler != null) profiler.start("personRepository.findPotentialSpouses");
-        List<Person> unfilteredList = personRepository.findPotentialSpouses(spouseGender, searchDate, minBirthDate,
-                maxBirthDate, null);
+        List<Person> unfilteredList;
+        if (marriageMarket != null) {
+            if (profiler != null) profiler.start("marriageMarket.findCandidates");
+            int minRank = familyParameters.getMinSocialClass() == null
+                    ? 0
+                    : familyParameters.getMinSocialClass().getRank();
+            int maxRank = familyParameters.getMaxSocialClass() == null
+                    ? maxRankPersonMayAspireToMarry
+                    : Math.min(maxRankPersonMayAspireToMarry, familyParameters.getMaxSocialClass().getRank());
+            unfilteredList = marriageMarket.findCandidates(spouseGender, searchDate, minBirthDate, maxBirthDate,
+                    minRank, maxRank);
+        } else {
+            if (profiler != null) profiler.start("personRepository.findPotentialSpouses");
+            unfilteredList = personRepository.findPotentialSpouses(spouseGender, searchDate, minBirthDate,
+                    maxBirthDate, null);
+        }
         if (profiler != null) profiler.stop();
 
         if (profiler != null) profiler.start("getMarriageablePersonIds");
         List<Long> unfilteredIds = unfilteredList.stream()
                 .map(Person::getId)
                 .collect(Collectors.toList());
-        List<Long> unrelatedIds = ancestryService.getMarriageablePersonIds(person.getId(), unfilteredIds,
+        LongHashSet unrelatedIds = ancestryService.getMarriageablePersonIds(person.getId(), unfilteredIds,
                 minDegreesSeparation);
         if (profiler != null) profiler.stop();
 
@@ -451,22 +569,59 @@ public class PersonService {
                 // Keep people in the same social bracket. Extremely attractive people can marry up to 4 levels above.
                 .filter(p -> (person.getSocialClass().getRank() <= p.getMaxSocialClassMayAspireToMarry().getRank()) &&
                               p.getSocialClass().getRank() <= maxRankPersonMayAspireToMarry)
-                // Filter out married people, women who were married more than once, and widows with children
-                .filter(p -> !p.isMarriedNowOrAfter(filterSearchDate) && !isWidowWithChildren(p, filterSearchDate))
                 // Filter out people who are not in the list of people sufficiently distantly related
                 .filter(p -> unrelatedIds.contains(p.getId()))
+                // Filter out married people, women who were married more than once, and widows with children. This
+                // loads their families, so it is done last, on as few people as possible.
+                .filter(p -> !p.isMarriedNowOrAfter(filterSearchDate) && !isWidowWithChildren(p, filterSearchDate))
                 .collect(Collectors.toList());
         if (profiler != null) profiler.stop();
         return filteredList;
     }
 
-    public List<RelatedPerson> findPotentialSpouseWithRelationship(@NonNull Person person,
-                                                                   @Nullable LocalDate onDate,
-                                                                   boolean includeFutureSpouses,
-                                                                   @NonNull RandomFamilyParameters familyParameters) {
-        return findPotentialSpouses(person, onDate, includeFutureSpouses, familyParameters, null)
-                .stream()
-                .map(spouse -> new RelatedPerson(spouse, ancestryService.calculateRelationship(spouse, person)))
+    /**
+     * Finds potential spouses for the person, ranked from the most to the least compatible (then by ID), with their
+     * relationships to the person. Pages are found by key rather than by offset: a page starts after the candidate
+     * with the given compatibility and ID, i.e. the last one on the previous page.
+     *
+     * @param person the person looking for a spouse
+     * @param onDate the date he or she looks, on which compatibility is scored
+     * @param includeFutureSpouses if true, results may include spouses who are not yet eligible but will be in the
+     *                             person's lifespan (these score 0 if they are not yet living on the date)
+     * @param familyParameters extra parameters
+     * @param afterCompatibility if non-null, the compatibility of the last candidate on the previous page
+     * @param afterId if non-null, the ID of the last candidate on the previous page
+     * @param limit the maximum number of results
+     * @return a list of potential spouses, possibly empty
+     */
+    @NonNull
+    public List<PotentialSpouse> findRankedPotentialSpouses(@NonNull Person person,
+                                                            @NonNull LocalDate onDate,
+                                                            boolean includeFutureSpouses,
+                                                            @NonNull RandomFamilyParameters familyParameters,
+                                                            @Nullable Double afterCompatibility,
+                                                            @Nullable Long afterId,
+                                                            int limit) {
+        List<Person> candidates = findPotentialSpouses(person, onDate, includeFutureSpouses, familyParameters, null);
+        double[] scores = MatchMaker.scoreCompatibility(person, candidates, onDate);
+
+        List<Integer> ranked = new ArrayList<>(candidates.size());
+        for (int i = 0; i < scores.length; i++) {
+            if (afterCompatibility == null
+                    || scores[i] < afterCompatibility
+                    || (scores[i] == afterCompatibility && (afterId == null || candidates.get(i).getId() > afterId))) {
+                ranked.add(i);
+            }
+        }
+        ranked.sort(Comparator.<Integer>comparingDouble(i -> -scores[i])
+                .thenComparingLong(i -> candidates.get(i).getId()));
+        List<Integer> page = ranked.subList(0, Math.min(limit, ranked.size()));
+
+        List<Person> pageCandidates = page.stream().map(candidates::get).collect(Collectors.toList());
+        Map<Long, Relationship> relationships = ancestryService.calculateRelationshipsTo(person, pageCandidates);
+        return page.stream()
+                .map(i -> new PotentialSpouse(candidates.get(i), relationships.get(candidates.get(i).getId()),
+                        scores[i]))
                 .collect(Collectors.toList());
     }
 
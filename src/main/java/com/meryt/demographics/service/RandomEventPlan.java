@@ -0,0 +1,139 @@
+package com.meryt.demographics.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+
+import com.meryt.demographics.generator.random.Randomness;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+
+/**
+ * The days on which the phases that would otherwise roll dice every day next succeed: the days on which unmarried
+ * people want to marry, on which immigrant families arrive in each parish, and on which a new title is created. These
+ * are drawn ahead so that an event-driven advance only has to stop on those days.
+ * <p>
+ * Each day's roll is independent of the others, so a date drawn for a person or parish stays good until something
+ * that its chance depends on changes. The plan is therefore drawn once at the start of an advance, and after each day
+ * only the dates of the people and parishes affected by that day's events are drawn again. People and parishes are
+ * kept by ID, since the entities themselves are detached whenever the session commits.
+ */
+class RandomEventPlan {
+
+    private final DateIndex suitors = new DateIndex();
+    private final DateIndex arrivals = new DateIndex();
+    @Getter
+    @Setter
+    @Nullable
+    private LocalDate newTitleDate;
+    /**
+     * The highest person ID when the plan was last updated, so that people added since (births, immigrants) can be
+     * found and planned for
+     */
+    @Getter
+    @Setter
+    private long lastPersonId;
+
+    /**
+     * Sets the next date on which the person wants to marry, replacing any date already planned for them
+     *
+     * @param date the date, or null if they will not want to marry
+     */
+    void setSuitorDate(long personId, @Nullable LocalDate date) {
+        suitors.put(personId, date);
+    }
+
+    /**
+     * Gets the IDs of the people who want to marry on this date, in order of ID
+     */
+    @NonNull
+    List<Long> getSuitorIds(@NonNull LocalDate date) {
+        return suitors.get(date);
+    }
+
+    @Nullable
+    LocalDate getNextMarriageDate() {
+        return suitors.first();
+    }
+
+    /**
+     * Sets the next date on which an immigrant family arrives in the parish, replacing any date already planned
+     *
+     * @param date the date, or null if none arrives before the end of the advance
+     */
+    void setArrivalDate(long parishId, @Nullable LocalDate date) {
+        arrivals.put(parishId, date);
+    }
+
+    /**
+     * Gets the IDs of the parishes in which an immigrant family arrives on this date, in order of ID
+     */
+    @NonNull
+    List<Long> getArrivalParishIds(@NonNull LocalDate date) {
+        return arrivals.get(date);
+    }
+
+    @Nullable
+    LocalDate getNextArrivalDate() {
+        return arrivals.first();
+    }
+
+    /**
+     * Draws the first day in the range on which a roll against the given daily probability succeeds, with the same
+     * distribution as rolling for each day in turn
+     *
+     * @return a day in the range, or null if no roll in it succeeds
+     */
+    @Nullable
+    static LocalDate drawNextDate(@NonNull LocalDate fromDate, @NonNull LocalDate toDate, double dailyProbability) {
+        if (dailyProbability <= 0 || toDate.isBefore(fromDate)) {
+            return null;
+        }
+        long skip = Randomness.nextGeometric(dailyProbability);
+        return skip > DAYS.between(fromDate, toDate) ? null : fromDate.plusDays(skip);
+    }
+
+    /**
+     * The date planned for each ID, and the IDs planned for each date
+     */
+    private static class DateIndex {
+        private final Map<Long, LocalDate> dates = new HashMap<>();
+        private final SortedMap<LocalDate, SortedSet<Long>> ids = new TreeMap<>();
+
+        void put(long id, @Nullable LocalDate date) {
+            LocalDate previous = date == null ? dates.remove(id) : dates.put(id, date);
+            if (previous != null) {
+                SortedSet<Long> onPrevious = ids.get(previous);
+                onPrevious.remove(id);
+                if (onPrevious.isEmpty()) {
+                    ids.remove(previous);
+                }
+            }
+            if (date != null) {
+                ids.computeIfAbsent(date, d -> new TreeSet<>()).add(id);
+            }
+        }
+
+        @NonNull
+        List<Long> get(@NonNull LocalDate date) {
+            SortedSet<Long> onDate = ids.get(date);
+            return onDate == null ? Collections.emptyList() : new ArrayList<>(onDate);
+        }
+
+        @Nullable
+        LocalDate first() {
+            return ids.isEmpty() ? null : ids.firstKey();
+        }
+    }
+}
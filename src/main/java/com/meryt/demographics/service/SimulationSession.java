@@ -0,0 +1,133 @@
+package com.meryt.demographics.service;
+
+import java.time.LocalDate;
+import java.util.function.Consumer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FlushModeType;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+
+/**
+ * Groups the simulated days of a calendar advance into chunks, each of which runs in a single transaction and keeps
+ * the world in memory. At the start of each chunk the working set (the living population, households, places and
+ * titles) is loaded into the persistence context in a few queries. Within the chunk, saves only update the context:
+ * the flush mode is COMMIT, so queries do not dirty-check the whole population before they run, and the changes are
+ * written in JDBC batches only at the explicit flushes between phases and at commit. After each commit the context
+ * is cleared, so that it does not grow for the whole advance, and the next chunk loads its working set afresh.
+ *
+ * If flushDays is 0, the session does nothing and every save is written immediately, as before.
+ */
+@Slf4j
+class SimulationSession implements AutoCloseable {
+
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManager entityManager;
+    private final int flushDays;
+    private final Consumer<LocalDate> workingSetLoader;
+
+    private TransactionStatus chunk;
+    private LocalDate chunkStartDate;
+    private FlushModeType previousFlushMode;
+
+    /**
+     * @param entityManager the entity manager bound to the calling thread
+     * @param flushDays the number of simulated days in each chunk, or 0 to do nothing
+     * @param workingSetLoader loads the working set into the persistence context, as of the first day of a chunk
+     */
+    SimulationSession(@NonNull PlatformTransactionManager transactionManager,
+                      @NonNull EntityManager entityManager,
+                      int flushDays,
+                      @NonNull Consumer<LocalDate> workingSetLoader) {
+        this.transactionManager = transactionManager;
+        this.entityManager = entityManager;
+        this.flushDays = flushDays;
+        this.workingSetLoader = workingSetLoader;
+    }
+
+    boolean isEnabled() {
+        return flushDays > 0;
+    }
+
+    /**
+     * Starts a new chunk, if one is not already open, beginning on the given date, and loads its working set.
+     */
+    void beforeDay(@NonNull LocalDate date) {
+        if (!isEnabled() || chunk != null) {
+            return;
+        }
+        chunk = transactionManager.getTransaction(new DefaultTransactionDefinition());
+        chunkStartDate = date;
+        previousFlushMode = entityManager.getFlushMode();
+        entityManager.setFlushMode(FlushModeType.COMMIT);
+        workingSetLoader.accept(date);
+    }
+
+    /**
+     * Writes the changes made so far in the chunk, so that the queries of the phases that follow see them. Queries do
+     * not flush by themselves within a chunk, so this must be called after every phase that saves something a later
+     * phase may query for (e.g. a plague victim's death date). Does nothing outside a chunk, where every save is
+     * written immediately.
+     */
+    void flush() {
+        if (chunk != null) {
+            entityManager.flush();
+        }
+    }
+
+    /**
+     * Commits the current chunk if it has reached the configured number of simulated days, otherwise writes the
+     * day's changes so that the next day's queries see them.
+     */
+    void afterDay(@NonNull LocalDate date) {
+        if (chunk == null) {
+            return;
+        }
+        if (DAYS.between(chunkStartDate, date) + 1 >= flushDays) {
+            commit();
+        } else {
+            entityManager.flush();
+        }
+    }
+
+    /**
+     * Commits the current chunk, if any, writing all pending changes to the database.
+     */
+    void commit() {
+        if (chunk == null) {
+            return;
+        }
+        log.info(String.format("Flushing simulation session for %s through current date", chunkStartDate));
+        TransactionStatus status = chunk;
+        chunk = null;
+        transactionManager.commit(status);
+        endChunk();
+    }
+
+    /**
+     * Rolls back the current chunk if it was not committed, e.g. because an exception was thrown. The current date is
+     * saved in the same transaction, so it is left at the end of the last committed chunk.
+     */
+    @Override
+    public void close() {
+        if (chunk != null) {
+            log.warn(String.format("Rolling back simulation session begun on %s", chunkStartDate));
+            TransactionStatus status = chunk;
+            chunk = null;
+            transactionManager.rollback(status);
+            endChunk();
+        }
+    }
+
+    /**
+     * Detaches everything loaded or saved in the chunk and restores the flush mode
+     */
+    private void endChunk() {
+        entityManager.clear();
+        entityManager.setFlushMode(previousFlushMode);
+    }
+}
@@ -311,6 +311,17 @@ public class TitleService {
         return titleRepository.findAllByNextAbeyanceCheckDateIsLessThanEqualAndExtinctIsFalse(date);
     }
 
+    /**
+     * Gets the earliest date on which any non-extinct title is due for an abeyance check. The date may be in the past
+     * if a check was missed.
+     *
+     * @return the earliest check date, or null if no titles need checking
+     */
+    @Nullable
+    LocalDate findNextAbeyanceCheckDate() {
+        return titleRepository.findNextAbeyanceCheckDate();
+    }
+
     @NonNull
     List<CalendarDayEvent> processDeadPersonsTitles(@NonNull Person person) {
         LocalDate date = person.getDeathDate();
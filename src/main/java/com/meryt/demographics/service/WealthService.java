@@ -23,6 +23,8 @@ import com.meryt.demographics.domain.place.Parish;
 import com.meryt.demographics.generator.WealthGenerator;
 import com.meryt.demographics.generator.random.BetweenDie;
 import com.meryt.demographics.generator.random.PercentDie;
+import com.meryt.demographics.profiler.MetricsRegistry;
+import com.meryt.demographics.profiler.Profiler;
 
 @Slf4j
 @Service
@@ -36,18 +38,22 @@ public class WealthService {
     private final DwellingPlaceService dwellingPlaceService;
     private final HouseholdDwellingPlaceService householdDwellingPlaceService;
     private final PersonService personService;
+    private final MetricsRegistry metricsRegistry;
 
     public WealthService(@NonNull @Autowired DwellingPlaceService dwellingPlaceService,
                          @NonNull @Autowired PersonService personService,
-                         @NonNull @Autowired HouseholdDwellingPlaceService householdDwellingPlaceService) {
+                         @NonNull @Autowired HouseholdDwellingPlaceService householdDwellingPlaceService,
+                         @NonNull @Autowired MetricsRegistry metricsRegistry) {
         this.dwellingPlaceService = dwellingPlaceService;
         this.householdDwellingPlaceService = householdDwellingPlaceService;
         this.personService = personService;
+        this.metricsRegistry = metricsRegistry;
     }
 
     void distributeCapital(@NonNull LocalDate onDate, double goodYearFactor) {
 
-        long start = System.currentTimeMillis();
+        Profiler profiler = new Profiler(metricsRegistry);
+        profiler.start("distributeCapital.estateAndFarmIncome");
 
         List<DwellingPlace> estatesAndFarms = dwellingPlaceService.loadByType(DwellingPlaceType.ESTATE);
         estatesAndFarms.addAll(dwellingPlaceService.loadByType(DwellingPlaceType.FARM));
@@ -56,15 +62,10 @@ public class WealthService {
             distributeEstateRentsAndFarmIncome(estateOrFarm, onDate, goodYearFactor);
         }
 
-        long estateAndFarmIncomeTime = System.currentTimeMillis() - start;
-
-        long wagesTime = 0;
-        long interestTime = 0;
-        long rentsTime = 0;
-        long expensesTime = 0;
+        profiler.stop("distributeCapital.estateAndFarmIncome");
 
         for (DwellingPlace parish : dwellingPlaceService.loadByType(DwellingPlaceType.PARISH)) {
-            start = System.currentTimeMillis();
+            profiler.start("distributeCapital.wages");
             List<Person> peopleWithWages = parish.getAllResidents(onDate).stream()
                     .filter(p -> p.getOccupation(onDate) != null ||
                             (p.getSocialClassRank() <= SocialClass.YEOMAN_OR_MERCHANT.getRank()
@@ -74,9 +75,9 @@ public class WealthService {
             for (Person person : peopleWithWages) {
                 distributeWages(person.getOccupation(onDate), person, onDate, goodYearFactor);
             }
-            wagesTime += (System.currentTimeMillis() - start);
+            profiler.stop("distributeCapital.wages");
 
-            start = System.currentTimeMillis();
+            profiler.start("distributeCapital.interest");
             List<Person> gentry = parish.getAllResidents(onDate).stream()
                     .filter(p -> p.getSocialClass().getRank() >= SocialClass.YEOMAN_OR_MERCHANT.getRank()
                         && p.getOccupation(onDate) == null)
@@ -84,25 +85,24 @@ public class WealthService {
             for (Person gentleman : gentry) {
                 distributeInterestOnCapital(gentleman, onDate);
             }
-            interestTime += (System.currentTimeMillis() - start);
+            profiler.stop("distributeCapital.interest");
 
-            start = System.currentTimeMillis();
+            profiler.start("distributeCapital.rents");
             for (DwellingPlace dwelling : parish.getRecursiveDwellingPlaces(DwellingPlaceType.DWELLING)) {
                 distributeDwellingRents((Parish) parish, (Dwelling) dwelling, onDate);
             }
-            rentsTime += (System.currentTimeMillis() - start);
+            profiler.stop("distributeCapital.rents");
 
             // Do expenses last since people may lose a social status rank if they are in debt too long
-            start = System.currentTimeMillis();
+            profiler.start("distributeCapital.expenses");
             for (Household household : parish.getRecursiveHouseholds(onDate)) {
                 payHouseholdExpenses(household, onDate);
             }
-            expensesTime += (System.currentTimeMillis() - start);
+            profiler.stop("distributeCapital.expenses");
         }
 
-        log.info(String.format(
-                "Finished distributing capital on %s estateAndFarmIncomeTime=%d wagesTime=%d interestTime=%d rentsTime=%d expensesTime=%d",
-                onDate, estateAndFarmIncomeTime, wagesTime, interestTime, rentsTime, expensesTime));
+        log.info(String.format("Finished distributing capital on %s", onDate));
+        profiler.logResults();
     }
 
     private void payHouseholdExpenses(@NonNull Household household, @NonNull LocalDate onDate) {
@@ -0,0 +1,138 @@
+package com.meryt.demographics.time;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * A priority queue of the next "interesting" dates on which the calendar has work to do. Each source of work (deaths,
+ * due dates, quarter days, etc.) has at most one entry in the queue: its next date. After a date is processed the
+ * caller reschedules each source, and the calendar can then jump straight to the earliest scheduled date rather than
+ * visiting every day in between.
+ */
+public class CalendarScheduler {
+
+    public enum Source {
+        /**
+         * The next day on which someone wants to marry
+         */
+        MARRIAGE,
+        /**
+         * The next day on which an immigrant family arrives in a parish
+         */
+        IMMIGRANT,
+        /**
+         * The next day on which a new title is created
+         */
+        NEW_TITLE,
+        DEATH,
+        MATERNITY,
+        ABEYANCE,
+        FIRST_OF_YEAR,
+        QUARTER_DAY,
+        PLAGUE,
+        /**
+         * The last day of the advance, which is always processed
+         */
+        END
+    }
+
+    private static final List<MonthDay> QUARTER_DAYS = List.of(
+            MonthDay.of(2, 2),
+            MonthDay.of(5, 15),
+            MonthDay.of(8, 1),
+            MonthDay.of(11, 11));
+
+    @Getter
+    private final LocalDate toDate;
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>(Comparator.comparing(Entry::getDate));
+    private final Map<Source, Entry> entries = new EnumMap<>(Source.class);
+
+    public CalendarScheduler(@NonNull LocalDate toDate) {
+        this.toDate = toDate;
+        schedule(Source.END, toDate);
+    }
+
+    /**
+     * Sets the next date for the given source, replacing any date previously scheduled for it. A null date or a date
+     * after the end date removes the source from the queue.
+     */
+    public void schedule(@NonNull Source source, @Nullable LocalDate date) {
+        Entry previous = entries.remove(source);
+        if (previous != null) {
+            queue.remove(previous);
+        }
+        if (date == null || date.isAfter(toDate)) {
+            return;
+        }
+        Entry entry = new Entry(source, date);
+        entries.put(source, entry);
+        queue.add(entry);
+    }
+
+    /**
+     * Gets the earliest scheduled date, or null if nothing remains to be done.
+     */
+    @Nullable
+    public LocalDate peekNextDate() {
+        Entry next = queue.peek();
+        return next == null ? null : next.getDate();
+    }
+
+    /**
+     * Returns true if the given source is scheduled on exactly this date.
+     */
+    public boolean isScheduled(@NonNull Source source, @NonNull LocalDate date) {
+        Entry entry = entries.get(source);
+        return entry != null && entry.getDate().equals(date);
+    }
+
+    /**
+     * Gets the next date strictly after the given date that falls on the given month and day. If the month and day is
+     * February 29, only leap years are considered.
+     */
+    @NonNull
+    public static LocalDate nextMonthDayAfter(@NonNull MonthDay monthDay, @NonNull LocalDate afterDate) {
+        for (int year = afterDate.getYear(); ; year++) {
+            if (monthDay.isValidYear(year)) {
+                LocalDate candidate = monthDay.atYear(year);
+                if (candidate.isAfter(afterDate)) {
+                    return candidate;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the next quarter day (Candlemas, Whitsun, Lammas, or Martinmas) strictly after the given date.
+     */
+    @NonNull
+    public static LocalDate nextQuarterDayAfter(@NonNull LocalDate afterDate) {
+        return QUARTER_DAYS.stream()
+                .map(md -> nextMonthDayAfter(md, afterDate))
+                .min(LocalDate::compareTo)
+                .orElseThrow();
+    }
+
+    public static boolean isQuarterDay(@NonNull LocalDate date) {
+        return QUARTER_DAYS.contains(MonthDay.from(date));
+    }
+
+    @Getter
+    private static class Entry {
+        private final Source source;
+        private final LocalDate date;
+
+        private Entry(@NonNull Source source, @NonNull LocalDate date) {
+            this.source = source;
+            this.date = date;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+#!/bin/bash
+
+# Writes the reference data for the in-memory profile from a database that all the Flyway migrations have been run
+# against, e.g. by starting the application against it once. The in-memory profile cannot run the migrations itself,
+# so run this whenever a migration changes one of the reference tables.
+
+# Check if DEMO_DB environment variable is set
+if [ -z "$DEMO_DB" ]; then
+    echo "Error: DEMO_DB environment variable is not set"
+    echo "Usage: DEMO_DB=your_database_name ./generate-reference-data.sh [output_file]"
+    exit 1
+fi
+
+set -e -o pipefail
+
+OUTPUT=${1:-$(dirname "$0")/reference-data.sql}
+
+query() {
+    PGDATESTYLE=ISO psql -X -q -A -t -v ON_ERROR_STOP=1 -c "$1" ${DEMO_DB}
+}
+
+# SQL expressions that render a column as a literal
+text() { echo "quote_nullable($1)"; }
+number() { echo "coalesce($1::text, 'NULL')"; }
+bool() { echo "coalesce(upper($1::text), 'NULL')"; }
+
+# Writes one INSERT of all the rows of a table, in a fixed order so that unchanged data gives an unchanged file
+insert() {
+    local table=$1 columns=$2 values=$3 order=$4
+    echo "INSERT INTO ${table} (${columns}) VALUES"
+    query "SELECT string_agg('(' || concat_ws(', ', ${values}) || ')', E',\n' ORDER BY ${order}) || ';' FROM ${table}"
+    echo
+}
+
+restart_sequence() {
+    local table=$1
+    query "SELECT 'ALTER SEQUENCE ${table}_id_seq RESTART WITH ' || (coalesce(max(id), 0) + 1) || ';' FROM ${table}"
+}
+
+VERSION=$(query "SELECT max(version::int) FROM flyway_schema_history WHERE success AND version IS NOT NULL")
+
+{
+    echo "-- Reference data for the in-memory profile, which runs against an embedded database whose entity tables are"
+    echo "-- created by Hibernate rather than by the Flyway migrations. This is the state of the reference tables after"
+    echo "-- the migrations up to V${VERSION} have run. Written by generate-reference-data.sh; do not edit it by hand."
+    echo
+
+    # Hibernate creates the traits and occupations tables, but these have no entity. Keep them in step with the
+    # migrations by hand.
+    cat <<'SQL'
+CREATE TABLE names_first (
+    name      TEXT NOT NULL,
+    gender    CHAR(1) NOT NULL,
+    rank      SMALLINT,
+    weight    NUMERIC NOT NULL,
+    culture   TEXT NOT NULL,
+    from_date DATE NOT NULL,
+    to_date   DATE NOT NULL,
+    PRIMARY KEY (gender, name, culture, from_date)
+);
+
+CREATE TABLE names_last (
+    name    TEXT NOT NULL,
+    culture TEXT NOT NULL,
+    PRIMARY KEY (name, culture)
+);
+
+CREATE TABLE life_table (
+    period        TEXT NOT NULL,
+    age           SMALLINT NOT NULL,
+    total_living  INT,
+    male_living   INT,
+    female_living INT,
+    total_died    INT,
+    male_died     INT,
+    female_died   INT,
+    total_qx      NUMERIC,
+    male_qx       NUMERIC,
+    female_qx     NUMERIC,
+    PRIMARY KEY (period, age)
+);
+
+CREATE TABLE town_templates (
+    town_map_id    TEXT PRIMARY KEY,
+    valid_england  BOOLEAN NOT NULL DEFAULT TRUE,
+    valid_scotland BOOLEAN NOT NULL DEFAULT TRUE
+);
+
+CREATE TABLE town_house_templates (
+    town_map_id   TEXT NOT NULL,
+    polygon_id    TEXT NOT NULL,
+    polygon_value INTEGER NOT NULL,
+    PRIMARY KEY (town_map_id, polygon_id)
+);
+SQL
+    echo
+
+    insert names_first "name, gender, rank, weight, culture, from_date, to_date" \
+        "$(text name), $(text gender), $(number rank), $(number weight), $(text culture), $(text from_date), \
+$(text to_date)" \
+        'gender COLLATE "C", name COLLATE "C", culture COLLATE "C", from_date'
+    insert names_last "name, culture" \
+        "$(text name), $(text culture)" \
+        'name COLLATE "C", culture COLLATE "C"'
+    insert life_table \
+        "period, age, total_living, male_living, female_living, total_died, male_died, female_died, total_qx, \
+male_qx, female_qx" \
+        "$(text period), $(number age), $(number total_living), $(number male_living), $(number female_living), \
+$(number total_died), $(number male_died), $(number female_died), $(number total_qx), $(number male_qx), \
+$(number female_qx)" \
+        'period COLLATE "C", age'
+    insert town_templates "town_map_id, valid_england, valid_scotland" \
+        "$(text town_map_id), $(bool valid_england), $(bool valid_scotland)" \
+        'town_map_id COLLATE "C"'
+    insert town_house_templates "town_map_id, polygon_id, polygon_value" \
+        "$(text town_map_id), $(text polygon_id), $(number polygon_value)" \
+        'town_map_id COLLATE "C", polygon_id COLLATE "C"'
+    insert traits "id, rating, name" \
+        "$(number id), $(number rating), $(text name)" \
+        'id'
+    insert occupations \
+        "id, support_factor, name, allow_male, allow_female, min_class, max_class, is_rural, is_farm_owner, \
+is_domestic_servant, is_farm_laborer, may_marry, min_income_required, max_per_household" \
+        "$(number id), $(number support_factor), $(text name), $(bool allow_male), $(bool allow_female), \
+$(text min_class), $(text max_class), $(bool is_rural), $(bool is_farm_owner), $(bool is_domestic_servant), \
+$(bool is_farm_laborer), $(bool may_marry), $(number min_income_required), $(number max_per_household)" \
+        'id'
+
+    restart_sequence traits
+    restart_sequence occupations
+} > "${OUTPUT}"
+
+echo "Wrote ${OUTPUT} from ${DEMO_DB} at V${VERSION}"
@@ -0,0 +1,15938 @@
+-- Reference data for the in-memory profile, which runs against an embedded database whose entity tables are
+-- created by Hibernate rather than by the Flyway migrations. This is the state of the reference tables after
+-- the migrations up to V95 have run. Written by generate-reference-data.sh; do not edit it by hand.
+
+CREATE TABLE names_first (
+    name      TEXT NOT NULL,
+    gender    CHAR(1) NOT NULL,
+    rank      SMALLINT,
+    weight    NUMERIC NOT NULL,
+    culture   TEXT NOT NULL,
+    from_date DATE NOT NULL,
+    to_date   DATE NOT NULL,
+    PRIMARY KEY (gender, name, culture, from_date)
+);
+
+CREATE TABLE names_last (
+    name    TEXT NOT NULL,
+    culture TEXT NOT NULL,
+    PRIMARY KEY (name, culture)
+);
+
+CREATE TABLE life_table (
+    period        TEXT NOT NULL,
+    age           SMALLINT NOT NULL,
+    total_living  INT,
+    male_living   INT,
+    female_living INT,
+    total_died    INT,
+    male_died     INT,
+    female_died   INT,
+    total_qx      NUMERIC,
+    male_qx       NUMERIC,
+    female_qx     NUMERIC,
+    PRIMARY KEY (period, age)
+);
+
+CREATE TABLE town_templates (
+    town_map_id    TEXT PRIMARY KEY,
+    valid_england  BOOLEAN NOT NULL DEFAULT TRUE,
+    valid_scotland BOOLEAN NOT NULL DEFAULT TRUE
+);
+
+CREATE TABLE town_house_templates (
+    town_map_id   TEXT NOT NULL,
+    polygon_id    TEXT NOT NULL,
+    polygon_value INTEGER NOT NULL,
+    PRIMARY KEY (town_map_id, polygon_id)
+);
+
+INSERT INTO names_first (name, gender, rank, weight, culture, from_date, to_date) VALUES
+('Aann', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Abby', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Abigail', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Abigail', 'F', NULL, 0.0548604241185882, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Abigail', 'F', NULL, 0.0106302201974184, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Abigail', 'F', NULL, 0.00169995750106247, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Abigail', 'F', NULL, 0.00423529411764706, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Abigail', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Abigaile', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Abigaill', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Abigaill', 'F', NULL, 0.027777777777778, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Abigall', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Abigell', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ablach', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Abram', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Abygall', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Adah', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Adah', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Adanell', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Adda', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Adde', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Addeline', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Addeline', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Addenel', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Addenell', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Addi', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Addianall', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Addilay', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Addilinah', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Addilyne', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Addin', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Addinall', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Addinel', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Addinel', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Addinell', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Adelaide', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Adelin', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Adelin', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Adelina', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Adeline', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Adeline', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Adenel', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Aderline', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Adilene', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Adinal', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Adinell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Adinell', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Adolina', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Adoline', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Adria', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Adria', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Adrian', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Adylyne', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Aelcea', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Aelecea', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Affraic', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Agatha', 'F', NULL, 0.0233644859813084, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Agatha', 'F', NULL, 0.00759301442672741, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Agnas', 'F', NULL, 0.00632244467860906, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Agnas', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Agne', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Agnees', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Agnes', 'F', NULL, 0.0186915887850467, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Agnes', 'F', NULL, 0.0103086555529132, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Agnes', 'F', NULL, 0.607142857142857, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Agnes', 'F', NULL, 1, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Agnes', 'F', NULL, 0.630220197418375, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Agnes', 'F', NULL, 0.639620653319283, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Agnes', 'F', NULL, 0.0484487887802805, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Agnes', 'F', NULL, 0.008, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Agnes', 'F', NULL, 0.0307200090602792, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Agnes', 'F', NULL, 0.321428571428571, 'SCOTLAND', '1400-01-01', '1600-01-01'),
+('Agnes', 'F', NULL, 0.871951219512195, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Agnes', 'F', NULL, 0.416666666666667, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Agnes', 'F', NULL, 0.413793103448276, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Agnes', 'F', 39, 0.142395741346375, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Agness', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Agnet', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Agneta', 'F', NULL, 0.053740779768177, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Agneta', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Agnete', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Agnetum', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Agnis', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Agnis', 'F', NULL, 0.00169995750106247, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Agnnes', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Agnus', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Aibhilín', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Ailca', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Aileann', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Ailes', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ailes', 'F', NULL, 0.00169995750106247, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ailez', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ailic', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ailice', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ailles', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Aillice', 'F', NULL, 0.00254993625159371, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ailova', 'F', NULL, 0.035714285714286, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Ails', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alacs', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Alas', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Alas', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Alathea', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Albina', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Alc', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Alce', 'F', NULL, 0.00632244467860906, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alce', 'F', NULL, 0.00339991500212495, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Alcie', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Aldiva', 'F', NULL, 0.035714285714286, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Aleezes', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ales', 'F', NULL, 0.0136674259681093, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Ales', 'F', NULL, 0.00737618545837724, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ales', 'F', NULL, 0.00637484062898428, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Alesabeth', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Aleson', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alesonne', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alesonne', 'F', NULL, 0.111111111111111, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Alezes', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Algerina', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Alia', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Alias', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alic', 'F', NULL, 0.00632244467860906, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alic', 'F', NULL, 0.00339991500212495, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Alic', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Alica', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Alice', 'F', NULL, 0.0794392523364486, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Alice', 'F', NULL, 0.0121787030567211, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Alice', 'F', NULL, 0.857142857142857, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Alice', 'F', NULL, 0.5, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Alice', 'F', NULL, 0.388003037205771, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Alice', 'F', NULL, 0.203371970495258, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alice', 'F', NULL, 0.147896302592435, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Alice', 'F', NULL, 0.0941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Alice', 'F', NULL, 0.0541837052497037, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Alice', 'F', 19, 0.397214318458218, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Alicea', 'F', NULL, 0.00835231586940015, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Alicea', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alicea', 'F', NULL, 0.00169995750106247, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Alicea', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Alices', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Aliceson', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alicia', 'F', NULL, 0.0368809272918862, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alicia', 'F', NULL, 0.0093497662558436, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Alicia', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Aliciam', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alics', 'F', NULL, 0.00169995750106247, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Alie', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alienor', 'F', NULL, 0.035714285714286, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Alies', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alies', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Aline', 'F', NULL, 0.214285714285714, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Alis', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alis', 'F', NULL, 0.00382490437739057, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Alis', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Alise', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Alisia', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Alison', 'F', NULL, 0.00842992623814542, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alison', 'F', NULL, 0.018292682926829, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Alisonn', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alisonne', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alisson', 'F', NULL, 0.035714285714286, 'SCOTLAND', '1400-01-01', '1600-01-01'),
+('Alithea', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Alixia', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alizan', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Alizes', 'F', NULL, 0.00424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Alizon', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Allas', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Allce', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Allce', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Alle', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Allea', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Allenson', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alles', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alles', 'F', NULL, 0.00297492562685933, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Allese', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Alleson', 'F', NULL, 0.0273972602739726, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alleson', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Allesonne', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alley', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alley', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Allic', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Allice', 'F', NULL, 0.0252897787144362, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Allice', 'F', NULL, 0.0271993200169996, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Allice', 'F', NULL, 0.00235294117647059, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Allicea', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Allicea', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Allicia', 'F', NULL, 0.00632244467860906, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Allicia', 'F', NULL, 0.00169995750106247, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Allicien', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Allie', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Allies', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alliner', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Allines', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Allinson', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Allis', 'F', NULL, 0.00526870389884089, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Allis', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Allis', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Allisina', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Allisine', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Allison', 'F', NULL, 0.0790305584826133, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Allison', 'F', NULL, 0.00339991500212495, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Allisone', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Allisonn', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Allisonne', 'F', NULL, 0.00632244467860906, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alliz', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Allizen', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alls', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ally', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ally', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Allyce', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Allye', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Allyee', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Allyso', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Allyson', 'F', NULL, 0.0273972602739726, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Allyson', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Alm', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Alma', 'F', NULL, 0.035714285714286, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Alma', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Almira', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Als', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alviva', 'F', NULL, 0.142857142857143, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Alyce', 'F', NULL, 0.00737618545837724, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alys', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alyse', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alyson', 'F', NULL, 0.0105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alysone', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Amabil', 'F', NULL, 0.142857142857143, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Amadea', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Amcoats', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Amelia', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Amelia', 'F', NULL, 0.00774486939358067, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Amelia', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Amelia', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Ames', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Amey', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Amice', 'F', NULL, 0.035714285714286, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Amphillis', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Amy', 'F', NULL, 0.00934579439252336, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Amy', 'F', NULL, 0.0155668971432295, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Amy', 'F', 41, 0.128512156565103, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Ana', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ana', 'F', NULL, 0.00892477688057799, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ane', 'F', NULL, 0.0158061116965227, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ane', 'F', NULL, 0.0123246918827029, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Aneran', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Anerilla', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Anes', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Angas', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Angel', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Angelica', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Angelica', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Anges', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Angness', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Anis', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ann', 'F', NULL, 0.247663551401869, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Ann', 'F', NULL, 0.0649980951586919, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Ann', 'F', NULL, 0.183350895679663, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ann', 'F', NULL, 0.561410964725882, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ann', 'F', NULL, 0.756705882352941, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Ann', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Anna', 'F', NULL, 0.0560747663551402, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Anna', 'F', NULL, 0.117595893427578, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Anna', 'F', NULL, 0.118018967334036, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Anna', 'F', NULL, 0.0709732256693583, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Anna', 'F', NULL, 0.0127058823529412, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Anna', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Annabel', 'F', NULL, 0.03448275862069, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Annabell', 'F', NULL, 0.189024390243902, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Annae', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Annam', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Annam', 'F', NULL, 0.0118997025074373, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Annam', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Annan', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Annan', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Annan', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Annas', 'F', NULL, 0.0737618545837724, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Annas', 'F', NULL, 0.00849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Anne', 'F', NULL, 0.355140186915888, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Anne', 'F', NULL, 0.017775790872674, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Anne', 'F', NULL, 0.0341685649202733, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Anne', 'F', NULL, 0.273972602739726, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Anne', 'F', NULL, 0.339991500212495, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Anne', 'F', NULL, 0.203294117647059, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Anne', 'F', NULL, 0.166648465212977, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Anne', 'F', 2, 0.95, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Annee', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Anneis', 'F', NULL, 0.00759301442672741, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Annes', 'F', NULL, 0.0853530031612223, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Annes', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Annie', 'F', NULL, 0.00637971511688631, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Annie', 'F', NULL, 0.00212494687632809, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Annie', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Annie', 'F', NULL, 0.2062507836737, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Annis', 'F', NULL, 0.00911161731207289, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Annis', 'F', NULL, 0.0252897787144362, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Anns', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Annus', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Apolin', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Apollina', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Apphia', 'F', NULL, 0.014018691588785, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Appolina', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Appollina', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Aquila', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Arabaell', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Arabella', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Arabella', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Arabia', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Arianna', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Arimathae', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Arison', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Arraell', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Aróc', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Asenath', 'F', NULL, 0.0080649376518527, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Atalanta', 'F', NULL, 0.00934579439252336, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Audrey', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Augusta', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Aurelia', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Avarall', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Avarill', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Avarill', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Avelina', 'F', NULL, 0.035714285714286, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Averall', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Averell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Averilde', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Averill', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Avery', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Avice', 'F', NULL, 0.071428571428572, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Avirilla', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Avis', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Avis', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Awdria', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Awellah', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Ayles', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ayles', 'F', NULL, 0.00169995750106247, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Aylles', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Aylles', 'F', NULL, 0.00637484062898428, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ayres', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Aysley', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Azubah', 'F', NULL, 0.00630957344480193, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Aíbinn', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Babora', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Bales', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Banbara', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Barba', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barbaa', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barbar', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barbara', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Barbara', 'F', NULL, 0.0246242041067316, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Barbara', 'F', NULL, 0.0759301442672741, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Barbara', 'F', NULL, 0.0305584826132771, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Barbara', 'F', NULL, 0.0373990650233744, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barbara', 'F', NULL, 0.0475294117647059, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Barbara', 'F', NULL, 0.071428571428572, 'SCOTLAND', '1400-01-01', '1600-01-01'),
+('Barbara', 'F', NULL, 0.055555555555556, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Barbara', 'F', NULL, 0.068965517241379, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Barbara', 'F', 44, 0.110183110235005, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Barbarah', 'F', NULL, 0.00188235294117647, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Barbaraye', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Barbaraye', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barbare', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Barbare', 'F', NULL, 0.00254993625159371, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barbarey', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barbari', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barbaria', 'F', NULL, 0.00737618545837724, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Barbaria', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barbarie', 'F', NULL, 0.0200210748155954, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Barbarie', 'F', NULL, 0.00807479813004675, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barbarie', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Barbarry', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barbary', 'F', NULL, 0.0231822971548999, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Barbary', 'F', NULL, 0.0403739906502338, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barbary', 'F', NULL, 0.008, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Barbarye', 'F', NULL, 0.00948366701791359, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Barbarye', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barbay', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barberey', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barberie', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Barberre', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barberry', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barbery', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Barbery', 'F', NULL, 0.00764980875478113, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barbery', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Barberye', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Barberye', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barbiry', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barbra', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Barbra', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barbra', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Barbray', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barbre', 'F', NULL, 0.00297492562685933, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barker', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Barrdub', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Barton', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Bateman', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Bathsheba', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Bathsheba', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Beale', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Beata', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Beatrice', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Beatrice', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Beatrice', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Beatrice', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Beatris', 'F', NULL, 0.00835231586940015, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Beatrix', 'F', NULL, 0.071428571428572, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Beatrix', 'F', NULL, 0.142857142857143, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Beatrix', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Beatrix', 'F', NULL, 0.00609756097561, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Beatrix', 'F', NULL, 0.083333333333333, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Beatrix', 'F', NULL, 0.103448275862069, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Beeley', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Beell', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Begis', 'F', NULL, 0.055555555555556, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Begy', 'F', NULL, 0.030487804878049, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Beitresse', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Belbie', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Bell', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Bell', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Belle', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Bellow', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Ben Muman', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Benedicta', 'F', NULL, 0.00911161731207289, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Benedicta', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Benson', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Berbarie', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Besse', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Bessie', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Bessie', 'F', NULL, 0.277777777777778, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Bessie', 'F', NULL, 0.137931034482759, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Besy', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Bethenia', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Bethia', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Betreccam', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Betris', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Betsey', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Betsey', 'F', NULL, 0.0443104526426493, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Betsey', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Betsy', 'F', NULL, 0.0151867986442926, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Betsy', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Bett', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Bette', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Betteires', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Betteras', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Betteres', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Bettireia', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Bettram', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Bettras', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Bettres', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Bettres', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Bettress', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Bettresse', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Bettresse', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Bettrice', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Bettrice', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Bettries', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Bettris', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Bettriss', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Betty', 'F', NULL, 0.00934579439252336, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Betty', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Betty', 'F', 12, 0.56880009227646, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Bexelinda', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Biddy', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Billhagh', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Birget', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Blackit', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Blanch', 'F', NULL, 0.0106302201974184, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Blanch', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Blanch', 'F', NULL, 0.00212494687632809, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Blanhe', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Blench', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Blythe', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Boyce', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Breget', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Bridget', 'F', NULL, 0.00934579439252336, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Bridget', 'F', NULL, 0.00683390215709541, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Bridget', 'F', NULL, 0.0136674259681093, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Bridget', 'F', NULL, 0.00737618545837724, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Bridget', 'F', NULL, 0.00552486187845304, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Bridget', 'F', NULL, 0.00517647058823529, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Bridget', 'F', NULL, 0.492761888582835, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Bridget', 'F', 49, 0.085257590334308, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Bridgett', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Bridgett', 'F', NULL, 0.00849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Bridgetta', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Bridggett', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Bridgit', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Bridgit', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Bridgitt', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Bridjett', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Brigeta', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Brigett', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Brigget', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Brigit', 'F', NULL, 0.035714285714286, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Brigitt', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Brigitta', 'F', NULL, 0.00835231586940015, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Britannia', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Bryget', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Byle', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Bé Fáil', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Bébinn', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Caelia', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Cainnech', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Caisséne', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Camela', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Camilla', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Camilla', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Camilla', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Camy', 'F', NULL, 0.00609756097561, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Cancilla', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Carolina', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Caroline', 'F', NULL, 0.00652455794243827, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Caroline', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Caroline', 'F', 32, 0.20390682574579, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Cassandra', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Cassandra', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cassandra', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Cassey', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Cassia', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Catchisid', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Catearan', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cateran', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Caterian', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Caterine', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Catharen', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Catharin', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Catharina', 'F', NULL, 0.0188355412113374, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Catharine', 'F', NULL, 0.0473661427034499, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Cathe', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Catherain', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Catheran', 'F', NULL, 0.0147523709167545, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Catheran', 'F', NULL, 0.00212494687632809, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Catheren', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Catherin', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Catherin', 'F', NULL, 0.00254993625159371, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Catherin', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Catherina', 'F', NULL, 0.00632244467860906, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Catherina', 'F', NULL, 0.00169995750106247, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Catherine', 'F', NULL, 0.0841121495327103, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Catherine', 'F', NULL, 0.0891935068622478, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Catherine', 'F', NULL, 0.0463645943097998, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Catherine', 'F', NULL, 0.0607734806629834, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Catherine', 'F', NULL, 0.0743529411764706, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Catherine', 'F', NULL, 0.234349783402701, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Catherine', 'F', 14, 0.513342083279505, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Cathering', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Catherne', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Catheron', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Catheron', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Catheryen', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Catheryn', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Catheryn', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Catheryne', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cathran', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cathren', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cathrin', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cathrine', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Catren', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Catteryn', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cattyrynye', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Caíntigern', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Cecile', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cecilia', 'F', NULL, 0.071428571428572, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Cecilia', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cecilia', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cecilia', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Cecilia', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Cecilla', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cecille', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cecilliam', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cecilliam', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cecily', 'F', NULL, 0.071428571428572, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Cecily', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cecily', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cellach', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Ceuse', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Charite', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Charitee', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Charity', 'F', NULL, 0.0138287941510302, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Charity', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Charity', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Charitye', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Charlotte', 'F', NULL, 0.0206715570927606, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Charlotte', 'F', NULL, 0.00423529411764706, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Charlotte', 'F', 10, 0.630249409724609, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Charlton', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Chatarin', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Chatherine', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Chloe', 'F', NULL, 0.0129537741850142, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Chonstans', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Chrishbell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Chrisian', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Christabel', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Christabell', 'F', NULL, 0.0105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Christabell', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Christable', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Christable', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Christebell', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Christiah', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Christian', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Christian', 'F', NULL, 0.0379650721336371, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Christian', 'F', NULL, 0.00526870389884089, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Christian', 'F', NULL, 0.00297492562685933, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Christian', 'F', NULL, 0.0122352941176471, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Christian', 'F', NULL, 0.071428571428572, 'SCOTLAND', '1400-01-01', '1600-01-01'),
+('Christiana', 'F', NULL, 0.142857142857143, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Christiana', 'F', NULL, 0.00911161731207289, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Christiana', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Christiana', 'F', NULL, 0.00254993625159371, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Christiana', 'F', NULL, 0.00188235294117647, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Christiana', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Christiane', 'F', NULL, 0.24390243902439, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Christiane', 'F', NULL, 0.222222222222222, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Christianna', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Christianna', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Christibell', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Christina', 'F', NULL, 0.0135248667561248, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Christina', 'F', NULL, 0.142857142857143, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Christina', 'F', NULL, 0.0239692921252422, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Christine', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Christmas', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Christobel', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Christobel', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Christobell', 'F', NULL, 0.00737618545837724, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Christobell', 'F', NULL, 0.00339991500212495, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Christoble', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Christotabell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Chrystabell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Churchian', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cibell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cicel', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cicela', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cicele', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cicelia', 'F', NULL, 0.00759301442672741, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Cicelia', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ciceliam', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cicelie', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cicelie', 'F', NULL, 0.00212494687632809, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cicell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cicely', 'F', NULL, 0.041002277904328, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Cicely', 'F', NULL, 0.00526870389884089, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cicely', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cicely', 'F', NULL, 0.00235294117647059, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Cicilea', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cicilee', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ciciley', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cicilia', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ciciliam', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cicilie', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cicilie', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cicilla', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cicille', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cicilliam', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cicillie', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cicilly', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cicily', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cicily', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Cicilye', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cicilye', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ciclye', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cillium', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cirstabell', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cisilie', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cisily', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cisilya', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cisley', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cisley', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cisley', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Cisseley', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cissely', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cissilla', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Clara', 'F', NULL, 0.00835231586940015, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Clara', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Clara', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Clara', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Clare', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Clare', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Clarice', 'F', NULL, 0.035714285714286, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Clarinda', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Clarissa', 'F', NULL, 0.0182910250164225, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Clary', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Clemence', 'F', NULL, 0.00987091875474563, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Clemency', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Clementia', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Climelche', 'F', NULL, 0.0002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Cloelia', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Coates', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Coblaith', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Codial', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Colleta', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Comfort', 'F', NULL, 0.00735408799542395, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Comfort', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Constance', 'F', NULL, 0.035714285714286, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Constance', 'F', NULL, 0.0121488230827639, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Constance', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Constance', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Constancia', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cordal', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cordell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cornelia', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Craggs', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cristabell', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cristabell', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cristian', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cristiana', 'F', NULL, 0.464285714285714, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Cristiane', 'F', NULL, 0.344827586206897, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Cristibell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cristina', 'F', NULL, 0.00934579439252336, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Cristina', 'F', NULL, 0.464285714285714, 'SCOTLAND', '1400-01-01', '1600-01-01'),
+('Cristobella', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Crystabell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Crystybell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Crínóc', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Curchian', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Curstabell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Curtley', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Custance', 'F', NULL, 0.071428571428572, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Custance', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Custans', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Custantiam', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Custon', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cynthia', 'F', NULL, 0.0148240334112742, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Damaris', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Debbora', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Debora', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Debora', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Debora', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Deborah', 'F', NULL, 0.00934579439252336, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Deborah', 'F', NULL, 0.0228824296998434, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Deborah', 'F', NULL, 0.0136674259681093, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Deborah', 'F', NULL, 0.00382490437739057, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Deborah', 'F', NULL, 0.008, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Deborah', 'F', 47, 0.094468244137738, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Debrah', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Delia', 'F', NULL, 0.0270352258800403, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Delice', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Delphi', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Den', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dena', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Denic', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Denise', 'F', NULL, 0.035714285714286, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Denise', 'F', NULL, 0.107142857142857, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Denise', 'F', NULL, 0.00835231586940015, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Denn', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Denne', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Derbáil', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Diana', 'F', NULL, 0.0186915887850467, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Diana', 'F', NULL, 0.035714285714286, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Diana', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Diana', 'F', NULL, 0.00212494687632809, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Diana', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Diana', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Dianaim', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Dianey', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Didnes', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dina', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dina', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Dinah', 'F', NULL, 0.00254993625159371, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dinah', 'F', NULL, 0.00941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Dinah', 'F', 43, 0.115982221300006, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Dionisia', 'F', NULL, 0.0121488230827639, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Ditham', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Dixon', 'F', NULL, 0.00169995750106247, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dobson', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dods', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Doirend', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Dolly', 'F', NULL, 0.00934097384371525, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Donnette', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorath', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorathe', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dorathe', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorathea', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dorathea', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorathey', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Dorathie', 'F', NULL, 0.0115911485774499, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dorathie', 'F', NULL, 0.00169995750106247, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorathoe', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dorathy', 'F', NULL, 0.0105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dorathy', 'F', NULL, 0.00764980875478113, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorathy', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Dorathye', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dorathye', 'F', NULL, 0.00339991500212495, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Doratie', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorcas', 'F', NULL, 0.00934579439252336, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Dorcas', 'F', NULL, 0.0159655799479786, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Dorcas', 'F', NULL, 0.0129081245254366, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Dorcas', 'F', NULL, 0.00169995750106247, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorcas', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Dorete', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorethia', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dorethy', 'F', NULL, 0.00169995750106247, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorety', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Doreyte', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Doriethie', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Doriety', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorite', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Doritee', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Doritee', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Doritey', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Doritha', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorithe', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dorithea', 'F', NULL, 0.00212494687632809, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Doritheam', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorithee', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dorithee', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorithie', 'F', NULL, 0.00842992623814542, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dorithie', 'F', NULL, 0.00212494687632809, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorithy', 'F', NULL, 0.00526870389884089, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dorithy', 'F', NULL, 0.00637484062898428, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorithy', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Dorithye', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Doriti', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Doritia', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Doritie', 'F', NULL, 0.00632244467860906, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Doritie', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Doritie', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Dority', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dority', 'F', NULL, 0.00382490437739057, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Doritye', 'F', NULL, 0.00948366701791359, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Doroothy', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Doroth', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Doroth', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorothe', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorothea', 'F', NULL, 0.0327102803738318, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Dorothea', 'F', NULL, 0.0115911485774499, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dorothea', 'F', NULL, 0.00977475563110922, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorothea', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Dorothea', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Dorotheam', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorothee', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorothie', 'F', NULL, 0.00948366701791359, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dorothie', 'F', NULL, 0.00424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorothy', 'F', NULL, 0.0327102803738318, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Dorothy', 'F', NULL, 0.00964362237699115, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Dorothy', 'F', NULL, 0.111617312072893, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Dorothy', 'F', NULL, 0.0579557428872497, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dorothy', 'F', NULL, 0.139821504462388, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorothy', 'F', NULL, 0.151529411764706, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Dorothy', 'F', 33, 0.193711484458501, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Dorothye', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dorothye', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorotie', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Doroty', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorrathy', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorraty', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dorret', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorreta', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dorrete', 'F', NULL, 0.00254993625159371, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorrety', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorrite', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dorrite', 'F', NULL, 0.00339991500212495, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorritee', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dorritee', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorrithie', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dorrithy', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorritie', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorrity', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorritye', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dorrothie', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dorrothy', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorrythy', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorryty', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorthithea', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorthy', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorty', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dorytey', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorythe', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dorythey', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorythie', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dorythie', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorythy', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorythy', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Dorytie', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dorytie', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Doryty', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dorytye', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dove', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Druscilla', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Drusilla', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Dub Lemna', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Dubchoblaig', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Dubgilla', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Ducibella', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Dulcibella', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dyanes', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dyanis', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dye', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dyna', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dyonise', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dyonnes', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dúnlaith', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Eales', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Eallis', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Easter', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Easter', 'F', NULL, 0.00169995750106247, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Easter', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Easter', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Easther', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Eathar', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ebbaline', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Eby', 'F', NULL, 0.048780487804878, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Echrad', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Edane', 'F', NULL, 0.01219512195122, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Ede', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Eden', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Eden', 'F', NULL, 0.00254993625159371, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Eden', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Edena', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Edeth', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Edeth', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Edin', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Edina', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Edith', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Edith', 'F', NULL, 0.428571428571429, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Edith', 'F', NULL, 0.035714285714286, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Edith', 'F', NULL, 0.00842992623814542, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Edith', 'F', NULL, 0.00424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Edith', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Edith', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Edmund', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Edna', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Edom', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Edy', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Effam', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Effula', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Effy', 'F', NULL, 0.060975609756098, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Egress', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Eithne', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Ekin', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elainor', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Elan', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elanor', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elasabath', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elasabeth', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elazebeth', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elbith', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elces', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Eldaah', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Eldia', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elean', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elean', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Eleana', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Eleanor', 'F', NULL, 0.0186915887850467, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Eleanor', 'F', NULL, 0.0213616436570737, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Eleanor', 'F', NULL, 0.0126448893572181, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Eleanor', 'F', NULL, 0.0237994050148746, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Eleanor', 'F', NULL, 0.126588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Eleanor', 'F', 24, 0.307356867725023, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Eleanora', 'F', NULL, 0.00382490437739057, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Eleanora', 'F', NULL, 0.00188235294117647, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Eleanour', 'F', NULL, 0.00188235294117647, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Eleibeth', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Eleinour', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elen', 'F', NULL, 0.0158061116965227, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elen', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elena', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elena', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elene', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elener', 'F', NULL, 0.00526870389884089, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elener', 'F', NULL, 0.00892477688057799, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elenere', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elenner', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elennor', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elenor', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Elenor', 'F', NULL, 0.0105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elenor', 'F', NULL, 0.0148746281342966, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elenor', 'F', NULL, 0.00329411764705882, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Elenora', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elenoram', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elenour', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Eleonar', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Eleoner', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Eleoner', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Eleonor', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Eleonor', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Eleonorum', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elesabath', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elesabeth', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elesbeth', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elesepeth', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elezabeth', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elezabeth', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elezabeth', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Elezbath', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elezebeth', 'F', NULL, 0.00212494687632809, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elianer', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elianna', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elianor', 'F', NULL, 0.0189673340358272, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elianor', 'F', NULL, 0.00552486187845304, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elianor', 'F', NULL, 0.00235294117647059, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Elianora', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elie', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elin', 'F', NULL, 0.00254993625159371, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elina', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elina', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Eline', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elineor', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Eliner', 'F', NULL, 0.0147523709167545, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Eliner', 'F', NULL, 0.0123246918827029, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elinor', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Elinor', 'F', NULL, 0.0368809272918862, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elinor', 'F', NULL, 0.0310242243943901, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elinor', 'F', NULL, 0.00282352941176471, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Elinora', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elinora', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elinour', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elionara', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elioner', 'F', NULL, 0.00842992623814542, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elioner', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elionere', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elionna', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elionor', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elionora', 'F', NULL, 0.00526870389884089, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elisabeth', 'F', NULL, 0.0124270161916158, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Elisabeth', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elisabeth', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elisebeth', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elison', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Eliza', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Eliza', 'F', NULL, 0.0141460320883936, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Eliza', 'F', NULL, 0.00526870389884089, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Eliza', 'F', NULL, 0.0127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Eliza', 'F', NULL, 0.00752941176470588, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Eliza', 'F', NULL, 0.044998038287769, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Eliza', 'F', 27, 0.263520094465742, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Elizabeta', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elizabeth', 'F', NULL, 1, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Elizabeth', 'F', NULL, 0.466516495768404, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Elizabeth', 'F', NULL, 0.035714285714286, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Elizabeth', 'F', NULL, 1, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Elizabeth', 'F', NULL, 1, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elizabeth', 'F', NULL, 1, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elizabeth', 'F', NULL, 0.844235294117647, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Elizabeth', 'F', NULL, 0.142772202739925, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Elizabeth', 'F', NULL, 0.928571428571429, 'SCOTLAND', '1400-01-01', '1600-01-01'),
+('Elizabeth', 'F', NULL, 1, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Elizabeth', 'F', NULL, 0.194444444444444, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Elizabeth', 'F', 3, 0.9025, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Elizabetha', 'F', NULL, 0.0811380400421496, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elizabetha', 'F', NULL, 0.0131746706332342, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elizabetha', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Elizabethe', 'F', NULL, 0.00737618545837724, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elizabethe', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ell', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ella', 'F', NULL, 0.035714285714286, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Ellab', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellabeth', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellan', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellanor', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elle', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elleanor', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Ellebeth', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elleese', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellen', 'F', NULL, 0.00980206813555338, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Ellen', 'F', NULL, 0.0774487471526196, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Ellen', 'F', NULL, 0.0305584826132771, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellen', 'F', NULL, 0.0106247343816405, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellen', 'F', NULL, 0.00376470588235294, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Ellen', 'F', NULL, 0.287530386315743, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Ellen', 'F', NULL, 0.182926829268293, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Ellen', 'F', 20, 0.377353602535307, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Ellena', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellenar', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellene', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellener', 'F', NULL, 0.0115911485774499, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellener', 'F', NULL, 0.0140246493837654, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellener', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Ellenna', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellennar', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellenner', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellenor', 'F', NULL, 0.0158061116965227, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellenor', 'F', NULL, 0.0169995750106247, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellenor', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Ellenora', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellenora', 'F', NULL, 0.00254993625159371, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellenora', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Ellenore', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellenour', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elleonora', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Elleor', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elles', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellesbath', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellesebeth', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellice', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellie', 'F', NULL, 0.035974162025296, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Ellin', 'F', NULL, 0.00526870389884089, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellin', 'F', NULL, 0.00594985125371866, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellina', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellina', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellinar', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elliner', 'F', NULL, 0.0432033719704953, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elliner', 'F', NULL, 0.0220994475138122, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elliner', 'F', NULL, 0.00376470588235294, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Elling', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellinner', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellinnor', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellinor', 'F', NULL, 0.220956719817768, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Ellinor', 'F', NULL, 0.0695468914646997, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellinor', 'F', NULL, 0.050148746281343, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellinor', 'F', NULL, 0.00423529411764706, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Ellinora', 'F', NULL, 0.00297492562685933, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellinori', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellinour', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellioner', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellis', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellis', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellisabeth', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellisbeth', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellise', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellisebeth', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellisone', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elliza', 'F', NULL, 0.00509987250318742, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellizabeth', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellme', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellner', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellnor', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellonor', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellons', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ells', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellsabeth', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellsabeth', 'F', NULL, 0.00509987250318742, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellsbeth', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellsebe', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellsebeth', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellsebeth', 'F', NULL, 0.00679983000424989, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellsebeyth', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellssebeth', 'F', NULL, 0.0284510010537408, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellyce', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellyn', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellyne', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellyner', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellyner', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellyng', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellynor', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellysabeth', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellzebeth', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellzibath', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elnet', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elnor', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Eloner', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Eloner', 'F', NULL, 0.00169995750106247, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Eloner', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Elonor', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elosia', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Els', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elsa', 'F', NULL, 0.00948366701791359, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elsa', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elsa', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Elsab', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elsabet', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elsabeth', 'F', NULL, 0.120126448893572, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elsabeth', 'F', NULL, 0.0174245643858904, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elsabetha', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elsabethe', 'F', NULL, 0.0158061116965227, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elsapeth', 'F', NULL, 0.00632244467860906, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elsb', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elsbeth', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Else', 'F', NULL, 0.00737618545837724, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Else', 'F', NULL, 0.00637484062898428, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Else', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Elsebeth', 'F', NULL, 0.0252897787144362, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elsebeth', 'F', NULL, 0.014449638759031, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elsebethe', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elsebeyth', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elsebyth', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elsepath', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elsepeth', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elseth', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elsey', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Elsopeth', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elspaith', 'F', NULL, 0.166666666666667, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Elspet', 'F', NULL, 0.96551724137931, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Elspeth', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elssebeth', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elxeth', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ely', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elyanor', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elyce', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elyn', 'F', NULL, 0.00526870389884089, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elyner', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elynor', 'F', NULL, 0.00526870389884089, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elysabeth', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elysabethe', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elyzabeth', 'F', NULL, 0.0136986301369863, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elyzaibethe', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elyzaibeyhe', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elz', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elzabe', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elzabeth', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elzabeth', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elzabethe', 'F', NULL, 0.00842992623814542, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elzeabeth', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elzebeth', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elzebeth', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Em', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Em', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Emat', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Emath', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Eme', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Eme', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Emeet', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Emet', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Emet', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Emett', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Emily', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Emma', 'F', NULL, 0.285714285714286, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Emma', 'F', NULL, 0.285714285714286, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Emma', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Emma', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Emma', 'F', NULL, 0.00329411764705882, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Emma', 'F', 40, 0.135275954279056, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Emmalay', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Emme', 'F', NULL, 0.0197418375094913, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Emme', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Emme', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Emmeline', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Emmerson', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Emmet', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Emmet', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Emmott', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Emmy', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Emot', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Emote', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Emotte', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ennett', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Epham', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ephe', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ephoes', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Ephy', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Epilina', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Eppe', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Eppe', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Epphe', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Eppie', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Eppie', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Erita', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Errington', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Esabell', 'F', NULL, 0.0115911485774499, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Esabell', 'F', NULL, 0.00509987250318742, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Esbell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Esbell', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Esebell', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Esebeyth', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Esotte', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Essabel', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Essabell', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Essabell', 'F', NULL, 0.00169995750106247, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Essebell', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Essebeth', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Essell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Essybell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ester', 'F', NULL, 0.00339991500212495, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ester', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Ester', 'F', NULL, 0.027777777777778, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Esther', 'F', NULL, 0.0280373831775701, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Esther', 'F', NULL, 0.0317760112359101, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Esther', 'F', NULL, 0.00509987250318742, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Esther', 'F', NULL, 0.0169411764705882, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Esther', 'F', 25, 0.291989024338772, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Estherr', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Esthy', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Estrild', 'F', NULL, 0.071428571428572, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Eszabell', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Etholbred', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Eufamia', 'F', NULL, 0.035714285714286, 'SCOTLAND', '1400-01-01', '1600-01-01'),
+('Eularia', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Euna', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Eunice', 'F', NULL, 0.0266378923453653, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Eunice', 'F', NULL, 0.035714285714286, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Eunice', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Euphame', 'F', NULL, 0.111111111111111, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Euphemia', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Eva', 'F', NULL, 0.00726221430524658, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Eva', 'F', NULL, 0.107142857142857, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Eva', 'F', NULL, 0.214285714285714, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Eve', 'F', NULL, 0.00795548166638585, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Evelyn', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Ezabell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ezabell', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ezable', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Eziabell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ezsebell', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Faith', 'F', NULL, 0.0189825360668185, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Faith', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Faith', 'F', NULL, 0.00188235294117647, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Faith', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Faithee', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Fanney', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Fannie', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Fanny', 'F', NULL, 0.00934579439252336, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Fanny', 'F', NULL, 0.0144774594193821, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Fanny', 'F', NULL, 0.00188235294117647, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Fanny', 'F', 26, 0.277389573121834, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Farbricke', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Faílenn', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Felice', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Fenwicke', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ferdinand', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ferdinanda', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Fielding', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Filice', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Filles', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Fillis', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Fillis', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Filos', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Finnecht', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Flanders', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Flann', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Flaunders', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Flawrence', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Flerrin', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Flora', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Flora', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Florance', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Florence', 'F', NULL, 0.00842992623814542, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Florence', 'F', NULL, 0.00339991500212495, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Florens', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Florentia', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Florentia', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Florentia', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Flurishe', 'F', NULL, 0.027777777777778, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Forbflaith', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Forsy', 'F', NULL, 0.024390243902439, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Fortin', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Forton', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Fortun', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Fortune', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Fortune', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Fortune', 'F', NULL, 0.00339991500212495, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Fortune', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Foster', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Fouter', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Franc', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('France', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('France', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Frances', 'F', NULL, 0.242990654205607, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Frances', 'F', NULL, 0.0200228157598793, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Frances', 'F', NULL, 0.0539104024297646, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Frances', 'F', NULL, 0.0590094836670179, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Frances', 'F', NULL, 0.096897577560561, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Frances', 'F', NULL, 0.0687058823529412, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Frances', 'F', 15, 0.487674979115529, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Francesca', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Francese', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Francesse', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Francies', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Francis', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Francis', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Francis', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Francis', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Francisa', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Francisca', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Francisca', 'F', NULL, 0.00637484062898428, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Francisca', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Francise', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Frannces', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Frasences', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Fraunces', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Frauncis', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Frederica', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Freelove', 'F', NULL, 0.0067539736359594, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Frilome', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Frnaces', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Fron', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Fyllese', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Fíne', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Gabriella', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Gainforth', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Garb', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Gartered', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Garth', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Garth', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Garthainer', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Garthere', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Gartrett', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gartrude', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gathias', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Gaye', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gayle', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gelia', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gelians', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gelis', 'F', NULL, 0.107142857142857, 'SCOTLAND', '1400-01-01', '1600-01-01'),
+('Gelis', 'F', NULL, 0.054878048780488, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Gelyan', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gemmado', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Genat', 'F', NULL, 0.00526870389884089, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Genet', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gennet', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Georgiana', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Georgina', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Gertruda', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Gertrude', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gilean', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gilian', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gilliam', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gillian', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gillian', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gillien', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gilling', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Godeleva', 'F', NULL, 0.035714285714286, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Gormlaith', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Grac', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Grace', 'F', NULL, 0.0280373831775701, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Grace', 'F', NULL, 0.00764350907127709, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Grace', 'F', NULL, 0.0592255125284738, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Grace', 'F', NULL, 0.0790305584826133, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Grace', 'F', NULL, 0.0475988100297493, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Grace', 'F', NULL, 0.0174117647058824, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Grace', 'F', 28, 0.250344089742455, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Gracea', 'F', NULL, 0.00632244467860906, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Graci', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gracia', 'F', NULL, 0.00526870389884089, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gracie', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Graice', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Graice', 'F', NULL, 0.00424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Grase', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gratia', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gratia', 'F', NULL, 0.00169995750106247, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gratia', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Grayce', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Graye', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Grisell', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Grysell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gunnilda', 'F', NULL, 0.107142857142857, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Gunnora', 'F', NULL, 0.035714285714286, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Gyllan', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Habell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Halde', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Hamet', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Hanah', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hanah', 'F', NULL, 0.00188235294117647, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Handley', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hann', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Hanna', 'F', NULL, 0.00339991500212495, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hanna', 'F', NULL, 0.00282352941176471, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Hannah', 'F', NULL, 0.0981308411214953, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Hannah', 'F', NULL, 0.217637640824031, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Hannah', 'F', NULL, 0.0263493412664683, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hannah', 'F', NULL, 0.185411764705882, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Hannah', 'F', NULL, 0.0691857478572844, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Hannah', 'F', 6, 0.7737809375, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Hannahe', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hanndro', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Hanno', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Harper', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Harriet', 'F', NULL, 0.00948999536226959, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Harriet', 'F', 11, 0.598736939238379, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Hartburn', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Haster', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hawis', 'F', NULL, 0.035714285714286, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Hawis', 'F', NULL, 0.178571428571429, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Haylles', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Helane', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Heleanor', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Helen', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Helen', 'F', NULL, 0.0136674259681093, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Helen', 'F', NULL, 0.0105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Helen', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Helen', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Helen', 'F', NULL, 0.321428571428571, 'SCOTLAND', '1400-01-01', '1600-01-01'),
+('Helen', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Helena', 'F', NULL, 0.00759301442672741, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Helena', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Helena', 'F', NULL, 0.00297492562685933, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Helena', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Helene', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Helene', 'F', NULL, 0.138888888888889, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Helene', 'F', NULL, 0.103448275862069, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Helenor', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Helenora', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Helin', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Helina', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Heliner', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Helinor', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Helinor', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Helle', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hellen', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Hellen', 'F', NULL, 0.00254993625159371, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hellen', 'F', NULL, 0.00235294117647059, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Hellena', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Hellenor', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Hellenor', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hellenore', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Hellin', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Hellin', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hellina', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Helline', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Helline', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Helliner', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hellinor', 'F', NULL, 0.00737618545837724, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Hellymer', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Hellyn', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Helyn', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Helyna', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Henrica', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Henrietta', 'F', NULL, 0.00188235294117647, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Henrietta', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Hephzibah', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Heppell', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Herioll', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Heslop', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hester', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Hester', 'F', NULL, 0.0071725071969145, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Hester', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Hester', 'F', NULL, 0.00509987250318742, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hester', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Hester', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Hestera', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Hesther', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Hestia', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Heth', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Hilda', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hilda', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Hilday', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hilday', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Hildred', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Hobson', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hodgson', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hodshon', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Honer', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Honnor', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Honor', 'F', NULL, 0.00987091875474563, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Honor', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Honora', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Honour', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Hoogart', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Horatia', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Howden', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Howtheam', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hson', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Hulda', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Huldah', 'F', NULL, 0.0119396932797753, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Hutchinson', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ida', 'F', NULL, 0.035714285714286, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Idonea', 'F', NULL, 0.035714285714286, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Idony', 'F', NULL, 0.035714285714286, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Iliz', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Illner', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ilsabeth', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ilse', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Iris', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Isaabel', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Isaabell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Isab', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Isab', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Isabe', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Isabe', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Isabeil', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Isabel', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Isabel', 'F', NULL, 0.321428571428571, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Isabel', 'F', NULL, 0.0463645943097998, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Isabel', 'F', NULL, 0.0514237144071398, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Isabel', 'F', NULL, 0.0865882352941176, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Isabel', 'F', NULL, 0.359756097560976, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Isabel', 'F', 23, 0.323533544973709, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Isabela', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Isabell', 'F', NULL, 0.570235383447229, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Isabell', 'F', NULL, 0.463645943097998, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Isabell', 'F', NULL, 0.237569060773481, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Isabell', 'F', NULL, 0.0334117647058824, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Isabella', 'F', NULL, 0.0186915887850467, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Isabella', 'F', NULL, 0.0114875974109584, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Isabella', 'F', NULL, 0.25, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Isabella', 'F', NULL, 0.0748155953635406, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Isabella', 'F', NULL, 0.0395240118997025, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Isabella', 'F', NULL, 0.135529411764706, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Isabella', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Isabellam', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Isable', 'F', NULL, 0.00948366701791359, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Isable', 'F', NULL, 0.0242243943901402, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Isable', 'F', NULL, 0.0141176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Isadora', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Isaebell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Isbel', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Isbel', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Isbell', 'F', NULL, 0.0326659641728135, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Isbell', 'F', NULL, 0.0110497237569061, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Isbell', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Isble', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Isebell', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Isebell', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Isebell', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Isobel', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Isobel', 'F', NULL, 0.194444444444444, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Isobell', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Isobell', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Isobella', 'F', NULL, 0.821428571428571, 'SCOTLAND', '1400-01-01', '1600-01-01'),
+('Isold', 'F', NULL, 0.035714285714286, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Issabel', 'F', NULL, 0.00212494687632809, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Issabel', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Issabell', 'F', NULL, 0.0590094836670179, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Issabell', 'F', NULL, 0.0327241818954526, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Issabell', 'F', NULL, 0.00188235294117647, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Issabella', 'F', NULL, 0.00632244467860906, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Issabill', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Issable', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Issable', 'F', NULL, 0.0046748831279218, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Issbell', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Issebell', 'F', NULL, 0.0231822971548999, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Issebell', 'F', NULL, 0.00254993625159371, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Issell', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Issobell', 'F', NULL, 0.00526870389884089, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Issobell', 'F', NULL, 0.689655172413793, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Issoble', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Iszabell', 'F', NULL, 0.00212494687632809, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Iszabell', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Iszebell', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Izabel', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Izabel', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Izabell', 'F', NULL, 0.00632244467860906, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Izabell', 'F', NULL, 0.0123246918827029, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Izabell', 'F', NULL, 0.00188235294117647, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Izebell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Izebell', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jahn', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jain', 'F', NULL, 0.0136986301369863, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jain', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jain', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Jaine', 'F', NULL, 0.0495258166491043, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jaine', 'F', NULL, 0.0152996175095623, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jaine', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Jame', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jan', 'F', NULL, 0.0136986301369863, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jan', 'F', NULL, 0.00764980875478113, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jan', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Jana', 'F', NULL, 0.0758693361433088, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jana', 'F', NULL, 0.0488737781555461, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jana', 'F', NULL, 0.00517647058823529, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Janam', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Janam', 'F', NULL, 0.00254993625159371, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Janam', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Janat', 'F', NULL, 0.00526870389884089, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Janate', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Janatt', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jane', 'F', NULL, 0.214953271028037, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Jane', 'F', NULL, 0.101531549544529, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Jane', 'F', NULL, 0.753227031131359, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Jane', 'F', NULL, 0.551106427818757, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jane', 'F', NULL, 0.711857203569911, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jane', 'F', NULL, 0.661176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Jane', 'F', NULL, 0.0692828222769614, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Jane', 'F', 5, 0.81450625, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Janenta', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Janet', 'F', NULL, 0.0695468914646997, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Janet', 'F', NULL, 0.00382490437739057, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Janet', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Janet', 'F', NULL, 1, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Janeta', 'F', NULL, 0.0684931506849315, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Janeta', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Janett', 'F', NULL, 0.0273972602739726, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Janetta', 'F', NULL, 0.00526870389884089, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Janetta', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jania', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Janie', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jann', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jann', 'F', NULL, 0.0118997025074373, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jann', 'F', NULL, 0.00141176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Janna', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jannat', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jannatt', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Janne', 'F', NULL, 0.0115911485774499, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Janne', 'F', NULL, 0.00679983000424989, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Janne', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Jannet', 'F', NULL, 0.0316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Janneta', 'F', NULL, 0.00526870389884089, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jannett', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jannett', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jannette', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jannit', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Janstam', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Janum', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jaquelene', 'F', NULL, 0.027777777777778, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Jayn', 'F', NULL, 0.00737618545837724, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jayn', 'F', NULL, 0.00382490437739057, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jayne', 'F', NULL, 0.0779768177028451, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jayne', 'F', NULL, 0.0361240968975776, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jaynet', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jaynet', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jean', 'F', NULL, 0.00934579439252336, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Jean', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jean', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Jeane', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jeane', 'F', NULL, 0.055555555555556, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Jeanet', 'F', NULL, 0.00297492562685933, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jelian', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jellian', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jelliann', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jellin', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jelyan', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jemima', 'F', NULL, 0.014018691588785, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Jemima', 'F', NULL, 0.011709481337582, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Jemima', 'F', NULL, 0.00141176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Jemima', 'F', 42, 0.122086548736848, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Jemina', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Jen', 'F', NULL, 0.0115911485774499, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jenal', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jenat', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jenat', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jenatt', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jene', 'F', NULL, 0.00526870389884089, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jenet', 'F', NULL, 0.0990516332982086, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jenet', 'F', NULL, 0.00254993625159371, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jeneta', 'F', NULL, 0.00737618545837724, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jenete', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jenete', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jenett', 'F', NULL, 0.00632244467860906, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jenett', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jenetta', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jenit', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jenite', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jennat', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jennatt', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jenne', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jennet', 'F', NULL, 0.234624145785877, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Jennet', 'F', NULL, 0.142255005268704, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jennet', 'F', NULL, 0.0093497662558436, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jennet', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Jenneta', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jennett', 'F', NULL, 0.0242360379346681, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jennett', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jennie', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Jennit', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jennitte', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jennt', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jenny', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jenny', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Jenny', 'F', 37, 0.157779214788227, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Jennytte', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jent', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jeny', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jerrona', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jerusha', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Jerusha', 'F', NULL, 0.0110670946592799, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Jesbel', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jess', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jessie', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Jessie', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Jhoan', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jhoane', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jhone', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jillian', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jliz', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Joahn', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Joan', 'F', NULL, 0.0186915887850467, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Joan', 'F', NULL, 0.035714285714286, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Joan', 'F', NULL, 0.107142857142857, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Joan', 'F', NULL, 0.0242976461655277, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Joan', 'F', NULL, 0.0168598524762908, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Joan', 'F', NULL, 0.00977475563110922, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Joan', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Joan', 'F', 45, 0.104673954723255, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Joana', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Joane', 'F', NULL, 0.014018691588785, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Joane', 'F', NULL, 0.00632244467860906, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Joane', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Joann', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Joanna', 'F', NULL, 0.0186915887850467, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Joanna', 'F', NULL, 0.0126851773505236, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Joanna', 'F', NULL, 0.0105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Joanna', 'F', NULL, 0.00509987250318742, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Joanna', 'F', NULL, 0.00611764705882353, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Joanna', 'F', 46, 0.099440256987092, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Joannah', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Joanne', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Joanne', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Joanne', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jobling', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Jofne', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Johan', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Johan', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Johana', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Johane', 'F', NULL, 0.00759301442672741, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Johanna', 'F', NULL, 0.067577828397874, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Johanna', 'F', NULL, 0.0337197049525817, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Johanna', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Johanna', 'F', NULL, 0.0623541355725166, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Johannam', 'F', NULL, 0.00632244467860906, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Johannam', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Johannh', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('John', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Johne', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Johne', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Johnson', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Joice', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jon', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jona', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jonat', 'F', NULL, 0.777777777777778, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Jone', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Jonet', 'F', NULL, 1, 'SCOTLAND', '1400-01-01', '1600-01-01'),
+('Jonet', 'F', NULL, 0.798780487804878, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Josepha', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Josephine', 'F', NULL, 0.0213563723289367, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Josian', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jotte', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jouan', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Joy', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Joyce', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Joyce', 'F', NULL, 0.00169995750106247, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Joyce', 'F', NULL, 0.00141176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Joyce', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Juday', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Judd', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jude', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Judeth', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Judeth', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Judith', 'F', NULL, 0.088785046728972, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Judith', 'F', NULL, 0.0108676884931045, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Judith', 'F', NULL, 0.0159453302961276, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Judith', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Judith', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Judith', 'F', NULL, 0.0108235294117647, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Judith', 'F', 48, 0.089744831930851, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Judithe', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Judy', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Judyth', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Julia', 'F', NULL, 0.00996555914275136, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Julia', 'F', NULL, 0.071428571428572, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Julia', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Julia', 'F', NULL, 0.107526098862207, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Julia', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Julian', 'F', NULL, 0.00987091875474563, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Julian', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Julian', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Julian', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Juliana', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Juliana', 'F', NULL, 0.142857142857143, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Juliana', 'F', NULL, 0.142857142857143, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Juliana', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Juliana', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Juliet', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Julliet', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Julyan', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Julyan', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Kactren', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Kane', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Kate', 'F', NULL, 0.206513693560326, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Kateren', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Katerin', 'F', NULL, 0.00948366701791359, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Katerina', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Katerine', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Katerne', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Kateron', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Kateryne', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Katharene', 'F', NULL, 0.416666666666667, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Katharine', 'F', NULL, 0.035714285714286, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Kathe', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Kather', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Kathera', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Kathera', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Katherain', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Katheraine', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Katheran', 'F', NULL, 0.0221285563751317, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Katheran', 'F', NULL, 0.00254993625159371, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Katheran', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Katherane', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Katherann', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Kathereen', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Katheren', 'F', NULL, 0.0126448893572181, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Katheren', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Katherenn', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Katheria', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Katherin', 'F', NULL, 0.0115911485774499, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Katherin', 'F', NULL, 0.00254993625159371, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Katherin', 'F', NULL, 0.206896551724138, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Katherina', 'F', NULL, 0.0115911485774499, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Katherina', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Katherine', 'F', NULL, 0.0654205607476635, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Katherine', 'F', NULL, 0.00667581102128374, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Katherine', 'F', NULL, 0.0303720577069096, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Katherine', 'F', NULL, 0.140147523709168, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Katherine', 'F', NULL, 0.061198470038249, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Katherine', 'F', NULL, 0.00658823529411765, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Katherine', 'F', NULL, 0.107142857142857, 'SCOTLAND', '1400-01-01', '1600-01-01'),
+('Katherine', 'F', NULL, 0.280487804878049, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Katherine', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Kathering', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Katheringe', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Katherne', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Katherne', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Katheron', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Katheron', 'F', NULL, 0.00212494687632809, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Katheryn', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Katheryn', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Katheryne', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Kathleen', 'F', NULL, 0.0603479308991923, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Kathran', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Kathran', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Kathren', 'F', NULL, 0.00526870389884089, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Kathren', 'F', NULL, 0.00424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Kathren', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Kathrin', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Kathrin', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Kathrine', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Kathron', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Katie', 'F', NULL, 0.0720696670751882, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Katren', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Katrin', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Katrine', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Katron', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Katrryng', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Katryne', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Katryng', 'F', NULL, 0.00526870389884089, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Katterina', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Katterina', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Kattre', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Kattren', 'F', NULL, 0.00382490437739057, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Kattrin', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Kerenhappuch', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Ketherane', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ketheron', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Keturah', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Kezia', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Kezia', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Keziah', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Keziah', 'F', NULL, 0.00919635687918432, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Keziah', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Kirchine', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Kirshion', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Kirstebell', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Kirtian', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Kitchen', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Kitty', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Kitty', 'F', 36, 0.166083383987607, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Kyrchen', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Kyrchyne', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Kyrcken', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Lady', 'F', NULL, 0.00934579439252336, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Laura', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Lavinia', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Lawry', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Layburn', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Leah', 'F', NULL, 0.00659935731890477, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Leah', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Lenix', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Leonora', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Lerben', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Letitia', 'F', NULL, 0.014018691588785, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Letitia', 'F', NULL, 0.00911161731207289, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Letitia', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Letitia', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Letitia', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Lettice', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Lettice', 'F', NULL, 0.107142857142857, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Lettice', 'F', NULL, 0.0182232346241458, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Lettice', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lettice', 'F', NULL, 0.00235294117647059, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Lewes', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lews', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lewse', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lidday', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lidia', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lidia', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Lilias', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lilias', 'F', NULL, 0.027777777777778, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Lilias', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Lillias', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Lillyn', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lina', 'F', NULL, 0.035714285714286, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Lizzie', 'F', NULL, 0.0737239769771835, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Lois', 'F', NULL, 0.0168243292019113, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Louisa', 'F', NULL, 0.00708489208547574, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Louisa', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Louisa', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Louisa-Margaretta', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Love', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Lovely', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Luce', 'F', NULL, 0.00632244467860906, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Luce', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lucey', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lucia', 'F', NULL, 0.071428571428572, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Lucia', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Luciam', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Lucie', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Lucie', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lucinda', 'F', NULL, 0.0132334416348517, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Lucrece', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lucrecia', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Lucretia', 'F', NULL, 0.00865829961590098, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Lucretia', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Lucy', 'F', NULL, 0.0186915887850467, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Lucy', 'F', NULL, 0.0392076704303783, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Lucy', 'F', NULL, 0.035714285714286, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Lucy', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Lucy', 'F', NULL, 0.00254993625159371, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lucy', 'F', NULL, 0.00423529411764706, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Lucy', 'F', 22, 0.340561626288115, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Lucy-Anne', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Lucye', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ludy', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Lumlye', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lwse', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lydda', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Lydia', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Lydia', 'F', NULL, 0.0794328234724281, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Lydia', 'F', NULL, 0.00212494687632809, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lydia', 'F', NULL, 0.00423529411764706, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Lydia', 'F', 31, 0.214638763942937, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Lígach', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Maball', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mabble', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mabel', 'F', NULL, 0.214285714285714, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Mabel', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mabel', 'F', NULL, 0.00339991500212495, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mabel', 'F', NULL, 0.00188235294117647, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Mabell', 'F', NULL, 0.0347734457323498, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mabell', 'F', NULL, 0.0093497662558436, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mabella', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mabil', 'F', NULL, 0.035714285714286, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Mable', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mable', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Madalene', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Madby', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Made', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Madglyne', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Madilon', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Madylyne', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Magalene', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Magaret', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Magareta', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Magdalen', 'F', NULL, 0.00632244467860906, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Magdalen', 'F', NULL, 0.00297492562685933, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Magdalen', 'F', NULL, 0.00376470588235294, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Magdalen', 'F', NULL, 0.027777777777778, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Magdalena', 'F', NULL, 0.0163842203665004, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Magdalena', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Magdalena', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Magdalene', 'F', NULL, 0.00759301442672741, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Magdalene', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Magdalene', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Magdalene', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Magdalene', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Magdalina', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Magdalina', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Magdaline', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Magdaline', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Magdallen', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Magdelem', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Magdelena', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Magdelina', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Magdeline', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Magdeline', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Magdellan', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Magery', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Maggie', 'F', NULL, 0.113989637305699, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Magore', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Magrett', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Maibel', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Maibell', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Maira', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Maissie', 'F', NULL, 0.027777777777778, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Malda', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Malde', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Malle', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Malle', 'F', NULL, 0.329268292682927, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Malley', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mallie', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mallye', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mar', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Marcy', 'F', NULL, 0.00645136058804121, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Mare', 'F', NULL, 0.00424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Maree', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Marey', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Margaert', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margain', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margarate', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margare', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margare', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margaream', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margareett', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margarert', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margaret', 'F', NULL, 0.210280373831776, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Margaret', 'F', NULL, 0.139326467012989, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Margaret', 'F', NULL, 0.178571428571429, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Margaret', 'F', NULL, 0.107142857142857, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Margaret', 'F', NULL, 0.930903568716781, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Margaret', 'F', NULL, 0.792413066385669, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margaret', 'F', NULL, 0.562685932851679, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margaret', 'F', NULL, 0.517647058823529, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Margaret', 'F', NULL, 0.355292376017765, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Margaret', 'F', NULL, 0.5, 'SCOTLAND', '1400-01-01', '1600-01-01'),
+('Margaret', 'F', NULL, 0.932926829268293, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Margaret', 'F', NULL, 1, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Margaret', 'F', 9, 0.663420431289062, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Margareta', 'F', NULL, 0.0958904109589041, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margareta', 'F', NULL, 0.0148746281342966, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margarete', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margarethe', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margarett', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margaretta', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margaretta', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margarget', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margari', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margarie', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margarie', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margarit', 'F', NULL, 0.00382490437739057, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margarita', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margarita', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margaritam', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margarite', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margarrett', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margartam', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margartt', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margary', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margat', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margat', 'F', NULL, 0.00339991500212495, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margate', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margatt', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margatt', 'F', NULL, 0.00254993625159371, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margayt', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margeare', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margere', 'F', NULL, 0.00632244467860906, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margere', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margerea', 'F', NULL, 0.00632244467860906, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margeret', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margerey', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margerey', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Margeri', 'F', NULL, 0.00169995750106247, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margeria', 'F', NULL, 0.0147523709167545, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margeria', 'F', NULL, 0.00382490437739057, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margeria', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Margerie', 'F', NULL, 0.0811380400421496, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margerie', 'F', NULL, 0.0118997025074373, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margerie', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Margerium', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margerre', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margerret', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margerret', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margerrett', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margert', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margert', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margery', 'F', NULL, 0.00934579439252336, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Margery', 'F', NULL, 0.071428571428572, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Margery', 'F', NULL, 0.285714285714286, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Margery', 'F', NULL, 0.186788154897494, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Margery', 'F', NULL, 0.0937829293993678, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margery', 'F', NULL, 0.0582235444113897, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margery', 'F', NULL, 0.0197647058823529, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Margery', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Margerye', 'F', NULL, 0.0242360379346681, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margerye', 'F', NULL, 0.00169995750106247, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Marget', 'F', NULL, 0.0337197049525817, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Marget', 'F', NULL, 0.00552486187845304, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margett', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margett', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margit', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margorie', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margory', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margot', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margrat', 'F', NULL, 0.0200210748155954, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margrat', 'F', NULL, 0.0118997025074373, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margrat', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Margrate', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margrate', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margratt', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margratt', 'F', NULL, 0.00212494687632809, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margre', 'F', NULL, 0.00382490437739057, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margreat', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margreat', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margreatt', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margreet', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margreett', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margret', 'F', NULL, 0.247629083245522, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margret', 'F', NULL, 0.136421589460264, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margret', 'F', NULL, 0.0178823529411765, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Margret', 'F', NULL, 0.0387165143811708, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Margret', 'F', NULL, 0.689655172413793, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Margreta', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margreta', 'F', NULL, 0.00382490437739057, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margreta', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Margrete', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margrete', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margrett', 'F', NULL, 0.0748155953635406, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margrett', 'F', NULL, 0.0594985125371866, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margrett', 'F', NULL, 0.00282352941176471, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Margrette', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margrie', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margrit', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Margrit', 'F', NULL, 0.00169995750106247, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margritt', 'F', NULL, 0.00188235294117647, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Margta', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margyre', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Margyriam', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mari', 'F', NULL, 0.00212494687632809, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Maria', 'F', NULL, 0.0280373831775701, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Maria', 'F', NULL, 0.0303226835850542, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Maria', 'F', NULL, 0.0242360379346681, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Maria', 'F', NULL, 0.046748831279218, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Maria', 'F', NULL, 0.0150588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Maria', 'F', NULL, 0.0455117237585597, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Maria', 'F', 13, 0.540360087662637, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Mariam', 'F', NULL, 0.00737618545837724, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mariam', 'F', NULL, 0.0250743731406715, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mariam', 'F', NULL, 0.00282352941176471, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Marian', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Marian', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Marian', 'F', NULL, 0.00169995750106247, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mariana', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mariana', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Marianiam', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mariann', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Marianne', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Marianne', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Marianne', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Mariaram', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Marie', 'F', NULL, 0.00891958921783166, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Marie', 'F', NULL, 0.0453108535300316, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Marie', 'F', NULL, 0.0407989800254994, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mariella', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Marieria', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Marierie', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mariery', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mariery', 'F', NULL, 0.00594985125371866, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Marierye', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mariey', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Marillam', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Marina', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Marion', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Marion', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Marion', 'F', NULL, 0.329268292682927, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Mariona', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mariorge', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mariorye', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mariot', 'F', NULL, 0.071428571428572, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Mariota', 'F', NULL, 0.107142857142857, 'SCOTLAND', '1400-01-01', '1600-01-01'),
+('Marioun', 'F', NULL, 0.555555555555556, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Marioune', 'F', NULL, 0.068965517241379, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Marjary', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Marjerie', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Marjery', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Marjery', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Marjoria', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Marjorie', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Marjorie', 'F', 50, 0.080994710817593, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Marjory', 'F', NULL, 0.00212494687632809, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Marjory', 'F', NULL, 0.107142857142857, 'SCOTLAND', '1400-01-01', '1600-01-01'),
+('Marjory', 'F', NULL, 0.219512195121951, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Marley', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Marpitt', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Marrell', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Marriam', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Marrie', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Marrie', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Marriol', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Marry', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Marry', 'F', NULL, 0.00141176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Marrye', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Marryon', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Marsil', 'F', NULL, 0.071428571428572, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Martha', 'F', NULL, 0.177570093457944, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Martha', 'F', NULL, 0.0715266765633429, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Martha', 'F', NULL, 0.0311313591495824, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Martha', 'F', NULL, 0.0106247343816405, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Martha', 'F', NULL, 0.0211764705882353, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Martha', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Martha', 'F', 8, 0.69833729609375, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Marthanna', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Marthay', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Martiey', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mary', 'F', NULL, 0.873831775700935, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Mary', 'F', NULL, 1, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Mary', 'F', NULL, 0.107142857142857, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Mary', 'F', NULL, 0.0334092634776006, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Mary', 'F', NULL, 0.12118018967334, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mary', 'F', NULL, 0.562260943476413, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mary', 'F', NULL, 1, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Mary', 'F', NULL, 1, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Mary', 'F', 1, 1, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Mary Ann', 'F', NULL, 0.0183147071790578, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Mary Ann', 'F', 16, 0.463291230159753, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Mary Anne', 'F', NULL, 0.0839410596481861, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Mary Ellen', 'F', NULL, 0.0344775980552758, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Mary Jane', 'F', NULL, 0.0246528578304676, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Mary Kate', 'F', NULL, 0.025477990397722, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Mary Magdalene', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Mary Virgin', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Mary-Anne', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Marya', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Marya', 'F', NULL, 0.00254993625159371, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Maryall', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Maryan', 'F', NULL, 0.0129081245254366, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Maryan', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Marye', 'F', NULL, 0.0432033719704953, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Marye', 'F', NULL, 0.0242243943901402, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Maryene', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Maryon', 'F', NULL, 0.00526870389884089, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Maryone', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Maryre', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Maryta', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mase', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Masota', 'F', NULL, 0.035714285714286, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Matean', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Matilda', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Matilda', 'F', NULL, 0.00878709068181447, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Matilda', 'F', NULL, 1, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Matilda', 'F', NULL, 0.392857142857143, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Matilda', 'F', NULL, 0.0136674259681093, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Matilda', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Matilda', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Matilda', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Matilda', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Matilde', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Mattha', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Matthew', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Mattie', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Maude', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Maude', 'F', NULL, 0.195121951219512, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Maudeland', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Maudelin', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Maudlan', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Maudland', 'F', NULL, 0.00632244467860906, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Maudlen', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Maudlen', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Maudlen', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Maudlin', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Maudlin', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Maudlin', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Maugham', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mawd', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mawde', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mawdyd', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mawis', 'F', NULL, 0.00609756097561, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Mawse', 'F', NULL, 0.035714285714286, 'SCOTLAND', '1400-01-01', '1600-01-01'),
+('Max', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('May', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('May', 'F', NULL, 0.00141176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Maya', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mayry', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Meall', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mehitable', 'F', NULL, 0.0106750309182378, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Merall', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mercall', 'F', NULL, 0.000759301442672741, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Mercall', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mercy', 'F', NULL, 0.017287572304531, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Mercy', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Mercy', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Merell', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mergerie', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mergery', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Merial', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Meriall', 'F', NULL, 0.0105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Meriall', 'F', NULL, 0.00382490437739057, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Meriareta', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Meril', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Meriol', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Merioll', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Merjorie', 'F', NULL, 0.379310344827586, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Merral', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Merrell', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Merriall', 'F', NULL, 0.00212494687632809, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Merril', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Merrill', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Meryal', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Meryall', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Meryall', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mgaret', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mgerie', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mgerye', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Milcah', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Mildred', 'F', NULL, 0.0700934579439252, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Mildred', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mildreda', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Milisat', 'F', NULL, 0.000759301442672741, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Milisata', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Milisent', 'F', NULL, 0.035714285714286, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Millian', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Millicent', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Millicent', 'F', NULL, 0.0129081245254366, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Mirabel', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Mirable', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mirall', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mireall', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mirell', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mirell', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Mirial', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Miriall', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Miriall', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Miriam', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Miriam', 'F', NULL, 0.00141176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Miriam', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Miriel', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Miroh', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mirrell', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mirrell', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mirrell', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Mirriall', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mirriall', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mirriam', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mirriam', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mirriam', 'F', NULL, 0.00235294117647059, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Mirriel', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Modesty', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Molly', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Moorecocke', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Moorie', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Morrel', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Mourning', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Muirell', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Muirenn', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Muirgel', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Muirill', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Muriel', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Muril', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Murriall', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Myriell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Myrillam', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Myriol', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Myrrel', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Myrrell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Myrrill', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Myryell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Máel Muire', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Mór', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Nan', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Nan', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Nancy', 'F', NULL, 0.014018691588785, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Nancy', 'F', NULL, 0.170267984504157, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Nancy', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Nancy', 'F', 17, 0.440126668651765, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Nanne', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Naomi', 'F', NULL, 0.00699929774453628, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Naomi', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Nell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Nellie', 'F', NULL, 0.0188688403247139, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Ness', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Nevilson', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Nicholson', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Nora', 'F', NULL, 0.0580383686643773, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Norah', 'F', NULL, 0.061751465217022, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Nárbflaith', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Octavia', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Odnell', 'F', NULL, 0.000759301442672741, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Odnell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Olive', 'F', NULL, 0.0233644859813084, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Olive', 'F', NULL, 0.0220970869120796, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Olivera', 'F', NULL, 0.035714285714286, 'SCOTLAND', '1400-01-01', '1600-01-01'),
+('Olivia', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Onnkin', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Osabell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Osabell', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Osanna', 'F', NULL, 0.035714285714286, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Pamela', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Parniell', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Partus', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Patience', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Patience', 'F', NULL, 0.0112736043011167, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Patience', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Patience', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Patsy', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Patteson', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Patty', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Patty', 'F', NULL, 0.0075446514639308, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Paulina', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Paulina', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Peace', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Peart', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Pegge', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Peggy', 'F', NULL, 0.00934579439252336, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Peggy', 'F', 34, 0.184025910235576, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Penelope', 'F', NULL, 0.014018691588785, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Penelope', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Penelope', 'F', NULL, 0.00141176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Penelope', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Peregrine', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Persis', 'F', NULL, 0.00744820641024128, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Petronilla', 'F', NULL, 0.035714285714286, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Petronnella', 'F', NULL, 0.000759301442672741, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Petronnella', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Phatch(ce)', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Phebe', 'F', NULL, 0.00934579439252336, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Phebe', 'F', NULL, 0.0289911865471078, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Phebe', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Phebe', 'F', NULL, 0.00376470588235294, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Pheles', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Philadelphia', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Philas', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Philice', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Philippa', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Philis', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Philis', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Phillas', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Phillese', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Phillice', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Phillice', 'F', NULL, 0.00212494687632809, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Phillipa', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Phillis', 'F', NULL, 0.0115911485774499, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Phillis', 'F', NULL, 0.0101997450063748, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Phillis', 'F', NULL, 0.00658823529411765, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Phillis', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Phillise', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Philliss', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Philopeny', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Philotis', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Phoebe', 'F', NULL, 0.0186915887850467, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Phoebe', 'F', NULL, 0.00817730505757648, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Phoebe', 'F', NULL, 0.0113895216400911, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Phoebe', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Phoebe', 'F', NULL, 0.00141176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Phoebe', 'F', 38, 0.149890254048815, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Phyllis', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Phyllis', 'F', NULL, 0.00141176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Phyllis', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Pickering', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Pleasance', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Polly', 'F', NULL, 0.0416102422666709, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Presela', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Price', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Pricilla', 'F', NULL, 0.00141176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Priscilla', 'F', NULL, 0.0280373831775701, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Priscilla', 'F', NULL, 0.0101343362014647, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Priscilla', 'F', NULL, 0.00759301442672741, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Priscilla', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Priscilla', 'F', NULL, 0.00517647058823529, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Priscilla', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Proda', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Providence', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Prudance', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Prudence', 'F', NULL, 0.00934579439252336, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Prudence', 'F', NULL, 0.0104887901274048, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Prudence', 'F', NULL, 0.017463933181473, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Prudence', 'F', NULL, 0.00282352941176471, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Prudence', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Prudens', 'F', NULL, 0.000759301442672741, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Prudens', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rachael', 'F', NULL, 0.014018691588785, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Rachael', 'F', NULL, 0.00829269966743186, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Rachael', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rachael', 'F', NULL, 0.00564705882352941, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Rachaell', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rachail', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Racheal', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Rachel', 'F', NULL, 0.0233644859813084, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Rachel', 'F', NULL, 0.0370567224553474, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Rachel', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rachel', 'F', NULL, 0.00594985125371866, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rachel', 'F', NULL, 0.0188235294117647, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Rachel', 'F', 30, 0.225935540992565, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Rachell', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rachill', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ragenild', 'F', NULL, 0.071428571428572, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Ramett', 'F', NULL, 0.107142857142857, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Ratchell', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rawling', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rebbeca', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rebbecca', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Rebecca', 'F', NULL, 0.0560747663551402, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Rebecca', 'F', NULL, 0.0595199163893155, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Rebecca', 'F', NULL, 0.023538344722855, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Rebecca', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rebecca', 'F', NULL, 0.00637484062898428, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rebecca', 'F', NULL, 0.0136470588235294, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Rebecca', 'F', NULL, 0.03448275862069, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Rebecca', 'F', 18, 0.418120335219177, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Rebeccah', 'F', NULL, 0.00169995750106247, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rebeccah', 'F', NULL, 0.00141176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Rebeccam', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rebeccha', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rebecka', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rebecka', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rebecka', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Rebeckah', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rebeckah', 'F', NULL, 0.00141176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Rebeckay', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rebeckey', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rebekah', 'F', NULL, 0.00934579439252336, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Rebekah', 'F', NULL, 0.00691565612018138, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Rebekah', 'F', NULL, 0.00141176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Rebekak', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Recca', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Reedheade', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Relicta', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rhebecca', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rhoda', 'F', NULL, 0.0237228367263866, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Rhoda', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Rhoda', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Roathe', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Roberta', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Robina', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Robson', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rochilda', 'F', NULL, 0.035714285714286, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Rosa', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Rosamon', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rosamond', 'F', NULL, 0.000759301442672741, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Rosamond', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rosamond', 'F', NULL, 0.00169995750106247, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rosamond', 'F', NULL, 0.00235294117647059, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Rosamund', 'F', NULL, 0.0121488230827639, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Rosamund', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rosamund', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Rosamund', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Rosanna', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Rosannah', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Rose', 'F', NULL, 0.014018691588785, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Rose', 'F', NULL, 0.071428571428572, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Rose', 'F', NULL, 0.000759301442672741, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Rose', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rose', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rose', 'F', NULL, 0.00188235294117647, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Rose', 'F', NULL, 0.0455076789910732, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Rose', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Rosemary', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Rosmud', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rotherforth', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Roxby', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rubina', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ruderforth', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ruenna', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Runild', 'F', NULL, 0.035714285714286, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Ruth', 'F', NULL, 0.0186915887850467, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Ruth', 'F', NULL, 0.0333683745042907, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Ruth', 'F', NULL, 0.00424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ruth', 'F', NULL, 0.0127058823529412, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Ruth', 'F', 35, 0.174824614723797, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Ruthe', 'F', NULL, 0.000759301442672741, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Ruthe', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sabina', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Sabra', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Sabra', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Sadb', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Sairay', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Sallie', 'F', NULL, 0.00934579439252336, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Sally', 'F', NULL, 0.00934579439252336, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Sally', 'F', NULL, 0.0508510137188451, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Sally', 'F', 29, 0.237826885255332, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Salome', 'F', NULL, 0.0078488271029297, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Sara', 'F', NULL, 0.00934579439252336, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Sara', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sara', 'F', NULL, 0.00679983000424989, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Sara', 'F', NULL, 0.027777777777778, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Sarah', 'F', NULL, 0.401869158878505, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Sarah', 'F', NULL, 0.298652819946921, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Sarah', 'F', NULL, 0.0220197418375095, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Sarah', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sarah', 'F', NULL, 0.0446238844028899, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Sarah', 'F', NULL, 0.157647058823529, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Sarah', 'F', NULL, 0.0898990021558611, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Sarah', 'F', 4, 0.857375, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Sarai', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Saram', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Saray', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Saray', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Saraye', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sarey', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Sarra', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Sary', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Scarlet', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Scholastica', 'F', NULL, 0.035714285714286, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Scythe', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Sebell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sebell', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Selina', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Sence', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sence', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Sesell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sessilay', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Sett', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Sharpe', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Sibbea', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sibbele', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Sibbell', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sibble', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sibble', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Sibell', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sibella', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Sibella', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sibella', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Sibil', 'F', NULL, 0.071428571428572, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Sibill', 'F', NULL, 0.00987091875474563, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Sibill', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Sibilla', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sibyl', 'F', NULL, 0.035714285714286, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Sicela', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sicely', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Sicile', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sicilea', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sicilia', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sicily', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Silence', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Simon', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Singleton', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sisala', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Siscely', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Siselle', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Sisley', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Sisley', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sislie', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sissala', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sissala', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Sissaly', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sisselie', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Sissell', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sissely', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sissely', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Sissilley', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sith', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Sitha', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sithe', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sithea', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Smith', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Smith', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Sophia', 'F', NULL, 0.0194118644103216, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Sophia', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Sophia', 'F', 21, 0.358485922408542, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Sowlesby', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Sparke', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Spence', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Stokoe', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Stonas', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Suaibsech', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Susan', 'F', NULL, 0.0327102803738318, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Susan', 'F', NULL, 0.0277670228223718, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Susan', 'F', NULL, 0.0273348519362187, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Susan', 'F', NULL, 0.0126448893572181, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Susan', 'F', NULL, 0.0046748831279218, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Susan', 'F', NULL, 0.00188235294117647, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Susan', 'F', NULL, 0.0299474584703498, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Susan', 'F', 7, 0.735091890625, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Susana', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Susana', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Susana', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Susanaye', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Susanna', 'F', NULL, 0.116822429906542, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Susanna', 'F', NULL, 0.0255932928161722, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Susanna', 'F', NULL, 0.035714285714286, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Susanna', 'F', NULL, 0.00987091875474563, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Susanna', 'F', NULL, 0.00632244467860906, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Susanna', 'F', NULL, 0.023374415639609, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Susanna', 'F', NULL, 0.0225882352941176, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Susanna', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Susannah', 'F', NULL, 0.0560747663551402, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Susannah', 'F', NULL, 0.0351203451863236, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Susannah', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Susannah', 'F', NULL, 0.0106247343816405, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Susannah', 'F', NULL, 0.0131764705882353, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Susannah', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Susannay', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Susanne', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Susans', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Susom', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sussan', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sussan', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Sussana', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Sussannah', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Suzan', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Suzanna', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Swasone', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Swinburne', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Sybell', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sybill', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Syceley', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Syffy', 'F', NULL, 0.00609756097561, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Sylvia', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Sysselly', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Syth', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Syth', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Sythe', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sythe', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Sythe', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Sythean', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sywe', 'F', NULL, 0.00609756097561, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Sétach', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Síthmaith', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Tabitha', 'F', NULL, 0.0420560747663551, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Tabitha', 'F', NULL, 0.0084112434343717, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Tabitha', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Tabitha', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Tabitha', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Tace', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Tailefhlaith', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Tailltiu', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Talier', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Tamar', 'F', NULL, 0.00235294117647059, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Tamer', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Tayler', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Temair', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Temperance', 'F', NULL, 0.014018691588785, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Temperance', 'F', NULL, 0.00853306489467365, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Temperance', 'F', NULL, 0.0136674259681093, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Temperance', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Teresa', 'F', NULL, 0.0271201659972576, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Teresa', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Thamar', 'F', NULL, 0.00141176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Thankful', 'F', NULL, 0.00905595496103464, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Thaymazin', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Theodosia', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Theophila', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Theophila', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Thomas', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Thomas', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Thomasin', 'F', NULL, 0.00737618545837724, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Thomasin', 'F', NULL, 0.0110497237569061, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Thomasin', 'F', NULL, 0.0127058823529412, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Thomasin', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Thomasina', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Thomasina', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Thomasine', 'F', NULL, 0.00632244467860906, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Thomasine', 'F', NULL, 0.00339991500212495, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Thomasine', 'F', NULL, 0.00282352941176471, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Thomason', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Thomason', 'F', NULL, 0.00424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Thomason', 'F', NULL, 0.00470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Thomasson', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Thomazena', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Thomazin', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Thomazin', 'F', NULL, 0.00169995750106247, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Thomazina', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Thomazine', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Thomazine', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Thomison', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Thomison', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Thomison', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Thomlinson', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Thompson', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Thomson', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Thomyson', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Thomzye', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Timosin', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Timothea', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Tiseck', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Todd', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Tomasin', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Tomasin', 'F', NULL, 0.00212494687632809, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Tomason', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Tomazin', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Tomazin', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Tomeson', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Tomisan', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Tomisine', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Tomison', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Tomison', 'F', NULL, 0.00169995750106247, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Tomison', 'F', NULL, 0.000941176470588235, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Tomlinson', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Tomlinson', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Tommonson', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Tommoson', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Tomonson', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Tomysen', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Tomyson', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Tomysyne', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Toyson', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Traphoena', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Troth', 'F', NULL, 0.00169995750106247, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Troth', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Trothy', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Tryphena', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Tryphena', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Tuathflaith', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Turpin', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Uallach', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Uasalay', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Uemfrede', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ullisibell', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Unity', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Unity', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Uriah', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Ursala', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ursella', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ursella', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Ursellay', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ursillay', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ursilley', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ursula', 'F', NULL, 0.014018691588785, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Ursula', 'F', NULL, 0.0189825360668185, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Ursula', 'F', NULL, 0.00632244467860906, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ursula', 'F', NULL, 0.00637484062898428, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ursula', 'F', NULL, 0.00329411764705882, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Ursula', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Ursulam', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Usabeth', 'F', NULL, 0.00127496812579686, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Usbye', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Useley', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ussaley', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Usseley', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ussillie', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ussula', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Usula', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Valentine', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Verity', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Verlinda', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Vidua', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Vinca', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Violet', 'F', NULL, 0.464285714285714, 'SCOTLAND', '1400-01-01', '1600-01-01'),
+('Violet', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Violetta', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Violetta', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Virtue', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Wabra', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Wasetell', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Water', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Watson', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Wede', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Wedo', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Wedoo', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Wenefride', 'F', NULL, 0.00210748155953635, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Wilhelmina', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Wilhelmine', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Wilhemina', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Willye', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Wilson', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Wilson', 'F', NULL, 0.000470588235294118, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Winifred', 'F', NULL, 0.014018691588785, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Winifred', 'F', NULL, 0.0144267274107821, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Winifred', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Winifred', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Winifred', 'F', NULL, 0.0173196943773687, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Winifreda', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Winifrid', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Winnifred', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Wymarc', 'F', NULL, 0.035714285714286, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Wynefryde', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Wyniffryd', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Yidua', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ysabell', 'F', NULL, 0.00316122233930453, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Yssabell', 'F', NULL, 0.00421496311907271, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Yzabell', 'F', NULL, 0.00737618545837724, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Zeferra', 'F', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Zeruiah', 'F', NULL, 0.00467289719626168, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Zusana', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('his', 'F', NULL, 0.00105374077976818, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('his', 'F', NULL, 0.000849978750531237, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('the', 'F', NULL, 0.000424989375265618, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Étaín', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Órlaith', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Órnat', 'F', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Aaron', 'M', NULL, 0.0220970869120796, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Aaron', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Aaron', 'M', NULL, 0.00116822429906542, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Aaron', 'M', 42, 0.122086548736848, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Abel', 'M', NULL, 0.0114875974109584, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Abel', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Abel', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Abell', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Abner', 'M', NULL, 0.00996555914275136, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Abner', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Abraham', 'M', NULL, 0.0392076704303783, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Abraham', 'M', NULL, 0.00171428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Abraham', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Abraham', 'M', NULL, 0.00892857142857143, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Abraham', 'M', NULL, 0.00856697819314642, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Abraham', 'M', NULL, 0.00847457627118644, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Abraham', 'M', 25, 0.291989024338772, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Abrahame', 'M', NULL, 0.021739130434783, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Abrahamsz', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Abram', 'M', NULL, 0.0386473429951691, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Abram', 'M', NULL, 0.0067539736359594, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Abram', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Abram', 'M', NULL, 0.000778816199376947, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Absalom', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Abél', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Acquilla', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Adam', 'M', NULL, 0.0144927536231884, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Adam', 'M', NULL, 0.0124270161916158, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Adam', 'M', NULL, 0.222222222222222, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Adam', 'M', NULL, 0.248484848484848, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Adam', 'M', NULL, 0.00228571428571429, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Adam', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Adam', 'M', NULL, 0.00583791208791209, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Adam', 'M', NULL, 0.00623052959501558, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Adam', 'M', NULL, 0.038135593220339, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Adam', 'M', NULL, 0.071428571428572, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Adam', 'M', NULL, 0.025885558583106, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Adam', 'M', 46, 0.099440256987092, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Adame', 'M', NULL, 0.065217391304348, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Adame', 'M', NULL, 0.025, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Adamo', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Adamson', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Adamus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Adan', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Adan', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Adelard', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Adiran', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Adolf', 'M', NULL, 0.00494350282485876, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Adolph', 'M', NULL, 0.00918079096045198, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Adolphus', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Adomnán', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Adrian', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Adrianus', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Aegidius', 'M', NULL, 0.00423728813559322, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Aegidius', 'M', NULL, 0.0002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Aesop', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Affiath', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Ailchú', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Ailerán', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Ailill', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Ainmere', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Airard', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Airbertach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Alan', 'M', NULL, 0.103174603174603, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Alan', 'M', NULL, 0.109090909090909, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Alan', 'M', NULL, 0.142857142857143, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Alan', 'M', NULL, 0.083333333333333, 'SCOTLAND', '1400-01-01', '1500-01-01'),
+('Albert', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Albert', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Albert', 'M', NULL, 0.0134180790960452, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Alberthoma', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Albertus', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Albin', 'M', NULL, 0.015873015873016, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Albinus', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Albion', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Albrecht', 'M', NULL, 0.00988700564971752, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Alen', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alexander', 'M', NULL, 0.0386473429951691, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Alexander', 'M', NULL, 0.0277670228223718, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Alexander', 'M', NULL, 0.055555555555556, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Alexander', 'M', NULL, 0.066666666666667, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Alexander', 'M', NULL, 0.0262857142857143, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Alexander', 'M', NULL, 0.0259826782145237, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alexander', 'M', NULL, 0.0144230769230769, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Alexander', 'M', NULL, 0.0171339563862928, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Alexander', 'M', NULL, 0.00423728813559322, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Alexander', 'M', NULL, 0.285714285714286, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Alexander', 'M', NULL, 0.208333333333333, 'SCOTLAND', '1400-01-01', '1500-01-01'),
+('Alexander', 'M', NULL, 0.457765667574932, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Alexander', 'M', NULL, 0.239130434782609, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Alexander', 'M', NULL, 0.75, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Alexander', 'M', 45, 0.104673954723255, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Alexandrius', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Alexis', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Alfred', 'M', NULL, 0.015873015873016, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Algernon', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Alixander', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alizander', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('All', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('All', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Allam', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Allan', 'M', NULL, 0.0007, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Allan', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Allane', 'M', NULL, 0.020435967302452, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Allen', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Allen', 'M', NULL, 0.00691565612018138, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Allen', 'M', NULL, 0.00285714285714286, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Allen', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Allen', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Allene', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Allexander', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Allicksander', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Allixander', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Allysander', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alwin', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Alysand', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Alyxander', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ambras', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ambrose', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Ambrose', 'M', NULL, 0.00685714285714286, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Ambrose', 'M', NULL, 0.00466355762824783, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ambrose', 'M', NULL, 0.00618131868131868, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ambrose', 'M', NULL, 0.00311526479750779, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Ambrose', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Ambrosius', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ambrosius', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Ambrosse', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ambus', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ameling', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Americus', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Amery', 'M', NULL, 0.071428571428572, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Amis', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Amorous', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Amorous', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Amos', 'M', NULL, 0.0188355412113374, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Amos', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Amos', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Amoz', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Amyas', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Amyell', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ancelius', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Andecus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Andre', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Andreas', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Andreas', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Andreas', 'M', NULL, 0.101694915254237, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Andrew', 'M', NULL, 0.0338164251207729, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Andrew', 'M', NULL, 0.0370567224553474, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Andrew', 'M', NULL, 0.031746031746032, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Andrew', 'M', NULL, 0.012121212121212, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Andrew', 'M', NULL, 0.0268571428571429, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Andrew', 'M', NULL, 0.0259826782145237, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Andrew', 'M', NULL, 0.0212912087912088, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Andrew', 'M', NULL, 0.0237538940809969, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Andrew', 'M', NULL, 0.0428264747130454, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Andrew', 'M', NULL, 0.142857142857143, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Andrew', 'M', NULL, 0.166666666666667, 'SCOTLAND', '1400-01-01', '1500-01-01'),
+('Andrew', 'M', NULL, 0.331062670299728, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Andrew', 'M', NULL, 0.152173913043478, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Andrew', 'M', 30, 0.225935540992565, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Andrewe', 'M', NULL, 0.00266489007328448, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Andrewe', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Andries', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Andro', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Andro', 'M', NULL, 0.375, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Anfudán', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Angus', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Angus', 'M', NULL, 0.071428571428572, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Anias', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Anias', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Anmchaid', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Anna', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Annaberg', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Ansell', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Antho', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Antho', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Anthona', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Anthone', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Anthoney', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Anthoney', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Anthonia', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Anthonie', 'M', NULL, 0.00732844770153231, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Anthonie', 'M', NULL, 0.00240384615384615, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Anthonius', 'M', NULL, 0.00799467021985343, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Anthonius', 'M', NULL, 0.00171703296703297, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Anthony', 'M', NULL, 0.0434782608695652, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Anthony', 'M', NULL, 0.00891958921783166, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Anthony', 'M', NULL, 0.121142857142857, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Anthony', 'M', NULL, 0.103930712858095, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Anthony', 'M', NULL, 0.084478021978022, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Anthony', 'M', NULL, 0.0529595015576324, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Anthony', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Anthony', 'M', NULL, 0.023687088970685, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Anthony', 'M', 33, 0.193711484458501, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Anthonyas', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Anthonye', 'M', NULL, 0.0126582278481013, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Anthonye', 'M', NULL, 0.00171703296703297, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Anthonyne', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Anthus', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Anton', 'M', NULL, 0.0395480225988701, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Antoni', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Antonie', 'M', NULL, 0.00266489007328448, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Antonie', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Antonius', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Antonius', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Antonius', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Antony', 'M', NULL, 0.00466355762824783, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Antony', 'M', NULL, 0.00206043956043956, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Antony', 'M', NULL, 0.00116822429906542, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Appilby', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Arch', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Archbad', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Archbald', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Archbold', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Arche', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Arche', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Archelaus', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Archibald', 'M', NULL, 0.0144927536231884, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Archibald', 'M', NULL, 0.00853306489467365, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Archibald', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Archibald', 'M', NULL, 0.00571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Archibald', 'M', NULL, 0.00466355762824783, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Archibald', 'M', NULL, 0.00137362637362637, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Archibald', 'M', NULL, 0.00155763239875389, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Archibald', 'M', NULL, 0.071428571428572, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Archibald', 'M', NULL, 0.043478260869565, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Archibald', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Archibalde', 'M', NULL, 0.00408719346049, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Archiball', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Archibauld', 'M', NULL, 0.05, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Arcye', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Arcye', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Arend', 'M', NULL, 0.0077683615819209, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Aribald', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Aristoteles', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Aristoteles', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Arkil', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Armiger', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Armistead', 'M', NULL, 0.00966183574879227, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Armstrong', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Arnold', 'M', NULL, 0.031746031746032, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Arnold', 'M', NULL, 0.00918079096045198, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Arnoldus', 'M', NULL, 0.00564971751412429, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Arthour', 'M', NULL, 0.05, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Arthro', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Arthur', 'M', NULL, 0.0289855072463768, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Arthur', 'M', NULL, 0.00652455794243827, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Arthur', 'M', NULL, 0.015873015873016, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Arthur', 'M', NULL, 0.00685714285714286, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Arthur', 'M', NULL, 0.00666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Arthur', 'M', NULL, 0.00583791208791209, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Arthur', 'M', NULL, 0.00661993769470405, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Arthur', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Arthure', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Arthure', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Artúr', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Ary', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Asa', 'M', NULL, 0.0155668971432295, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Asher', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Asmus', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Assíd', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Ather', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Atkinson', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Atkinson', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Aubone', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Augs', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('August', 'M', NULL, 0.0218926553672316, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Augustine', 'M', NULL, 0.0386473429951691, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Augustine', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Augustinus', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Augustus', 'M', NULL, 0.0077683615819209, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Augustus', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Augustín', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Auther', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Avary', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Aylmer', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Aylmer', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Aylwin', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Aymer', 'M', NULL, 0.071428571428572, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Aziza', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Bainbridge', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Bainbridge', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Baiscend', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Baldwin', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Balthasar', 'M', NULL, 0.0141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Balthus', 'M', NULL, 0.00211864406779661, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Baltus', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Banbán', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Baptist', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Baptiste', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Barend', 'M', NULL, 0.0127118644067797, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Barends', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Barendse', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Barholemew', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barnabas', 'M', NULL, 0.00272585669781931, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Barnabas', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Barnabie', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barnabye', 'M', NULL, 0.00114285714285714, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Barnabye', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Barnard', 'M', NULL, 0.00514285714285714, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Barnard', 'M', NULL, 0.00466355762824783, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Barnard', 'M', NULL, 0.00137362637362637, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barnard', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Barnarde', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barnatt', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barnerd', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Barnes', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barniby', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Baron', 'M', NULL, 0.00282485875706215, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Bartel', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Bartell', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Barterim', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barthilmew', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Barthold', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Bartholelmew', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Bartholemeus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Bartholemew', 'M', NULL, 0.0154285714285714, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Bartholemew', 'M', NULL, 0.0133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Bartholemew', 'M', NULL, 0.010989010989011, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Bartholemew', 'M', NULL, 0.00545171339563863, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Bartholew', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barthollomewe', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Bartholomeus', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Bartholomew', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Bartholomew', 'M', NULL, 0.015873015873016, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Bartholomew', 'M', NULL, 0.018181818181818, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Bartholomew', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Bartholomäus', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Barthram', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Barthram', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Bartill', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Bartle', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Bartlemew', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Bartram', 'M', NULL, 0.00742857142857143, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Bartram', 'M', NULL, 0.00532978014656895, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Bartram', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Bartrame', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Bartramus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Barty', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Bartyllmew', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Basilius', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Bastian', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Batholemew', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Behrend', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Benamy', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Bend', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Benedict', 'M', NULL, 0.023809523809524, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Benedict', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Benedict', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Beneger', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Beniamin', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Beniamin', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Benjamin', 'M', NULL, 0.0772946859903382, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Benjamin', 'M', NULL, 0.0649980951586919, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Benjamin', 'M', NULL, 0.00240384615384615, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Benjamin', 'M', NULL, 0.0120716510903427, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Benjamin', 'M', NULL, 0.00706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Benjamin', 'M', 13, 0.540360087662637, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Bennett', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Benomi', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Benomy', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Beollán', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Berend', 'M', NULL, 0.00211864406779661, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Berenger', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Berhard', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Bernard', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Bernard', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Bernard', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Bernard', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Bernard', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Bernard', 'M', NULL, 0.0501427397869569, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Bernd', 'M', NULL, 0.00211864406779661, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Berndt', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Bernhard', 'M', NULL, 0.0240112994350282, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Bernhardus', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Berthold', 'M', NULL, 0.00282485875706215, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Bertram', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Bertram', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Bertram', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Bethuel', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Beverly', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Blair', 'M', NULL, 0.071428571428572, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Blasius', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Blythman', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Bogislav', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Bolling', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Bonaventura', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Boniventure', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Bowler', 'M', NULL, 0.00966183574879227, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Boy', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Bran', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Braun', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Bresal', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Brian', 'M', NULL, 0.00466355762824783, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Brian', 'M', NULL, 0.0051510989010989, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Brian', 'M', NULL, 0.00116822429906542, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Brian', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Briand', 'M', NULL, 0.0033311125916056, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Brianus', 'M', NULL, 0.00399733510992672, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Briccéne', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Brien', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Brook', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Brotchú', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Brown', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Bryan', 'M', NULL, 0.0222857142857143, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Bryan', 'M', NULL, 0.00932711525649567, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Bryan', 'M', NULL, 0.00549450549450549, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Bryan', 'M', NULL, 0.00311526479750779, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Bryand', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Bryand', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Bryane', 'M', NULL, 0.00266489007328448, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Bryham', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Burchard', 'M', NULL, 0.00423728813559322, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Burnat', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Burwell', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Báethchellach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Báethgalach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Báethíne', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Báetán', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Búadachán', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Cadwallader', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Caicher', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Caleb', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Caleb', 'M', NULL, 0.0126851773505236, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Caleb', 'M', NULL, 0.00194704049844237, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Caleb', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Calus', 'M', NULL, 0.00211864406779661, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Calvin', 'M', NULL, 0.00980206813555338, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Cano', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Carbunel', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Carew', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Carl', 'M', NULL, 0.096045197740113, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Carolus', 'M', NULL, 0.0033311125916056, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Carolus', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Carolus', 'M', NULL, 0.00211864406779661, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Carsten', 'M', NULL, 0.00282485875706215, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Carter', 'M', NULL, 0.0193236714975845, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Cary', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Caspar', 'M', NULL, 0.0501412429378531, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Casparus', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Cathal', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Catharina', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Cathassach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Causantín', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Caílte', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Cearball', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Cecil', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Cellach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Cellachán', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Cenn Fáelad', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Cennétig', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Cerball', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Cernach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Cett', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Chambers', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Champion', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Charilus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Charles', 'M', NULL, 0.120772946859903, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Charles', 'M', NULL, 0.0473661427034499, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Charles', 'M', NULL, 0.0137142857142857, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Charles', 'M', NULL, 0.0106595602931379, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Charles', 'M', NULL, 0.0178571428571429, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Charles', 'M', NULL, 0.0307632398753894, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Charles', 'M', NULL, 0.0601277169349751, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Charles', 'M', NULL, 0.001362397820163, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Charles', 'M', 10, 0.630249409724609, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Charlton', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Charlys', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Charolus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Charrolus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Chestepher', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Chispher', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Chistian', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Chrestepher', 'M', NULL, 0.00137362637362637, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Chrestopher', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Chrestpher', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Chrisephor', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Chrisian', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Christ', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Christain', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Christer', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Christiaan', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Christian', 'M', NULL, 0.017775790872674, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Christian', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Christian', 'M', NULL, 0.201271186440678, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Christian', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Christiforth', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Christmann', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Christmas', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Christo', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Christo', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Christofer', 'M', NULL, 0.0679546968687542, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Christofer', 'M', NULL, 0.0147664835164835, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Christoferus', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Christoferus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Christoffel', 'M', NULL, 0.105932203389831, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Christofor', 'M', NULL, 0.00532978014656895, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Christofor', 'M', NULL, 0.00412087912087912, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Christop', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Christoper', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Christoph', 'M', NULL, 0.0296610169491525, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Christopher', 'M', NULL, 0.0483091787439614, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Christopher', 'M', NULL, 0.0104887901274048, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Christopher', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Christopher', 'M', NULL, 0.154285714285714, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Christopher', 'M', NULL, 0.083944037308461, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Christopher', 'M', NULL, 0.113667582417582, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Christopher', 'M', NULL, 0.0654205607476635, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Christopher', 'M', NULL, 0.041333266766819, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Christopher', 'M', 21, 0.358485922408542, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Christopherus', 'M', NULL, 0.00599600266489007, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Christopheus', 'M', NULL, 0.00532978014656895, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Christopheus', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Christophor', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Christophus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Christterfuth', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Chrsfor', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Chrytoffer', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Chutbert', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cian', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Cináed', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Claas', 'M', NULL, 0.00353107344632768, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Claasen', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Claaß', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Clament', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Claudius', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Claudius', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Claus', 'M', NULL, 0.0261299435028249, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Clauß', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Clemelt', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Clemens', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Clemens', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Clemens', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Clement', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Clement', 'M', NULL, 0.00914285714285714, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Clement', 'M', NULL, 0.00666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Clement', 'M', NULL, 0.00480769230769231, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Clement', 'M', NULL, 0.00272585669781931, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Clement', 'M', NULL, 0.021739130434783, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Clement', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Clemente', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cleophes', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Cleve', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Coape', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Cobthach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Cole', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Colin', 'M', NULL, 0.071428571428572, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Colin', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Comance', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Conaing', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Conand', 'M', NULL, 0.00228571428571429, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Conand', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Conandus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Conchobar', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Congal', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Congalach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Connla', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Conrad', 'M', NULL, 0.00726221430524658, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Conrad', 'M', NULL, 0.0536723163841808, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Conradus', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Consand', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Constantine', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Constantine', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Corcc', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Cord', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Cormac', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Cormacán', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Cornelis', 'M', NULL, 0.00211864406779661, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Cornelius', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Cornelius', 'M', NULL, 0.00919635687918432, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Cornelius', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cornelius', 'M', NULL, 0.00194704049844237, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Cornelius', 'M', NULL, 0.00847457627118644, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Cornelius', 'M', NULL, 0.0331818945132551, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Cornelius', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Cornellis', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Coscrach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Covenant', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Cownandus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Craine', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Crestepher', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Crestopher', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Crinán', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Crispin', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Crispin', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Cristal', 'M', NULL, 0.071428571428572, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Crister', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cristofer', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cristofer', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cristofur', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cristoper', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cristopher', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cristopher', 'M', NULL, 0.025, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Cristy', 'M', NULL, 0.008174386920981, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Cubbart', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cudbart', 'M', NULL, 0.00309065934065934, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cudbert', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cudbert', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cuilén', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Cuindles', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Curt', 'M', NULL, 0.00494350282485876, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Cutberd', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cutbert', 'M', NULL, 0.00399733510992672, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cutbert', 'M', NULL, 0.00171703296703297, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cutch', 'M', NULL, 0.00466355762824783, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cutchbart', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cutchbart', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cutchbat', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cutchbert', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cutchbert', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cuthbard', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cuthbart', 'M', NULL, 0.00399733510992672, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cuthbart', 'M', NULL, 0.00377747252747253, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cuthbartus', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cuthber', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cuthber', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cuthbert', 'M', NULL, 0.00966183574879227, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Cuthbert', 'M', NULL, 0.109714285714286, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Cuthbert', 'M', NULL, 0.0932711525649567, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cuthbert', 'M', NULL, 0.0762362637362637, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cuthbert', 'M', NULL, 0.0311526479750779, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Cuthbert', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Cuthberte', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cuthbertus', 'M', NULL, 0.00732844770153231, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cuthbertus', 'M', NULL, 0.00206043956043956, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cutheberd', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Cuthert', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Cyprian', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Cú Dub', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Cú Luachra', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Cú Mara', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Cú Roí', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Cúán', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Dabney', 'M', NULL, 0.00966183574879227, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Damianus', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Danel', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Daniel', 'M', NULL, 0.0386473429951691, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Daniel', 'M', NULL, 0.0794328234724281, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Daniel', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Daniel', 'M', NULL, 0.00240384615384615, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Daniel', 'M', NULL, 0.0058411214953271, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Daniel', 'M', NULL, 0.0374293785310734, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Daniel', 'M', NULL, 0.125261538321888, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Daniel', 'M', 16, 0.463291230159753, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Daniell', 'M', NULL, 0.00342857142857143, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Daniell', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Daniell', 'M', NULL, 0.00137362637362637, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Daniél', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Dann', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Danniell', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Danzig', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Darcy', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dary', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Dary', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Daved', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('David', 'M', NULL, 0.072463768115942, 'AMERICA', '1600-01-01', '1750-01-01'),
+('David', 'M', NULL, 0.0891935068622478, 'AMERICA', '1750-01-01', '1810-01-01'),
+('David', 'M', NULL, 0.015873015873016, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('David', 'M', NULL, 0.00742857142857143, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('David', 'M', NULL, 0.00799467021985343, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('David', 'M', NULL, 0.00755494505494506, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('David', 'M', NULL, 0.0299844236760125, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('David', 'M', NULL, 0.0360169491525424, 'GERMANY', '1600-01-01', '1800-01-01'),
+('David', 'M', NULL, 0.0394588142385774, 'IRELAND', '1600-01-01', '1900-01-01'),
+('David', 'M', NULL, 0.285714285714286, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('David', 'M', NULL, 0.25, 'SCOTLAND', '1400-01-01', '1500-01-01'),
+('David', 'M', NULL, 0.325613079019074, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('David', 'M', NULL, 0.086956521739131, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('David', 'M', NULL, 0.075, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('David', 'M', 17, 0.440126668651765, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Davide', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Davide', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Davie', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Davison', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dawson', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Demes', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Demes', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Demmán', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Denis', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Denis', 'M', NULL, 0.0941174868720244, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Dennis', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dennis', 'M', NULL, 0.00155763239875389, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Dennis', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Dennys', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Denys', 'M', NULL, 0.00285714285714286, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Denysse', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Derling', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Detlef', 'M', NULL, 0.00494350282485876, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Detmold', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Detrus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Diarmait', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Dickeson', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dickinson', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Diedrich', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Dietmar', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Dietrich', 'M', NULL, 0.0324858757062147, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Dilworth', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dinnes', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dionesius', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dionise', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dionisius', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Dirk', 'M', NULL, 0.028954802259887, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Dirks', 'M', NULL, 0.00211864406779661, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Ditmar', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Ditrich', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Doede', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Dolgesheim', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Dominicus', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Domnall', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Donald', 'M', NULL, 0.071428571428572, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Donald', 'M', NULL, 0.05449591280654, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Donald', 'M', NULL, 0.025, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Donald', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Donking', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Donnchad', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Donndubán', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Dontce', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dotho', 'M', NULL, 0.041666666666667, 'SCOTLAND', '1400-01-01', '1500-01-01'),
+('Douglas', 'M', NULL, 0.071428571428572, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Drury', 'M', NULL, 0.0144927536231884, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Dtendl', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Dtendl', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dudley', 'M', NULL, 0.0144927536231884, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Dudley', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Dudley', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Duncan', 'M', NULL, 0.018181818181818, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Duncan', 'M', NULL, 0.098092643051771, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Duncan', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Dyonisius', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Dálach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Dícuill', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Díglach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Dínertach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Dúnchad', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Dúngal', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Dúnlang', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Earingshaw', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ebeling', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Ebenezer', 'M', NULL, 0.0237228367263866, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Ebenezer', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Eberhard', 'M', NULL, 0.00635593220338983, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Ebert', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Eborard', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Eccho', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Eckart', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Ector', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Edawrd', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ede', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Eden', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Edgar', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Edmond', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Edmond', 'M', NULL, 0.00666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Edmond', 'M', NULL, 0.00343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Edmond', 'M', NULL, 0.0275948459363412, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Edmond', 'M', NULL, 0.001362397820163, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Edmonde', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Edmonte', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Edmounde', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Edmund', 'M', NULL, 0.0483091787439614, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Edmund', 'M', NULL, 0.00774486939358067, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Edmund', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Edmund', 'M', NULL, 0.0177142857142857, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Edmund', 'M', NULL, 0.00866089273817455, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Edmund', 'M', NULL, 0.00274725274725275, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Edmund', 'M', NULL, 0.00116822429906542, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Edmund', 'M', NULL, 0.071428571428572, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Edmund', 'M', 23, 0.323533544973709, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Edmundas', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Edmunde', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Edmundos', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ednes', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Edric', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Edrus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Eduard', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Edulf', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Edvardus', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Edwad', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Edward', 'M', NULL, 0.130434782608696, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Edward', 'M', NULL, 0.0303226835850542, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Edward', 'M', NULL, 0.023809523809524, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Edward', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Edward', 'M', NULL, 0.126857142857143, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Edward', 'M', NULL, 0.129247168554297, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Edward', 'M', NULL, 0.119848901098901, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Edward', 'M', NULL, 0.0965732087227414, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Edward', 'M', NULL, 0.146556771403025, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Edward', 'M', NULL, 0.214285714285714, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Edward', 'M', NULL, 0.043478260869565, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Edward', 'M', 12, 0.56880009227646, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Edwarde', 'M', NULL, 0.00732844770153231, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Edwarde', 'M', NULL, 0.00240384615384615, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Edwardus', 'M', NULL, 0.00666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Edwardus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Edwerd', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Edwin', 'M', NULL, 0.0241545893719807, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Edwin', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Edwin', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Edwin', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Edwyn', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Egbert', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Egedius', 'M', NULL, 0.00171428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Egedius', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Egedius', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ehrenreich', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Eleazer', 'M', NULL, 0.00645136058804121, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Eleazer', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elert', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Eli', 'M', NULL, 0.00948999536226959, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Eli', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Eli', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Elia', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Elias', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Elias', 'M', NULL, 0.0119396932797753, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Elias', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Elias', 'M', NULL, 0.042424242424243, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Elias', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Elias', 'M', NULL, 0.00353107344632768, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Elias', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Elijah', 'M', NULL, 0.0200228157598793, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Elijah', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Elisha', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Elisha', 'M', NULL, 0.0194118644103216, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Elixsander', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellexarder', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ellis', 'M', NULL, 0.00114285714285714, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Ellis', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ellis', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Elteringem', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Emanual', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Emanuel', 'M', NULL, 0.00282485875706215, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Emanuel', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Emanuell', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Emanuell', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Emericke', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Emericke', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Emilius', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Emmond', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Emonte', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Engel', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Engelbertus', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Engelbrecht', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Engelhard', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Engelhardt', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Engelram', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Engrum', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Enoch', 'M', NULL, 0.00817730505757648, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Ensigh', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Eochaid', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Ephraim', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Ephraim', 'M', NULL, 0.0141460320883936, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Ephraim', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ephraim', 'M', NULL, 0.00194704049844237, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Ephraim', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Ephraim', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Ephriam', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Erasmus', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Erasmus', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Erastus', 'M', NULL, 0.00667581102128374, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Ercullus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Erdmann', 'M', NULL, 0.00423728813559322, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Erhard', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Erich', 'M', NULL, 0.00211864406779661, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Ernald', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Ernest', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Ernestus', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Ernst', 'M', NULL, 0.0303672316384181, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Errington', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Esau', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Esdras', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Essex', 'M', NULL, 0.00966183574879227, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Ethelred', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Etienne', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Eustace', 'M', NULL, 0.03968253968254, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Eustace', 'M', NULL, 0.012121212121212, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Evan', 'M', NULL, 0.00966183574879227, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Evan', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Evans', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Evans', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Evans', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Evante', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Everard', 'M', NULL, 0.023809523809524, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Everard', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Evert', 'M', NULL, 0.00706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Ewan', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Expo', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Expofer', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Expoferus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Expopeus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ezekiel', 'M', NULL, 0.00934097384371525, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Ezekiel', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Ezra', 'M', NULL, 0.0103086555529132, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Ezra', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('FFrancis', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Fardenando', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Farrow', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Faílbe', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Fechtnach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Fedacch', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Fedelmid', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Felix', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Felix', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Felton', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Feners', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Feradach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Ferdinand', 'M', NULL, 0.0077683615819209, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Ferdinando', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ferdomnach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Fergal', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Fergus', 'M', NULL, 0.071428571428572, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Fiachna', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Fielding', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Finnchad', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Finnchú', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Flaithbertach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Flaithem', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Flaithrí', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Flann', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Flannacán', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Flore', 'M', NULL, 0.00408719346049, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Florentinus', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Florian', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Florinus', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Focke', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Fogartach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Forbassach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Forsy', 'M', NULL, 0.001362397820163, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Fortune', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Fothad', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Fracnis', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Franc', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Frances', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Frances', 'M', NULL, 0.00137362637362637, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Francis', 'M', NULL, 0.154589371980676, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Francis', 'M', NULL, 0.0163842203665004, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Francis', 'M', NULL, 0.032, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Francis', 'M', NULL, 0.0326449033977348, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Francis', 'M', NULL, 0.0618131868131868, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Francis', 'M', NULL, 0.043613707165109, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Francis', 'M', NULL, 0.0667677267384072, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Francis', 'M', 18, 0.418120335219177, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Francisca', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Franciscus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Franciscus', 'M', NULL, 0.00423728813559322, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Francois', 'M', NULL, 0.00211864406779661, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Frank', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Franncis', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Frans', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Fransis', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Franz', 'M', NULL, 0.0494350282485876, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Frauncis', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Fray', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Frederick', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Frederick', 'M', NULL, 0.0144774594193821, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Frederick', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Fredericus', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('French', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Friedrich', 'M', NULL, 0.23093220338983, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Frinces', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Fulco', 'M', NULL, 0.018181818181818, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Fulke', 'M', NULL, 0.015873015873016, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Fyllope', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Fáelán', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Fíngin', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Fínnechta', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Gabraell', 'M', NULL, 0.00628571428571429, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Gabraell', 'M', NULL, 0.0033311125916056, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gabrell', 'M', NULL, 0.0033311125916056, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gabrell', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gabriel', 'M', NULL, 0.0144927536231884, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Gabriel', 'M', NULL, 0.00206043956043956, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gabriel', 'M', NULL, 0.00494350282485876, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Gabriel', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Gabriell', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gabriell', 'M', NULL, 0.00171703296703297, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gabriell', 'M', NULL, 0.021739130434783, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Gabrill', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gadra', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Galfrid', 'M', NULL, 0.054545454545455, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Gamaliel', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Gamel', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Garalt', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Garland', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Garmayne', 'M', NULL, 0.00228571428571429, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Garmayne', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Garrad', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Garrard', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gascin', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gascone', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gaskin', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gavane', 'M', NULL, 0.009536784741144, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Gawan', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gawen', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gawen', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gawin', 'M', NULL, 0.00966183574879227, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Gawin', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gawin', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gawinus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gawmen', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gawon', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gawtley', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gawyne', 'M', NULL, 0.00342857142857143, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Gawyne', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gebhard', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Gehardus', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Geilis', 'M', NULL, 0.010899182561308, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Gelbert', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gelis', 'M', NULL, 0.071428571428572, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Genuald', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Geoffrey', 'M', NULL, 0.253968253968254, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Geoffrey', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Georg', 'M', NULL, 0.0206528980679547, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Georg', 'M', NULL, 0.0260989010989011, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Georg', 'M', NULL, 0.119350282485876, 'GERMANY', '1600-01-01', '1800-01-01'),
+('George', 'M', NULL, 0.21256038647343, 'AMERICA', '1600-01-01', '1750-01-01'),
+('George', 'M', NULL, 0.117595893427578, 'AMERICA', '1750-01-01', '1810-01-01'),
+('George', 'M', NULL, 0.249142857142857, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('George', 'M', NULL, 0.240506329113924, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('George', 'M', NULL, 0.334134615384615, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('George', 'M', NULL, 0.362538940809969, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('George', 'M', NULL, 0.0607358928158089, 'IRELAND', '1600-01-01', '1900-01-01'),
+('George', 'M', NULL, 0.046321525885559, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('George', 'M', NULL, 0.108695652173913, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('George', 'M', NULL, 0.4, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('George', 'M', 5, 0.81450625, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Georges', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Georgi', 'M', NULL, 0.00266489007328448, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Georgius', 'M', NULL, 0.0206528980679547, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Georgius', 'M', NULL, 0.00892857142857143, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Georgius', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Georguis', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gephray', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gerard', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Gerard', 'M', NULL, 0.015873015873016, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Gerard', 'M', NULL, 0.0177142857142857, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Gerard', 'M', NULL, 0.00266489007328448, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gerard', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gerard', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Gerardus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gerd', 'M', NULL, 0.0141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Geres', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Gerhard', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gerhard', 'M', NULL, 0.00988700564971752, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Gerhardt', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Gerhardus', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Gerlach', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Gerlick', 'M', NULL, 0.00114285714285714, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Gerlick', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Germaine', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('German', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Germane', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gerrard', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gerrerd', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gerrett', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gerridt', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Gerrit', 'M', NULL, 0.00211864406779661, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Gert', 'M', NULL, 0.00211864406779661, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Gervase', 'M', NULL, 0.015873015873016, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Gibbs', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Gideon', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Gideon', 'M', NULL, 0.00878709068181447, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Gideon', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Gideon', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Gilbart', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gilbarte', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gilbeart', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gilberd', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gilbert', 'M', NULL, 0.103174603174603, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Gilbert', 'M', NULL, 0.115151515151515, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Gilbert', 'M', NULL, 0.02, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Gilbert', 'M', NULL, 0.00932711525649567, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gilbert', 'M', NULL, 0.00858516483516484, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gilbert', 'M', NULL, 0.00194704049844237, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Gilbert', 'M', NULL, 0.357142857142857, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Gilbert', 'M', NULL, 0.14850136239782, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Gilbert', 'M', NULL, 0.021739130434783, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Gilbert', 'M', NULL, 0.15, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Gilbert', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Gilbertus', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gilbertus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gilbetus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gilbroyt', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Giles', 'M', NULL, 0.0144927536231884, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Giles', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Giles', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Giles', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Gilfray', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gill', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Gilla Brénainn', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Gilla Comgaill', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Gilla Mochutu', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Gilla Pátraic', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Gilla na Náem', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Gillbert', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Glassán', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Glenn', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Godefroy', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Godelot', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Godfrae', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Godfraie', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Godfray', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Godfree', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Godfrey', 'M', NULL, 0.031746031746032, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Godfrey', 'M', NULL, 0.00285714285714286, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Godfrey', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Godfrey', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Godfridus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Godman', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Godwin', 'M', NULL, 0.015873015873016, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Goge', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Goodrich', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Gorg', 'M', NULL, 0.00480769230769231, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gorge', 'M', NULL, 0.00309065934065934, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gorgs', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gormgilla', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Gormán', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Gottfired', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Gottfried', 'M', NULL, 0.0501412429378531, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Gottfroed', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Gotthard', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Gotthart', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Gotthilf', 'M', NULL, 0.00423728813559322, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Gotthold', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Gottlieb', 'M', NULL, 0.0437853107344633, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Gottlob', 'M', NULL, 0.0127118644067797, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Grace', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Graham', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Gray', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Graye', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Greg', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gregerius', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gregor', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Gregorie', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gregorie', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gregorius', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gregory', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Gregory', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Gregory', 'M', NULL, 0.00342857142857143, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Gregory', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gregory', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gregorye', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Greorgius', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Griffin', 'M', NULL, 0.00114285714285714, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Griffin', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Griffin', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Guallter', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gualtenus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gualterns', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Guddert', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Guil', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Guilielmus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Guillaume', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Guillelmus', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Guilliam', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Guleilmus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gulemius', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gulemius', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gulfridus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gulielemus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gulielimus', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gulielmas', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gulielmus', 'M', NULL, 0.0679546968687542, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gulielmus', 'M', NULL, 0.0370879120879121, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gulielmus', 'M', NULL, 0.00545171339563863, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Guliemos', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Guliemus', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Guliemus', 'M', NULL, 0.00274725274725275, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gustav', 'M', NULL, 0.00353107344632768, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Guy', 'M', NULL, 0.023809523809524, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Guy', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Guy', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Guy', 'M', NULL, 0.00137362637362637, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Guy', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Gylbarte', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gylbert', 'M', NULL, 0.00399733510992672, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gylbert', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gylbtus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gyles', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gyles', 'M', NULL, 0.00137362637362637, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gylmyne', 'M', NULL, 0.142857142857143, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Gyrge', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Gyrge', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Gysbert', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Gyy', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Gáethíne', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Gébennach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Göppingen', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Hamlett', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hamon', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Hanary', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hancock', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Hans', 'M', NULL, 0.0847457627118644, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Hans-Jürgen', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Hansen', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Hanz', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Hanß', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Harcourt', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Harmen', 'M', NULL, 0.00282485875706215, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Harmensz', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Harrie', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Harry', 'M', NULL, 0.00966183574879227, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Harry', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Harry', 'M', 50, 0.080994710817593, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Harrye', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Harrye', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hartwell', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Hartwich', 'M', NULL, 0.00211864406779661, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Hartwig', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Harvey', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Harwood', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Harye', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Hauxley', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hawell', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hay', 'M', NULL, 0.001362397820163, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Hecter', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hector', 'M', NULL, 0.00285714285714286, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Hector', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Hector', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hector', 'M', NULL, 0.025, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Heindrick', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Heinrich', 'M', NULL, 0.346045197740113, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Helmer', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Helmuth', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Henary', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hend', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Henderry', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Henderson', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hendey', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hendre', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hendrie', 'M', NULL, 0.05, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Hendrik', 'M', NULL, 0.00706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Henerie', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Henerre', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Henerry', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Henery', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Henery', 'M', NULL, 0.00755494505494506, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Henery', 'M', NULL, 0.00311526479750779, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Henerye', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Hennary', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hennery', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Henning', 'M', NULL, 0.00423728813559322, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Hennry', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Henr', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Henrey', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Henri', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Henri', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Henric', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Henricum', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Henricus', 'M', NULL, 0.0119920053297801, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Henricus', 'M', NULL, 0.00377747252747253, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Henricus', 'M', NULL, 0.00353107344632768, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Henricy', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Henrie', 'M', NULL, 0.0186542305129913, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Henrie', 'M', NULL, 0.00446428571428571, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Henrie', 'M', NULL, 0.065217391304348, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Henrigg', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Henrius', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Henry', 'M', NULL, 0.207729468599034, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Henry', 'M', NULL, 0.0715266765633429, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Henry', 'M', NULL, 0.253968253968254, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Henry', 'M', NULL, 0.096969696969697, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Henry', 'M', NULL, 0.137142857142857, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Henry', 'M', NULL, 0.0966022651565623, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Henry', 'M', NULL, 0.121222527472527, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Henry', 'M', NULL, 0.0720404984423676, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Henry', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Henry', 'M', NULL, 0.0413559598967009, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Henry', 'M', NULL, 0.142857142857143, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Henry', 'M', NULL, 0.125, 'SCOTLAND', '1400-01-01', '1500-01-01'),
+('Henry', 'M', NULL, 0.017711171662125, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Henry', 'M', 8, 0.69833729609375, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Henrye', 'M', NULL, 0.0199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Henrye', 'M', NULL, 0.00240384615384615, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Herbert', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Herbert', 'M', NULL, 0.031746031746032, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Herbert', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Hercules', 'M', NULL, 0.00171428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Hercules', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Hercules', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hereward', 'M', NULL, 0.015873015873016, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Hereward', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Hericus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Herison', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Herkules', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Hermann', 'M', NULL, 0.0402542372881356, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Hermanus', 'M', NULL, 0.0120056497175141, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Herry', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Herz', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Hessen', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Heth', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Heugh', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Heugh', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hew', 'M', NULL, 0.00399733510992672, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Hew', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hew', 'M', NULL, 0.071428571428572, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Hew', 'M', NULL, 0.00408719346049, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Hew', 'M', NULL, 0.021739130434783, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Hewe', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Hewe', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hewgh', 'M', NULL, 0.00466355762824783, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Hewgh', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hewghe', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Hewgo', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hezekiah', 'M', NULL, 0.00764350907127709, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Hezekiah', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Hierimas', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Hierimas', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Hieronimus', 'M', NULL, 0.0077683615819209, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Hildesheim', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Hinrich', 'M', NULL, 0.0134180790960452, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Hinrichs', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Hodgson', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hodijah', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Honor', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Honoratius', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Horace', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Horatio', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Howe', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Howell', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Howey', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Hubert', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Huchon', 'M', NULL, 0.041666666666667, 'SCOTLAND', '1400-01-01', '1500-01-01'),
+('Hudson', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Hue', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hugem', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Hugh', 'M', NULL, 0.0386473429951691, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Hugh', 'M', NULL, 0.011709481337582, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Hugh', 'M', NULL, 0.151515151515152, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Hugh', 'M', NULL, 0.0257142857142857, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Hugh', 'M', NULL, 0.00732844770153231, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Hugh', 'M', NULL, 0.0168269230769231, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hugh', 'M', NULL, 0.0058411214953271, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Hugh', 'M', NULL, 0.0438158951758945, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Hugh', 'M', 47, 0.094468244137738, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Hughe', 'M', NULL, 0.00599600266489007, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Hughe', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hugo', 'M', NULL, 0.373015873015873, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Hugo', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Hugo', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hugo', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Hugomem', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hugonem', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Huhge', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Humble', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Humfray', 'M', NULL, 0.0125714285714286, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Humfray', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Humfray', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Humfraye', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Humfrey', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Humfrey', 'M', NULL, 0.00137362637362637, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Humfriches', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Humfridus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Humphery', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Humphery', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Humphfraie', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Humphidus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Humphra', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Humphray', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Humphray', 'M', NULL, 0.00137362637362637, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Humphre', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Humphredus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Humphrey', 'M', NULL, 0.0144927536231884, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Humphrey', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Humphrey', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Humphrey', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Humphrey', 'M', NULL, 0.00412087912087912, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Humphrey', 'M', NULL, 0.00272585669781931, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Humphrey', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Humphry', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Humphry', 'M', NULL, 0.00377747252747253, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Humpray', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Hushai', 'M', NULL, 0.0002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Hwy', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Hyppolytus', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Ian', 'M', NULL, 0.071428571428572, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Ignatius', 'M', NULL, 0.00423728813559322, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Ike', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Indrechtach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Ingram', 'M', NULL, 0.012121212121212, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Ingram', 'M', NULL, 0.00285714285714286, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Ingram', 'M', NULL, 0.00266489007328448, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ingram', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ingram', 'M', NULL, 0.142857142857143, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Ioco', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Ira', 'M', NULL, 0.00865829961590098, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Ireland', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Isaac', 'M', NULL, 0.0241545893719807, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Isaac', 'M', NULL, 0.0595199163893155, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Isaac', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Isaac', 'M', NULL, 0.00171428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Isaac', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Isaac', 'M', NULL, 0.00274725274725275, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Isaac', 'M', NULL, 0.0151869158878505, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Isaac', 'M', 14, 0.513342083279505, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Isaack', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Isaacke', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Isaacke', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Isaak', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Isaak', 'M', NULL, 0.00494350282485876, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Isack', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Isaiah', 'M', NULL, 0.00637971511688631, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Isaiah', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Isebrand', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Isham', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Israel', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Israel', 'M', NULL, 0.00795548166638585, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Israel', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Issac', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Issachar', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Ivo', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Izacke', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jabez', 'M', NULL, 0.00630957344480193, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Jabez', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Jacob', 'M', NULL, 0.0144927536231884, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Jacob', 'M', NULL, 0.101531549544529, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Jacob', 'M', NULL, 0.018181818181818, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Jacob', 'M', NULL, 0.0154285714285714, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Jacob', 'M', NULL, 0.00866089273817455, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jacob', 'M', NULL, 0.0171703296703297, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jacob', 'M', NULL, 0.0179127725856698, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Jacob', 'M', NULL, 0.126412429378531, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Jacob', 'M', 29, 0.237826885255332, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Jacobi', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jacobs', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jacobus', 'M', NULL, 0.00799467021985343, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jacobus', 'M', NULL, 0.0051510989010989, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jacobus', 'M', NULL, 0.0155367231638418, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Jahleel', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Jahor()', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jaimes', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('James', 'M', NULL, 0.251207729468599, 'AMERICA', '1600-01-01', '1750-01-01'),
+('James', 'M', NULL, 0.298652819946921, 'AMERICA', '1750-01-01', '1810-01-01'),
+('James', 'M', NULL, 0.0988571428571428, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('James', 'M', NULL, 0.11325782811459, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('James', 'M', NULL, 0.129807692307692, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('James', 'M', NULL, 0.17601246105919, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('James', 'M', NULL, 0.61283704971157, 'IRELAND', '1600-01-01', '1900-01-01'),
+('James', 'M', NULL, 0.142857142857143, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('James', 'M', NULL, 0.083333333333333, 'SCOTLAND', '1400-01-01', '1500-01-01'),
+('James', 'M', NULL, 0.099455040871935, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('James', 'M', NULL, 0.456521739130435, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('James', 'M', NULL, 0.55, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('James', 'M', 4, 0.857375, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Jams', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jan', 'M', NULL, 0.0204802259887006, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Jannem', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Jannem', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jans', 'M', NULL, 0.00635593220338983, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Janse', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Janssen', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Jarard', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jararde', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jarate', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jared', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jariad', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jarmaine', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jarrad', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jarrade', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jarrald', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jarrald', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jarralde', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jarrard', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jarrard', 'M', NULL, 0.00137362637362637, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jarrat', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jarrate', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jarratt', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jarred', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jarrelde', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jarret', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jarrett', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jarrold', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jarvis', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jasper', 'M', NULL, 0.00171428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Jasper', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jasper', 'M', NULL, 0.005449591280654, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Jasper', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Jaymes', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jean', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Jeffaray', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jeffarde', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jefferay', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jeffery', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jeffery', 'M', NULL, 0.00116822429906542, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Jeffray', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jeffray', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jeffrey', 'M', NULL, 0.00571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Jeffrey', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jeffrey', 'M', NULL, 0.00137362637362637, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jeffrey', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Jefraye', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jehoshaphat', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Jenken', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jenkin', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jens', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Jerard', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jerard', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jeremiah', 'M', NULL, 0.0193236714975845, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Jeremiah', 'M', NULL, 0.0182910250164225, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Jeremiah', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jeremiah', 'M', NULL, 0.00545171339563863, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Jeremiah', 'M', NULL, 0.0588750561654965, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Jeremiah', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Jeremias', 'M', NULL, 0.00211864406779661, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Jeremy', 'M', 43, 0.115982221300006, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Jerome', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Jeroniums', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Jerralde', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jerrard', 'M', NULL, 0.00266489007328448, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jerrard', 'M', NULL, 0.00206043956043956, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jerrarde', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jesper', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jesse', 'M', NULL, 0.0255932928161722, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Jesse', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Jhon', 'M', NULL, 0.0119920053297801, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jhon', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Joachim', 'M', NULL, 0.0451977401129944, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Joanes', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Joannem', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Joannes', 'M', NULL, 0.00206043956043956, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Job', 'M', NULL, 0.0075446514639308, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Job', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Jocelyn', 'M', NULL, 0.023809523809524, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Jochem', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Jochen', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Joel', 'M', NULL, 0.0159655799479786, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Joel', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Joem', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Joh', 'M', NULL, 0.00206043956043956, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Joham', 'M', NULL, 0.00266489007328448, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Johan', 'M', NULL, 0.011325782811459, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Johan', 'M', NULL, 0.00206043956043956, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Johan', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Johanan', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Johanes', 'M', NULL, 0.00866089273817455, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Johanes', 'M', NULL, 0.00858516483516484, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Johanis', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Johanis', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Johann', 'M', NULL, 0.0135248667561248, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Johann', 'M', NULL, 0.00399733510992672, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Johann', 'M', NULL, 1, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Johannam', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Johannan', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Johannas', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Johannem', 'M', NULL, 0.00732844770153231, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Johannem', 'M', NULL, 0.00652472527472527, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Johannen', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Johannen', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Johannes', 'M', NULL, 0.0151867986442926, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Johannes', 'M', NULL, 0.0386409060626249, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Johannes', 'M', NULL, 0.0449862637362637, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Johannes', 'M', NULL, 0.0105140186915888, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Johannes', 'M', NULL, 0.17090395480226, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Johannis', 'M', NULL, 0.027981345769487, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Johannis', 'M', NULL, 0.00240384615384615, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Johanns', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Johannus', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Johannus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Johathan', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Johem', 'M', NULL, 0.0033311125916056, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Johem', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Johes', 'M', NULL, 0.0373084610259827, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Johes', 'M', NULL, 0.0195741758241758, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Johes', 'M', NULL, 0.00272585669781931, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Johis', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('John', 'M', NULL, 1, 'AMERICA', '1600-01-01', '1750-01-01'),
+('John', 'M', NULL, 1, 'AMERICA', '1750-01-01', '1810-01-01'),
+('John', 'M', NULL, 0.642424242424242, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('John', 'M', NULL, 1, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('John', 'M', NULL, 1, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('John', 'M', NULL, 1, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('John', 'M', NULL, 1, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('John', 'M', NULL, 1, 'IRELAND', '1600-01-01', '1900-01-01'),
+('John', 'M', NULL, 1, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('John', 'M', NULL, 1, 'SCOTLAND', '1400-01-01', '1500-01-01'),
+('John', 'M', NULL, 1, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('John', 'M', 2, 0.95, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('John Joseph', 'M', NULL, 0.0185402871134793, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Johnannam', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Johnannem', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Johnannes', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Johne', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Johne', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Johne', 'M', NULL, 1, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Johnes', 'M', NULL, 0.00599600266489007, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Johnes', 'M', NULL, 0.00137362637362637, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Johnne', 'M', NULL, 0.555555555555556, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Johnne', 'M', NULL, 1, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Johnny', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Johnson', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Johon', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Johs', 'M', NULL, 0.00171703296703297, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Joiem', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Joiem', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jokan', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jon', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jon', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jonah', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Jonas', 'M', NULL, 0.0080649376518527, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Jonas', 'M', NULL, 0.00423728813559322, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Jonas', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Jonathan', 'M', NULL, 0.0144927536231884, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Jonathan', 'M', NULL, 0.0416102422666709, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Jonathan', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Jonathan', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jonathan', 'M', NULL, 0.00480769230769231, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jonathan', 'M', NULL, 0.0354361370716511, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Jonathan', 'M', 20, 0.377353602535307, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Jonathon', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jones', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jonn', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Jonn', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jonnanem', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Joost', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Jordan', 'M', NULL, 0.015873015873016, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Jors', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Josef', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Josef', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Josep', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Joseph', 'M', NULL, 0.106280193236715, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Joseph', 'M', NULL, 0.170267984504157, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Joseph', 'M', NULL, 0.00171428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Joseph', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Joseph', 'M', NULL, 0.0707417582417582, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Joseph', 'M', NULL, 0.153426791277259, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Joseph', 'M', NULL, 0.0367231638418079, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Joseph', 'M', NULL, 0.147786739042622, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Joseph', 'M', NULL, 0.021739130434783, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Joseph', 'M', 6, 0.7737809375, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Josephe', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Josephe', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Josephus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Josephus', 'M', NULL, 0.00282485875706215, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Joseve', 'M', NULL, 0.00137362637362637, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Joshua', 'M', NULL, 0.00966183574879227, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Joshua', 'M', NULL, 0.0246242041067316, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Joshua', 'M', NULL, 0.00206043956043956, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Joshua', 'M', NULL, 0.00661993769470405, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Joshua', 'M', 44, 0.110183110235005, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Joshuah', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Josiah', 'M', NULL, 0.0228824296998434, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Josiah', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Josiah', 'M', NULL, 0.00194704049844237, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Josiah', 'M', 36, 0.166083383987607, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Josias', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Josias', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Josias', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Josias', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Jost', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Jost', 'M', NULL, 0.0162429378531073, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Josua', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Josua', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Josuah', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Jude', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Juliel', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Juliel', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Julius', 'M', NULL, 0.00423728813559322, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Jurgen', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Justin', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Justinus', 'M', NULL, 0.00211864406779661, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Justus', 'M', NULL, 0.00564971751412429, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Jörg', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Jürgen', 'M', NULL, 0.0783898305084746, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Jürgenm', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Karl', 'M', NULL, 0.00282485875706215, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Kassel', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Kassien', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Kelah', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Kempe', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Kenneth', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Kilian', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Kirby', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Kirste', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Kirstefor', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Klaus', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Klein', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Koens', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Konrad', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Kunance', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Kurt', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Königsberg', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Labraid', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Lachtnán', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Ladler', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lagot', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Lainwell', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lambert', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Lambertus', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Lambwell', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Lambwell', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Lamerick', 'M', NULL, 0.00114285714285714, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Lamerick', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Lamerick', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lamewell', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lamoriche', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lancellott', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Lancellott', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lancelot', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Lancelot', 'M', NULL, 0.0285714285714286, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Lancelot', 'M', NULL, 0.0219853431045969, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Lancelot', 'M', NULL, 0.0171703296703297, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lancelot', 'M', NULL, 0.00428348909657321, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Lancelot', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Lancelote', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Lancelote', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lancelott', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Lancelott', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lancelotus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Lancelotus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lanclot', 'M', NULL, 0.0033311125916056, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Lanclot', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lanclote', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Lanclote', 'M', NULL, 0.00171703296703297, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lanclott', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Lanclott', 'M', NULL, 0.00206043956043956, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Landon', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Lansletus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Lanslote', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Larkin', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Laurenc', 'M', NULL, 0.00266489007328448, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Laurence', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Laurence', 'M', NULL, 0.018181818181818, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Laurence', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Laurence', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Laurence', 'M', NULL, 0.024077410804653, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Laurence', 'M', NULL, 0.071428571428572, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Laurence', 'M', NULL, 0.166666666666667, 'SCOTLAND', '1400-01-01', '1500-01-01'),
+('Laurence', 'M', NULL, 0.021739130434783, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Laurence', 'M', 48, 0.089744831930851, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Laurencius', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Laurentius', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Laurenzius', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lawerence', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Lawrance', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Lawrance', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lawrence', 'M', NULL, 0.0193236714975845, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Lawrence', 'M', NULL, 0.0182857142857143, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Lawrence', 'M', NULL, 0.0119920053297801, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Lawrence', 'M', NULL, 0.00309065934065934, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lawrence', 'M', NULL, 0.00272585669781931, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Lawrence', 'M', NULL, 0.025, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Lawrenting', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Lawrentius', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Lawrentius', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Laynard', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lazarus', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Leanard', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Leberecht', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Lebrecht', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Ledam', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Leenderts', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Lehe', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Lemuel', 'M', NULL, 0.00966183574879227, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Lemuel', 'M', NULL, 0.0101343362014647, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Lenard', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lenert', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lennard', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lennep', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Lennán', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Leonall', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Leonard', 'M', NULL, 0.00966183574879227, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Leonard', 'M', NULL, 0.0071725071969145, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Leonard', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Leonard', 'M', NULL, 0.0108571428571429, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Leonard', 'M', NULL, 0.00866089273817455, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Leonard', 'M', NULL, 0.0106456043956044, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Leonard', 'M', NULL, 0.00428348909657321, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Leonard', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Leonarde', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Leonardus', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Leonhard', 'M', NULL, 0.0077683615819209, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Leopold', 'M', NULL, 0.00353107344632768, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Letard', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Leven', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Levi', 'M', NULL, 0.0213616436570737, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Levi', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Levi', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Levin', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Lewes', 'M', NULL, 0.00114285714285714, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Lewes', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Lewi', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Lewis', 'M', NULL, 0.0434782608695652, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Lewis', 'M', NULL, 0.0132334416348517, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Lewis', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lewis', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Liber', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Linsley', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lionel', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Lionel', 'M', NULL, 0.00171703296703297, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lionel', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Lionell', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Lionell', 'M', NULL, 0.00171703296703297, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Littlebury', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Lodam', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lodge', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Lodoyick', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lodwick', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Loftus', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Loingsech', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Lonclot', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Longius', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Looke', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lorccán', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Lorenz', 'M', NULL, 0.0225988700564972, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Losilioure', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Louis', 'M', NULL, 0.00564971751412429, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Louis', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Louke', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Lourance', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Loving', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lowrance', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Lowrance', 'M', NULL, 0.00343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lowrans', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lucam', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lucas', 'M', NULL, 0.018181818181818, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Lucas', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lucas', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Luck', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Luck', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lucke', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ludlow', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Ludolf', 'M', NULL, 0.00282485875706215, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Ludolph', 'M', NULL, 0.00211864406779661, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Ludwig', 'M', NULL, 0.0656779661016949, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Luke', 'M', NULL, 0.00285714285714286, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Luke', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Luke', 'M', NULL, 0.00721153846153846, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Luke', 'M', NULL, 0.0120716510903427, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Luke', 'M', 34, 0.184025910235576, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Lurab', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Luther', 'M', NULL, 0.00964362237699115, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Lyall', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lyddall', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Lyonall', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lyonel', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Lyonel', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lyonell', 'M', NULL, 0.00742857142857143, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Lyonell', 'M', NULL, 0.00399733510992672, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Lyonell', 'M', NULL, 0.00171703296703297, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Lüder', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Mac Bethad', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Mac Laisre', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Macor', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Maddison', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Magnor', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Magnus', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Magnus', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Magnus', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Mahershalalhashbaz', 'M', NULL, 0.0002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Major', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Malcome', 'M', NULL, 0.019073569482289, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Malice', 'M', NULL, 0.041666666666667, 'SCOTLAND', '1400-01-01', '1500-01-01'),
+('Malin', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mananeis', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Mann', 'M', NULL, 0.00966183574879227, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Mann', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Manur', 'M', NULL, 0.021739130434783, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Marcus', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Marcus', 'M', NULL, 0.00240384615384615, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Marcus', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Marcus', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Marcán', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Maria', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Marine', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Marine', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Marius', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mark', 'M', NULL, 0.0033311125916056, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mark', 'M', NULL, 0.00824175824175824, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mark', 'M', NULL, 0.0163551401869159, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Mark', 'M', 26, 0.277389573121834, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Marke', 'M', NULL, 0.0148571428571429, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Marke', 'M', NULL, 0.0126582278481013, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Marke', 'M', NULL, 0.00686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Markus', 'M', NULL, 0.00282485875706215, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Marma', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Marmaduck', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Marmaducus', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Marmaduke', 'M', NULL, 0.0125714285714286, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Marmaduke', 'M', NULL, 0.0119920053297801, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Marmaduke', 'M', NULL, 0.0161401098901099, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Marmaduke', 'M', NULL, 0.00272585669781931, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Marmaduke', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Marmeduke', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Marquis', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Martan', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Martene', 'M', NULL, 0.021739130434783, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Marthinus', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Martin', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Martin', 'M', NULL, 0.0129537741850142, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Martin', 'M', NULL, 0.015873015873016, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Martin', 'M', NULL, 0.012121212121212, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Martin', 'M', NULL, 0.0171428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Martin', 'M', NULL, 0.0119920053297801, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Martin', 'M', NULL, 0.0130494505494506, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Martin', 'M', NULL, 0.0116822429906542, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Martin', 'M', NULL, 0.0338983050847458, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Martin', 'M', NULL, 0.112875628032369, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Martin', 'M', NULL, 0.025885558583106, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Martin', 'M', 38, 0.149890254048815, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Martine', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Martine', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Marting', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Martinge', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Martinn', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Martinus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Martinus', 'M', NULL, 0.0127118644067797, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Martyn', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Martyne', 'M', NULL, 0.0033311125916056, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Matew', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mathe', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mathe', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mathew', 'M', NULL, 0.00966183574879227, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Mathew', 'M', NULL, 0.0219853431045969, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mathew', 'M', NULL, 0.032967032967033, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mathew', 'M', NULL, 0.00506230529595016, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Mathew', 'M', NULL, 0.0189669179552582, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Mathew', 'M', NULL, 0.016348773841962, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Mathew', 'M', NULL, 0.021739130434783, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Mathewe', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mathgamain', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Mathias', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mathias', 'M', NULL, 0.00233644859813084, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Matho', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mathocus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mathyas', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Matteous', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Matteus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mattew', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Matthaeus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Matther', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Matthew', 'M', NULL, 0.0531400966183575, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Matthew', 'M', NULL, 0.0084112434343717, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Matthew', 'M', NULL, 0.0502857142857143, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Matthew', 'M', NULL, 0.0299800133244504, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Matthew', 'M', NULL, 0.0374313186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Matthew', 'M', NULL, 0.0689252336448598, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Matthew', 'M', NULL, 0.0259473247069182, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Matthew', 'M', 22, 0.340561626288115, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Matthewe', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Matthewe', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Matthias', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Matthias', 'M', NULL, 0.00116822429906542, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Matthias', 'M', NULL, 0.038135593220339, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Matthias', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Matthueus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Matthäus', 'M', NULL, 0.00494350282485876, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Mattias', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Maurice', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Maurice', 'M', NULL, 0.0297915409089052, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Mauritius', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Max', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Maximilian', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Maximilian', 'M', NULL, 0.00211864406779661, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Meent', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Meinert', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Melchert', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Melchior', 'M', NULL, 0.00353107344632768, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Mem', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Meredith', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Merit', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Merrington', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Meshach', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Metcalfe', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Micaiah', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Micajah', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Micall', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Michael', 'M', NULL, 0.00966183574879227, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Michael', 'M', NULL, 0.0289911865471078, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Michael', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Michael', 'M', NULL, 0.060606060606061, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Michael', 'M', NULL, 0.0348571428571429, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Michael', 'M', NULL, 0.0253164556962025, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Michael', 'M', NULL, 0.0442994505494506, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Michael', 'M', NULL, 0.0354361370716511, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Michael', 'M', NULL, 0.0720338983050848, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Michael', 'M', NULL, 0.556199536152425, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Michael', 'M', NULL, 0.00408719346049, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Michael', 'M', 27, 0.263520094465742, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Michaell', 'M', NULL, 0.00399733510992672, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Michaell', 'M', NULL, 0.00377747252747253, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Michaellus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Michale', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Michall', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Michall', 'M', NULL, 0.00309065934065934, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Michalle', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Micheall', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Michel', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Michel', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Michell', 'M', NULL, 0.00399733510992672, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Michell', 'M', NULL, 0.00412087912087912, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Micheál', 'M', NULL, 0.0247082798153687, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Michiell', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Michill', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mickell', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Micsell', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Middleton', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mighall', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mildred', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Miles', 'M', NULL, 0.00966183574879227, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Miles', 'M', NULL, 0.00628571428571429, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Miles', 'M', NULL, 0.00399733510992672, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Miles', 'M', NULL, 0.00240384615384615, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Miles', 'M', NULL, 0.00350467289719626, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Miles', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Miless', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Miller', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Milles', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Milo', 'M', NULL, 0.015873015873016, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Milo', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Mitchel', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Moore', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Morand', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Mordecai', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Mordecai', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Morgan', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Morgan', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Moritz', 'M', NULL, 0.00564971751412429, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Morrann', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Morris', 'M', NULL, 0.142857142857143, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Morris', 'M', NULL, 0.041666666666667, 'SCOTLAND', '1400-01-01', '1500-01-01'),
+('Moryis', 'M', NULL, 0.001362397820163, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Moses', 'M', NULL, 0.0333683745042907, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Moses', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Moses', 'M', NULL, 0.00206043956043956, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Moses', 'M', NULL, 0.00311526479750779, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Moses', 'M', 31, 0.214638763942937, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Moungeye', 'M', NULL, 0.00114285714285714, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Moungeye', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mtyne', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mugrón', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Muirchertach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Muiredach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Muirgius', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Mungah', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Munge', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mungo', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Murchad', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Musgrave', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Musgrave', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mychaell', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mychaell', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mychaill', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Mychall', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mychell', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Mychell', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Myghell', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Myhell', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Myles', 'M', NULL, 0.00266489007328448, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Myles', 'M', NULL, 0.00171703296703297, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Myndert', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Máel Dúin', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Máel Mithig', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Máel Muad', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Máel Ruanaid', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Máel Sechnaill', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Máel Ísu', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Máelán', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Máenach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Nash', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Nathan', 'M', NULL, 0.0266378923453653, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Nathan', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Nathan', 'M', NULL, 0.00116822429906542, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Nathan', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Nathanael', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Nathaniel', 'M', NULL, 0.0531400966183575, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Nathaniel', 'M', NULL, 0.0317760112359101, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Nathaniel', 'M', NULL, 0.00343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Nathaniel', 'M', NULL, 0.00194704049844237, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Nathaniel', 'M', 39, 0.142395741346375, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Nathaniell', 'M', NULL, 0.00114285714285714, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Nathaniell', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Nathanyell', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Nathen', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Necheles', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Necholes', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Nehemiah', 'M', NULL, 0.0078488271029297, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Nehemiah', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Neil', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Neill', 'M', NULL, 0.214285714285714, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Neill', 'M', NULL, 0.001362397820163, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Neuenrode', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Newton', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Niall', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Nichall', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Nichallars', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Nichol', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Nichol', 'M', NULL, 0.083333333333333, 'SCOTLAND', '1400-01-01', '1500-01-01'),
+('Nichol', 'M', NULL, 0.021798365122616, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Nicholas', 'M', NULL, 0.0241545893719807, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Nicholas', 'M', NULL, 0.0138287941510302, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Nicholas', 'M', NULL, 0.111111111111111, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Nicholas', 'M', NULL, 0.110285714285714, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Nicholas', 'M', NULL, 0.08927381745503, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Nicholas', 'M', NULL, 0.0649038461538462, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Nicholas', 'M', NULL, 0.0272585669781931, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Nicholas', 'M', NULL, 0.0221711878945768, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Nicholas', 'M', 32, 0.20390682574579, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Nicholaus', 'M', NULL, 0.00532978014656895, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Nicholaus', 'M', NULL, 0.00171703296703297, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Nicholes', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Nicholeus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Nicholles', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Nicholson', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Nicholus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Nickalles', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Nickellass', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Nicklas', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Nickolas', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Nickolas', 'M', NULL, 0.00171703296703297, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Nickolass', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Nickolo', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Niclas', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Nicolai', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Nicolas', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Nicolas', 'M', NULL, 0.090909090909091, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Nicolas', 'M', NULL, 0.0106595602931379, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Nicolas', 'M', NULL, 0.00309065934065934, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Nicolas', 'M', NULL, 0.00116822429906542, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Nicolaus', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Nicolaus', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Nicolays', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Nicoll', 'M', NULL, 0.025, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Nicolum', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Niederwiesen', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Niell', 'M', NULL, 0.021739130434783, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Nielsen', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Nigel', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Nikolaus', 'M', NULL, 0.0564971751412429, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Ninan', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Niniane', 'M', NULL, 0.005449591280654, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Ninivinus', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Ninivinus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Noah', 'M', NULL, 0.00744820641024128, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Noah', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Noah', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Noble', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Noe', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Norman', 'M', NULL, 0.03968253968254, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Norman', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Normond', 'M', NULL, 0.019073569482289, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Nuadu', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Nycholas', 'M', NULL, 0.00599600266489007, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Nycholas', 'M', NULL, 0.00206043956043956, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Nycholase', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Nycholaus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Nychollas', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Nychollas', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Nyckolus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Nycolas', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Obadiah', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Obedience', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Oboney', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Octavius', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Odar', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Odenel', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Odnell', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Odnell', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Odo', 'M', NULL, 0.018181818181818, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Oisséne', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Olevar', 'M', NULL, 0.012261580381471, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Oliver', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Oliver', 'M', NULL, 0.0112736043011167, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Oliver', 'M', NULL, 0.00228571428571429, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Oliver', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Oliver', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Oliver', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Oliverus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Oliverus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Oltmann', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Olyver', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Onesiphorus', 'M', NULL, 0.0002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Onke', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Original', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Orlando', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Orthanach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Osbert', 'M', NULL, 0.047619047619048, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Osgood', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Osmer', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Osmond', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Osvould', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Oswald', 'M', NULL, 0.00266489007328448, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Oswald', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Oswald', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Oswalds', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Oswaldus', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Oswan', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Oswen', 'M', NULL, 0.00228571428571429, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Oswen', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Oswin', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Oswine', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Oswold', 'M', NULL, 0.0142857142857143, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Oswold', 'M', NULL, 0.0033311125916056, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Oswold', 'M', NULL, 0.00171703296703297, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Oswoode', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Oswould', 'M', NULL, 0.0033311125916056, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Oswould', 'M', NULL, 0.00171703296703297, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Oswoulde', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Oswoulde', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Otto', 'M', NULL, 0.0134180790960452, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Ouswan', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ouswould', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Owen', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Owen', 'M', NULL, 0.0333634395523099, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Owen', 'M', 49, 0.085257590334308, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Owenanes', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Owin', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Owin', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Owin', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Pagan', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Parcevell', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Parcivall', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Parcivall', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Parcivell', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Parcivell', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Parcuell', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Parseuell', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Parseval', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Parsevall', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Parsevel', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Parsevell', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Pat', 'M', NULL, 0.0416645864630942, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Pate', 'M', NULL, 0.083333333333333, 'SCOTLAND', '1400-01-01', '1500-01-01'),
+('Pater', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Patreas', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Patreas', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Patriake', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Patric', 'M', NULL, 0.024242424242424, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Patricius', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Patrick', 'M', NULL, 0.00966183574879227, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Patrick', 'M', NULL, 0.0110670946592799, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Patrick', 'M', NULL, 0.0108571428571429, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Patrick', 'M', NULL, 0.0106595602931379, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Patrick', 'M', NULL, 0.00343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Patrick', 'M', NULL, 0.00233644859813084, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Patrick', 'M', NULL, 0.758631331950565, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Patrick', 'M', NULL, 0.130434782608696, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Patrick', 'M', NULL, 0.175, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Patrick', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Patricke', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Patrik', 'M', NULL, 0.099455040871935, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Patrike', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Pattricke', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Paul', 'M', NULL, 0.0144927536231884, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Paul', 'M', NULL, 0.00708489208547574, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Paul', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Paul', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Paul', 'M', NULL, 0.00467289719626168, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Paul', 'M', NULL, 0.00918079096045198, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Paull', 'M', NULL, 0.043478260869565, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Paulus', 'M', NULL, 0.0127118644067797, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Pawll', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Pawll', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Pearcivall', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Pearl', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Peeter', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Pelagius', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Pemberton', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Perceuell', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Percevall', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Percillus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Percival', 'M', NULL, 0.00155763239875389, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Percival', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Percivell', 'M', NULL, 0.0137142857142857, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Percivell', 'M', NULL, 0.0033311125916056, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Percivell', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Percivellus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Percy', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Percyvelus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Percywell', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Peregrine', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Peris', 'M', NULL, 0.071428571428572, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Persevell', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Persevell', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Persivell', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Peter', 'M', NULL, 0.0917874396135266, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Peter', 'M', NULL, 0.0508510137188451, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Peter', 'M', NULL, 0.158730158730159, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Peter', 'M', NULL, 0.042424242424243, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Peter', 'M', NULL, 0.0308571428571429, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Peter', 'M', NULL, 0.0299800133244504, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Peter', 'M', NULL, 0.0360576923076923, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Peter', 'M', NULL, 0.0268691588785047, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Peter', 'M', NULL, 0.0981638418079096, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Peter', 'M', NULL, 0.123627632970395, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Peter', 'M', NULL, 0.002724795640327, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Peter', 'M', NULL, 0.021739130434783, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Peter', 'M', NULL, 0.025, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Peter', 'M', 15, 0.487674979115529, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Peters', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Petersen', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Peterus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Peterus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Petrum', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Petrum', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Petrus', 'M', NULL, 0.0033311125916056, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Petrus', 'M', NULL, 0.00206043956043956, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Petrus', 'M', NULL, 0.00423728813559322, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Petrán', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Petter', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Petter', 'M', NULL, 0.00377747252747253, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Pexal', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Philbert', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Philemon', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Philemon', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Philip', 'M', NULL, 0.0338164251207729, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Philip', 'M', NULL, 0.017287572304531, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Philip', 'M', NULL, 0.023809523809524, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Philip', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Philip', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Philip', 'M', NULL, 0.00343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Philip', 'M', NULL, 0.00194704049844237, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Philip', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Philip', 'M', NULL, 0.0287975818200798, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Philip', 'M', NULL, 0.142857142857143, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Philip', 'M', NULL, 0.041666666666667, 'SCOTLAND', '1400-01-01', '1500-01-01'),
+('Philip', 'M', NULL, 0.008174386920981, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Philip', 'M', 24, 0.307356867725023, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Philipe', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Philipp', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Philipp', 'M', NULL, 0.0480225988700565, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Philippus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Philippus', 'M', NULL, 0.00211864406779661, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Phillip', 'M', NULL, 0.00829269966743186, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Phillip', 'M', NULL, 0.0177142857142857, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Phillip', 'M', NULL, 0.0106595602931379, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Phillip', 'M', NULL, 0.00961538461538462, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Phillip', 'M', NULL, 0.007398753894081, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Phillipe', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Phillipus', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Phillipus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Phillop', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Phillope', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Phillupp', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Philomath', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Philop', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Phinchas', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Phineas', 'M', NULL, 0.00683390215709541, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Phineas', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Phineas', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Phyllypp', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Pierre', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Pierre', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Pieter', 'M', NULL, 0.00211864406779661, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Plato', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Plüderhausen', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Prenzlau', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Providence', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Quintene', 'M', NULL, 0.043478260869565, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Quintine', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Quintmus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Quinton', 'M', NULL, 0.00228571428571429, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Quinton', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Quintyne', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Quyntane', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ra', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ra', 'M', NULL, 0.00194704049844237, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Raafe', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rabit', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rachus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rad', 'M', NULL, 0.00155763239875389, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Radbus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Raddpus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Raded', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Radess', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Radol', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Radolph', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Radolphham', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Radolphus', 'M', NULL, 0.0033311125916056, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Radolphus', 'M', NULL, 0.00137362637362637, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Radul', 'M', NULL, 0.00466355762824783, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Radulf', 'M', NULL, 0.103030303030303, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Radulph', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Radulph', 'M', NULL, 0.00137362637362637, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Radulpham', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Radulpham', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Radulphum', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Radulphus', 'M', NULL, 0.0159893404397069, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Radulphus', 'M', NULL, 0.00858516483516484, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Radulphus', 'M', NULL, 0.00116822429906542, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Radulus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Radus', 'M', NULL, 0.00266489007328448, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Radus', 'M', NULL, 0.00206043956043956, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rafe', 'M', NULL, 0.00466355762824783, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rafe', 'M', NULL, 0.00137362637362637, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Raffe', 'M', NULL, 0.00266489007328448, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Raffe', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ragallach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Ragnall', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Rahphe', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Raif', 'M', NULL, 0.00532978014656895, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Raife', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Raiffe', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Railph', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rainolde', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Raipf', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Raiph', 'M', NULL, 0.0213191205862758, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Raiph', 'M', NULL, 0.0182005494505495, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Raiphe', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Raiphe', 'M', NULL, 0.00206043956043956, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Raleigh', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Ralf', 'M', NULL, 0.00266489007328448, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ralf', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ralf', 'M', NULL, 0.142857142857143, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Ralfe', 'M', NULL, 0.00599600266489007, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ralfe', 'M', NULL, 0.00446428571428571, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rallfe', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rallph', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ralp', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ralph', 'M', NULL, 0.26984126984127, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Ralph', 'M', NULL, 0.0213191205862758, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ralph', 'M', NULL, 0.084478021978022, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ralph', 'M', NULL, 0.113707165109034, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Ralph', 'M', 28, 0.250344089742455, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Ralphe', 'M', NULL, 0.00666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ralphe', 'M', NULL, 0.00206043956043956, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ralulphus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ranald', 'M', NULL, 0.071428571428572, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Ranald', 'M', NULL, 0.009536784741144, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Randall', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Randell', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Randoll', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Randolph', 'M', NULL, 0.047619047619048, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Raneld', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ranolde', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ranolde', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ranulf', 'M', NULL, 0.048484848484849, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Raph', 'M', NULL, 0.00932711525649567, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Raph', 'M', NULL, 0.0171703296703297, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Raphe', 'M', NULL, 0.156571428571429, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Raphe', 'M', NULL, 0.0466355762824783, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Raphe', 'M', NULL, 0.0106456043956044, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rauf', 'M', NULL, 0.00399733510992672, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rauff', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rauffe', 'M', NULL, 0.00532978014656895, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rauffe', 'M', NULL, 0.021739130434783, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Rawffe', 'M', NULL, 0.0033311125916056, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rawleigh', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Raynard', 'M', NULL, 0.00114285714285714, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Raynard', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Raynold', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rayold', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rebachán', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Rechtabra', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Reg', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Reginald', 'M', NULL, 0.063492063492064, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Reginald', 'M', NULL, 0.012121212121212, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Reginald', 'M', NULL, 0.00914285714285714, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Reginald', 'M', NULL, 0.00399733510992672, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Reginald', 'M', NULL, 0.00206043956043956, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Reginald', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Reinhard', 'M', NULL, 0.00282485875706215, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Reinhold', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Reinold', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Reinrich', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Reken', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Remmer', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Remmert', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Renard', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Reneld', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rennald', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rennolde', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Renold', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Renold', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Renoldus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Reonarard', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Reonard', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rephe', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Reuben', 'M', NULL, 0.0168243292019113, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Reuben', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Reuben', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Reynald', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Reynddus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Reyner', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Reyvell', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Reyvell', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ricardin', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ricardus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Riccus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Riccus', 'M', NULL, 0.00343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rice', 'M', NULL, 0.0144927536231884, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Richar', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Richard', 'M', NULL, 0.251207729468599, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Richard', 'M', NULL, 0.0443104526426493, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Richard', 'M', NULL, 0.722222222222222, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Richard', 'M', NULL, 0.496969696969697, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Richard', 'M', NULL, 0.312571428571429, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Richard', 'M', NULL, 0.283144570286476, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Richard', 'M', NULL, 0.255151098901099, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Richard', 'M', NULL, 0.124610591900312, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Richard', 'M', NULL, 0.0810144736782386, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Richard', 'M', NULL, 0.214285714285714, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Richard', 'M', NULL, 0.083333333333333, 'SCOTLAND', '1400-01-01', '1500-01-01'),
+('Richard', 'M', NULL, 0.083106267029973, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Richard', 'M', NULL, 0.021739130434783, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Richard', 'M', NULL, 0.025, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Richard', 'M', 7, 0.735091890625, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Richarde', 'M', NULL, 0.00532978014656895, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Richarde', 'M', NULL, 0.00137362637362637, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Richardes', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Richardson', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Richardson', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Richardson', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Richardus', 'M', NULL, 0.0233177881412392, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Richardus', 'M', NULL, 0.00412087912087912, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Richart', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Richart', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Riche', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Richeard', 'M', NULL, 0.00399733510992672, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Richeman', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Richer', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Richerd', 'M', NULL, 0.00599600266489007, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Richerd', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Richus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Richus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ricus', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Ridley', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Riebe', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Ringer', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Rinion', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Rinion', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rix', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Ro', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Ro', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ro', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Robard', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Robart', 'M', NULL, 0.0299800133244504, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Robart', 'M', NULL, 0.0154532967032967, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Robart', 'M', NULL, 0.00116822429906542, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Robartach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Robarte', 'M', NULL, 0.00866089273817455, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Robartt', 'M', NULL, 0.00206043956043956, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Robartus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Robbert', 'M', NULL, 0.00171703296703297, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Roberd', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Robert', 'M', NULL, 0.27536231884058, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Robert', 'M', NULL, 0.0548604241185882, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Robert', 'M', NULL, 0.46031746031746, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Robert', 'M', NULL, 0.509090909090909, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Robert', 'M', NULL, 0.493714285714286, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Robert', 'M', NULL, 0.480346435709527, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Robert', 'M', NULL, 0.412774725274725, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Robert', 'M', NULL, 0.361370716510903, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Robert', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Robert', 'M', NULL, 0.0610853670159896, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Robert', 'M', NULL, 0.142857142857143, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Robert', 'M', NULL, 0.125, 'SCOTLAND', '1400-01-01', '1500-01-01'),
+('Robert', 'M', NULL, 0.219346049046321, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Robert', 'M', NULL, 0.478260869565217, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Robert', 'M', NULL, 0.425, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Robert', 'M', 9, 0.663420431289062, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Roberte', 'M', NULL, 0.0033311125916056, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Roberte', 'M', NULL, 0.00137362637362637, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Roberts', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Robertt', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Robertt', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Robertus', 'M', NULL, 0.044636908727515, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Robertus', 'M', NULL, 0.00583791208791209, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Robett', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Robin', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Robts', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Robtus', 'M', NULL, 0.0126582278481013, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Robtus', 'M', NULL, 0.00240384615384615, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rocelin', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Roddam', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rodger', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rodger', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rodger', 'M', NULL, 0.00116822429906542, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Rodham', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Rodolphus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rogar', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Roger', 'M', NULL, 0.0241545893719807, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Roger', 'M', NULL, 0.333333333333333, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Roger', 'M', NULL, 0.290909090909091, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Roger', 'M', NULL, 0.0645714285714286, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Roger', 'M', NULL, 0.0632911392405063, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Roger', 'M', NULL, 0.0236950549450549, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Roger', 'M', NULL, 0.00467289719626168, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Roger', 'M', NULL, 0.5, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Roger', 'M', NULL, 0.002724795640327, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Roger', 'M', NULL, 0.021739130434783, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Roger', 'M', 40, 0.135275954279056, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Rogerus', 'M', NULL, 0.00666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rogeus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rogger', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rojer', 'M', NULL, 0.0033311125916056, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rojer', 'M', NULL, 0.00137362637362637, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Roland', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Roland', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Roland', 'M', NULL, 0.00466355762824783, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Roland', 'M', NULL, 0.00240384615384615, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rolande', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rolland', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rolland', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rollande', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rollo', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Rostock', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Roswell', 'M', NULL, 0.00659935731890477, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Rouland', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Roweland', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rowl', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rowlance', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rowland', 'M', NULL, 0.0371428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Rowland', 'M', NULL, 0.0286475682878081, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rowland', 'M', NULL, 0.010989010989011, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rowland', 'M', NULL, 0.00350467289719626, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Rowlande', 'M', NULL, 0.00466355762824783, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rowlandus', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Ruaidrí', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Rudolf', 'M', NULL, 0.00564971751412429, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Rudolp', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Rudolph', 'M', NULL, 0.0077683615819209, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Rudulphus', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rudulpus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rufus', 'M', NULL, 0.00735408799542395, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Ruissíne', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Rumann', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Russell', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Rutger', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Rycardus', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rychard', 'M', NULL, 0.0253164556962025, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rychard', 'M', NULL, 0.00377747252747253, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rycharde', 'M', NULL, 0.00666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rycharde', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Rychart', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rycher', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rycherd', 'M', NULL, 0.00466355762824783, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rymon', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Rymon', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Rígbarddán', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Sacheverell', 'M', NULL, 0.0002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Salomon', 'M', NULL, 0.00353107344632768, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Salvator', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Samiull', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sammewell', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Sampson', 'M', NULL, 0.00966183574879227, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Sampson', 'M', NULL, 0.012121212121212, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Sampson', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sampson', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Sampson', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Samson', 'M', NULL, 0.00285714285714286, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Samson', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Samson', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Samuall', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Samuel', 'M', NULL, 0.1256038647343, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Samuel', 'M', NULL, 0.217637640824031, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Samuel', 'M', NULL, 0.00457142857142857, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Samuel', 'M', NULL, 0.00399733510992672, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Samuel', 'M', NULL, 0.0164835164835165, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Samuel', 'M', NULL, 0.0206386292834891, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Samuel', 'M', NULL, 0.0134180790960452, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Samuel', 'M', NULL, 0.0184449759679755, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Samuel', 'M', 11, 0.598736939238379, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Samuell', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Samuell', 'M', NULL, 0.00137362637362637, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Samuwell', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Samwell', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Sanders', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sanders', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Saulus', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Scandal', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Scandlán', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Schak', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Scothíne', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Sebastian', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Sebastian', 'M', NULL, 0.0105932203389831, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Sebastian', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Seeman', 'M', NULL, 0.023809523809524, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Selbach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Semman', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Senchán', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Septimus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Seth', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Seth', 'M', NULL, 0.0106750309182378, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Seth', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Severin', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Sewel', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Shadrach', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Shadrack', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Sherborne', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Shiloh', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Siebert', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Siegfried', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Siegmund', 'M', NULL, 0.00423728813559322, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Sierke', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Sigismund', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Silas', 'M', NULL, 0.0121787030567211, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Silas', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Silas', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Silvester', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Silvester', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Silvester', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Silvester', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Silvester', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Sim', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Simeon', 'M', NULL, 0.0108676884931045, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Simeon', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Simmonde', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Simon', 'M', NULL, 0.00966183574879227, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Simon', 'M', NULL, 0.00905595496103464, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Simon', 'M', NULL, 0.133333333333333, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Simon', 'M', NULL, 0.00532978014656895, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Simon', 'M', NULL, 0.00721153846153846, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Simon', 'M', NULL, 0.00700934579439252, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Simon', 'M', NULL, 0.0120056497175141, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Simon', 'M', 35, 0.174824614723797, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Simond', 'M', NULL, 0.0217142857142857, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Simond', 'M', NULL, 0.00666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Simond', 'M', NULL, 0.00480769230769231, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Simonde', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Simonus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Simund', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Sitric', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Sleimhne', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Smalepaidge', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Smith', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Solitude', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Solomon', 'M', NULL, 0.0206715570927606, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Solomon', 'M', NULL, 0.015873015873016, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Solomon', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Southey', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Sparke', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Spencer', 'M', NULL, 0.00966183574879227, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Sperling', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('St. Leger', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Stanislaus', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Steaven', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Stephan', 'M', NULL, 0.036363636363636, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Stephan', 'M', NULL, 0.00353107344632768, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Stephanus', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Stephanus', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Stephanus', 'M', NULL, 0.00423728813559322, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Stephen', 'M', NULL, 0.0144927536231884, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Stephen', 'M', NULL, 0.0351203451863236, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Stephen', 'M', NULL, 0.103174603174603, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Stephen', 'M', NULL, 0.00399733510992672, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Stephen', 'M', NULL, 0.0171703296703297, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Stephen', 'M', NULL, 0.022196261682243, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Stephen', 'M', NULL, 0.0261243311199967, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Stephen', 'M', 19, 0.397214318458218, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Stephenus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Steven', 'M', NULL, 0.0125714285714286, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Steven', 'M', NULL, 0.00732844770153231, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Steven', 'M', NULL, 0.00721153846153846, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Steven', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Stevene', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Stevens', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Stevenson', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Stevin', 'M', NULL, 0.021739130434783, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Stiven', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Stoffel', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Stoote', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Straßburg', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Stuttgart', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Stven', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Suibne', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Swinburne', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Swithin', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Symon', 'M', NULL, 0.142857142857143, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Symon', 'M', NULL, 0.0033311125916056, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Symon', 'M', NULL, 0.00206043956043956, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Symon', 'M', NULL, 0.214285714285714, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Symon', 'M', NULL, 0.016348773841962, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Symond', 'M', NULL, 0.00399733510992672, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Symond', 'M', NULL, 0.00206043956043956, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Symone', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Symonns', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Symont', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Symont', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Symonte', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Symsone', 'M', NULL, 0.001362397820163, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Sáerbrethach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Séigíne', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Tadc', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Tairdelbach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Tanaide', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Taute', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Taylor', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Tecklenburg', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Tedde', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Tedde', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Theobald', 'M', NULL, 0.015873015873016, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Theobald', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Theoderick', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Theodor', 'M', NULL, 0.00564971751412429, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Theodore', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Theodore', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Theodorick', 'M', NULL, 0.00966183574879227, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Theodorus', 'M', NULL, 0.00282485875706215, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Theodurus', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Theophile', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Theophilus', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Theophilus', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Theophilus', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Thies', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Thimotheus', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Thom', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Thoma', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Thomam', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Thomas', 'M', NULL, 0.603864734299517, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Thomas', 'M', NULL, 0.139326467012989, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Thomas', 'M', NULL, 0.285714285714286, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Thomas', 'M', NULL, 0.339393939393939, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Thomas', 'M', NULL, 0.56, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Thomas', 'M', NULL, 0.656229180546302, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Thomas', 'M', NULL, 0.722527472527472, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Thomas', 'M', NULL, 0.644470404984424, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Thomas', 'M', NULL, 0.00918079096045198, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Thomas', 'M', NULL, 0.522640935683131, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Thomas', 'M', NULL, 0.5, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Thomas', 'M', NULL, 0.375, 'SCOTLAND', '1400-01-01', '1500-01-01'),
+('Thomas', 'M', NULL, 0.321525885558583, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Thomas', 'M', NULL, 0.260869565217391, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('Thomas', 'M', NULL, 0.4, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Thomas', 'M', 3, 0.9025, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Thomass', 'M', NULL, 0.00446428571428571, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Thompson', 'M', NULL, 0.00155763239875389, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Thomson', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Thomtey', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Thöns', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Tigernán', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Timotheus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Timothie', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Timothy', 'M', NULL, 0.0148240334112742, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Timothy', 'M', NULL, 0.00171428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Timothy', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Timothy', 'M', NULL, 0.00274725274725275, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Timothy', 'M', NULL, 0.00700934579439252, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Timothy', 'M', NULL, 0.079371491074792, 'IRELAND', '1600-01-01', '1900-01-01'),
+('Timothy', 'M', 37, 0.157779214788227, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Tipraite', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Titus', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Titus', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Tobia', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Tobias', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Tobias', 'M', NULL, 0.00446428571428571, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Tobias', 'M', NULL, 0.00155763239875389, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Tobias', 'M', NULL, 0.00706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Tobias', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Tobie', 'M', NULL, 0.00457142857142857, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Tobie', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Tobie', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Tobit', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Tobius', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Toby', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Toby', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Tobyam', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Tobyas', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Tobye', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Tobyous', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Toly', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Tomás', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Townshend', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Tressach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Trestram', 'M', NULL, 0.00171428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Trestram', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Trinian', 'M', NULL, 0.00114285714285714, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Trinian', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Triny', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Tristaham', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Tristern', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Tristram', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Tristram', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Tristram', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Tristram', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Trollop', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Tuathal', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Tully', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Tunstall', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Tunstall', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Turbert', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Turstan', 'M', NULL, 0.012121212121212, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Tymothie', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Tymothie', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Tymothy', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Tymothy', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Tymothye', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Töns', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Uaithne', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Uetersen', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Ullrich', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Ulrich', 'M', NULL, 0.00282485875706215, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Umfray', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Umfrey', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Umfride', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Umphia', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Umphra', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Umphraie', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Umphray', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Umphray', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Umphriam', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Umphry', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Umstadt', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Urban', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Urbanus', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Uriah', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Ussan', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Uswald', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Uswald', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Uswalde', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Uswand', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Uswenn', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Uswould', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Utred', 'M', NULL, 0.018181818181818, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Uyltjes', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Uyster', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Valantine', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Valentin', 'M', NULL, 0.0105932203389831, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Valentina', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Valentine', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Valentine', 'M', NULL, 0.00171428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Valentine', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Valentine', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Valentine', 'M', NULL, 0.00194704049844237, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Valentine', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Vasie', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Vaughan', 'M', NULL, 0.00114285714285714, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Vaughan', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Vaysee', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Veit', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Victor', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Vincent', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Volentine', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Volkert', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Volkmar', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Voluntine', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Vyctoe', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Vyctoe', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Waide', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Walding', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Waleran', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Walkelin', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Walker', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Walker', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Wallace', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Walter', 'M', NULL, 0.0241545893719807, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Walter', 'M', NULL, 0.00699929774453628, 'AMERICA', '1750-01-01', '1810-01-01'),
+('Walter', 'M', NULL, 0.293650793650794, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Walter', 'M', NULL, 0.260606060606061, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Walter', 'M', NULL, 0.00685714285714286, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Walter', 'M', NULL, 0.0033311125916056, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Walter', 'M', NULL, 0.00309065934065934, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Walter', 'M', NULL, 0.00350467289719626, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Walter', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Walter', 'M', NULL, 0.357142857142857, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('Walter', 'M', NULL, 0.081743869209809, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('Walter', 'M', NULL, 0.075, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('Walter', 'M', 41, 0.128512156565103, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Walters', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Walterus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Walterus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Warham', 'M', NULL, 0.00966183574879227, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Warin', 'M', NULL, 0.031746031746032, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Water', 'M', NULL, 0.00266489007328448, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Water', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Wator', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Wemmer', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Wenzel', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Wenzeslaus', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Werner', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Westfalen', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Wetherell', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Weydefielde', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Weyer', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Whetly', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Whintinge', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Wholesome', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Wichard', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Wiggett', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Wiggett', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Wigham', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Wilelmus', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Wilfred', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Wilfred', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Wilfry', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Wilhelm', 'M', NULL, 0.117937853107345, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Wilhelmus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Wilhelmus', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Wilhelmus', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Wilhemas', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Wiliam', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Wilkinson', 'M', NULL, 0.00116822429906542, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Willa', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Willa', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Willaim', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Willans', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Willelmus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Willelmus', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Willem', 'M', NULL, 0.00282485875706215, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Willer', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Willer', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Willfrey', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Willhemus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Willi', 'M', NULL, 0.00532978014656895, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Willia', 'M', NULL, 0.00666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Willia', 'M', NULL, 0.00618131868131868, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('William', 'M', NULL, 0.85024154589372, 'AMERICA', '1600-01-01', '1750-01-01'),
+('William', 'M', NULL, 0.466516495768404, 'AMERICA', '1750-01-01', '1810-01-01'),
+('William', 'M', NULL, 1, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('William', 'M', NULL, 1, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('William', 'M', NULL, 0.652571428571429, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('William', 'M', NULL, 0.566289140572951, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('William', 'M', NULL, 0.664835164835165, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('William', 'M', NULL, 0.705607476635514, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('William', 'M', NULL, 0.34065111128257, 'IRELAND', '1600-01-01', '1900-01-01'),
+('William', 'M', NULL, 0.928571428571429, 'SCOTLAND', '1300-01-01', '1400-01-01'),
+('William', 'M', NULL, 0.75, 'SCOTLAND', '1400-01-01', '1500-01-01'),
+('William', 'M', NULL, 0.478201634877384, 'SCOTLAND', '1500-01-01', '1550-01-01'),
+('William', 'M', NULL, 0.391304347826087, 'SCOTLAND', '1590-01-01', '1610-01-01'),
+('William', 'M', NULL, 0.825, 'SCOTLAND', '1630-01-01', '1640-01-01'),
+('William', 'M', 1, 1, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Williams', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Williamus', 'M', NULL, 0.0033311125916056, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Williamus', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Willibrandt', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Willielg', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Willieling', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Willielmas', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Willielmus', 'M', NULL, 0.00137362637362637, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Willilam', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Willimus', 'M', NULL, 0.00199866755496336, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Willimus', 'M', NULL, 0.00137362637362637, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Willis', 'M', NULL, 0.00966183574879227, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Willmas', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Willmus', 'M', NULL, 0.00266489007328448, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Willmus', 'M', NULL, 0.00343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Willmus', 'M', NULL, 0.00155763239875389, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Willoughby', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Willus', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Willya', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Willya', 'M', NULL, 0.000686813186813187, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Willyam', 'M', NULL, 0.0639573617588275, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Willyam', 'M', NULL, 0.0182005494505495, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Willym', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Wilme', 'M', NULL, 0.00266489007328448, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Wilmus', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Wilmus', 'M', NULL, 0.00446428571428571, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Wilmus', 'M', NULL, 0.00350467289719626, 'ENGLAND', '1700-01-01', '1800-01-01'),
+('Wilson', 'M', NULL, 0.00966183574879227, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Wilsonn', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Wilton', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Wilya', 'M', NULL, 0.00171703296703297, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Wilyam', 'M', NULL, 0.00103021978021978, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Windischgrätz', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Wine', 'M', NULL, 0.000571428571428571, 'ENGLAND', '1495-01-01', '1650-01-01'),
+('Wine', 'M', NULL, 0.000666222518321119, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Wiscard', 'M', NULL, 0.006060606060606, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Withers', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Witherson', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Wny', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Wolf', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Wolfgang', 'M', NULL, 0.00141242937853107, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Wolfrat', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Wolraad', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Wychard', 'M', NULL, 0.018181818181818, 'ENGLAND', '1250-01-01', '1300-01-01'),
+('Wyll', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Wyllin', 'M', NULL, 0.00133244503664224, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Wyllm', 'M', NULL, 0.0213191205862758, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Wyllyam', 'M', NULL, 0.00466355762824783, 'ENGLAND', '1500-01-01', '1600-01-01'),
+('Wymark', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Wymer', 'M', NULL, 0.031746031746032, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Wymon', 'M', NULL, 0.007936507936508, 'ENGLAND', '1200-01-01', '1250-01-01'),
+('Württemberg', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Xaverius', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Zachariah', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Zacharias', 'M', NULL, 0.00494350282485876, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Zachary', 'M', NULL, 0.00483091787439613, 'AMERICA', '1600-01-01', '1750-01-01'),
+('Zachary', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Zaphnathpaaneah', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Zebulon', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Zephaniah', 'M', NULL, 0.002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('Zimri', 'M', NULL, 0.000343406593406593, 'ENGLAND', '1600-01-01', '1700-01-01'),
+('Zirke', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Zurishaddai', 'M', NULL, 0.0002, 'SCOTLAND', '1700-01-01', '1830-01-01'),
+('friedrich', 'M', NULL, 0.00282485875706215, 'GERMANY', '1600-01-01', '1800-01-01'),
+('l’Amour', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('und', 'M', NULL, 0.000706214689265537, 'GERMANY', '1600-01-01', '1800-01-01'),
+('Áed', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Áedgen', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Érennach', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Óengus', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Óenucán', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01'),
+('Ólchobar', 'M', NULL, 1, 'IRELAND', '400-01-01', '1100-01-01');
+
+INSERT INTO names_last (name, culture) VALUES
+('Aan', 'GERMANY'),
+('Abbott', 'SCOTLAND'),
+('Abel', 'GERMANY'),
+('Abel', 'SCOTLAND'),
+('Abell', 'GERMANY'),
+('Abercrombie', 'SCOTLAND'),
+('Abernethy', 'SCOTLAND'),
+('Able', 'GERMANY'),
+('Abraham', 'SCOTLAND'),
+('Ackermann', 'GERMANY'),
+('Adair', 'SCOTLAND'),
+('Adam', 'GERMANY'),
+('Adam', 'SCOTLAND'),
+('Adams', 'AMERICA'),
+('Adams', 'SCOTLAND'),
+('Adamson', 'SCOTLAND'),
+('Adamus', 'GERMANY'),
+('Addison', 'SCOTLAND'),
+('Adelaar', 'GERMANY'),
+('Adendorff', 'GERMANY'),
+('Adie', 'SCOTLAND'),
+('Adleda', 'GERMANY'),
+('Adé', 'GERMANY'),
+('Aegidius', 'GERMANY'),
+('Affleck', 'SCOTLAND'),
+('Agar', 'ENGLAND'),
+('Aggenbach', 'GERMANY'),
+('Agnew', 'SCOTLAND'),
+('Ahern', 'IRELAND'),
+('Ahlers', 'GERMANY'),
+('Ahmad', 'SCOTLAND'),
+('Ahmed', 'SCOTLAND'),
+('Aiken', 'SCOTLAND'),
+('Aikman', 'SCOTLAND'),
+('Ainslie', 'SCOTLAND'),
+('Aird', 'SCOTLAND'),
+('Airlie', 'SCOTLAND'),
+('Aitchison', 'SCOTLAND'),
+('Aitken', 'SCOTLAND'),
+('Aitkenhead', 'SCOTLAND'),
+('Aiton', 'SCOTLAND'),
+('Akers', 'ENGLAND'),
+('Akhtar', 'SCOTLAND'),
+('Albers', 'GERMANY'),
+('Albersen', 'GERMANY'),
+('Albert', 'GERMANY'),
+('Alberti', 'GERMANY'),
+('Alberts', 'GERMANY'),
+('Albrecht', 'GERMANY'),
+('Albrink', 'GERMANY'),
+('Alcorn', 'SCOTLAND'),
+('Aldikoten', 'GERMANY'),
+('Aldridge', 'SCOTLAND'),
+('Alexander', 'SCOTLAND'),
+('Alfken', 'GERMANY'),
+('Ali', 'SCOTLAND'),
+('Aling', 'GERMANY'),
+('Allan', 'SCOTLAND'),
+('Allardice', 'SCOTLAND'),
+('Allardyce', 'SCOTLAND'),
+('Allemann', 'GERMANY'),
+('Allen', 'AMERICA'),
+('Allen', 'ENGLAND'),
+('Allen', 'SCOTLAND'),
+('Allison', 'SCOTLAND'),
+('Alsing', 'GERMANY'),
+('Alston', 'SCOTLAND'),
+('Alt', 'GERMANY'),
+('Alten', 'GERMANY'),
+('Altenstedt', 'GERMANY'),
+('Althöffer', 'GERMANY'),
+('Alton', 'IRELAND'),
+('Ameen', 'GERMANY'),
+('Ameester', 'GERMANY'),
+('Amelung', 'GERMANY'),
+('Amos', 'SCOTLAND'),
+('Anderson', 'AMERICA'),
+('Anderson', 'GERMANY'),
+('Anderson', 'SCOTLAND'),
+('Andreas', 'GERMANY'),
+('Andresen', 'GERMANY'),
+('Andressen', 'GERMANY'),
+('Andrew', 'SCOTLAND'),
+('Andrews', 'ENGLAND'),
+('Andrews', 'SCOTLAND'),
+('Andries', 'GERMANY'),
+('Andriesen', 'GERMANY'),
+('André', 'GERMANY'),
+('Angerspach', 'GERMANY'),
+('Anglin', 'IRELAND'),
+('Angus', 'SCOTLAND'),
+('Anhuyser', 'GERMANY'),
+('Anhäuser', 'GERMANY'),
+('Annand', 'SCOTLAND'),
+('Anreith', 'GERMANY'),
+('Anschütz', 'GERMANY'),
+('Anspach', 'GERMANY'),
+('Ansz', 'GERMANY'),
+('Anthony', 'SCOTLAND'),
+('Appleby', 'ENGLAND'),
+('Aprath', 'GERMANY'),
+('Arbuckle', 'SCOTLAND'),
+('Archer', 'SCOTLAND'),
+('Archibald', 'SCOTLAND'),
+('Arends', 'GERMANY'),
+('Arensen', 'GERMANY'),
+('Arlt', 'GERMANY'),
+('Armbrecht', 'GERMANY'),
+('Armit', 'SCOTLAND'),
+('Armitage', 'SCOTLAND'),
+('Armour', 'SCOTLAND'),
+('Armstrong', 'SCOTLAND'),
+('Arndt', 'GERMANY'),
+('Arnold', 'ENGLAND'),
+('Arnold', 'GERMANY'),
+('Arnold', 'SCOTLAND'),
+('Arnot', 'SCOTLAND'),
+('Arnott', 'SCOTLAND'),
+('Arthur', 'SCOTLAND'),
+('Asbeck', 'GERMANY'),
+('Asch', 'GERMANY'),
+('Ashcroft', 'SCOTLAND'),
+('Ashe', 'IRELAND'),
+('Ashe', 'SCOTLAND'),
+('Asher', 'SCOTLAND'),
+('Ashton', 'SCOTLAND'),
+('Asmus', 'GERMANY'),
+('Atherton', 'SCOTLAND'),
+('Atkins', 'SCOTLAND'),
+('Atkinson', 'SCOTLAND'),
+('Atleda', 'GERMANY'),
+('Atterton', 'ENGLAND'),
+('Attler', 'GERMANY'),
+('Attwood', 'ENGLAND'),
+('Aucamp', 'GERMANY'),
+('Auchterlonie', 'SCOTLAND'),
+('Auermann', 'GERMANY'),
+('Auernhammer', 'GERMANY'),
+('Auge', 'GERMANY'),
+('Augsburg', 'GERMANY'),
+('Auke', 'GERMANY'),
+('Auld', 'SCOTLAND'),
+('Ausserhoffer', 'GERMANY'),
+('Austin', 'SCOTLAND'),
+('Autenriet', 'GERMANY'),
+('Ayles', 'ENGLAND'),
+('BUDEWIlZ', 'GERMANY'),
+('Baag', 'GERMANY'),
+('Baard', 'GERMANY'),
+('Baartmann', 'GERMANY'),
+('Baarts', 'GERMANY'),
+('Baartz', 'GERMANY'),
+('Baatemann', 'GERMANY'),
+('Bach', 'GERMANY'),
+('Backemeyer', 'GERMANY'),
+('Backer', 'GERMANY'),
+('Backhus', 'GERMANY'),
+('Badenhorst', 'GERMANY'),
+('Baernse', 'GERMANY'),
+('Bagen', 'GERMANY'),
+('Baggot', 'IRELAND'),
+('Bahrens', 'GERMANY'),
+('Bailey', 'SCOTLAND'),
+('Baillie', 'SCOTLAND'),
+('Bain', 'SCOTLAND'),
+('Baird', 'SCOTLAND'),
+('Baker', 'AMERICA'),
+('Baker', 'ENGLAND'),
+('Baker', 'SCOTLAND'),
+('Bald', 'SCOTLAND'),
+('Balder', 'GERMANY'),
+('Baldinger', 'GERMANY'),
+('Balduin', 'GERMANY'),
+('Baldwin', 'ENGLAND'),
+('Baldwin', 'SCOTLAND'),
+('Balfour', 'ENGLAND'),
+('Balfour', 'SCOTLAND'),
+('Balhorn', 'GERMANY'),
+('Ball', 'AMERICA'),
+('Ball', 'SCOTLAND'),
+('Ballantine', 'SCOTLAND'),
+('Ballantyne', 'SCOTLAND'),
+('Ballingall', 'SCOTLAND'),
+('Balloch', 'SCOTLAND'),
+('Ballot', 'GERMANY'),
+('Balmer', 'SCOTLAND'),
+('Bamber', 'ENGLAND'),
+('Bamm', 'GERMANY'),
+('Bamst', 'GERMANY'),
+('Bandel', 'GERMANY'),
+('Bandik', 'GERMANY'),
+('Banfield', 'ENGLAND'),
+('Banks', 'SCOTLAND'),
+('Bannatyne', 'SCOTLAND'),
+('Bannerman', 'ENGLAND'),
+('Bannerman', 'SCOTLAND'),
+('Bannhardt', 'GERMANY'),
+('Bannist', 'GERMANY'),
+('Baptie', 'SCOTLAND'),
+('Baptista', 'GERMANY'),
+('Barber', 'ENGLAND'),
+('Barber', 'SCOTLAND'),
+('Barbour', 'SCOTLAND'),
+('Barchfeld', 'GERMANY'),
+('Barck', 'GERMANY'),
+('Barclay', 'SCOTLAND'),
+('Barend', 'GERMANY'),
+('Barends', 'GERMANY'),
+('Barents', 'GERMANY'),
+('Bargmann', 'GERMANY'),
+('Bark', 'GERMANY'),
+('Barker', 'SCOTLAND'),
+('Barkhusen', 'GERMANY'),
+('Barkhuysen', 'GERMANY'),
+('Barlee', 'ENGLAND'),
+('Barlon', 'GERMANY'),
+('Barlow', 'SCOTLAND'),
+('Barnard', 'GERMANY'),
+('Barnes', 'AMERICA'),
+('Barnes', 'ENGLAND'),
+('Barnes', 'SCOTLAND'),
+('Barnet', 'ENGLAND'),
+('Barnett', 'SCOTLAND'),
+('Barr', 'SCOTLAND'),
+('Barrett', 'SCOTLAND'),
+('Barrie', 'SCOTLAND'),
+('Barrington', 'ENGLAND'),
+('Barron', 'SCOTLAND'),
+('Barrowman', 'SCOTLAND'),
+('Barry', 'IRELAND'),
+('Barry', 'SCOTLAND'),
+('Bartels', 'GERMANY'),
+('Barth', 'GERMANY'),
+('Barthel', 'GERMANY'),
+('Bartholomei', 'GERMANY'),
+('Bartlett', 'ENGLAND'),
+('Bartlett', 'SCOTLAND'),
+('Bartmeyer', 'GERMANY'),
+('Barton', 'ENGLAND'),
+('Barton', 'SCOTLAND'),
+('Bartwedel', 'GERMANY'),
+('Bastable', 'ENGLAND'),
+('Batchelor', 'SCOTLAND'),
+('Bateman', 'SCOTLAND'),
+('Bates', 'SCOTLAND'),
+('Bathgate', 'SCOTLAND'),
+('Batty', 'SCOTLAND'),
+('Bauer', 'GERMANY'),
+('Bauermeister', 'GERMANY'),
+('Bauld', 'SCOTLAND'),
+('Baumann', 'GERMANY'),
+('Baumeister', 'GERMANY'),
+('Baumgarten', 'GERMANY'),
+('Baumgartner', 'GERMANY'),
+('Bauters', 'GERMANY'),
+('Baxter', 'ENGLAND'),
+('Baxter', 'SCOTLAND'),
+('Bayer', 'GERMANY'),
+('Bayne', 'SCOTLAND'),
+('Beall', 'AMERICA'),
+('Beaton', 'SCOTLAND'),
+('Beatson', 'SCOTLAND'),
+('Beattie', 'SCOTLAND'),
+('Beauchamp', 'ENGLAND'),
+('Beaumont', 'ENGLAND'),
+('Beaupre', 'ENGLAND'),
+('Bebber', 'GERMANY'),
+('Bebler', 'GERMANY'),
+('Bechtel', 'GERMANY'),
+('Beck', 'GERMANY'),
+('Beck', 'SCOTLAND'),
+('Becker', 'GERMANY'),
+('Beckett', 'SCOTLAND'),
+('Beckmann', 'GERMANY'),
+('Bedecker', 'GERMANY'),
+('Bedeker', 'GERMANY'),
+('Beech', 'SCOTLAND'),
+('Beedie', 'SCOTLAND'),
+('Beem', 'GERMANY'),
+('Beeme', 'GERMANY'),
+('Beems', 'GERMANY'),
+('Been', 'GERMANY'),
+('Beene', 'GERMANY'),
+('Beer', 'GERMANY'),
+('Beesler', 'GERMANY'),
+('Beetge', 'GERMANY'),
+('Beets', 'GERMANY'),
+('Begainen', 'GERMANY'),
+('Begbie', 'SCOTLAND'),
+('Begel', 'GERMANY'),
+('Begg', 'SCOTLAND'),
+('Beggs', 'SCOTLAND'),
+('Begley', 'SCOTLAND'),
+('Behme', 'GERMANY'),
+('Behnke', 'GERMANY'),
+('Behr', 'GERMANY'),
+('Behrends', 'GERMANY'),
+('Behrens', 'GERMANY'),
+('Bek', 'GERMANY'),
+('Bell', 'ENGLAND'),
+('Bell', 'GERMANY'),
+('Bell', 'SCOTLAND'),
+('Belswender', 'GERMANY'),
+('Benade', 'GERMANY'),
+('Bend', 'GERMANY'),
+('Bender', 'GERMANY'),
+('Bendfeldt', 'GERMANY'),
+('Beneke', 'GERMANY'),
+('Benekendorf', 'GERMANY'),
+('Benicke', 'GERMANY'),
+('Benkes', 'GERMANY'),
+('Bennade', 'GERMANY'),
+('Bennet', 'SCOTLAND'),
+('Bennett', 'SCOTLAND'),
+('Bennie', 'SCOTLAND'),
+('Benning', 'ENGLAND'),
+('Benning', 'GERMANY'),
+('Benninghoff', 'GERMANY'),
+('Benrath', 'GERMANY'),
+('Bensing', 'GERMANY'),
+('Benson', 'SCOTLAND'),
+('Bent', 'GERMANY'),
+('Benter', 'GERMANY'),
+('Bentley', 'SCOTLAND'),
+('Bentrim', 'GERMANY'),
+('Benzie', 'SCOTLAND'),
+('Berck', 'GERMANY'),
+('Berden', 'GERMANY'),
+('Berendorf', 'GERMANY'),
+('Berends', 'GERMANY'),
+('Berendt', 'GERMANY'),
+('Beresford', 'SCOTLAND'),
+('Beressom', 'GERMANY'),
+('Berg', 'GERMANY'),
+('Bergfeld', 'GERMANY'),
+('Bergmann', 'GERMANY'),
+('Bergmeyer', 'GERMANY'),
+('Berkman', 'GERMANY'),
+('Berkmann', 'GERMANY'),
+('Berkon', 'GERMANY'),
+('Berkorn', 'GERMANY'),
+('Berlin', 'GERMANY'),
+('Bermingham', 'IRELAND'),
+('Bernard', 'GERMANY'),
+('Bernard', 'SCOTLAND'),
+('Bernau', 'GERMANY'),
+('Berndt', 'GERMANY'),
+('Bernhard', 'GERMANY'),
+('Bernhardi', 'GERMANY'),
+('Bernhardt', 'GERMANY'),
+('Bernick', 'IRELAND'),
+('Berning', 'GERMANY'),
+('Bernst', 'GERMANY'),
+('Bernszen', 'GERMANY'),
+('Berrie', 'SCOTLAND'),
+('Berry', 'AMERICA'),
+('Berry', 'SCOTLAND'),
+('Berthold', 'GERMANY'),
+('Bertram', 'GERMANY'),
+('Bertram', 'SCOTLAND'),
+('Berwick', 'SCOTLAND'),
+('Besekow', 'GERMANY'),
+('Beseler', 'GERMANY'),
+('Besser', 'GERMANY'),
+('Best', 'SCOTLAND'),
+('Bestbier', 'GERMANY'),
+('Bester', 'GERMANY'),
+('Bestmann', 'GERMANY'),
+('Beständig', 'GERMANY'),
+('Betenstein', 'GERMANY'),
+('Betger', 'GERMANY'),
+('Bethune', 'SCOTLAND'),
+('Bett', 'SCOTLAND'),
+('Bettenhausen', 'GERMANY'),
+('Beu', 'GERMANY'),
+('Beugel', 'GERMANY'),
+('Beuker', 'GERMANY'),
+('Beukers', 'GERMANY'),
+('Beukes', 'GERMANY'),
+('Beukman', 'GERMANY'),
+('Beukmann', 'GERMANY'),
+('Beus', 'GERMANY'),
+('Beust', 'GERMANY'),
+('Beusz', 'GERMANY'),
+('Beutler', 'GERMANY'),
+('Beuttel', 'GERMANY'),
+('Beveridge', 'SCOTLAND'),
+('Bews', 'SCOTLAND'),
+('Beyer', 'GERMANY'),
+('Beyers', 'GERMANY'),
+('Beytel', 'GERMANY'),
+('Bibi', 'SCOTLAND'),
+('Biccard', 'GERMANY'),
+('Bicker', 'GERMANY'),
+('Bideker', 'GERMANY'),
+('Biebow', 'GERMANY'),
+('Biegling', 'GERMANY'),
+('Biehof', 'GERMANY'),
+('Biel', 'GERMANY'),
+('Bielefeld', 'GERMANY'),
+('Bielefeldt', 'GERMANY'),
+('Bieler', 'GERMANY'),
+('Biermann', 'GERMANY'),
+('Bierwaert', 'GERMANY'),
+('Biggar', 'SCOTLAND'),
+('Biggins', 'SCOTLAND'),
+('Bilsland', 'SCOTLAND'),
+('Binder', 'GERMANY'),
+('Bingham', 'SCOTLAND'),
+('Binnie', 'SCOTLAND'),
+('Binning', 'GERMANY'),
+('Binnink', 'GERMANY'),
+('Birch', 'SCOTLAND'),
+('Bird', 'SCOTLAND'),
+('Birks', 'ENGLAND'),
+('Birnbaum', 'GERMANY'),
+('Birnie', 'SCOTLAND'),
+('Birrell', 'SCOTLAND'),
+('Birse', 'SCOTLAND'),
+('Bischoff', 'GERMANY'),
+('Bishop', 'ENGLAND'),
+('Bishop', 'SCOTLAND'),
+('Bisset', 'SCOTLAND'),
+('Bissett', 'SCOTLAND'),
+('Bissinger', 'GERMANY'),
+('Bitner', 'GERMANY'),
+('Bittelmeyer', 'GERMANY'),
+('Black', 'SCOTLAND'),
+('Blackburn', 'SCOTLAND'),
+('Blackhall', 'SCOTLAND'),
+('Blackie', 'SCOTLAND'),
+('Blacklaw', 'SCOTLAND'),
+('Blackley', 'SCOTLAND'),
+('Blacklock', 'SCOTLAND'),
+('Blackmore', 'ENGLAND'),
+('Blackmore', 'SCOTLAND'),
+('Blackstock', 'SCOTLAND'),
+('Blackwood', 'SCOTLAND'),
+('Blades', 'SCOTLAND'),
+('Blaikie', 'SCOTLAND'),
+('Blain', 'SCOTLAND'),
+('Blair', 'SCOTLAND'),
+('Blake', 'SCOTLAND'),
+('Blakey', 'SCOTLAND'),
+('Blanck', 'GERMANY'),
+('Blanckenberg', 'GERMANY'),
+('Blaney', 'SCOTLAND'),
+('Blasius', 'GERMANY'),
+('Blass', 'GERMANY'),
+('Blatt', 'GERMANY'),
+('Blattmann', 'GERMANY'),
+('Blauel', 'GERMANY'),
+('Blechschmidt', 'GERMANY'),
+('Bleibel', 'GERMANY'),
+('Blesse', 'GERMANY'),
+('Blesser', 'GERMANY'),
+('Blessing', 'GERMANY'),
+('Blettermann', 'GERMANY'),
+('Bleumer', 'GERMANY'),
+('Bleute', 'GERMANY'),
+('Blidau', 'GERMANY'),
+('Blimlein', 'GERMANY'),
+('Blom', 'GERMANY'),
+('Blomendaal', 'GERMANY'),
+('Blomendahl', 'GERMANY'),
+('Blue', 'SCOTLAND'),
+('Blues', 'SCOTLAND'),
+('Blum', 'GERMANY'),
+('Blumenau', 'GERMANY'),
+('Blumendahl', 'GERMANY'),
+('Blyth', 'SCOTLAND'),
+('Blösser', 'GERMANY'),
+('Boag', 'SCOTLAND'),
+('Boath', 'SCOTLAND'),
+('Bock', 'GERMANY'),
+('Bockelberg', 'GERMANY'),
+('Bockhorn', 'GERMANY'),
+('Bode', 'GERMANY'),
+('Bodenstein', 'GERMANY'),
+('Bodewig', 'GERMANY'),
+('Bodin', 'GERMANY'),
+('Boek', 'GERMANY'),
+('Boerlage', 'GERMANY'),
+('Boetendag', 'GERMANY'),
+('Bogel', 'GERMANY'),
+('Bogle', 'SCOTLAND'),
+('Bohl', 'GERMANY'),
+('Boland', 'SCOTLAND'),
+('Bolder', 'GERMANY'),
+('Bolkmann', 'GERMANY'),
+('Bolland', 'SCOTLAND'),
+('Bolle', 'GERMANY'),
+('Bolt', 'ENGLAND'),
+('Bolte', 'GERMANY'),
+('Bolton', 'ENGLAND'),
+('Bolton', 'SCOTLAND'),
+('Bomhauer', 'GERMANY'),
+('Bonar', 'SCOTLAND'),
+('Bond', 'ENGLAND'),
+('Bond', 'SCOTLAND'),
+('Bone', 'SCOTLAND'),
+('Bongard', 'GERMANY'),
+('Bonk', 'GERMANY'),
+('Bonnar', 'SCOTLAND'),
+('Bonner', 'SCOTLAND'),
+('Bonning', 'GERMANY'),
+('Bonninng', 'GERMANY'),
+('Bonte', 'GERMANY'),
+('Boog', 'GERMANY'),
+('Boomgaard', 'GERMANY'),
+('Boon', 'GERMANY'),
+('Boone', 'GERMANY'),
+('Boosen', 'GERMANY'),
+('Booth', 'ENGLAND'),
+('Booth', 'SCOTLAND'),
+('Booy', 'GERMANY'),
+('Booysen', 'GERMANY'),
+('Bopp', 'GERMANY'),
+('Boran', 'IRELAND'),
+('Borcherdt', 'GERMANY'),
+('Borchert', 'GERMANY'),
+('Borcherts', 'GERMANY'),
+('Bordenkamp', 'GERMANY'),
+('Borels', 'GERMANY'),
+('Borg', 'GERMANY'),
+('Borgers', 'GERMANY'),
+('Borgwedel', 'GERMANY'),
+('Borland', 'SCOTLAND'),
+('Bormann', 'GERMANY'),
+('Bornmann', 'GERMANY'),
+('Borstelmann', 'GERMANY'),
+('Borthwick', 'SCOTLAND'),
+('Bosch', 'GERMANY'),
+('Boscher', 'GERMANY'),
+('Bose', 'GERMANY'),
+('Bosselmann', 'GERMANY'),
+('Bosser', 'GERMANY'),
+('Bossert', 'GERMANY'),
+('Boswell', 'SCOTLAND'),
+('Botger', 'GERMANY'),
+('Both', 'GERMANY'),
+('Botha', 'GERMANY'),
+('Bott', 'GERMANY'),
+('Botte', 'GERMANY'),
+('Boucher', 'GERMANY'),
+('Boudewyn', 'GERMANY'),
+('Bouker', 'GERMANY'),
+('Bouman', 'GERMANY'),
+('Bourk', 'IRELAND'),
+('Bourke', 'IRELAND'),
+('Bouter', 'GERMANY'),
+('Bouwer', 'GERMANY'),
+('Bow', 'SCOTLAND'),
+('Bowden', 'SCOTLAND'),
+('Bowen', 'SCOTLAND'),
+('Bower', 'SCOTLAND'),
+('Bowes', 'SCOTLAND'),
+('Bowie', 'SCOTLAND'),
+('Bowitz', 'GERMANY'),
+('Bowles', 'ENGLAND'),
+('Bowman', 'SCOTLAND'),
+('Boyan', 'IRELAND'),
+('Boyce', 'SCOTLAND'),
+('Boyd', 'SCOTLAND'),
+('Boyden', 'ENGLAND'),
+('Boye', 'GERMANY'),
+('Boyes', 'SCOTLAND'),
+('Boylan', 'SCOTLAND'),
+('Boyle', 'ENGLAND'),
+('Boyle', 'SCOTLAND'),
+('Brack', 'GERMANY'),
+('Brackenridge', 'SCOTLAND'),
+('Bradberry', 'ENGLAND'),
+('Bradford', 'SCOTLAND'),
+('Bradley', 'SCOTLAND'),
+('Bradshaw', 'SCOTLAND'),
+('Brady', 'SCOTLAND'),
+('Bragg', 'ENGLAND'),
+('Bragt', 'GERMANY'),
+('Braid', 'SCOTLAND'),
+('Braidwood', 'SCOTLAND'),
+('Brand', 'GERMANY'),
+('Brand', 'SCOTLAND'),
+('Brandes', 'GERMANY'),
+('Brannan', 'SCOTLAND'),
+('Brannigan', 'SCOTLAND'),
+('Brannon', 'IRELAND'),
+('Brasberg', 'GERMANY'),
+('Brash', 'SCOTLAND'),
+('Brauch', 'GERMANY'),
+('Brauenholz', 'GERMANY'),
+('Brauer', 'GERMANY'),
+('Braukelhoff', 'GERMANY'),
+('Braumeissel', 'GERMANY'),
+('Braun', 'GERMANY'),
+('Braune', 'GERMANY'),
+('Brauns', 'GERMANY'),
+('Brawley', 'SCOTLAND'),
+('Bray', 'SCOTLAND'),
+('Brean', 'IRELAND'),
+('Brebner', 'SCOTLAND'),
+('Brechin', 'SCOTLAND'),
+('Breckenridge', 'SCOTLAND'),
+('Bredenhahn', 'GERMANY'),
+('Bredenkamp', 'GERMANY'),
+('Breemen', 'GERMANY'),
+('Breen', 'IRELAND'),
+('Breen', 'SCOTLAND'),
+('Breewer', 'GERMANY'),
+('Brehmer', 'GERMANY'),
+('Breiger', 'GERMANY'),
+('Breitenbach', 'GERMANY'),
+('Breitenkamp', 'GERMANY'),
+('Breitschuh', 'GERMANY'),
+('Bremeke', 'GERMANY'),
+('Bremer', 'GERMANY'),
+('Bremicker', 'GERMANY'),
+('Bremner', 'SCOTLAND'),
+('Bremreurden', 'GERMANY'),
+('Brenan', 'IRELAND'),
+('Brende', 'GERMANY'),
+('Brendeenwörder', 'GERMANY'),
+('Brendenhorder', 'GERMANY'),
+('Brendenvörder', 'GERMANY'),
+('Brennan', 'IRELAND'),
+('Brennan', 'SCOTLAND'),
+('Brenne', 'GERMANY'),
+('Brenneke', 'GERMANY'),
+('Brenner', 'GERMANY'),
+('Brenniker', 'GERMANY'),
+('Brereton', 'ENGLAND'),
+('Bresler', 'GERMANY'),
+('Breslin', 'SCOTLAND'),
+('Bretenkamp', 'GERMANY'),
+('Brett', 'ENGLAND'),
+('Brett', 'SCOTLAND'),
+('Breul', 'GERMANY'),
+('Breuning', 'GERMANY'),
+('Brewes', 'GERMANY'),
+('Brewits', 'GERMANY'),
+('Brewster', 'SCOTLAND'),
+('Breyer', 'GERMANY'),
+('Brian', 'IRELAND'),
+('Bridges', 'SCOTLAND'),
+('Briedenhan', 'GERMANY'),
+('Briel', 'GERMANY'),
+('Brien', 'IRELAND'),
+('Briene', 'GERMANY'),
+('Brieshaber', 'GERMANY'),
+('Briggs', 'ENGLAND'),
+('Briggs', 'SCOTLAND'),
+('Bright', 'SCOTLAND'),
+('Brill', 'GERMANY'),
+('Brink', 'GERMANY'),
+('Brinkmann', 'GERMANY'),
+('Brion', 'IRELAND'),
+('Brisbane', 'SCOTLAND'),
+('Brits', 'GERMANY'),
+('Brittain', 'SCOTLAND'),
+('Britton', 'ENGLAND'),
+('Britton', 'SCOTLAND'),
+('Broadfoot', 'SCOTLAND'),
+('Broadley', 'SCOTLAND'),
+('Brochterop', 'GERMANY'),
+('Brock', 'SCOTLAND'),
+('Brockie', 'SCOTLAND'),
+('Broderick', 'IRELAND'),
+('Broders', 'GERMANY'),
+('Brodersen', 'GERMANY'),
+('Brodie', 'SCOTLAND'),
+('Brodrick', 'IRELAND'),
+('Brodtrück', 'GERMANY'),
+('Broedersz', 'GERMANY'),
+('Broeker', 'GERMANY'),
+('Broekhuysen', 'GERMANY'),
+('Broekmann', 'GERMANY'),
+('Broen', 'GERMANY'),
+('Broens', 'GERMANY'),
+('Broest', 'GERMANY'),
+('Brogan', 'SCOTLAND'),
+('Brolly', 'SCOTLAND'),
+('Broman', 'IRELAND'),
+('Bromke', 'GERMANY'),
+('Bron', 'GERMANY'),
+('Bronkhorst', 'GERMANY'),
+('Bronn', 'GERMANY'),
+('Brons', 'GERMANY'),
+('Broodryk', 'GERMANY'),
+('Brooke', 'AMERICA'),
+('Brooks', 'ENGLAND'),
+('Brooks', 'SCOTLAND'),
+('Brosman', 'IRELAND'),
+('Brotherston', 'SCOTLAND'),
+('Broudo', 'GERMANY'),
+('Brough', 'SCOTLAND'),
+('Brouwenhout', 'GERMANY'),
+('Brouwer', 'GERMANY'),
+('Brown', 'ENGLAND'),
+('Brown', 'SCOTLAND'),
+('Browne', 'AMERICA'),
+('Browne', 'SCOTLAND'),
+('Browning', 'ENGLAND'),
+('Browning', 'SCOTLAND'),
+('Brownlee', 'SCOTLAND'),
+('Brownlie', 'SCOTLAND'),
+('Brownlow', 'ENGLAND'),
+('Bruce', 'SCOTLAND'),
+('Bruckheiser', 'GERMANY'),
+('Bruckmann', 'GERMANY'),
+('Bruhn', 'GERMANY'),
+('Bruhns', 'GERMANY'),
+('Bruns', 'GERMANY'),
+('Brunton', 'SCOTLAND'),
+('Brustmann', 'GERMANY'),
+('Bruyn', 'GERMANY'),
+('Bruyns', 'GERMANY'),
+('Bryan', 'IRELAND'),
+('Bryan', 'SCOTLAND'),
+('Bryant', 'SCOTLAND'),
+('Bryce', 'SCOTLAND'),
+('Bryceland', 'SCOTLAND'),
+('Bryden', 'IRELAND'),
+('Bryden', 'SCOTLAND'),
+('Brydenhan', 'GERMANY'),
+('Brydon', 'SCOTLAND'),
+('Bryson', 'SCOTLAND'),
+('Brökelhoff', 'GERMANY'),
+('Brückner', 'GERMANY'),
+('Brüggemann', 'GERMANY'),
+('Brügmann', 'GERMANY'),
+('Brühl', 'GERMANY'),
+('Brümmer', 'GERMANY'),
+('Brüning', 'GERMANY'),
+('Brünner', 'GERMANY'),
+('Brünning', 'GERMANY'),
+('Buchan', 'SCOTLAND'),
+('Buchanan', 'SCOTLAND'),
+('Buck', 'GERMANY'),
+('Bucke', 'IRELAND'),
+('Buckenham', 'ENGLAND'),
+('Buckley', 'IRELAND'),
+('Buckley', 'SCOTLAND'),
+('Buckly', 'IRELAND'),
+('Buckner', 'AMERICA'),
+('Buckworth', 'ENGLAND'),
+('Budge', 'SCOTLAND'),
+('Buick', 'SCOTLAND'),
+('Buissiné', 'GERMANY'),
+('Buist', 'SCOTLAND'),
+('Buitendag', 'GERMANY'),
+('Bulger', 'IRELAND'),
+('Bulle', 'GERMANY'),
+('Bullner', 'GERMANY'),
+('Bulloch', 'SCOTLAND'),
+('Bulter', 'GERMANY'),
+('Bunning', 'GERMANY'),
+('Buntin', 'SCOTLAND'),
+('Bunyan', 'SCOTLAND'),
+('Burch', 'AMERICA'),
+('Burcherdt', 'GERMANY'),
+('Burck', 'IRELAND'),
+('Burden', 'SCOTLAND'),
+('Burg', 'GERMANY'),
+('Burger', 'GERMANY'),
+('Burgert', 'GERMANY'),
+('Burgess', 'AMERICA'),
+('Burgess', 'SCOTLAND'),
+('Burgoyne', 'SCOTLAND'),
+('Burk', 'ENGLAND'),
+('Burk', 'IRELAND'),
+('Burke', 'IRELAND'),
+('Burke', 'SCOTLAND'),
+('Burn', 'SCOTLAND'),
+('Burnett', 'SCOTLAND'),
+('Burns', 'SCOTLAND'),
+('Burnside', 'SCOTLAND'),
+('Burr', 'SCOTLAND'),
+('Burrell', 'SCOTLAND'),
+('Burrows', 'SCOTLAND'),
+('Burry', 'IRELAND'),
+('Burt', 'SCOTLAND'),
+('Burton', 'SCOTLAND'),
+('Burz', 'GERMANY'),
+('Busby', 'SCOTLAND'),
+('Busch', 'GERMANY'),
+('Busche', 'GERMANY'),
+('Busselmann', 'GERMANY'),
+('Butchart', 'SCOTLAND'),
+('Butcher', 'ENGLAND'),
+('Butcher', 'SCOTLAND'),
+('Butendach', 'GERMANY'),
+('Butendag', 'GERMANY'),
+('Butger', 'GERMANY'),
+('Butler', 'AMERICA'),
+('Butler', 'ENGLAND'),
+('Butler', 'SCOTLAND'),
+('Buttinghausen', 'GERMANY'),
+('Buurman', 'GERMANY'),
+('Buxmann', 'GERMANY'),
+('Buxton', 'ENGLAND'),
+('Buyk', 'GERMANY'),
+('Buys', 'GERMANY'),
+('Buytendag', 'GERMANY'),
+('Byers', 'SCOTLAND'),
+('Byrd', 'ENGLAND'),
+('Byrn', 'IRELAND'),
+('Byrne', 'IRELAND'),
+('Byrne', 'SCOTLAND'),
+('Byrnes', 'IRELAND'),
+('Bähr', 'GERMANY'),
+('Bärens', 'GERMANY'),
+('Bätger', 'GERMANY'),
+('Böcher', 'GERMANY'),
+('Böckmann', 'GERMANY'),
+('Bödecker', 'GERMANY'),
+('Böhme', 'GERMANY'),
+('Böhmer', 'GERMANY'),
+('Bör', 'GERMANY'),
+('Börschmann', 'GERMANY'),
+('Bösenberg', 'GERMANY'),
+('Bössinger', 'GERMANY'),
+('Böttger', 'GERMANY'),
+('Böttiger', 'GERMANY'),
+('Büchel', 'GERMANY'),
+('Büchler', 'GERMANY'),
+('Büchner', 'GERMANY'),
+('Bühl', 'GERMANY'),
+('Bünding', 'GERMANY'),
+('Bünning', 'GERMANY'),
+('Bürger', 'GERMANY'),
+('Bürgert', 'GERMANY'),
+('Büttner', 'GERMANY'),
+('Cabe', 'IRELAND'),
+('Cadden', 'SCOTLAND'),
+('Caddy', 'ENGLAND'),
+('Cadger', 'SCOTLAND'),
+('Cady', 'IRELAND'),
+('Caffrey', 'IRELAND'),
+('Cahill', 'IRELAND'),
+('Cahill', 'SCOTLAND'),
+('Cain', 'SCOTLAND'),
+('Caird', 'SCOTLAND'),
+('Cairney', 'SCOTLAND'),
+('Cairnie', 'SCOTLAND'),
+('Cairns', 'SCOTLAND'),
+('Calaghan', 'IRELAND'),
+('Calahan', 'IRELAND'),
+('Calden', 'IRELAND'),
+('Calder', 'SCOTLAND'),
+('Calderwood', 'SCOTLAND'),
+('Caldow', 'SCOTLAND'),
+('Caldwell', 'SCOTLAND'),
+('Calitz', 'GERMANY'),
+('Callagan', 'IRELAND'),
+('Callaghan', 'IRELAND'),
+('Callaghan', 'SCOTLAND'),
+('Callaham', 'IRELAND'),
+('Callahan', 'IRELAND'),
+('Callan', 'SCOTLAND'),
+('Callander', 'SCOTLAND'),
+('Calleghan', 'IRELAND'),
+('Calnan', 'IRELAND'),
+('Calnon', 'IRELAND'),
+('Calteyer', 'GERMANY'),
+('Calthorpe', 'ENGLAND'),
+('Calvert', 'SCOTLAND'),
+('Camerling', 'GERMANY'),
+('Cameron', 'SCOTLAND'),
+('Cameynske', 'GERMANY'),
+('Cammann', 'GERMANY'),
+('Campbell', 'ENGLAND'),
+('Campbell', 'SCOTLAND'),
+('Campfer', 'GERMANY'),
+('Canavan', 'SCOTLAND'),
+('Candlish', 'SCOTLAND'),
+('Candon', 'IRELAND'),
+('Caney', 'ENGLAND'),
+('Canner', 'IRELAND'),
+('Canning', 'SCOTLAND'),
+('Cannon', 'SCOTLAND'),
+('Cant', 'SCOTLAND'),
+('Canty', 'IRELAND'),
+('Cantz', 'GERMANY'),
+('Carberry', 'SCOTLAND'),
+('Carby', 'IRELAND'),
+('Carchaut', 'GERMANY'),
+('Cardno', 'SCOTLAND'),
+('Carels', 'GERMANY'),
+('Carey', 'SCOTLAND'),
+('Cargill', 'SCOTLAND'),
+('Carinus', 'GERMANY'),
+('Carius', 'GERMANY'),
+('Carl', 'GERMANY'),
+('Carle', 'SCOTLAND'),
+('Carlin', 'SCOTLAND'),
+('Carlowitz', 'GERMANY'),
+('Carlton', 'SCOTLAND'),
+('Carlyle', 'SCOTLAND'),
+('Carmichael', 'SCOTLAND'),
+('Carmody', 'IRELAND'),
+('Carnegie', 'SCOTLAND'),
+('Carney', 'IRELAND'),
+('Carney', 'SCOTLAND'),
+('Carnie', 'SCOTLAND'),
+('Carnochan', 'SCOTLAND'),
+('Carnspek', 'GERMANY'),
+('Caroets', 'GERMANY'),
+('Caron', 'IRELAND'),
+('Carpenter', 'SCOTLAND'),
+('Carr', 'SCOTLAND'),
+('Carrel', 'IRELAND'),
+('Carrell', 'IRELAND'),
+('Carrick', 'SCOTLAND'),
+('Carrie', 'SCOTLAND'),
+('Carrigan', 'IRELAND'),
+('Carrigan', 'SCOTLAND'),
+('Carrol', 'IRELAND'),
+('Carroll', 'IRELAND'),
+('Carroll', 'SCOTLAND'),
+('Carruth', 'SCOTLAND'),
+('Carruthers', 'SCOTLAND'),
+('Carse', 'SCOTLAND'),
+('Carson', 'SCOTLAND'),
+('Carsouw', 'GERMANY'),
+('Carstairs', 'SCOTLAND'),
+('Carstens', 'GERMANY'),
+('Carswell', 'SCOTLAND'),
+('Carter', 'AMERICA'),
+('Carter', 'ENGLAND'),
+('Carter', 'SCOTLAND'),
+('Carthy', 'IRELAND'),
+('Cartwright', 'SCOTLAND'),
+('Carty', 'IRELAND'),
+('Carty', 'SCOTLAND'),
+('Casey', 'IRELAND'),
+('Casey', 'SCOTLAND'),
+('Caspars', 'GERMANY'),
+('Caspary', 'GERMANY'),
+('Caspers', 'GERMANY'),
+('Cassel', 'GERMANY'),
+('Cassells', 'SCOTLAND'),
+('Cassels', 'SCOTLAND'),
+('Cassidy', 'IRELAND'),
+('Cassidy', 'SCOTLAND'),
+('Cassie', 'SCOTLAND'),
+('Castello', 'IRELAND'),
+('Castle', 'SCOTLAND'),
+('Caston', 'ENGLAND'),
+('Catenbrink', 'GERMANY'),
+('Cathcart', 'SCOTLAND'),
+('Cathey', 'IRELAND'),
+('Cathro', 'SCOTLAND'),
+('Cattanach', 'SCOTLAND'),
+('Catterson', 'SCOTLAND'),
+('Catto', 'SCOTLAND'),
+('Caulfield', 'IRELAND'),
+('Caulfield', 'SCOTLAND'),
+('Cavanagh', 'IRELAND'),
+('Cavanagh', 'SCOTLAND'),
+('Caven', 'SCOTLAND'),
+('Caveney', 'IRELAND'),
+('Caverus', 'GERMANY'),
+('Cerff', 'GERMANY'),
+('Ceune', 'GERMANY'),
+('Chalmers', 'SCOTLAND'),
+('Chamberlain', 'ENGLAND'),
+('Chamberlain', 'SCOTLAND'),
+('Chambers', 'SCOTLAND'),
+('Chan', 'SCOTLAND'),
+('Chant', 'ENGLAND'),
+('Chaplin', 'ENGLAND'),
+('Chapman', 'ENGLAND'),
+('Chapman', 'SCOTLAND'),
+('Chapuset', 'GERMANY'),
+('Charles', 'SCOTLAND'),
+('Charll', 'GERMANY'),
+('Charlton', 'SCOTLAND'),
+('Chelyn', 'GERMANY'),
+('Cheney', 'ENGLAND'),
+('Cherrie', 'SCOTLAND'),
+('Cherry', 'SCOTLAND'),
+('Cheyne', 'SCOTLAND'),
+('Chiron', 'GERMANY'),
+('Chisholm', 'SCOTLAND'),
+('Christens', 'GERMANY'),
+('Christian', 'GERMANY'),
+('Christiansen', 'GERMANY'),
+('Christie', 'SCOTLAND'),
+('Christison', 'SCOTLAND'),
+('Christoffels', 'GERMANY'),
+('Chrystal', 'SCOTLAND'),
+('Chung', 'SCOTLAND'),
+('Church', 'SCOTLAND'),
+('Cimale', 'GERMANY'),
+('Cina', 'GERMANY'),
+('Claas', 'GERMANY'),
+('Claasen', 'GERMANY'),
+('Claaszen', 'GERMANY'),
+('Clancy', 'IRELAND'),
+('Clancy', 'SCOTLAND'),
+('Clank', 'GERMANY'),
+('Clapperton', 'SCOTLAND'),
+('Clarius', 'GERMANY'),
+('Clark', 'ENGLAND'),
+('Clark', 'SCOTLAND'),
+('Clarke', 'AMERICA'),
+('Clarke', 'ENGLAND'),
+('Clarke', 'SCOTLAND'),
+('Clarkson', 'SCOTLAND'),
+('Clasz', 'GERMANY'),
+('Claszen', 'GERMANY'),
+('Claudius', 'GERMANY'),
+('Clausen', 'GERMANY'),
+('Clauszen', 'GERMANY'),
+('Claxton', 'ENGLAND'),
+('Claybrook', 'ENGLAND'),
+('Clayton', 'SCOTLAND'),
+('Cleary', 'IRELAND'),
+('Cleary', 'SCOTLAND'),
+('Clebe', 'GERMANY'),
+('Cleef', 'GERMANY'),
+('Cleeve', 'GERMANY'),
+('Clegg', 'SCOTLAND'),
+('Cleghorn', 'SCOTLAND'),
+('Clein', 'GERMANY'),
+('Cleland', 'SCOTLAND'),
+('Clelland', 'SCOTLAND'),
+('Clement', 'SCOTLAND'),
+('Clements', 'SCOTLAND'),
+('Clifford', 'SCOTLAND'),
+('Cline', 'IRELAND'),
+('Clinton', 'SCOTLAND'),
+('Cloetas', 'GERMANY'),
+('Cloete', 'GERMANY'),
+('Clopton', 'ENGLAND'),
+('Close', 'SCOTLAND'),
+('Cloudsley', 'ENGLAND'),
+('Clubb', 'SCOTLAND'),
+('Cluett', 'ENGLAND'),
+('Clunie', 'SCOTLAND'),
+('Clyde', 'SCOTLAND'),
+('Coakley', 'IRELAND'),
+('Coates', 'SCOTLAND'),
+('Coats', 'SCOTLAND'),
+('Cobb', 'SCOTLAND'),
+('Cobban', 'SCOTLAND'),
+('Coburn', 'SCOTLAND'),
+('Cobus', 'GERMANY'),
+('Cochran', 'SCOTLAND'),
+('Cochrane', 'SCOTLAND'),
+('Cockburn', 'SCOTLAND'),
+('Cocker', 'SCOTLAND'),
+('Cockeran', 'IRELAND'),
+('Cocklin', 'IRELAND'),
+('Cockling', 'IRELAND'),
+('Cockran', 'IRELAND'),
+('Cody', 'IRELAND'),
+('Coeder', 'GERMANY'),
+('Coeleke', 'GERMANY'),
+('Coelike', 'GERMANY'),
+('Coelke', 'GERMANY'),
+('Coene', 'GERMANY'),
+('Coert', 'GERMANY'),
+('Coertse', 'GERMANY'),
+('Coertze', 'GERMANY'),
+('Coetser', 'GERMANY'),
+('Coffee', 'IRELAND'),
+('Coffey', 'IRELAND'),
+('Coffey', 'SCOTLAND'),
+('Coghill', 'SCOTLAND'),
+('Coghlan', 'IRELAND'),
+('Coglin', 'IRELAND'),
+('Coia', 'SCOTLAND'),
+('Cok', 'GERMANY'),
+('Cokely', 'IRELAND'),
+('Colborne', 'ENGLAND'),
+('Cole', 'SCOTLAND'),
+('Coleman', 'SCOTLAND'),
+('Coles', 'SCOTLAND'),
+('Colgan', 'SCOTLAND'),
+('Coll', 'SCOTLAND'),
+('Collenaar', 'GERMANY'),
+('Collenkerk', 'GERMANY'),
+('Collie', 'SCOTLAND'),
+('Collier', 'SCOTLAND'),
+('Colligan', 'IRELAND'),
+('Colligan', 'SCOTLAND'),
+('Collins', 'SCOTLAND'),
+('Colman', 'ENGLAND'),
+('Colman', 'SCOTLAND'),
+('Colquhoun', 'SCOTLAND'),
+('Colston', 'SCOTLAND'),
+('Colte', 'GERMANY'),
+('Colthart', 'SCOTLAND'),
+('Colville', 'SCOTLAND'),
+('Colvin', 'SCOTLAND'),
+('Combe', 'SCOTLAND'),
+('Combrink', 'GERMANY'),
+('Comerford', 'ENGLAND'),
+('Comrie', 'SCOTLAND'),
+('Conaghan', 'SCOTLAND'),
+('Conard', 'IRELAND'),
+('Conden', 'IRELAND'),
+('Condie', 'SCOTLAND'),
+('Condon', 'IRELAND'),
+('Conley', 'IRELAND'),
+('Conlin', 'SCOTLAND'),
+('Conlon', 'SCOTLAND'),
+('Conn', 'SCOTLAND'),
+('Connall', 'IRELAND'),
+('Connel', 'IRELAND'),
+('Connell', 'IRELAND'),
+('Connell', 'SCOTLAND'),
+('Connelly', 'IRELAND'),
+('Connelly', 'SCOTLAND'),
+('Conner', 'IRELAND'),
+('Conner', 'SCOTLAND'),
+('Conners', 'IRELAND'),
+('Connolly', 'IRELAND'),
+('Connolly', 'SCOTLAND'),
+('Connon', 'SCOTLAND'),
+('Connor', 'IRELAND'),
+('Connor', 'SCOTLAND'),
+('Connors', 'IRELAND'),
+('Conolly', 'ENGLAND'),
+('Conolly', 'IRELAND'),
+('Conoly', 'IRELAND'),
+('Conor', 'IRELAND'),
+('Conrad', 'GERMANY'),
+('Conradi', 'GERMANY'),
+('Conrady', 'GERMANY'),
+('Conroy', 'IRELAND'),
+('Conroy', 'SCOTLAND'),
+('Consen', 'GERMANY'),
+('Conterman', 'GERMANY'),
+('Contermann', 'GERMANY'),
+('Convery', 'SCOTLAND'),
+('Conway', 'SCOTLAND'),
+('Cook', 'ENGLAND'),
+('Cook', 'SCOTLAND'),
+('Cooke', 'AMERICA'),
+('Cooke', 'ENGLAND'),
+('Cooke', 'SCOTLAND'),
+('Coombs', 'ENGLAND'),
+('Cooney', 'IRELAND'),
+('Cooney', 'SCOTLAND'),
+('Cooper', 'ENGLAND'),
+('Cooper', 'SCOTLAND'),
+('Coorengel', 'GERMANY'),
+('Coort', 'GERMANY'),
+('Cop', 'GERMANY'),
+('Copeland', 'SCOTLAND'),
+('Copland', 'SCOTLAND'),
+('Corbach', 'GERMANY'),
+('Corbett', 'SCOTLAND'),
+('Corbitt', 'ENGLAND'),
+('Corcoran', 'SCOTLAND'),
+('Cordiner', 'SCOTLAND'),
+('Corey', 'IRELAND'),
+('Corley', 'IRELAND'),
+('Cormack', 'SCOTLAND'),
+('Cornelisz', 'GERMANY'),
+('Cornelsen', 'GERMANY'),
+('Corner', 'SCOTLAND'),
+('Corpus', 'GERMANY'),
+('Corr', 'SCOTLAND'),
+('Corrigan', 'SCOTLAND'),
+('Cors', 'GERMANY'),
+('Corson', 'SCOTLAND'),
+('Corst', 'GERMANY'),
+('Cort', 'GERMANY'),
+('Cortejaic', 'GERMANY'),
+('Cory', 'ENGLAND'),
+('Cosgrove', 'SCOTLAND'),
+('Cossar', 'SCOTLAND'),
+('Costello', 'IRELAND'),
+('Costello', 'SCOTLAND'),
+('Cotter', 'IRELAND'),
+('Cotts', 'ENGLAND'),
+('Coughlan', 'IRELAND'),
+('Coughlin', 'IRELAND'),
+('Coull', 'SCOTLAND'),
+('Coulter', 'IRELAND'),
+('Coulter', 'SCOTLAND'),
+('Coultry', 'ENGLAND'),
+('Couper', 'SCOTLAND'),
+('Courtilliat', 'GERMANY'),
+('Courtney', 'SCOTLAND'),
+('Coutts', 'SCOTLAND'),
+('Coventry', 'SCOTLAND'),
+('Cowan', 'SCOTLAND'),
+('Cowe', 'SCOTLAND'),
+('Cowie', 'SCOTLAND'),
+('Cowley', 'SCOTLAND'),
+('Cowper', 'SCOTLAND'),
+('Cox', 'AMERICA'),
+('Cox', 'SCOTLAND'),
+('Coyle', 'IRELAND'),
+('Coyle', 'SCOTLAND'),
+('Coyne', 'SCOTLAND'),
+('Craa', 'GERMANY'),
+('Craay', 'GERMANY'),
+('Crahl', 'GERMANY'),
+('Craib', 'SCOTLAND'),
+('Craig', 'SCOTLAND'),
+('Craigie', 'SCOTLAND'),
+('Craik', 'SCOTLAND'),
+('Cramb', 'SCOTLAND'),
+('Cramer', 'GERMANY'),
+('Crampton', 'ENGLAND'),
+('Crane', 'SCOTLAND'),
+('Crans', 'GERMANY'),
+('Cranston', 'SCOTLAND'),
+('Crauford', 'ENGLAND'),
+('Crause', 'GERMANY'),
+('Craw', 'SCOTLAND'),
+('Crawford', 'SCOTLAND'),
+('Crawley', 'IRELAND'),
+('Crawley', 'SCOTLAND'),
+('Crawly', 'IRELAND'),
+('Cray', 'GERMANY'),
+('Creagh', 'IRELAND'),
+('Creassey', 'ENGLAND'),
+('Cree', 'SCOTLAND'),
+('Creighton', 'SCOTLAND'),
+('Crerar', 'SCOTLAND'),
+('Crew', 'ENGLAND'),
+('Creytsberg', 'GERMANY'),
+('Crichton', 'SCOTLAND'),
+('Crienitz', 'GERMANY'),
+('Crighton', 'SCOTLAND'),
+('Crilly', 'SCOTLAND'),
+('Croft', 'SCOTLAND'),
+('Croll', 'SCOTLAND'),
+('Cromar', 'SCOTLAND'),
+('Crombie', 'GERMANY'),
+('Crombie', 'SCOTLAND'),
+('Cronan', 'IRELAND'),
+('Crone', 'IRELAND'),
+('Cronen', 'IRELAND'),
+('Cronin', 'IRELAND'),
+('Crook', 'SCOTLAND'),
+('Crooks', 'SCOTLAND'),
+('Crookston', 'SCOTLAND'),
+('Croon', 'GERMANY'),
+('Cropius', 'GERMANY'),
+('Crosbie', 'SCOTLAND'),
+('Cross', 'SCOTLAND'),
+('Crossan', 'SCOTLAND'),
+('Crossley', 'SCOTLAND'),
+('Croukamp', 'GERMANY'),
+('Crow', 'SCOTLAND'),
+('Crowe', 'SCOTLAND'),
+('Crowley', 'IRELAND'),
+('Crowly', 'IRELAND'),
+('Crozier', 'SCOTLAND'),
+('Cruden', 'SCOTLAND'),
+('Crudhoff', 'GERMANY'),
+('Crudop', 'GERMANY'),
+('Cruickshank', 'SCOTLAND'),
+('Cruickshanks', 'SCOTLAND'),
+('Cruse', 'GERMANY'),
+('Crutzman', 'GERMANY'),
+('Cruydhoff', 'GERMANY'),
+('Cruythoff', 'GERMANY'),
+('Cull', 'ENGLAND'),
+('Cull', 'SCOTLAND'),
+('Cullen', 'SCOTLAND'),
+('Cullham', 'ENGLAND'),
+('Culmer', 'GERMANY'),
+('Cumming', 'SCOTLAND'),
+('Cummings', 'SCOTLAND'),
+('Cunningham', 'SCOTLAND'),
+('Curley', 'IRELAND'),
+('Curley', 'SCOTLAND'),
+('Curran', 'IRELAND'),
+('Curran', 'SCOTLAND'),
+('Currie', 'SCOTLAND'),
+('Currin', 'IRELAND'),
+('Curtis', 'ENGLAND'),
+('Curtis', 'SCOTLAND'),
+('Cusack', 'IRELAND'),
+('Cusee', 'GERMANY'),
+('Cushen', 'IRELAND'),
+('Cushnie', 'SCOTLAND'),
+('Cusick', 'SCOTLAND'),
+('Cussen', 'IRELAND'),
+('Cuthbert', 'SCOTLAND'),
+('Cuthbertson', 'SCOTLAND'),
+('Cuthill', 'SCOTLAND'),
+('D''Arcy', 'SCOTLAND'),
+('DECKERICk', 'GERMANY'),
+('Daams', 'GERMANY'),
+('Daby', 'IRELAND'),
+('Dace', 'IRELAND'),
+('Dacey', 'IRELAND'),
+('Dailey', 'IRELAND'),
+('Dailly', 'SCOTLAND'),
+('Daisley', 'SCOTLAND'),
+('Dalbeck', 'GERMANY'),
+('Dale', 'SCOTLAND'),
+('Daleney', 'IRELAND'),
+('Daley', 'IRELAND'),
+('Dalgarno', 'SCOTLAND'),
+('Dalgleish', 'SCOTLAND'),
+('Dalgué', 'GERMANY'),
+('Dall', 'SCOTLAND'),
+('Dallas', 'SCOTLAND'),
+('Dalling', 'SCOTLAND'),
+('Dalrymple', 'SCOTLAND'),
+('Dalton', 'ENGLAND'),
+('Dalton', 'SCOTLAND'),
+('Daly', 'IRELAND'),
+('Daly', 'SCOTLAND'),
+('Dalziel', 'SCOTLAND'),
+('Damberger', 'GERMANY'),
+('Damlos', 'GERMANY'),
+('Dammann', 'GERMANY'),
+('Daniel', 'GERMANY'),
+('Daniel', 'SCOTLAND'),
+('Daniels', 'GERMANY'),
+('Daniels', 'SCOTLAND'),
+('Dannenberg', 'GERMANY'),
+('Dannhauser', 'GERMANY'),
+('Dannys', 'GERMANY'),
+('Danthu', 'GERMANY'),
+('Darcy', 'IRELAND'),
+('Darey', 'IRELAND'),
+('Darge', 'GERMANY'),
+('Darley', 'IRELAND'),
+('Darling', 'SCOTLAND'),
+('Darrie', 'GERMANY'),
+('Darroch', 'SCOTLAND'),
+('Daser', 'GERMANY'),
+('Dau', 'GERMANY'),
+('Dauber', 'GERMANY'),
+('Daun', 'IRELAND'),
+('Davel', 'GERMANY'),
+('Davenraad', 'GERMANY'),
+('Davenraat', 'GERMANY'),
+('Davey', 'SCOTLAND'),
+('Davids', 'GERMANY'),
+('Davidson', 'SCOTLAND'),
+('Davie', 'SCOTLAND'),
+('Davies', 'SCOTLAND'),
+('Davis', 'AMERICA'),
+('Davis', 'ENGLAND'),
+('Davis', 'SCOTLAND'),
+('Davison', 'SCOTLAND'),
+('Daw', 'ENGLAND'),
+('Dawson', 'SCOTLAND'),
+('Day', 'SCOTLAND'),
+('Deacon', 'SCOTLAND'),
+('Deady', 'IRELAND'),
+('Dealy', 'IRELAND'),
+('Dean', 'ENGLAND'),
+('Dean', 'SCOTLAND'),
+('Deans', 'SCOTLAND'),
+('Dearie', 'SCOTLAND'),
+('Deary', 'SCOTLAND'),
+('Deas', 'SCOTLAND'),
+('Debes', 'GERMANY'),
+('Decker', 'GERMANY'),
+('Deckmann', 'GERMANY'),
+('Deedel', 'GERMANY'),
+('Deeg', 'GERMANY'),
+('Deele', 'GERMANY'),
+('Deeney', 'SCOTLAND'),
+('Deere', 'GERMANY'),
+('Deffner', 'GERMANY'),
+('Degeler', 'GERMANY'),
+('Degener', 'GERMANY'),
+('Degenhardt', 'GERMANY'),
+('Degnan', 'SCOTLAND'),
+('Deichardt', 'GERMANY'),
+('Deichmann', 'GERMANY'),
+('Deighan', 'SCOTLAND'),
+('Deimeling', 'GERMANY'),
+('Deimling', 'GERMANY'),
+('Deinen', 'GERMANY'),
+('Deinhard', 'GERMANY'),
+('Deitzel', 'GERMANY'),
+('Dekenah', 'GERMANY'),
+('Delaney', 'IRELAND'),
+('Delaney', 'SCOTLAND'),
+('Delany', 'IRELAND'),
+('Delay', 'IRELAND'),
+('Delits', 'GERMANY'),
+('Delitzsch', 'GERMANY'),
+('Dell', 'GERMANY'),
+('Dellinger', 'GERMANY'),
+('Dempsey', 'SCOTLAND'),
+('Dempster', 'SCOTLAND'),
+('Denham', 'SCOTLAND'),
+('Denholm', 'SCOTLAND'),
+('Denner', 'GERMANY'),
+('Dennert', 'GERMANY'),
+('Denni', 'GERMANY'),
+('Dennis', 'ENGLAND'),
+('Dennison', 'SCOTLAND'),
+('Denny', 'SCOTLAND'),
+('Denoon', 'SCOTLAND'),
+('Dent', 'AMERICA'),
+('Depner', 'GERMANY'),
+('Dercksen', 'GERMANY'),
+('Derrick', 'SCOTLAND'),
+('Derrie', 'GERMANY'),
+('Derveling', 'GERMANY'),
+('Desch', 'GERMANY'),
+('Desmond', 'IRELAND'),
+('Detken', 'GERMANY'),
+('Detlefs', 'GERMANY'),
+('Detles', 'GERMANY'),
+('Deuchars', 'SCOTLAND'),
+('Deuf', 'GERMANY'),
+('Devaney', 'SCOTLAND'),
+('Devenney', 'SCOTLAND'),
+('Devine', 'SCOTLAND'),
+('Devlin', 'SCOTLAND'),
+('Dewar', 'SCOTLAND'),
+('Dey', 'SCOTLAND'),
+('Deyssel', 'GERMANY'),
+('Diack', 'SCOTLAND'),
+('Diamond', 'SCOTLAND'),
+('Dick', 'SCOTLAND'),
+('Dickert', 'GERMANY'),
+('Dickie', 'SCOTLAND'),
+('Dickinson', 'SCOTLAND'),
+('Dickson', 'SCOTLAND'),
+('Dieckmann', 'GERMANY'),
+('Diedeloff', 'GERMANY'),
+('Diedrich', 'GERMANY'),
+('Diedrichs', 'GERMANY'),
+('Dieffenbacher', 'GERMANY'),
+('Diehl', 'GERMANY'),
+('Diel', 'GERMANY'),
+('Dielmann', 'GERMANY'),
+('Diemer', 'GERMANY'),
+('Dienes', 'GERMANY'),
+('Diepenbruck', 'GERMANY'),
+('Diepenow', 'GERMANY'),
+('Diesel', 'GERMANY'),
+('Diestel', 'GERMANY'),
+('Diethoft', 'GERMANY'),
+('Dietleff', 'GERMANY'),
+('Dietloff', 'GERMANY'),
+('Dietz', 'GERMANY'),
+('Diezell', 'GERMANY'),
+('Dill', 'GERMANY'),
+('Dillemann', 'GERMANY'),
+('Dillmann', 'GERMANY'),
+('Dillon', 'IRELAND'),
+('Dillon', 'SCOTLAND'),
+('Dilsenach', 'GERMANY'),
+('Dimsey', 'IRELAND'),
+('Dingwall', 'SCOTLAND'),
+('Dippenaar', 'GERMANY'),
+('Dipping', 'GERMANY'),
+('Dirks', 'GERMANY'),
+('Dirksen', 'GERMANY'),
+('Disandt', 'GERMANY'),
+('Dissel', 'GERMANY'),
+('Dithoff', 'GERMANY'),
+('Ditmer', 'GERMANY'),
+('Ditter', 'GERMANY'),
+('Divers', 'SCOTLAND'),
+('Divine', 'IRELAND'),
+('Dix', 'ENGLAND'),
+('Dixon', 'SCOTLAND'),
+('Dobbie', 'SCOTLAND'),
+('Dobbin', 'SCOTLAND'),
+('Dobie', 'SCOTLAND'),
+('Dobson', 'SCOTLAND'),
+('Docherty', 'SCOTLAND'),
+('Dodd', 'SCOTLAND'),
+('Dodds', 'SCOTLAND'),
+('Dodge', 'ENGLAND'),
+('Dods', 'SCOTLAND'),
+('Doeksteen', 'GERMANY'),
+('Doering', 'GERMANY'),
+('Doherty', 'IRELAND'),
+('Doherty', 'SCOTLAND'),
+('Dohmen', 'GERMANY'),
+('Doig', 'SCOTLAND'),
+('Dolan', 'IRELAND'),
+('Dolan', 'SCOTLAND'),
+('Dolberg', 'GERMANY'),
+('Dolff', 'GERMANY'),
+('Doll', 'GERMANY'),
+('Dollfusz', 'GERMANY'),
+('Dolphin', 'IRELAND'),
+('Doman', 'GERMANY'),
+('Dombrosky', 'GERMANY'),
+('Doming', 'IRELAND'),
+('Don', 'SCOTLAND'),
+('Donachie', 'SCOTLAND'),
+('Donaghue', 'IRELAND'),
+('Donaghy', 'SCOTLAND'),
+('Donahough', 'IRELAND'),
+('Donahue', 'IRELAND'),
+('Donald', 'SCOTLAND'),
+('Donaldson', 'SCOTLAND'),
+('Donavan', 'IRELAND'),
+('Donavon', 'IRELAND'),
+('Donelly', 'IRELAND'),
+('Donerson', 'IRELAND'),
+('Donivan', 'IRELAND'),
+('Donkel', 'GERMANY'),
+('Donker', 'GERMANY'),
+('Donnachie', 'SCOTLAND'),
+('Donnan', 'SCOTLAND'),
+('Donne', 'GERMANY'),
+('Donnell', 'IRELAND'),
+('Donnelly', 'IRELAND'),
+('Donnelly', 'SCOTLAND'),
+('Donnovon', 'IRELAND'),
+('Donoghue', 'IRELAND'),
+('Donoghue', 'SCOTLAND'),
+('Donohew', 'IRELAND'),
+('Donohoe', 'IRELAND'),
+('Donohoe', 'SCOTLAND'),
+('Donohue', 'IRELAND'),
+('Donohugh', 'IRELAND'),
+('Donolly', 'IRELAND'),
+('Donovan', 'IRELAND'),
+('Doody', 'IRELAND'),
+('Doogan', 'SCOTLAND'),
+('Doolan', 'SCOTLAND'),
+('Dooley', 'SCOTLAND'),
+('Doonan', 'SCOTLAND'),
+('Doran', 'IRELAND'),
+('Doran', 'SCOTLAND'),
+('Dorans', 'SCOTLAND'),
+('Dorhagen', 'GERMANY'),
+('Doris', 'SCOTLAND'),
+('Dorman', 'SCOTLAND'),
+('Dormehl', 'GERMANY'),
+('Dornan', 'SCOTLAND'),
+('Dornheym', 'GERMANY'),
+('Dorrian', 'SCOTLAND'),
+('Dorsey', 'AMERICA'),
+('Dorsey', 'IRELAND'),
+('Dorward', 'SCOTLAND'),
+('Dougal', 'SCOTLAND'),
+('Dougall', 'SCOTLAND'),
+('Dougan', 'SCOTLAND'),
+('Dougart', 'GERMANY'),
+('Dougherty', 'SCOTLAND'),
+('Douglas', 'SCOTLAND'),
+('Douglass', 'AMERICA'),
+('Doull', 'SCOTLAND'),
+('Dow', 'SCOTLAND'),
+('Dowd', 'IRELAND'),
+('Dowding', 'ENGLAND'),
+('Dowds', 'SCOTLAND'),
+('Dowell', 'SCOTLAND'),
+('Dowie', 'SCOTLAND'),
+('Dowling', 'SCOTLAND'),
+('Dowman', 'IRELAND'),
+('Down', 'ENGLAND'),
+('Downey', 'IRELAND'),
+('Downie', 'SCOTLAND'),
+('Downs', 'SCOTLAND'),
+('Dowy', 'GERMANY'),
+('Doyle', 'ENGLAND'),
+('Doyle', 'IRELAND'),
+('Doyle', 'SCOTLAND'),
+('Draach', 'GERMANY'),
+('Drain', 'SCOTLAND'),
+('Drake', 'ENGLAND'),
+('Draudt', 'GERMANY'),
+('Dreebs', 'GERMANY'),
+('Drennan', 'SCOTLAND'),
+('Dretlenberg', 'GERMANY'),
+('Drever', 'SCOTLAND'),
+('Drew', 'ENGLAND'),
+('Drew', 'SCOTLAND'),
+('Drews', 'GERMANY'),
+('Dreyer', 'GERMANY'),
+('Driekes', 'GERMANY'),
+('Driscall', 'IRELAND'),
+('Driscol', 'IRELAND'),
+('Driscoll', 'IRELAND'),
+('Driskell', 'IRELAND'),
+('Dritselaar', 'GERMANY'),
+('Dritzler', 'GERMANY'),
+('Droskie', 'GERMANY'),
+('Drosky', 'GERMANY'),
+('Drummond', 'SCOTLAND'),
+('Drury', 'ENGLAND'),
+('Dryburgh', 'SCOTLAND'),
+('Dryden', 'SCOTLAND'),
+('Drysdale', 'SCOTLAND'),
+('Duby', 'IRELAND'),
+('Duderstadt', 'GERMANY'),
+('Dudes', 'ENGLAND'),
+('Dudgeon', 'SCOTLAND'),
+('Duff', 'SCOTLAND'),
+('Duffin', 'SCOTLAND'),
+('Duffus', 'SCOTLAND'),
+('Duffy', 'IRELAND'),
+('Duffy', 'SCOTLAND'),
+('Dugan', 'IRELAND'),
+('Duggan', 'IRELAND'),
+('Duggan', 'SCOTLAND'),
+('Duggins', 'IRELAND'),
+('Duguid', 'SCOTLAND'),
+('Duivenhage', 'GERMANY'),
+('Duke', 'SCOTLAND'),
+('Dunbar', 'SCOTLAND'),
+('Duncan', 'SCOTLAND'),
+('Duncanson', 'SCOTLAND'),
+('Duncker', 'GERMANY'),
+('Dundas', 'SCOTLAND'),
+('Dundon', 'IRELAND'),
+('Dunham', 'ENGLAND'),
+('Dunkel', 'GERMANY'),
+('Dunker', 'GERMANY'),
+('Dunlop', 'SCOTLAND'),
+('Dunn', 'ENGLAND'),
+('Dunn', 'SCOTLAND'),
+('Dunnachie', 'SCOTLAND'),
+('Dunne', 'IRELAND'),
+('Dunne', 'SCOTLAND'),
+('Dunnett', 'SCOTLAND'),
+('Dunsire', 'SCOTLAND'),
+('Dunsmore', 'SCOTLAND'),
+('Dunsmuir', 'SCOTLAND'),
+('Dunworth', 'IRELAND'),
+('Durham', 'SCOTLAND'),
+('Durie', 'SCOTLAND'),
+('Durkin', 'IRELAND'),
+('Durkin', 'SCOTLAND'),
+('Durno', 'SCOTLAND'),
+('Dusing', 'GERMANY'),
+('Duthie', 'SCOTLAND'),
+('Duvall', 'AMERICA'),
+('Duvenaar', 'GERMANY'),
+('Duvenhage', 'GERMANY'),
+('Duvinage', 'GERMANY'),
+('Duyf', 'GERMANY'),
+('Duymeling', 'GERMANY'),
+('Dwyer', 'IRELAND'),
+('Dyce', 'SCOTLAND'),
+('Dycker', 'ENGLAND'),
+('Dyer', 'SCOTLAND'),
+('Dyet', 'SCOTLAND'),
+('Dyke', 'ENGLAND'),
+('Dykes', 'SCOTLAND'),
+('Dykmann', 'GERMANY'),
+('Dymer', 'GERMANY'),
+('Dynhardt', 'GERMANY'),
+('Dölkers', 'GERMANY'),
+('Dörpfling', 'GERMANY'),
+('Dörr', 'GERMANY'),
+('Düring', 'GERMANY'),
+('Dürr', 'GERMANY'),
+('Düters', 'GERMANY'),
+('Düvell', 'GERMANY'),
+('Eadie', 'SCOTLAND'),
+('Eagan', 'IRELAND'),
+('Eaglesham', 'SCOTLAND'),
+('Eales', 'ENGLAND'),
+('Earl', 'SCOTLAND'),
+('Early', 'IRELAND'),
+('Easdale', 'SCOTLAND'),
+('Easson', 'SCOTLAND'),
+('Eastberry', 'ENGLAND'),
+('Eastgate', 'ENGLAND'),
+('Easton', 'SCOTLAND'),
+('Eaton', 'SCOTLAND'),
+('Eb', 'GERMANY'),
+('Ebeling', 'GERMANY'),
+('Eberhard', 'GERMANY'),
+('Eberhardt', 'GERMANY'),
+('Eccles', 'SCOTLAND'),
+('Eckardt', 'GERMANY'),
+('Eckhoff', 'GERMANY'),
+('Eckstein', 'GERMANY'),
+('Eddie', 'SCOTLAND'),
+('Edelen', 'AMERICA'),
+('Eden', 'GERMANY'),
+('Eden', 'SCOTLAND'),
+('Edgar', 'SCOTLAND'),
+('Edge', 'ENGLAND'),
+('Edmiston', 'SCOTLAND'),
+('Edmond', 'SCOTLAND'),
+('Edmonds', 'SCOTLAND'),
+('Edward', 'SCOTLAND'),
+('Edwards', 'AMERICA'),
+('Edwards', 'SCOTLAND'),
+('Eeder', 'GERMANY'),
+('Eekhof', 'GERMANY'),
+('Eens', 'GERMANY'),
+('Eerhardi', 'GERMANY'),
+('Eerlich', 'GERMANY'),
+('Eermeyer', 'GERMANY'),
+('Egan', 'IRELAND'),
+('Egan', 'SCOTLAND'),
+('Egerton', 'ENGLAND'),
+('Eggenstein', 'GERMANY'),
+('Eggertz', 'GERMANY'),
+('Ehlers', 'GERMANY'),
+('Ehrenfried', 'GERMANY'),
+('Ehrenkron', 'GERMANY'),
+('Ehrenkroon', 'GERMANY'),
+('Ehrentraut', 'GERMANY'),
+('Ehrlich', 'GERMANY'),
+('Ehrwien', 'GERMANY'),
+('Eilenfusz', 'GERMANY'),
+('Eilers', 'GERMANY'),
+('Eisele', 'GERMANY'),
+('Eisenlohr', 'GERMANY'),
+('Eisermann', 'GERMANY'),
+('Eisleben', 'GERMANY'),
+('Eitze', 'GERMANY'),
+('Eitzen', 'GERMANY'),
+('Ekhof', 'GERMANY'),
+('Ekkert', 'GERMANY'),
+('Eksteen', 'GERMANY'),
+('Eland', 'GERMANY'),
+('Elberts', 'GERMANY'),
+('Elden', 'ENGLAND'),
+('Elder', 'SCOTLAND'),
+('Elderts', 'GERMANY'),
+('Elendt', 'GERMANY'),
+('Elers', 'GERMANY'),
+('Elfers', 'GERMANY'),
+('Elias', 'GERMANY'),
+('Elkins', 'ENGLAND'),
+('Ellebrecht', 'GERMANY'),
+('Ellerbrock', 'GERMANY'),
+('Ellerbrook', 'GERMANY'),
+('Ellig', 'GERMANY'),
+('Elliot', 'SCOTLAND'),
+('Elliott', 'SCOTLAND'),
+('Ellis', 'ENGLAND'),
+('Ellis', 'SCOTLAND'),
+('Eloff', 'GERMANY'),
+('Elolff', 'GERMANY'),
+('Elrick', 'SCOTLAND'),
+('Els', 'GERMANY'),
+('Elsen', 'GERMANY'),
+('Elser', 'GERMANY'),
+('Elsing', 'GERMANY'),
+('Elst', 'GERMANY'),
+('Eltzner', 'GERMANY'),
+('Embsighoff', 'GERMANY'),
+('Emery', 'ENGLAND'),
+('Emmerson', 'ENGLAND'),
+('Emsighoff', 'GERMANY'),
+('Emslie', 'SCOTLAND'),
+('Ende', 'GERMANY'),
+('Endres', 'GERMANY'),
+('Enge', 'GERMANY'),
+('Engel', 'GERMANY'),
+('Engela', 'GERMANY'),
+('Engelbach', 'GERMANY'),
+('Engelbrecht', 'GERMANY'),
+('Engelhardt', 'GERMANY'),
+('Engels', 'GERMANY'),
+('English', 'SCOTLAND'),
+('Enright', 'IRELAND'),
+('Ens', 'GERMANY'),
+('Enslin', 'GERMANY'),
+('Epher', 'ENGLAND'),
+('Eppinghausen', 'GERMANY'),
+('Erasmus', 'GERMANY'),
+('Erbenich', 'GERMANY'),
+('Erdtmann', 'GERMANY'),
+('Erencroon', 'GERMANY'),
+('Erff', 'GERMANY'),
+('Erfurth', 'GERMANY'),
+('Erhard', 'GERMANY'),
+('Erinkrouwer', 'GERMANY'),
+('Ernst', 'GERMANY'),
+('Erskine', 'SCOTLAND'),
+('Erwee', 'GERMANY'),
+('Erwien', 'GERMANY'),
+('Esbeck', 'GERMANY'),
+('Escher', 'GERMANY'),
+('Esdoorn', 'GERMANY'),
+('Eskes', 'GERMANY'),
+('Espie', 'SCOTLAND'),
+('Esselaar', 'GERMANY'),
+('Esseling', 'GERMANY'),
+('Esslemont', 'SCOTLAND'),
+('Essmarch', 'GERMANY'),
+('Esson', 'SCOTLAND'),
+('Eszler', 'GERMANY'),
+('Etherson', 'SCOTLAND'),
+('Eunson', 'SCOTLAND'),
+('Eurg', 'GERMANY'),
+('Euston', 'ENGLAND'),
+('Euvert', 'GERMANY'),
+('Euvrard', 'GERMANY'),
+('Evans', 'AMERICA'),
+('Evans', 'SCOTLAND'),
+('Everett', 'SCOTLAND'),
+('Everitt', 'ENGLAND'),
+('Evers', 'GERMANY'),
+('Ewan', 'SCOTLAND'),
+('Ewart', 'SCOTLAND'),
+('Ewen', 'SCOTLAND'),
+('Ewig', 'GERMANY'),
+('Ewing', 'SCOTLAND'),
+('Exter', 'GERMANY'),
+('Eybers', 'GERMANY'),
+('Eykenstein', 'GERMANY'),
+('Eylert', 'GERMANY'),
+('Eyman', 'GERMANY'),
+('Eymann', 'GERMANY'),
+('Eyms', 'GERMANY'),
+('Eysele', 'GERMANY'),
+('Eyselege', 'GERMANY'),
+('Eyser', 'GERMANY'),
+('Eysermann', 'GERMANY'),
+('Eysing', 'GERMANY'),
+('Eyskamp', 'GERMANY'),
+('Eysmann', 'GERMANY'),
+('Faber', 'GERMANY'),
+('Fabian', 'GERMANY'),
+('Fabritius', 'GERMANY'),
+('Fagan', 'IRELAND'),
+('Fagan', 'SCOTLAND'),
+('Fagean', 'ENGLAND'),
+('Faichney', 'SCOTLAND'),
+('Fair', 'SCOTLAND'),
+('Fairbairn', 'SCOTLAND'),
+('Fairgrieve', 'SCOTLAND'),
+('Fairley', 'SCOTLAND'),
+('Fairlie', 'SCOTLAND'),
+('Fairweather', 'SCOTLAND'),
+('Falconer', 'SCOTLAND'),
+('Faley', 'IRELAND'),
+('Falje', 'GERMANY'),
+('Falk', 'GERMANY'),
+('Fallon', 'SCOTLAND'),
+('Farmer', 'SCOTLAND'),
+('Farquhar', 'SCOTLAND'),
+('Farquharson', 'SCOTLAND'),
+('Farrel', 'IRELAND'),
+('Farrell', 'IRELAND'),
+('Farrell', 'SCOTLAND'),
+('Farwell', 'ENGLAND'),
+('Fasig', 'GERMANY'),
+('Faszbenger', 'GERMANY'),
+('Faszberger', 'GERMANY'),
+('Faulds', 'SCOTLAND'),
+('Faures', 'GERMANY'),
+('Faustmann', 'GERMANY'),
+('Fawcett', 'SCOTLAND'),
+('Fay', 'GERMANY'),
+('Fearon', 'SCOTLAND'),
+('Fee', 'SCOTLAND'),
+('Feeney', 'SCOTLAND'),
+('Feeny', 'IRELAND'),
+('Fehrsen', 'GERMANY'),
+('Feigenbaum', 'GERMANY'),
+('Feigert', 'GERMANY'),
+('Feits', 'GERMANY'),
+('Feldmann', 'GERMANY'),
+('Fell', 'SCOTLAND'),
+('Fellner', 'GERMANY'),
+('Feltsmann', 'GERMANY'),
+('Fend', 'GERMANY'),
+('Fenton', 'SCOTLAND'),
+('Fenwick', 'SCOTLAND'),
+('Ferch', 'GERMANY'),
+('Feres', 'GERMANY'),
+('Fergus', 'SCOTLAND'),
+('Ferguson', 'SCOTLAND'),
+('Fergusson', 'SCOTLAND'),
+('Ferken', 'GERMANY'),
+('Fern', 'SCOTLAND'),
+('Fernholt', 'GERMANY'),
+('Fernie', 'SCOTLAND'),
+('Ferns', 'SCOTLAND'),
+('Fernside', 'ENGLAND'),
+('Ferrie', 'SCOTLAND'),
+('Ferrier', 'SCOTLAND'),
+('Ferries', 'SCOTLAND'),
+('Ferris', 'SCOTLAND'),
+('Ferry', 'SCOTLAND'),
+('Fesemeyer', 'GERMANY'),
+('Fettes', 'SCOTLAND'),
+('Feuell', 'GERMANY'),
+('Feyerabend', 'GERMANY'),
+('Feyl', 'GERMANY'),
+('Feyt', 'GERMANY'),
+('Fibig', 'GERMANY'),
+('Fichtener', 'GERMANY'),
+('Fick', 'GERMANY'),
+('Ficker', 'GERMANY'),
+('Fiddes', 'SCOTLAND'),
+('Fiegenheim', 'GERMANY'),
+('Field', 'SCOTLAND'),
+('Fierenstein', 'GERMANY'),
+('Fifett', 'ENGLAND'),
+('Filliol', 'ENGLAND'),
+('Finch', 'ENGLAND'),
+('Findlater', 'SCOTLAND'),
+('Findlay', 'SCOTLAND'),
+('Finegan', 'IRELAND'),
+('Finger', 'GERMANY'),
+('Fink', 'GERMANY'),
+('Finlay', 'SCOTLAND'),
+('Finlayson', 'SCOTLAND'),
+('Finn', 'IRELAND'),
+('Finn', 'SCOTLAND'),
+('Finney', 'SCOTLAND'),
+('Finnie', 'SCOTLAND'),
+('Finnigan', 'IRELAND'),
+('Finnigan', 'SCOTLAND'),
+('Firth', 'SCOTLAND'),
+('Fischer', 'GERMANY'),
+('Fisher', 'SCOTLAND'),
+('Fitton', 'IRELAND'),
+('Fitzgerald', 'ENGLAND'),
+('Fitzgerald', 'IRELAND'),
+('Fitzgerald', 'SCOTLAND'),
+('Fitzgibbon', 'IRELAND'),
+('Fitzmaurice', 'IRELAND'),
+('Fitzpatrick', 'SCOTLAND'),
+('Fitzroy', 'ENGLAND'),
+('Fitzsimmons', 'SCOTLAND'),
+('Fitzwilliam', 'ENGLAND'),
+('Flaherty', 'IRELAND'),
+('Flaherty', 'SCOTLAND'),
+('Flaming', 'GERMANY'),
+('Flamme', 'GERMANY'),
+('Flanagan', 'IRELAND'),
+('Flanagan', 'SCOTLAND'),
+('Flanders', 'ENGLAND'),
+('Flanigan', 'IRELAND'),
+('Flannagan', 'IRELAND'),
+('Flannigan', 'SCOTLAND'),
+('Fleck', 'GERMANY'),
+('Fleck', 'SCOTLAND'),
+('Fleckenstein', 'GERMANY'),
+('Fleischer', 'GERMANY'),
+('Fleischhauer', 'GERMANY'),
+('Fleischmann', 'GERMANY'),
+('Fleming', 'SCOTLAND'),
+('Flemming', 'GERMANY'),
+('Flenn', 'IRELAND'),
+('Fletcher', 'ENGLAND'),
+('Fletcher', 'SCOTLAND'),
+('Flett', 'SCOTLAND'),
+('Fleuth', 'GERMANY'),
+('Flieszgartz', 'GERMANY'),
+('Fling', 'IRELAND'),
+('Flinn', 'IRELAND'),
+('Flockhart', 'SCOTLAND'),
+('Flood', 'SCOTLAND'),
+('Florence', 'SCOTLAND'),
+('Flowerdy', 'ENGLAND'),
+('Flyn', 'IRELAND'),
+('Flynn', 'IRELAND'),
+('Flynn', 'SCOTLAND'),
+('Flügge', 'GERMANY'),
+('Fockelmann', 'GERMANY'),
+('Fog', 'GERMANY'),
+('Foley', 'IRELAND'),
+('Foley', 'SCOTLAND'),
+('Folg', 'GERMANY'),
+('Foll', 'GERMANY'),
+('Follett', 'ENGLAND'),
+('Fols', 'GERMANY'),
+('Foote', 'SCOTLAND'),
+('Forbes', 'ENGLAND'),
+('Forbes', 'SCOTLAND'),
+('Ford', 'AMERICA'),
+('Ford', 'SCOTLAND'),
+('Fordby', 'ENGLAND'),
+('Fordyce', 'SCOTLAND'),
+('Foreman', 'SCOTLAND'),
+('Fores', 'GERMANY'),
+('Forgie', 'SCOTLAND'),
+('Forman', 'SCOTLAND'),
+('Forrest', 'SCOTLAND'),
+('Forrester', 'SCOTLAND'),
+('Forster', 'SCOTLAND'),
+('Forsyth', 'SCOTLAND'),
+('Fortescue', 'ENGLAND'),
+('Fortner', 'GERMANY'),
+('Fortune', 'SCOTLAND'),
+('Foster', 'SCOTLAND'),
+('Fotheringham', 'SCOTLAND'),
+('Foubister', 'SCOTLAND'),
+('Fountain', 'ENGLAND'),
+('Fousten', 'GERMANY'),
+('Fowler', 'SCOTLAND'),
+('Fowlie', 'SCOTLAND'),
+('Fox', 'GERMANY'),
+('Fox', 'SCOTLAND'),
+('Foy', 'SCOTLAND'),
+('Frame', 'SCOTLAND'),
+('Framlingham', 'ENGLAND'),
+('Frampton', 'ENGLAND'),
+('France', 'SCOTLAND'),
+('Francis', 'SCOTLAND'),
+('Franck', 'GERMANY'),
+('Franke', 'GERMANY'),
+('Franken', 'GERMANY'),
+('Frankland', 'ENGLAND'),
+('Franz', 'GERMANY'),
+('Fraser', 'SCOTLAND'),
+('Frater', 'SCOTLAND'),
+('Frech', 'GERMANY'),
+('Frechen', 'GERMANY'),
+('Frede', 'GERMANY'),
+('Frederici', 'GERMANY'),
+('Freeland', 'SCOTLAND'),
+('Freeman', 'SCOTLAND'),
+('Freislich', 'GERMANY'),
+('French', 'SCOTLAND'),
+('Frens', 'GERMANY'),
+('Frenske', 'GERMANY'),
+('Freser', 'GERMANY'),
+('Frets', 'GERMANY'),
+('Frew', 'SCOTLAND'),
+('Frey', 'GERMANY'),
+('Frick', 'GERMANY'),
+('Frickel', 'GERMANY'),
+('Friedrich', 'GERMANY'),
+('Friel', 'SCOTLAND'),
+('Friesz', 'GERMANY'),
+('Frisch', 'GERMANY'),
+('Frischinsfeldt', 'GERMANY'),
+('Frischinsveldt', 'GERMANY'),
+('Frisseveld', 'GERMANY'),
+('Fritsch', 'GERMANY'),
+('Fritz', 'GERMANY'),
+('Fritze', 'GERMANY'),
+('Froloch', 'GERMANY'),
+('Fronemann', 'GERMANY'),
+('Frost', 'SCOTLAND'),
+('Frosz', 'GERMANY'),
+('Frumke', 'GERMANY'),
+('Fry', 'SCOTLAND'),
+('Frymann', 'GERMANY'),
+('Fränkel', 'GERMANY'),
+('Fröhlich', 'GERMANY'),
+('Frömke', 'GERMANY'),
+('Frühauff', 'GERMANY'),
+('Fuber', 'GERMANY'),
+('Fuchs', 'GERMANY'),
+('Fudge', 'ENGLAND'),
+('Fuhrmann', 'GERMANY'),
+('Full', 'GERMANY'),
+('Fullarton', 'SCOTLAND'),
+('Fuller', 'ENGLAND'),
+('Fuller', 'SCOTLAND'),
+('Fullerton', 'SCOTLAND'),
+('Fulton', 'SCOTLAND'),
+('Funck', 'GERMANY'),
+('Funk', 'GERMANY'),
+('Furig', 'GERMANY'),
+('Fyfe', 'SCOTLAND'),
+('Fyffe', 'SCOTLAND'),
+('Fyvie', 'SCOTLAND'),
+('Fäsler', 'GERMANY'),
+('Fässig', 'GERMANY'),
+('Fölscher', 'GERMANY'),
+('Förster', 'GERMANY'),
+('Fürst', 'GERMANY'),
+('Fürstenberg', 'GERMANY'),
+('Gaasbeck', 'GERMANY'),
+('Gaffney', 'SCOTLAND'),
+('Gafney', 'IRELAND'),
+('Gagen', 'GERMANY'),
+('Gailer', 'GERMANY'),
+('Gaines', 'AMERICA'),
+('Gair', 'SCOTLAND'),
+('Galbraith', 'SCOTLAND'),
+('Gale', 'ENGLAND'),
+('Galey', 'IRELAND'),
+('Gall', 'GERMANY'),
+('Gall', 'SCOTLAND'),
+('Gallacher', 'SCOTLAND'),
+('Gallagher', 'IRELAND'),
+('Gallagher', 'SCOTLAND'),
+('Gallitz', 'GERMANY'),
+('Galloway', 'SCOTLAND'),
+('Galpin', 'ENGLAND'),
+('Galt', 'SCOTLAND'),
+('Gamble', 'SCOTLAND'),
+('Gannon', 'IRELAND'),
+('Gannon', 'SCOTLAND'),
+('Gans', 'GERMANY'),
+('Garburg', 'GERMANY'),
+('Garden', 'SCOTLAND'),
+('Gardiner', 'AMERICA'),
+('Gardiner', 'SCOTLAND'),
+('Gardner', 'SCOTLAND'),
+('Garisch', 'GERMANY'),
+('Garland', 'SCOTLAND'),
+('Garlick', 'ENGLAND'),
+('Garms', 'GERMANY'),
+('Garner', 'SCOTLAND'),
+('Garrett', 'SCOTLAND'),
+('Garretz', 'GERMANY'),
+('Garrits', 'GERMANY'),
+('Garrity', 'SCOTLAND'),
+('Garrow', 'SCOTLAND'),
+('Garry', 'IRELAND'),
+('Garry', 'SCOTLAND'),
+('Gartland', 'SCOTLAND'),
+('Gartmann', 'GERMANY'),
+('Gartshore', 'SCOTLAND'),
+('Garven', 'SCOTLAND'),
+('Garvey', 'ENGLAND'),
+('Garvey', 'IRELAND'),
+('Garvie', 'SCOTLAND'),
+('Gast', 'GERMANY'),
+('Gatherer', 'SCOTLAND'),
+('Gathers', 'IRELAND'),
+('Gatzen', 'GERMANY'),
+('Gaudier', 'GERMANY'),
+('Gaugh', 'IRELAND'),
+('Gaughan', 'SCOTLAND'),
+('Gauld', 'SCOTLAND'),
+('Gault', 'SCOTLAND'),
+('Gauster', 'GERMANY'),
+('Gavesk', 'IRELAND'),
+('Gavin', 'IRELAND'),
+('Gavin', 'SCOTLAND'),
+('Gaw', 'SCOTLAND'),
+('Gay', 'SCOTLAND'),
+('Gaywood', 'ENGLAND'),
+('Gazely', 'ENGLAND'),
+('Gear', 'SCOTLAND'),
+('Gebbie', 'SCOTLAND'),
+('Gebe', 'GERMANY'),
+('Gebel', 'GERMANY'),
+('Gebhardt', 'GERMANY'),
+('Geddes', 'SCOTLAND'),
+('Geekel', 'GERMANY'),
+('Geere', 'GERMANY'),
+('Geering', 'GERMANY'),
+('Geertz', 'GERMANY'),
+('Gehrau', 'GERMANY'),
+('Geiger', 'GERMANY'),
+('Geisinger', 'GERMANY'),
+('Gellatly', 'SCOTLAND'),
+('Gellmann', 'GERMANY'),
+('Gelowe', 'GERMANY'),
+('Gelowy', 'GERMANY'),
+('Gemele', 'GERMANY'),
+('Gemenes', 'GERMANY'),
+('Gemmell', 'SCOTLAND'),
+('Genade', 'GERMANY'),
+('Geneke', 'GERMANY'),
+('Genmann', 'GERMANY'),
+('Gentinger', 'GERMANY'),
+('Gentles', 'SCOTLAND'),
+('George', 'ENGLAND'),
+('George', 'SCOTLAND'),
+('Gera', 'GERMANY'),
+('Gerard', 'GERMANY'),
+('Gerber', 'GERMANY'),
+('Gerens', 'GERMANY'),
+('Gerhardt', 'GERMANY'),
+('Gericke', 'GERMANY'),
+('Geringer', 'GERMANY'),
+('Gerinke', 'GERMANY'),
+('Gerlach', 'GERMANY'),
+('German', 'GERMANY'),
+('Germani', 'GERMANY'),
+('Germershausen', 'GERMANY'),
+('Germishuysen', 'GERMANY'),
+('Gerotz', 'GERMANY'),
+('Gerrard', 'SCOTLAND'),
+('Gerrie', 'SCOTLAND'),
+('Gerringer', 'GERMANY'),
+('Gerrits', 'GERMANY'),
+('Gerritz', 'GERMANY'),
+('Gerst', 'GERMANY'),
+('Gertenbach', 'GERMANY'),
+('Gertzen', 'GERMANY'),
+('Getty', 'SCOTLAND'),
+('Getzen', 'GERMANY'),
+('Geven', 'GERMANY'),
+('Geybon', 'ENGLAND'),
+('Geyer', 'GERMANY'),
+('Geylings', 'GERMANY'),
+('Geysen', 'GERMANY'),
+('Geyser', 'GERMANY'),
+('Gibb', 'SCOTLAND'),
+('Gibbon', 'ENGLAND'),
+('Gibbon', 'SCOTLAND'),
+('Gibbons', 'SCOTLAND'),
+('Gibbs', 'ENGLAND'),
+('Gibbs', 'SCOTLAND'),
+('Gibney', 'SCOTLAND'),
+('Gibson', 'SCOTLAND'),
+('Giebel', 'GERMANY'),
+('Giebeler', 'GERMANY'),
+('Giese', 'GERMANY'),
+('Giesecke', 'GERMANY'),
+('Gieseldorp', 'GERMANY'),
+('Giesinger', 'GERMANY'),
+('Giesz', 'GERMANY'),
+('Gieter', 'GERMANY'),
+('Gifford', 'SCOTLAND'),
+('Gilber', 'GERMANY'),
+('Gilbert', 'SCOTLAND'),
+('Gilbertson', 'SCOTLAND'),
+('Gilchrist', 'SCOTLAND'),
+('Gildehaus', 'GERMANY'),
+('Gildehausen', 'GERMANY'),
+('Gildehuisz', 'GERMANY'),
+('Giles', 'SCOTLAND'),
+('Gilfillan', 'SCOTLAND'),
+('Gilhooley', 'SCOTLAND'),
+('Gill', 'SCOTLAND'),
+('Gillan', 'SCOTLAND'),
+('Gillen', 'SCOTLAND'),
+('Gillespie', 'SCOTLAND'),
+('Gillett', 'ENGLAND'),
+('Gillie', 'SCOTLAND'),
+('Gillies', 'SCOTLAND'),
+('Gilligan', 'IRELAND'),
+('Gilligan', 'SCOTLAND'),
+('Gilliland', 'SCOTLAND'),
+('Gillingham', 'ENGLAND'),
+('Gillison', 'IRELAND'),
+('Gillon', 'SCOTLAND'),
+('Gilmartin', 'SCOTLAND'),
+('Gilmet', 'GERMANY'),
+('Gilmore', 'SCOTLAND'),
+('Gilmour', 'SCOTLAND'),
+('Gilroy', 'SCOTLAND'),
+('Ginder', 'GERMANY'),
+('Ginsen', 'GERMANY'),
+('Ginsenberg', 'GERMANY'),
+('Gintzenberg', 'GERMANY'),
+('Girdwood', 'SCOTLAND'),
+('Girvan', 'SCOTLAND'),
+('Given', 'SCOTLAND'),
+('Gladstone', 'SCOTLAND'),
+('Glancy', 'SCOTLAND'),
+('Glasgow', 'SCOTLAND'),
+('Glasing', 'GERMANY'),
+('Glass', 'SCOTLAND'),
+('Glen', 'SCOTLAND'),
+('Glencross', 'SCOTLAND'),
+('Glendinning', 'SCOTLAND'),
+('Glennie', 'SCOTLAND'),
+('Gleuche', 'GERMANY'),
+('Gleve', 'GERMANY'),
+('Glover', 'SCOTLAND'),
+('Glyn', 'IRELAND'),
+('Glynn', 'IRELAND'),
+('Glöge', 'GERMANY'),
+('Gmahle', 'GERMANY'),
+('Gmehle', 'GERMANY'),
+('Gmähle', 'GERMANY'),
+('Gnade', 'GERMANY'),
+('Gobbels', 'GERMANY'),
+('Gobrechts', 'GERMANY'),
+('Godarch', 'GERMANY'),
+('Goddard', 'ENGLAND'),
+('Godfrey', 'SCOTLAND'),
+('Godtlieb', 'GERMANY'),
+('Godwin', 'ENGLAND'),
+('Goering', 'GERMANY'),
+('Goets', 'GERMANY'),
+('Goetz', 'GERMANY'),
+('Goetze', 'GERMANY'),
+('Gogin', 'IRELAND'),
+('Gold', 'SCOTLAND'),
+('Goldie', 'SCOTLAND'),
+('Goldsmith', 'ENGLAND'),
+('Goltsman', 'GERMANY'),
+('Gon', 'GERMANY'),
+('Good', 'SCOTLAND'),
+('Goodall', 'SCOTLAND'),
+('Goodfellow', 'SCOTLAND'),
+('Goodlet', 'SCOTLAND'),
+('Goodman', 'SCOTLAND'),
+('Goodwillie', 'SCOTLAND'),
+('Goodwin', 'SCOTLAND'),
+('Goor', 'GERMANY'),
+('Goot', 'GERMANY'),
+('Gordon', 'SCOTLAND'),
+('Gorman', 'IRELAND'),
+('Gorman', 'SCOTLAND'),
+('Gormley', 'SCOTLAND'),
+('Gorrie', 'SCOTLAND'),
+('Gorsel', 'GERMANY'),
+('Gossel', 'GERMANY'),
+('Goszelke', 'GERMANY'),
+('Gottlieb', 'GERMANY'),
+('Gottschalk', 'GERMANY'),
+('Goudie', 'SCOTLAND'),
+('Gough', 'SCOTLAND'),
+('Gould', 'SCOTLAND'),
+('Gouldsmith', 'ENGLAND'),
+('Gourlay', 'SCOTLAND'),
+('Goussarts', 'GERMANY'),
+('Govan', 'SCOTLAND'),
+('Gove', 'SCOTLAND'),
+('Gow', 'SCOTLAND'),
+('Gowans', 'SCOTLAND'),
+('Graaf', 'GERMANY'),
+('Graaff', 'GERMANY'),
+('Graape', 'GERMANY'),
+('Grabe', 'GERMANY'),
+('Grace', 'SCOTLAND'),
+('Gracie', 'SCOTLAND'),
+('Grady', 'IRELAND'),
+('Grady', 'SCOTLAND'),
+('Graff', 'GERMANY'),
+('Graham', 'SCOTLAND'),
+('Grainger', 'SCOTLAND'),
+('Granberg', 'GERMANY'),
+('Grandam', 'GERMANY'),
+('Grandison', 'SCOTLAND'),
+('Granger', 'SCOTLAND'),
+('Grant', 'ENGLAND'),
+('Grant', 'SCOTLAND'),
+('Grape', 'GERMANY'),
+('Grappe', 'GERMANY'),
+('Graskemper', 'GERMANY'),
+('Grasmeyer', 'GERMANY'),
+('Grasz', 'GERMANY'),
+('Graukamer', 'GERMANY'),
+('Graukammer', 'GERMANY'),
+('Grave', 'ENGLAND'),
+('Gravenstein', 'GERMANY'),
+('Gray', 'AMERICA'),
+('Gray', 'SCOTLAND'),
+('Gready', 'IRELAND'),
+('Grebler', 'GERMANY'),
+('Greef', 'GERMANY'),
+('Greeff', 'GERMANY'),
+('Greefrath', 'GERMANY'),
+('Green', 'AMERICA'),
+('Green', 'ENGLAND'),
+('Green', 'SCOTLAND'),
+('Greenan', 'SCOTLAND'),
+('Greene', 'SCOTLAND'),
+('Greenfield', 'SCOTLAND'),
+('Greenhill', 'SCOTLAND'),
+('Greenhorn', 'SCOTLAND'),
+('Greenlaw', 'SCOTLAND'),
+('Greenlees', 'SCOTLAND'),
+('Greenshields', 'SCOTLAND'),
+('Greenwood', 'SCOTLAND'),
+('Greer', 'SCOTLAND'),
+('Grees', 'GERMANY'),
+('Greeve', 'GERMANY'),
+('Greevenstein', 'GERMANY'),
+('Gregory', 'ENGLAND'),
+('Gregory', 'SCOTLAND'),
+('Greif', 'GERMANY'),
+('Greifenstein', 'GERMANY'),
+('Greig', 'SCOTLAND'),
+('Greiling', 'GERMANY'),
+('Greineisen', 'GERMANY'),
+('Greiner', 'GERMANY'),
+('Greive', 'GERMANY'),
+('Gressel', 'GERMANY'),
+('Greuning', 'GERMANY'),
+('Greve', 'GERMANY'),
+('Grevel', 'GERMANY'),
+('Grevenstein', 'GERMANY'),
+('Greybe', 'GERMANY'),
+('Greyenstein', 'GERMANY'),
+('Greyestein', 'GERMANY'),
+('Greyling', 'GERMANY'),
+('Greys', 'GERMANY'),
+('Greyvenstein', 'GERMANY'),
+('Greyvensteyn', 'GERMANY'),
+('Gribben', 'SCOTLAND'),
+('Gribbin', 'SCOTLAND'),
+('Grief', 'GERMANY'),
+('Griegel', 'GERMANY'),
+('Grier', 'SCOTLAND'),
+('Grierson', 'SCOTLAND'),
+('Griesel', 'GERMANY'),
+('Grieve', 'SCOTLAND'),
+('Griffin', 'AMERICA'),
+('Griffin', 'SCOTLAND'),
+('Griffiths', 'SCOTLAND'),
+('Grigor', 'SCOTLAND'),
+('Grimes', 'SCOTLAND'),
+('Grimley', 'SCOTLAND'),
+('Grimm', 'GERMANY'),
+('Grimpe', 'GERMANY'),
+('Grimpen', 'GERMANY'),
+('Grindlay', 'SCOTLAND'),
+('Groat', 'SCOTLAND'),
+('Grobbelaar', 'GERMANY'),
+('Grobler', 'GERMANY'),
+('Groenagen', 'GERMANY'),
+('Groenewald', 'GERMANY'),
+('Groepe', 'GERMANY'),
+('Groffschmidt', 'GERMANY'),
+('Grogan', 'IRELAND'),
+('Grogan', 'SCOTLAND'),
+('Grommet', 'GERMANY'),
+('Groos', 'GERMANY'),
+('Groot', 'GERMANY'),
+('Grootelusche', 'GERMANY'),
+('Groots', 'GERMANY'),
+('Gros', 'GERMANY'),
+('Grosche', 'GERMANY'),
+('Grosmann', 'GERMANY'),
+('Grosser', 'GERMANY'),
+('Grosz', 'GERMANY'),
+('Groszmajor', 'GERMANY'),
+('Grotz', 'GERMANY'),
+('Grove', 'ENGLAND'),
+('Grovermann', 'GERMANY'),
+('Groves', 'SCOTLAND'),
+('Grubb', 'SCOTLAND'),
+('Grundler', 'GERMANY'),
+('Grupe', 'GERMANY'),
+('Grybe', 'GERMANY'),
+('Grybel', 'GERMANY'),
+('Gräbe', 'GERMANY'),
+('Gräff', 'GERMANY'),
+('Grübel', 'GERMANY'),
+('Gründling', 'GERMANY'),
+('Grünewald', 'GERMANY'),
+('Grünhagen', 'GERMANY'),
+('Grüning', 'GERMANY'),
+('Grünstadt', 'GERMANY'),
+('Grünwald', 'GERMANY'),
+('Grütter', 'GERMANY'),
+('Guild', 'SCOTLAND'),
+('Guiljam', 'GERMANY'),
+('Guillaumet', 'GERMANY'),
+('Gulliford', 'IRELAND'),
+('Gulliver', 'ENGLAND'),
+('Gulsen', 'GERMANY'),
+('Guman', 'IRELAND'),
+('Gummum', 'GERMANY'),
+('Gundelach', 'GERMANY'),
+('Gundermann', 'GERMANY'),
+('Gundick', 'GERMANY'),
+('Gundlach', 'GERMANY'),
+('Gundler', 'GERMANY'),
+('Gune', 'GERMANY'),
+('Gunkler', 'GERMANY'),
+('Gunn', 'SCOTLAND'),
+('Gunning', 'SCOTLAND'),
+('Gunter', 'GERMANY'),
+('Gunterloch', 'GERMANY'),
+('Guntloch', 'GERMANY'),
+('Gunton', 'ENGLAND'),
+('Guppy', 'ENGLAND'),
+('Gut', 'GERMANY'),
+('Guthrie', 'SCOTLAND'),
+('Gutsche', 'GERMANY'),
+('Guttinger', 'GERMANY'),
+('Guy', 'ENGLAND'),
+('Guy', 'SCOTLAND'),
+('Guyan', 'SCOTLAND'),
+('Gätje', 'GERMANY'),
+('Gönig', 'GERMANY'),
+('Göpell', 'GERMANY'),
+('Görlach', 'GERMANY'),
+('Görmer', 'GERMANY'),
+('Götge', 'GERMANY'),
+('Götting', 'GERMANY'),
+('Gülde', 'GERMANY'),
+('Günder', 'GERMANY'),
+('Gündich', 'GERMANY'),
+('Günter', 'GERMANY'),
+('Günther', 'GERMANY'),
+('Güricht', 'GERMANY'),
+('Haak', 'GERMANY'),
+('Haan', 'GERMANY'),
+('Haare', 'GERMANY'),
+('Haarhof', 'GERMANY'),
+('Haas', 'GERMANY'),
+('Haase', 'GERMANY'),
+('Habeler', 'GERMANY'),
+('Habermann', 'GERMANY'),
+('Habicht', 'GERMANY'),
+('Habolt', 'GERMANY'),
+('Hack', 'GERMANY'),
+('Hackett', 'SCOTLAND'),
+('Hackley', 'IRELAND'),
+('Hadden', 'SCOTLAND'),
+('Haddington', 'ENGLAND'),
+('Haddow', 'SCOTLAND'),
+('Haefner', 'GERMANY'),
+('Haeger', 'GERMANY'),
+('Haening', 'GERMANY'),
+('Haennig', 'GERMANY'),
+('Hafekost', 'GERMANY'),
+('Haffner', 'GERMANY'),
+('Hafner', 'GERMANY'),
+('Hagan', 'SCOTLAND'),
+('Hagarty', 'IRELAND'),
+('Hage', 'GERMANY'),
+('Hagedorn', 'GERMANY'),
+('Hagemann', 'GERMANY'),
+('Hagemeister', 'GERMANY'),
+('Hagen', 'GERMANY'),
+('Hagenbach', 'GERMANY'),
+('Hagens', 'GERMANY'),
+('Hagerty', 'IRELAND'),
+('Haggart', 'SCOTLAND'),
+('Haggarty', 'SCOTLAND'),
+('Haggerty', 'IRELAND'),
+('Haggerty', 'SCOTLAND'),
+('Hahn', 'GERMANY'),
+('Haig', 'SCOTLAND'),
+('Hailstones', 'SCOTLAND'),
+('Hainey', 'SCOTLAND'),
+('Hainholz', 'GERMANY'),
+('Haining', 'SCOTLAND'),
+('Hair', 'SCOTLAND'),
+('Halbert', 'SCOTLAND'),
+('Halcrow', 'SCOTLAND'),
+('Haldane', 'SCOTLAND'),
+('Hale', 'SCOTLAND'),
+('Haley', 'SCOTLAND'),
+('Halfmann', 'GERMANY'),
+('Halkett', 'SCOTLAND'),
+('Hall', 'AMERICA'),
+('Hall', 'ENGLAND'),
+('Hall', 'SCOTLAND'),
+('Hallahan', 'IRELAND'),
+('Haller', 'GERMANY'),
+('Halley', 'SCOTLAND'),
+('Halliday', 'SCOTLAND'),
+('Halman', 'IRELAND'),
+('Halpin', 'SCOTLAND'),
+('Halt', 'GERMANY'),
+('Haltopterheyde', 'GERMANY'),
+('Ham', 'ENGLAND'),
+('Hamann', 'GERMANY'),
+('Hamel', 'GERMANY'),
+('Hamill', 'SCOTLAND'),
+('Hamilton', 'SCOTLAND'),
+('Hammann', 'GERMANY'),
+('Hammeken', 'GERMANY'),
+('Hammener', 'GERMANY'),
+('Hammerstein', 'GERMANY'),
+('Hammes', 'GERMANY'),
+('Hammond', 'ENGLAND'),
+('Hammond', 'SCOTLAND'),
+('Hampe', 'GERMANY'),
+('Hampson', 'SCOTLAND'),
+('Hampton', 'SCOTLAND'),
+('Hancke', 'GERMANY'),
+('Hanckwitz', 'GERMANY'),
+('Hancock', 'ENGLAND'),
+('Hancock', 'SCOTLAND'),
+('Hand', 'SCOTLAND'),
+('Hanekom', 'GERMANY'),
+('Hanevoort', 'GERMANY'),
+('Hanigan', 'IRELAND'),
+('Hanley', 'SCOTLAND'),
+('Hanlon', 'SCOTLAND'),
+('Hann', 'ENGLAND'),
+('Hanna', 'SCOTLAND'),
+('Hannah', 'SCOTLAND'),
+('Hannan', 'SCOTLAND'),
+('Hannay', 'SCOTLAND'),
+('Hannekoom', 'GERMANY'),
+('Hannigan', 'SCOTLAND'),
+('Hannosius', 'GERMANY'),
+('Hannover', 'ENGLAND'),
+('Hannover', 'GERMANY'),
+('Hanratty', 'SCOTLAND'),
+('Hans', 'GERMANY'),
+('Hansen', 'GERMANY'),
+('Hansen', 'SCOTLAND'),
+('Hanson', 'AMERICA'),
+('Hansonius', 'GERMANY'),
+('Hanssen', 'GERMANY'),
+('Hanssoon', 'GERMANY'),
+('Happe', 'GERMANY'),
+('Hara', 'IRELAND'),
+('Haragan', 'IRELAND'),
+('Harber', 'GERMANY'),
+('Harboard', 'ENGLAND'),
+('Harcus', 'SCOTLAND'),
+('Harders', 'GERMANY'),
+('Hardie', 'SCOTLAND'),
+('Harding', 'ENGLAND'),
+('Harding', 'SCOTLAND'),
+('Hardt', 'GERMANY'),
+('Hardter', 'GERMANY'),
+('Hardy', 'ENGLAND'),
+('Hardy', 'SCOTLAND'),
+('Hare', 'SCOTLAND'),
+('Hargis', 'GERMANY'),
+('Hargreaves', 'SCOTLAND'),
+('Harkin', 'SCOTLAND'),
+('Harkins', 'SCOTLAND'),
+('Harkness', 'SCOTLAND'),
+('Harley', 'SCOTLAND'),
+('Harly', 'IRELAND'),
+('Harmen Jansen', 'GERMANY'),
+('Harmensz', 'GERMANY'),
+('Harmer', 'ENGLAND'),
+('Harms', 'GERMANY'),
+('Harmsen', 'GERMANY'),
+('Harnett', 'IRELAND'),
+('Harper', 'SCOTLAND'),
+('Harren', 'GERMANY'),
+('Harrigan', 'IRELAND'),
+('Harrintan', 'IRELAND'),
+('Harrinton', 'IRELAND'),
+('Harris', 'AMERICA'),
+('Harris', 'ENGLAND'),
+('Harris', 'SCOTLAND'),
+('Harrison', 'AMERICA'),
+('Harrison', 'SCOTLAND'),
+('Harrius', 'GERMANY'),
+('Harrold', 'SCOTLAND'),
+('Harrower', 'SCOTLAND'),
+('Harseim', 'GERMANY'),
+('Harsell', 'GERMANY'),
+('Harsolt', 'GERMANY'),
+('Harstmann', 'GERMANY'),
+('Hart', 'SCOTLAND'),
+('Harte', 'SCOTLAND'),
+('Harthoven', 'GERMANY'),
+('Harting', 'GERMANY'),
+('Hartley', 'SCOTLAND'),
+('Hartmann', 'GERMANY'),
+('Hartmeyer', 'GERMANY'),
+('Hartog', 'GERMANY'),
+('Hartong', 'GERMANY'),
+('Hartwich', 'GERMANY'),
+('Hartwig', 'GERMANY'),
+('Hartz', 'GERMANY'),
+('Hartzogenrath', 'GERMANY'),
+('Harvey', 'SCOTLAND'),
+('Harvie', 'SCOTLAND'),
+('Harwaerden', 'GERMANY'),
+('Haselaar', 'GERMANY'),
+('Hasewinkel', 'GERMANY'),
+('Hasholt', 'GERMANY'),
+('Haskett', 'ENGLAND'),
+('Hassan', 'SCOTLAND'),
+('Hasse', 'GERMANY'),
+('Hasselbach', 'GERMANY'),
+('Hasselbarth', 'GERMANY'),
+('Hassolt', 'GERMANY'),
+('Hastie', 'SCOTLAND'),
+('Hastings', 'SCOTLAND'),
+('Haston', 'SCOTLAND'),
+('Hatcher', 'ENGLAND'),
+('Hatting', 'GERMANY'),
+('Haubner', 'GERMANY'),
+('Hauboldt', 'GERMANY'),
+('Haubtfleisch', 'GERMANY'),
+('Haughey', 'SCOTLAND'),
+('Hauk', 'GERMANY'),
+('Hauke', 'GERMANY'),
+('Haumann', 'GERMANY'),
+('Hauningh', 'GERMANY'),
+('Haupt', 'GERMANY'),
+('Hauptfleisch', 'GERMANY'),
+('Hausenius', 'GERMANY'),
+('Haushahn', 'GERMANY'),
+('Hausherr', 'GERMANY'),
+('Hausman', 'GERMANY'),
+('Hausmann', 'GERMANY'),
+('Haussamer', 'GERMANY'),
+('Hawkes', 'SCOTLAND'),
+('Hawkins', 'AMERICA'),
+('Hawkins', 'ENGLAND'),
+('Hawkins', 'SCOTLAND'),
+('Hawthorn', 'SCOTLAND'),
+('Hawthorne', 'SCOTLAND'),
+('Haxton', 'SCOTLAND'),
+('Hay', 'SCOTLAND'),
+('Haye', 'IRELAND'),
+('Hayes', 'SCOTLAND'),
+('Haynendorp', 'GERMANY'),
+('Haynie', 'AMERICA'),
+('Hayward', 'ENGLAND'),
+('Hayward', 'SCOTLAND'),
+('Healy', 'SCOTLAND'),
+('Heaney', 'SCOTLAND'),
+('Heath', 'SCOTLAND'),
+('Hebel', 'GERMANY'),
+('Hecht', 'GERMANY'),
+('Heckroth', 'GERMANY'),
+('Hederle', 'GERMANY'),
+('Heeling', 'GERMANY'),
+('Heenan', 'SCOTLAND'),
+('Heeps', 'SCOTLAND'),
+('Heerents', 'GERMANY'),
+('Heering', 'GERMANY'),
+('Heeringer', 'GERMANY'),
+('Hefelein', 'GERMANY'),
+('Hefferman', 'IRELAND'),
+('Heffermeyer', 'GERMANY'),
+('Heffernan', 'IRELAND'),
+('Heffner', 'GERMANY'),
+('Hegarty', 'IRELAND'),
+('Hegarty', 'SCOTLAND'),
+('Hegele', 'GERMANY'),
+('Heger', 'GERMANY'),
+('Heggenauer', 'GERMANY'),
+('Heggie', 'SCOTLAND'),
+('Heidegger', 'GERMANY'),
+('Heiden', 'GERMANY'),
+('Heidtkamp', 'GERMANY'),
+('Heidtmann', 'GERMANY'),
+('Heilbron', 'GERMANY'),
+('Heiliger', 'GERMANY'),
+('Heilmann', 'GERMANY'),
+('Heimsahl', 'GERMANY'),
+('Heine', 'GERMANY'),
+('Heinighausen', 'GERMANY'),
+('Heinlein', 'GERMANY'),
+('Heinrich', 'GERMANY'),
+('Heins', 'GERMANY'),
+('Heinsii', 'GERMANY'),
+('Heinsius', 'GERMANY'),
+('Heinz', 'GERMANY'),
+('Heise', 'GERMANY'),
+('Heiser', 'GERMANY'),
+('Heist', 'GERMANY'),
+('Hellberg', 'GERMANY'),
+('Hellbrock', 'GERMANY'),
+('Helle', 'GERMANY'),
+('Heller', 'GERMANY'),
+('Hellinger', 'GERMANY'),
+('Hellink', 'GERMANY'),
+('Helly', 'IRELAND'),
+('Helm', 'GERMANY'),
+('Helmers', 'GERMANY'),
+('Helmich', 'GERMANY'),
+('Helmoed', 'GERMANY'),
+('Helmut', 'GERMANY'),
+('Helraad', 'GERMANY'),
+('Helsden', 'ENGLAND'),
+('Helse', 'GERMANY'),
+('Helser', 'GERMANY'),
+('Helsinger', 'GERMANY'),
+('Helst', 'GERMANY'),
+('Helton', 'IRELAND'),
+('Helvy', 'IRELAND'),
+('Helwig', 'GERMANY'),
+('Hely', 'IRELAND'),
+('Hemming', 'GERMANY'),
+('Hemmy', 'GERMANY'),
+('Hemphill', 'SCOTLAND'),
+('Hempl', 'GERMANY'),
+('Hen', 'GERMANY'),
+('Henderson', 'SCOTLAND'),
+('Hendrichs', 'GERMANY'),
+('Hendrie', 'SCOTLAND'),
+('Hendrikmark', 'GERMANY'),
+('Hendriks', 'GERMANY'),
+('Hendry', 'SCOTLAND'),
+('Henesey', 'IRELAND'),
+('Hengel', 'GERMANY'),
+('Hengerle', 'GERMANY'),
+('Henk', 'GERMANY'),
+('Henkel', 'GERMANY'),
+('Henkes', 'GERMANY'),
+('Henneberg', 'GERMANY'),
+('Hennessey', 'IRELAND'),
+('Hennessy', 'IRELAND'),
+('Hennesy', 'IRELAND'),
+('Henning', 'GERMANY'),
+('Hennopp', 'GERMANY'),
+('Hennsz', 'GERMANY'),
+('Hennszken', 'GERMANY'),
+('Henrichsen', 'GERMANY'),
+('Henry', 'SCOTLAND'),
+('Hens', 'GERMANY'),
+('Hensch', 'GERMANY'),
+('Hensen', 'GERMANY'),
+('Henske', 'GERMANY'),
+('Henss', 'GERMANY'),
+('Hensse', 'GERMANY'),
+('Hensz', 'GERMANY'),
+('Hepburn', 'ENGLAND'),
+('Hepburn', 'SCOTLAND'),
+('Heran', 'IRELAND'),
+('Herbershausen', 'GERMANY'),
+('Herbert', 'ENGLAND'),
+('Herbert', 'GERMANY'),
+('Herbert', 'SCOTLAND'),
+('Herbertson', 'SCOTLAND'),
+('Herbst', 'GERMANY'),
+('Herchenhahn', 'GERMANY'),
+('Herchenhein', 'GERMANY'),
+('Herd', 'SCOTLAND'),
+('Herder', 'GERMANY'),
+('Herdman', 'SCOTLAND'),
+('Herholdt', 'GERMANY'),
+('Herkes', 'SCOTLAND'),
+('Hermann', 'GERMANY'),
+('Hermanns', 'GERMANY'),
+('Hermsen', 'GERMANY'),
+('Hermson', 'GERMANY'),
+('Herold', 'GERMANY'),
+('Heron', 'SCOTLAND'),
+('Herrer', 'GERMANY'),
+('Herriot', 'SCOTLAND'),
+('Herrn', 'GERMANY'),
+('Herron', 'SCOTLAND'),
+('Herschelmann', 'GERMANY'),
+('Herselmann', 'GERMANY'),
+('Hertel', 'GERMANY'),
+('Hertverden', 'GERMANY'),
+('Hertz', 'GERMANY'),
+('Hertzfeld', 'GERMANY'),
+('Hertzog', 'GERMANY'),
+('Hertzogenrath', 'GERMANY'),
+('Hervey', 'ENGLAND'),
+('Herwig', 'GERMANY'),
+('Hesler', 'GERMANY'),
+('Hess', 'GERMANY'),
+('Hesse', 'GERMANY'),
+('Hesselbarth', 'GERMANY'),
+('Hesseling', 'GERMANY'),
+('Hesselmann', 'GERMANY'),
+('Hessenbosch', 'GERMANY'),
+('Hester', 'GERMANY'),
+('Hetherington', 'SCOTLAND'),
+('Hettner', 'GERMANY'),
+('Heufke', 'GERMANY'),
+('Heuges', 'GERMANY'),
+('Heugh', 'GERMANY'),
+('Heuning', 'GERMANY'),
+('Heurter', 'GERMANY'),
+('Heuser', 'GERMANY'),
+('Heuske', 'GERMANY'),
+('Heusz', 'GERMANY'),
+('Heuven', 'GERMANY'),
+('Heuwel', 'GERMANY'),
+('Hever', 'GERMANY'),
+('Hewitt', 'SCOTLAND'),
+('Heyd', 'GERMANY'),
+('Heyde', 'GERMANY'),
+('Heydefeld', 'GERMANY'),
+('Heydel', 'GERMANY'),
+('Heydemann', 'GERMANY'),
+('Heyden', 'GERMANY'),
+('Heydendorf', 'GERMANY'),
+('Heydenreich', 'GERMANY'),
+('Heyder', 'GERMANY'),
+('Heydeveld', 'GERMANY'),
+('Heydrich', 'GERMANY'),
+('Heyer', 'GERMANY'),
+('Heyger', 'GERMANY'),
+('Heykam', 'GERMANY'),
+('Heylbron', 'GERMANY'),
+('Heymdorp', 'GERMANY'),
+('Heymers', 'GERMANY'),
+('Heyn', 'GERMANY'),
+('Heyne', 'GERMANY'),
+('Heynekamp', 'GERMANY'),
+('Heyneke', 'GERMANY'),
+('Heyneman', 'GERMANY'),
+('Heynemann', 'GERMANY'),
+('Heynendorp', 'GERMANY'),
+('Heynkamp', 'GERMANY'),
+('Heynoud', 'GERMANY'),
+('Heyns', 'GERMANY'),
+('Heynsen', 'GERMANY'),
+('Heyntjes', 'GERMANY'),
+('Heys', 'GERMANY'),
+('Heyse', 'GERMANY'),
+('Heysenius', 'GERMANY'),
+('Heyseus', 'GERMANY'),
+('Heyske', 'GERMANY'),
+('Heytfeld', 'GERMANY'),
+('Heyts', 'GERMANY'),
+('Hickey', 'IRELAND'),
+('Hicks', 'SCOTLAND'),
+('Hiddeman', 'GERMANY'),
+('Hiddemann', 'GERMANY'),
+('Hiddleston', 'SCOTLAND'),
+('Hiebener', 'GERMANY'),
+('Hiebert', 'GERMANY'),
+('Hiebner', 'GERMANY'),
+('Hiefler', 'GERMANY'),
+('Hieksch', 'GERMANY'),
+('Higgins', 'SCOTLAND'),
+('Hilbe', 'GERMANY'),
+('Hilbers', 'GERMANY'),
+('Hildebrand', 'GERMANY'),
+('Hildebrandt', 'GERMANY'),
+('Hildenhagen', 'GERMANY'),
+('Hildhorst', 'GERMANY'),
+('Hill', 'AMERICA'),
+('Hill', 'ENGLAND'),
+('Hill', 'SCOTLAND'),
+('Hillebrand', 'GERMANY'),
+('Hillegeist', 'GERMANY'),
+('Hillegelander', 'GERMANY'),
+('Hillemann', 'GERMANY'),
+('Hillhouse', 'SCOTLAND'),
+('Hillis', 'SCOTLAND'),
+('Hilser', 'GERMANY'),
+('Hilt', 'GERMANY'),
+('Himmelroth', 'GERMANY'),
+('Hinck', 'GERMANY'),
+('Hincken', 'GERMANY'),
+('Hind', 'ENGLAND'),
+('Hind', 'SCOTLAND'),
+('Hinkemeyer', 'GERMANY'),
+('Hinrich', 'GERMANY'),
+('Hinrichs', 'GERMANY'),
+('Hinsch', 'GERMANY'),
+('Hinshelwood', 'SCOTLAND'),
+('Hintzelmann', 'GERMANY'),
+('Hintzen', 'GERMANY'),
+('Hirchenheim', 'GERMANY'),
+('Hirst', 'SCOTLAND'),
+('Hirtsveld', 'GERMANY'),
+('Hirtz', 'GERMANY'),
+('Hislop', 'SCOTLAND'),
+('Hitzeroth', 'GERMANY'),
+('Hitzmann', 'GERMANY'),
+('Ho', 'SCOTLAND'),
+('Hobbs', 'SCOTLAND'),
+('Hobson', 'SCOTLAND'),
+('Hochmeister', 'GERMANY'),
+('Hockmeyer', 'GERMANY'),
+('Hodderson', 'GERMANY'),
+('Hodge', 'ENGLAND'),
+('Hodge', 'SCOTLAND'),
+('Hodgson', 'SCOTLAND'),
+('Hoeber', 'GERMANY'),
+('Hoebert', 'GERMANY'),
+('Hoeck', 'GERMANY'),
+('Hoed', 'GERMANY'),
+('Hoeffer', 'GERMANY'),
+('Hoeffner', 'GERMANY'),
+('Hoefsmit', 'GERMANY'),
+('Hoek', 'GERMANY'),
+('Hoeke', 'GERMANY'),
+('Hoeman', 'GERMANY'),
+('Hoenholtz', 'GERMANY'),
+('Hoepelman', 'GERMANY'),
+('Hoepelmann', 'GERMANY'),
+('Hoetmann', 'GERMANY'),
+('Hoettermann', 'GERMANY'),
+('Hoever', 'GERMANY'),
+('Hoey', 'SCOTLAND'),
+('Hofbauer', 'GERMANY'),
+('Hoffmann', 'GERMANY'),
+('Hofland', 'GERMANY'),
+('Hofmeister', 'GERMANY'),
+('Hofmeyer', 'GERMANY'),
+('Hofstadt', 'GERMANY'),
+('Hogan', 'IRELAND'),
+('Hogan', 'SCOTLAND'),
+('Hogarth', 'SCOTLAND'),
+('Hogg', 'SCOTLAND'),
+('Hoggan', 'SCOTLAND'),
+('Hogrefe', 'GERMANY'),
+('Holck', 'GERMANY'),
+('Holden', 'SCOTLAND'),
+('Holder', 'GERMANY'),
+('Holey', 'IRELAND'),
+('Holl', 'GERMANY'),
+('Hollan', 'IRELAND'),
+('Holland', 'ENGLAND'),
+('Holland', 'GERMANY'),
+('Holland', 'SCOTLAND'),
+('Hollen', 'GERMANY'),
+('Holler', 'GERMANY'),
+('Holliday', 'SCOTLAND'),
+('Hollifield', 'IRELAND'),
+('Hollmann', 'GERMANY'),
+('Hollywood', 'SCOTLAND'),
+('Holmes', 'SCOTLAND'),
+('Holst', 'GERMANY'),
+('Holt', 'GERMANY'),
+('Holt', 'SCOTLAND'),
+('Holthusen', 'GERMANY'),
+('Holtmann', 'GERMANY'),
+('Holtz', 'GERMANY'),
+('Holtzapfel', 'GERMANY'),
+('Holtzer', 'GERMANY'),
+('Holtzhausen', 'GERMANY'),
+('Holtzmann', 'GERMANY'),
+('Holtzmeyer', 'GERMANY'),
+('Homberg', 'GERMANY'),
+('Hombert', 'GERMANY'),
+('Hommel', 'GERMANY'),
+('Hompes', 'GERMANY'),
+('Honel', 'GERMANY'),
+('Honeyfield', 'ENGLAND'),
+('Honeyman', 'SCOTLAND'),
+('Honk', 'GERMANY'),
+('Hood', 'SCOTLAND'),
+('Hooft', 'GERMANY'),
+('Hooge', 'GERMANY'),
+('Hoogendorp', 'GERMANY'),
+('Hooger', 'GERMANY'),
+('Hook', 'SCOTLAND'),
+('Hooper', 'SCOTLAND'),
+('Hooyer', 'GERMANY'),
+('Hop', 'GERMANY'),
+('Hope', 'SCOTLAND'),
+('Hopker', 'GERMANY'),
+('Hopkins', 'SCOTLAND'),
+('Hoppe', 'GERMANY'),
+('Hopper', 'SCOTLAND'),
+('Horak', 'GERMANY'),
+('Horan', 'IRELAND'),
+('Horder', 'ENGLAND'),
+('Horigan', 'IRELAND'),
+('Hormel', 'IRELAND'),
+('Hormley', 'IRELAND'),
+('Horn', 'GERMANY'),
+('Horn', 'SCOTLAND'),
+('Horne', 'SCOTLAND'),
+('Hornemann', 'GERMANY'),
+('Horning', 'GERMANY'),
+('Hornstein', 'GERMANY'),
+('Horre', 'GERMANY'),
+('Horrigan', 'IRELAND'),
+('Horsburgh', 'SCOTLAND'),
+('Horstmann', 'GERMANY'),
+('Hortmann', 'GERMANY'),
+('Horton', 'SCOTLAND'),
+('Horwege', 'GERMANY'),
+('Horwyge', 'GERMANY'),
+('Hose', 'ENGLAND'),
+('Hosenius', 'GERMANY'),
+('Hosie', 'SCOTLAND'),
+('Hoskins', 'ENGLAND'),
+('Hosmer', 'ENGLAND'),
+('Hossack', 'SCOTLAND'),
+('Hosty', 'IRELAND'),
+('Hotchkiss', 'SCOTLAND'),
+('Houghton', 'SCOTLAND'),
+('Hourston', 'SCOTLAND'),
+('Houshamer', 'GERMANY'),
+('Houston', 'SCOTLAND'),
+('Howard', 'AMERICA'),
+('Howard', 'SCOTLAND'),
+('Howarth', 'SCOTLAND'),
+('Howat', 'SCOTLAND'),
+('Howatson', 'SCOTLAND'),
+('Howden', 'SCOTLAND'),
+('Howe', 'ENGLAND'),
+('Howe', 'SCOTLAND'),
+('Howell', 'SCOTLAND'),
+('Howie', 'SCOTLAND'),
+('Howieson', 'SCOTLAND'),
+('Howitt', 'SCOTLAND'),
+('Hoy', 'SCOTLAND'),
+('Huben', 'GERMANY'),
+('Hubener', 'GERMANY'),
+('Huber', 'GERMANY'),
+('Hubert', 'GERMANY'),
+('Huck', 'GERMANY'),
+('Hudson', 'SCOTLAND'),
+('Hufschmied', 'GERMANY'),
+('Hugenberg', 'GERMANY'),
+('Hugens', 'GERMANY'),
+('Hughes', 'ENGLAND'),
+('Hughes', 'SCOTLAND'),
+('Hughson', 'SCOTLAND'),
+('Humann', 'GERMANY'),
+('Hume', 'SCOTLAND'),
+('Hummel', 'GERMANY'),
+('Humphrey', 'SCOTLAND'),
+('Humphreys', 'SCOTLAND'),
+('Humphries', 'ENGLAND'),
+('Humphries', 'SCOTLAND'),
+('Hune', 'GERMANY'),
+('Hunt', 'ENGLAND'),
+('Hunt', 'SCOTLAND'),
+('Hunter', 'ENGLAND'),
+('Hunter', 'SCOTLAND'),
+('Huntington', 'ENGLAND'),
+('Huppenaar', 'GERMANY'),
+('Hurley', 'IRELAND'),
+('Hurling', 'GERMANY'),
+('Hurly', 'IRELAND'),
+('Hurst', 'SCOTLAND'),
+('Hurter', 'GERMANY'),
+('Husband', 'SCOTLAND'),
+('Hussain', 'SCOTLAND'),
+('Hussan', 'GERMANY'),
+('Husselmann', 'GERMANY'),
+('Hutcheon', 'SCOTLAND'),
+('Hutcheson', 'SCOTLAND'),
+('Hutchinson', 'SCOTLAND'),
+('Hutchison', 'SCOTLAND'),
+('Huth', 'GERMANY'),
+('Hutton', 'SCOTLAND'),
+('Huusman', 'GERMANY'),
+('Huve', 'GERMANY'),
+('Huysamen', 'GERMANY'),
+('Huysamer', 'GERMANY'),
+('Huyshamer', 'GERMANY'),
+('Huysheer', 'GERMANY'),
+('Huysman', 'GERMANY'),
+('Hyatt', 'ENGLAND'),
+('Hyde', 'SCOTLAND'),
+('Hyland', 'SCOTLAND'),
+('Hynd', 'SCOTLAND'),
+('Hynes', 'IRELAND'),
+('Hynes', 'SCOTLAND'),
+('Hysenius', 'GERMANY'),
+('Hyslop', 'SCOTLAND'),
+('Häber', 'GERMANY'),
+('Häszner', 'GERMANY'),
+('Häusgen', 'GERMANY'),
+('Höffke', 'GERMANY'),
+('Höhne', 'GERMANY'),
+('Hölbe', 'GERMANY'),
+('Höling', 'GERMANY'),
+('Höltzer', 'GERMANY'),
+('Hönniger', 'GERMANY'),
+('Hörsel', 'GERMANY'),
+('Hörselmann', 'GERMANY'),
+('Hüber', 'GERMANY'),
+('Hübner', 'GERMANY'),
+('Hüfler', 'GERMANY'),
+('Hügel', 'GERMANY'),
+('Hüling', 'GERMANY'),
+('Hülsmann', 'GERMANY'),
+('Hülsmeyer', 'GERMANY'),
+('Hümmel', 'GERMANY'),
+('Hüner', 'GERMANY'),
+('Hüsing', 'GERMANY'),
+('Hüssmann', 'GERMANY'),
+('Hüszmann', 'GERMANY'),
+('Ichstedt', 'GERMANY'),
+('Iffland', 'GERMANY'),
+('Immelmann', 'GERMANY'),
+('Imrie', 'SCOTLAND'),
+('Inch', 'SCOTLAND'),
+('Inglis', 'SCOTLAND'),
+('Ingram', 'SCOTLAND'),
+('Inkster', 'SCOTLAND'),
+('Innes', 'SCOTLAND'),
+('Inniger', 'GERMANY'),
+('Intrapniet', 'GERMANY'),
+('Ireland', 'SCOTLAND'),
+('Ironside', 'SCOTLAND'),
+('Irvine', 'SCOTLAND'),
+('Irving', 'SCOTLAND'),
+('Irwin', 'SCOTLAND'),
+('Iskamp', 'GERMANY'),
+('Israel', 'GERMANY'),
+('Itscken', 'GERMANY'),
+('Itsken', 'GERMANY'),
+('Itzen', 'GERMANY'),
+('Itzenplitz', 'GERMANY'),
+('Iwens', 'GERMANY'),
+('Iwers', 'GERMANY'),
+('Iwyns', 'GERMANY'),
+('Jaan', 'GERMANY'),
+('Jaanke', 'GERMANY'),
+('Jack', 'SCOTLAND'),
+('Jackson', 'AMERICA'),
+('Jackson', 'ENGLAND'),
+('Jackson', 'SCOTLAND'),
+('Jacob', 'GERMANY'),
+('Jacobs', 'GERMANY'),
+('Jacobsen', 'GERMANY'),
+('Jacoby', 'GERMANY'),
+('Jaenecke', 'GERMANY'),
+('Jaffe', 'IRELAND'),
+('Jaffray', 'SCOTLAND'),
+('Jaffrey', 'SCOTLAND'),
+('Jager', 'GERMANY'),
+('Jallas', 'GERMANY'),
+('James', 'AMERICA'),
+('James', 'SCOTLAND'),
+('Jamieson', 'SCOTLAND'),
+('Jancke', 'GERMANY'),
+('Jankowitz', 'GERMANY'),
+('Jansen', 'GERMANY'),
+('Jantzen', 'GERMANY'),
+('Jardine', 'SCOTLAND'),
+('Jarling', 'GERMANY'),
+('Jarvie', 'SCOTLAND'),
+('Jarvis', 'ENGLAND'),
+('Jarvis', 'SCOTLAND'),
+('Jeffrey', 'SCOTLAND'),
+('Jencquel', 'GERMANY'),
+('Jenkins', 'AMERICA'),
+('Jenkins', 'SCOTLAND'),
+('Jenkinson', 'ENGLAND'),
+('Jennings', 'ENGLAND'),
+('Jennings', 'SCOTLAND'),
+('Jensen', 'GERMANY'),
+('Jentze', 'GERMANY'),
+('Jepsen', 'GERMANY'),
+('Jering', 'GERMANY'),
+('Jeronimus', 'GERMANY'),
+('Jervis', 'ENGLAND'),
+('Jes', 'GERMANY'),
+('Jeser', 'GERMANY'),
+('Jeske', 'GERMANY'),
+('Jesky', 'GERMANY'),
+('Jess', 'SCOTLAND'),
+('Jessiman', 'SCOTLAND'),
+('Jeyser', 'GERMANY'),
+('Jobels', 'GERMANY'),
+('Joch', 'GERMANY'),
+('Jogler', 'GERMANY'),
+('John', 'GERMANY'),
+('Johnson', 'AMERICA'),
+('Johnson', 'ENGLAND'),
+('Johnson', 'SCOTLAND'),
+('Johnston', 'SCOTLAND'),
+('Johnstone', 'SCOTLAND'),
+('Johst', 'GERMANY'),
+('Joice', 'IRELAND'),
+('Jolly', 'SCOTLAND'),
+('Jonas', 'GERMANY'),
+('Jones', 'AMERICA'),
+('Jones', 'ENGLAND'),
+('Jones', 'SCOTLAND'),
+('Jong', 'GERMANY'),
+('Jongmann', 'GERMANY'),
+('Jonker', 'GERMANY'),
+('Jonkglas', 'GERMANY'),
+('Jonkhoff', 'GERMANY'),
+('Joon', 'GERMANY'),
+('Joone', 'GERMANY'),
+('Joost', 'GERMANY'),
+('Jooste', 'GERMANY'),
+('Joosten', 'GERMANY'),
+('Jordan', 'GERMANY'),
+('Jordan', 'SCOTLAND'),
+('Joss', 'SCOTLAND'),
+('Joyce', 'SCOTLAND'),
+('Jubbels', 'GERMANY'),
+('Judge', 'SCOTLAND'),
+('Junck', 'GERMANY'),
+('Jung', 'GERMANY'),
+('Jungblut', 'GERMANY'),
+('Junge', 'GERMANY'),
+('Junghans', 'GERMANY'),
+('Jungheim', 'GERMANY'),
+('Jungmann', 'GERMANY'),
+('Junker', 'GERMANY'),
+('Junkklaus', 'GERMANY'),
+('Junor', 'SCOTLAND'),
+('Jurriansz', 'GERMANY'),
+('Just', 'GERMANY'),
+('Justus', 'GERMANY'),
+('Jut', 'GERMANY'),
+('Jutse', 'GERMANY'),
+('Jänicke', 'GERMANY'),
+('Jödicke', 'GERMANY'),
+('Jürgens', 'GERMANY'),
+('Jürgensen', 'GERMANY'),
+('Kahl', 'GERMANY'),
+('Kahmann', 'GERMANY'),
+('Kaiser', 'GERMANY'),
+('Kalb', 'GERMANY'),
+('Kalden', 'GERMANY'),
+('Kalenberg', 'GERMANY'),
+('Kall', 'GERMANY'),
+('Kallenbach', 'GERMANY'),
+('Kallenzee', 'GERMANY'),
+('Kalmeyer', 'GERMANY'),
+('Kaltenbach', 'GERMANY'),
+('Kaltensee', 'GERMANY'),
+('Kalteyer', 'GERMANY'),
+('Kaltwasser', 'GERMANY'),
+('Kamerling', 'GERMANY'),
+('Kampmann', 'GERMANY'),
+('Kane', 'SCOTLAND'),
+('Kannegieter', 'GERMANY'),
+('Kannemeyer', 'GERMANY'),
+('Kap', 'GERMANY'),
+('Kapke', 'GERMANY'),
+('Karl', 'GERMANY'),
+('Karney', 'IRELAND'),
+('Karnspeck', 'GERMANY'),
+('Karnspek', 'GERMANY'),
+('Karoets', 'GERMANY'),
+('Karssouw', 'GERMANY'),
+('Karst', 'GERMANY'),
+('Karstedt', 'GERMANY'),
+('Karstendieck', 'GERMANY'),
+('Karstendiek', 'GERMANY'),
+('Karstens', 'GERMANY'),
+('Karstensen', 'GERMANY'),
+('Karutz', 'GERMANY'),
+('Kasselmann', 'GERMANY'),
+('Kassendiek', 'GERMANY'),
+('Katenberg', 'GERMANY'),
+('Katenbrink', 'GERMANY'),
+('Kaufmann', 'GERMANY'),
+('Kaur', 'SCOTLAND'),
+('Kavanagh', 'SCOTLAND'),
+('Kay', 'SCOTLAND'),
+('Kaye', 'SCOTLAND'),
+('Kean', 'IRELAND'),
+('Kean', 'SCOTLAND'),
+('Keane', 'SCOTLAND'),
+('Kearney', 'IRELAND'),
+('Kearney', 'SCOTLAND'),
+('Keating', 'SCOTLAND'),
+('Keatings', 'SCOTLAND'),
+('Keats', 'ENGLAND'),
+('Keay', 'SCOTLAND'),
+('Keck', 'GERMANY'),
+('Keddie', 'SCOTLAND'),
+('Keeber', 'GERMANY'),
+('Keef', 'IRELAND'),
+('Keefe', 'IRELAND'),
+('Keegan', 'IRELAND'),
+('Keegan', 'SCOTLAND'),
+('Keegel', 'GERMANY'),
+('Keeger', 'GERMANY'),
+('Keeler', 'GERMANY'),
+('Keen', 'SCOTLAND'),
+('Keenan', 'IRELAND'),
+('Keenan', 'SCOTLAND'),
+('Keeney', 'SCOTLAND'),
+('Keeper', 'GERMANY'),
+('Keer', 'GERMANY'),
+('Keet', 'GERMANY'),
+('Keete', 'GERMANY'),
+('Keever', 'GERMANY'),
+('Kegel', 'GERMANY'),
+('Kehler', 'GERMANY'),
+('Kehte', 'GERMANY'),
+('Keilholtz', 'GERMANY'),
+('Keill', 'GERMANY'),
+('Keiller', 'SCOTLAND'),
+('Keim', 'GERMANY'),
+('Keir', 'SCOTLAND'),
+('Keitel', 'GERMANY'),
+('Keith', 'SCOTLAND'),
+('Kelber', 'GERMANY'),
+('Kelbie', 'SCOTLAND'),
+('Kellard', 'IRELAND'),
+('Kellas', 'SCOTLAND'),
+('Keller', 'IRELAND'),
+('Kellermann', 'GERMANY'),
+('Kelley', 'IRELAND'),
+('Kelly', 'IRELAND'),
+('Kelly', 'SCOTLAND'),
+('Kelman', 'SCOTLAND'),
+('Kelsen', 'GERMANY'),
+('Kelso', 'SCOTLAND'),
+('Kelver', 'GERMANY'),
+('Kemerling', 'GERMANY'),
+('Kemp', 'SCOTLAND'),
+('Kemper', 'GERMANY'),
+('Kempf', 'GERMANY'),
+('Kempfer', 'GERMANY'),
+('Kendall', 'ENGLAND'),
+('Kendler', 'GERMANY'),
+('Kenedy', 'IRELAND'),
+('Kennady', 'IRELAND'),
+('Kennedy', 'ENGLAND'),
+('Kennedy', 'IRELAND'),
+('Kennedy', 'SCOTLAND'),
+('Kenneke', 'GERMANY'),
+('Kennelly', 'IRELAND'),
+('Kenney', 'SCOTLAND'),
+('Kenny', 'IRELAND'),
+('Kenny', 'SCOTLAND'),
+('Kent', 'SCOTLAND'),
+('Kenyon', 'SCOTLAND'),
+('Keogh', 'IRELAND'),
+('Keogh', 'SCOTLAND'),
+('Kepke', 'GERMANY'),
+('Kepler', 'GERMANY'),
+('Kerber', 'GERMANY'),
+('Kercherten', 'GERMANY'),
+('Kerchherten', 'GERMANY'),
+('Kerkenraadt', 'GERMANY'),
+('Kerker', 'GERMANY'),
+('Kerkhoff', 'GERMANY'),
+('Kerr', 'SCOTLAND'),
+('Kerrigan', 'SCOTLAND'),
+('Kerringer', 'GERMANY'),
+('Kerschouw', 'GERMANY'),
+('Kerst', 'GERMANY'),
+('Kesselstadt', 'GERMANY'),
+('Kesser', 'GERMANY'),
+('Keth', 'GERMANY'),
+('Ketter', 'GERMANY'),
+('Kettler', 'GERMANY'),
+('Kettles', 'SCOTLAND'),
+('Kettner', 'GERMANY'),
+('Kettwood', 'ENGLAND'),
+('Ketzer', 'GERMANY'),
+('Ketzerle', 'GERMANY'),
+('Keukens', 'GERMANY'),
+('Keul', 'GERMANY'),
+('Keulder', 'GERMANY'),
+('Keuler', 'GERMANY'),
+('Keune', 'GERMANY'),
+('Keunig', 'GERMANY'),
+('Keurigheim', 'GERMANY'),
+('Keuter', 'GERMANY'),
+('Keyler', 'GERMANY'),
+('Keyling', 'GERMANY'),
+('Keyn', 'GERMANY'),
+('Keyser', 'GERMANY'),
+('Keyserling', 'GERMANY'),
+('Keyter', 'GERMANY'),
+('Khan', 'SCOTLAND'),
+('Kidd', 'SCOTLAND'),
+('Kiebel', 'GERMANY'),
+('Kieffer', 'GERMANY'),
+('Kiefhaber', 'GERMANY'),
+('Kiefhouwer', 'GERMANY'),
+('Kiehnbaum', 'GERMANY'),
+('Kielow', 'GERMANY'),
+('Kiernan', 'SCOTLAND'),
+('Kiesewetter', 'GERMANY'),
+('Kilber', 'GERMANY'),
+('Kilday', 'SCOTLAND'),
+('Kilgour', 'SCOTLAND'),
+('Kilian', 'GERMANY'),
+('Killen', 'SCOTLAND'),
+('Killin', 'SCOTLAND'),
+('Killoh', 'SCOTLAND'),
+('Killy', 'IRELAND'),
+('Kilpatrick', 'SCOTLAND'),
+('Kilsey', 'IRELAND'),
+('Kimpfel', 'GERMANY'),
+('Kincaid', 'SCOTLAND'),
+('Kinder', 'GERMANY'),
+('King', 'AMERICA'),
+('King', 'ENGLAND'),
+('King', 'SCOTLAND'),
+('Kingborough', 'ENGLAND'),
+('Kinghorn', 'SCOTLAND'),
+('Kingman', 'ENGLAND'),
+('Kinloch', 'SCOTLAND'),
+('Kinnaird', 'SCOTLAND'),
+('Kinnear', 'SCOTLAND'),
+('Kinneke', 'GERMANY'),
+('Kinniburgh', 'SCOTLAND'),
+('Kintzle', 'GERMANY'),
+('Kirby', 'ENGLAND'),
+('Kirby', 'SCOTLAND'),
+('Kirchherten', 'GERMANY'),
+('Kirchhoff', 'GERMANY'),
+('Kirchmann', 'GERMANY'),
+('Kirchner', 'GERMANY'),
+('Kirk', 'SCOTLAND'),
+('Kirkaldy', 'SCOTLAND'),
+('Kirkham', 'SCOTLAND'),
+('Kirkland', 'SCOTLAND'),
+('Kirkpatrick', 'SCOTLAND'),
+('Kirkwood', 'SCOTLAND'),
+('Kirsten', 'GERMANY'),
+('Kister', 'GERMANY'),
+('Kitser', 'GERMANY'),
+('Klakow', 'GERMANY'),
+('Klapfer', 'GERMANY'),
+('Klaszen', 'GERMANY'),
+('Klausmann', 'GERMANY'),
+('Klaver', 'GERMANY'),
+('Klee', 'GERMANY'),
+('Klein', 'GERMANY'),
+('Kleingeld', 'GERMANY'),
+('Kleinhans', 'GERMANY'),
+('Kleinschmidt', 'GERMANY'),
+('Kleinveld', 'GERMANY'),
+('Klepper', 'GERMANY'),
+('Kletzing', 'GERMANY'),
+('Kleu', 'GERMANY'),
+('Kleynhans', 'GERMANY'),
+('Kleynschmidt', 'GERMANY'),
+('Kling', 'GERMANY'),
+('Klingler', 'GERMANY'),
+('Klodt', 'GERMANY'),
+('Kloege', 'GERMANY'),
+('Kloet', 'GERMANY'),
+('Kloete', 'GERMANY'),
+('Kloeten', 'GERMANY'),
+('Klokow', 'GERMANY'),
+('Kloote', 'GERMANY'),
+('Klopfer', 'GERMANY'),
+('Kloppenburg', 'GERMANY'),
+('Kluge', 'GERMANY'),
+('Klupfer', 'GERMANY'),
+('Klutach', 'GERMANY'),
+('Klutasch', 'GERMANY'),
+('Klutasz', 'GERMANY'),
+('Kluthe', 'GERMANY'),
+('Kluysman', 'GERMANY'),
+('Kluysmann', 'GERMANY'),
+('Klötzing', 'GERMANY'),
+('Klünder', 'GERMANY'),
+('Knaus', 'GERMANY'),
+('Kneeder', 'GERMANY'),
+('Kneppel', 'GERMANY'),
+('Knight', 'ENGLAND'),
+('Knight', 'SCOTLAND'),
+('Knippel', 'GERMANY'),
+('Knipper', 'GERMANY'),
+('Knipschild', 'GERMANY'),
+('Knobel', 'GERMANY'),
+('Knoblauch', 'GERMANY'),
+('Knobloch', 'GERMANY'),
+('Knoche', 'GERMANY'),
+('Knoes', 'GERMANY'),
+('Knoetsen', 'GERMANY'),
+('Knohr', 'GERMANY'),
+('Knoop', 'GERMANY'),
+('Knopnadel', 'GERMANY'),
+('Knorr', 'GERMANY'),
+('Knous', 'GERMANY'),
+('Knowles', 'SCOTLAND'),
+('Knox', 'SCOTLAND'),
+('Knudsen', 'GERMANY'),
+('Knuppel', 'GERMANY'),
+('Kober', 'GERMANY'),
+('Koch', 'GERMANY'),
+('Kock', 'GERMANY'),
+('Koeder', 'GERMANY'),
+('Koehler', 'GERMANY'),
+('Koekemoer', 'GERMANY'),
+('Koel', 'GERMANY'),
+('Koeleke', 'GERMANY'),
+('Koeleman', 'GERMANY'),
+('Koeles', 'GERMANY'),
+('Koelike', 'GERMANY'),
+('Koelman', 'GERMANY'),
+('Koen', 'GERMANY'),
+('Koense', 'GERMANY'),
+('Koerts', 'GERMANY'),
+('Koesan', 'GERMANY'),
+('Kohl', 'GERMANY'),
+('Kohrhammer', 'GERMANY'),
+('Kok', 'GERMANY'),
+('Kolb', 'GERMANY'),
+('Kolbe', 'GERMANY'),
+('Kolbeck', 'GERMANY'),
+('Kolde', 'GERMANY'),
+('Koling', 'GERMANY'),
+('Koltherian', 'GERMANY'),
+('Konian', 'GERMANY'),
+('Koniau', 'GERMANY'),
+('Koning', 'GERMANY'),
+('Konkel', 'GERMANY'),
+('Konterman', 'GERMANY'),
+('Kontzelmann', 'GERMANY'),
+('Kool', 'GERMANY'),
+('Kooning', 'GERMANY'),
+('Koopmann', 'GERMANY'),
+('Koosan', 'GERMANY'),
+('Kopf', 'GERMANY'),
+('Korber', 'GERMANY'),
+('Korff', 'GERMANY'),
+('Korn', 'GERMANY'),
+('Korth', 'GERMANY'),
+('Koster', 'GERMANY'),
+('Kotze', 'GERMANY'),
+('Kours', 'GERMANY'),
+('Kouterman', 'GERMANY'),
+('Kowalsky', 'GERMANY'),
+('Kraay', 'GERMANY'),
+('Kraft', 'GERMANY'),
+('Krah', 'GERMANY'),
+('Kraiff', 'GERMANY'),
+('Krakke', 'GERMANY'),
+('Kramer', 'GERMANY'),
+('Krantz', 'GERMANY'),
+('Kraukamp', 'GERMANY'),
+('Kraukhamer', 'GERMANY'),
+('Kraus', 'GERMANY'),
+('Krause', 'GERMANY'),
+('Krayenberg', 'GERMANY'),
+('Kreemer', 'GERMANY'),
+('Kreener', 'GERMANY'),
+('Kreff', 'GERMANY'),
+('Krehahn', 'GERMANY'),
+('Kreimann', 'GERMANY'),
+('Kreipke', 'GERMANY'),
+('Kremann', 'GERMANY'),
+('Kremer', 'GERMANY'),
+('Krenger', 'GERMANY'),
+('Kress', 'GERMANY'),
+('Kretschmar', 'GERMANY'),
+('Kretzinger', 'GERMANY'),
+('Kretzschmar', 'GERMANY'),
+('Kreuger', 'GERMANY'),
+('Kreutzberg', 'GERMANY'),
+('Kreutzmann', 'GERMANY'),
+('Krey', 'GERMANY'),
+('Kreyts', 'GERMANY'),
+('Kreytter', 'GERMANY'),
+('Kriegel', 'GERMANY'),
+('Krieger', 'GERMANY'),
+('Kriegler', 'GERMANY'),
+('Kriek', 'GERMANY'),
+('Kriel', 'GERMANY'),
+('Kriesener', 'GERMANY'),
+('Krige', 'GERMANY'),
+('Kriger', 'GERMANY'),
+('Krigo', 'GERMANY'),
+('Krimmel', 'GERMANY'),
+('Kris', 'GERMANY'),
+('Kristens', 'GERMANY'),
+('Krits', 'GERMANY'),
+('Kritzinger', 'GERMANY'),
+('Kroessen', 'GERMANY'),
+('Kroll', 'GERMANY'),
+('Kromhout', 'GERMANY'),
+('Kronenberg', 'GERMANY'),
+('Kroon', 'GERMANY'),
+('Kroos', 'GERMANY'),
+('Krotz', 'GERMANY'),
+('Kruisman', 'GERMANY'),
+('Krull', 'GERMANY'),
+('Krumholect', 'GERMANY'),
+('Krummbein', 'GERMANY'),
+('Krummholz', 'GERMANY'),
+('Kruse', 'GERMANY'),
+('Krusman', 'GERMANY'),
+('Kruszman', 'GERMANY'),
+('Kruver', 'GERMANY'),
+('Kruyper', 'GERMANY'),
+('Kruysman', 'GERMANY'),
+('Krygsberg', 'GERMANY'),
+('Krynauw', 'GERMANY'),
+('Kryts', 'GERMANY'),
+('Krytsman', 'GERMANY'),
+('Kröger', 'GERMANY'),
+('Krügel', 'GERMANY'),
+('Krüger', 'GERMANY'),
+('Kuckelmann', 'GERMANY'),
+('Kuckuck', 'GERMANY'),
+('Kuhl', 'GERMANY'),
+('Kuhl(e)mann', 'GERMANY'),
+('Kuhlemann', 'GERMANY'),
+('Kuhlmann', 'GERMANY'),
+('Kuhn', 'GERMANY'),
+('Kuhnbaan', 'GERMANY'),
+('Kukemur', 'GERMANY'),
+('Kulaits', 'GERMANY'),
+('Kulenschmidt', 'GERMANY'),
+('Kuler', 'GERMANY'),
+('Kulicke', 'GERMANY'),
+('Kulike', 'GERMANY'),
+('Kuljes', 'GERMANY'),
+('Kull', 'GERMANY'),
+('Kulle', 'GERMANY'),
+('Kumpel', 'GERMANY'),
+('Kune', 'GERMANY'),
+('Kunz', 'GERMANY'),
+('Kunze', 'GERMANY'),
+('Kurain', 'GERMANY'),
+('Kursz', 'GERMANY'),
+('Kurze', 'GERMANY'),
+('Kutscher', 'GERMANY'),
+('Kutzer', 'GERMANY'),
+('Kuuhl', 'GERMANY'),
+('Kuun', 'GERMANY'),
+('Kuykens', 'GERMANY'),
+('Kuylets', 'GERMANY'),
+('Kuyper', 'GERMANY'),
+('Kuyperman', 'GERMANY'),
+('Kuypermann', 'GERMANY'),
+('Kuyphard', 'GERMANY'),
+('Kydd', 'SCOTLAND'),
+('Kyle', 'SCOTLAND'),
+('Kynast', 'GERMANY'),
+('Kähler', 'GERMANY'),
+('Köcher', 'GERMANY'),
+('Köhler', 'GERMANY'),
+('Köhn', 'GERMANY'),
+('Köller', 'GERMANY'),
+('Köln', 'GERMANY'),
+('König', 'GERMANY'),
+('Königshawen', 'GERMANY'),
+('Könneke', 'GERMANY'),
+('Köster', 'GERMANY'),
+('Köth', 'GERMANY'),
+('Köthe', 'GERMANY'),
+('Kübe', 'GERMANY'),
+('Kübermann', 'GERMANY'),
+('Küchler', 'GERMANY'),
+('Kühl', 'GERMANY'),
+('Kühle', 'GERMANY'),
+('Kühne', 'GERMANY'),
+('Kühnel', 'GERMANY'),
+('Kühnemuth', 'GERMANY'),
+('Kündig', 'GERMANY'),
+('Küper', 'GERMANY'),
+('Küpermann', 'GERMANY'),
+('Kürschner', 'GERMANY'),
+('Küster', 'GERMANY'),
+('Laas', 'GERMANY'),
+('Lacey', 'SCOTLAND'),
+('Lacus', 'GERMANY'),
+('Ladendorf', 'GERMANY'),
+('Lafferty', 'SCOTLAND'),
+('Lahey', 'IRELAND'),
+('Laidlaw', 'SCOTLAND'),
+('Laing', 'SCOTLAND'),
+('Laird', 'SCOTLAND'),
+('Lak', 'GERMANY'),
+('Lake', 'ENGLAND'),
+('Lally', 'IRELAND'),
+('Lamb', 'SCOTLAND'),
+('Lambert', 'ENGLAND'),
+('Lambert', 'SCOTLAND'),
+('Lamberti', 'GERMANY'),
+('Lamberts', 'GERMANY'),
+('Lambie', 'SCOTLAND'),
+('Lammie', 'SCOTLAND'),
+('Lamond', 'SCOTLAND'),
+('Lamont', 'SCOTLAND'),
+('Lamp', 'IRELAND'),
+('Lampe', 'GERMANY'),
+('Lampmann', 'GERMANY'),
+('Lamprecht', 'GERMANY'),
+('Lams', 'GERMANY'),
+('Landwerth', 'GERMANY'),
+('Lane', 'SCOTLAND'),
+('Lang', 'SCOTLAND'),
+('Langan', 'SCOTLAND'),
+('Lange', 'GERMANY'),
+('Langejan', 'GERMANY'),
+('Langemaak', 'GERMANY'),
+('Langenau', 'GERMANY'),
+('Langermann', 'GERMANY'),
+('Langford', 'SCOTLAND'),
+('Langlands', 'SCOTLAND'),
+('Langley', 'ENGLAND'),
+('Langohr', 'GERMANY'),
+('Lankhoff', 'GERMANY'),
+('Lannigan', 'SCOTLAND'),
+('Lans', 'GERMANY'),
+('Lappe', 'GERMANY'),
+('Lappenberg', 'GERMANY'),
+('Lappin', 'SCOTLAND'),
+('Lapsley', 'SCOTLAND'),
+('Laquer', 'GERMANY'),
+('Laquex', 'GERMANY'),
+('Larey', 'IRELAND'),
+('Larkin', 'SCOTLAND'),
+('Larkins', 'SCOTLAND'),
+('Larry', 'IRELAND'),
+('Las', 'GERMANY'),
+('Lasius', 'GERMANY'),
+('Lategan', 'GERMANY'),
+('Latimer', 'SCOTLAND'),
+('Latta', 'SCOTLAND'),
+('Latto', 'SCOTLAND'),
+('Lau', 'GERMANY'),
+('Lauchlan', 'SCOTLAND'),
+('Lauder', 'SCOTLAND'),
+('Lauff', 'GERMANY'),
+('Laughlin', 'SCOTLAND'),
+('Laurens', 'GERMANY'),
+('Laurenson', 'SCOTLAND'),
+('Laurentius', 'GERMANY'),
+('Laurentz', 'GERMANY'),
+('Laurie', 'SCOTLAND'),
+('Laurik', 'GERMANY'),
+('Lauscher', 'GERMANY'),
+('Lautenbach', 'GERMANY'),
+('Lavelle', 'SCOTLAND'),
+('Laverty', 'SCOTLAND'),
+('Lavery', 'SCOTLAND'),
+('Law', 'ENGLAND'),
+('Law', 'SCOTLAND'),
+('Lawler', 'IRELAND'),
+('Lawless', 'SCOTLAND'),
+('Lawrence', 'SCOTLAND'),
+('Lawrie', 'SCOTLAND'),
+('Lawson', 'SCOTLAND'),
+('Leach', 'SCOTLAND'),
+('Leadbetter', 'SCOTLAND'),
+('Leahy', 'IRELAND'),
+('Learmonth', 'SCOTLAND'),
+('Leary', 'IRELAND'),
+('Leary', 'SCOTLAND'),
+('Leask', 'SCOTLAND'),
+('Lebeguth', 'GERMANY'),
+('Lechel', 'GERMANY'),
+('Lechner', 'GERMANY'),
+('Lechtle', 'GERMANY'),
+('Leckie', 'SCOTLAND'),
+('Ledingham', 'SCOTLAND'),
+('Lee', 'AMERICA'),
+('Lee', 'SCOTLAND'),
+('Leef', 'GERMANY'),
+('Leeg', 'GERMANY'),
+('Leeman', 'GERMANY'),
+('Leene', 'GERMANY'),
+('Leer', 'GERMANY'),
+('Leertouwer', 'GERMANY'),
+('Lees', 'SCOTLAND'),
+('Leeson', 'ENGLAND'),
+('Leeuw', 'GERMANY'),
+('Leeuwner', 'GERMANY'),
+('Leewner', 'GERMANY'),
+('Leggat', 'SCOTLAND'),
+('Leggate', 'SCOTLAND'),
+('Lehmann', 'GERMANY'),
+('Lehnhard', 'GERMANY'),
+('Leibbrandt', 'GERMANY'),
+('Leichtle', 'GERMANY'),
+('Leighton', 'SCOTLAND'),
+('Lein', 'GERMANY'),
+('Leiper', 'SCOTLAND'),
+('Leiprecht', 'GERMANY'),
+('Leiser', 'GERMANY'),
+('Leishman', 'SCOTLAND'),
+('Leiste', 'GERMANY'),
+('Leitch', 'SCOTLAND'),
+('Leith', 'SCOTLAND'),
+('Leitt', 'GERMANY'),
+('Leitz', 'GERMANY'),
+('Lelie', 'GERMANY'),
+('Lellemann', 'GERMANY'),
+('Lely', 'GERMANY'),
+('Lemfers', 'GERMANY'),
+('Lemke', 'GERMANY'),
+('Lemme', 'GERMANY'),
+('Lemmer', 'GERMANY'),
+('Lemming', 'GERMANY'),
+('Lemon', 'ENGLAND'),
+('Lemon', 'SCOTLAND'),
+('Lempfert', 'GERMANY'),
+('Lempik', 'GERMANY'),
+('Lengerfeld', 'GERMANY'),
+('Lennie', 'SCOTLAND'),
+('Lennon', 'SCOTLAND'),
+('Lennox', 'SCOTLAND'),
+('Lenzer', 'GERMANY'),
+('Leonard', 'SCOTLAND'),
+('Leopold', 'GERMANY'),
+('Lepel', 'GERMANY'),
+('Leppel', 'GERMANY'),
+('Lerm', 'GERMANY'),
+('Lesch', 'GERMANY'),
+('Leser', 'GERMANY'),
+('Leslie', 'SCOTLAND'),
+('Lessels', 'SCOTLAND'),
+('Lessing', 'GERMANY'),
+('Letham', 'SCOTLAND'),
+('Leu', 'GERMANY'),
+('Leubergut', 'GERMANY'),
+('Leuberguth', 'GERMANY'),
+('Leuns', 'GERMANY'),
+('Leut', 'GERMANY'),
+('Levener', 'GERMANY'),
+('Lever', 'GERMANY'),
+('Levy', 'GERMANY'),
+('Lewald', 'GERMANY'),
+('Lewis', 'AMERICA'),
+('Lewis', 'ENGLAND'),
+('Lewis', 'SCOTLAND'),
+('Lewman', 'IRELAND'),
+('Leybregt', 'GERMANY'),
+('Leydenberger', 'GERMANY'),
+('Licht', 'GERMANY'),
+('Lichtenberg', 'GERMANY'),
+('Lichtenstein', 'GERMANY'),
+('Lichtwark', 'GERMANY'),
+('Liddell', 'SCOTLAND'),
+('Liddle', 'SCOTLAND'),
+('Liebenberg', 'GERMANY'),
+('Liebetrau', 'GERMANY'),
+('Liefler', 'GERMANY'),
+('Liemann', 'GERMANY'),
+('Lier', 'GERMANY'),
+('Liera', 'GERMANY'),
+('Lies', 'GERMANY'),
+('Liesching', 'GERMANY'),
+('Lieser', 'GERMANY'),
+('Lietz', 'GERMANY'),
+('Lightbody', 'SCOTLAND'),
+('Lightholder', 'ENGLAND'),
+('Lilley', 'ENGLAND'),
+('Lilley', 'SCOTLAND'),
+('Lilly', 'ENGLAND'),
+('Linch', 'IRELAND'),
+('Lincke', 'GERMANY'),
+('Lind', 'SCOTLAND'),
+('Linde', 'GERMANY'),
+('Lindeke', 'GERMANY'),
+('Lindemann', 'GERMANY'),
+('Linden', 'GERMANY'),
+('Linden', 'SCOTLAND'),
+('Lindenberg', 'GERMANY'),
+('Lindner', 'GERMANY'),
+('Lindsay', 'SCOTLAND'),
+('Linehan', 'IRELAND'),
+('Linfield', 'ENGLAND'),
+('Lingenfelder', 'GERMANY'),
+('Linkel', 'GERMANY'),
+('Linker', 'GERMANY'),
+('Linn', 'SCOTLAND'),
+('Linton', 'SCOTLAND'),
+('Lippert', 'GERMANY'),
+('Lisky', 'GERMANY'),
+('Lister', 'SCOTLAND'),
+('Liston', 'SCOTLAND'),
+('Lithgow', 'SCOTLAND'),
+('Little', 'SCOTLAND'),
+('Littlejohn', 'SCOTLAND'),
+('Littlewood', 'ENGLAND'),
+('Livingston', 'ENGLAND'),
+('Livingston', 'SCOTLAND'),
+('Livingstone', 'SCOTLAND'),
+('Llewellyn', 'SCOTLAND'),
+('Lloyd', 'SCOTLAND'),
+('Lobban', 'SCOTLAND'),
+('Lochhead', 'SCOTLAND'),
+('Lochner', 'GERMANY'),
+('Lochrie', 'SCOTLAND'),
+('Lock', 'ENGLAND'),
+('Locke', 'SCOTLAND'),
+('Lockhart', 'ENGLAND'),
+('Lockhart', 'SCOTLAND'),
+('Lockie', 'SCOTLAND'),
+('Lockner', 'GERMANY'),
+('Lodewig', 'GERMANY'),
+('Loeff', 'GERMANY'),
+('Loetzen', 'GERMANY'),
+('Logan', 'SCOTLAND'),
+('Logie', 'SCOTLAND'),
+('Logue', 'SCOTLAND'),
+('Lohans', 'GERMANY'),
+('Lohmann', 'GERMANY'),
+('Lomburg', 'GERMANY'),
+('Long', 'SCOTLAND'),
+('Longman', 'ENGLAND'),
+('Longmuir', 'SCOTLAND'),
+('Lonie', 'SCOTLAND'),
+('Loock', 'GERMANY'),
+('Looff', 'GERMANY'),
+('Looman', 'GERMANY'),
+('Loop', 'GERMANY'),
+('Loos', 'GERMANY'),
+('Loose', 'GERMANY'),
+('Loot', 'GERMANY'),
+('Lootie', 'GERMANY'),
+('Lorenz', 'GERMANY'),
+('Lorenzen', 'GERMANY'),
+('Lorich', 'GERMANY'),
+('Lorimer', 'SCOTLAND'),
+('Loriou', 'GERMANY'),
+('Lothian', 'SCOTLAND'),
+('Lotter', 'GERMANY'),
+('Lottriet', 'GERMANY'),
+('Lotz', 'GERMANY'),
+('Louden', 'SCOTLAND'),
+('Loudon', 'SCOTLAND'),
+('Lourig', 'GERMANY'),
+('Loury', 'IRELAND'),
+('Louw', 'GERMANY'),
+('Love', 'SCOTLAND'),
+('Lovell', 'ENGLAND'),
+('Lovell', 'SCOTLAND'),
+('Loves', 'IRELAND'),
+('Lovet', 'IRELAND'),
+('Lovie', 'SCOTLAND'),
+('Low', 'SCOTLAND'),
+('Lowden', 'SCOTLAND'),
+('Lowe', 'SCOTLAND'),
+('Lowney', 'IRELAND'),
+('Lowrie', 'SCOTLAND'),
+('Lowson', 'SCOTLAND'),
+('Loy', 'SCOTLAND'),
+('Lucas', 'GERMANY'),
+('Lucas', 'SCOTLAND'),
+('Luchtsler', 'GERMANY'),
+('Lucke', 'GERMANY'),
+('Luckhoff', 'GERMANY'),
+('Ludolph', 'GERMANY'),
+('Ludwig', 'GERMANY'),
+('Lueder', 'GERMANY'),
+('Lufler', 'GERMANY'),
+('Luke', 'SCOTLAND'),
+('Lumsden', 'SCOTLAND'),
+('Lunan', 'SCOTLAND'),
+('Lundie', 'SCOTLAND'),
+('Lunn', 'SCOTLAND'),
+('Luns', 'GERMANY'),
+('Lunsz', 'GERMANY'),
+('Lupp', 'GERMANY'),
+('Lush', 'ENGLAND'),
+('Luster', 'GERMANY'),
+('Lustig', 'GERMANY'),
+('Lutfre', 'GERMANY'),
+('Lutgardt', 'GERMANY'),
+('Lutgentroster', 'GERMANY'),
+('Lutgraun', 'GERMANY'),
+('Luther', 'GERMANY'),
+('Lutze', 'GERMANY'),
+('Luyt', 'GERMANY'),
+('Luytgens', 'GERMANY'),
+('Lyall', 'SCOTLAND'),
+('Lybregt', 'GERMANY'),
+('Lyle', 'SCOTLAND'),
+('Lymington', 'ENGLAND'),
+('Lynas', 'SCOTLAND'),
+('Lynch', 'IRELAND'),
+('Lynch', 'SCOTLAND'),
+('Lynn', 'SCOTLAND'),
+('Lynot', 'IRELAND'),
+('Lyon', 'SCOTLAND'),
+('Lyons', 'SCOTLAND'),
+('Lyttle', 'SCOTLAND'),
+('Löbe', 'GERMANY'),
+('Löning', 'GERMANY'),
+('Lösch', 'GERMANY'),
+('Löwe', 'GERMANY'),
+('Lübbe', 'GERMANY'),
+('Lücke', 'GERMANY'),
+('Lüdecke', 'GERMANY'),
+('Lüders', 'GERMANY'),
+('Lüdike', 'GERMANY'),
+('Lühr', 'GERMANY'),
+('Lürns', 'GERMANY'),
+('Lüsebrink', 'GERMANY'),
+('Lütgens', 'GERMANY'),
+('Lütje', 'GERMANY'),
+('Lütke', 'GERMANY'),
+('Lüttig', 'GERMANY'),
+('Maabie', 'IRELAND'),
+('Maak', 'GERMANY'),
+('Maan', 'GERMANY'),
+('Maas', 'GERMANY'),
+('Maasdorp', 'GERMANY'),
+('Mabon', 'SCOTLAND'),
+('MacAdam', 'SCOTLAND'),
+('MacAlister', 'SCOTLAND'),
+('MacAllister', 'SCOTLAND'),
+('MacArthur', 'SCOTLAND'),
+('MacArthy', 'IRELAND'),
+('MacArty', 'IRELAND'),
+('MacAskill', 'SCOTLAND'),
+('MacAulay', 'SCOTLAND'),
+('MacBeath', 'SCOTLAND'),
+('MacBeth', 'SCOTLAND'),
+('MacCallum', 'SCOTLAND'),
+('MacColl', 'SCOTLAND'),
+('MacCormick', 'SCOTLAND'),
+('MacDiarmid', 'SCOTLAND'),
+('MacDonald', 'SCOTLAND'),
+('MacDougall', 'SCOTLAND'),
+('MacEachen', 'SCOTLAND'),
+('MacFadyen', 'SCOTLAND'),
+('MacFarlane', 'SCOTLAND'),
+('MacGillivray', 'SCOTLAND'),
+('MacGregor', 'SCOTLAND'),
+('MacGuire', 'IRELAND'),
+('MacInnes', 'SCOTLAND'),
+('MacIntosh', 'SCOTLAND'),
+('MacIntyre', 'SCOTLAND'),
+('MacIsaac', 'SCOTLAND'),
+('MacIver', 'SCOTLAND'),
+('MacK', 'SCOTLAND'),
+('MacKay', 'SCOTLAND'),
+('MacKechnie', 'SCOTLAND'),
+('MacKellar', 'SCOTLAND'),
+('MacKenzie', 'SCOTLAND'),
+('MacKie', 'SCOTLAND'),
+('MacKin', 'SCOTLAND'),
+('MacKinnon', 'SCOTLAND'),
+('MacKintosh', 'SCOTLAND'),
+('MacLachlan', 'SCOTLAND'),
+('MacLaren', 'SCOTLAND'),
+('MacLean', 'SCOTLAND'),
+('MacLellan', 'SCOTLAND'),
+('MacLennan', 'SCOTLAND'),
+('MacLeod', 'SCOTLAND'),
+('MacMaster', 'SCOTLAND'),
+('MacMillan', 'SCOTLAND'),
+('MacNab', 'SCOTLAND'),
+('MacNair', 'SCOTLAND'),
+('MacNamara', 'IRELAND'),
+('MacNaughton', 'SCOTLAND'),
+('MacNeil', 'SCOTLAND'),
+('MacNeill', 'SCOTLAND'),
+('MacPhail', 'SCOTLAND'),
+('MacPhee', 'SCOTLAND'),
+('MacPherson', 'SCOTLAND'),
+('MacQuarrie', 'SCOTLAND'),
+('MacQueen', 'SCOTLAND'),
+('MacRae', 'SCOTLAND'),
+('MacRitchie', 'SCOTLAND'),
+('MacSween', 'SCOTLAND'),
+('MacTaggart', 'SCOTLAND'),
+('MacTavish', 'SCOTLAND'),
+('MacVicar', 'SCOTLAND'),
+('Mack', 'GERMANY'),
+('Madden', 'IRELAND'),
+('Madden', 'SCOTLAND'),
+('Maddin', 'IRELAND'),
+('Maddon', 'IRELAND'),
+('Maddox', 'AMERICA'),
+('Mader', 'GERMANY'),
+('Maerklin', 'GERMANY'),
+('Magee', 'IRELAND'),
+('Magee', 'SCOTLAND'),
+('Magner', 'IRELAND'),
+('Magnus', 'GERMANY'),
+('Magrath', 'IRELAND'),
+('Magruder', 'AMERICA'),
+('Maguire', 'SCOTLAND'),
+('Mahan', 'IRELAND'),
+('Mahany', 'IRELAND'),
+('Maher', 'IRELAND'),
+('Maher', 'SCOTLAND'),
+('Mahnfeldt', 'GERMANY'),
+('Mahon', 'IRELAND'),
+('Mahon', 'SCOTLAND'),
+('Mahoney', 'IRELAND'),
+('Mahony', 'IRELAND'),
+('Mailer', 'SCOTLAND'),
+('Main', 'SCOTLAND'),
+('Mains', 'SCOTLAND'),
+('Mair', 'SCOTLAND'),
+('Maitland', 'SCOTLAND'),
+('Major', 'ENGLAND'),
+('Maker', 'IRELAND'),
+('Makmeel', 'GERMANY'),
+('Makmiel', 'GERMANY'),
+('Malcolm', 'SCOTLAND'),
+('Malcolmson', 'SCOTLAND'),
+('Maley', 'SCOTLAND'),
+('Mallen', 'IRELAND'),
+('Malley', 'SCOTLAND'),
+('Malloch', 'SCOTLAND'),
+('Mallon', 'SCOTLAND'),
+('Malloy', 'IRELAND'),
+('Malloy', 'SCOTLAND'),
+('Malmer', 'GERMANY'),
+('Malone', 'IRELAND'),
+('Malone', 'SCOTLAND'),
+('Maloney', 'IRELAND'),
+('Maloney', 'SCOTLAND'),
+('Malony', 'IRELAND'),
+('Maloy', 'IRELAND'),
+('Mandeslow', 'GERMANY'),
+('Manefeldt', 'GERMANY'),
+('Mangels', 'GERMANY'),
+('Mangelsdorff', 'GERMANY'),
+('Mankes', 'GERMANY'),
+('Mann', 'SCOTLAND'),
+('Mannewieck', 'GERMANY'),
+('Mannewiek', 'GERMANY'),
+('Manning', 'ENGLAND'),
+('Mansel', 'GERMANY'),
+('Mansen', 'GERMANY'),
+('Manson', 'SCOTLAND'),
+('Mara', 'IRELAND'),
+('Marbach', 'GERMANY'),
+('Marcks', 'GERMANY'),
+('Mardock', 'IRELAND'),
+('Margetz', 'GERMANY'),
+('Marggraf', 'GERMANY'),
+('Maris', 'GERMANY'),
+('Marisse', 'GERMANY'),
+('Maritz', 'GERMANY'),
+('Mark', 'GERMANY'),
+('Markey', 'SCOTLAND'),
+('Markgraf', 'GERMANY'),
+('Markham', 'ENGLAND'),
+('Markstadt', 'GERMANY'),
+('Marnerigh', 'GERMANY'),
+('Marneweck', 'GERMANY'),
+('Marney', 'IRELAND'),
+('Marnitz', 'GERMANY'),
+('Maron', 'GERMANY'),
+('Marquardt', 'GERMANY'),
+('Marr', 'SCOTLAND'),
+('Marran', 'IRELAND'),
+('Marrs', 'SCOTLAND'),
+('Marsh', 'SCOTLAND'),
+('Marshall', 'AMERICA'),
+('Marshall', 'SCOTLAND'),
+('Martens', 'GERMANY'),
+('Martensen', 'GERMANY'),
+('Martin', 'AMERICA'),
+('Martin', 'GERMANY'),
+('Martin', 'SCOTLAND'),
+('Martini', 'GERMANY'),
+('Marx', 'GERMANY'),
+('Masdorf', 'GERMANY'),
+('Mason', 'AMERICA'),
+('Mason', 'SCOTLAND'),
+('Massey', 'SCOTLAND'),
+('Massie', 'SCOTLAND'),
+('Masson', 'SCOTLAND'),
+('Masterson', 'SCOTLAND'),
+('Masterton', 'SCOTLAND'),
+('Mastorp', 'GERMANY'),
+('Matchett', 'SCOTLAND'),
+('Matfeld', 'GERMANY'),
+('Mather', 'SCOTLAND'),
+('Mathers', 'SCOTLAND'),
+('Matheson', 'SCOTLAND'),
+('Mathewson', 'SCOTLAND'),
+('Mathie', 'SCOTLAND'),
+('Mathieson', 'SCOTLAND'),
+('Matthes', 'GERMANY'),
+('Matthew', 'SCOTLAND'),
+('Matthews', 'AMERICA'),
+('Matthews', 'SCOTLAND'),
+('Matthies', 'GERMANY'),
+('Matthiessen', 'GERMANY'),
+('Mattitzen', 'GERMANY'),
+('Matzdorf', 'GERMANY'),
+('Mauck', 'GERMANY'),
+('Mauer', 'GERMANY'),
+('Maule', 'SCOTLAND'),
+('Maurer', 'GERMANY'),
+('Maver', 'SCOTLAND'),
+('Maxwell', 'SCOTLAND'),
+('May', 'GERMANY'),
+('May', 'SCOTLAND'),
+('Mayer', 'GERMANY'),
+('Maynier', 'GERMANY'),
+('McAdam', 'SCOTLAND'),
+('McAleer', 'SCOTLAND'),
+('McAleese', 'SCOTLAND'),
+('McAlinden', 'SCOTLAND'),
+('McAlindon', 'SCOTLAND'),
+('McAlister', 'SCOTLAND'),
+('McAllister', 'SCOTLAND'),
+('McAloon', 'SCOTLAND'),
+('McAlpine', 'SCOTLAND'),
+('McAndrew', 'SCOTLAND'),
+('McAra', 'SCOTLAND'),
+('McArdle', 'SCOTLAND'),
+('McArthur', 'SCOTLAND'),
+('McAteer', 'SCOTLAND'),
+('McAulay', 'SCOTLAND'),
+('McAuley', 'SCOTLAND'),
+('McAuliff', 'IRELAND'),
+('McAuslan', 'SCOTLAND'),
+('McAusland', 'SCOTLAND'),
+('McAuslane', 'SCOTLAND'),
+('McAvoy', 'SCOTLAND'),
+('McBain', 'SCOTLAND'),
+('McBeath', 'SCOTLAND'),
+('McBeth', 'SCOTLAND'),
+('McBlain', 'SCOTLAND'),
+('McBrearty', 'SCOTLAND'),
+('McBride', 'SCOTLAND'),
+('McBurnie', 'SCOTLAND'),
+('McCabe', 'IRELAND'),
+('McCabe', 'SCOTLAND'),
+('McCafferty', 'SCOTLAND'),
+('McCaffery', 'SCOTLAND'),
+('McCaffrey', 'IRELAND'),
+('McCaffrey', 'SCOTLAND'),
+('McCaig', 'SCOTLAND'),
+('McCall', 'SCOTLAND'),
+('McCallion', 'SCOTLAND'),
+('McCallum', 'SCOTLAND'),
+('McCann', 'SCOTLAND'),
+('McCardle', 'SCOTLAND'),
+('McCarroll', 'SCOTLAND'),
+('McCarron', 'SCOTLAND'),
+('McCarter', 'SCOTLAND'),
+('McCarthy', 'IRELAND'),
+('McCarthy', 'SCOTLAND'),
+('McCartney', 'SCOTLAND'),
+('McCarty', 'IRELAND'),
+('McCathy', 'IRELAND'),
+('McCaughey', 'SCOTLAND'),
+('McCauley', 'SCOTLAND'),
+('McCaw', 'SCOTLAND'),
+('McClafferty', 'SCOTLAND'),
+('McCleary', 'SCOTLAND'),
+('McClelland', 'SCOTLAND'),
+('McClintock', 'SCOTLAND'),
+('McCloy', 'SCOTLAND'),
+('McClung', 'SCOTLAND'),
+('McClure', 'SCOTLAND'),
+('McClurg', 'SCOTLAND'),
+('McCluskey', 'SCOTLAND'),
+('McCluskie', 'SCOTLAND'),
+('McClymont', 'SCOTLAND'),
+('McColgan', 'SCOTLAND'),
+('McColl', 'SCOTLAND'),
+('McColm', 'SCOTLAND'),
+('McCombie', 'SCOTLAND'),
+('McConachie', 'SCOTLAND'),
+('McConnachie', 'SCOTLAND'),
+('McConnell', 'SCOTLAND'),
+('McConville', 'SCOTLAND'),
+('McCool', 'SCOTLAND'),
+('McCord', 'SCOTLAND'),
+('McCormack', 'IRELAND'),
+('McCormack', 'SCOTLAND'),
+('McCormick', 'IRELAND'),
+('McCormick', 'SCOTLAND'),
+('McCourt', 'SCOTLAND'),
+('McCowan', 'SCOTLAND'),
+('McCoy', 'IRELAND'),
+('McCracken', 'SCOTLAND'),
+('McCrae', 'SCOTLAND'),
+('McCraw', 'SCOTLAND'),
+('McCreadie', 'SCOTLAND'),
+('McCready', 'SCOTLAND'),
+('McCreath', 'SCOTLAND'),
+('McCrimmon', 'SCOTLAND'),
+('McCrindle', 'SCOTLAND'),
+('McCrone', 'SCOTLAND'),
+('McCrorie', 'SCOTLAND'),
+('McCrory', 'SCOTLAND'),
+('McCrossan', 'SCOTLAND'),
+('McCubbin', 'SCOTLAND'),
+('McCue', 'SCOTLAND'),
+('McCulley', 'SCOTLAND'),
+('McCulloch', 'SCOTLAND'),
+('McCusker', 'SCOTLAND'),
+('McCutcheon', 'SCOTLAND'),
+('McDade', 'SCOTLAND'),
+('McDaid', 'SCOTLAND'),
+('McDermid', 'SCOTLAND'),
+('McDermot', 'IRELAND'),
+('McDermott', 'IRELAND'),
+('McDermott', 'SCOTLAND'),
+('McDiarmid', 'SCOTLAND'),
+('McDonagh', 'SCOTLAND'),
+('McDonald', 'SCOTLAND'),
+('McDonnell', 'IRELAND'),
+('McDonnell', 'SCOTLAND'),
+('McDonough', 'IRELAND'),
+('McDougall', 'SCOTLAND'),
+('McDowall', 'SCOTLAND'),
+('McDowell', 'SCOTLAND'),
+('McElhinney', 'SCOTLAND'),
+('McElroy', 'SCOTLAND'),
+('McElwee', 'SCOTLAND'),
+('McEvoy', 'SCOTLAND'),
+('McEwan', 'SCOTLAND'),
+('McEwen', 'SCOTLAND'),
+('McFadden', 'SCOTLAND'),
+('McFadyen', 'SCOTLAND'),
+('McFadzean', 'SCOTLAND'),
+('McFall', 'SCOTLAND'),
+('McFarlane', 'SCOTLAND'),
+('McGarrigle', 'SCOTLAND'),
+('McGarrity', 'SCOTLAND'),
+('McGarry', 'SCOTLAND'),
+('McGarva', 'SCOTLAND'),
+('McGarvey', 'SCOTLAND'),
+('McGarvie', 'SCOTLAND'),
+('McGavin', 'SCOTLAND'),
+('McGaw', 'SCOTLAND'),
+('McGeachie', 'SCOTLAND'),
+('McGeachy', 'SCOTLAND'),
+('McGee', 'SCOTLAND'),
+('McGeechan', 'SCOTLAND'),
+('McGeoch', 'SCOTLAND'),
+('McGeorge', 'SCOTLAND'),
+('McGeough', 'SCOTLAND'),
+('McGeown', 'SCOTLAND'),
+('McGhee', 'SCOTLAND'),
+('McGhie', 'SCOTLAND'),
+('McGibbon', 'SCOTLAND'),
+('McGiffen', 'SCOTLAND'),
+('McGill', 'SCOTLAND'),
+('McGillivray', 'SCOTLAND'),
+('McGilp', 'SCOTLAND'),
+('McGilvray', 'SCOTLAND'),
+('McGinlay', 'SCOTLAND'),
+('McGinley', 'SCOTLAND'),
+('McGinn', 'SCOTLAND'),
+('McGinness', 'SCOTLAND'),
+('McGinnis', 'SCOTLAND'),
+('McGinty', 'SCOTLAND'),
+('McGirr', 'SCOTLAND'),
+('McGivern', 'SCOTLAND'),
+('McGlade', 'SCOTLAND'),
+('McGlashan', 'SCOTLAND'),
+('McGlinchey', 'SCOTLAND'),
+('McGlone', 'SCOTLAND'),
+('McGlynn', 'SCOTLAND'),
+('McGoldrick', 'SCOTLAND'),
+('McGonagle', 'SCOTLAND'),
+('McGonigal', 'SCOTLAND'),
+('McGonigle', 'SCOTLAND'),
+('McGougan', 'SCOTLAND'),
+('McGovern', 'SCOTLAND'),
+('McGowan', 'SCOTLAND'),
+('McGown', 'SCOTLAND'),
+('McGrath', 'IRELAND'),
+('McGrath', 'SCOTLAND'),
+('McGrattan', 'SCOTLAND'),
+('McGraw', 'SCOTLAND'),
+('McGreevy', 'SCOTLAND'),
+('McGregor', 'SCOTLAND'),
+('McGroarty', 'SCOTLAND'),
+('McGrory', 'SCOTLAND'),
+('McGuffie', 'SCOTLAND'),
+('McGugan', 'SCOTLAND'),
+('McGuigan', 'SCOTLAND'),
+('McGuinness', 'SCOTLAND'),
+('McGuire', 'SCOTLAND'),
+('McGurk', 'SCOTLAND'),
+('McHale', 'SCOTLAND'),
+('McHardy', 'SCOTLAND'),
+('McHarg', 'SCOTLAND'),
+('McHattie', 'SCOTLAND'),
+('McHugh', 'IRELAND'),
+('McHugh', 'SCOTLAND'),
+('McIlroy', 'SCOTLAND'),
+('McIlwraith', 'SCOTLAND'),
+('McInally', 'SCOTLAND'),
+('McIndoe', 'SCOTLAND'),
+('McInnes', 'SCOTLAND'),
+('McIntosh', 'SCOTLAND'),
+('McIntyre', 'SCOTLAND'),
+('McInulty', 'SCOTLAND'),
+('McIsaac', 'SCOTLAND'),
+('McIver', 'SCOTLAND'),
+('McIvor', 'IRELAND'),
+('McIvor', 'SCOTLAND'),
+('McJames', 'IRELAND'),
+('McKain', 'SCOTLAND'),
+('McKay', 'SCOTLAND'),
+('McKean', 'SCOTLAND'),
+('McKechnie', 'SCOTLAND'),
+('McKee', 'SCOTLAND'),
+('McKeever', 'SCOTLAND'),
+('McKellar', 'SCOTLAND'),
+('McKelvie', 'SCOTLAND'),
+('McKendrick', 'SCOTLAND'),
+('McKendry', 'SCOTLAND'),
+('McKenna', 'IRELAND'),
+('McKenna', 'SCOTLAND'),
+('McKensie', 'IRELAND'),
+('McKenzie', 'SCOTLAND'),
+('McKeown', 'SCOTLAND'),
+('McKernan', 'SCOTLAND'),
+('McKie', 'SCOTLAND'),
+('McKillop', 'SCOTLAND'),
+('McKim', 'SCOTLAND'),
+('McKinlay', 'SCOTLAND'),
+('McKinley', 'SCOTLAND'),
+('McKinney', 'SCOTLAND'),
+('McKinnon', 'SCOTLAND'),
+('McKirdy', 'SCOTLAND'),
+('McKnight', 'SCOTLAND'),
+('McLachlan', 'SCOTLAND'),
+('McLaren', 'SCOTLAND'),
+('McLarty', 'SCOTLAND'),
+('McLatchie', 'SCOTLAND'),
+('McLauchlan', 'SCOTLAND'),
+('McLaughlan', 'SCOTLAND'),
+('McLaughlen', 'IRELAND'),
+('McLaughlin', 'SCOTLAND'),
+('McLay', 'SCOTLAND'),
+('McLean', 'SCOTLAND'),
+('McLeary', 'SCOTLAND'),
+('McLeish', 'SCOTLAND'),
+('McLellan', 'SCOTLAND'),
+('McLelland', 'SCOTLAND'),
+('McLeman', 'SCOTLAND'),
+('McLennan', 'SCOTLAND'),
+('McLeod', 'SCOTLAND'),
+('McLintock', 'SCOTLAND'),
+('McLochlin', 'IRELAND'),
+('McLoughlin', 'IRELAND'),
+('McLoughlin', 'SCOTLAND'),
+('McLuckie', 'SCOTLAND'),
+('McLuskey', 'SCOTLAND'),
+('McMahon', 'IRELAND'),
+('McMahon', 'SCOTLAND'),
+('McManus', 'IRELAND'),
+('McManus', 'SCOTLAND'),
+('McMartin', 'SCOTLAND'),
+('McMaster', 'SCOTLAND'),
+('McMeechan', 'SCOTLAND'),
+('McMeekin', 'SCOTLAND'),
+('McMenamin', 'SCOTLAND'),
+('McMenemy', 'SCOTLAND'),
+('McMichael', 'SCOTLAND'),
+('McMillan', 'SCOTLAND'),
+('McMinn', 'SCOTLAND'),
+('McMonagle', 'SCOTLAND'),
+('McMullan', 'SCOTLAND'),
+('McMullen', 'SCOTLAND'),
+('McMurdo', 'SCOTLAND'),
+('McMurray', 'SCOTLAND'),
+('McMurtrie', 'SCOTLAND'),
+('McNab', 'SCOTLAND'),
+('McNair', 'SCOTLAND'),
+('McNairn', 'SCOTLAND'),
+('McNally', 'SCOTLAND'),
+('McNamara', 'IRELAND'),
+('McNamara', 'SCOTLAND'),
+('McNamee', 'SCOTLAND'),
+('McNaught', 'SCOTLAND'),
+('McNaughton', 'SCOTLAND'),
+('McNee', 'SCOTLAND'),
+('McNeil', 'SCOTLAND'),
+('McNeill', 'SCOTLAND'),
+('McNeillie', 'SCOTLAND'),
+('McNeilly', 'SCOTLAND'),
+('McNeish', 'SCOTLAND'),
+('McNicol', 'SCOTLAND'),
+('McNicoll', 'SCOTLAND'),
+('McNiven', 'SCOTLAND'),
+('McNulty', 'SCOTLAND'),
+('McPake', 'SCOTLAND'),
+('McPhail', 'SCOTLAND'),
+('McPhee', 'SCOTLAND'),
+('McPherson', 'SCOTLAND'),
+('McPhie', 'SCOTLAND'),
+('McPhillips', 'SCOTLAND'),
+('McQuade', 'SCOTLAND'),
+('McQuarrie', 'SCOTLAND'),
+('McQueen', 'SCOTLAND'),
+('McQuillan', 'SCOTLAND'),
+('McQuin', 'IRELAND'),
+('McRae', 'SCOTLAND'),
+('McRitchie', 'SCOTLAND'),
+('McRobb', 'SCOTLAND'),
+('McRobbie', 'SCOTLAND'),
+('McRobert', 'SCOTLAND'),
+('McRoberts', 'SCOTLAND'),
+('McSeveney', 'SCOTLAND'),
+('McShane', 'SCOTLAND'),
+('McSherry', 'SCOTLAND'),
+('McSkimming', 'SCOTLAND'),
+('McSorley', 'SCOTLAND'),
+('McSporran', 'SCOTLAND'),
+('McTaggart', 'SCOTLAND'),
+('McTavish', 'SCOTLAND'),
+('McTurk', 'SCOTLAND'),
+('McVean', 'SCOTLAND'),
+('McVeigh', 'SCOTLAND'),
+('McVey', 'SCOTLAND'),
+('McVicar', 'SCOTLAND'),
+('McVie', 'SCOTLAND'),
+('McVittie', 'SCOTLAND'),
+('McWhinnie', 'SCOTLAND'),
+('McWhirter', 'SCOTLAND'),
+('McWilliam', 'SCOTLAND'),
+('McWilliams', 'SCOTLAND'),
+('Mead', 'ENGLAND'),
+('Mead', 'SCOTLAND'),
+('Meadows', 'ENGLAND'),
+('Mearns', 'SCOTLAND'),
+('Mechau', 'GERMANY'),
+('Meckel', 'GERMANY'),
+('Mecklenburg', 'GERMANY'),
+('Medicus', 'GERMANY'),
+('Meechan', 'SCOTLAND'),
+('Meedel', 'GERMANY'),
+('Meeding', 'GERMANY'),
+('Meegel', 'GERMANY'),
+('Meehan', 'SCOTLAND'),
+('Meek', 'SCOTLAND'),
+('Meerbeck', 'GERMANY'),
+('Meerheim', 'GERMANY'),
+('Meeser', 'GERMANY'),
+('Meester', 'GERMANY'),
+('Megan', 'IRELAND'),
+('Meighan', 'SCOTLAND'),
+('Meikle', 'SCOTLAND'),
+('Meiklejohn', 'SCOTLAND'),
+('Meinbressen', 'GERMANY'),
+('Meinert', 'GERMANY'),
+('Meinerts', 'GERMANY'),
+('Meinertzhagen', 'GERMANY'),
+('Meinhart', 'GERMANY'),
+('Meintjes', 'GERMANY'),
+('Meiring', 'GERMANY'),
+('Meisenhelder', 'GERMANY'),
+('Meisert', 'GERMANY'),
+('Meisler', 'GERMANY'),
+('Meister', 'GERMANY'),
+('Meiszner', 'GERMANY'),
+('Melck', 'GERMANY'),
+('Meldrum', 'SCOTLAND'),
+('Melius', 'GERMANY'),
+('Mellett', 'IRELAND'),
+('Mellis', 'SCOTLAND'),
+('Mellon', 'SCOTLAND'),
+('Melrose', 'SCOTLAND'),
+('Melville', 'SCOTLAND'),
+('Melvin', 'SCOTLAND'),
+('Menesers', 'GERMANY'),
+('Menne', 'GERMANY'),
+('Menneke', 'GERMANY'),
+('Mennen', 'GERMANY'),
+('Mennie', 'SCOTLAND'),
+('Mensel', 'GERMANY'),
+('Mensing', 'GERMANY'),
+('Ment', 'GERMANY'),
+('Mentz', 'GERMANY'),
+('Mentzel', 'GERMANY'),
+('Mentzer', 'GERMANY'),
+('Mentzing', 'GERMANY'),
+('Menzies', 'SCOTLAND'),
+('Mercer', 'SCOTLAND'),
+('Merchant', 'ENGLAND'),
+('Merchant', 'SCOTLAND'),
+('Merfeldt', 'GERMANY'),
+('Merklin', 'GERMANY'),
+('Merry', 'SCOTLAND'),
+('Mertens', 'GERMANY'),
+('Mesten', 'GERMANY'),
+('Metcalfe', 'SCOTLAND'),
+('Methven', 'SCOTLAND'),
+('Metzenaar', 'GERMANY'),
+('Metzger', 'GERMANY'),
+('Metzler', 'GERMANY'),
+('Metzner', 'GERMANY'),
+('Meur', 'GERMANY'),
+('Meuring', 'GERMANY'),
+('Mey', 'GERMANY'),
+('Meyer', 'GERMANY'),
+('Meyhuysen', 'GERMANY'),
+('Meynard', 'GERMANY'),
+('Meynbressen', 'GERMANY'),
+('Meyner', 'GERMANY'),
+('Meynhard', 'GERMANY'),
+('Meynhardt', 'GERMANY'),
+('Meyrer', 'GERMANY'),
+('Meysener', 'GERMANY'),
+('Meysenhelder', 'GERMANY'),
+('Meysies', 'GERMANY'),
+('Meysler', 'GERMANY'),
+('Miash', 'ENGLAND'),
+('Michael', 'SCOTLAND'),
+('Michau', 'GERMANY'),
+('Michel', 'GERMANY'),
+('Michels', 'GERMANY'),
+('Michelsen', 'GERMANY'),
+('Michie', 'SCOTLAND'),
+('Micho', 'GERMANY'),
+('Middlemass', 'SCOTLAND'),
+('Middlemiss', 'SCOTLAND'),
+('Middler', 'SCOTLAND'),
+('Middleton', 'AMERICA'),
+('Middleton', 'SCOTLAND'),
+('Miesel', 'GERMANY'),
+('Miet', 'GERMANY'),
+('Migault', 'GERMANY'),
+('Mikes', 'GERMANY'),
+('Miles', 'SCOTLAND'),
+('Mill', 'SCOTLAND'),
+('Millan', 'SCOTLAND'),
+('Millar', 'SCOTLAND'),
+('Mille', 'GERMANY'),
+('Millen', 'SCOTLAND'),
+('Miller', 'AMERICA'),
+('Miller', 'ENGLAND'),
+('Miller', 'GERMANY'),
+('Miller', 'SCOTLAND'),
+('Milligan', 'SCOTLAND'),
+('Milloy', 'SCOTLAND'),
+('Mills', 'AMERICA'),
+('Mills', 'SCOTLAND'),
+('Milne', 'SCOTLAND'),
+('Milroy', 'SCOTLAND'),
+('Milton', 'SCOTLAND'),
+('Minnie', 'GERMANY'),
+('Minor', 'GERMANY'),
+('Minto', 'SCOTLAND'),
+('Mitchell', 'AMERICA'),
+('Mitchell', 'SCOTLAND'),
+('Moar', 'SCOTLAND'),
+('Mocke', 'GERMANY'),
+('Model', 'GERMANY'),
+('Modemann', 'GERMANY'),
+('Modersohn', 'GERMANY'),
+('Modier', 'GERMANY'),
+('Moederzoon', 'GERMANY'),
+('Moel', 'GERMANY'),
+('Moen', 'GERMANY'),
+('Moes', 'GERMANY'),
+('Moesmann', 'GERMANY'),
+('Moffat', 'SCOTLAND'),
+('Mogd', 'GERMANY'),
+('Mohammed', 'SCOTLAND'),
+('Mohr', 'GERMANY'),
+('Moir', 'SCOTLAND'),
+('Molendorf', 'GERMANY'),
+('Molk', 'GERMANY'),
+('Moll', 'GERMANY'),
+('Moller', 'GERMANY'),
+('Molley', 'IRELAND'),
+('Mollison', 'SCOTLAND'),
+('Molloy', 'IRELAND'),
+('Molloy', 'SCOTLAND'),
+('Moloney', 'IRELAND'),
+('Molvanger', 'GERMANY'),
+('Mom', 'GERMANY'),
+('Momberg', 'GERMANY'),
+('Momsen', 'GERMANY'),
+('Monaghan', 'SCOTLAND'),
+('Moncrieff', 'SCOTLAND'),
+('Moncur', 'SCOTLAND'),
+('Mondt', 'GERMANY'),
+('Money', 'SCOTLAND'),
+('Montagu', 'ENGLAND'),
+('Monteith', 'SCOTLAND'),
+('Montgomery', 'ENGLAND'),
+('Montgomery', 'SCOTLAND'),
+('Moock', 'GERMANY'),
+('Moodie', 'SCOTLAND'),
+('Moody', 'SCOTLAND'),
+('Moole', 'GERMANY'),
+('Moon', 'SCOTLAND'),
+('Mooney', 'IRELAND'),
+('Mooney', 'SCOTLAND'),
+('Moonie', 'SCOTLAND'),
+('Moor', 'GERMANY'),
+('Moore', 'AMERICA'),
+('Moore', 'ENGLAND'),
+('Moore', 'SCOTLAND'),
+('Moormann', 'GERMANY'),
+('Moos', 'GERMANY'),
+('Moran', 'IRELAND'),
+('Moran', 'SCOTLAND'),
+('Morckel', 'GERMANY'),
+('More', 'SCOTLAND'),
+('Morel', 'GERMANY'),
+('Moreland', 'SCOTLAND'),
+('Morgan', 'AMERICA'),
+('Morgan', 'SCOTLAND'),
+('Morgendaal', 'GERMANY'),
+('Morgenthal', 'GERMANY'),
+('Moriarty', 'IRELAND'),
+('Morin', 'IRELAND'),
+('Morison', 'SCOTLAND'),
+('Morkel', 'GERMANY'),
+('Morrice', 'IRELAND'),
+('Morrice', 'SCOTLAND'),
+('Morrin', 'SCOTLAND'),
+('Morris', 'AMERICA'),
+('Morris', 'SCOTLAND'),
+('Morrison', 'SCOTLAND'),
+('Morrow', 'SCOTLAND'),
+('Mortimer', 'SCOTLAND'),
+('Morton', 'ENGLAND'),
+('Morton', 'SCOTLAND'),
+('Mosel', 'GERMANY'),
+('Moser', 'GERMANY'),
+('Moses', 'GERMANY'),
+('Moshagen', 'GERMANY'),
+('Moss', 'SCOTLAND'),
+('Mouat', 'SCOTLAND'),
+('Mowat', 'SCOTLAND'),
+('Mowatt', 'ENGLAND'),
+('Mowatt', 'SCOTLAND'),
+('Mowbray', 'ENGLAND'),
+('Mowbray', 'SCOTLAND'),
+('Moyes', 'SCOTLAND'),
+('Moylan', 'IRELAND'),
+('Mudie', 'SCOTLAND'),
+('Muhl', 'GERMANY'),
+('Muir', 'SCOTLAND'),
+('Muirhead', 'SCOTLAND'),
+('Muisel', 'GERMANY'),
+('Mulcahy', 'IRELAND'),
+('Muldoon', 'SCOTLAND'),
+('Mulgrew', 'SCOTLAND'),
+('Mulheron', 'SCOTLAND'),
+('Mulholland', 'SCOTLAND'),
+('Mulius', 'GERMANY'),
+('Mulking', 'GERMANY'),
+('Mullan', 'SCOTLAND'),
+('Mullen', 'SCOTLAND'),
+('Mullens', 'ENGLAND'),
+('Mulligan', 'IRELAND'),
+('Mulligan', 'SCOTLAND'),
+('Mullin', 'IRELAND'),
+('Mullin', 'SCOTLAND'),
+('Mundell', 'SCOTLAND'),
+('Mungall', 'SCOTLAND'),
+('Munk', 'GERMANY'),
+('Munke', 'GERMANY'),
+('Munn', 'SCOTLAND'),
+('Munnik', 'GERMANY'),
+('Munningh', 'GERMANY'),
+('Munro', 'ENGLAND'),
+('Munro', 'SCOTLAND'),
+('Munstermann', 'GERMANY'),
+('Muntzinger', 'GERMANY'),
+('Murchie', 'SCOTLAND'),
+('Murchison', 'SCOTLAND'),
+('Murdoch', 'SCOTLAND'),
+('Murie', 'SCOTLAND'),
+('Murison', 'SCOTLAND'),
+('Murphey', 'IRELAND'),
+('Murphy', 'IRELAND'),
+('Murphy', 'SCOTLAND'),
+('Murpy', 'IRELAND'),
+('Murray', 'SCOTLAND'),
+('Murrie', 'SCOTLAND'),
+('Mus', 'GERMANY'),
+('Musmann', 'GERMANY'),
+('Mustard', 'SCOTLAND'),
+('Mutch', 'SCOTLAND'),
+('Muysel', 'GERMANY'),
+('Muysenhelder', 'GERMANY'),
+('Muyzel', 'GERMANY'),
+('Muyzener', 'GERMANY'),
+('Myan', 'IRELAND'),
+('Myens', 'ENGLAND'),
+('Myers', 'SCOTLAND'),
+('Myler', 'IRELAND'),
+('Myles', 'SCOTLAND'),
+('Mylius', 'GERMANY'),
+('Mynardt', 'GERMANY'),
+('Mynbressen', 'GERMANY'),
+('Mysert', 'GERMANY'),
+('Mysler', 'GERMANY'),
+('Möhl', 'GERMANY'),
+('Möhring', 'GERMANY'),
+('Möller', 'GERMANY'),
+('Mönnich', 'GERMANY'),
+('Mössner', 'GERMANY'),
+('Müller', 'GERMANY'),
+('Münstermann', 'GERMANY'),
+('Mürbeck', 'GERMANY'),
+('Mürberg', 'GERMANY'),
+('Müszler', 'GERMANY'),
+('Naby', 'GERMANY'),
+('Nachtigall', 'GERMANY'),
+('Nagel', 'GERMANY'),
+('Nagle', 'IRELAND'),
+('Nahe', 'GERMANY'),
+('Nairn', 'SCOTLAND'),
+('Naismith', 'SCOTLAND'),
+('Napier', 'SCOTLAND'),
+('Nash', 'SCOTLAND'),
+('Naudé', 'GERMANY'),
+('Naughton', 'SCOTLAND'),
+('Naylor', 'SCOTLAND'),
+('Naysmith', 'SCOTLAND'),
+('Neagle', 'IRELAND'),
+('Neal', 'ENGLAND'),
+('Neal', 'SCOTLAND'),
+('Neale', 'AMERICA'),
+('Neander', 'GERMANY'),
+('Neave', 'SCOTLAND'),
+('Nebe', 'GERMANY'),
+('Neckels', 'GERMANY'),
+('Needs', 'ENGLAND'),
+('Neef', 'GERMANY'),
+('Neel', 'IRELAND'),
+('Neemso', 'GERMANY'),
+('Neemzu', 'GERMANY'),
+('Neermeyer', 'GERMANY'),
+('Neermyer', 'GERMANY'),
+('Neethling', 'GERMANY'),
+('Nefdt', 'GERMANY'),
+('Neher', 'GERMANY'),
+('Neidhardt', 'GERMANY'),
+('Neil', 'IRELAND'),
+('Neil', 'SCOTLAND'),
+('Neill', 'SCOTLAND'),
+('Neilly', 'SCOTLAND'),
+('Neilson', 'SCOTLAND'),
+('Neish', 'SCOTLAND'),
+('Nelson', 'AMERICA'),
+('Nelson', 'ENGLAND'),
+('Nelson', 'SCOTLAND'),
+('Nerger', 'GERMANY'),
+('Ness', 'SCOTLAND'),
+('Nestle', 'GERMANY'),
+('Neuhaus', 'GERMANY'),
+('Neuhoff', 'GERMANY'),
+('Neumann', 'GERMANY'),
+('Neumeister', 'GERMANY'),
+('Neumeyer', 'GERMANY'),
+('Neun', 'GERMANY'),
+('Neve', 'ENGLAND'),
+('Neve', 'GERMANY'),
+('Neveling', 'GERMANY'),
+('Neville', 'SCOTLAND'),
+('Newall', 'SCOTLAND'),
+('Newbigging', 'SCOTLAND'),
+('Newell', 'SCOTLAND'),
+('Newlands', 'SCOTLAND'),
+('Newman', 'ENGLAND'),
+('Newman', 'SCOTLAND'),
+('Newton', 'SCOTLAND'),
+('Neyn', 'GERMANY'),
+('Nichol', 'SCOTLAND'),
+('Nicholl', 'SCOTLAND'),
+('Nicholls', 'SCOTLAND'),
+('Nicholson', 'ENGLAND'),
+('Nicholson', 'SCOTLAND'),
+('Nickel', 'GERMANY'),
+('Nicker', 'GERMANY'),
+('Nickison', 'ENGLAND'),
+('Nicol', 'SCOTLAND'),
+('Nicolay', 'GERMANY'),
+('Nicoll', 'SCOTLAND'),
+('Nicolson', 'SCOTLAND'),
+('Niederhöffer', 'GERMANY'),
+('Niederland', 'GERMANY'),
+('Niedermeyer', 'GERMANY'),
+('Niehaus', 'GERMANY'),
+('Niel', 'IRELAND'),
+('Nielen', 'GERMANY'),
+('Nielsen', 'GERMANY'),
+('Niemann', 'GERMANY'),
+('Nienaber', 'GERMANY'),
+('Nier', 'GERMANY'),
+('Niethard', 'GERMANY'),
+('Niethardt', 'GERMANY'),
+('Nietmann', 'GERMANY'),
+('Nietsche', 'GERMANY'),
+('Nieuwenhuys', 'GERMANY'),
+('Nightingale', 'ENGLAND'),
+('Nigrini', 'GERMANY'),
+('Nimmo', 'SCOTLAND'),
+('Nippen', 'GERMANY'),
+('Nisbet', 'SCOTLAND'),
+('Nissen', 'GERMANY'),
+('Niven', 'SCOTLAND'),
+('Nix', 'GERMANY'),
+('Nixe', 'GERMANY'),
+('Nixon', 'SCOTLAND'),
+('Noback', 'GERMANY'),
+('Noble', 'SCOTLAND'),
+('Nolan', 'IRELAND'),
+('Nolan', 'SCOTLAND'),
+('Nolde', 'GERMANY'),
+('Noll', 'GERMANY'),
+('Nolte', 'GERMANY'),
+('Nonnenmacher', 'GERMANY'),
+('Nord', 'GERMANY'),
+('Nordheyde', 'GERMANY'),
+('Nordmann', 'GERMANY'),
+('Norman', 'ENGLAND'),
+('Norman', 'SCOTLAND'),
+('Norrie', 'SCOTLAND'),
+('Norris', 'SCOTLAND'),
+('North', 'SCOTLAND'),
+('Norton', 'SCOTLAND'),
+('Norwood', 'SCOTLAND'),
+('Notley', 'ENGLAND'),
+('Notman', 'SCOTLAND'),
+('Nott', 'ENGLAND'),
+('Noulan', 'IRELAND'),
+('Now', 'GERMANY'),
+('Nowlan', 'IRELAND'),
+('Nowland', 'IRELAND'),
+('Nugent', 'SCOTLAND'),
+('Nuhren', 'GERMANY'),
+('Nusser', 'GERMANY'),
+('Nutt', 'SCOTLAND'),
+('Nyhoff', 'GERMANY'),
+('Nyman', 'GERMANY'),
+('Nys', 'GERMANY'),
+('Nölting', 'GERMANY'),
+('Nöthling', 'GERMANY'),
+('O''Brian', 'IRELAND'),
+('O''Brien', 'IRELAND'),
+('O''Brien', 'SCOTLAND'),
+('O''Bryan', 'IRELAND'),
+('O''Byrne', 'SCOTLAND'),
+('O''Connell', 'SCOTLAND'),
+('O''Connor', 'SCOTLAND'),
+('O''Donnell', 'IRELAND'),
+('O''Donnell', 'SCOTLAND'),
+('O''Hagan', 'SCOTLAND'),
+('O''Hanlon', 'SCOTLAND'),
+('O''Hara', 'IRELAND'),
+('O''Hara', 'SCOTLAND'),
+('O''Hare', 'SCOTLAND'),
+('O''Kane', 'SCOTLAND'),
+('O''Keefe', 'IRELAND'),
+('O''Malley', 'SCOTLAND'),
+('O''Neal', 'IRELAND'),
+('O''Neil', 'IRELAND'),
+('O''Neil', 'SCOTLAND'),
+('O''Neill', 'IRELAND'),
+('O''Neill', 'SCOTLAND'),
+('O''Reilly', 'SCOTLAND'),
+('O''Rourke', 'SCOTLAND'),
+('O''Shea', 'SCOTLAND'),
+('O''Sullivan', 'IRELAND'),
+('O''Sullivan', 'SCOTLAND'),
+('Oag', 'SCOTLAND'),
+('Oakes', 'SCOTLAND'),
+('Oakley', 'ENGLAND'),
+('Obel', 'GERMANY'),
+('Obermeyer', 'GERMANY'),
+('Obie', 'GERMANY'),
+('Ochs', 'GERMANY'),
+('Ockens', 'GERMANY'),
+('Oconnell', 'IRELAND'),
+('Oconner', 'IRELAND'),
+('Oconnor', 'IRELAND'),
+('Odendaal', 'GERMANY'),
+('Odendall', 'GERMANY'),
+('Oechsle', 'GERMANY'),
+('Oelkers', 'GERMANY'),
+('Oertel', 'GERMANY'),
+('Oge', 'GERMANY'),
+('Ogg', 'SCOTLAND'),
+('Ogilvie', 'SCOTLAND'),
+('Ogston', 'SCOTLAND'),
+('Ohlwagen', 'GERMANY'),
+('Olckers', 'GERMANY'),
+('Oldeland', 'GERMANY'),
+('Oldelen', 'GERMANY'),
+('Oldenburg', 'GERMANY'),
+('Oldenland', 'GERMANY'),
+('Olderich', 'GERMANY'),
+('Oleary', 'IRELAND'),
+('Olenburg', 'GERMANY'),
+('Oliphant', 'SCOTLAND'),
+('Oliver', 'ENGLAND'),
+('Oliver', 'SCOTLAND'),
+('Olkers', 'GERMANY'),
+('Ollerich', 'GERMANY'),
+('Olsmit', 'GERMANY'),
+('Olwagen', 'GERMANY'),
+('Omsteede', 'GERMANY'),
+('Onger', 'GERMANY'),
+('Onken', 'GERMANY'),
+('Onse', 'GERMANY'),
+('Oortmann', 'GERMANY'),
+('Oost', 'GERMANY'),
+('Ophausen', 'GERMANY'),
+('Ophues', 'GERMANY'),
+('Ophuysen', 'GERMANY'),
+('Oppel', 'GERMANY'),
+('Oppermann', 'GERMANY'),
+('Orbaan', 'GERMANY'),
+('Orban', 'GERMANY'),
+('Ormiston', 'SCOTLAND'),
+('Ormsby', 'IRELAND'),
+('Orr', 'SCOTLAND'),
+('Ortman', 'GERMANY'),
+('Ortmann', 'GERMANY'),
+('Osborne', 'ENGLAND'),
+('Osborne', 'SCOTLAND'),
+('Osiander', 'GERMANY'),
+('Ossenkop', 'GERMANY'),
+('Osterhagen', 'GERMANY'),
+('Osterhausen', 'GERMANY'),
+('Osterloh', 'GERMANY'),
+('Oswald', 'SCOTLAND'),
+('Ott', 'GERMANY'),
+('Otte', 'GERMANY'),
+('Otto', 'GERMANY'),
+('Ouke', 'GERMANY'),
+('Oven', 'GERMANY'),
+('Ovens', 'SCOTLAND'),
+('Overton', 'ENGLAND'),
+('Ovie', 'GERMANY'),
+('Owen', 'SCOTLAND'),
+('Owens', 'SCOTLAND'),
+('Paap', 'GERMANY'),
+('Pach', 'GERMANY'),
+('Paesselt', 'GERMANY'),
+('Pagan', 'SCOTLAND'),
+('Page', 'SCOTLAND'),
+('Pagen', 'GERMANY'),
+('Paisley', 'SCOTLAND'),
+('Pal', 'GERMANY'),
+('Palgrave', 'ENGLAND'),
+('Palkhausen', 'GERMANY'),
+('Pallas', 'GERMANY'),
+('Palm', 'GERMANY'),
+('Palmer', 'ENGLAND'),
+('Palmer', 'SCOTLAND'),
+('Pandik', 'GERMANY'),
+('Panton', 'SCOTLAND'),
+('Papst', 'GERMANY'),
+('Paradys', 'GERMANY'),
+('Pardys', 'GERMANY'),
+('Paret', 'GERMANY'),
+('Paris', 'SCOTLAND'),
+('Park', 'GERMANY'),
+('Park', 'SCOTLAND'),
+('Parker', 'AMERICA'),
+('Parker', 'SCOTLAND'),
+('Parkes', 'SCOTLAND'),
+('Parkin', 'SCOTLAND'),
+('Parkins', 'ENGLAND'),
+('Parkinson', 'SCOTLAND'),
+('Parnell', 'ENGLAND'),
+('Parr', 'SCOTLAND'),
+('Parry', 'SCOTLAND'),
+('Parsons', 'ENGLAND'),
+('Parsons', 'SCOTLAND'),
+('Pasmann', 'GERMANY'),
+('Paston', 'ENGLAND'),
+('Pate', 'SCOTLAND'),
+('Paterson', 'SCOTLAND'),
+('Patience', 'SCOTLAND'),
+('Paton', 'SCOTLAND'),
+('Patrick', 'SCOTLAND'),
+('Patterson', 'SCOTLAND'),
+('Pattie', 'SCOTLAND'),
+('Pattinson', 'SCOTLAND'),
+('Pattison', 'SCOTLAND'),
+('Patton', 'SCOTLAND'),
+('Pattullo', 'SCOTLAND'),
+('Pauck', 'GERMANY'),
+('Paul', 'SCOTLAND'),
+('Paulmann', 'GERMANY'),
+('Pauls', 'GERMANY'),
+('Paulsen', 'GERMANY'),
+('Paureich', 'GERMANY'),
+('Paxton', 'SCOTLAND'),
+('Payne', 'AMERICA'),
+('Payne', 'SCOTLAND'),
+('Peacock', 'SCOTLAND'),
+('Pearce', 'SCOTLAND'),
+('Pearson', 'SCOTLAND'),
+('Peat', 'SCOTLAND'),
+('Peattie', 'SCOTLAND'),
+('Peddie', 'SCOTLAND'),
+('Peden', 'SCOTLAND'),
+('Peebles', 'SCOTLAND'),
+('Peens', 'GERMANY'),
+('Peensch', 'GERMANY'),
+('Peesler', 'GERMANY'),
+('Peetzer', 'GERMANY'),
+('Peffer', 'GERMANY'),
+('Peggie', 'SCOTLAND'),
+('Peil', 'GERMANY'),
+('Peinsch', 'GERMANY'),
+('Pellje', 'GERMANY'),
+('Peltzer', 'GERMANY'),
+('Pemberton', 'ENGLAND'),
+('Pembroke', 'ENGLAND'),
+('Pender', 'SCOTLAND'),
+('Penman', 'SCOTLAND'),
+('Pennington', 'SCOTLAND'),
+('Penny', 'SCOTLAND'),
+('Pennycook', 'SCOTLAND'),
+('Pensel', 'GERMANY'),
+('Penting', 'GERMANY'),
+('Pentz', 'GERMANY'),
+('Pentzel', 'GERMANY'),
+('Pentzer', 'GERMANY'),
+('Peo', 'GERMANY'),
+('Pepler', 'GERMANY'),
+('Percival', 'SCOTLAND'),
+('Pereboom', 'GERMANY'),
+('Perkins', 'SCOTLAND'),
+('Pernouw', 'GERMANY'),
+('Perri', 'GERMANY'),
+('Perrie', 'SCOTLAND'),
+('Perry', 'ENGLAND'),
+('Perry', 'SCOTLAND'),
+('Pers', 'GERMANY'),
+('Persall', 'IRELAND'),
+('Persohn', 'GERMANY'),
+('Persoon', 'GERMANY'),
+('Pert', 'SCOTLAND'),
+('Pester', 'GERMANY'),
+('Peter', 'SCOTLAND'),
+('Petermann', 'GERMANY'),
+('Peters', 'GERMANY'),
+('Peters', 'SCOTLAND'),
+('Petersen', 'GERMANY'),
+('Peterson', 'GERMANY'),
+('Peterson', 'SCOTLAND'),
+('Petkauw', 'GERMANY'),
+('Petrie', 'GERMANY'),
+('Petrie', 'SCOTLAND'),
+('Pettigrew', 'SCOTLAND'),
+('Peugel', 'GERMANY'),
+('Peuls', 'GERMANY'),
+('Peyper', 'GERMANY'),
+('Peztold', 'GERMANY'),
+('Pfaff', 'GERMANY'),
+('Pfannenschmidt', 'GERMANY'),
+('Pfannenstiel', 'GERMANY'),
+('Pfeffer', 'GERMANY'),
+('Pfeifer', 'GERMANY'),
+('Pfeiffer', 'GERMANY'),
+('Pfeil', 'GERMANY'),
+('Pfister', 'GERMANY'),
+('Pflock', 'GERMANY'),
+('Pflüger', 'GERMANY'),
+('Pfundheller', 'GERMANY'),
+('Phee', 'SCOTLAND'),
+('Philip', 'SCOTLAND'),
+('Philipp', 'GERMANY'),
+('Philipson', 'GERMANY'),
+('Phillip', 'SCOTLAND'),
+('Phillips', 'SCOTLAND'),
+('Philp', 'SCOTLAND'),
+('Phimister', 'SCOTLAND'),
+('Phinn', 'SCOTLAND'),
+('Phoks', 'GERMANY'),
+('Pichel', 'GERMANY'),
+('Pick', 'GERMANY'),
+('Picken', 'SCOTLAND'),
+('Pickering', 'SCOTLAND'),
+('Pickhard', 'GERMANY'),
+('Piek', 'GERMANY'),
+('Pieper', 'GERMANY'),
+('Piercy', 'ENGLAND'),
+('Pigner', 'GERMANY'),
+('Pike', 'ENGLAND'),
+('Pike', 'SCOTLAND'),
+('Pinkenberg', 'GERMANY'),
+('Pinkerton', 'SCOTLAND'),
+('Piper', 'GERMANY'),
+('Piper', 'SCOTLAND'),
+('Pirie', 'SCOTLAND'),
+('Pirman', 'GERMANY'),
+('Pirmann', 'GERMANY'),
+('Pirrie', 'SCOTLAND'),
+('Pithie', 'SCOTLAND'),
+('Piton', 'GERMANY'),
+('Pitt', 'ENGLAND'),
+('Pitt', 'SCOTLAND'),
+('Pitzer', 'GERMANY'),
+('Plaat', 'GERMANY'),
+('Place', 'ENGLAND'),
+('Plagmann', 'GERMANY'),
+('Plank', 'SCOTLAND'),
+('Plantz', 'GERMANY'),
+('Plat', 'GERMANY'),
+('Platmann', 'GERMANY'),
+('Platt', 'SCOTLAND'),
+('Platte', 'GERMANY'),
+('Plenderleith', 'SCOTLAND'),
+('Pleunes', 'GERMANY'),
+('Pleunis', 'GERMANY'),
+('Ploeg', 'GERMANY'),
+('Ploege', 'GERMANY'),
+('Plowman', 'ENGLAND'),
+('Plugstert', 'GERMANY'),
+('Plunkett', 'SCOTLAND'),
+('Pluttermann', 'GERMANY'),
+('Pluy', 'GERMANY'),
+('Plynink', 'GERMANY'),
+('Plünes', 'GERMANY'),
+('Poensch', 'GERMANY'),
+('Poggenpuhl', 'GERMANY'),
+('Pohl', 'GERMANY'),
+('Pohlmann', 'GERMANY'),
+('Pollard', 'SCOTLAND'),
+('Pollock', 'SCOTLAND'),
+('Polson', 'SCOTLAND'),
+('Poltock', 'ENGLAND'),
+('Pompel', 'GERMANY'),
+('Pons', 'GERMANY'),
+('Pook', 'GERMANY'),
+('Poole', 'SCOTLAND'),
+('Poolman', 'GERMANY'),
+('Poolmann', 'GERMANY'),
+('Pooth', 'GERMANY'),
+('Pope', 'AMERICA'),
+('Pope', 'SCOTLAND'),
+('Popken', 'GERMANY'),
+('Poppgy', 'GERMANY'),
+('Porteous', 'SCOTLAND'),
+('Porter', 'SCOTLAND'),
+('Posse', 'GERMANY'),
+('Post', 'GERMANY'),
+('Postel', 'GERMANY'),
+('Potensen', 'GERMANY'),
+('Potgieter', 'GERMANY'),
+('Potharst', 'GERMANY'),
+('Potter', 'SCOTLAND'),
+('Pottinger', 'SCOTLAND'),
+('Potts', 'SCOTLAND'),
+('Pow', 'SCOTLAND'),
+('Powell', 'AMERICA'),
+('Powell', 'ENGLAND'),
+('Powell', 'SCOTLAND'),
+('Power', 'SCOTLAND'),
+('Praag', 'GERMANY'),
+('Pratt', 'ENGLAND'),
+('Pratt', 'SCOTLAND'),
+('Prediger', 'GERMANY'),
+('Preem', 'GERMANY'),
+('Preger', 'GERMANY'),
+('Prehn', 'GERMANY'),
+('Preigel', 'GERMANY'),
+('Prein', 'GERMANY'),
+('Preller', 'GERMANY'),
+('Prender', 'GERMANY'),
+('Prenger', 'GERMANY'),
+('Prenner', 'GERMANY'),
+('Prentice', 'SCOTLAND'),
+('Press', 'ENGLAND'),
+('Preston', 'SCOTLAND'),
+('Preuszer', 'GERMANY'),
+('Preute', 'GERMANY'),
+('Preutz', 'GERMANY'),
+('Preyser', 'GERMANY'),
+('Price', 'AMERICA'),
+('Price', 'ENGLAND'),
+('Price', 'SCOTLAND'),
+('Pricelius', 'GERMANY'),
+('Prick', 'GERMANY'),
+('Prien', 'GERMANY'),
+('Priest', 'SCOTLAND'),
+('Primrose', 'SCOTLAND'),
+('Pringle', 'SCOTLAND'),
+('Prinz', 'GERMANY'),
+('Prior', 'SCOTLAND'),
+('Prippel', 'GERMANY'),
+('Prisky', 'GERMANY'),
+('Pritchard', 'SCOTLAND'),
+('Pritzel', 'GERMANY'),
+('Proctor', 'SCOTLAND'),
+('Proothand', 'GERMANY'),
+('Proudfoot', 'SCOTLAND'),
+('Provan', 'SCOTLAND'),
+('Pruys', 'GERMANY'),
+('Pruysser', 'GERMANY'),
+('Pryce', 'SCOTLAND'),
+('Pryde', 'SCOTLAND'),
+('Pugh', 'SCOTLAND'),
+('Pullar', 'SCOTLAND'),
+('Purcell', 'SCOTLAND'),
+('Purdie', 'SCOTLAND'),
+('Purdon', 'SCOTLAND'),
+('Pursell', 'IRELAND'),
+('Purves', 'SCOTLAND'),
+('Purvis', 'SCOTLAND'),
+('Putner', 'GERMANY'),
+('Putter', 'GERMANY'),
+('Pyper', 'GERMANY'),
+('Pyper', 'SCOTLAND'),
+('Pöhl', 'GERMANY'),
+('Pöhler', 'GERMANY'),
+('Pöhls', 'GERMANY'),
+('Pök', 'GERMANY'),
+('Pönsch', 'GERMANY'),
+('Pötter', 'GERMANY'),
+('Quabeck', 'GERMANY'),
+('Queen', 'SCOTLAND'),
+('Quever', 'GERMANY'),
+('Quigley', 'SCOTLAND'),
+('Quill', 'IRELAND'),
+('Quin', 'IRELAND'),
+('Quin', 'SCOTLAND'),
+('Quinlan', 'IRELAND'),
+('Quinland', 'IRELAND'),
+('Quinn', 'IRELAND'),
+('Quinn', 'SCOTLAND'),
+('Raap', 'GERMANY'),
+('Raatjens', 'GERMANY'),
+('Raatjes', 'GERMANY'),
+('Raatke', 'GERMANY'),
+('Raats', 'GERMANY'),
+('Raatser', 'GERMANY'),
+('Rabe', 'GERMANY'),
+('Rabie', 'GERMANY'),
+('Radcliff', 'ENGLAND'),
+('Radcliffe', 'SCOTLAND'),
+('Radeke', 'GERMANY'),
+('Rademacher', 'GERMANY'),
+('Rademeyer', 'GERMANY'),
+('Raderotjes', 'GERMANY'),
+('Radyn', 'GERMANY'),
+('Rae', 'SCOTLAND'),
+('Raeburn', 'SCOTLAND'),
+('Raeck', 'GERMANY'),
+('Raesen', 'GERMANY'),
+('Raeside', 'SCOTLAND'),
+('Raffan', 'SCOTLAND'),
+('Rafferty', 'SCOTLAND'),
+('Ragan', 'IRELAND'),
+('Ragen', 'IRELAND'),
+('Raht', 'GERMANY'),
+('Rainey', 'SCOTLAND'),
+('Rainy', 'IRELAND'),
+('Raitt', 'SCOTLAND'),
+('Rake', 'ENGLAND'),
+('Raley', 'ENGLAND'),
+('Ralph', 'SCOTLAND'),
+('Ralston', 'SCOTLAND'),
+('Ramage', 'SCOTLAND'),
+('Rambusch', 'GERMANY'),
+('Ramsay', 'SCOTLAND'),
+('Ramsbury', 'ENGLAND'),
+('Ramst', 'GERMANY'),
+('Ramyk', 'GERMANY'),
+('Ranfft', 'GERMANY'),
+('Range', 'GERMANY'),
+('Rankin', 'SCOTLAND'),
+('Rankine', 'SCOTLAND'),
+('Ransome', 'ENGLAND'),
+('Raphael', 'GERMANY'),
+('Ras', 'GERMANY'),
+('Rasfeld', 'GERMANY'),
+('Rasp', 'GERMANY'),
+('Rat', 'GERMANY'),
+('Ratcliffe', 'SCOTLAND'),
+('Rattray', 'SCOTLAND'),
+('Ratzer', 'GERMANY'),
+('Raubenheimer', 'GERMANY'),
+('Rauch', 'GERMANY'),
+('Rauchfusz', 'GERMANY'),
+('Rauchgansz', 'GERMANY'),
+('Rauleder', 'GERMANY'),
+('Rautenbach', 'GERMANY'),
+('Raux', 'GERMANY'),
+('Ravens', 'GERMANY'),
+('Ray', 'SCOTLAND'),
+('Rayment', 'ENGLAND'),
+('Read', 'ENGLAND'),
+('Read', 'SCOTLAND'),
+('Readen', 'IRELAND'),
+('Reagan', 'IRELAND'),
+('Rearden', 'IRELAND'),
+('Reardon', 'IRELAND'),
+('Reckens', 'GERMANY'),
+('Reddy', 'IRELAND'),
+('Redecker', 'GERMANY'),
+('Redelinghuys', 'GERMANY'),
+('Rediger', 'GERMANY'),
+('Redmond', 'SCOTLAND'),
+('Redpath', 'SCOTLAND'),
+('Reed', 'SCOTLAND'),
+('Reedel', 'GERMANY'),
+('Reeder', 'GERMANY'),
+('Reeker', 'GERMANY'),
+('Reekie', 'SCOTLAND'),
+('Reel', 'GERMANY'),
+('Rees', 'SCOTLAND'),
+('Reeter', 'GERMANY'),
+('Reeve', 'ENGLAND'),
+('Reeves', 'ENGLAND'),
+('Reeves', 'SCOTLAND'),
+('Regan', 'IRELAND'),
+('Regan', 'SCOTLAND'),
+('Regter', 'GERMANY'),
+('Rehder', 'GERMANY'),
+('Rehding', 'GERMANY'),
+('Rehmers', 'GERMANY'),
+('Rehmes', 'GERMANY'),
+('Rehn', 'GERMANY'),
+('Reibel', 'GERMANY'),
+('Reich', 'GERMANY'),
+('Reichardt', 'GERMANY'),
+('Reiche', 'GERMANY'),
+('Reichert', 'GERMANY'),
+('Reichwald', 'GERMANY'),
+('Reicke', 'GERMANY'),
+('Reid', 'ENGLAND'),
+('Reid', 'SCOTLAND'),
+('Reier', 'GERMANY'),
+('Reiley', 'IRELAND'),
+('Reilly', 'SCOTLAND'),
+('Reily', 'IRELAND'),
+('Reimann', 'GERMANY'),
+('Reimer', 'GERMANY'),
+('Reimers', 'GERMANY'),
+('Reinbach', 'GERMANY'),
+('Reinecke', 'GERMANY'),
+('Reinhardt', 'GERMANY'),
+('Reinhold', 'GERMANY'),
+('Reininger', 'GERMANY'),
+('Reismann', 'GERMANY'),
+('Reith', 'SCOTLAND'),
+('Relly', 'IRELAND'),
+('Remagen', 'GERMANY'),
+('Remajenne', 'GERMANY'),
+('Remas', 'GERMANY'),
+('Remer', 'GERMANY'),
+('Remers', 'GERMANY'),
+('Remisch', 'GERMANY'),
+('Remkes', 'GERMANY'),
+('Remmers', 'GERMANY'),
+('Rempf', 'GERMANY'),
+('Rempkens', 'GERMANY'),
+('Rempler', 'GERMANY'),
+('Remsch', 'GERMANY'),
+('Rendall', 'SCOTLAND'),
+('Renfrew', 'SCOTLAND'),
+('Rengs', 'GERMANY'),
+('Renk', 'GERMANY'),
+('Renke', 'GERMANY'),
+('Renken', 'GERMANY'),
+('Rennebeck', 'GERMANY'),
+('Renneke', 'GERMANY'),
+('Renner', 'GERMANY'),
+('Rennie', 'SCOTLAND'),
+('Renno', 'GERMANY'),
+('Rens', 'GERMANY'),
+('Rensch', 'GERMANY'),
+('Rentel', 'GERMANY'),
+('Renton', 'SCOTLAND'),
+('Renwick', 'SCOTLAND'),
+('Repington', 'ENGLAND'),
+('Repke', 'GERMANY'),
+('Repmond', 'GERMANY'),
+('Retiger', 'GERMANY'),
+('Rettie', 'SCOTLAND'),
+('Reujter', 'GERMANY'),
+('Reuter', 'GERMANY'),
+('Reynders', 'GERMANY'),
+('Reyneke', 'GERMANY'),
+('Reynolds', 'SCOTLAND'),
+('Reyter', 'GERMANY'),
+('Reyts', 'GERMANY'),
+('Rhee', 'GERMANY'),
+('Rhenius', 'GERMANY'),
+('Rhind', 'SCOTLAND'),
+('Rhode', 'GERMANY'),
+('Rhodes', 'SCOTLAND'),
+('Riach', 'SCOTLAND'),
+('Rian', 'IRELAND'),
+('Ribkens', 'GERMANY'),
+('Rice', 'SCOTLAND'),
+('Richard', 'GERMANY'),
+('Richards', 'ENGLAND'),
+('Richards', 'SCOTLAND'),
+('Richardson', 'SCOTLAND'),
+('Richert', 'GERMANY'),
+('Richmann', 'GERMANY'),
+('Richmond', 'SCOTLAND'),
+('Richter', 'GERMANY'),
+('Ricke', 'GERMANY'),
+('Ricker', 'GERMANY'),
+('Rickers', 'GERMANY'),
+('Riddell', 'SCOTLAND'),
+('Riddoch', 'SCOTLAND'),
+('Ridley', 'SCOTLAND'),
+('Ridlington', 'ENGLAND'),
+('Ridout', 'ENGLAND'),
+('Riecke', 'GERMANY'),
+('Riedel', 'GERMANY'),
+('Rieg', 'GERMANY'),
+('Rieger', 'GERMANY'),
+('Riegner', 'GERMANY'),
+('Riekeheer', 'GERMANY'),
+('Rieker', 'GERMANY'),
+('Riekheer', 'GERMANY'),
+('Riel', 'GERMANY'),
+('Riely', 'IRELAND'),
+('Riemer', 'GERMANY'),
+('Riesmann', 'GERMANY'),
+('Rieth', 'GERMANY'),
+('Rietveldt', 'GERMANY'),
+('Riewe', 'GERMANY'),
+('Riga', 'GERMANY'),
+('Rigby', 'SCOTLAND'),
+('Rigter', 'GERMANY'),
+('Riley', 'IRELAND'),
+('Riley', 'SCOTLAND'),
+('Rilly', 'IRELAND'),
+('Rimpler', 'GERMANY'),
+('Rimsch', 'GERMANY'),
+('Rinck', 'GERMANY'),
+('Rine', 'IRELAND'),
+('Ringel', 'GERMANY'),
+('Ringers', 'GERMANY'),
+('Rinke', 'GERMANY'),
+('Rintoul', 'SCOTLAND'),
+('Riordan', 'IRELAND'),
+('Riseborough', 'ENGLAND'),
+('Risin', 'ENGLAND'),
+('Ritchie', 'SCOTLAND'),
+('Ritter', 'GERMANY'),
+('Ritzenthaler', 'GERMANY'),
+('Roach', 'IRELAND'),
+('Roades', 'ENGLAND'),
+('Robb', 'SCOTLAND'),
+('Robberts', 'GERMANY'),
+('Robbie', 'SCOTLAND'),
+('Robe', 'GERMANY'),
+('Roberts', 'SCOTLAND'),
+('Robertson', 'SCOTLAND'),
+('Robey', 'AMERICA'),
+('Robin', 'SCOTLAND'),
+('Robins', 'ENGLAND'),
+('Robinson', 'AMERICA'),
+('Robinson', 'SCOTLAND'),
+('Robson', 'SCOTLAND'),
+('Rochlitz', 'GERMANY'),
+('Rockenbach', 'GERMANY'),
+('Rocks', 'SCOTLAND'),
+('Rodden', 'SCOTLAND'),
+('Roddie', 'SCOTLAND'),
+('Rode', 'GERMANY'),
+('Roden', 'GERMANY'),
+('Rodenberg', 'GERMANY'),
+('Rodewald', 'GERMANY'),
+('Rodger', 'SCOTLAND'),
+('Rodgers', 'SCOTLAND'),
+('Roe', 'SCOTLAND'),
+('Roeder', 'GERMANY'),
+('Roeland', 'GERMANY'),
+('Roeloffs', 'GERMANY'),
+('Roelofs', 'GERMANY'),
+('Roep', 'GERMANY'),
+('Roeper', 'GERMANY'),
+('Roepke', 'GERMANY'),
+('Roerman', 'GERMANY'),
+('Roesch', 'GERMANY'),
+('Roesenen', 'GERMANY'),
+('Roet', 'GERMANY'),
+('Roets', 'GERMANY'),
+('Roewehr', 'GERMANY'),
+('Rog', 'GERMANY'),
+('Rogan', 'IRELAND'),
+('Roger', 'SCOTLAND'),
+('Rogers', 'AMERICA'),
+('Rogers', 'SCOTLAND'),
+('Rogerson', 'SCOTLAND'),
+('Rogge', 'GERMANY'),
+('Rogiers', 'GERMANY'),
+('Rohde', 'GERMANY'),
+('Rohland', 'GERMANY'),
+('Rohleder', 'GERMANY'),
+('Rohn', 'GERMANY'),
+('Rohrmann', 'GERMANY'),
+('Rohrstorf', 'GERMANY'),
+('Rohwedder', 'GERMANY'),
+('Rolfs', 'GERMANY'),
+('Roll', 'GERMANY'),
+('Rolland', 'SCOTLAND'),
+('Rollo', 'SCOTLAND'),
+('Romberg', 'GERMANY'),
+('Romershausen', 'GERMANY'),
+('Romeyk', 'GERMANY'),
+('Rommel', 'GERMANY'),
+('Rommink', 'GERMANY'),
+('Ronald', 'SCOTLAND'),
+('Ronaldson', 'SCOTLAND'),
+('Ronan', 'IRELAND'),
+('Roney', 'IRELAND'),
+('Roocx', 'GERMANY'),
+('Roodhaan', 'GERMANY'),
+('Roodmann', 'GERMANY'),
+('Rooks', 'GERMANY'),
+('Rooleder', 'GERMANY'),
+('Roon', 'GERMANY'),
+('Rooney', 'IRELAND'),
+('Rooney', 'SCOTLAND'),
+('Roos', 'GERMANY'),
+('Roosdorf', 'GERMANY'),
+('Roose', 'GERMANY'),
+('Roosen', 'GERMANY'),
+('Roosig', 'GERMANY'),
+('Roothand', 'GERMANY'),
+('Rootkop', 'GERMANY'),
+('Rootmann', 'GERMANY'),
+('Rosbach', 'GERMANY'),
+('Roscheid', 'GERMANY'),
+('Roscher', 'GERMANY'),
+('Roschteuser', 'GERMANY'),
+('Rose', 'GERMANY'),
+('Rose', 'SCOTLAND'),
+('Roseboom', 'GERMANY'),
+('Rosenbaum', 'GERMANY'),
+('Rosenberg', 'GERMANY'),
+('Rosenthal', 'GERMANY'),
+('Rosie', 'SCOTLAND'),
+('Roskie', 'GERMANY'),
+('Ross', 'GERMANY'),
+('Ross', 'SCOTLAND'),
+('Rossi', 'SCOTLAND'),
+('Rostock', 'GERMANY'),
+('Rosz', 'GERMANY'),
+('Rotenburg', 'GERMANY'),
+('Roth', 'GERMANY'),
+('Rothmann', 'GERMANY'),
+('Rotterdam', 'GERMANY'),
+('Rough', 'SCOTLAND'),
+('Rourke', 'IRELAND'),
+('Rourke', 'SCOTLAND'),
+('Rouwer', 'GERMANY'),
+('Rouwers', 'GERMANY'),
+('Rowan', 'SCOTLAND'),
+('Rowe', 'ENGLAND'),
+('Rowe', 'SCOTLAND'),
+('Rowley', 'ENGLAND'),
+('Rowley', 'SCOTLAND'),
+('Roxburgh', 'SCOTLAND'),
+('Roy', 'SCOTLAND'),
+('Royal', 'ENGLAND'),
+('Rube', 'GERMANY'),
+('Rubeck', 'GERMANY'),
+('Rubke', 'GERMANY'),
+('Ruddy', 'SCOTLAND'),
+('Rudelius', 'GERMANY'),
+('Rudlof', 'GERMANY'),
+('Rudolf', 'GERMANY'),
+('Rudolph', 'GERMANY'),
+('Rudorff', 'GERMANY'),
+('Ruge', 'GERMANY'),
+('Rumbold', 'ENGLAND'),
+('Runciman', 'SCOTLAND'),
+('Rundell', 'SCOTLAND'),
+('Rundvoort', 'GERMANY'),
+('Rupert', 'GERMANY'),
+('Rupp', 'GERMANY'),
+('Rupperter', 'GERMANY'),
+('Rusbach', 'GERMANY'),
+('Ruschiet', 'GERMANY'),
+('Rush', 'SCOTLAND'),
+('Rushford', 'SCOTLAND'),
+('Ruske', 'GERMANY'),
+('Russ', 'ENGLAND'),
+('Russell', 'ENGLAND'),
+('Russell', 'SCOTLAND'),
+('Russow', 'GERMANY'),
+('Rust', 'GERMANY'),
+('Rusz', 'GERMANY'),
+('Ruteledge', 'ENGLAND'),
+('Rutgers', 'GERMANY'),
+('Rutherford', 'SCOTLAND'),
+('Ruthven', 'SCOTLAND'),
+('Rutley', 'ENGLAND'),
+('Ruts', 'GERMANY'),
+('Rutter', 'GERMANY'),
+('Rutz', 'GERMANY'),
+('Ruver', 'GERMANY'),
+('Ruyter', 'GERMANY'),
+('Ryan', 'IRELAND'),
+('Ryan', 'SCOTLAND'),
+('Ryans', 'IRELAND'),
+('Ryger', 'GERMANY'),
+('Ryk', 'GERMANY'),
+('Rykhard', 'GERMANY'),
+('Rykheer', 'GERMANY'),
+('Rykman', 'GERMANY'),
+('Rykvoet', 'GERMANY'),
+('Ryley', 'IRELAND'),
+('Ryman', 'GERMANY'),
+('Rynbach', 'GERMANY'),
+('Rynes', 'IRELAND'),
+('Ryon', 'IRELAND'),
+('Rys', 'GERMANY'),
+('Röder', 'GERMANY'),
+('Rönnebeck', 'GERMANY'),
+('Rönnekamp', 'GERMANY'),
+('Röpke', 'GERMANY'),
+('Rörig', 'GERMANY'),
+('Röscher', 'GERMANY'),
+('Röser', 'GERMANY'),
+('Röth', 'GERMANY'),
+('Röver', 'GERMANY'),
+('Rücker', 'GERMANY'),
+('Rüdemann', 'GERMANY'),
+('Rügner', 'GERMANY'),
+('Rüsch', 'GERMANY'),
+('Rütten', 'GERMANY'),
+('Saalmann', 'GERMANY'),
+('Sabresser', 'GERMANY'),
+('Sachs', 'GERMANY'),
+('Sachse', 'GERMANY'),
+('Saddleton', 'ENGLAND'),
+('Sadie', 'GERMANY'),
+('Sadler', 'SCOTLAND'),
+('Saeger', 'GERMANY'),
+('Saff', 'GERMANY'),
+('Saim', 'GERMANY'),
+('Saken', 'GERMANY'),
+('Salicke', 'GERMANY'),
+('Salig', 'GERMANY'),
+('Salmon', 'ENGLAND'),
+('Salmond', 'SCOTLAND'),
+('Salomon', 'GERMANY'),
+('Saluk', 'GERMANY'),
+('Salzwedel', 'GERMANY'),
+('Sampson', 'SCOTLAND'),
+('Samson', 'SCOTLAND'),
+('Samuel', 'SCOTLAND'),
+('Samuels', 'GERMANY'),
+('Sandall', 'ENGLAND'),
+('Sandberg', 'GERMANY'),
+('Sandeler', 'GERMANY'),
+('Sandeman', 'SCOTLAND'),
+('Sanders', 'AMERICA'),
+('Sanders', 'GERMANY'),
+('Sanders', 'SCOTLAND'),
+('Sanderson', 'SCOTLAND'),
+('Sandford', 'SCOTLAND'),
+('Sandilands', 'SCOTLAND'),
+('Sandison', 'SCOTLAND'),
+('Sands', 'SCOTLAND'),
+('Sanfftleben', 'GERMANY'),
+('Sanger', 'GERMANY'),
+('Sangster', 'SCOTLAND'),
+('Sanou', 'GERMANY'),
+('Santjes', 'GERMANY'),
+('Sanzenbacher', 'GERMANY'),
+('Sappel', 'GERMANY'),
+('Sas', 'GERMANY'),
+('Saspel', 'GERMANY'),
+('Satty', 'GERMANY'),
+('Sauer', 'GERMANY'),
+('Sauermann', 'GERMANY'),
+('Saul', 'GERMANY'),
+('Saunders', 'ENGLAND'),
+('Saunders', 'SCOTLAND'),
+('Savage', 'SCOTLAND'),
+('Sawers', 'SCOTLAND'),
+('Sayce', 'IRELAND'),
+('Sayers', 'SCOTLAND'),
+('Scally', 'SCOTLAND'),
+('Scanlan', 'IRELAND'),
+('Scannell', 'IRELAND'),
+('Schab', 'GERMANY'),
+('Schabort', 'GERMANY'),
+('Schadenberg', 'GERMANY'),
+('Schaffer', 'GERMANY'),
+('Schafferel', 'GERMANY'),
+('Schaffernicht', 'GERMANY'),
+('Scham', 'GERMANY'),
+('Schamrel', 'GERMANY'),
+('Schapke', 'GERMANY'),
+('Scharff', 'GERMANY'),
+('Scharffenort', 'GERMANY'),
+('Scharll', 'GERMANY'),
+('Scharnik', 'GERMANY'),
+('Schauwer', 'GERMANY'),
+('Schee', 'GERMANY'),
+('Scheehals', 'GERMANY'),
+('Scheel', 'GERMANY'),
+('Scheener', 'GERMANY'),
+('Scheer', 'GERMANY'),
+('Scheffer', 'GERMANY'),
+('Schefferel', 'GERMANY'),
+('Scheffler', 'GERMANY'),
+('Scheg', 'GERMANY'),
+('Scheiffel', 'GERMANY'),
+('Scheinlaub', 'GERMANY'),
+('Scheinlein', 'GERMANY'),
+('Schelhoven', 'GERMANY'),
+('Schellenberger', 'GERMANY'),
+('Scheller', 'GERMANY'),
+('Schem', 'GERMANY'),
+('Schenck', 'GERMANY'),
+('Schenek', 'GERMANY'),
+('Schenemann', 'GERMANY'),
+('Schenk', 'GERMANY'),
+('Schephausen', 'GERMANY'),
+('Schephoes', 'GERMANY'),
+('Scherenbeck', 'GERMANY'),
+('Scherff', 'GERMANY'),
+('Schermann', 'GERMANY'),
+('Schertz', 'GERMANY'),
+('Schetselyn', 'GERMANY'),
+('Schetzelyn', 'GERMANY'),
+('Scheuble', 'GERMANY'),
+('Scheun', 'GERMANY'),
+('Scheuninger', 'GERMANY'),
+('Schevel', 'GERMANY'),
+('Scheyffel', 'GERMANY'),
+('Scheynlauf', 'GERMANY'),
+('Schickerling', 'GERMANY'),
+('Schickora', 'GERMANY'),
+('Schiebeler', 'GERMANY'),
+('Schiemann', 'GERMANY'),
+('Schienemann', 'GERMANY'),
+('Schienhütte', 'GERMANY'),
+('Schier', 'GERMANY'),
+('Schierke', 'GERMANY'),
+('Schiess', 'GERMANY'),
+('Schiesz', 'GERMANY'),
+('Schigmann', 'GERMANY'),
+('Schildbach', 'GERMANY'),
+('Schildmeyer', 'GERMANY'),
+('Schildrat', 'GERMANY'),
+('Schildt', 'GERMANY'),
+('Schim', 'GERMANY'),
+('Schimmelpenning', 'GERMANY'),
+('Schinck', 'GERMANY'),
+('Schincke', 'GERMANY'),
+('Schindehütte', 'GERMANY'),
+('Schindeler', 'GERMANY'),
+('Schindenhütte', 'GERMANY'),
+('Schl_', 'GERMANY'),
+('Schla', 'GERMANY'),
+('Schlapp', 'GERMANY'),
+('Schleebusch', 'GERMANY'),
+('Schleher', 'GERMANY'),
+('Schlei', 'GERMANY'),
+('Schlein', 'GERMANY'),
+('Schlender', 'GERMANY'),
+('Schlesinger', 'GERMANY'),
+('Schlichting', 'GERMANY'),
+('Schlie', 'GERMANY'),
+('Schlierbach', 'GERMANY'),
+('Schlimmer', 'GERMANY'),
+('Schlosser', 'GERMANY'),
+('Schlüter', 'GERMANY'),
+('Schm_', 'GERMANY'),
+('Schmacky', 'GERMANY'),
+('Schmal', 'GERMANY'),
+('Schmalberger', 'GERMANY'),
+('Schmale', 'GERMANY'),
+('Schmeckenbecher', 'GERMANY'),
+('Schmeisser', 'GERMANY'),
+('Schmeiszer', 'GERMANY'),
+('Schmidt', 'GERMANY'),
+('Schmittgans', 'GERMANY'),
+('Schmitz', 'GERMANY'),
+('Schmitzdorf', 'GERMANY'),
+('Schmuck', 'GERMANY'),
+('Schn_', 'GERMANY'),
+('Schnaar', 'GERMANY'),
+('Schneegans', 'GERMANY'),
+('Schneewind', 'GERMANY'),
+('Schnegelsberg', 'GERMANY'),
+('Schneider', 'GERMANY'),
+('Schnell', 'GERMANY'),
+('Schnibben', 'GERMANY'),
+('Schnick', 'GERMANY'),
+('Schnitt', 'GERMANY'),
+('Schnop', 'GERMANY'),
+('Schobbert', 'GERMANY'),
+('Schoeman', 'GERMANY'),
+('Schoeninger', 'GERMANY'),
+('Schoenmaker', 'GERMANY'),
+('Schoester', 'GERMANY'),
+('Schofield', 'SCOTLAND'),
+('Scholte', 'GERMANY'),
+('Scholten', 'GERMANY'),
+('Scholtz', 'GERMANY'),
+('Schomburg', 'GERMANY'),
+('Schoon', 'GERMANY'),
+('Schoonheck', 'GERMANY'),
+('Schoonraad', 'GERMANY'),
+('Schoppe', 'GERMANY'),
+('Schostag', 'GERMANY'),
+('Schott', 'GERMANY'),
+('Schoud', 'GERMANY'),
+('Schrack', 'GERMANY'),
+('Schrader', 'GERMANY'),
+('Schramm', 'GERMANY'),
+('Schree', 'GERMANY'),
+('Schreen', 'GERMANY'),
+('Schreiber', 'GERMANY'),
+('Schreiner', 'GERMANY'),
+('Schreuder', 'GERMANY'),
+('Schreyer', 'GERMANY'),
+('Schreyn', 'GERMANY'),
+('Schroot', 'GERMANY'),
+('Schrumpf', 'GERMANY'),
+('Schryn', 'GERMANY'),
+('Schryver', 'GERMANY'),
+('Schröder', 'GERMANY'),
+('Schrön', 'GERMANY'),
+('Schröter', 'GERMANY'),
+('Schubert', 'GERMANY'),
+('Schuchardt', 'GERMANY'),
+('Schuckardt', 'GERMANY'),
+('Schuhmacher', 'GERMANY'),
+('Schuller', 'GERMANY'),
+('Schult', 'GERMANY'),
+('Schulte', 'GERMANY'),
+('Schultz', 'GERMANY'),
+('Schultze', 'GERMANY'),
+('Schulze', 'GERMANY'),
+('Schumacher', 'GERMANY'),
+('Schumann', 'GERMANY'),
+('Schundemark', 'GERMANY'),
+('Schuster', 'GERMANY'),
+('Schuurmann', 'GERMANY'),
+('Schuurs', 'GERMANY'),
+('Schw_', 'GERMANY'),
+('Schwab', 'GERMANY'),
+('Schwalb', 'GERMANY'),
+('Schwan', 'GERMANY'),
+('Schwanebeck', 'GERMANY'),
+('Schwanefeld', 'GERMANY'),
+('Schwartz', 'GERMANY'),
+('Schwartze', 'GERMANY'),
+('Schwarz', 'GERMANY'),
+('Schwarze', 'GERMANY'),
+('Schwarzenberg', 'GERMANY'),
+('Schwarzkopf', 'GERMANY'),
+('Schwebbeler', 'GERMANY'),
+('Schwebler', 'GERMANY'),
+('Schwechten', 'GERMANY'),
+('Schwede', 'GERMANY'),
+('Schweighever', 'GERMANY'),
+('Schweighoeffer', 'GERMANY'),
+('Schweinebraten', 'GERMANY'),
+('Schweinhagen', 'GERMANY'),
+('Schweinholdt', 'GERMANY'),
+('Schweitmann', 'GERMANY'),
+('Schweitzel', 'GERMANY'),
+('Schwellengrebel', 'GERMANY'),
+('Schwemm', 'GERMANY'),
+('Schwengel', 'GERMANY'),
+('Schwenk', 'GERMANY'),
+('Schwicker', 'GERMANY'),
+('Schwieger', 'GERMANY'),
+('Schwimmer', 'GERMANY'),
+('Schwinn', 'GERMANY'),
+('Schwinsberg', 'GERMANY'),
+('Schwäble', 'GERMANY'),
+('Schäfer', 'GERMANY'),
+('Schäffer', 'GERMANY'),
+('Schätzelein', 'GERMANY'),
+('Schätzlein', 'GERMANY'),
+('Schön', 'GERMANY'),
+('Schönberg', 'GERMANY'),
+('Schöndorf', 'GERMANY'),
+('Schöneck', 'GERMANY'),
+('Schönemann', 'GERMANY'),
+('Schönrat', 'GERMANY'),
+('Schöpke', 'GERMANY'),
+('Schöpping', 'GERMANY'),
+('Schübeler', 'GERMANY'),
+('Schüler', 'GERMANY'),
+('Schürbeck', 'GERMANY'),
+('Schürmann', 'GERMANY'),
+('Schüts', 'GERMANY'),
+('Schütte', 'GERMANY'),
+('Schütz', 'GERMANY'),
+('Scobbie', 'SCOTLAND'),
+('Scobie', 'SCOTLAND'),
+('Scollay', 'SCOTLAND'),
+('Scorgie', 'SCOTLAND'),
+('Scotland', 'SCOTLAND'),
+('Scott', 'AMERICA'),
+('Scott', 'SCOTLAND'),
+('Scoular', 'SCOTLAND'),
+('Scouller', 'SCOTLAND'),
+('Scrimgeour', 'SCOTLAND'),
+('Scriven', 'ENGLAND'),
+('Scull', 'IRELAND'),
+('Sculley', 'IRELAND'),
+('Scullion', 'SCOTLAND'),
+('Scully', 'IRELAND'),
+('Sculthorpe', 'ENGLAND'),
+('Seaman', 'ENGLAND'),
+('Seary', 'IRELAND'),
+('Seath', 'SCOTLAND'),
+('Seaton', 'SCOTLAND'),
+('Seatter', 'SCOTLAND'),
+('Sebold', 'GERMANY'),
+('Sebrits', 'GERMANY'),
+('Sedeler', 'GERMANY'),
+('Sedelmeyer', 'GERMANY'),
+('Sederop', 'GERMANY'),
+('Sedgewick', 'ENGLAND'),
+('Seeberg', 'GERMANY'),
+('Seeger', 'GERMANY'),
+('Seehase', 'GERMANY'),
+('Seemann', 'GERMANY'),
+('Seger', 'GERMANY'),
+('Segers', 'GERMANY'),
+('Seibel', 'GERMANY'),
+('Seibrits', 'GERMANY'),
+('Seid', 'GERMANY'),
+('Seidel', 'GERMANY'),
+('Seiffert', 'GERMANY'),
+('Seiler', 'GERMANY'),
+('Seitz', 'GERMANY'),
+('Seivwright', 'SCOTLAND'),
+('Sekler', 'GERMANY'),
+('Sele', 'GERMANY'),
+('Selfridge', 'SCOTLAND'),
+('Selkirk', 'ENGLAND'),
+('Selkirk', 'SCOTLAND'),
+('Sellar', 'SCOTLAND'),
+('Sellars', 'SCOTLAND'),
+('Sellemann', 'GERMANY'),
+('Selverton', 'ENGLAND'),
+('Selyn', 'GERMANY'),
+('Semke', 'GERMANY'),
+('Semler', 'GERMANY'),
+('Sempill', 'ENGLAND'),
+('Semple', 'SCOTLAND'),
+('Senden', 'GERMANY'),
+('Senior', 'SCOTLAND'),
+('Serbst', 'GERMANY'),
+('Sergeant', 'ENGLAND'),
+('Sergeant', 'SCOTLAND'),
+('Serrurier', 'GERMANY'),
+('Service', 'SCOTLAND'),
+('Seton', 'ENGLAND'),
+('Sets', 'GERMANY'),
+('Seusen', 'GERMANY'),
+('Sevenbuytel', 'GERMANY'),
+('Severin', 'GERMANY'),
+('Sewester', 'GERMANY'),
+('Seybold', 'GERMANY'),
+('Seyd', 'GERMANY'),
+('Seydeler', 'GERMANY'),
+('Seydler', 'GERMANY'),
+('Seyme', 'GERMANY'),
+('Seymour', 'ENGLAND'),
+('Seymour', 'SCOTLAND'),
+('Seynser', 'GERMANY'),
+('Seyts', 'GERMANY'),
+('Shambrooke', 'ENGLAND'),
+('Shand', 'SCOTLAND'),
+('Shankland', 'SCOTLAND'),
+('Shanks', 'SCOTLAND'),
+('Shannon', 'IRELAND'),
+('Shannon', 'SCOTLAND'),
+('Sharkey', 'SCOTLAND'),
+('Sharp', 'ENGLAND'),
+('Sharp', 'SCOTLAND'),
+('Sharpe', 'SCOTLAND'),
+('Shaughnessy', 'IRELAND'),
+('Shaw', 'SCOTLAND'),
+('Shay', 'IRELAND'),
+('Shea', 'IRELAND'),
+('Shean', 'IRELAND'),
+('Shearer', 'SCOTLAND'),
+('Shedden', 'SCOTLAND'),
+('Shee', 'IRELAND'),
+('Sheehan', 'IRELAND'),
+('Sheen', 'IRELAND'),
+('Shehan', 'IRELAND'),
+('Shek', 'SCOTLAND'),
+('Shelton', 'ENGLAND'),
+('Shepherd', 'ENGLAND'),
+('Shepherd', 'SCOTLAND'),
+('Sheppard', 'SCOTLAND'),
+('Sheridan', 'IRELAND'),
+('Sheridan', 'SCOTLAND'),
+('Sherriff', 'SCOTLAND'),
+('Sherriffs', 'SCOTLAND'),
+('Sherry', 'SCOTLAND'),
+('Shewan', 'SCOTLAND'),
+('Shields', 'SCOTLAND'),
+('Shiels', 'SCOTLAND'),
+('Shirkie', 'SCOTLAND'),
+('Shirley', 'SCOTLAND'),
+('Shirra', 'SCOTLAND'),
+('Short', 'SCOTLAND'),
+('Shovell', 'ENGLAND'),
+('Sibbald', 'SCOTLAND'),
+('Sick', 'GERMANY'),
+('Sickmann', 'GERMANY'),
+('Siebenbeutel', 'GERMANY'),
+('Siebenborn', 'GERMANY'),
+('Siebenstern', 'GERMANY'),
+('Sieberg', 'GERMANY'),
+('Sieberhagen', 'GERMANY'),
+('Siebers', 'GERMANY'),
+('Siebert', 'GERMANY'),
+('Siebmann', 'GERMANY'),
+('Siebold', 'GERMANY'),
+('Siebrits', 'GERMANY'),
+('Sieburg', 'GERMANY'),
+('Siecker', 'GERMANY'),
+('Siedel', 'GERMANY'),
+('Siedl', 'GERMANY'),
+('Siefkens', 'GERMANY'),
+('Siegel', 'GERMANY'),
+('Siegelaar', 'GERMANY'),
+('Siegeler', 'GERMANY'),
+('Siegemund', 'GERMANY'),
+('Sieger', 'GERMANY'),
+('Siegler', 'GERMANY'),
+('Siek', 'GERMANY'),
+('Sieker', 'GERMANY'),
+('Sielings', 'GERMANY'),
+('Siems', 'GERMANY'),
+('Siemsen', 'GERMANY'),
+('Siepmann', 'GERMANY'),
+('Sierman', 'GERMANY'),
+('Siese', 'GERMANY'),
+('Sieser', 'GERMANY'),
+('Sieszmann', 'GERMANY'),
+('Sievers', 'GERMANY'),
+('Sievert', 'GERMANY'),
+('Sigismund', 'GERMANY'),
+('Sikler', 'GERMANY'),
+('Silberbach', 'GERMANY'),
+('Silberhorn', 'GERMANY'),
+('Silip', 'GERMANY'),
+('Sillars', 'SCOTLAND'),
+('Silleman', 'GERMANY'),
+('Sillemann', 'GERMANY'),
+('Sillmann', 'GERMANY'),
+('Sim', 'SCOTLAND'),
+('Sime', 'SCOTLAND'),
+('Simmers', 'GERMANY'),
+('Simmons', 'SCOTLAND'),
+('Simms', 'AMERICA'),
+('Simonds', 'ENGLAND'),
+('Simonetti', 'GERMANY'),
+('Simons', 'GERMANY'),
+('Simpson', 'AMERICA'),
+('Simpson', 'SCOTLAND'),
+('Sims', 'ENGLAND'),
+('Simson', 'GERMANY'),
+('Sinclair', 'ENGLAND'),
+('Sinclair', 'SCOTLAND'),
+('Singer', 'SCOTLAND'),
+('Singh', 'SCOTLAND'),
+('Sinner', 'GERMANY'),
+('Sinterop', 'GERMANY'),
+('Sinton', 'SCOTLAND'),
+('Sirbem', 'GERMANY'),
+('Sitterop', 'GERMANY'),
+('Sittouw', 'GERMANY'),
+('Sivewright', 'SCOTLAND'),
+('Skea', 'SCOTLAND'),
+('Skeffington', 'ENGLAND'),
+('Skelly', 'SCOTLAND'),
+('Skelton', 'SCOTLAND'),
+('Skene', 'SCOTLAND'),
+('Skilling', 'SCOTLAND'),
+('Skinner', 'ENGLAND'),
+('Skinner', 'SCOTLAND'),
+('Sl_', 'GERMANY'),
+('Slade', 'ENGLAND'),
+('Slater', 'SCOTLAND'),
+('Slaven', 'SCOTLAND'),
+('Slavin', 'SCOTLAND'),
+('Sleer', 'GERMANY'),
+('Slessor', 'SCOTLAND'),
+('Slier', 'GERMANY'),
+('Sloan', 'SCOTLAND'),
+('Sloss', 'SCOTLAND'),
+('Slosser', 'GERMANY'),
+('Sluyter', 'GERMANY'),
+('Slyfeel', 'ENGLAND'),
+('Sm_', 'GERMANY'),
+('Smail', 'SCOTLAND'),
+('Smal', 'GERMANY'),
+('Smalberger', 'GERMANY'),
+('Small', 'SCOTLAND'),
+('Smallwood', 'AMERICA'),
+('Smart', 'SCOTLAND'),
+('Smeaton', 'SCOTLAND'),
+('Smellie', 'SCOTLAND'),
+('Smillie', 'SCOTLAND'),
+('Smith', 'AMERICA'),
+('Smith', 'SCOTLAND'),
+('Smithly', 'ENGLAND'),
+('Smock', 'GERMANY'),
+('Smook', 'GERMANY'),
+('Smoote', 'AMERICA'),
+('Smyth', 'SCOTLAND'),
+('Sn_', 'GERMANY'),
+('Snaddon', 'SCOTLAND'),
+('Snedden', 'SCOTLAND'),
+('Sneddon', 'SCOTLAND'),
+('Sneewind', 'GERMANY'),
+('Snell', 'SCOTLAND'),
+('Snelling', 'ENGLAND'),
+('Snit', 'GERMANY'),
+('Snodgrass', 'SCOTLAND'),
+('Snowley', 'ENGLAND'),
+('Sodie', 'GERMANY'),
+('Soe_', 'GERMANY'),
+('Soek', 'GERMANY'),
+('Soermans', 'GERMANY'),
+('Soesman', 'GERMANY'),
+('Sohnemann', 'GERMANY'),
+('Solberg', 'GERMANY'),
+('Soltie', 'GERMANY'),
+('Somerville', 'SCOTLAND'),
+('Sommer', 'GERMANY'),
+('Sommerville', 'SCOTLAND'),
+('Sondagh', 'GERMANY'),
+('Sondermann', 'GERMANY'),
+('Sonntag', 'GERMANY'),
+('Sontagh', 'GERMANY'),
+('Soor', 'GERMANY'),
+('Sootie', 'GERMANY'),
+('Sopkleef', 'GERMANY'),
+('Sorbie', 'SCOTLAND'),
+('Sorley', 'SCOTLAND'),
+('Soszmann', 'GERMANY'),
+('Soulden', 'ENGLAND'),
+('Sousman', 'GERMANY'),
+('Soutar', 'SCOTLAND'),
+('Souter', 'GERMANY'),
+('Souter', 'SCOTLAND'),
+('Sowietsky', 'GERMANY'),
+('Spadenberg', 'GERMANY'),
+('Spalding', 'SCOTLAND'),
+('Spamer', 'GERMANY'),
+('Spangenberg', 'GERMANY'),
+('Spangler', 'GERMANY'),
+('Spannagel', 'GERMANY'),
+('Sparenberg', 'GERMANY'),
+('Spark', 'SCOTLAND'),
+('Specht', 'GERMANY'),
+('Speckmann', 'GERMANY'),
+('Spee', 'GERMANY'),
+('Speed', 'SCOTLAND'),
+('Speedie', 'SCOTLAND'),
+('Speichmann', 'GERMANY'),
+('Speirs', 'SCOTLAND'),
+('Spelken', 'GERMANY'),
+('Spelling', 'IRELAND'),
+('Spence', 'SCOTLAND'),
+('Spencer', 'ENGLAND'),
+('Spencer', 'SCOTLAND'),
+('Spendelin', 'GERMANY'),
+('Spengler', 'GERMANY'),
+('Speyer', 'GERMANY'),
+('Spiegel', 'GERMANY'),
+('Spiegelberg', 'GERMANY'),
+('Spiering', 'GERMANY'),
+('Spiers', 'SCOTLAND'),
+('Spies', 'GERMANY'),
+('Spilter', 'GERMANY'),
+('Spink', 'SCOTLAND'),
+('Spoltmann', 'GERMANY'),
+('Spooner', 'ENGLAND'),
+('Spoor', 'GERMANY'),
+('Sporbeck', 'GERMANY'),
+('Sporkmann', 'GERMANY'),
+('Spowart', 'SCOTLAND'),
+('Sprangel', 'GERMANY'),
+('Spranger', 'GERMANY'),
+('Spranklin', 'ENGLAND'),
+('Spreet', 'GERMANY'),
+('Sprengel', 'GERMANY'),
+('Springer', 'GERMANY'),
+('Sprinkmeyer', 'GERMANY'),
+('Sproul', 'SCOTLAND'),
+('Spruyt', 'GERMANY'),
+('Spurrell', 'ENGLAND'),
+('Spykmann', 'GERMANY'),
+('Spönlin', 'GERMANY'),
+('St. Clair', 'ENGLAND'),
+('St. George', 'ENGLAND'),
+('St. John', 'ENGLAND'),
+('St. Vincent', 'ENGLAND'),
+('Staakmann', 'GERMANY'),
+('Staal', 'GERMANY'),
+('Stables', 'SCOTLAND'),
+('Stackmann', 'GERMANY'),
+('Stadler', 'GERMANY'),
+('Staedel', 'GERMANY'),
+('Stafford', 'SCOTLAND'),
+('Stalker', 'SCOTLAND'),
+('Stamer', 'GERMANY'),
+('Stammer', 'GERMANY'),
+('Stamp', 'GERMANY'),
+('Stander', 'GERMANY'),
+('Stanhope', 'ENGLAND'),
+('Stanley', 'SCOTLAND'),
+('Stannarius', 'GERMANY'),
+('Stanners', 'SCOTLAND'),
+('Stanton', 'ENGLAND'),
+('Stanton', 'SCOTLAND'),
+('Stapelberg', 'GERMANY'),
+('Stapf', 'GERMANY'),
+('Stapleton', 'ENGLAND'),
+('Stark', 'GERMANY'),
+('Stark', 'SCOTLAND'),
+('Starling', 'ENGLAND'),
+('Starrs', 'SCOTLAND'),
+('Stassen', 'GERMANY'),
+('Staudt', 'GERMANY'),
+('Stauszer', 'GERMANY'),
+('Stauszert', 'GERMANY'),
+('Stay', 'ENGLAND'),
+('Stechau', 'GERMANY'),
+('Steedman', 'SCOTLAND'),
+('Steeger', 'GERMANY'),
+('Steel', 'SCOTLAND'),
+('Steele', 'SCOTLAND'),
+('Steen', 'GERMANY'),
+('Steen', 'SCOTLAND'),
+('Steenbag', 'GERMANY'),
+('Steenberg', 'GERMANY'),
+('Steenbock', 'GERMANY'),
+('Steenbrugge', 'GERMANY'),
+('Steenbrück', 'GERMANY'),
+('Steenburg', 'GERMANY'),
+('Steenke', 'GERMANY'),
+('Steenmann', 'GERMANY'),
+('Steens', 'GERMANY'),
+('Steenvat', 'GERMANY'),
+('Stegemann', 'GERMANY'),
+('Stegert', 'GERMANY'),
+('Stegmann', 'GERMANY'),
+('Steiger', 'GERMANY'),
+('Stein', 'GERMANY'),
+('Stein', 'SCOTLAND'),
+('Steinbach', 'GERMANY'),
+('Steinberg', 'GERMANY'),
+('Steinbrück', 'GERMANY'),
+('Steindel', 'GERMANY'),
+('Steinfeld', 'GERMANY'),
+('Steingötter', 'GERMANY'),
+('Steinhöbel', 'GERMANY'),
+('Steinmann', 'GERMANY'),
+('Steinmetz', 'GERMANY'),
+('Stell', 'GERMANY'),
+('Stellmann', 'GERMANY'),
+('Stellwagen', 'GERMANY'),
+('Stengel', 'GERMANY'),
+('Stenhouse', 'SCOTLAND'),
+('Stens', 'GERMANY'),
+('Stenveld', 'GERMANY'),
+('Stephan', 'GERMANY'),
+('Stephany', 'GERMANY'),
+('Stephen', 'SCOTLAND'),
+('Stephens', 'SCOTLAND'),
+('Stephenson', 'SCOTLAND'),
+('Sternberg', 'GERMANY'),
+('Sterrenberg', 'GERMANY'),
+('Steudle', 'GERMANY'),
+('Steven', 'SCOTLAND'),
+('Stevens', 'AMERICA'),
+('Stevens', 'GERMANY'),
+('Stevens', 'SCOTLAND'),
+('Stevenson', 'SCOTLAND'),
+('Stewart', 'ENGLAND'),
+('Stewart', 'SCOTLAND'),
+('Stey', 'GERMANY'),
+('Steydle', 'GERMANY'),
+('Steyl', 'GERMANY'),
+('Steyn', 'GERMANY'),
+('Steytler', 'GERMANY'),
+('Stiboy', 'GERMANY'),
+('Sticher', 'GERMANY'),
+('Stickland', 'ENGLAND'),
+('Stieber', 'GERMANY'),
+('Stieme', 'GERMANY'),
+('Stigelius', 'GERMANY'),
+('Stigling', 'GERMANY'),
+('Stigmann', 'GERMANY'),
+('Still', 'SCOTLAND'),
+('Stillie', 'SCOTLAND'),
+('Stilo', 'GERMANY'),
+('Stirling', 'SCOTLAND'),
+('Stirrat', 'SCOTLAND'),
+('Stirton', 'SCOTLAND'),
+('Stitt', 'SCOTLAND'),
+('Stobie', 'SCOTLAND'),
+('Stockfleth', 'GERMANY'),
+('Stoddart', 'SCOTLAND'),
+('Stoeber', 'GERMANY'),
+('Stoeder', 'GERMANY'),
+('Stoel', 'GERMANY'),
+('Stoet', 'GERMANY'),
+('Stoeth', 'GERMANY'),
+('Stohr', 'GERMANY'),
+('Stohrer', 'GERMANY'),
+('Stoiber', 'GERMANY'),
+('Stokes', 'SCOTLAND'),
+('Stokvliet', 'GERMANY'),
+('Stoll', 'GERMANY'),
+('Stolt', 'GERMANY'),
+('Stolz', 'GERMANY'),
+('Stone', 'AMERICA'),
+('Stone', 'ENGLAND'),
+('Stone', 'SCOTLAND'),
+('Storch', 'GERMANY'),
+('Storey', 'ENGLAND'),
+('Storey', 'SCOTLAND'),
+('Storie', 'SCOTLAND'),
+('Storm', 'GERMANY'),
+('Storrie', 'SCOTLAND'),
+('Stott', 'SCOTLAND'),
+('Stousert', 'GERMANY'),
+('Stoute', 'GERMANY'),
+('Strachan', 'SCOTLAND'),
+('Strain', 'SCOTLAND'),
+('Straiton', 'SCOTLAND'),
+('Strak', 'GERMANY'),
+('Strang', 'SCOTLAND'),
+('Strathearn', 'SCOTLAND'),
+('Stratton', 'SCOTLAND'),
+('Straub', 'GERMANY'),
+('Strauber', 'GERMANY'),
+('Straus', 'GERMANY'),
+('Strebau', 'GERMANY'),
+('Streele', 'GERMANY'),
+('Streesoo', 'GERMANY'),
+('Street', 'SCOTLAND'),
+('Streicher', 'GERMANY'),
+('Strein', 'GERMANY'),
+('Stresow', 'GERMANY'),
+('Stricker', 'GERMANY'),
+('Strickland', 'SCOTLAND'),
+('Striegel', 'GERMANY'),
+('Striets', 'GERMANY'),
+('Strobel', 'GERMANY'),
+('Stroebel', 'GERMANY'),
+('Stroedel', 'GERMANY'),
+('Stroh', 'GERMANY'),
+('Strohmeyer', 'GERMANY'),
+('Stronach', 'SCOTLAND'),
+('Strong', 'SCOTLAND'),
+('Strumpfer', 'GERMANY'),
+('Strus', 'GERMANY'),
+('Strutel', 'GERMANY'),
+('Struthers', 'SCOTLAND'),
+('Struwe', 'GERMANY'),
+('Strüter', 'GERMANY'),
+('Stuart', 'SCOTLAND'),
+('Stubbs', 'SCOTLAND'),
+('Sturgeon', 'SCOTLAND'),
+('Sturk', 'GERMANY'),
+('Sturrock', 'SCOTLAND'),
+('Stuth', 'GERMANY'),
+('Stühmer', 'GERMANY'),
+('Su_', 'GERMANY'),
+('Subkleef', 'GERMANY'),
+('Suchster', 'GERMANY'),
+('Sucklin', 'ENGLAND'),
+('Suk', 'GERMANY'),
+('Sulevan', 'IRELAND'),
+('Sulison', 'IRELAND'),
+('Sulivan', 'IRELAND'),
+('Sulivon', 'IRELAND'),
+('Sullivan', 'IRELAND'),
+('Sullivan', 'SCOTLAND'),
+('Sullyard', 'ENGLAND'),
+('Sulter', 'GERMANY'),
+('Summers', 'SCOTLAND'),
+('Susman', 'GERMANY'),
+('Susmann', 'GERMANY'),
+('Suster', 'GERMANY'),
+('Suter', 'GERMANY'),
+('Sutherland', 'SCOTLAND'),
+('Suttie', 'SCOTLAND'),
+('Sutton', 'SCOTLAND'),
+('Suurhof', 'GERMANY'),
+('Suurmanns', 'GERMANY'),
+('Sw_', 'GERMANY'),
+('Swaan', 'GERMANY'),
+('Swan', 'SCOTLAND'),
+('Swanson', 'SCOTLAND'),
+('Swart', 'GERMANY'),
+('Swartz', 'GERMANY'),
+('Sweeney', 'IRELAND'),
+('Sweeney', 'SCOTLAND'),
+('Sweeny', 'IRELAND'),
+('Sweet', 'ENGLAND'),
+('Swemmer', 'GERMANY'),
+('Swichting', 'GERMANY'),
+('Swiney', 'IRELAND'),
+('Swinney', 'IRELAND'),
+('Swinton', 'ENGLAND'),
+('Swinton', 'SCOTLAND'),
+('Sword', 'SCOTLAND'),
+('Sybold', 'GERMANY'),
+('Syfen', 'GERMANY'),
+('Sykes', 'SCOTLAND'),
+('Syme', 'SCOTLAND'),
+('Symington', 'SCOTLAND'),
+('Symon', 'SCOTLAND'),
+('Symons', 'GERMANY'),
+('Särgel', 'GERMANY'),
+('Sörgel', 'GERMANY'),
+('Tafel', 'GERMANY'),
+('Taff', 'IRELAND'),
+('Taggart', 'SCOTLAND'),
+('Tainsh', 'SCOTLAND'),
+('Tait', 'SCOTLAND'),
+('Takke', 'GERMANY'),
+('Talake', 'GERMANY'),
+('Talbot', 'ENGLAND'),
+('Talbot', 'SCOTLAND'),
+('Tallu', 'GERMANY'),
+('Tannahill', 'SCOTLAND'),
+('Tannock', 'SCOTLAND'),
+('Tants', 'GERMANY'),
+('Tap', 'GERMANY'),
+('Tappendiek', 'GERMANY'),
+('Tarbet', 'SCOTLAND'),
+('Tasker', 'SCOTLAND'),
+('Tate', 'SCOTLAND'),
+('Tattershall', 'ENGLAND'),
+('Tauchert', 'GERMANY'),
+('Tauken', 'GERMANY'),
+('Taute', 'GERMANY'),
+('Tavenrath', 'GERMANY'),
+('Tavernrath', 'GERMANY'),
+('Tawse', 'SCOTLAND'),
+('Taxenbacher', 'GERMANY'),
+('Taylor', 'AMERICA'),
+('Taylor', 'ENGLAND'),
+('Taylor', 'SCOTLAND'),
+('Tecklenburg', 'GERMANY'),
+('Tedens', 'GERMANY'),
+('Teem', 'GERMANY'),
+('Teering', 'GERMANY'),
+('Teerwald', 'GERMANY'),
+('Tegender', 'GERMANY'),
+('Tegtmeyer', 'GERMANY'),
+('Teich', 'GERMANY'),
+('Telfer', 'SCOTLAND'),
+('Telford', 'SCOTLAND'),
+('Telle', 'GERMANY'),
+('Teller', 'GERMANY'),
+('Telner', 'GERMANY'),
+('Telschow', 'GERMANY'),
+('Teltow', 'GERMANY'),
+('Temple', 'SCOTLAND'),
+('Templeton', 'ENGLAND'),
+('Templeton', 'SCOTLAND'),
+('Tendler', 'GERMANY'),
+('Tennant', 'SCOTLAND'),
+('Tenner', 'GERMANY'),
+('Tennert', 'GERMANY'),
+('Tepping', 'GERMANY'),
+('Terlake', 'GERMANY'),
+('Termeulen', 'GERMANY'),
+('Ternan', 'GERMANY'),
+('Terre', 'GERMANY'),
+('Terrell', 'ENGLAND'),
+('Terris', 'SCOTLAND'),
+('Terry', 'SCOTLAND'),
+('Terschelhoven', 'GERMANY'),
+('Tervit', 'SCOTLAND'),
+('Tes', 'GERMANY'),
+('Tesch', 'GERMANY'),
+('Tesky', 'GERMANY'),
+('Tesselaar', 'GERMANY'),
+('Tesseler', 'GERMANY'),
+('Tessenaar', 'GERMANY'),
+('Test', 'GERMANY'),
+('Teszler', 'GERMANY'),
+('Teszner', 'GERMANY'),
+('Teubes', 'GERMANY'),
+('Teuckert', 'GERMANY'),
+('Teukert', 'GERMANY'),
+('Teulke', 'GERMANY'),
+('Teulken', 'GERMANY'),
+('Teutmann', 'GERMANY'),
+('Tevense', 'GERMANY'),
+('Teyger', 'GERMANY'),
+('Thain', 'SCOTLAND'),
+('Thalmann', 'GERMANY'),
+('Theart', 'GERMANY'),
+('Theunissen', 'GERMANY'),
+('Theunius', 'GERMANY'),
+('Thiart', 'GERMANY'),
+('Thiele', 'GERMANY'),
+('Thielemann', 'GERMANY'),
+('Thies', 'GERMANY'),
+('Thiessen', 'GERMANY'),
+('Third', 'SCOTLAND'),
+('Thirion', 'GERMANY'),
+('Thirley', 'ENGLAND'),
+('Thom', 'SCOTLAND'),
+('Thomas', 'AMERICA'),
+('Thomas', 'GERMANY'),
+('Thomas', 'SCOTLAND'),
+('Thomas a', 'GERMANY'),
+('Thompson', 'AMERICA'),
+('Thompson', 'SCOTLAND'),
+('Thoms', 'SCOTLAND'),
+('Thomsen', 'GERMANY'),
+('Thomson', 'SCOTLAND'),
+('Thorburn', 'SCOTLAND'),
+('Thorn', 'GERMANY'),
+('Thorne', 'ENGLAND'),
+('Thornton', 'AMERICA'),
+('Thornton', 'SCOTLAND'),
+('Thorpe', 'SCOTLAND'),
+('Thow', 'SCOTLAND'),
+('Thredisting', 'ENGLAND'),
+('Thrup', 'ENGLAND'),
+('Thuniander', 'GERMANY'),
+('Thys', 'GERMANY'),
+('Thyssen', 'GERMANY'),
+('Thyzen', 'GERMANY'),
+('Thäunert', 'GERMANY'),
+('Thönis', 'GERMANY'),
+('Thönius', 'GERMANY'),
+('Thönjus', 'GERMANY'),
+('Tichy', 'GERMANY'),
+('Tiedemann', 'GERMANY'),
+('Tiegender', 'GERMANY'),
+('Tielheim', 'GERMANY'),
+('Tiemmendorf', 'GERMANY'),
+('Tiermann', 'GERMANY'),
+('Tierney', 'IRELAND'),
+('Tierney', 'SCOTLAND'),
+('Ties', 'GERMANY'),
+('Tiesy', 'GERMANY'),
+('Tietzel', 'GERMANY'),
+('Tighe', 'SCOTLAND'),
+('Tilheim', 'GERMANY'),
+('Tille', 'GERMANY'),
+('Tilson', 'ENGLAND'),
+('Timm', 'GERMANY'),
+('Timme', 'GERMANY'),
+('Timmermann', 'GERMANY'),
+('Timmers', 'GERMANY'),
+('Timmins', 'SCOTLAND'),
+('Timmons', 'SCOTLAND'),
+('Timoney', 'SCOTLAND'),
+('Timpe', 'GERMANY'),
+('Tinner', 'GERMANY'),
+('Tinnerholm', 'GERMANY'),
+('Tinney', 'SCOTLAND'),
+('Tischaar', 'GERMANY'),
+('Toal', 'SCOTLAND'),
+('Tobin', 'IRELAND'),
+('Tobin', 'SCOTLAND'),
+('Tocher', 'SCOTLAND'),
+('Tochtermann', 'GERMANY'),
+('Tod', 'SCOTLAND'),
+('Todd', 'SCOTLAND'),
+('Toland', 'SCOTLAND'),
+('Tollan', 'SCOTLAND'),
+('Tollenaar', 'GERMANY'),
+('Tolmie', 'SCOTLAND'),
+('Tomlinson', 'SCOTLAND'),
+('Tommel', 'GERMANY'),
+('Toner', 'SCOTLAND'),
+('Tonne', 'GERMANY'),
+('Tonner', 'SCOTLAND'),
+('Tool', 'IRELAND'),
+('Toome', 'GERMANY'),
+('Toomey', 'IRELAND'),
+('Tooney', 'IRELAND'),
+('Toorn', 'GERMANY'),
+('Toornheim', 'GERMANY'),
+('Topping', 'SCOTLAND'),
+('Torbet', 'SCOTLAND'),
+('Tormählen', 'GERMANY'),
+('Torrance', 'SCOTLAND'),
+('Torrie', 'SCOTLAND'),
+('Tosh', 'SCOTLAND'),
+('Tough', 'SCOTLAND'),
+('Touwke', 'GERMANY'),
+('Touwken', 'GERMANY'),
+('Towmay', 'IRELAND'),
+('Towns', 'SCOTLAND'),
+('Townsend', 'SCOTLAND'),
+('Townshend', 'ENGLAND'),
+('Townsley', 'SCOTLAND'),
+('Tracey', 'SCOTLAND'),
+('Tracy', 'IRELAND'),
+('Trager', 'GERMANY'),
+('Trail', 'SCOTLAND'),
+('Traill', 'SCOTLAND'),
+('Trainer', 'SCOTLAND'),
+('Trainor', 'SCOTLAND'),
+('Trak', 'GERMANY'),
+('Trane', 'GERMANY'),
+('Trapp', 'GERMANY'),
+('Traut', 'GERMANY'),
+('Trauten', 'GERMANY'),
+('Trautmann', 'GERMANY'),
+('Trautz', 'GERMANY'),
+('Travers', 'SCOTLAND'),
+('Traynor', 'SCOTLAND'),
+('Trendelenburg', 'GERMANY'),
+('Tressel', 'GERMANY'),
+('Treurniet', 'GERMANY'),
+('Trew', 'ENGLAND'),
+('Triftheiser', 'GERMANY'),
+('Trifthyzer', 'GERMANY'),
+('Trim', 'ENGLAND'),
+('Tritselaar', 'GERMANY'),
+('Tritzler', 'GERMANY'),
+('Trommel', 'GERMANY'),
+('Troost', 'GERMANY'),
+('Troskie', 'GERMANY'),
+('Trost', 'GERMANY'),
+('Trostduytser', 'GERMANY'),
+('Trotter', 'SCOTLAND'),
+('Troup', 'SCOTLAND'),
+('Trowbridge', 'ENGLAND'),
+('Troy', 'IRELAND'),
+('Trüter', 'GERMANY'),
+('Tsang', 'SCOTLAND'),
+('Tuchie', 'GERMANY'),
+('Tucht', 'GERMANY'),
+('Tuchy', 'GERMANY'),
+('Tucker', 'SCOTLAND'),
+('Tudhope', 'SCOTLAND'),
+('Tulk', 'ENGLAND'),
+('Tulken', 'GERMANY'),
+('Tulloch', 'SCOTLAND'),
+('Tully', 'SCOTLAND'),
+('Tummel', 'GERMANY'),
+('Turley', 'SCOTLAND'),
+('Turnbull', 'SCOTLAND'),
+('Turner', 'AMERICA'),
+('Turner', 'ENGLAND'),
+('Turner', 'SCOTLAND'),
+('Turtser', 'GERMANY'),
+('Tuttmann', 'GERMANY'),
+('Twaddle', 'SCOTLAND'),
+('Tweedie', 'SCOTLAND'),
+('Tyrrell', 'SCOTLAND'),
+('Tyser', 'GERMANY'),
+('Tyson', 'SCOTLAND'),
+('Tätz', 'GERMANY'),
+('Tölner', 'GERMANY'),
+('Tönjus', 'GERMANY'),
+('Tönnies', 'GERMANY'),
+('Uberhardt', 'GERMANY'),
+('Uhlmann', 'GERMANY'),
+('Uker', 'GERMANY'),
+('Ulkers', 'GERMANY'),
+('Ulm', 'GERMANY'),
+('Ulrich', 'GERMANY'),
+('Ulsen', 'GERMANY'),
+('Underwood', 'SCOTLAND'),
+('Ungerer', 'GERMANY'),
+('Ungerers', 'GERMANY'),
+('Unser', 'GERMANY'),
+('Unverfaart', 'GERMANY'),
+('Uphues', 'GERMANY'),
+('Urbanus', 'GERMANY'),
+('Ure', 'SCOTLAND'),
+('Uri', 'GERMANY'),
+('Urquhart', 'SCOTLAND'),
+('Urtel', 'GERMANY'),
+('Usher', 'SCOTLAND'),
+('Uslar', 'GERMANY'),
+('Uwens', 'GERMANY'),
+('Vaardt', 'GERMANY'),
+('Vaarver', 'GERMANY'),
+('Vaatke', 'GERMANY'),
+('Vagt', 'GERMANY'),
+('Valentin', 'GERMANY'),
+('Valentine', 'SCOTLAND'),
+('Valkenhagen', 'GERMANY'),
+('Valkier', 'GERMANY'),
+('Vallance', 'SCOTLAND'),
+('Vallely', 'SCOTLAND'),
+('Vance', 'SCOTLAND'),
+('Vass', 'SCOTLAND'),
+('Vaughan', 'ENGLAND'),
+('Vaughan', 'SCOTLAND'),
+('Vechtmann', 'GERMANY'),
+('Veemann', 'GERMANY'),
+('Veeris', 'GERMANY'),
+('Veesel', 'GERMANY'),
+('Veitch', 'SCOTLAND'),
+('Veldmann', 'GERMANY'),
+('Veltsman', 'GERMANY'),
+('Venter', 'GERMANY'),
+('Venters', 'SCOTLAND'),
+('Verge', 'GERMANY'),
+('Vergoes', 'GERMANY'),
+('Verreyn', 'GERMANY'),
+('Verster', 'GERMANY'),
+('Vetter', 'GERMANY'),
+('Veures', 'GERMANY'),
+('Veyll', 'GERMANY'),
+('Vick', 'GERMANY'),
+('Vickers', 'SCOTLAND'),
+('Viedt', 'GERMANY'),
+('Viegenheim', 'GERMANY'),
+('Vieteer', 'GERMANY'),
+('Vilter', 'GERMANY'),
+('Vincent', 'GERMANY'),
+('Vinck', 'GERMANY'),
+('Visser', 'GERMANY'),
+('Vivian', 'ENGLAND'),
+('Vlock', 'GERMANY'),
+('Vlok', 'GERMANY'),
+('Voberg', 'GERMANY'),
+('Vobeslet', 'GERMANY'),
+('Vock', 'GERMANY'),
+('Vogel', 'GERMANY'),
+('Vogelade', 'GERMANY'),
+('Vogeler', 'GERMANY'),
+('Vogelgesang', 'GERMANY'),
+('Vogelsang', 'GERMANY'),
+('Voges', 'GERMANY'),
+('Voget', 'GERMANY'),
+('Vogler', 'GERMANY'),
+('Vogt', 'GERMANY'),
+('Vogus', 'GERMANY'),
+('Voigt', 'GERMANY'),
+('Volg', 'GERMANY'),
+('Volkers', 'GERMANY'),
+('Volkmann', 'GERMANY'),
+('Volkwein', 'GERMANY'),
+('Voll', 'GERMANY'),
+('Vollgraf', 'GERMANY'),
+('Vollrath', 'GERMANY'),
+('Volmar', 'GERMANY'),
+('Volmer', 'GERMANY'),
+('Volraad', 'GERMANY'),
+('Volstedt', 'GERMANY'),
+('Vonk', 'GERMANY'),
+('Voorhouwer', 'GERMANY'),
+('Voormann', 'GERMANY'),
+('Voormeester', 'GERMANY'),
+('Voort', 'GERMANY'),
+('Voortmann', 'GERMANY'),
+('Vorhauer', 'GERMANY'),
+('Vorländer', 'GERMANY'),
+('Vos', 'GERMANY'),
+('Vosberg', 'GERMANY'),
+('Vosloo', 'GERMANY'),
+('Voss', 'ENGLAND'),
+('Vosz', 'GERMANY'),
+('Vroonhof', 'GERMANY'),
+('Vry', 'GERMANY'),
+('Vulker', 'GERMANY'),
+('Vuurmann', 'GERMANY'),
+('Vygeboom', 'GERMANY'),
+('Völcker', 'GERMANY'),
+('Völker', 'GERMANY'),
+('Waarsan', 'GERMANY'),
+('Waddell', 'SCOTLAND'),
+('Wade', 'SCOTLAND'),
+('Wagner', 'GERMANY'),
+('Wahl', 'GERMANY'),
+('Waite', 'SCOTLAND'),
+('Walboom', 'GERMANY'),
+('Waldau', 'GERMANY'),
+('Walder', 'GERMANY'),
+('Waldpot', 'GERMANY'),
+('Waldron', 'SCOTLAND'),
+('Waldschmidt', 'GERMANY'),
+('Wales', 'SCOTLAND'),
+('Walford', 'ENGLAND'),
+('Walker', 'AMERICA'),
+('Walker', 'SCOTLAND'),
+('Walkinshaw', 'SCOTLAND'),
+('Wallace', 'ENGLAND'),
+('Wallace', 'SCOTLAND'),
+('Wallauer', 'GERMANY'),
+('Wallendorf', 'GERMANY'),
+('Walls', 'SCOTLAND'),
+('Walser', 'GERMANY'),
+('Walsh', 'IRELAND'),
+('Walsh', 'SCOTLAND'),
+('Walt', 'GERMANY'),
+('Walter', 'GERMANY'),
+('Walters', 'SCOTLAND'),
+('Walton', 'SCOTLAND'),
+('Wandhoff', 'GERMANY'),
+('Wann', 'SCOTLAND'),
+('Wansenberg', 'GERMANY'),
+('Wanstroom', 'GERMANY'),
+('Wantranc', 'GERMANY'),
+('Ward', 'AMERICA'),
+('Ward', 'SCOTLAND'),
+('Warden', 'SCOTLAND'),
+('Wardlaw', 'SCOTLAND'),
+('Wardle', 'SCOTLAND'),
+('Wardrop', 'SCOTLAND'),
+('Wardrope', 'SCOTLAND'),
+('Ware', 'ENGLAND'),
+('Warinke', 'GERMANY'),
+('Wark', 'SCOTLAND'),
+('Warlig', 'GERMANY'),
+('Warling', 'IRELAND'),
+('Warndorff', 'GERMANY'),
+('Warneck', 'GERMANY'),
+('Warnecke', 'GERMANY'),
+('Warner', 'SCOTLAND'),
+('Warnock', 'SCOTLAND'),
+('Warren', 'ENGLAND'),
+('Warren', 'SCOTLAND'),
+('Warrender', 'SCOTLAND'),
+('Warwick', 'ENGLAND'),
+('Warwick', 'SCOTLAND'),
+('Wasam', 'GERMANY'),
+('Wasey', 'ENGLAND'),
+('Washington', 'AMERICA'),
+('Wasmann', 'GERMANY'),
+('Wason', 'SCOTLAND'),
+('Wass', 'GERMANY'),
+('Wassel', 'GERMANY'),
+('Wassermann', 'GERMANY'),
+('Watermeyer', 'GERMANY'),
+('Waters', 'AMERICA'),
+('Waters', 'SCOTLAND'),
+('Waterson', 'SCOTLAND'),
+('Waterston', 'SCOTLAND'),
+('Watkins', 'SCOTLAND'),
+('Watson', 'SCOTLAND'),
+('Watt', 'SCOTLAND'),
+('Watters', 'SCOTLAND'),
+('Watterson', 'SCOTLAND'),
+('Watts', 'AMERICA'),
+('Watts', 'ENGLAND'),
+('Watts', 'SCOTLAND'),
+('Waugh', 'SCOTLAND'),
+('Wayman', 'ENGLAND'),
+('Waynford', 'ENGLAND'),
+('Weatherston', 'SCOTLAND'),
+('Weaver', 'SCOTLAND'),
+('Webb', 'AMERICA'),
+('Webb', 'ENGLAND'),
+('Webb', 'SCOTLAND'),
+('Weber', 'GERMANY'),
+('Webster', 'SCOTLAND'),
+('Weck', 'GERMANY'),
+('Weckerlin', 'GERMANY'),
+('Weddell', 'SCOTLAND'),
+('Wedekind', 'GERMANY'),
+('Wedel', 'GERMANY'),
+('Wedeler', 'GERMANY'),
+('Wedemann', 'GERMANY'),
+('Wedemeyer', 'GERMANY'),
+('Weeder', 'GERMANY'),
+('Week', 'GERMANY'),
+('Weekens', 'GERMANY'),
+('Weemer', 'GERMANY'),
+('Weert', 'GERMANY'),
+('Weesberg', 'GERMANY'),
+('Weeseler', 'GERMANY'),
+('Weesmann', 'GERMANY'),
+('Wehmeyer', 'GERMANY'),
+('Wehr', 'GERMANY'),
+('Wehrlen', 'GERMANY'),
+('Weibo', 'GERMANY'),
+('Weickert', 'GERMANY'),
+('Weidel', 'GERMANY'),
+('Weidemann', 'GERMANY'),
+('Weigt', 'GERMANY'),
+('Weihrauch', 'GERMANY'),
+('Weiland', 'GERMANY'),
+('Weimer', 'GERMANY'),
+('Weingart', 'GERMANY'),
+('Weingarten', 'GERMANY'),
+('Weinheim', 'GERMANY'),
+('Weinoch', 'GERMANY'),
+('Weinreis', 'GERMANY'),
+('Weins', 'GERMANY'),
+('Weinstrauch', 'GERMANY'),
+('Weir', 'SCOTLAND'),
+('Weisz', 'GERMANY'),
+('Weiszkirchen', 'GERMANY'),
+('Weitner', 'GERMANY'),
+('Weitzmann', 'GERMANY'),
+('Welbaum', 'GERMANY'),
+('Welch', 'IRELAND'),
+('Welch', 'SCOTLAND'),
+('Welcker', 'GERMANY'),
+('Welders', 'GERMANY'),
+('Weldon', 'SCOTLAND'),
+('Welffing', 'GERMANY'),
+('Welgemoed', 'GERMANY'),
+('Weller', 'GERMANY'),
+('Wellmann', 'GERMANY'),
+('Wellner', 'GERMANY'),
+('Wells', 'AMERICA'),
+('Wells', 'ENGLAND'),
+('Wells', 'SCOTLAND'),
+('Welser', 'GERMANY'),
+('Welsh', 'IRELAND'),
+('Welsh', 'SCOTLAND'),
+('Welter', 'GERMANY'),
+('Weltser', 'GERMANY'),
+('Wemmers', 'GERMANY'),
+('Wemyss', 'SCOTLAND'),
+('Wendel', 'GERMANY'),
+('Wendt', 'GERMANY'),
+('Wenke', 'GERMANY'),
+('Wensch', 'GERMANY'),
+('Wente', 'GERMANY'),
+('Wentz', 'GERMANY'),
+('Wentzel', 'GERMANY'),
+('Wenzen', 'GERMANY'),
+('Wepener', 'GERMANY'),
+('Weppeler', 'GERMANY'),
+('Werndly', 'GERMANY'),
+('Werner', 'GERMANY'),
+('Wernich', 'GERMANY'),
+('Wernik', 'GERMANY'),
+('Wernsdorff', 'GERMANY'),
+('Werredilsky', 'GERMANY'),
+('Weseler', 'GERMANY'),
+('Wesemann', 'GERMANY'),
+('Wessel', 'GERMANY'),
+('Wessels', 'GERMANY'),
+('Wessling', 'GERMANY'),
+('West', 'AMERICA'),
+('West', 'SCOTLAND'),
+('Westhoff', 'GERMANY'),
+('Westmeyer', 'GERMANY'),
+('Weston', 'ENGLAND'),
+('Weston', 'SCOTLAND'),
+('Westwater', 'SCOTLAND'),
+('Westwood', 'SCOTLAND'),
+('Wetzel', 'GERMANY'),
+('Wetzen', 'GERMANY'),
+('Weyell', 'GERMANY'),
+('Weyer', 'GERMANY'),
+('Weyers', 'GERMANY'),
+('Weyffenbach', 'GERMANY'),
+('Weylandt', 'GERMANY'),
+('Weyller', 'GERMANY'),
+('Weymer', 'GERMANY'),
+('Weypje', 'GERMANY'),
+('Weysel', 'GERMANY'),
+('Weyts', 'GERMANY'),
+('Weytsel', 'GERMANY'),
+('Whalan', 'IRELAND'),
+('Whalen', 'SCOTLAND'),
+('Wheeler', 'AMERICA'),
+('Wheeler', 'SCOTLAND'),
+('Whelan', 'IRELAND'),
+('Whelan', 'SCOTLAND'),
+('Whitaker', 'ENGLAND'),
+('White', 'AMERICA'),
+('White', 'ENGLAND'),
+('White', 'SCOTLAND'),
+('Whitefield', 'SCOTLAND'),
+('Whiteford', 'SCOTLAND'),
+('Whitehead', 'SCOTLAND'),
+('Whitelaw', 'SCOTLAND'),
+('Whiteside', 'SCOTLAND'),
+('Whitfield', 'SCOTLAND'),
+('Whitson', 'SCOTLAND'),
+('Whittaker', 'SCOTLAND'),
+('Whitton', 'SCOTLAND'),
+('Whyte', 'SCOTLAND'),
+('Wichmann', 'GERMANY'),
+('Wicht', 'GERMANY'),
+('Wichtrig', 'GERMANY'),
+('Wiedemann', 'GERMANY'),
+('Wiedenbrügge', 'GERMANY'),
+('Wiederhold', 'GERMANY'),
+('Wiegel', 'GERMANY'),
+('Wiehahn', 'GERMANY'),
+('Wiehl', 'GERMANY'),
+('Wiemer', 'GERMANY'),
+('Wienand', 'GERMANY'),
+('Wier', 'GERMANY'),
+('Wiergo', 'GERMANY'),
+('Wiese', 'GERMANY'),
+('Wieseler', 'GERMANY'),
+('Wieseling', 'GERMANY'),
+('Wieser', 'GERMANY'),
+('Wiesling', 'GERMANY'),
+('Wiesner', 'GERMANY'),
+('Wiggins', 'SCOTLAND'),
+('Wight', 'SCOTLAND'),
+('Wightman', 'SCOTLAND'),
+('Wighton', 'SCOTLAND'),
+('Wilbrandt', 'GERMANY'),
+('Wilcken', 'GERMANY'),
+('Wilcox', 'SCOTLAND'),
+('Wild', 'GERMANY'),
+('Wilde', 'GERMANY'),
+('Wilders', 'GERMANY'),
+('Wilds', 'ENGLAND'),
+('Wilhelm', 'GERMANY'),
+('Wilhelms', 'GERMANY'),
+('Wilhelmsen', 'GERMANY'),
+('Wilhelmy', 'GERMANY'),
+('Wilken', 'GERMANY'),
+('Wilkens', 'GERMANY'),
+('Wilkes', 'SCOTLAND'),
+('Wilkie', 'SCOTLAND'),
+('Wilkins', 'SCOTLAND'),
+('Wilkinson', 'SCOTLAND'),
+('Will', 'GERMANY'),
+('Will', 'SCOTLAND'),
+('Willemsz', 'GERMANY'),
+('Willenberg', 'GERMANY'),
+('Willer', 'GERMANY'),
+('Willers', 'GERMANY'),
+('Williams', 'AMERICA'),
+('Williams', 'SCOTLAND'),
+('Williamson', 'SCOTLAND'),
+('Willig', 'GERMANY'),
+('Willink', 'GERMANY'),
+('Willis', 'SCOTLAND'),
+('Willmann', 'GERMANY'),
+('Willotz', 'GERMANY'),
+('Willoughby', 'ENGLAND'),
+('Willox', 'SCOTLAND'),
+('Wills', 'SCOTLAND'),
+('Wilm', 'GERMANY'),
+('Wilmington', 'ENGLAND'),
+('Wilms', 'GERMANY'),
+('Wilsenach', 'GERMANY'),
+('Wilsnach', 'GERMANY'),
+('Wilson', 'AMERICA'),
+('Wilson', 'ENGLAND'),
+('Wilson', 'SCOTLAND'),
+('Wilters', 'GERMANY'),
+('Wimmer', 'GERMANY'),
+('Winchester', 'SCOTLAND'),
+('Winckler', 'GERMANY'),
+('Wind', 'GERMANY'),
+('Windham', 'ENGLAND'),
+('Windheim', 'GERMANY'),
+('Windt', 'GERMANY'),
+('Winekus', 'GERMANY'),
+('Wingate', 'SCOTLAND'),
+('Winkelmann', 'GERMANY'),
+('Winnekes', 'GERMANY'),
+('Winning', 'SCOTLAND'),
+('Wintel', 'GERMANY'),
+('Winter', 'SCOTLAND'),
+('Winterbach', 'GERMANY'),
+('Winterhoff', 'GERMANY'),
+('Winters', 'SCOTLAND'),
+('Winton', 'SCOTLAND'),
+('Wintzer', 'GERMANY'),
+('Wirtele', 'GERMANY'),
+('Wirth', 'GERMANY'),
+('Wiseman', 'SCOTLAND'),
+('Wishart', 'SCOTLAND'),
+('Wishers', 'ENGLAND'),
+('Wiskebrock', 'GERMANY'),
+('Wismann', 'GERMANY'),
+('Wismer', 'GERMANY'),
+('Wispeler', 'GERMANY'),
+('Wisseler', 'GERMANY'),
+('Wissendorp', 'GERMANY'),
+('Wisser', 'GERMANY'),
+('Withers', 'SCOTLAND'),
+('Witsche', 'GERMANY'),
+('Witscher', 'GERMANY'),
+('Witt', 'GERMANY'),
+('Witthöft', 'GERMANY'),
+('Wittig', 'GERMANY'),
+('Witting', 'GERMANY'),
+('Wittkopf', 'GERMANY'),
+('Wittmar', 'GERMANY'),
+('Wlmanns', 'GERMANY'),
+('Wodarch', 'GERMANY'),
+('Woeke', 'GERMANY'),
+('Wohlfahrt', 'GERMANY'),
+('Wohlgemuth', 'GERMANY'),
+('Wolder', 'GERMANY'),
+('Wolfekrober', 'GERMANY'),
+('Wolff', 'GERMANY'),
+('Wolfferum', 'GERMANY'),
+('Wolfsberg', 'GERMANY'),
+('Wolfschmidt', 'GERMANY'),
+('Wolfsen', 'GERMANY'),
+('Wolfsgruber', 'GERMANY'),
+('Wolfsing', 'GERMANY'),
+('Wolgast', 'GERMANY'),
+('Wolk', 'GERMANY'),
+('Wollensky', 'GERMANY'),
+('Wollenweber', 'GERMANY'),
+('Wolmarans', 'GERMANY'),
+('Wolring', 'GERMANY'),
+('Woltemade', 'GERMANY'),
+('Woltemath', 'GERMANY'),
+('Wong', 'SCOTLAND'),
+('Wood', 'AMERICA'),
+('Wood', 'ENGLAND'),
+('Wood', 'SCOTLAND'),
+('Woodburn', 'SCOTLAND'),
+('Woodcock', 'SCOTLAND'),
+('Woods', 'SCOTLAND'),
+('Woolmer', 'ENGLAND'),
+('Woortmann', 'GERMANY'),
+('Worthington', 'ENGLAND'),
+('Wotherspoon', 'SCOTLAND'),
+('Wotky', 'GERMANY'),
+('Wotzky', 'GERMANY'),
+('Wrangel', 'GERMANY'),
+('Wrede', 'GERMANY'),
+('Wreeden', 'GERMANY'),
+('Wrensch', 'GERMANY'),
+('Wright', 'AMERICA'),
+('Wright', 'ENGLAND'),
+('Wright', 'SCOTLAND'),
+('Wulff', 'GERMANY'),
+('Wulkow', 'GERMANY'),
+('Wunsch', 'GERMANY'),
+('Wursdorf', 'GERMANY'),
+('Wurthely', 'GERMANY'),
+('Wyatt', 'SCOTLAND'),
+('Wycliff', 'ENGLAND'),
+('Wylie', 'SCOTLAND'),
+('Wyllie', 'SCOTLAND'),
+('Wynn', 'ENGLAND'),
+('Wynne', 'SCOTLAND'),
+('Wynogh', 'GERMANY'),
+('Wynstrauch', 'GERMANY'),
+('Wyper', 'SCOTLAND'),
+('Wysman', 'GERMANY'),
+('Wysmann', 'GERMANY'),
+('Wyvenbach', 'GERMANY'),
+('Wägner', 'GERMANY'),
+('Wölffling', 'GERMANY'),
+('Wölfling', 'GERMANY'),
+('Wörner', 'GERMANY'),
+('Wülffling', 'GERMANY'),
+('Würdig', 'GERMANY'),
+('Württemberger', 'GERMANY'),
+('Yardley', 'SCOTLAND'),
+('Yarham', 'ENGLAND'),
+('Yates', 'SCOTLAND'),
+('Yeaman', 'SCOTLAND'),
+('Yeatman', 'ENGLAND'),
+('Yeats', 'SCOTLAND'),
+('Young', 'AMERICA'),
+('Young', 'ENGLAND'),
+('Young', 'SCOTLAND'),
+('Younger', 'SCOTLAND'),
+('Youngson', 'SCOTLAND'),
+('Younie', 'SCOTLAND'),
+('Yuill', 'SCOTLAND'),
+('Yule', 'SCOTLAND'),
+('Zaal', 'GERMANY'),
+('Zaan', 'GERMANY'),
+('Zager', 'GERMANY'),
+('Zahn', 'GERMANY'),
+('Zaken', 'GERMANY'),
+('Zang', 'GERMANY'),
+('Zankey', 'ENGLAND'),
+('Zapf', 'GERMANY'),
+('Zappel', 'GERMANY'),
+('Zastron', 'GERMANY'),
+('Zastrow', 'GERMANY'),
+('Zeele', 'GERMANY'),
+('Zeemann', 'GERMANY'),
+('Zeiler', 'GERMANY'),
+('Zeitz', 'GERMANY'),
+('Zeller', 'GERMANY'),
+('Zeyler', 'GERMANY'),
+('Zeynser', 'GERMANY'),
+('Ziberg', 'GERMANY'),
+('Ziedel', 'GERMANY'),
+('Ziegler', 'GERMANY'),
+('Ziese', 'GERMANY'),
+('Ziets', 'GERMANY'),
+('Zietsman', 'GERMANY'),
+('Zietsmann', 'GERMANY'),
+('Zimmerling', 'GERMANY'),
+('Zimmermann', 'GERMANY'),
+('Zink', 'GERMANY'),
+('Zinle', 'GERMANY'),
+('Zinn', 'GERMANY'),
+('Zinner', 'GERMANY'),
+('Zitler', 'GERMANY'),
+('Zittau', 'GERMANY'),
+('Zoen', 'GERMANY'),
+('Zoin', 'GERMANY'),
+('Zondagh', 'GERMANY'),
+('Zorn', 'GERMANY'),
+('Zschech', 'GERMANY'),
+('Zulch', 'GERMANY'),
+('Zundel', 'GERMANY'),
+('Zwintscher', 'GERMANY'),
+('Zändler', 'GERMANY'),
+('de Baer', 'GERMANY'),
+('de Beer', 'GERMANY'),
+('de Blesse', 'GERMANY'),
+('de Boer', 'GERMANY'),
+('de Bruyn', 'GERMANY'),
+('de Groot', 'GERMANY'),
+('de Gruger', 'GERMANY'),
+('de Grys', 'GERMANY'),
+('de Jonker', 'GERMANY'),
+('de Krüger', 'GERMANY'),
+('de Manille', 'GERMANY'),
+('de Merse', 'GERMANY'),
+('de Merts', 'GERMANY'),
+('de Mertz', 'GERMANY'),
+('de Nys', 'GERMANY'),
+('de Rooy', 'GERMANY'),
+('de Vries', 'GERMANY'),
+('du Plooy', 'GERMANY'),
+('in den Birken', 'GERMANY'),
+('van Belen', 'GERMANY'),
+('van Beulen', 'GERMANY'),
+('van Coller', 'GERMANY'),
+('van Eeden', 'GERMANY'),
+('van Eysen', 'GERMANY'),
+('van Harwaerden', 'GERMANY'),
+('van Hertverden', 'GERMANY'),
+('van Huysteen', 'GERMANY'),
+('van Keulen', 'GERMANY'),
+('van Laar', 'GERMANY'),
+('van Linen', 'GERMANY'),
+('van Rensburg', 'GERMANY'),
+('van den Broek', 'GERMANY'),
+('van der Fen', 'GERMANY'),
+('van der Heever', 'GERMANY'),
+('van der Horst', 'GERMANY'),
+('van der Lip', 'GERMANY'),
+('van der Lith', 'GERMANY'),
+('van der Stappen', 'GERMANY'),
+('van der Witterich', 'GERMANY'),
+('vom Raf', 'GERMANY'),
+('von Angelbeck', 'GERMANY'),
+('von Aspern', 'GERMANY'),
+('von Aswegen', 'GERMANY'),
+('von Backstrom', 'GERMANY'),
+('von Belen', 'GERMANY'),
+('von Bergen', 'GERMANY'),
+('von Beulen', 'GERMANY'),
+('von Biehl', 'GERMANY'),
+('von Breitenbach', 'GERMANY'),
+('von Buchenröder', 'GERMANY'),
+('von Bölen', 'GERMANY'),
+('von Böllen', 'GERMANY'),
+('von Cöller', 'GERMANY'),
+('von Dammen', 'GERMANY'),
+('von Dankelmann', 'GERMANY'),
+('von Dessin', 'GERMANY'),
+('von Dhen', 'GERMANY'),
+('von Dipmold', 'GERMANY'),
+('von Düsseldorf', 'GERMANY'),
+('von Eitzen', 'GERMANY'),
+('von Erencroon', 'GERMANY'),
+('von Eysden', 'GERMANY'),
+('von Eyssen', 'GERMANY'),
+('von Fland', 'GERMANY'),
+('von Gersdorff', 'GERMANY'),
+('von Grune', 'GERMANY'),
+('von Harrenstee', 'GERMANY'),
+('von Hartmannsdorf', 'GERMANY'),
+('von Hofen', 'GERMANY'),
+('von Hogenadel', 'GERMANY'),
+('von Hügel', 'GERMANY'),
+('von Jongheim', 'GERMANY'),
+('von Kamptz', 'GERMANY'),
+('von Keulen', 'GERMANY'),
+('von Leipzig', 'GERMANY'),
+('von Lindenbaum', 'GERMANY'),
+('von Ludwig', 'GERMANY'),
+('von Manger', 'GERMANY'),
+('von Ohlen', 'GERMANY'),
+('von Olen', 'GERMANY'),
+('von Olnhausen', 'GERMANY'),
+('von Pritzelwitz', 'GERMANY'),
+('von Reenen', 'GERMANY'),
+('von Renen', 'GERMANY'),
+('von Rossum', 'GERMANY'),
+('von Ruhberg', 'GERMANY'),
+('von Steenberch', 'GERMANY'),
+('von Suurwaarden', 'GERMANY'),
+('von Tondern', 'GERMANY'),
+('von Werlinghof', 'GERMANY'),
+('von Wieding', 'GERMANY'),
+('von Wielligh', 'GERMANY'),
+('von Wiels', 'GERMANY'),
+('von Winkelmann', 'GERMANY'),
+('von Zinckgraeff', 'GERMANY'),
+('von den Berg', 'GERMANY'),
+('von der Burg', 'GERMANY'),
+('von der Heyde', 'GERMANY'),
+('Öhns', 'GERMANY'),
+('Ölwagen', 'GERMANY'),
+('Ölweg', 'GERMANY'),
+('Österling', 'GERMANY');
+
+INSERT INTO life_table (period, age, total_living, male_living, female_living, total_died, male_died, female_died, total_qx, male_qx, female_qx) VALUES
+('medieval', 0, 100000, 100000, 100000, NULL, NULL, NULL, 0.18, NULL, NULL),
+('medieval', 1, 82000, 82000, 82000, NULL, NULL, NULL, 0.09, NULL, NULL),
+('medieval', 2, 74620, 74620, 74620, NULL, NULL, NULL, 0.065, NULL, NULL),
+('medieval', 3, 69770, 69770, 69770, NULL, NULL, NULL, 0.053, NULL, NULL),
+('medieval', 4, 66072, 66072, 66072, NULL, NULL, NULL, 0.04, NULL, NULL),
+('medieval', 5, 63429, 63429, 63429, NULL, NULL, NULL, 0.01, NULL, NULL),
+('medieval', 6, 62795, 62795, 62795, NULL, NULL, NULL, 0.009, NULL, NULL),
+('medieval', 7, 62230, 62230, 62230, NULL, NULL, NULL, 0.009, NULL, NULL),
+('medieval', 8, 61670, 61670, 61670, NULL, NULL, NULL, 0.009, NULL, NULL),
+('medieval', 9, 61115, 61115, 61115, NULL, NULL, NULL, 0.009, NULL, NULL),
+('medieval', 10, 60565, 60565, 60565, NULL, NULL, NULL, 0.009, NULL, NULL),
+('medieval', 11, 60020, 60020, 60020, NULL, NULL, NULL, 0.008, NULL, NULL),
+('medieval', 12, 59540, 59540, 59540, NULL, NULL, NULL, 0.008, NULL, NULL),
+('medieval', 13, 59064, 59064, 59064, NULL, NULL, NULL, 0.008, NULL, NULL),
+('medieval', 14, 58591, 58591, 58591, NULL, NULL, NULL, 0.008, NULL, NULL),
+('medieval', 15, 58122, 58122, 58122, NULL, NULL, NULL, 0.009, NULL, NULL),
+('medieval', 16, 57599, 57599, 57599, NULL, NULL, NULL, 0.011, NULL, NULL),
+('medieval', 17, 56965, 56965, 56965, NULL, NULL, NULL, 0.015, NULL, NULL),
+('medieval', 18, 56111, 56111, 56111, NULL, NULL, NULL, 0.017, NULL, NULL),
+('medieval', 19, 55157, 55157, 55157, NULL, NULL, NULL, 0.02, NULL, NULL),
+('medieval', 20, 54054, 54054, 54054, NULL, NULL, NULL, 0.02, NULL, NULL),
+('medieval', 21, 52973, 52973, 52973, NULL, NULL, NULL, 0.02, NULL, NULL),
+('medieval', 22, 51914, 51914, 51914, NULL, NULL, NULL, 0.02, NULL, NULL),
+('medieval', 23, 50876, 50876, 50876, NULL, NULL, NULL, 0.02, NULL, NULL),
+('medieval', 24, 49858, 49858, 49858, NULL, NULL, NULL, 0.024, NULL, NULL),
+('medieval', 25, 48661, 48661, 48661, NULL, NULL, NULL, 0.024, NULL, NULL),
+('medieval', 26, 47493, 47493, 47493, NULL, NULL, NULL, 0.025, NULL, NULL),
+('medieval', 27, 46306, 46306, 46306, NULL, NULL, NULL, 0.026, NULL, NULL),
+('medieval', 28, 45102, 45102, 45102, NULL, NULL, NULL, 0.027, NULL, NULL),
+('medieval', 29, 43884, 43884, 43884, NULL, NULL, NULL, 0.027, NULL, NULL),
+('medieval', 30, 42699, 42699, 42699, NULL, NULL, NULL, 0.027, NULL, NULL),
+('medieval', 31, 41546, 41546, 41546, NULL, NULL, NULL, 0.027, NULL, NULL),
+('medieval', 32, 40424, 40424, 40424, NULL, NULL, NULL, 0.027, NULL, NULL),
+('medieval', 33, 39333, 39333, 39333, NULL, NULL, NULL, 0.028, NULL, NULL),
+('medieval', 34, 38232, 38232, 38232, NULL, NULL, NULL, 0.029, NULL, NULL),
+('medieval', 35, 37123, 37123, 37123, NULL, NULL, NULL, 0.029, NULL, NULL),
+('medieval', 36, 36046, 36046, 36046, NULL, NULL, NULL, 0.029, NULL, NULL),
+('medieval', 37, 35001, 35001, 35001, NULL, NULL, NULL, 0.029, NULL, NULL),
+('medieval', 38, 33986, 33986, 33986, NULL, NULL, NULL, 0.029, NULL, NULL),
+('medieval', 39, 33000, 33000, 33000, NULL, NULL, NULL, 0.029, NULL, NULL),
+('medieval', 40, 32043, 32043, 32043, NULL, NULL, NULL, 0.029, NULL, NULL),
+('medieval', 41, 31114, 31114, 31114, NULL, NULL, NULL, 0.03, NULL, NULL),
+('medieval', 42, 30181, 30181, 30181, NULL, NULL, NULL, 0.03, NULL, NULL),
+('medieval', 43, 29276, 29276, 29276, NULL, NULL, NULL, 0.03, NULL, NULL),
+('medieval', 44, 28398, 28398, 28398, NULL, NULL, NULL, 0.03, NULL, NULL),
+('medieval', 45, 27546, 27546, 27546, NULL, NULL, NULL, 0.03, NULL, NULL),
+('medieval', 46, 26720, 26720, 26720, NULL, NULL, NULL, 0.03, NULL, NULL),
+('medieval', 47, 25918, 25918, 25918, NULL, NULL, NULL, 0.03, NULL, NULL),
+('medieval', 48, 25140, 25140, 25140, NULL, NULL, NULL, 0.03, NULL, NULL),
+('medieval', 49, 24386, 24386, 24386, NULL, NULL, NULL, 0.03, NULL, NULL),
+('medieval', 50, 23654, 23654, 23654, NULL, NULL, NULL, 0.035, NULL, NULL),
+('medieval', 51, 22826, 22826, 22826, NULL, NULL, NULL, 0.036, NULL, NULL),
+('medieval', 52, 22004, 22004, 22004, NULL, NULL, NULL, 0.037, NULL, NULL),
+('medieval', 53, 21190, 21190, 21190, NULL, NULL, NULL, 0.037, NULL, NULL),
+('medieval', 54, 20406, 20406, 20406, NULL, NULL, NULL, 0.038, NULL, NULL),
+('medieval', 55, 19631, 19631, 19631, NULL, NULL, NULL, 0.038, NULL, NULL),
+('medieval', 56, 18885, 18885, 18885, NULL, NULL, NULL, 0.038, NULL, NULL),
+('medieval', 57, 18167, 18167, 18167, NULL, NULL, NULL, 0.038, NULL, NULL),
+('medieval', 58, 17477, 17477, 17477, NULL, NULL, NULL, 0.038, NULL, NULL),
+('medieval', 59, 16813, 16813, 16813, NULL, NULL, NULL, 0.038, NULL, NULL),
+('medieval', 60, 16174, 16174, 16174, NULL, NULL, NULL, 0.038, NULL, NULL),
+('medieval', 61, 15559, 15559, 15559, NULL, NULL, NULL, 0.04, NULL, NULL),
+('medieval', 62, 14937, 14937, 14937, NULL, NULL, NULL, 0.045, NULL, NULL),
+('medieval', 63, 14265, 14265, 14265, NULL, NULL, NULL, 0.05, NULL, NULL),
+('medieval', 64, 13552, 13552, 13552, NULL, NULL, NULL, 0.06, NULL, NULL),
+('medieval', 65, 12739, 12739, 12739, NULL, NULL, NULL, 0.06, NULL, NULL),
+('medieval', 66, 11975, 11975, 11975, NULL, NULL, NULL, 0.06, NULL, NULL),
+('medieval', 67, 11257, 11257, 11257, NULL, NULL, NULL, 0.06, NULL, NULL),
+('medieval', 68, 10582, 10582, 10582, NULL, NULL, NULL, 0.06, NULL, NULL),
+('medieval', 69, 9947, 9947, 9947, NULL, NULL, NULL, 0.065, NULL, NULL),
+('medieval', 70, 9300, 9300, 9300, NULL, NULL, NULL, 0.07, NULL, NULL),
+('medieval', 71, 8649, 8649, 8649, NULL, NULL, NULL, 0.08, NULL, NULL),
+('medieval', 72, 7957, 7957, 7957, NULL, NULL, NULL, 0.09, NULL, NULL),
+('medieval', 73, 7241, 7241, 7241, NULL, NULL, NULL, 0.1, NULL, NULL),
+('medieval', 74, 6517, 6517, 6517, NULL, NULL, NULL, 0.1, NULL, NULL),
+('medieval', 75, 5865, 5865, 5865, NULL, NULL, NULL, 0.1, NULL, NULL),
+('medieval', 76, 5279, 5279, 5279, NULL, NULL, NULL, 0.11, NULL, NULL),
+('medieval', 77, 4698, 4698, 4698, NULL, NULL, NULL, 0.12, NULL, NULL),
+('medieval', 78, 4134, 4134, 4134, NULL, NULL, NULL, 0.13, NULL, NULL),
+('medieval', 79, 3597, 3597, 3597, NULL, NULL, NULL, 0.14, NULL, NULL),
+('medieval', 80, 3093, 3093, 3093, NULL, NULL, NULL, 0.15, NULL, NULL),
+('medieval', 81, 2629, 2629, 2629, NULL, NULL, NULL, 0.16, NULL, NULL),
+('medieval', 82, 2208, 2208, 2208, NULL, NULL, NULL, 0.17, NULL, NULL),
+('medieval', 83, 1833, 1833, 1833, NULL, NULL, NULL, 0.18, NULL, NULL),
+('medieval', 84, 1503, 1503, 1503, NULL, NULL, NULL, 0.19, NULL, NULL),
+('medieval', 85, 1217, 1217, 1217, NULL, NULL, NULL, 0.2, NULL, NULL),
+('medieval', 86, 974, 974, 974, NULL, NULL, NULL, 0.21, NULL, NULL),
+('medieval', 87, 769, 769, 769, NULL, NULL, NULL, 0.22, NULL, NULL),
+('medieval', 88, 600, 600, 600, NULL, NULL, NULL, 0.23, NULL, NULL),
+('medieval', 89, 462, 462, 462, NULL, NULL, NULL, 0.24, NULL, NULL),
+('medieval', 90, 351, 351, 351, NULL, NULL, NULL, 0.25, NULL, NULL),
+('medieval', 91, 263, 263, 263, NULL, NULL, NULL, 0.26, NULL, NULL),
+('medieval', 92, 195, 195, 195, NULL, NULL, NULL, 0.27, NULL, NULL),
+('medieval', 93, 142, 142, 142, NULL, NULL, NULL, 0.28, NULL, NULL),
+('medieval', 94, 102, 102, 102, NULL, NULL, NULL, 0.29, NULL, NULL),
+('medieval', 95, 72, 72, 72, NULL, NULL, NULL, 0.3, NULL, NULL),
+('medieval', 96, 50, 50, 50, NULL, NULL, NULL, 0.31, NULL, NULL),
+('medieval', 97, 35, 35, 35, NULL, NULL, NULL, 0.32, NULL, NULL),
+('medieval', 98, 24, 24, 24, NULL, NULL, NULL, 0.33, NULL, NULL),
+('medieval', 99, 16, 16, 16, NULL, NULL, NULL, 0.34, NULL, NULL),
+('medieval', 100, 11, 11, 11, NULL, NULL, NULL, 0.35, NULL, NULL),
+('medieval', 101, 7, 7, 7, NULL, NULL, NULL, 0.36, NULL, NULL),
+('medieval', 102, 4, 4, 4, NULL, NULL, NULL, 0.37, NULL, NULL),
+('medieval', 103, 3, 3, 3, NULL, NULL, NULL, 0.38, NULL, NULL),
+('medieval', 104, 2, 2, 2, NULL, NULL, NULL, 0.39, NULL, NULL),
+('medieval', 105, 1, 1, 1, NULL, NULL, NULL, 1, NULL, NULL),
+('victorian', 0, 100000, 51274, 48726, 14631, 8170, 6461, 0.14631, 0.159340016382572, 0.13259861265033),
+('victorian', 1, 85369, 43104, 42265, 5267, 2716, 2551, 0.061696868886833, 0.063010393466964, 0.060357269608423),
+('victorian', 2, 80102, 40388, 39714, 2710, 1370, 1340, 0.033831864372925, 0.03392096662375, 0.03374124993705),
+('victorian', 3, 77392, 39018, 38374, 1853, 954, 899, 0.023943043208601, 0.024450253729048, 0.023427320581644),
+('victorian', 4, 75539, 38064, 37475, 1338, 679, 659, 0.017712704695588, 0.017838377469525, 0.01758505670447),
+('victorian', 5, 74201, 37385, 36816, 1047, 542, 505, 0.014110321963316, 0.01449779323258, 0.013716862233812),
+('victorian', 6, 73154, 36843, 36311, 834, 432, 402, 0.011400606938787, 0.011725429525283, 0.011071025309135),
+('victorian', 7, 72320, 36411, 35909, 676, 346, 330, 0.009347345132743, 0.009502622833759, 0.009189896683283),
+('victorian', 8, 71644, 36065, 35579, 563, 278, 285, 0.007858299369103, 0.007708304450298, 0.008010343179966),
+('victorian', 9, 71081, 35787, 35294, 469, 223, 246, 0.006598106385673, 0.006231313046637, 0.006970023233411),
+('victorian', 10, 70612, 35564, 35048, 392, 179, 213, 0.005551464340339, 0.00503317961984, 0.0060773795937),
+('victorian', 11, 70220, 35385, 34835, 364, 179, 185, 0.005183708345201, 0.005058640666949, 0.005310750681786),
+('victorian', 12, 69856, 35206, 34650, 351, 178, 173, 0.005024622079707, 0.005055956371073, 0.004992784992785),
+('victorian', 13, 69505, 35028, 34477, 415, 218, 197, 0.005970793468096, 0.006223592554528, 0.005713954230356),
+('victorian', 14, 69090, 34810, 34280, 463, 237, 226, 0.006701403965842, 0.00680838839414, 0.00659276546091),
+('victorian', 15, 68627, 34573, 34054, 497, 240, 257, 0.007242047590598, 0.006941833222457, 0.007546837375932),
+('victorian', 16, 68130, 34333, 33797, 507, 246, 261, 0.0074416556583, 0.007165118107943, 0.007722578927124),
+('victorian', 17, 67623, 34087, 33536, 514, 250, 264, 0.007600964168996, 0.007334174318655, 0.00787213740458),
+('victorian', 18, 67109, 33837, 33272, 521, 254, 267, 0.007763489248834, 0.007506575642049, 0.008024765568646),
+('victorian', 19, 66588, 33583, 33005, 529, 259, 270, 0.007944374361747, 0.007712235357175, 0.008180578700197),
+('victorian', 20, 66059, 33324, 32735, 537, 264, 273, 0.008129096716572, 0.007922218221102, 0.008339697571407),
+('victorian', 21, 65522, 33060, 32462, 545, 268, 277, 0.008317816916456, 0.00810647307925, 0.008533054032407),
+('victorian', 22, 64977, 32792, 32185, 552, 273, 279, 0.008495313726395, 0.008325201268602, 0.008668634457045),
+('victorian', 23, 64425, 32519, 31906, 561, 278, 283, 0.008707799767171, 0.008548848365571, 0.008869805052341),
+('victorian', 24, 63864, 32241, 31623, 569, 283, 286, 0.008909557810347, 0.008777643373345, 0.009044050216614),
+('victorian', 25, 63295, 31958, 31337, 576, 287, 289, 0.009100244885062, 0.008980536954753, 0.009222325047069),
+('victorian', 26, 62719, 31671, 31048, 585, 292, 293, 0.009327317080948, 0.009219790975972, 0.009437000772997),
+('victorian', 27, 62134, 31379, 30755, 592, 297, 295, 0.009527794766151, 0.009464928774021, 0.009591936270525),
+('victorian', 28, 61542, 31082, 30460, 601, 302, 299, 0.009765688472913, 0.009716234476546, 0.009816152330926),
+('victorian', 29, 60941, 30780, 30161, 609, 307, 302, 0.00999327218129, 0.009974009096816, 0.010012930605749),
+('victorian', 30, 60332, 30473, 29859, 617, 312, 305, 0.010226745342439, 0.010238571850491, 0.010214675642185),
+('victorian', 31, 59715, 30161, 29554, 624, 316, 308, 0.010449635769907, 0.010477106196744, 0.010421601136902),
+('victorian', 32, 59091, 29845, 29246, 632, 321, 311, 0.010695368160972, 0.010755570447311, 0.010633932845517),
+('victorian', 33, 58459, 29524, 28935, 639, 326, 313, 0.010930737782035, 0.011041864246037, 0.010817349231035),
+('victorian', 34, 57820, 29198, 28622, 648, 331, 317, 0.011207194742304, 0.011336392903624, 0.01107539654811),
+('victorian', 35, 57172, 28867, 28305, 654, 335, 319, 0.011439166025327, 0.011604946825094, 0.011270093623035),
+('victorian', 36, 56518, 28532, 27986, 663, 340, 323, 0.011730776035953, 0.011916444693677, 0.011541485028228),
+('victorian', 37, 55855, 28192, 27663, 669, 344, 325, 0.011977441589831, 0.012202043132804, 0.01174854498789),
+('victorian', 38, 55186, 27848, 27338, 676, 349, 327, 0.012249483564672, 0.012532318299339, 0.011961372448606),
+('victorian', 39, 54510, 27499, 27011, 685, 354, 331, 0.012566501559347, 0.012873195388923, 0.012254266780201),
+('victorian', 40, 53825, 27145, 26680, 691, 358, 333, 0.012837900603809, 0.013188432492172, 0.012481259370315),
+('victorian', 41, 53134, 26787, 26347, 698, 362, 336, 0.013136598035157, 0.013514017993803, 0.012752875090143),
+('victorian', 42, 52436, 26425, 26011, 705, 367, 338, 0.013444961476848, 0.013888363292337, 0.012994502325939),
+('victorian', 43, 51731, 26058, 25673, 711, 371, 340, 0.013744176605904, 0.014237470258654, 0.013243485373739),
+('victorian', 44, 51020, 25687, 25333, 719, 376, 343, 0.014092512740102, 0.014637754506171, 0.013539651837524),
+('victorian', 45, 50301, 25311, 24990, 724, 379, 345, 0.014393352020835, 0.014973726838134, 0.013805522208884),
+('victorian', 46, 49577, 24932, 24645, 730, 383, 347, 0.014724569861024, 0.015361784052623, 0.014079935078109),
+('victorian', 47, 48847, 24549, 24298, 737, 388, 349, 0.015087927610703, 0.015805124444988, 0.014363322084122),
+('victorian', 48, 48110, 24161, 23949, 741, 390, 351, 0.015402203284141, 0.016141715988577, 0.014656144306652),
+('victorian', 49, 47369, 23771, 23598, 748, 395, 353, 0.015790918111001, 0.016616886121745, 0.014958894821595),
+('victorian', 50, 46621, 23376, 23245, 753, 398, 355, 0.016151519701422, 0.017026009582478, 0.01527210152721),
+('victorian', 51, 45868, 22978, 22890, 757, 401, 356, 0.016503880701142, 0.017451475324223, 0.015552643075579),
+('victorian', 52, 45111, 22577, 22534, 764, 405, 359, 0.016936002305424, 0.017938610089915, 0.015931481317121),
+('victorian', 53, 44347, 22172, 22175, 766, 407, 359, 0.017272870769161, 0.018356485657586, 0.016189402480271),
+('victorian', 54, 43581, 21765, 21816, 785, 410, 375, 0.018012436612285, 0.018837583275902, 0.017189218921892),
+('victorian', 55, 42796, 21355, 21441, 849, 449, 400, 0.019838302645107, 0.02102552095528, 0.018655846275827),
+('victorian', 56, 41947, 20906, 21041, 909, 485, 424, 0.021670202875057, 0.023199081603368, 0.02015113350126),
+('victorian', 57, 41038, 20421, 20617, 961, 511, 450, 0.02341732053219, 0.025023260369228, 0.021826647911917),
+('victorian', 58, 40077, 19910, 20167, 1013, 537, 476, 0.025276343039649, 0.026971371170266, 0.023602915654287),
+('victorian', 59, 39064, 19373, 19691, 1068, 565, 503, 0.027339750153594, 0.029164300831054, 0.025544665075415),
+('victorian', 60, 37996, 18808, 19188, 1122, 592, 530, 0.029529424149911, 0.031475967673331, 0.027621430060455),
+('victorian', 61, 36874, 18216, 18658, 1176, 618, 558, 0.03189239030211, 0.033926218708827, 0.029906742416122),
+('victorian', 62, 35698, 17598, 18100, 1230, 645, 585, 0.034455711804583, 0.036651892260484, 0.03232044198895),
+('victorian', 63, 34468, 16953, 17515, 1283, 670, 613, 0.037222931414646, 0.039521028726479, 0.034998572652013),
+('victorian', 64, 33185, 16283, 16902, 1333, 694, 639, 0.040168750941691, 0.042621138610821, 0.037806176783813),
+('victorian', 65, 31852, 15589, 16263, 1383, 717, 666, 0.043419565490393, 0.045993970107127, 0.040951853901494),
+('victorian', 66, 30469, 14872, 15597, 1427, 737, 690, 0.046834487511897, 0.049556213017752, 0.044239276783997),
+('victorian', 67, 29042, 14135, 14907, 1470, 757, 713, 0.050616348736313, 0.053555005305978, 0.047829878580533),
+('victorian', 68, 27572, 13378, 14194, 1505, 771, 734, 0.054584360945887, 0.057631933024369, 0.051711990982105),
+('victorian', 69, 26067, 12607, 13460, 1536, 784, 752, 0.058925077684429, 0.062187673514714, 0.055869242199109),
+('victorian', 70, 24531, 11823, 12708, 1560, 792, 768, 0.063593004769475, 0.06698807409287, 0.060434372049103),
+('victorian', 71, 22971, 11031, 11940, 1575, 796, 779, 0.06856471202821, 0.072160275586982, 0.065242881072027),
+('victorian', 72, 21396, 10235, 11161, 1582, 796, 786, 0.073939054028791, 0.077772349780166, 0.070423797150793),
+('victorian', 73, 19814, 9439, 10375, 1581, 791, 790, 0.079792066215807, 0.083801250132429, 0.076144578313253),
+('victorian', 74, 18233, 8648, 9585, 1569, 781, 788, 0.086052761476444, 0.090309898242368, 0.082211789254043),
+('victorian', 75, 16664, 7867, 8797, 1544, 764, 780, 0.092654824771964, 0.09711452904538, 0.088666590883256),
+('victorian', 76, 15120, 7103, 8017, 1511, 743, 768, 0.099933862433863, 0.104603688582289, 0.095796432580766),
+('victorian', 77, 13609, 6360, 7249, 1463, 715, 748, 0.107502388125505, 0.112421383647799, 0.103186646433991),
+('victorian', 78, 12146, 5645, 6501, 1407, 683, 724, 0.11584060596081, 0.120992028343667, 0.111367481925858),
+('victorian', 79, 10739, 4962, 5777, 1341, 646, 695, 0.124871962007636, 0.130189439742039, 0.120304656396053),
+('victorian', 80, 9398, 4316, 5082, 1262, 604, 658, 0.134283890189402, 0.139944392956441, 0.129476584022039),
+('victorian', 81, 8136, 3712, 4424, 1173, 557, 616, 0.144174041297935, 0.150053879310345, 0.139240506329114),
+('victorian', 82, 6963, 3155, 3808, 1082, 510, 572, 0.155392790463881, 0.161648177496038, 0.150210084033613),
+('victorian', 83, 5881, 2645, 3236, 981, 458, 523, 0.166808365924163, 0.173156899810964, 0.161619283065513),
+('victorian', 84, 4900, 2187, 2713, 879, 407, 472, 0.179387755102041, 0.18609967992684, 0.173977147069665),
+('victorian', 85, 4021, 1780, 2241, 774, 355, 419, 0.192489430489928, 0.199438202247191, 0.186970102632753),
+('victorian', 86, 3247, 1425, 1822, 670, 304, 366, 0.206344317831845, 0.213333333333333, 0.200878155872667),
+('victorian', 87, 2577, 1121, 1456, 571, 257, 314, 0.221575475358944, 0.229259589652096, 0.215659340659341),
+('victorian', 88, 2006, 864, 1142, 477, 212, 265, 0.237786640079761, 0.24537037037037, 0.232049036777583),
+('victorian', 89, 1529, 652, 877, 389, 171, 218, 0.254414650098103, 0.262269938650307, 0.248574686431015),
+('victorian', 90, 1140, 481, 659, 311, 135, 176, 0.27280701754386, 0.280665280665281, 0.267071320182094),
+('victorian', 91, 829, 346, 483, 244, 104, 140, 0.294330518697226, 0.300578034682081, 0.289855072463768),
+('victorian', 92, 585, 242, 343, 180, 77, 103, 0.307692307692308, 0.318181818181818, 0.300291545189504),
+('victorian', 93, 405, 165, 240, 135, 56, 79, 0.333333333333333, 0.339393939393939, 0.329166666666667),
+('victorian', 94, 270, 109, 161, 98, 40, 58, 0.362962962962963, 0.36697247706422, 0.360248447204969),
+('victorian', 95, 172, 69, 103, 62, 25, 37, 0.36046511627907, 0.36231884057971, 0.359223300970874),
+('victorian', 96, 110, 44, 66, 42, 16, 26, 0.381818181818182, 0.363636363636364, 0.393939393939394),
+('victorian', 97, 68, 28, 40, 26, 10, 16, 0.382352941176471, 0.357142857142857, 0.4),
+('victorian', 98, 42, 18, 24, 17, 7, 10, 0.404761904761905, 0.388888888888889, 0.416666666666667),
+('victorian', 99, 25, 11, 14, 9, 4, 5, 0.36, 0.363636363636364, 0.357142857142857),
+('victorian', 100, 16, 7, 9, 6, 2, 4, 0.375, 0.285714285714286, 0.444444444444444),
+('victorian', 101, 10, 5, 5, 4, 2, 2, 0.4, 0.4, 0.4),
+('victorian', 102, 6, 3, 3, 2, 1, 1, 0.333333333333333, 0.333333333333333, 0.333333333333333),
+('victorian', 103, 4, 2, 2, 2, 1, 1, 0.5, 0.5, 0.5),
+('victorian', 104, 2, 1, 1, 2, 1, 1, 1, 1, 1),
+('victorian', 105, 0, 0, 0, 0, 0, 0, 1, 1, 1);
+
+INSERT INTO town_templates (town_map_id, valid_england, valid_scotland) VALUES
+('Map1', TRUE, TRUE),
+('Map10', TRUE, TRUE),
+('Map2', TRUE, TRUE),
+('Map3', TRUE, TRUE),
+('Map4', TRUE, TRUE),
+('Map5', TRUE, TRUE),
+('Map6', TRUE, TRUE),
+('Map7', TRUE, FALSE),
+('Map8', TRUE, TRUE),
+('Map9', FALSE, TRUE);
+
+INSERT INTO town_house_templates (town_map_id, polygon_id, polygon_value) VALUES
+('Map1', 'polygon-1', 2293),
+('Map1', 'polygon-10', 453),
+('Map1', 'polygon-100', 1361),
+('Map1', 'polygon-101', 669),
+('Map1', 'polygon-102', 583),
+('Map1', 'polygon-103', 1325),
+('Map1', 'polygon-104', 1403),
+('Map1', 'polygon-105', 2110),
+('Map1', 'polygon-106', 854),
+('Map1', 'polygon-107', 533),
+('Map1', 'polygon-108', 2486),
+('Map1', 'polygon-109', 2626),
+('Map1', 'polygon-11', 469),
+('Map1', 'polygon-110', 1843),
+('Map1', 'polygon-111', 1319),
+('Map1', 'polygon-112', 1243),
+('Map1', 'polygon-113', 409),
+('Map1', 'polygon-114', 801),
+('Map1', 'polygon-115', 1354),
+('Map1', 'polygon-116', 2740),
+('Map1', 'polygon-117', 679),
+('Map1', 'polygon-118', 953),
+('Map1', 'polygon-119', 899),
+('Map1', 'polygon-12', 406),
+('Map1', 'polygon-120', 713),
+('Map1', 'polygon-121', 1622),
+('Map1', 'polygon-122', 1055),
+('Map1', 'polygon-123', 992),
+('Map1', 'polygon-124', 478),
+('Map1', 'polygon-125', 1932),
+('Map1', 'polygon-126', 2035),
+('Map1', 'polygon-127', 2756),
+('Map1', 'polygon-128', 1281),
+('Map1', 'polygon-129', 385),
+('Map1', 'polygon-13', 341),
+('Map1', 'polygon-130', 590),
+('Map1', 'polygon-131', 383),
+('Map1', 'polygon-132', 286),
+('Map1', 'polygon-133', 330),
+('Map1', 'polygon-134', 694),
+('Map1', 'polygon-135', 366),
+('Map1', 'polygon-136', 445),
+('Map1', 'polygon-137', 419),
+('Map1', 'polygon-138', 443),
+('Map1', 'polygon-139', 360),
+('Map1', 'polygon-14', 274),
+('Map1', 'polygon-140', 431),
+('Map1', 'polygon-141', 521),
+('Map1', 'polygon-142', 928),
+('Map1', 'polygon-143', 219),
+('Map1', 'polygon-144', 135),
+('Map1', 'polygon-145', 262),
+('Map1', 'polygon-146', 238),
+('Map1', 'polygon-147', 203),
+('Map1', 'polygon-148', 138),
+('Map1', 'polygon-149', 99),
+('Map1', 'polygon-15', 303),
+('Map1', 'polygon-150', 379),
+('Map1', 'polygon-151', 128),
+('Map1', 'polygon-152', 143),
+('Map1', 'polygon-153', 146),
+('Map1', 'polygon-154', 158),
+('Map1', 'polygon-155', 278),
+('Map1', 'polygon-156', 187),
+('Map1', 'polygon-157', 126),
+('Map1', 'polygon-158', 216),
+('Map1', 'polygon-159', 126),
+('Map1', 'polygon-16', 394),
+('Map1', 'polygon-160', 175),
+('Map1', 'polygon-161', 177),
+('Map1', 'polygon-162', 181),
+('Map1', 'polygon-163', 95),
+('Map1', 'polygon-164', 91),
+('Map1', 'polygon-165', 338),
+('Map1', 'polygon-166', 128),
+('Map1', 'polygon-167', 85),
+('Map1', 'polygon-168', 96),
+('Map1', 'polygon-169', 133),
+('Map1', 'polygon-17', 359),
+('Map1', 'polygon-170', 156),
+('Map1', 'polygon-171', 94),
+('Map1', 'polygon-172', 108),
+('Map1', 'polygon-173', 44),
+('Map1', 'polygon-174', 414),
+('Map1', 'polygon-175', 211),
+('Map1', 'polygon-176', 140),
+('Map1', 'polygon-177', 219),
+('Map1', 'polygon-178', 189),
+('Map1', 'polygon-179', 210),
+('Map1', 'polygon-18', 542),
+('Map1', 'polygon-180', 328),
+('Map1', 'polygon-181', 135),
+('Map1', 'polygon-182', 86),
+('Map1', 'polygon-183', 143),
+('Map1', 'polygon-184', 186),
+('Map1', 'polygon-185', 148),
+('Map1', 'polygon-186', 116),
+('Map1', 'polygon-187', 77),
+('Map1', 'polygon-188', 82),
+('Map1', 'polygon-189', 264),
+('Map1', 'polygon-19', 439),
+('Map1', 'polygon-190', 192),
+('Map1', 'polygon-191', 119),
+('Map1', 'polygon-192', 114),
+('Map1', 'polygon-193', 70),
+('Map1', 'polygon-194', 256),
+('Map1', 'polygon-195', 197),
+('Map1', 'polygon-196', 246),
+('Map1', 'polygon-197', 97),
+('Map1', 'polygon-198', 209),
+('Map1', 'polygon-199', 236),
+('Map1', 'polygon-2', 510),
+('Map1', 'polygon-20', 446),
+('Map1', 'polygon-200', 143),
+('Map1', 'polygon-201', 375),
+('Map1', 'polygon-202', 260),
+('Map1', 'polygon-203', 258),
+('Map1', 'polygon-204', 311),
+('Map1', 'polygon-205', 201),
+('Map1', 'polygon-206', 308),
+('Map1', 'polygon-207', 206),
+('Map1', 'polygon-208', 149),
+('Map1', 'polygon-209', 293),
+('Map1', 'polygon-21', 604),
+('Map1', 'polygon-210', 489),
+('Map1', 'polygon-211', 201),
+('Map1', 'polygon-212', 163),
+('Map1', 'polygon-22', 950),
+('Map1', 'polygon-23', 458),
+('Map1', 'polygon-24', 2172),
+('Map1', 'polygon-25', 316),
+('Map1', 'polygon-26', 386),
+('Map1', 'polygon-27', 679),
+('Map1', 'polygon-28', 1234),
+('Map1', 'polygon-29', 495),
+('Map1', 'polygon-3', 2738),
+('Map1', 'polygon-30', 1449),
+('Map1', 'polygon-31', 1127),
+('Map1', 'polygon-32', 1206),
+('Map1', 'polygon-33', 409),
+('Map1', 'polygon-34', 1813),
+('Map1', 'polygon-35', 703),
+('Map1', 'polygon-36', 1945),
+('Map1', 'polygon-37', 1355),
+('Map1', 'polygon-38', 638),
+('Map1', 'polygon-39', 1247),
+('Map1', 'polygon-4', 121),
+('Map1', 'polygon-40', 740),
+('Map1', 'polygon-41', 638),
+('Map1', 'polygon-42', 565),
+('Map1', 'polygon-43', 665),
+('Map1', 'polygon-44', 1029),
+('Map1', 'polygon-45', 1250),
+('Map1', 'polygon-46', 237),
+('Map1', 'polygon-47', 381),
+('Map1', 'polygon-48', 371),
+('Map1', 'polygon-49', 2068),
+('Map1', 'polygon-5', 260),
+('Map1', 'polygon-50', 868),
+('Map1', 'polygon-51', 476),
+('Map1', 'polygon-52', 663),
+('Map1', 'polygon-53', 501),
+('Map1', 'polygon-54', 1195),
+('Map1', 'polygon-55', 532),
+('Map1', 'polygon-56', 580),
+('Map1', 'polygon-57', 670),
+('Map1', 'polygon-58', 579),
+('Map1', 'polygon-59', 1051),
+('Map1', 'polygon-6', 208),
+('Map1', 'polygon-60', 517),
+('Map1', 'polygon-61', 1031),
+('Map1', 'polygon-62', 453),
+('Map1', 'polygon-63', 386),
+('Map1', 'polygon-64', 668),
+('Map1', 'polygon-65', 755),
+('Map1', 'polygon-66', 918),
+('Map1', 'polygon-67', 710),
+('Map1', 'polygon-68', 710),
+('Map1', 'polygon-69', 431),
+('Map1', 'polygon-7', 722),
+('Map1', 'polygon-70', 714),
+('Map1', 'polygon-71', 498),
+('Map1', 'polygon-72', 412),
+('Map1', 'polygon-73', 126),
+('Map1', 'polygon-74', 454),
+('Map1', 'polygon-75', 178),
+('Map1', 'polygon-76', 497),
+('Map1', 'polygon-77', 328),
+('Map1', 'polygon-78', 349),
+('Map1', 'polygon-79', 827),
+('Map1', 'polygon-8', 476),
+('Map1', 'polygon-80', 612),
+('Map1', 'polygon-81', 675),
+('Map1', 'polygon-82', 136),
+('Map1', 'polygon-83', 514),
+('Map1', 'polygon-84', 638),
+('Map1', 'polygon-85', 1160),
+('Map1', 'polygon-86', 5000),
+('Map1', 'polygon-87', 548),
+('Map1', 'polygon-88', 558),
+('Map1', 'polygon-89', 1696),
+('Map1', 'polygon-9', 1082),
+('Map1', 'polygon-90', 2947),
+('Map1', 'polygon-91', 1472),
+('Map1', 'polygon-92', 920),
+('Map1', 'polygon-93', 1081),
+('Map1', 'polygon-94', 451),
+('Map1', 'polygon-95', 735),
+('Map1', 'polygon-96', 2351),
+('Map1', 'polygon-97', 170),
+('Map1', 'polygon-98', 1264),
+('Map1', 'polygon-99', 1390),
+('Map10', 'polygon-1', 946),
+('Map10', 'polygon-10', 1014),
+('Map10', 'polygon-100', 382),
+('Map10', 'polygon-101', 483),
+('Map10', 'polygon-102', 286),
+('Map10', 'polygon-103', 293),
+('Map10', 'polygon-104', 799),
+('Map10', 'polygon-105', 345),
+('Map10', 'polygon-106', 330),
+('Map10', 'polygon-107', 673),
+('Map10', 'polygon-108', 520),
+('Map10', 'polygon-109', 359),
+('Map10', 'polygon-11', 668),
+('Map10', 'polygon-110', 1225),
+('Map10', 'polygon-111', 1485),
+('Map10', 'polygon-112', 934),
+('Map10', 'polygon-113', 614),
+('Map10', 'polygon-114', 446),
+('Map10', 'polygon-115', 1351),
+('Map10', 'polygon-116', 1472),
+('Map10', 'polygon-117', 347),
+('Map10', 'polygon-118', 319),
+('Map10', 'polygon-119', 310),
+('Map10', 'polygon-12', 620),
+('Map10', 'polygon-120', 695),
+('Map10', 'polygon-121', 257),
+('Map10', 'polygon-122', 623),
+('Map10', 'polygon-123', 471),
+('Map10', 'polygon-124', 511),
+('Map10', 'polygon-125', 416),
+('Map10', 'polygon-126', 918),
+('Map10', 'polygon-127', 1512),
+('Map10', 'polygon-128', 1202),
+('Map10', 'polygon-129', 366),
+('Map10', 'polygon-13', 778),
+('Map10', 'polygon-130', 483),
+('Map10', 'polygon-131', 860),
+('Map10', 'polygon-132', 360),
+('Map10', 'polygon-133', 309),
+('Map10', 'polygon-134', 292),
+('Map10', 'polygon-135', 302),
+('Map10', 'polygon-136', 354),
+('Map10', 'polygon-137', 216),
+('Map10', 'polygon-138', 370),
+('Map10', 'polygon-139', 613),
+('Map10', 'polygon-14', 533),
+('Map10', 'polygon-140', 365),
+('Map10', 'polygon-141', 286),
+('Map10', 'polygon-142', 261),
+('Map10', 'polygon-143', 117),
+('Map10', 'polygon-144', 534),
+('Map10', 'polygon-145', 847),
+('Map10', 'polygon-146', 673),
+('Map10', 'polygon-147', 234),
+('Map10', 'polygon-148', 310),
+('Map10', 'polygon-149', 354),
+('Map10', 'polygon-15', 763),
+('Map10', 'polygon-150', 178),
+('Map10', 'polygon-151', 413),
+('Map10', 'polygon-152', 220),
+('Map10', 'polygon-153', 481),
+('Map10', 'polygon-154', 1009),
+('Map10', 'polygon-155', 682),
+('Map10', 'polygon-156', 286),
+('Map10', 'polygon-157', 404),
+('Map10', 'polygon-158', 268),
+('Map10', 'polygon-159', 447),
+('Map10', 'polygon-16', 985),
+('Map10', 'polygon-160', 236),
+('Map10', 'polygon-161', 231),
+('Map10', 'polygon-162', 374),
+('Map10', 'polygon-163', 117),
+('Map10', 'polygon-164', 136),
+('Map10', 'polygon-165', 227),
+('Map10', 'polygon-166', 218),
+('Map10', 'polygon-167', 591),
+('Map10', 'polygon-168', 96),
+('Map10', 'polygon-169', 219),
+('Map10', 'polygon-17', 828),
+('Map10', 'polygon-170', 370),
+('Map10', 'polygon-171', 117),
+('Map10', 'polygon-172', 95),
+('Map10', 'polygon-173', 276),
+('Map10', 'polygon-174', 242),
+('Map10', 'polygon-175', 85),
+('Map10', 'polygon-176', 151),
+('Map10', 'polygon-177', 161),
+('Map10', 'polygon-178', 197),
+('Map10', 'polygon-179', 115),
+('Map10', 'polygon-18', 908),
+('Map10', 'polygon-180', 288),
+('Map10', 'polygon-181', 184),
+('Map10', 'polygon-182', 174),
+('Map10', 'polygon-183', 122),
+('Map10', 'polygon-184', 190),
+('Map10', 'polygon-185', 231),
+('Map10', 'polygon-186', 143),
+('Map10', 'polygon-187', 163),
+('Map10', 'polygon-188', 299),
+('Map10', 'polygon-189', 269),
+('Map10', 'polygon-19', 4145),
+('Map10', 'polygon-190', 107),
+('Map10', 'polygon-191', 124),
+('Map10', 'polygon-192', 386),
+('Map10', 'polygon-193', 112),
+('Map10', 'polygon-194', 92),
+('Map10', 'polygon-195', 158),
+('Map10', 'polygon-196', 434),
+('Map10', 'polygon-197', 466),
+('Map10', 'polygon-198', 88),
+('Map10', 'polygon-199', 196),
+('Map10', 'polygon-2', 1065),
+('Map10', 'polygon-20', 2222),
+('Map10', 'polygon-200', 116),
+('Map10', 'polygon-201', 235),
+('Map10', 'polygon-202', 448),
+('Map10', 'polygon-203', 133),
+('Map10', 'polygon-204', 201),
+('Map10', 'polygon-205', 383),
+('Map10', 'polygon-206', 146),
+('Map10', 'polygon-207', 297),
+('Map10', 'polygon-208', 380),
+('Map10', 'polygon-209', 342),
+('Map10', 'polygon-21', 154),
+('Map10', 'polygon-210', 160),
+('Map10', 'polygon-211', 257),
+('Map10', 'polygon-212', 374),
+('Map10', 'polygon-213', 479),
+('Map10', 'polygon-214', 508),
+('Map10', 'polygon-215', 314),
+('Map10', 'polygon-216', 275),
+('Map10', 'polygon-217', 243),
+('Map10', 'polygon-218', 234),
+('Map10', 'polygon-219', 524),
+('Map10', 'polygon-22', 171),
+('Map10', 'polygon-220', 929),
+('Map10', 'polygon-221', 312),
+('Map10', 'polygon-222', 912),
+('Map10', 'polygon-223', 293),
+('Map10', 'polygon-224', 257),
+('Map10', 'polygon-225', 366),
+('Map10', 'polygon-226', 383),
+('Map10', 'polygon-227', 175),
+('Map10', 'polygon-228', 161),
+('Map10', 'polygon-229', 78),
+('Map10', 'polygon-23', 212),
+('Map10', 'polygon-230', 214),
+('Map10', 'polygon-231', 132),
+('Map10', 'polygon-232', 130),
+('Map10', 'polygon-233', 50),
+('Map10', 'polygon-234', 198),
+('Map10', 'polygon-235', 99),
+('Map10', 'polygon-236', 520),
+('Map10', 'polygon-237', 284),
+('Map10', 'polygon-238', 129),
+('Map10', 'polygon-239', 81),
+('Map10', 'polygon-24', 487),
+('Map10', 'polygon-240', 502),
+('Map10', 'polygon-241', 139),
+('Map10', 'polygon-242', 256),
+('Map10', 'polygon-243', 62),
+('Map10', 'polygon-244', 295),
+('Map10', 'polygon-245', 87),
+('Map10', 'polygon-246', 176),
+('Map10', 'polygon-247', 166),
+('Map10', 'polygon-248', 208),
+('Map10', 'polygon-249', 190),
+('Map10', 'polygon-25', 85),
+('Map10', 'polygon-250', 311),
+('Map10', 'polygon-251', 258),
+('Map10', 'polygon-252', 195),
+('Map10', 'polygon-253', 352),
+('Map10', 'polygon-254', 177),
+('Map10', 'polygon-255', 124),
+('Map10', 'polygon-256', 124),
+('Map10', 'polygon-257', 193),
+('Map10', 'polygon-258', 282),
+('Map10', 'polygon-259', 55),
+('Map10', 'polygon-26', 90),
+('Map10', 'polygon-260', 121),
+('Map10', 'polygon-261', 129),
+('Map10', 'polygon-262', 72),
+('Map10', 'polygon-263', 264),
+('Map10', 'polygon-264', 316),
+('Map10', 'polygon-265', 619),
+('Map10', 'polygon-266', 100),
+('Map10', 'polygon-267', 160),
+('Map10', 'polygon-268', 143),
+('Map10', 'polygon-269', 130),
+('Map10', 'polygon-27', 153),
+('Map10', 'polygon-270', 276),
+('Map10', 'polygon-271', 159),
+('Map10', 'polygon-272', 130),
+('Map10', 'polygon-273', 84),
+('Map10', 'polygon-274', 118),
+('Map10', 'polygon-275', 176),
+('Map10', 'polygon-276', 536),
+('Map10', 'polygon-277', 540),
+('Map10', 'polygon-278', 1165),
+('Map10', 'polygon-279', 515),
+('Map10', 'polygon-28', 158),
+('Map10', 'polygon-280', 925),
+('Map10', 'polygon-281', 1277),
+('Map10', 'polygon-282', 815),
+('Map10', 'polygon-283', 159),
+('Map10', 'polygon-284', 170),
+('Map10', 'polygon-285', 76),
+('Map10', 'polygon-286', 133),
+('Map10', 'polygon-287', 184),
+('Map10', 'polygon-288', 123),
+('Map10', 'polygon-289', 219),
+('Map10', 'polygon-29', 219),
+('Map10', 'polygon-290', 161),
+('Map10', 'polygon-291', 202),
+('Map10', 'polygon-292', 82),
+('Map10', 'polygon-293', 315),
+('Map10', 'polygon-294', 162),
+('Map10', 'polygon-295', 100),
+('Map10', 'polygon-296', 177),
+('Map10', 'polygon-297', 269),
+('Map10', 'polygon-298', 269),
+('Map10', 'polygon-299', 214),
+('Map10', 'polygon-3', 839),
+('Map10', 'polygon-30', 114),
+('Map10', 'polygon-300', 297),
+('Map10', 'polygon-301', 220),
+('Map10', 'polygon-302', 89),
+('Map10', 'polygon-303', 189),
+('Map10', 'polygon-304', 72),
+('Map10', 'polygon-305', 186),
+('Map10', 'polygon-306', 160),
+('Map10', 'polygon-307', 82),
+('Map10', 'polygon-308', 111),
+('Map10', 'polygon-309', 55),
+('Map10', 'polygon-31', 113),
+('Map10', 'polygon-310', 120),
+('Map10', 'polygon-311', 99),
+('Map10', 'polygon-312', 188),
+('Map10', 'polygon-313', 177),
+('Map10', 'polygon-314', 175),
+('Map10', 'polygon-315', 101),
+('Map10', 'polygon-316', 369),
+('Map10', 'polygon-317', 217),
+('Map10', 'polygon-318', 140),
+('Map10', 'polygon-319', 96),
+('Map10', 'polygon-32', 110),
+('Map10', 'polygon-320', 102),
+('Map10', 'polygon-321', 126),
+('Map10', 'polygon-322', 61),
+('Map10', 'polygon-323', 136),
+('Map10', 'polygon-324', 359),
+('Map10', 'polygon-325', 253),
+('Map10', 'polygon-326', 66),
+('Map10', 'polygon-327', 158),
+('Map10', 'polygon-328', 211),
+('Map10', 'polygon-329', 146),
+('Map10', 'polygon-33', 329),
+('Map10', 'polygon-330', 72),
+('Map10', 'polygon-331', 64),
+('Map10', 'polygon-332', 117),
+('Map10', 'polygon-333', 137),
+('Map10', 'polygon-334', 80),
+('Map10', 'polygon-335', 312),
+('Map10', 'polygon-336', 266),
+('Map10', 'polygon-337', 173),
+('Map10', 'polygon-338', 100),
+('Map10', 'polygon-339', 125),
+('Map10', 'polygon-34', 105),
+('Map10', 'polygon-340', 188),
+('Map10', 'polygon-341', 5000),
+('Map10', 'polygon-35', 94),
+('Map10', 'polygon-36', 357),
+('Map10', 'polygon-37', 441),
+('Map10', 'polygon-38', 394),
+('Map10', 'polygon-39', 511),
+('Map10', 'polygon-4', 1030),
+('Map10', 'polygon-40', 81),
+('Map10', 'polygon-41', 80),
+('Map10', 'polygon-42', 149),
+('Map10', 'polygon-43', 64),
+('Map10', 'polygon-44', 189),
+('Map10', 'polygon-45', 43),
+('Map10', 'polygon-46', 329),
+('Map10', 'polygon-47', 1131),
+('Map10', 'polygon-48', 882),
+('Map10', 'polygon-49', 1158),
+('Map10', 'polygon-5', 615),
+('Map10', 'polygon-50', 837),
+('Map10', 'polygon-51', 398),
+('Map10', 'polygon-52', 444),
+('Map10', 'polygon-53', 199),
+('Map10', 'polygon-54', 220),
+('Map10', 'polygon-55', 405),
+('Map10', 'polygon-56', 134),
+('Map10', 'polygon-57', 374),
+('Map10', 'polygon-58', 295),
+('Map10', 'polygon-59', 212),
+('Map10', 'polygon-6', 1316),
+('Map10', 'polygon-60', 139),
+('Map10', 'polygon-61', 146),
+('Map10', 'polygon-62', 248),
+('Map10', 'polygon-63', 92),
+('Map10', 'polygon-64', 203),
+('Map10', 'polygon-65', 388),
+('Map10', 'polygon-66', 286),
+('Map10', 'polygon-67', 349),
+('Map10', 'polygon-68', 206),
+('Map10', 'polygon-69', 222),
+('Map10', 'polygon-7', 1001),
+('Map10', 'polygon-70', 121),
+('Map10', 'polygon-71', 527),
+('Map10', 'polygon-72', 97),
+('Map10', 'polygon-73', 75),
+('Map10', 'polygon-74', 93),
+('Map10', 'polygon-75', 152),
+('Map10', 'polygon-76', 208),
+('Map10', 'polygon-77', 228),
+('Map10', 'polygon-78', 333),
+('Map10', 'polygon-79', 197),
+('Map10', 'polygon-8', 446),
+('Map10', 'polygon-80', 523),
+('Map10', 'polygon-81', 166),
+('Map10', 'polygon-82', 136),
+('Map10', 'polygon-83', 264),
+('Map10', 'polygon-84', 299),
+('Map10', 'polygon-85', 436),
+('Map10', 'polygon-86', 603),
+('Map10', 'polygon-87', 556),
+('Map10', 'polygon-88', 652),
+('Map10', 'polygon-89', 1203),
+('Map10', 'polygon-9', 103),
+('Map10', 'polygon-90', 511),
+('Map10', 'polygon-91', 399),
+('Map10', 'polygon-92', 822),
+('Map10', 'polygon-93', 610),
+('Map10', 'polygon-94', 240),
+('Map10', 'polygon-95', 494),
+('Map10', 'polygon-96', 518),
+('Map10', 'polygon-97', 370),
+('Map10', 'polygon-98', 558),
+('Map10', 'polygon-99', 728),
+('Map2', 'polygon-1', 743),
+('Map2', 'polygon-10', 217),
+('Map2', 'polygon-100', 109),
+('Map2', 'polygon-101', 301),
+('Map2', 'polygon-102', 181),
+('Map2', 'polygon-103', 249),
+('Map2', 'polygon-104', 608),
+('Map2', 'polygon-105', 423),
+('Map2', 'polygon-106', 511),
+('Map2', 'polygon-107', 730),
+('Map2', 'polygon-108', 862),
+('Map2', 'polygon-109', 290),
+('Map2', 'polygon-11', 710),
+('Map2', 'polygon-110', 747),
+('Map2', 'polygon-12', 1482),
+('Map2', 'polygon-13', 316),
+('Map2', 'polygon-14', 1146),
+('Map2', 'polygon-15', 253),
+('Map2', 'polygon-16', 709),
+('Map2', 'polygon-17', 811),
+('Map2', 'polygon-18', 1853),
+('Map2', 'polygon-19', 649),
+('Map2', 'polygon-2', 708),
+('Map2', 'polygon-20', 113),
+('Map2', 'polygon-21', 176),
+('Map2', 'polygon-22', 399),
+('Map2', 'polygon-23', 226),
+('Map2', 'polygon-24', 393),
+('Map2', 'polygon-25', 115),
+('Map2', 'polygon-26', 255),
+('Map2', 'polygon-27', 236),
+('Map2', 'polygon-28', 217),
+('Map2', 'polygon-29', 347),
+('Map2', 'polygon-3', 625),
+('Map2', 'polygon-30', 367),
+('Map2', 'polygon-31', 121),
+('Map2', 'polygon-32', 137),
+('Map2', 'polygon-33', 222),
+('Map2', 'polygon-34', 446),
+('Map2', 'polygon-35', 136),
+('Map2', 'polygon-36', 179),
+('Map2', 'polygon-37', 1196),
+('Map2', 'polygon-38', 769),
+('Map2', 'polygon-39', 1255),
+('Map2', 'polygon-4', 2000),
+('Map2', 'polygon-40', 631),
+('Map2', 'polygon-41', 501),
+('Map2', 'polygon-42', 449),
+('Map2', 'polygon-43', 591),
+('Map2', 'polygon-44', 1009),
+('Map2', 'polygon-45', 425),
+('Map2', 'polygon-46', 1278),
+('Map2', 'polygon-47', 1431),
+('Map2', 'polygon-48', 412),
+('Map2', 'polygon-49', 395),
+('Map2', 'polygon-5', 1191),
+('Map2', 'polygon-50', 1860),
+('Map2', 'polygon-51', 1195),
+('Map2', 'polygon-52', 224),
+('Map2', 'polygon-53', 154),
+('Map2', 'polygon-54', 320),
+('Map2', 'polygon-55', 247),
+('Map2', 'polygon-56', 498),
+('Map2', 'polygon-57', 195),
+('Map2', 'polygon-58', 82),
+('Map2', 'polygon-59', 341),
+('Map2', 'polygon-6', 472),
+('Map2', 'polygon-60', 175),
+('Map2', 'polygon-61', 422),
+('Map2', 'polygon-62', 161),
+('Map2', 'polygon-63', 139),
+('Map2', 'polygon-64', 237),
+('Map2', 'polygon-65', 324),
+('Map2', 'polygon-66', 77),
+('Map2', 'polygon-67', 243),
+('Map2', 'polygon-68', 157),
+('Map2', 'polygon-69', 91),
+('Map2', 'polygon-7', 631),
+('Map2', 'polygon-70', 142),
+('Map2', 'polygon-71', 205),
+('Map2', 'polygon-72', 235),
+('Map2', 'polygon-73', 299),
+('Map2', 'polygon-74', 83),
+('Map2', 'polygon-75', 94),
+('Map2', 'polygon-76', 72),
+('Map2', 'polygon-77', 188),
+('Map2', 'polygon-78', 98),
+('Map2', 'polygon-79', 88),
+('Map2', 'polygon-8', 968),
+('Map2', 'polygon-80', 193),
+('Map2', 'polygon-81', 77),
+('Map2', 'polygon-82', 126),
+('Map2', 'polygon-83', 231),
+('Map2', 'polygon-84', 103),
+('Map2', 'polygon-85', 282),
+('Map2', 'polygon-86', 522),
+('Map2', 'polygon-87', 499),
+('Map2', 'polygon-88', 566),
+('Map2', 'polygon-89', 576),
+('Map2', 'polygon-9', 426),
+('Map2', 'polygon-90', 150),
+('Map2', 'polygon-91', 222),
+('Map2', 'polygon-92', 763),
+('Map2', 'polygon-93', 433),
+('Map2', 'polygon-94', 614),
+('Map2', 'polygon-95', 453),
+('Map2', 'polygon-96', 194),
+('Map2', 'polygon-97', 176),
+('Map2', 'polygon-98', 346),
+('Map2', 'polygon-99', 62),
+('Map3', 'polygon-1', 211),
+('Map3', 'polygon-10', 506),
+('Map3', 'polygon-100', 151),
+('Map3', 'polygon-101', 132),
+('Map3', 'polygon-102', 106),
+('Map3', 'polygon-103', 222),
+('Map3', 'polygon-104', 480),
+('Map3', 'polygon-105', 1025),
+('Map3', 'polygon-106', 532),
+('Map3', 'polygon-107', 203),
+('Map3', 'polygon-108', 234),
+('Map3', 'polygon-109', 262),
+('Map3', 'polygon-11', 1074),
+('Map3', 'polygon-110', 211),
+('Map3', 'polygon-111', 871),
+('Map3', 'polygon-112', 1043),
+('Map3', 'polygon-113', 1071),
+('Map3', 'polygon-114', 377),
+('Map3', 'polygon-115', 674),
+('Map3', 'polygon-116', 397),
+('Map3', 'polygon-117', 1141),
+('Map3', 'polygon-118', 330),
+('Map3', 'polygon-119', 208),
+('Map3', 'polygon-12', 518),
+('Map3', 'polygon-120', 371),
+('Map3', 'polygon-121', 294),
+('Map3', 'polygon-122', 196),
+('Map3', 'polygon-123', 281),
+('Map3', 'polygon-124', 138),
+('Map3', 'polygon-125', 81),
+('Map3', 'polygon-126', 312),
+('Map3', 'polygon-127', 152),
+('Map3', 'polygon-128', 204),
+('Map3', 'polygon-129', 433),
+('Map3', 'polygon-13', 539),
+('Map3', 'polygon-130', 233),
+('Map3', 'polygon-131', 172),
+('Map3', 'polygon-132', 305),
+('Map3', 'polygon-133', 227),
+('Map3', 'polygon-134', 172),
+('Map3', 'polygon-135', 195),
+('Map3', 'polygon-136', 107),
+('Map3', 'polygon-137', 208),
+('Map3', 'polygon-138', 427),
+('Map3', 'polygon-139', 202),
+('Map3', 'polygon-14', 346),
+('Map3', 'polygon-140', 196),
+('Map3', 'polygon-141', 260),
+('Map3', 'polygon-142', 260),
+('Map3', 'polygon-143', 292),
+('Map3', 'polygon-144', 244),
+('Map3', 'polygon-145', 780),
+('Map3', 'polygon-146', 852),
+('Map3', 'polygon-147', 593),
+('Map3', 'polygon-148', 726),
+('Map3', 'polygon-149', 326),
+('Map3', 'polygon-15', 449),
+('Map3', 'polygon-150', 322),
+('Map3', 'polygon-151', 483),
+('Map3', 'polygon-152', 455),
+('Map3', 'polygon-153', 1165),
+('Map3', 'polygon-154', 590),
+('Map3', 'polygon-155', 552),
+('Map3', 'polygon-156', 455),
+('Map3', 'polygon-157', 406),
+('Map3', 'polygon-158', 570),
+('Map3', 'polygon-159', 307),
+('Map3', 'polygon-16', 2500),
+('Map3', 'polygon-160', 171),
+('Map3', 'polygon-161', 521),
+('Map3', 'polygon-162', 387),
+('Map3', 'polygon-163', 370),
+('Map3', 'polygon-164', 533),
+('Map3', 'polygon-165', 741),
+('Map3', 'polygon-166', 425),
+('Map3', 'polygon-167', 218),
+('Map3', 'polygon-168', 403),
+('Map3', 'polygon-169', 396),
+('Map3', 'polygon-17', 360),
+('Map3', 'polygon-170', 440),
+('Map3', 'polygon-171', 460),
+('Map3', 'polygon-172', 295),
+('Map3', 'polygon-173', 374),
+('Map3', 'polygon-174', 616),
+('Map3', 'polygon-175', 266),
+('Map3', 'polygon-176', 439),
+('Map3', 'polygon-177', 431),
+('Map3', 'polygon-178', 376),
+('Map3', 'polygon-179', 330),
+('Map3', 'polygon-18', 318),
+('Map3', 'polygon-180', 585),
+('Map3', 'polygon-181', 588),
+('Map3', 'polygon-182', 487),
+('Map3', 'polygon-183', 244),
+('Map3', 'polygon-184', 290),
+('Map3', 'polygon-185', 126),
+('Map3', 'polygon-186', 195),
+('Map3', 'polygon-187', 227),
+('Map3', 'polygon-188', 97),
+('Map3', 'polygon-189', 243),
+('Map3', 'polygon-19', 651),
+('Map3', 'polygon-190', 211),
+('Map3', 'polygon-191', 208),
+('Map3', 'polygon-192', 251),
+('Map3', 'polygon-193', 174),
+('Map3', 'polygon-194', 102),
+('Map3', 'polygon-195', 242),
+('Map3', 'polygon-196', 485),
+('Map3', 'polygon-197', 309),
+('Map3', 'polygon-198', 125),
+('Map3', 'polygon-199', 224),
+('Map3', 'polygon-2', 303),
+('Map3', 'polygon-20', 724),
+('Map3', 'polygon-200', 106),
+('Map3', 'polygon-201', 161),
+('Map3', 'polygon-202', 440),
+('Map3', 'polygon-203', 489),
+('Map3', 'polygon-204', 291),
+('Map3', 'polygon-205', 168),
+('Map3', 'polygon-206', 210),
+('Map3', 'polygon-207', 332),
+('Map3', 'polygon-208', 286),
+('Map3', 'polygon-209', 543),
+('Map3', 'polygon-21', 259),
+('Map3', 'polygon-210', 393),
+('Map3', 'polygon-211', 243),
+('Map3', 'polygon-212', 260),
+('Map3', 'polygon-213', 155),
+('Map3', 'polygon-214', 146),
+('Map3', 'polygon-215', 600),
+('Map3', 'polygon-216', 178),
+('Map3', 'polygon-217', 123),
+('Map3', 'polygon-218', 517),
+('Map3', 'polygon-219', 792),
+('Map3', 'polygon-22', 420),
+('Map3', 'polygon-220', 189),
+('Map3', 'polygon-221', 173),
+('Map3', 'polygon-222', 340),
+('Map3', 'polygon-223', 280),
+('Map3', 'polygon-224', 127),
+('Map3', 'polygon-225', 215),
+('Map3', 'polygon-226', 242),
+('Map3', 'polygon-227', 248),
+('Map3', 'polygon-228', 292),
+('Map3', 'polygon-229', 238),
+('Map3', 'polygon-23', 1332),
+('Map3', 'polygon-230', 111),
+('Map3', 'polygon-231', 232),
+('Map3', 'polygon-232', 332),
+('Map3', 'polygon-233', 301),
+('Map3', 'polygon-234', 239),
+('Map3', 'polygon-235', 354),
+('Map3', 'polygon-236', 514),
+('Map3', 'polygon-237', 176),
+('Map3', 'polygon-238', 199),
+('Map3', 'polygon-239', 146),
+('Map3', 'polygon-24', 422),
+('Map3', 'polygon-240', 137),
+('Map3', 'polygon-241', 121),
+('Map3', 'polygon-242', 506),
+('Map3', 'polygon-243', 319),
+('Map3', 'polygon-244', 211),
+('Map3', 'polygon-245', 233),
+('Map3', 'polygon-246', 276),
+('Map3', 'polygon-247', 196),
+('Map3', 'polygon-248', 52),
+('Map3', 'polygon-249', 46),
+('Map3', 'polygon-25', 258),
+('Map3', 'polygon-250', 150),
+('Map3', 'polygon-251', 149),
+('Map3', 'polygon-252', 142),
+('Map3', 'polygon-253', 95),
+('Map3', 'polygon-254', 106),
+('Map3', 'polygon-255', 418),
+('Map3', 'polygon-256', 238),
+('Map3', 'polygon-257', 451),
+('Map3', 'polygon-258', 296),
+('Map3', 'polygon-259', 140),
+('Map3', 'polygon-26', 494),
+('Map3', 'polygon-260', 305),
+('Map3', 'polygon-261', 178),
+('Map3', 'polygon-262', 220),
+('Map3', 'polygon-263', 242),
+('Map3', 'polygon-264', 225),
+('Map3', 'polygon-265', 381),
+('Map3', 'polygon-266', 122),
+('Map3', 'polygon-267', 405),
+('Map3', 'polygon-268', 241),
+('Map3', 'polygon-269', 215),
+('Map3', 'polygon-27', 813),
+('Map3', 'polygon-270', 147),
+('Map3', 'polygon-271', 278),
+('Map3', 'polygon-272', 210),
+('Map3', 'polygon-273', 230),
+('Map3', 'polygon-274', 296),
+('Map3', 'polygon-275', 225),
+('Map3', 'polygon-276', 282),
+('Map3', 'polygon-277', 338),
+('Map3', 'polygon-278', 205),
+('Map3', 'polygon-279', 244),
+('Map3', 'polygon-28', 221),
+('Map3', 'polygon-280', 585),
+('Map3', 'polygon-281', 514),
+('Map3', 'polygon-282', 185),
+('Map3', 'polygon-283', 120),
+('Map3', 'polygon-284', 393),
+('Map3', 'polygon-29', 303),
+('Map3', 'polygon-3', 385),
+('Map3', 'polygon-30', 570),
+('Map3', 'polygon-31', 514),
+('Map3', 'polygon-32', 114),
+('Map3', 'polygon-33', 207),
+('Map3', 'polygon-34', 123),
+('Map3', 'polygon-35', 739),
+('Map3', 'polygon-36', 250),
+('Map3', 'polygon-37', 163),
+('Map3', 'polygon-38', 373),
+('Map3', 'polygon-39', 166),
+('Map3', 'polygon-4', 499),
+('Map3', 'polygon-40', 817),
+('Map3', 'polygon-41', 595),
+('Map3', 'polygon-42', 789),
+('Map3', 'polygon-43', 668),
+('Map3', 'polygon-44', 1399),
+('Map3', 'polygon-45', 376),
+('Map3', 'polygon-46', 268),
+('Map3', 'polygon-47', 172),
+('Map3', 'polygon-48', 144),
+('Map3', 'polygon-49', 174),
+('Map3', 'polygon-5', 185),
+('Map3', 'polygon-50', 345),
+('Map3', 'polygon-51', 318),
+('Map3', 'polygon-52', 121),
+('Map3', 'polygon-53', 109),
+('Map3', 'polygon-54', 98),
+('Map3', 'polygon-55', 247),
+('Map3', 'polygon-56', 312),
+('Map3', 'polygon-57', 102),
+('Map3', 'polygon-58', 100),
+('Map3', 'polygon-59', 198),
+('Map3', 'polygon-6', 466),
+('Map3', 'polygon-60', 81),
+('Map3', 'polygon-61', 226),
+('Map3', 'polygon-62', 82),
+('Map3', 'polygon-63', 200),
+('Map3', 'polygon-64', 136),
+('Map3', 'polygon-65', 90),
+('Map3', 'polygon-66', 52),
+('Map3', 'polygon-67', 123),
+('Map3', 'polygon-68', 275),
+('Map3', 'polygon-69', 214),
+('Map3', 'polygon-7', 120),
+('Map3', 'polygon-70', 363),
+('Map3', 'polygon-71', 201),
+('Map3', 'polygon-72', 190),
+('Map3', 'polygon-73', 130),
+('Map3', 'polygon-74', 134),
+('Map3', 'polygon-75', 104),
+('Map3', 'polygon-76', 172),
+('Map3', 'polygon-77', 628),
+('Map3', 'polygon-78', 405),
+('Map3', 'polygon-79', 137),
+('Map3', 'polygon-8', 1045),
+('Map3', 'polygon-80', 171),
+('Map3', 'polygon-81', 298),
+('Map3', 'polygon-82', 230),
+('Map3', 'polygon-83', 592),
+('Map3', 'polygon-84', 373),
+('Map3', 'polygon-85', 645),
+('Map3', 'polygon-86', 1172),
+('Map3', 'polygon-87', 282),
+('Map3', 'polygon-88', 156),
+('Map3', 'polygon-89', 244),
+('Map3', 'polygon-9', 769),
+('Map3', 'polygon-90', 316),
+('Map3', 'polygon-91', 218),
+('Map3', 'polygon-92', 196),
+('Map3', 'polygon-93', 184),
+('Map3', 'polygon-94', 611),
+('Map3', 'polygon-95', 250),
+('Map3', 'polygon-96', 80),
+('Map3', 'polygon-97', 238),
+('Map3', 'polygon-98', 108),
+('Map3', 'polygon-99', 145),
+('Map4', 'polygon-1', 892),
+('Map4', 'polygon-10', 166),
+('Map4', 'polygon-100', 439),
+('Map4', 'polygon-101', 121),
+('Map4', 'polygon-102', 803),
+('Map4', 'polygon-103', 663),
+('Map4', 'polygon-104', 1743),
+('Map4', 'polygon-105', 1144),
+('Map4', 'polygon-106', 901),
+('Map4', 'polygon-107', 475),
+('Map4', 'polygon-108', 317),
+('Map4', 'polygon-109', 635),
+('Map4', 'polygon-11', 149),
+('Map4', 'polygon-110', 376),
+('Map4', 'polygon-111', 628),
+('Map4', 'polygon-12', 235),
+('Map4', 'polygon-13', 438),
+('Map4', 'polygon-14', 218),
+('Map4', 'polygon-15', 196),
+('Map4', 'polygon-16', 588),
+('Map4', 'polygon-17', 265),
+('Map4', 'polygon-18', 208),
+('Map4', 'polygon-19', 53),
+('Map4', 'polygon-2', 275),
+('Map4', 'polygon-20', 1068),
+('Map4', 'polygon-21', 208),
+('Map4', 'polygon-22', 353),
+('Map4', 'polygon-23', 957),
+('Map4', 'polygon-24', 1090),
+('Map4', 'polygon-25', 277),
+('Map4', 'polygon-26', 475),
+('Map4', 'polygon-27', 1347),
+('Map4', 'polygon-28', 854),
+('Map4', 'polygon-29', 976),
+('Map4', 'polygon-3', 365),
+('Map4', 'polygon-30', 659),
+('Map4', 'polygon-31', 353),
+('Map4', 'polygon-32', 1012),
+('Map4', 'polygon-33', 988),
+('Map4', 'polygon-34', 1172),
+('Map4', 'polygon-35', 555),
+('Map4', 'polygon-36', 377),
+('Map4', 'polygon-37', 1218),
+('Map4', 'polygon-38', 1234),
+('Map4', 'polygon-39', 284),
+('Map4', 'polygon-4', 613),
+('Map4', 'polygon-40', 155),
+('Map4', 'polygon-41', 431),
+('Map4', 'polygon-42', 670),
+('Map4', 'polygon-43', 893),
+('Map4', 'polygon-44', 329),
+('Map4', 'polygon-45', 442),
+('Map4', 'polygon-46', 228),
+('Map4', 'polygon-47', 335),
+('Map4', 'polygon-48', 720),
+('Map4', 'polygon-49', 326),
+('Map4', 'polygon-5', 432),
+('Map4', 'polygon-50', 252),
+('Map4', 'polygon-51', 678),
+('Map4', 'polygon-52', 400),
+('Map4', 'polygon-53', 378),
+('Map4', 'polygon-54', 409),
+('Map4', 'polygon-55', 729),
+('Map4', 'polygon-56', 239),
+('Map4', 'polygon-57', 98),
+('Map4', 'polygon-58', 480),
+('Map4', 'polygon-59', 2000),
+('Map4', 'polygon-6', 106),
+('Map4', 'polygon-60', 1181),
+('Map4', 'polygon-61', 795),
+('Map4', 'polygon-62', 628),
+('Map4', 'polygon-63', 565),
+('Map4', 'polygon-64', 493),
+('Map4', 'polygon-65', 720),
+('Map4', 'polygon-66', 1082),
+('Map4', 'polygon-67', 369),
+('Map4', 'polygon-68', 206),
+('Map4', 'polygon-69', 666),
+('Map4', 'polygon-7', 260),
+('Map4', 'polygon-70', 643),
+('Map4', 'polygon-71', 1837),
+('Map4', 'polygon-72', 612),
+('Map4', 'polygon-73', 283),
+('Map4', 'polygon-74', 511),
+('Map4', 'polygon-75', 1020),
+('Map4', 'polygon-76', 572),
+('Map4', 'polygon-77', 470),
+('Map4', 'polygon-78', 648),
+('Map4', 'polygon-79', 775),
+('Map4', 'polygon-8', 381),
+('Map4', 'polygon-80', 1416),
+('Map4', 'polygon-81', 883),
+('Map4', 'polygon-82', 274),
+('Map4', 'polygon-83', 387),
+('Map4', 'polygon-84', 307),
+('Map4', 'polygon-85', 286),
+('Map4', 'polygon-86', 698),
+('Map4', 'polygon-87', 210),
+('Map4', 'polygon-88', 250),
+('Map4', 'polygon-89', 291),
+('Map4', 'polygon-9', 403),
+('Map4', 'polygon-90', 118),
+('Map4', 'polygon-91', 954),
+('Map4', 'polygon-92', 257),
+('Map4', 'polygon-93', 168),
+('Map4', 'polygon-94', 633),
+('Map4', 'polygon-95', 318),
+('Map4', 'polygon-96', 228),
+('Map4', 'polygon-97', 381),
+('Map4', 'polygon-98', 238),
+('Map4', 'polygon-99', 493),
+('Map5', 'polygon-1', 1118),
+('Map5', 'polygon-10', 1521),
+('Map5', 'polygon-100', 369),
+('Map5', 'polygon-101', 943),
+('Map5', 'polygon-102', 268),
+('Map5', 'polygon-103', 203),
+('Map5', 'polygon-104', 287),
+('Map5', 'polygon-105', 155),
+('Map5', 'polygon-106', 402),
+('Map5', 'polygon-107', 209),
+('Map5', 'polygon-108', 171),
+('Map5', 'polygon-109', 824),
+('Map5', 'polygon-11', 840),
+('Map5', 'polygon-110', 474),
+('Map5', 'polygon-111', 192),
+('Map5', 'polygon-112', 277),
+('Map5', 'polygon-113', 2542),
+('Map5', 'polygon-114', 630),
+('Map5', 'polygon-115', 530),
+('Map5', 'polygon-116', 380),
+('Map5', 'polygon-117', 1190),
+('Map5', 'polygon-118', 1098),
+('Map5', 'polygon-119', 2128),
+('Map5', 'polygon-12', 1063),
+('Map5', 'polygon-120', 690),
+('Map5', 'polygon-121', 878),
+('Map5', 'polygon-122', 1323),
+('Map5', 'polygon-123', 843),
+('Map5', 'polygon-124', 1201),
+('Map5', 'polygon-125', 1531),
+('Map5', 'polygon-126', 831),
+('Map5', 'polygon-127', 1449),
+('Map5', 'polygon-128', 793),
+('Map5', 'polygon-129', 588),
+('Map5', 'polygon-13', 1568),
+('Map5', 'polygon-130', 706),
+('Map5', 'polygon-131', 348),
+('Map5', 'polygon-132', 2004),
+('Map5', 'polygon-133', 722),
+('Map5', 'polygon-134', 763),
+('Map5', 'polygon-135', 1042),
+('Map5', 'polygon-136', 630),
+('Map5', 'polygon-137', 146),
+('Map5', 'polygon-138', 1505),
+('Map5', 'polygon-139', 1045),
+('Map5', 'polygon-14', 1473),
+('Map5', 'polygon-140', 588),
+('Map5', 'polygon-141', 1510),
+('Map5', 'polygon-142', 338),
+('Map5', 'polygon-143', 668),
+('Map5', 'polygon-144', 1060),
+('Map5', 'polygon-145', 986),
+('Map5', 'polygon-15', 885),
+('Map5', 'polygon-16', 754),
+('Map5', 'polygon-17', 1349),
+('Map5', 'polygon-18', 638),
+('Map5', 'polygon-19', 352),
+('Map5', 'polygon-2', 658),
+('Map5', 'polygon-20', 1260),
+('Map5', 'polygon-21', 1768),
+('Map5', 'polygon-22', 1388),
+('Map5', 'polygon-23', 1147),
+('Map5', 'polygon-24', 690),
+('Map5', 'polygon-25', 675),
+('Map5', 'polygon-26', 1543),
+('Map5', 'polygon-27', 1400),
+('Map5', 'polygon-28', 935),
+('Map5', 'polygon-29', 1796),
+('Map5', 'polygon-3', 2083),
+('Map5', 'polygon-30', 1961),
+('Map5', 'polygon-31', 1457),
+('Map5', 'polygon-32', 1285),
+('Map5', 'polygon-33', 1681),
+('Map5', 'polygon-34', 1606),
+('Map5', 'polygon-35', 1517),
+('Map5', 'polygon-36', 1825),
+('Map5', 'polygon-37', 669),
+('Map5', 'polygon-38', 522),
+('Map5', 'polygon-39', 457),
+('Map5', 'polygon-4', 914),
+('Map5', 'polygon-40', 547),
+('Map5', 'polygon-41', 639),
+('Map5', 'polygon-42', 417),
+('Map5', 'polygon-43', 509),
+('Map5', 'polygon-44', 428),
+('Map5', 'polygon-45', 611),
+('Map5', 'polygon-46', 312),
+('Map5', 'polygon-47', 505),
+('Map5', 'polygon-48', 391),
+('Map5', 'polygon-49', 160),
+('Map5', 'polygon-5', 856),
+('Map5', 'polygon-50', 350),
+('Map5', 'polygon-51', 230),
+('Map5', 'polygon-52', 294),
+('Map5', 'polygon-53', 420),
+('Map5', 'polygon-54', 703),
+('Map5', 'polygon-55', 119),
+('Map5', 'polygon-56', 464),
+('Map5', 'polygon-57', 588),
+('Map5', 'polygon-58', 850),
+('Map5', 'polygon-59', 944),
+('Map5', 'polygon-6', 1930),
+('Map5', 'polygon-60', 1157),
+('Map5', 'polygon-61', 1224),
+('Map5', 'polygon-62', 637),
+('Map5', 'polygon-63', 618),
+('Map5', 'polygon-64', 704),
+('Map5', 'polygon-65', 733),
+('Map5', 'polygon-66', 448),
+('Map5', 'polygon-67', 499),
+('Map5', 'polygon-68', 411),
+('Map5', 'polygon-69', 757),
+('Map5', 'polygon-7', 3000),
+('Map5', 'polygon-70', 498),
+('Map5', 'polygon-71', 858),
+('Map5', 'polygon-72', 1399),
+('Map5', 'polygon-73', 1391),
+('Map5', 'polygon-74', 425),
+('Map5', 'polygon-75', 1240),
+('Map5', 'polygon-76', 483),
+('Map5', 'polygon-77', 433),
+('Map5', 'polygon-78', 467),
+('Map5', 'polygon-79', 710),
+('Map5', 'polygon-8', 864),
+('Map5', 'polygon-80', 483),
+('Map5', 'polygon-81', 916),
+('Map5', 'polygon-82', 426),
+('Map5', 'polygon-83', 415),
+('Map5', 'polygon-84', 696),
+('Map5', 'polygon-85', 207),
+('Map5', 'polygon-86', 779),
+('Map5', 'polygon-87', 839),
+('Map5', 'polygon-88', 286),
+('Map5', 'polygon-89', 346),
+('Map5', 'polygon-9', 1385),
+('Map5', 'polygon-90', 212),
+('Map5', 'polygon-91', 470),
+('Map5', 'polygon-92', 314),
+('Map5', 'polygon-93', 508),
+('Map5', 'polygon-94', 201),
+('Map5', 'polygon-95', 839),
+('Map5', 'polygon-96', 318),
+('Map5', 'polygon-97', 236),
+('Map5', 'polygon-98', 451),
+('Map5', 'polygon-99', 488),
+('Map6', 'polygon-1', 4156),
+('Map6', 'polygon-10', 1071),
+('Map6', 'polygon-100', 938),
+('Map6', 'polygon-101', 659),
+('Map6', 'polygon-102', 317),
+('Map6', 'polygon-103', 397),
+('Map6', 'polygon-104', 551),
+('Map6', 'polygon-105', 853),
+('Map6', 'polygon-106', 607),
+('Map6', 'polygon-107', 1522),
+('Map6', 'polygon-108', 252),
+('Map6', 'polygon-109', 592),
+('Map6', 'polygon-11', 2735),
+('Map6', 'polygon-110', 770),
+('Map6', 'polygon-111', 757),
+('Map6', 'polygon-112', 504),
+('Map6', 'polygon-113', 958),
+('Map6', 'polygon-114', 370),
+('Map6', 'polygon-115', 324),
+('Map6', 'polygon-116', 324),
+('Map6', 'polygon-117', 984),
+('Map6', 'polygon-118', 1173),
+('Map6', 'polygon-119', 1017),
+('Map6', 'polygon-12', 1295),
+('Map6', 'polygon-120', 725),
+('Map6', 'polygon-121', 938),
+('Map6', 'polygon-122', 749),
+('Map6', 'polygon-123', 728),
+('Map6', 'polygon-124', 3801),
+('Map6', 'polygon-125', 1211),
+('Map6', 'polygon-126', 976),
+('Map6', 'polygon-127', 1245),
+('Map6', 'polygon-128', 1084),
+('Map6', 'polygon-129', 2699),
+('Map6', 'polygon-13', 1378),
+('Map6', 'polygon-130', 1288),
+('Map6', 'polygon-131', 1636),
+('Map6', 'polygon-132', 1863),
+('Map6', 'polygon-133', 760),
+('Map6', 'polygon-134', 1260),
+('Map6', 'polygon-135', 2269),
+('Map6', 'polygon-136', 1011),
+('Map6', 'polygon-137', 1447),
+('Map6', 'polygon-138', 1203),
+('Map6', 'polygon-139', 1002),
+('Map6', 'polygon-14', 710),
+('Map6', 'polygon-140', 1589),
+('Map6', 'polygon-141', 541),
+('Map6', 'polygon-142', 2084),
+('Map6', 'polygon-143', 785),
+('Map6', 'polygon-144', 1438),
+('Map6', 'polygon-145', 2241),
+('Map6', 'polygon-146', 1815),
+('Map6', 'polygon-147', 1302),
+('Map6', 'polygon-148', 2566),
+('Map6', 'polygon-149', 160),
+('Map6', 'polygon-15', 1263),
+('Map6', 'polygon-150', 150),
+('Map6', 'polygon-151', 259),
+('Map6', 'polygon-152', 263),
+('Map6', 'polygon-153', 586),
+('Map6', 'polygon-154', 400),
+('Map6', 'polygon-155', 235),
+('Map6', 'polygon-156', 395),
+('Map6', 'polygon-157', 497),
+('Map6', 'polygon-158', 173),
+('Map6', 'polygon-159', 537),
+('Map6', 'polygon-16', 1125),
+('Map6', 'polygon-160', 325),
+('Map6', 'polygon-161', 368),
+('Map6', 'polygon-162', 202),
+('Map6', 'polygon-163', 395),
+('Map6', 'polygon-164', 222),
+('Map6', 'polygon-165', 360),
+('Map6', 'polygon-166', 884),
+('Map6', 'polygon-167', 229),
+('Map6', 'polygon-168', 324),
+('Map6', 'polygon-169', 523),
+('Map6', 'polygon-17', 687),
+('Map6', 'polygon-170', 700),
+('Map6', 'polygon-171', 133),
+('Map6', 'polygon-172', 331),
+('Map6', 'polygon-173', 383),
+('Map6', 'polygon-174', 670),
+('Map6', 'polygon-175', 465),
+('Map6', 'polygon-176', 376),
+('Map6', 'polygon-177', 1082),
+('Map6', 'polygon-178', 496),
+('Map6', 'polygon-179', 728),
+('Map6', 'polygon-18', 1206),
+('Map6', 'polygon-180', 247),
+('Map6', 'polygon-181', 169),
+('Map6', 'polygon-182', 211),
+('Map6', 'polygon-183', 349),
+('Map6', 'polygon-184', 567),
+('Map6', 'polygon-185', 709),
+('Map6', 'polygon-186', 280),
+('Map6', 'polygon-187', 917),
+('Map6', 'polygon-188', 445),
+('Map6', 'polygon-189', 318),
+('Map6', 'polygon-19', 755),
+('Map6', 'polygon-190', 257),
+('Map6', 'polygon-191', 290),
+('Map6', 'polygon-192', 139),
+('Map6', 'polygon-193', 350),
+('Map6', 'polygon-194', 188),
+('Map6', 'polygon-195', 304),
+('Map6', 'polygon-196', 196),
+('Map6', 'polygon-197', 153),
+('Map6', 'polygon-2', 1469),
+('Map6', 'polygon-20', 3482),
+('Map6', 'polygon-21', 2120),
+('Map6', 'polygon-22', 1576),
+('Map6', 'polygon-23', 3875),
+('Map6', 'polygon-24', 1899),
+('Map6', 'polygon-25', 5000),
+('Map6', 'polygon-26', 1827),
+('Map6', 'polygon-27', 966),
+('Map6', 'polygon-28', 1009),
+('Map6', 'polygon-29', 2709),
+('Map6', 'polygon-3', 1821),
+('Map6', 'polygon-30', 1400),
+('Map6', 'polygon-31', 843),
+('Map6', 'polygon-32', 1086),
+('Map6', 'polygon-33', 796),
+('Map6', 'polygon-34', 1310),
+('Map6', 'polygon-35', 1356),
+('Map6', 'polygon-36', 1879),
+('Map6', 'polygon-37', 256),
+('Map6', 'polygon-38', 475),
+('Map6', 'polygon-39', 198),
+('Map6', 'polygon-4', 4461),
+('Map6', 'polygon-40', 663),
+('Map6', 'polygon-41', 694),
+('Map6', 'polygon-42', 369),
+('Map6', 'polygon-43', 1358),
+('Map6', 'polygon-44', 241),
+('Map6', 'polygon-45', 228),
+('Map6', 'polygon-46', 389),
+('Map6', 'polygon-47', 412),
+('Map6', 'polygon-48', 422),
+('Map6', 'polygon-49', 782),
+('Map6', 'polygon-5', 2852),
+('Map6', 'polygon-50', 400),
+('Map6', 'polygon-51', 669),
+('Map6', 'polygon-52', 491),
+('Map6', 'polygon-53', 146),
+('Map6', 'polygon-54', 406),
+('Map6', 'polygon-55', 138),
+('Map6', 'polygon-56', 454),
+('Map6', 'polygon-57', 536),
+('Map6', 'polygon-58', 1473),
+('Map6', 'polygon-59', 2044),
+('Map6', 'polygon-6', 804),
+('Map6', 'polygon-60', 1813),
+('Map6', 'polygon-61', 2206),
+('Map6', 'polygon-62', 953),
+('Map6', 'polygon-63', 1286),
+('Map6', 'polygon-64', 805),
+('Map6', 'polygon-65', 3300),
+('Map6', 'polygon-66', 1363),
+('Map6', 'polygon-67', 777),
+('Map6', 'polygon-68', 410),
+('Map6', 'polygon-69', 757),
+('Map6', 'polygon-7', 829),
+('Map6', 'polygon-70', 631),
+('Map6', 'polygon-71', 450),
+('Map6', 'polygon-72', 1370),
+('Map6', 'polygon-73', 2173),
+('Map6', 'polygon-74', 348),
+('Map6', 'polygon-75', 2003),
+('Map6', 'polygon-76', 529),
+('Map6', 'polygon-77', 617),
+('Map6', 'polygon-78', 221),
+('Map6', 'polygon-79', 516),
+('Map6', 'polygon-8', 1372),
+('Map6', 'polygon-80', 455),
+('Map6', 'polygon-81', 478),
+('Map6', 'polygon-82', 624),
+('Map6', 'polygon-83', 619),
+('Map6', 'polygon-84', 1146),
+('Map6', 'polygon-85', 414),
+('Map6', 'polygon-86', 1559),
+('Map6', 'polygon-87', 641),
+('Map6', 'polygon-88', 963),
+('Map6', 'polygon-89', 761),
+('Map6', 'polygon-9', 1465),
+('Map6', 'polygon-90', 336),
+('Map6', 'polygon-91', 418),
+('Map6', 'polygon-92', 1116),
+('Map6', 'polygon-93', 260),
+('Map6', 'polygon-94', 326),
+('Map6', 'polygon-95', 362),
+('Map6', 'polygon-96', 350),
+('Map6', 'polygon-97', 718),
+('Map6', 'polygon-98', 2157),
+('Map6', 'polygon-99', 685),
+('Map7', 'polygon-1', 1480),
+('Map7', 'polygon-10', 512),
+('Map7', 'polygon-100', 823),
+('Map7', 'polygon-101', 1254),
+('Map7', 'polygon-102', 318),
+('Map7', 'polygon-103', 224),
+('Map7', 'polygon-104', 524),
+('Map7', 'polygon-105', 436),
+('Map7', 'polygon-106', 530),
+('Map7', 'polygon-107', 443),
+('Map7', 'polygon-108', 636),
+('Map7', 'polygon-109', 164),
+('Map7', 'polygon-11', 1089),
+('Map7', 'polygon-110', 226),
+('Map7', 'polygon-111', 718),
+('Map7', 'polygon-112', 958),
+('Map7', 'polygon-113', 566),
+('Map7', 'polygon-114', 280),
+('Map7', 'polygon-115', 522),
+('Map7', 'polygon-116', 746),
+('Map7', 'polygon-117', 375),
+('Map7', 'polygon-118', 548),
+('Map7', 'polygon-119', 166),
+('Map7', 'polygon-12', 827),
+('Map7', 'polygon-120', 128),
+('Map7', 'polygon-121', 396),
+('Map7', 'polygon-122', 191),
+('Map7', 'polygon-123', 123),
+('Map7', 'polygon-124', 90),
+('Map7', 'polygon-125', 88),
+('Map7', 'polygon-126', 85),
+('Map7', 'polygon-127', 257),
+('Map7', 'polygon-128', 115),
+('Map7', 'polygon-129', 208),
+('Map7', 'polygon-13', 268),
+('Map7', 'polygon-130', 479),
+('Map7', 'polygon-131', 129),
+('Map7', 'polygon-132', 293),
+('Map7', 'polygon-133', 155),
+('Map7', 'polygon-134', 104),
+('Map7', 'polygon-135', 179),
+('Map7', 'polygon-136', 304),
+('Map7', 'polygon-137', 488),
+('Map7', 'polygon-138', 307),
+('Map7', 'polygon-139', 253),
+('Map7', 'polygon-14', 465),
+('Map7', 'polygon-140', 148),
+('Map7', 'polygon-141', 75),
+('Map7', 'polygon-142', 153),
+('Map7', 'polygon-143', 97),
+('Map7', 'polygon-144', 111),
+('Map7', 'polygon-145', 207),
+('Map7', 'polygon-146', 68),
+('Map7', 'polygon-147', 2151),
+('Map7', 'polygon-148', 1548),
+('Map7', 'polygon-149', 640),
+('Map7', 'polygon-15', 572),
+('Map7', 'polygon-150', 543),
+('Map7', 'polygon-151', 922),
+('Map7', 'polygon-152', 528),
+('Map7', 'polygon-153', 985),
+('Map7', 'polygon-154', 352),
+('Map7', 'polygon-155', 522),
+('Map7', 'polygon-156', 238),
+('Map7', 'polygon-157', 1028),
+('Map7', 'polygon-158', 290),
+('Map7', 'polygon-159', 569),
+('Map7', 'polygon-16', 583),
+('Map7', 'polygon-160', 1322),
+('Map7', 'polygon-161', 984),
+('Map7', 'polygon-162', 298),
+('Map7', 'polygon-163', 334),
+('Map7', 'polygon-164', 1738),
+('Map7', 'polygon-165', 613),
+('Map7', 'polygon-166', 961),
+('Map7', 'polygon-167', 911),
+('Map7', 'polygon-168', 830),
+('Map7', 'polygon-169', 2422),
+('Map7', 'polygon-17', 710),
+('Map7', 'polygon-170', 818),
+('Map7', 'polygon-171', 1106),
+('Map7', 'polygon-172', 543),
+('Map7', 'polygon-173', 836),
+('Map7', 'polygon-18', 551),
+('Map7', 'polygon-19', 145),
+('Map7', 'polygon-2', 1383),
+('Map7', 'polygon-20', 296),
+('Map7', 'polygon-21', 724),
+('Map7', 'polygon-22', 701),
+('Map7', 'polygon-23', 583),
+('Map7', 'polygon-24', 1098),
+('Map7', 'polygon-25', 297),
+('Map7', 'polygon-26', 548),
+('Map7', 'polygon-27', 590),
+('Map7', 'polygon-28', 625),
+('Map7', 'polygon-29', 754),
+('Map7', 'polygon-3', 2423),
+('Map7', 'polygon-30', 374),
+('Map7', 'polygon-31', 263),
+('Map7', 'polygon-32', 852),
+('Map7', 'polygon-33', 925),
+('Map7', 'polygon-34', 900),
+('Map7', 'polygon-35', 1377),
+('Map7', 'polygon-36', 1135),
+('Map7', 'polygon-37', 1334),
+('Map7', 'polygon-38', 1510),
+('Map7', 'polygon-39', 845),
+('Map7', 'polygon-4', 2035),
+('Map7', 'polygon-40', 1041),
+('Map7', 'polygon-41', 752),
+('Map7', 'polygon-42', 1362),
+('Map7', 'polygon-43', 5000),
+('Map7', 'polygon-44', 1206),
+('Map7', 'polygon-45', 1230),
+('Map7', 'polygon-46', 1142),
+('Map7', 'polygon-47', 813),
+('Map7', 'polygon-48', 669),
+('Map7', 'polygon-49', 860),
+('Map7', 'polygon-5', 1973),
+('Map7', 'polygon-50', 1007),
+('Map7', 'polygon-51', 992),
+('Map7', 'polygon-52', 1413),
+('Map7', 'polygon-53', 1151),
+('Map7', 'polygon-54', 599),
+('Map7', 'polygon-55', 604),
+('Map7', 'polygon-56', 395),
+('Map7', 'polygon-57', 920),
+('Map7', 'polygon-58', 453),
+('Map7', 'polygon-59', 267),
+('Map7', 'polygon-6', 1284),
+('Map7', 'polygon-60', 898),
+('Map7', 'polygon-61', 350),
+('Map7', 'polygon-62', 1293),
+('Map7', 'polygon-63', 1454),
+('Map7', 'polygon-64', 262),
+('Map7', 'polygon-65', 114),
+('Map7', 'polygon-66', 1117),
+('Map7', 'polygon-67', 521),
+('Map7', 'polygon-68', 193),
+('Map7', 'polygon-69', 598),
+('Map7', 'polygon-7', 1259),
+('Map7', 'polygon-70', 955),
+('Map7', 'polygon-71', 717),
+('Map7', 'polygon-72', 441),
+('Map7', 'polygon-73', 422),
+('Map7', 'polygon-74', 323),
+('Map7', 'polygon-75', 738),
+('Map7', 'polygon-76', 498),
+('Map7', 'polygon-77', 342),
+('Map7', 'polygon-78', 432),
+('Map7', 'polygon-79', 535),
+('Map7', 'polygon-8', 642),
+('Map7', 'polygon-80', 443),
+('Map7', 'polygon-81', 346),
+('Map7', 'polygon-82', 504),
+('Map7', 'polygon-83', 2783),
+('Map7', 'polygon-84', 1315),
+('Map7', 'polygon-85', 1389),
+('Map7', 'polygon-86', 1859),
+('Map7', 'polygon-87', 1923),
+('Map7', 'polygon-88', 1187),
+('Map7', 'polygon-89', 678),
+('Map7', 'polygon-9', 889),
+('Map7', 'polygon-90', 529),
+('Map7', 'polygon-91', 2345),
+('Map7', 'polygon-92', 1638),
+('Map7', 'polygon-93', 1348),
+('Map7', 'polygon-94', 3675),
+('Map7', 'polygon-95', 2000),
+('Map7', 'polygon-96', 945),
+('Map7', 'polygon-97', 1193),
+('Map7', 'polygon-98', 3956),
+('Map7', 'polygon-99', 1461),
+('Map8', 'polygon-1', 430),
+('Map8', 'polygon-10', 228),
+('Map8', 'polygon-100', 196),
+('Map8', 'polygon-101', 292),
+('Map8', 'polygon-102', 228),
+('Map8', 'polygon-103', 282),
+('Map8', 'polygon-104', 266),
+('Map8', 'polygon-105', 457),
+('Map8', 'polygon-106', 744),
+('Map8', 'polygon-107', 204),
+('Map8', 'polygon-108', 162),
+('Map8', 'polygon-109', 357),
+('Map8', 'polygon-11', 185),
+('Map8', 'polygon-110', 427),
+('Map8', 'polygon-111', 367),
+('Map8', 'polygon-112', 114),
+('Map8', 'polygon-113', 167),
+('Map8', 'polygon-114', 326),
+('Map8', 'polygon-115', 335),
+('Map8', 'polygon-116', 167),
+('Map8', 'polygon-117', 156),
+('Map8', 'polygon-118', 414),
+('Map8', 'polygon-119', 345),
+('Map8', 'polygon-12', 179),
+('Map8', 'polygon-120', 484),
+('Map8', 'polygon-121', 321),
+('Map8', 'polygon-122', 220),
+('Map8', 'polygon-123', 533),
+('Map8', 'polygon-124', 1273),
+('Map8', 'polygon-125', 812),
+('Map8', 'polygon-126', 663),
+('Map8', 'polygon-127', 493),
+('Map8', 'polygon-128', 554),
+('Map8', 'polygon-129', 314),
+('Map8', 'polygon-13', 228),
+('Map8', 'polygon-130', 377),
+('Map8', 'polygon-131', 231),
+('Map8', 'polygon-132', 351),
+('Map8', 'polygon-133', 330),
+('Map8', 'polygon-134', 398),
+('Map8', 'polygon-135', 1618),
+('Map8', 'polygon-136', 823),
+('Map8', 'polygon-137', 1021),
+('Map8', 'polygon-138', 130),
+('Map8', 'polygon-139', 436),
+('Map8', 'polygon-14', 389),
+('Map8', 'polygon-140', 1800),
+('Map8', 'polygon-141', 310),
+('Map8', 'polygon-142', 924),
+('Map8', 'polygon-143', 872),
+('Map8', 'polygon-144', 75),
+('Map8', 'polygon-145', 117),
+('Map8', 'polygon-146', 85),
+('Map8', 'polygon-147', 179),
+('Map8', 'polygon-148', 100),
+('Map8', 'polygon-149', 132),
+('Map8', 'polygon-15', 169),
+('Map8', 'polygon-150', 75),
+('Map8', 'polygon-151', 140),
+('Map8', 'polygon-152', 192),
+('Map8', 'polygon-153', 196),
+('Map8', 'polygon-154', 303),
+('Map8', 'polygon-155', 354),
+('Map8', 'polygon-156', 166),
+('Map8', 'polygon-157', 226),
+('Map8', 'polygon-158', 578),
+('Map8', 'polygon-159', 205),
+('Map8', 'polygon-16', 205),
+('Map8', 'polygon-160', 199),
+('Map8', 'polygon-161', 53),
+('Map8', 'polygon-162', 157),
+('Map8', 'polygon-163', 399),
+('Map8', 'polygon-164', 206),
+('Map8', 'polygon-165', 292),
+('Map8', 'polygon-166', 340),
+('Map8', 'polygon-167', 290),
+('Map8', 'polygon-168', 289),
+('Map8', 'polygon-169', 196),
+('Map8', 'polygon-17', 150),
+('Map8', 'polygon-170', 71),
+('Map8', 'polygon-171', 338),
+('Map8', 'polygon-172', 215),
+('Map8', 'polygon-173', 286),
+('Map8', 'polygon-174', 265),
+('Map8', 'polygon-175', 215),
+('Map8', 'polygon-176', 232),
+('Map8', 'polygon-177', 318),
+('Map8', 'polygon-178', 155),
+('Map8', 'polygon-179', 90),
+('Map8', 'polygon-18', 1115),
+('Map8', 'polygon-180', 601),
+('Map8', 'polygon-181', 546),
+('Map8', 'polygon-182', 342),
+('Map8', 'polygon-183', 872),
+('Map8', 'polygon-184', 852),
+('Map8', 'polygon-185', 935),
+('Map8', 'polygon-186', 1165),
+('Map8', 'polygon-187', 587),
+('Map8', 'polygon-188', 926),
+('Map8', 'polygon-189', 574),
+('Map8', 'polygon-19', 929),
+('Map8', 'polygon-190', 685),
+('Map8', 'polygon-191', 974),
+('Map8', 'polygon-192', 240),
+('Map8', 'polygon-193', 371),
+('Map8', 'polygon-194', 943),
+('Map8', 'polygon-195', 361),
+('Map8', 'polygon-196', 1321),
+('Map8', 'polygon-2', 958),
+('Map8', 'polygon-20', 197),
+('Map8', 'polygon-21', 79),
+('Map8', 'polygon-22', 99),
+('Map8', 'polygon-23', 208),
+('Map8', 'polygon-24', 144),
+('Map8', 'polygon-25', 106),
+('Map8', 'polygon-26', 146),
+('Map8', 'polygon-27', 73),
+('Map8', 'polygon-28', 87),
+('Map8', 'polygon-29', 145),
+('Map8', 'polygon-3', 571),
+('Map8', 'polygon-30', 60),
+('Map8', 'polygon-31', 213),
+('Map8', 'polygon-32', 147),
+('Map8', 'polygon-33', 125),
+('Map8', 'polygon-34', 249),
+('Map8', 'polygon-35', 114),
+('Map8', 'polygon-36', 81),
+('Map8', 'polygon-37', 162),
+('Map8', 'polygon-38', 161),
+('Map8', 'polygon-39', 107),
+('Map8', 'polygon-4', 508),
+('Map8', 'polygon-40', 282),
+('Map8', 'polygon-41', 62),
+('Map8', 'polygon-42', 274),
+('Map8', 'polygon-43', 176),
+('Map8', 'polygon-44', 528),
+('Map8', 'polygon-45', 182),
+('Map8', 'polygon-46', 270),
+('Map8', 'polygon-47', 181),
+('Map8', 'polygon-48', 114),
+('Map8', 'polygon-49', 28),
+('Map8', 'polygon-5', 582),
+('Map8', 'polygon-50', 198),
+('Map8', 'polygon-51', 156),
+('Map8', 'polygon-52', 153),
+('Map8', 'polygon-53', 319),
+('Map8', 'polygon-54', 485),
+('Map8', 'polygon-55', 351),
+('Map8', 'polygon-56', 143),
+('Map8', 'polygon-57', 368),
+('Map8', 'polygon-58', 336),
+('Map8', 'polygon-59', 206),
+('Map8', 'polygon-6', 328),
+('Map8', 'polygon-60', 372),
+('Map8', 'polygon-61', 466),
+('Map8', 'polygon-62', 170),
+('Map8', 'polygon-63', 157),
+('Map8', 'polygon-64', 155),
+('Map8', 'polygon-65', 161),
+('Map8', 'polygon-66', 43),
+('Map8', 'polygon-67', 112),
+('Map8', 'polygon-68', 93),
+('Map8', 'polygon-69', 52),
+('Map8', 'polygon-7', 465),
+('Map8', 'polygon-70', 212),
+('Map8', 'polygon-71', 357),
+('Map8', 'polygon-72', 244),
+('Map8', 'polygon-73', 208),
+('Map8', 'polygon-74', 96),
+('Map8', 'polygon-75', 295),
+('Map8', 'polygon-76', 421),
+('Map8', 'polygon-77', 171),
+('Map8', 'polygon-78', 366),
+('Map8', 'polygon-79', 111),
+('Map8', 'polygon-8', 561),
+('Map8', 'polygon-80', 202),
+('Map8', 'polygon-81', 140),
+('Map8', 'polygon-82', 153),
+('Map8', 'polygon-83', 283),
+('Map8', 'polygon-84', 252),
+('Map8', 'polygon-85', 167),
+('Map8', 'polygon-86', 120),
+('Map8', 'polygon-87', 139),
+('Map8', 'polygon-88', 76),
+('Map8', 'polygon-89', 312),
+('Map8', 'polygon-9', 421),
+('Map8', 'polygon-90', 54),
+('Map8', 'polygon-91', 125),
+('Map8', 'polygon-92', 85),
+('Map8', 'polygon-93', 174),
+('Map8', 'polygon-94', 225),
+('Map8', 'polygon-95', 226),
+('Map8', 'polygon-96', 354),
+('Map8', 'polygon-97', 292),
+('Map8', 'polygon-98', 122),
+('Map8', 'polygon-99', 51),
+('Map9', 'polygon-1', 77),
+('Map9', 'polygon-10', 119),
+('Map9', 'polygon-100', 51),
+('Map9', 'polygon-101', 46),
+('Map9', 'polygon-102', 21),
+('Map9', 'polygon-103', 283),
+('Map9', 'polygon-104', 146),
+('Map9', 'polygon-105', 79),
+('Map9', 'polygon-106', 119),
+('Map9', 'polygon-107', 208),
+('Map9', 'polygon-108', 82),
+('Map9', 'polygon-109', 152),
+('Map9', 'polygon-11', 134),
+('Map9', 'polygon-110', 148),
+('Map9', 'polygon-111', 288),
+('Map9', 'polygon-112', 407),
+('Map9', 'polygon-113', 858),
+('Map9', 'polygon-114', 350),
+('Map9', 'polygon-115', 296),
+('Map9', 'polygon-116', 61),
+('Map9', 'polygon-117', 222),
+('Map9', 'polygon-118', 216),
+('Map9', 'polygon-119', 71),
+('Map9', 'polygon-12', 397),
+('Map9', 'polygon-120', 67),
+('Map9', 'polygon-121', 86),
+('Map9', 'polygon-122', 104),
+('Map9', 'polygon-123', 429),
+('Map9', 'polygon-124', 209),
+('Map9', 'polygon-125', 298),
+('Map9', 'polygon-126', 346),
+('Map9', 'polygon-127', 282),
+('Map9', 'polygon-128', 753),
+('Map9', 'polygon-129', 196),
+('Map9', 'polygon-13', 383),
+('Map9', 'polygon-130', 708),
+('Map9', 'polygon-131', 351),
+('Map9', 'polygon-132', 201),
+('Map9', 'polygon-133', 298),
+('Map9', 'polygon-134', 271),
+('Map9', 'polygon-135', 190),
+('Map9', 'polygon-136', 839),
+('Map9', 'polygon-137', 421),
+('Map9', 'polygon-138', 152),
+('Map9', 'polygon-139', 367),
+('Map9', 'polygon-14', 319),
+('Map9', 'polygon-140', 412),
+('Map9', 'polygon-141', 701),
+('Map9', 'polygon-142', 85),
+('Map9', 'polygon-143', 690),
+('Map9', 'polygon-144', 489),
+('Map9', 'polygon-145', 82),
+('Map9', 'polygon-146', 171),
+('Map9', 'polygon-147', 242),
+('Map9', 'polygon-148', 88),
+('Map9', 'polygon-149', 111),
+('Map9', 'polygon-15', 190),
+('Map9', 'polygon-150', 298),
+('Map9', 'polygon-151', 281),
+('Map9', 'polygon-152', 227),
+('Map9', 'polygon-153', 74),
+('Map9', 'polygon-154', 142),
+('Map9', 'polygon-155', 222),
+('Map9', 'polygon-156', 150),
+('Map9', 'polygon-157', 164),
+('Map9', 'polygon-158', 256),
+('Map9', 'polygon-159', 200),
+('Map9', 'polygon-16', 432),
+('Map9', 'polygon-160', 247),
+('Map9', 'polygon-161', 229),
+('Map9', 'polygon-162', 153),
+('Map9', 'polygon-163', 402),
+('Map9', 'polygon-164', 411),
+('Map9', 'polygon-165', 688),
+('Map9', 'polygon-166', 262),
+('Map9', 'polygon-167', 216),
+('Map9', 'polygon-168', 234),
+('Map9', 'polygon-169', 101),
+('Map9', 'polygon-17', 191),
+('Map9', 'polygon-170', 140),
+('Map9', 'polygon-171', 95),
+('Map9', 'polygon-172', 106),
+('Map9', 'polygon-173', 198),
+('Map9', 'polygon-174', 63),
+('Map9', 'polygon-175', 62),
+('Map9', 'polygon-176', 34),
+('Map9', 'polygon-177', 84),
+('Map9', 'polygon-178', 238),
+('Map9', 'polygon-179', 89),
+('Map9', 'polygon-18', 284),
+('Map9', 'polygon-180', 48),
+('Map9', 'polygon-181', 52),
+('Map9', 'polygon-182', 91),
+('Map9', 'polygon-183', 132),
+('Map9', 'polygon-184', 82),
+('Map9', 'polygon-185', 110),
+('Map9', 'polygon-186', 210),
+('Map9', 'polygon-187', 38),
+('Map9', 'polygon-188', 68),
+('Map9', 'polygon-189', 53),
+('Map9', 'polygon-19', 430),
+('Map9', 'polygon-190', 68),
+('Map9', 'polygon-191', 79),
+('Map9', 'polygon-192', 161),
+('Map9', 'polygon-193', 41),
+('Map9', 'polygon-2', 103),
+('Map9', 'polygon-20', 129),
+('Map9', 'polygon-21', 92),
+('Map9', 'polygon-22', 162),
+('Map9', 'polygon-23', 179),
+('Map9', 'polygon-24', 60),
+('Map9', 'polygon-25', 203),
+('Map9', 'polygon-26', 64),
+('Map9', 'polygon-27', 73),
+('Map9', 'polygon-28', 112),
+('Map9', 'polygon-29', 488),
+('Map9', 'polygon-3', 51),
+('Map9', 'polygon-30', 365),
+('Map9', 'polygon-31', 527),
+('Map9', 'polygon-32', 1200),
+('Map9', 'polygon-33', 556),
+('Map9', 'polygon-34', 252),
+('Map9', 'polygon-35', 189),
+('Map9', 'polygon-36', 406),
+('Map9', 'polygon-37', 555),
+('Map9', 'polygon-38', 342),
+('Map9', 'polygon-39', 301),
+('Map9', 'polygon-4', 155),
+('Map9', 'polygon-40', 267),
+('Map9', 'polygon-41', 471),
+('Map9', 'polygon-42', 270),
+('Map9', 'polygon-43', 466),
+('Map9', 'polygon-44', 348),
+('Map9', 'polygon-45', 533),
+('Map9', 'polygon-46', 488),
+('Map9', 'polygon-47', 149),
+('Map9', 'polygon-48', 399),
+('Map9', 'polygon-49', 720),
+('Map9', 'polygon-5', 222),
+('Map9', 'polygon-50', 425),
+('Map9', 'polygon-51', 368),
+('Map9', 'polygon-52', 303),
+('Map9', 'polygon-53', 473),
+('Map9', 'polygon-54', 69),
+('Map9', 'polygon-55', 95),
+('Map9', 'polygon-56', 160),
+('Map9', 'polygon-57', 198),
+('Map9', 'polygon-58', 179),
+('Map9', 'polygon-59', 213),
+('Map9', 'polygon-6', 85),
+('Map9', 'polygon-60', 205),
+('Map9', 'polygon-61', 89),
+('Map9', 'polygon-62', 81),
+('Map9', 'polygon-63', 100),
+('Map9', 'polygon-64', 87),
+('Map9', 'polygon-65', 271),
+('Map9', 'polygon-66', 131),
+('Map9', 'polygon-67', 226),
+('Map9', 'polygon-68', 101),
+('Map9', 'polygon-69', 61),
+('Map9', 'polygon-7', 183),
+('Map9', 'polygon-70', 207),
+('Map9', 'polygon-71', 76),
+('Map9', 'polygon-72', 253),
+('Map9', 'polygon-73', 241),
+('Map9', 'polygon-74', 209),
+('Map9', 'polygon-75', 131),
+('Map9', 'polygon-76', 168),
+('Map9', 'polygon-77', 277),
+('Map9', 'polygon-78', 839),
+('Map9', 'polygon-79', 420),
+('Map9', 'polygon-8', 123),
+('Map9', 'polygon-80', 50),
+('Map9', 'polygon-81', 51),
+('Map9', 'polygon-82', 63),
+('Map9', 'polygon-83', 245),
+('Map9', 'polygon-84', 68),
+('Map9', 'polygon-85', 192),
+('Map9', 'polygon-86', 310),
+('Map9', 'polygon-87', 206),
+('Map9', 'polygon-88', 154),
+('Map9', 'polygon-89', 59),
+('Map9', 'polygon-9', 142),
+('Map9', 'polygon-90', 88),
+('Map9', 'polygon-91', 75),
+('Map9', 'polygon-92', 189),
+('Map9', 'polygon-93', 90),
+('Map9', 'polygon-94', 305),
+('Map9', 'polygon-95', 254),
+('Map9', 'polygon-96', 129),
+('Map9', 'polygon-97', 264),
+('Map9', 'polygon-98', 582),
+('Map9', 'polygon-99', 63);
+
+INSERT INTO traits (id, rating, name) VALUES
+(1, -1, 'Absent-Minded'),
+(2, 1, 'Adventurous'),
+(3, -1, 'Afraid of commitment'),
+(4, 1, 'Ambitious'),
+(5, 0, 'Animal lover'),
+(6, 1, 'Artistic'),
+(7, 1, 'Athletic'),
+(8, -1, 'Bloodthirsty'),
+(9, -1, 'Boring'),
+(10, -1, 'Braggart'),
+(11, 1, 'Brave'),
+(12, 0, 'Brooding'),
+(13, 0, 'Cat person'),
+(14, 1, 'Charismatic'),
+(15, -1, 'Childish'),
+(16, 1, 'Chivalrous'),
+(17, -1, 'Clumsy'),
+(18, -1, 'Compulsive gambler'),
+(19, 1, 'Conversationalist'),
+(20, -1, 'Coward'),
+(21, -1, 'Cruel'),
+(22, -1, 'Crybaby'),
+(23, 1, 'Cultured'),
+(24, -1, 'Cursed'),
+(25, 1, 'Daredevil'),
+(26, 1, 'Dedicated'),
+(27, 1, 'Disciplined'),
+(28, -1, 'Dislikes children'),
+(29, -1, 'Diva'),
+(30, 0, 'Dog person'),
+(31, 0, 'Dramatic'),
+(32, 0, 'Drawn to the sea'),
+(33, 0, 'Dreamer'),
+(34, -1, 'Drunkard'),
+(35, 0, 'Earthy'),
+(36, -1, 'Easily bored'),
+(37, 0, 'Easily impressed'),
+(38, 1, 'Easy going'),
+(39, -1, 'Eccentric'),
+(40, 1, 'Eloquent'),
+(41, 1, 'Equestrian'),
+(42, -1, 'Evil'),
+(43, 0, 'Excitable'),
+(44, 1, 'Family-oriented'),
+(45, 0, 'Flirty'),
+(46, -1, 'Foolish'),
+(47, 1, 'Friendly'),
+(48, 1, 'Frugal'),
+(49, 1, 'Fun-loving'),
+(50, 1, 'Genius'),
+(51, -1, 'Gloomy'),
+(52, -1, 'Glutton'),
+(53, 1, 'Good'),
+(54, 1, 'Good sense of humor'),
+(55, 1, 'Great kisser'),
+(56, -1, 'Greedy'),
+(57, 1, 'Green thumb'),
+(58, -1, 'Grumpy'),
+(59, 1, 'Haggler'),
+(60, 1, 'Handy'),
+(61, 0, 'Hates the outdoors'),
+(62, 1, 'Hopeless romantic'),
+(63, -1, 'Hot-headed'),
+(64, -1, 'Hubristic'),
+(65, -1, 'Humorless'),
+(66, 0, 'Hyperactive'),
+(67, -1, 'Inappropriate'),
+(68, -1, 'Insane'),
+(69, -1, 'Insecure'),
+(70, -1, 'Insomniac'),
+(71, 1, 'Irresistible'),
+(72, 1, 'Jokester'),
+(73, -1, 'Kleptomaniac'),
+(74, -1, 'Lazy'),
+(75, -1, 'Licentious'),
+(76, -1, 'Loner'),
+(77, -1, 'Loser'),
+(78, 0, 'Loves the outdoors'),
+(79, 0, 'Loves water'),
+(80, 1, 'Lucky'),
+(81, 0, 'Materialistic'),
+(82, -1, 'Mean spirited'),
+(83, -1, 'Megalomaniac'),
+(84, -1, 'Misanthrope'),
+(85, -1, 'Mooch'),
+(86, -1, 'Morose'),
+(87, 1, 'Natural performer'),
+(88, 1, 'Natural cook'),
+(89, 1, 'Natural leader'),
+(90, 1, 'Neat'),
+(91, -1, 'Neurotic'),
+(92, 0, 'Night owl'),
+(93, 1, 'Nurturing'),
+(94, 1, 'Outgoing'),
+(95, -1, 'Over-emotional'),
+(96, -1, 'Paranoid'),
+(97, 1, 'Patient'),
+(98, 1, 'People pleaser'),
+(99, 1, 'Perceptive'),
+(100, 0, 'Perfectionist'),
+(101, -1, 'Procrastinator'),
+(102, 1, 'Proper'),
+(103, -1, 'Prudish'),
+(104, -1, 'Puny'),
+(105, -1, 'Rebellious'),
+(106, -1, 'Rude'),
+(107, -1, 'Ruffian'),
+(108, 0, 'Sailor'),
+(109, 1, 'Schmoozer'),
+(110, 1, 'Scholarly'),
+(111, 1, 'Seductive'),
+(112, 0, 'Shy'),
+(113, -1, 'Sleaze'),
+(114, -1, 'Slob'),
+(115, -1, 'Snob'),
+(116, 1, 'Social butterfly'),
+(117, -1, 'Socially awkward'),
+(118, -1, 'Solitary'),
+(119, 0, 'Stubborn'),
+(120, -1, 'Stupid'),
+(121, 1, 'Sweet talker'),
+(122, -1, 'Uncouth'),
+(123, -1, 'Unflirty'),
+(124, 0, 'Unforgiving'),
+(125, -1, 'Unkempt'),
+(126, -1, 'Unlucky'),
+(127, -1, 'Unstable'),
+(128, -1, 'Vain'),
+(129, 1, 'Virtuoso'),
+(130, -1, 'Wanton'),
+(131, 1, 'Wise'),
+(132, 1, 'Witty'),
+(133, -1, 'Worrywart');
+
+INSERT INTO occupations (id, support_factor, name, allow_male, allow_female, min_class, max_class, is_rural, is_farm_owner, is_domestic_servant, is_farm_laborer, may_marry, min_income_required, max_per_household) VALUES
+(100, 0.053916405169479, 'Agricultural labourer, farm servant, shepherd', TRUE, FALSE, 'PAUPER', 'LABORER', TRUE, FALSE, FALSE, TRUE, TRUE, NULL, 0),
+(102, 0.018510956124755, 'Cotton, calico, manufacture, printing and dyeing', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(103, 0.013897140031168, 'Labourer', TRUE, FALSE, 'PAUPER', 'LABORER', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(104, 0.011321664146268, 'Farmer, grazier', TRUE, FALSE, 'LABORER', 'LANDOWNER_OR_CRAFTSMAN', TRUE, TRUE, FALSE, FALSE, TRUE, NULL, 0),
+(105, 0.010128997077936, 'Boot and shoe maker', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(106, 0.009883200485688, 'Milliner, dressmaker', FALSE, TRUE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(107, 0.006742650783384, 'Carpenter, joiner', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(108, 0.006597866994888, 'Army and navy', TRUE, FALSE, 'LABORER', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(109, 0.005634573172926, 'Tailor', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(110, 0.005391692185901, 'Washerwomen, mangler, laundry keeper', FALSE, TRUE, 'PAUPER', 'LABORER', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(111, 0.005086217952562, 'Woollen cloth manufacture', TRUE, FALSE, 'LABORER', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(112, 0.00422836570178, 'Silk manufacture', TRUE, FALSE, 'LABORER', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(113, 0.004162155628733, 'Blacksmith', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(114, 0.003840516394282, 'Worsted manufacture', TRUE, FALSE, 'LABORER', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(115, 0.003743858545168, 'Mason, paviour', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(116, 0.003743231136449, 'Messenger, porter and errand boy', TRUE, FALSE, 'PAUPER', 'LABORER', FALSE, FALSE, TRUE, FALSE, TRUE, NULL, 0),
+(117, 0.003648566232678, 'Linen, flax manufacture', TRUE, FALSE, 'LABORER', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(118, 0.003292271893104, 'Seaman (merchant service)', TRUE, FALSE, 'LABORER', 'LABORER', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(119, 0.003170739133604, 'Grocer', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(120, 0.002987425068484, 'Gardener', TRUE, FALSE, 'PAUPER', 'LABORER', FALSE, FALSE, TRUE, FALSE, TRUE, NULL, 0),
+(121, 0.002953692623242, 'Iron manufacture, moulder, founder', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(122, 0.002794589153395, 'Innkeeper, licensed victualler, beershop keeper', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(123, 0.002696676486843, 'Seamstress, shirtmaker', TRUE, TRUE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(124, 0.002509228905458, 'Bricklayer', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(125, 0.002498230799679, 'Butcher, meat salesman', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(126, 0.002417331981329, 'Hose (stocking) manufacturer', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(127, 0.002412792494715, 'Schoolmaster/mistress', TRUE, FALSE, 'YEOMAN_OR_MERCHANT', 'GENTLEMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(128, 0.002349461120497, 'Lace manufacture', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(129, 0.002318016871759, 'Plumber, painter, glazier', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(130, 0.00230561632296, 'Baker', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(131, 0.002102963306739, 'Carman, carrier, carter, drayman', TRUE, FALSE, 'PAUPER', 'LABORER', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(132, 0.002045463142967, 'Charwoman', FALSE, TRUE, 'PAUPER', 'PAUPER', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(133, 0.001815204143112, 'Draper (linen and woollen)', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(134, 0.001774533295566, 'Engine and machine maker', TRUE, FALSE, 'YEOMAN_OR_MERCHANT', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(135, 0.001615023855371, 'Commercial clerk', TRUE, FALSE, 'YEOMAN_OR_MERCHANT', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(136, 0.001509360845821, 'Cabinet maker, upholsterer', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(137, 0.001497476986556, 'Teacher (various) governess', TRUE, TRUE, 'YEOMAN_OR_MERCHANT', 'GENTLEMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(138, 0.001413293499031, 'Fisherman/woman', TRUE, FALSE, 'LABORER', 'LABORER', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(139, 0.001390743691544, 'Boat, barge man/woman', TRUE, FALSE, 'LABORER', 'LABORER', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(140, 0.001375427537522, 'Miller', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(141, 0.001347526302727, 'Earthenware manufacture', TRUE, FALSE, 'LABORER', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(142, 0.001308073366223, 'Sawyer', TRUE, FALSE, 'LABORER', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(143, 0.001183292843942, 'Straw-plait manufacture', TRUE, TRUE, 'LABORER', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(144, 0.001150298526604, 'Brick maker, dealer', TRUE, FALSE, 'LABORER', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(145, 0.001142732715582, 'Government Civil Service', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(146, 0.001127601093536, 'Hawker, pedlar', TRUE, FALSE, 'PAUPER', 'LABORER', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(147, 0.00111619701741, 'Wheelwright', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(148, 0.001102836902336, 'Glover', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(149, 0.001099810577926, 'Shopkeeper (branch undefined)', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(150, 0.001085343270995, 'Horsekeeper, groom (not domestic), jockey', TRUE, FALSE, 'PAUPER', 'LABORER', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(151, 0.001053050175167, 'Nail manufacture', TRUE, FALSE, 'LABORER', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(152, 0.000960452029529, 'Printer', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(153, 0.000941777393541, 'Nurse (not domestic servant)', FALSE, TRUE, 'PAUPER', 'LABORER', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(154, 0.000852131759522, 'Lodging house keeper', TRUE, TRUE, 'LANDOWNER_OR_CRAFTSMAN', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(155, 0.000808323868381, 'Straw hat and bonnet maker', TRUE, TRUE, 'LABORER', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(156, 0.000747169971481, 'Cooper', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(157, 0.000707089626258, 'Watch and clock maker', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(158, 0.000687197079228, 'Brewer', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(159, 0.000685979168185, 'Clergyman of the Established [Anglican] Church', TRUE, FALSE, 'YEOMAN_OR_MERCHANT', 'GENTLEMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(160, 0.000677158539725, 'Police', TRUE, FALSE, 'LABORER', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(161, 0.000663576986279, 'Plasterer', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(162, 0.000659185125246, 'Warehouse man/woman', TRUE, FALSE, 'LABORER', 'LABORER', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(163, 0.000648925147372, 'Saddler, harness maker', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(164, 0.000626486059071, 'Hatter, hat manufacture', TRUE, TRUE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(165, 0.000621356070133, 'Coachman (not domestic servant) guard, postboy', TRUE, FALSE, 'LABORER', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(166, 0.000613605727134, 'Law clerk', TRUE, FALSE, 'YEOMAN_OR_MERCHANT', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(167, 0.000612277096906, 'Coachmaker', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(168, 0.000609915087611, 'Cowkeeper, milkseller', TRUE, TRUE, 'LABORER', 'LANDOWNER_OR_CRAFTSMAN', TRUE, TRUE, FALSE, FALSE, TRUE, NULL, 0),
+(169, 0.000589247506281, 'Ropemaker', TRUE, FALSE, 'LABORER', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(170, 0.000577326740621, 'Druggist', TRUE, FALSE, 'YEOMAN_OR_MERCHANT', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(171, 0.000559611670909, 'Surgeon, apothecary', TRUE, FALSE, 'YEOMAN_OR_MERCHANT', 'GENTLEMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(172, 0.000555441248248, 'Tin miner', TRUE, FALSE, 'PAUPER', 'LABORER', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(173, 0.000535179637265, 'Paper manufacture', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(174, 0.000532411657623, 'Coalheaver, coal labourer', TRUE, FALSE, 'PAUPER', 'LABORER', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(175, 0.000528499579728, 'Greengrocer, fruiterer', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(176, 0.000520306359987, 'Muslin manufacture', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(177, 0.000511707169898, 'Confectioner', TRUE, TRUE, 'LANDOWNER_OR_CRAFTSMAN', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(178, 0.000508201062351, 'Tinman, tinker, pin plate worker', TRUE, FALSE, 'LABORER', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(179, 0.000505580708289, 'Staymaker', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(180, 0.000489231175201, 'Solicitor, attorney, writer to the Signet', TRUE, FALSE, 'GENTLEMAN', 'GENTLEMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(181, 0.000478454507793, 'Dyer, scourer, calenderer', TRUE, FALSE, 'PAUPER', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(182, 0.000476830626403, 'Currier', TRUE, FALSE, 'LABORER', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(183, 0.000473066174089, 'Builder', TRUE, FALSE, 'LABORER', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(184, 0.000472586390951, 'Farm bailiff', TRUE, FALSE, 'YEOMAN_OR_MERCHANT', 'GENTLEMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(185, 0.000449261549164, 'Hairdresser, wig maker', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(186, 0.000446272131151, 'Coal merchant/dealer', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(187, 0.000443061274765, 'Glass manufacture', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(188, 0.000422836570178, 'Carpet and rug manufacture', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(189, 0.000414901695203, 'Goldsmith, silversmith', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(190, 0.00041445881846, 'Brass founder, moulder, manufacture', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(191, 0.000411506306842, 'Maltster', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(192, 0.000404235746981, 'Book binder', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(193, 0.000403128555124, 'Road labourer', TRUE, FALSE, 'PAUPER', 'LABORER', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(194, 0.000386299238898, 'Wine and spirit merchant', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(195, 0.000385265859831, 'Fishmonger', TRUE, FALSE, 'LABORER', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(196, 0.000378511989504, 'Merchant', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(197, 0.000371795025572, 'Ribbon manufacture', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(198, 0.000355925275622, 'Protestant Dissenting minister', TRUE, FALSE, 'YEOMAN_OR_MERCHANT', 'GENTLEMAN', FALSE, FALSE, FALSE, FALSE, TRUE, NULL, 0),
+(199, 0, 'Steward', TRUE, FALSE, 'YEOMAN_OR_MERCHANT', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, TRUE, FALSE, TRUE, 4000, 1),
+(200, 0, 'Butler', TRUE, FALSE, 'YEOMAN_OR_MERCHANT', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, TRUE, FALSE, TRUE, 2000, 1),
+(201, 0, 'Housekeeper', FALSE, TRUE, 'LANDOWNER_OR_CRAFTSMAN', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, TRUE, FALSE, FALSE, 1500, 1),
+(202, 0, 'Cook', TRUE, TRUE, 'LANDOWNER_OR_CRAFTSMAN', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, TRUE, FALSE, FALSE, 400, 1),
+(203, 0, 'Valet', TRUE, FALSE, 'YEOMAN_OR_MERCHANT', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, TRUE, FALSE, FALSE, 2000, 1),
+(204, 0, 'Lady''s Maid', FALSE, TRUE, 'LANDOWNER_OR_CRAFTSMAN', 'YEOMAN_OR_MERCHANT', FALSE, FALSE, TRUE, FALSE, FALSE, 2000, 1),
+(205, 0, 'Nurse', FALSE, TRUE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, TRUE, FALSE, FALSE, 2000, 1),
+(206, 0, 'Housemaid', FALSE, TRUE, 'LABORER', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, TRUE, FALSE, FALSE, 400, 2),
+(207, 0, 'Maid', FALSE, TRUE, 'PAUPER', 'LABORER', FALSE, FALSE, TRUE, FALSE, FALSE, 100, 6),
+(208, 0, 'Coachman', TRUE, FALSE, 'LANDOWNER_OR_CRAFTSMAN', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, TRUE, FALSE, FALSE, 1000, 1),
+(209, 0, 'Groom', TRUE, FALSE, 'LABORER', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, TRUE, FALSE, FALSE, 500, 3),
+(210, 0, 'Footman', TRUE, FALSE, 'LABORER', 'LANDOWNER_OR_CRAFTSMAN', FALSE, FALSE, TRUE, FALSE, FALSE, 600, 2);
+
+ALTER SEQUENCE traits_id_seq RESTART WITH 134;
+ALTER SEQUENCE occupations_id_seq RESTART WITH 211;
@@ -0,0 +1,194 @@
+-- The trigger and the repair function look up a person's ancestors by descendant
+CREATE INDEX IF NOT EXISTS idx_ancestry_descendant_id ON ancestry (descendant_id);
+
+-- Recomputes the ancestry rows of the given people and of all their descendants, a generation at a time, from the
+-- parents recorded in persons and families. Rows of everyone else are left alone, and are read as the ancestry of
+-- the parents of the people being recomputed. Returns the number of people recomputed.
+CREATE OR REPLACE FUNCTION repair_ancestry(person_ids INTEGER[]) RETURNS INTEGER AS $$
+DECLARE
+  total     INTEGER;
+  remaining INTEGER;
+  previous  INTEGER;
+BEGIN
+  DROP TABLE IF EXISTS ancestry_pending;
+
+  CREATE TEMPORARY TABLE ancestry_pending ON COMMIT DROP AS
+    WITH RECURSIVE affected(id) AS (
+      SELECT p.id FROM persons p WHERE p.id = ANY(person_ids)
+      UNION
+      SELECT c.id
+      FROM affected a
+      INNER JOIN families f ON f.husband_id = a.id OR f.wife_id = a.id
+      INNER JOIN persons c ON c.family_id = f.id
+    )
+    SELECT a.id, f.husband_id AS father_id, f.wife_id AS mother_id
+    FROM affected a
+    INNER JOIN persons p ON p.id = a.id
+    LEFT JOIN families f ON f.id = p.family_id;
+
+  SELECT COUNT(*) INTO total FROM ancestry_pending;
+  IF total = 0 THEN
+    RETURN 0;
+  END IF;
+
+  DELETE FROM ancestry WHERE descendant_id IN (SELECT id FROM ancestry_pending);
+
+  remaining := total;
+  WHILE remaining > 0 LOOP
+    -- Everyone whose parents are not waiting to be recomputed is ready: their parents' rows are complete
+    WITH ready AS (
+      DELETE FROM ancestry_pending p
+      WHERE NOT EXISTS (
+        SELECT 1 FROM ancestry_pending q WHERE q.id = p.father_id OR q.id = p.mother_id
+      )
+      RETURNING p.id, p.father_id, p.mother_id
+    )
+    INSERT INTO ancestry
+      SELECT r.id, r.id, NULL, NULL, 0 FROM ready r
+      UNION ALL
+      (
+        SELECT DISTINCT ON (r.id, a.ancestor_id)
+          a.ancestor_id,
+          r.id,
+          CASE WHEN a.distance = 0 THEN NULL WHEN a.distance = 1 THEN a.descendant_id::TEXT ELSE a.via || ',' || a.descendant_id END AS via,
+          CASE WHEN a.distance = 0 THEN a.ancestor_id || ',' || r.id ELSE a.path || ',' || r.id END AS path,
+          a.distance + 1 AS distance
+        FROM ready r
+        INNER JOIN ancestry a ON a.descendant_id = r.father_id OR a.descendant_id = r.mother_id
+        ORDER BY r.id, a.ancestor_id, a.distance, a.descendant_id
+      );
+
+    previous := remaining;
+    SELECT COUNT(*) INTO remaining FROM ancestry_pending;
+    IF remaining = previous THEN
+      RAISE EXCEPTION 'Cannot repair ancestry: % people are their own ancestors', remaining;
+    END IF;
+  END LOOP;
+
+  DROP TABLE ancestry_pending;
+  RETURN total;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Rebuilds the whole table with the same generation-at-a-time pass. Only needed if the table has been changed by
+-- hand or the triggers were disabled.
+CREATE OR REPLACE FUNCTION rebuild_ancestry() RETURNS VOID AS $$
+BEGIN
+  TRUNCATE TABLE ancestry;
+  PERFORM repair_ancestry(ARRAY(SELECT id FROM persons));
+END;
+$$ LANGUAGE plpgsql;
+
+-- Compares the table with the closure computed from persons and families, and returns each pair of people whose row
+-- is missing, unexpected, or has the wrong distance. A correct table returns no rows.
+CREATE OR REPLACE FUNCTION verify_ancestry()
+  RETURNS TABLE(ancestor_id INTEGER, descendant_id INTEGER, expected_distance INTEGER, actual_distance INTEGER) AS $$
+BEGIN
+  RETURN QUERY
+    WITH RECURSIVE parent_links AS (
+      SELECT f.husband_id AS parent_id, p.id AS child_id
+      FROM persons p INNER JOIN families f ON f.id = p.family_id
+      WHERE f.husband_id IS NOT NULL
+      UNION
+      SELECT f.wife_id AS parent_id, p.id AS child_id
+      FROM persons p INNER JOIN families f ON f.id = p.family_id
+      WHERE f.wife_id IS NOT NULL
+    ),
+    closure(ancestor_id, descendant_id, distance) AS (
+      SELECT p.id, p.id, 0 FROM persons p
+      UNION
+      SELECT c.ancestor_id, l.child_id, c.distance + 1
+      FROM closure c INNER JOIN parent_links l ON l.parent_id = c.descendant_id
+    ),
+    expected AS (
+      SELECT c.ancestor_id, c.descendant_id, MIN(c.distance) AS distance
+      FROM closure c
+      GROUP BY c.ancestor_id, c.descendant_id
+    )
+    SELECT
+      COALESCE(e.ancestor_id, a.ancestor_id),
+      COALESCE(e.descendant_id, a.descendant_id),
+      e.distance,
+      a.distance
+    FROM expected e
+    FULL OUTER JOIN ancestry a
+      ON a.ancestor_id = e.ancestor_id AND a.descendant_id = e.descendant_id
+    WHERE e.distance IS DISTINCT FROM a.distance
+    ORDER BY 2, 1;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Replace the per-row trigger with statement triggers, so that a multi-row insert is added to the closure in one
+-- pass, and a change of parents repairs the person's whole line of descendants rather than only the person.
+
+DROP TRIGGER IF EXISTS persons_ancestry_tr ON persons;
+DROP FUNCTION IF EXISTS persons_ancestry_tr_func();
+
+CREATE OR REPLACE FUNCTION persons_ancestry_insert_tr_func()
+  RETURNS trigger
+LANGUAGE plpgsql
+AS $function$
+BEGIN
+  PERFORM repair_ancestry(ARRAY(SELECT n.id FROM inserted_persons n));
+  RETURN NULL;
+END;
+$function$
+;
+
+CREATE TRIGGER persons_ancestry_insert_tr
+  AFTER INSERT ON persons
+  REFERENCING NEW TABLE AS inserted_persons
+  FOR EACH STATEMENT EXECUTE PROCEDURE persons_ancestry_insert_tr_func();
+
+CREATE OR REPLACE FUNCTION persons_ancestry_update_tr_func()
+  RETURNS trigger
+LANGUAGE plpgsql
+AS $function$
+DECLARE
+  changed INTEGER[];
+BEGIN
+  changed := ARRAY(
+    SELECT n.id
+    FROM updated_persons n INNER JOIN previous_persons o ON o.id = n.id
+    WHERE o.family_id IS DISTINCT FROM n.family_id
+  );
+  IF cardinality(changed) > 0 THEN
+    PERFORM repair_ancestry(changed);
+  END IF;
+  RETURN NULL;
+END;
+$function$
+;
+
+CREATE TRIGGER persons_ancestry_update_tr
+  AFTER UPDATE ON persons
+  REFERENCING OLD TABLE AS previous_persons NEW TABLE AS updated_persons
+  FOR EACH STATEMENT EXECUTE PROCEDURE persons_ancestry_update_tr_func();
+
+-- A family whose husband or wife is set or changed after its children were saved changes those children's ancestry
+CREATE OR REPLACE FUNCTION families_ancestry_update_tr_func()
+  RETURNS trigger
+LANGUAGE plpgsql
+AS $function$
+DECLARE
+  changed INTEGER[];
+BEGIN
+  changed := ARRAY(
+    SELECT c.id
+    FROM updated_families n
+    INNER JOIN previous_families o ON o.id = n.id
+    INNER JOIN persons c ON c.family_id = n.id
+    WHERE o.husband_id IS DISTINCT FROM n.husband_id OR o.wife_id IS DISTINCT FROM n.wife_id
+  );
+  IF cardinality(changed) > 0 THEN
+    PERFORM repair_ancestry(changed);
+  END IF;
+  RETURN NULL;
+END;
+$function$
+;
+
+CREATE TRIGGER families_ancestry_update_tr
+  AFTER UPDATE ON families
+  REFERENCING OLD TABLE AS previous_families NEW TABLE AS updated_families
+  FOR EACH STATEMENT EXECUTE PROCEDURE families_ancestry_update_tr_func();
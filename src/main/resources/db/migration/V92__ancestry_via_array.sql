@@ -0,0 +1,91 @@
+-- Store the people between an ancestor and a descendant as an array of IDs rather than as comma-joined text, and
+-- drop the path, which is only the ancestor, the via and the descendant joined together. The table is rewritten
+-- by the type change, so it and its indexes come out compacted.
+
+DROP VIEW least_common_ancestors;
+
+ALTER TABLE ancestry DROP COLUMN path;
+
+ALTER TABLE ancestry ALTER COLUMN via TYPE INTEGER[] USING string_to_array(via, ',')::INTEGER[];
+
+CREATE VIEW least_common_ancestors AS
+  SELECT
+    a.descendant_id AS subject_1,
+    b.descendant_id AS subject_2,
+    a.ancestor_id AS least_common_ancestor,
+    a.via AS subject_1_via,
+    a.distance AS subject_1_distance,
+    b.via AS subject_2_via,
+    b.distance AS subject_2_distance
+  FROM ancestry a INNER JOIN ancestry b
+      ON a.ancestor_id = b.ancestor_id
+  ORDER BY
+    (a.distance + b.distance),
+    a.distance,
+    b.distance;
+
+-- As in V91, but appending to the via array
+CREATE OR REPLACE FUNCTION repair_ancestry(person_ids INTEGER[]) RETURNS INTEGER AS $$
+DECLARE
+  total     INTEGER;
+  remaining INTEGER;
+  previous  INTEGER;
+BEGIN
+  DROP TABLE IF EXISTS ancestry_pending;
+
+  CREATE TEMPORARY TABLE ancestry_pending ON COMMIT DROP AS
+    WITH RECURSIVE affected(id) AS (
+      SELECT p.id FROM persons p WHERE p.id = ANY(person_ids)
+      UNION
+      SELECT c.id
+      FROM affected a
+      INNER JOIN families f ON f.husband_id = a.id OR f.wife_id = a.id
+      INNER JOIN persons c ON c.family_id = f.id
+    )
+    SELECT a.id, f.husband_id AS father_id, f.wife_id AS mother_id
+    FROM affected a
+    INNER JOIN persons p ON p.id = a.id
+    LEFT JOIN families f ON f.id = p.family_id;
+
+  SELECT COUNT(*) INTO total FROM ancestry_pending;
+  IF total = 0 THEN
+    RETURN 0;
+  END IF;
+
+  DELETE FROM ancestry WHERE descendant_id IN (SELECT id FROM ancestry_pending);
+
+  remaining := total;
+  WHILE remaining > 0 LOOP
+    -- Everyone whose parents are not waiting to be recomputed is ready: their parents' rows are complete
+    WITH ready AS (
+      DELETE FROM ancestry_pending p
+      WHERE NOT EXISTS (
+        SELECT 1 FROM ancestry_pending q WHERE q.id = p.father_id OR q.id = p.mother_id
+      )
+      RETURNING p.id, p.father_id, p.mother_id
+    )
+    INSERT INTO ancestry
+      SELECT r.id, r.id, NULL::INTEGER[], 0 FROM ready r
+      UNION ALL
+      (
+        SELECT DISTINCT ON (r.id, a.ancestor_id)
+          a.ancestor_id,
+          r.id,
+          CASE WHEN a.distance = 0 THEN NULL WHEN a.distance = 1 THEN ARRAY[a.descendant_id] ELSE a.via || a.descendant_id END AS via,
+          a.distance + 1 AS distance
+        FROM ready r
+        INNER JOIN ancestry a ON a.descendant_id = r.father_id OR a.descendant_id = r.mother_id
+        ORDER BY r.id, a.ancestor_id, a.distance, a.descendant_id
+      );
+
+    previous := remaining;
+    SELECT COUNT(*) INTO remaining FROM ancestry_pending;
+    IF remaining = previous THEN
+      RAISE EXCEPTION 'Cannot repair ancestry: % people are their own ancestors', remaining;
+    END IF;
+  END LOOP;
+
+  DROP TABLE ancestry_pending;
+  RETURN total;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,8 @@
+-- The first day on which anything can happen to a woman's fertility, so that women with nothing due need not be
+-- cycled. It is recalculated whenever the maternity record is saved; until then, the day after the last check is
+-- always a safe value.
+ALTER TABLE maternities ADD COLUMN next_event_date DATE;
+
+UPDATE maternities SET next_event_date = last_check_date + 1 WHERE last_check_date IS NOT NULL;
+
+CREATE INDEX idx_maternities_next_event_date ON maternities (next_event_date);
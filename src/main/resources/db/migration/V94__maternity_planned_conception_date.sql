@@ -0,0 +1,3 @@
+-- The day on which a woman will next conceive if nothing changes, drawn ahead so that the calendar can skip the days
+-- before it. Null until drawn, in which case any day after the last check is a possible conception day.
+ALTER TABLE maternities ADD COLUMN planned_conception_date DATE;
@@ -0,0 +1,117 @@
+-- The update triggers from V91 fired on every update of persons and families, and each one built transition tables
+-- of all the updated rows only to compare their parents. Almost no update changes a parent, so fire only when
+-- family_id, husband_id or wife_id is actually changed. Postgres does not allow transition tables on triggers with
+-- a column list, so these are row triggers, guarded by a WHEN clause so that the function is not even called for
+-- rows whose parents did not change.
+
+DROP TRIGGER IF EXISTS persons_ancestry_update_tr ON persons;
+DROP FUNCTION IF EXISTS persons_ancestry_update_tr_func();
+
+CREATE OR REPLACE FUNCTION persons_ancestry_update_tr_func()
+  RETURNS trigger
+LANGUAGE plpgsql
+AS $function$
+BEGIN
+  PERFORM repair_ancestry(ARRAY[NEW.id]);
+  RETURN NULL;
+END;
+$function$
+;
+
+CREATE TRIGGER persons_ancestry_update_tr
+  AFTER UPDATE OF family_id ON persons
+  FOR EACH ROW
+  WHEN (OLD.family_id IS DISTINCT FROM NEW.family_id)
+  EXECUTE PROCEDURE persons_ancestry_update_tr_func();
+
+DROP TRIGGER IF EXISTS families_ancestry_update_tr ON families;
+DROP FUNCTION IF EXISTS families_ancestry_update_tr_func();
+
+-- A family whose husband or wife is set or changed after its children were saved changes those children's ancestry
+CREATE OR REPLACE FUNCTION families_ancestry_update_tr_func()
+  RETURNS trigger
+LANGUAGE plpgsql
+AS $function$
+DECLARE
+  changed INTEGER[];
+BEGIN
+  changed := ARRAY(SELECT c.id FROM persons c WHERE c.family_id = NEW.id);
+  IF cardinality(changed) > 0 THEN
+    PERFORM repair_ancestry(changed);
+  END IF;
+  RETURN NULL;
+END;
+$function$
+;
+
+CREATE TRIGGER families_ancestry_update_tr
+  AFTER UPDATE OF husband_id, wife_id ON families
+  FOR EACH ROW
+  WHEN (OLD.husband_id IS DISTINCT FROM NEW.husband_id OR OLD.wife_id IS DISTINCT FROM NEW.wife_id)
+  EXECUTE PROCEDURE families_ancestry_update_tr_func();
+
+-- As in V92, but the people waiting to be recomputed are kept in an array rather than in a temporary table, which
+-- had to be created (and its catalog entries written) every time a trigger fired. The arrays are only ever joined
+-- through unnest, so that large repairs such as rebuild_ancestry() can use hash joins rather than scanning the
+-- array for every row.
+CREATE OR REPLACE FUNCTION repair_ancestry(person_ids INTEGER[]) RETURNS INTEGER AS $$
+DECLARE
+  pending INTEGER[];
+  ready   INTEGER[];
+  total   INTEGER;
+BEGIN
+  pending := ARRAY(
+    WITH RECURSIVE affected(id) AS (
+      SELECT p.id FROM persons p INNER JOIN unnest(person_ids) AS i(id) ON i.id = p.id
+      UNION
+      SELECT c.id
+      FROM affected a
+      INNER JOIN families f ON f.husband_id = a.id OR f.wife_id = a.id
+      INNER JOIN persons c ON c.family_id = f.id
+    )
+    SELECT a.id FROM affected a
+  );
+
+  total := cardinality(pending);
+  IF total = 0 THEN
+    RETURN 0;
+  END IF;
+
+  DELETE FROM ancestry a USING unnest(pending) AS q(id) WHERE a.descendant_id = q.id;
+
+  WHILE cardinality(pending) > 0 LOOP
+    -- Everyone whose parents are not waiting to be recomputed is ready: their parents' rows are complete
+    ready := ARRAY(
+      SELECT q.id
+      FROM unnest(pending) AS q(id)
+      INNER JOIN persons p ON p.id = q.id
+      LEFT JOIN families f ON f.id = p.family_id
+      WHERE NOT EXISTS (SELECT 1 FROM unnest(pending) AS w(id) WHERE w.id = f.husband_id)
+        AND NOT EXISTS (SELECT 1 FROM unnest(pending) AS w(id) WHERE w.id = f.wife_id)
+    );
+    IF cardinality(ready) = 0 THEN
+      RAISE EXCEPTION 'Cannot repair ancestry: % people are their own ancestors', cardinality(pending);
+    END IF;
+
+    INSERT INTO ancestry
+      SELECT r.id, r.id, NULL::INTEGER[], 0 FROM unnest(ready) AS r(id)
+      UNION ALL
+      (
+        SELECT DISTINCT ON (r.id, a.ancestor_id)
+          a.ancestor_id,
+          r.id,
+          CASE WHEN a.distance = 0 THEN NULL WHEN a.distance = 1 THEN ARRAY[a.descendant_id] ELSE a.via || a.descendant_id END AS via,
+          a.distance + 1 AS distance
+        FROM unnest(ready) AS r(id)
+        INNER JOIN persons p ON p.id = r.id
+        INNER JOIN families f ON f.id = p.family_id
+        INNER JOIN ancestry a ON a.descendant_id = f.husband_id OR a.descendant_id = f.wife_id
+        ORDER BY r.id, a.ancestor_id, a.distance, a.descendant_id
+      );
+
+    pending := ARRAY(SELECT unnest(pending) EXCEPT SELECT unnest(ready));
+  END LOOP;
+
+  RETURN total;
+END;
+$$ LANGUAGE plpgsql;
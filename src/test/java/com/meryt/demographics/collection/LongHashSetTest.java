@@ -0,0 +1,42 @@
+package com.meryt.demographics.collection;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LongHashSetTest {
+
+    @Test
+    public void addsAndFindsValuesIncludingZero() {
+        LongHashSet set = LongHashSet.of(Arrays.asList(5L, 0L, -3L, 5L));
+
+        assertEquals(3, set.size());
+        assertTrue(set.contains(0L));
+        assertTrue(set.contains(5L));
+        assertTrue(set.contains(-3L));
+        assertFalse(set.contains(4L));
+        assertFalse(set.add(0L));
+        assertArrayEquals(new long[] { -3L, 0L, 5L }, set.toSortedArray());
+    }
+
+    @Test
+    public void growsToHoldManySequentialIds() {
+        LongHashSet set = new LongHashSet();
+        for (long id = 1; id <= 10_000; id++) {
+            assertTrue(set.add(id));
+        }
+
+        assertEquals(10_000, set.size());
+        for (long id = 1; id <= 10_000; id++) {
+            assertTrue(set.contains(id));
+        }
+        assertFalse(set.contains(10_001L));
+        long[] values = set.toSortedArray();
+        assertEquals(1L, values[0]);
+        assertEquals(10_000L, values[values.length - 1]);
+    }
+}
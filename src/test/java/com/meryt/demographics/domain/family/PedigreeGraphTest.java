@@ -0,0 +1,59 @@
+package com.meryt.demographics.domain.family;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+import com.meryt.demographics.collection.LongHashSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PedigreeGraphTest {
+
+    // Grandparents 1 and 2 have children 3 and 4. 3 marries 5 and has 7; 4 marries 6 and has 8. 7 and 8 have 9.
+    private static PedigreeGraph twoCousinsAndTheirChild() {
+        PedigreeGraph graph = new PedigreeGraph();
+        // Children are added before their parents, as they may be when loaded from the database
+        graph.addPerson(9, 7L, 8L);
+        graph.addPerson(7, 3L, 5L);
+        graph.addPerson(8, 6L, 4L);
+        graph.addPerson(3, 1L, 2L);
+        graph.addPerson(4, 1L, 2L);
+        graph.addPerson(1, null, null);
+        graph.addPerson(2, null, null);
+        graph.addPerson(5, null, null);
+        graph.addPerson(6, null, null);
+        return graph;
+    }
+
+    @Test
+    public void measuresDegreesThroughTheNearestCommonAncestor() {
+        PedigreeGraph graph = twoCousinsAndTheirChild();
+
+        assertTrue(graph.isRelatedWithin(3, 4, 2));
+        assertFalse(graph.isRelatedWithin(3, 4, 1));
+        // First cousins
+        assertTrue(graph.isRelatedWithin(7, 8, 4));
+        assertFalse(graph.isRelatedWithin(7, 8, 3));
+        // A grandparent, and a person with themselves
+        assertTrue(graph.isRelatedWithin(9, 1, 3));
+        assertTrue(graph.isRelatedWithin(9, 9, 0));
+        // Spouses with no common ancestor
+        assertFalse(graph.isRelatedWithin(3, 5, 10));
+    }
+
+    @Test
+    public void findsRelativesAmongCandidatesAndSeesNewBirths() {
+        PedigreeGraph graph = twoCousinsAndTheirChild();
+        // Cache 7's ancestors at a shallow depth before asking for a deeper one
+        assertFalse(graph.isRelatedWithin(7, 6, 2));
+
+        LongHashSet related = graph.findRelatedWithin(7, Arrays.asList(1L, 6L, 8L, 9L, 100L), 4);
+        assertArrayEquals(new long[] { 1L, 8L, 9L }, related.toSortedArray());
+
+        graph.addPerson(10, 9L, null);
+        assertTrue(graph.isRelatedWithin(10, 1, 4));
+        assertFalse(graph.isRelatedWithin(10, 1, 3));
+    }
+}
@@ -0,0 +1,59 @@
+package com.meryt.demographics.domain.person;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+import com.meryt.demographics.domain.Occupation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MarriageProfileTest {
+
+    @Test
+    public void countsSharedTraitsAndSumsRatings() {
+        Trait kind = trait(3, 2);
+        Trait proud = trait(70, -1);
+        Trait witty = trait(130, 1);
+
+        Person person = new Person();
+        person.addTraits(Arrays.asList(kind, proud));
+        Person other = new Person();
+        other.addTraits(Arrays.asList(proud, witty));
+
+        assertEquals(1, person.getMarriageProfile().countSharedTraits(other.getMarriageProfile()));
+        assertEquals(1, person.getMarriageProfile().getTraitRatingSum());
+
+        person.addTraits(Arrays.asList(witty));
+        assertEquals(2, person.getMarriageProfile().countSharedTraits(other.getMarriageProfile()));
+        assertEquals(2, person.getMarriageProfile().getTraitRatingSum());
+    }
+
+    @Test
+    public void occupationThatForbidsMarriageCountsUntilItEnds() {
+        Occupation clergy = new Occupation();
+        clergy.setMayMarry(false);
+        Person person = new Person();
+        person.setBirthDate(LocalDate.of(1700, 1, 1));
+        person.setDeathDate(LocalDate.of(1770, 1, 1));
+        assertFalse(person.getMarriageProfile().hasNoMarriageOccupationOnOrAfter(LocalDate.of(1720, 1, 1)));
+
+        person.addOccupation(clergy, LocalDate.of(1725, 1, 1));
+        // Before the job starts, during it, and after the person retires at 60
+        assertTrue(person.getMarriageProfile().hasNoMarriageOccupationOnOrAfter(LocalDate.of(1720, 1, 1)));
+        assertTrue(person.getMarriageProfile().hasNoMarriageOccupationOnOrAfter(LocalDate.of(1740, 1, 1)));
+        assertFalse(person.getMarriageProfile().hasNoMarriageOccupationOnOrAfter(LocalDate.of(1760, 1, 1)));
+
+        person.quitJob(LocalDate.of(1730, 1, 1));
+        assertFalse(person.getMarriageProfile().hasNoMarriageOccupationOnOrAfter(LocalDate.of(1740, 1, 1)));
+    }
+
+    private static Trait trait(long id, int rating) {
+        Trait trait = new Trait();
+        trait.setId(id);
+        trait.setRating(rating);
+        return trait;
+    }
+}
@@ -0,0 +1,42 @@
+package com.meryt.demographics.domain.person.fertility;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class FertilityTablesTest {
+
+    @Test
+    public void ageFactorsChangeAtTheBandBoundaries() {
+        assertEquals(0.0, FertilityTables.getAgeFertilityFactor(-1));
+        assertEquals(0.0, FertilityTables.getAgeFertilityFactor(10));
+        assertEquals(1.0, FertilityTables.getAgeFertilityFactor(11));
+        assertEquals(1.0, FertilityTables.getAgeFertilityFactor(24));
+        assertEquals(0.95, FertilityTables.getAgeFertilityFactor(25));
+        assertEquals(0.83, FertilityTables.getAgeFertilityFactor(34));
+        assertEquals(0.75, FertilityTables.getAgeFertilityFactor(35));
+        assertEquals(0.05, FertilityTables.getAgeFertilityFactor(47));
+        assertEquals(0.0, FertilityTables.getAgeFertilityFactor(FertilityTables.INFERTILE_AGE));
+    }
+
+    @Test
+    public void breastfeedingFactorRisesToOneAfterTwentyThreeMonths() {
+        assertEquals(0.0112, FertilityTables.getBreastfeedingFertilityFactor(0));
+        assertEquals(0.0112, FertilityTables.getBreastfeedingFertilityFactor(179));
+        assertEquals(0.05, FertilityTables.getBreastfeedingFertilityFactor(180));
+        assertEquals(0.45, FertilityTables.getBreastfeedingFertilityFactor(13 * 30 - 1));
+        assertEquals(0.55, FertilityTables.getBreastfeedingFertilityFactor(13 * 30));
+        assertEquals(0.95, FertilityTables.getBreastfeedingFertilityFactor(23 * 30 - 1));
+        assertEquals(1.0, FertilityTables.getBreastfeedingFertilityFactor(23 * 30));
+    }
+
+    @Test
+    public void conceptionPeaksFourteenDaysBeforeTheNextCycle() {
+        assertEquals(0.26, FertilityTables.getDailyConceptionProbability(14));
+        assertEquals(0.02, FertilityTables.getDailyConceptionProbability(10));
+        assertEquals(0.01, FertilityTables.getDailyConceptionProbability(19));
+        assertEquals(0.007, FertilityTables.getDailyConceptionProbability(9));
+        assertEquals(0.007, FertilityTables.getDailyConceptionProbability(20));
+        assertEquals(0.007, FertilityTables.getDailyConceptionProbability(-3));
+    }
+}
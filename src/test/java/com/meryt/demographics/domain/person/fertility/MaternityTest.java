@@ -0,0 +1,142 @@
+package com.meryt.demographics.domain.person.fertility;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+import com.meryt.demographics.domain.person.Gender;
+import com.meryt.demographics.domain.person.Person;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MaternityTest {
+
+    @Test
+    public void checkingARangeOfDaysMatchesCheckingEachDay() {
+        LocalDate from = LocalDate.of(1750, 3, 1);
+        LocalDate to = LocalDate.of(1750, 7, 15);
+        Maternity daily = newMaternity();
+        Maternity ranged = newMaternity();
+
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            daily.checkDay(day);
+        }
+        ranged.checkDays(from, to);
+
+        assertEquals(daily.getLastCycleDate(), ranged.getLastCycleDate());
+        assertEquals(LocalDate.of(1750, 6, 21), ranged.getLastCycleDate());
+        assertNull(ranged.getBreastfeedingTill());
+        assertEquals(to, ranged.getLastCheckDate());
+    }
+
+    @Test
+    public void cycleDateMissedBeforeTheRangeIsNotCaughtUp() {
+        Maternity maternity = newMaternity();
+
+        maternity.checkDays(LocalDate.of(1750, 4, 1), LocalDate.of(1750, 6, 1));
+
+        assertEquals(LocalDate.of(1750, 2, 1), maternity.getLastCycleDate());
+    }
+
+    @Test
+    public void nextEventDateIsTheEndOfAPregnancyOrTheNextDaySheMayConceive() {
+        Person husband = new Person();
+        husband.setGender(Gender.MALE);
+        husband.setDeathDate(LocalDate.of(1760, 1, 1));
+        Person wife = new Person();
+        wife.setGender(Gender.FEMALE);
+        wife.setBirthDate(LocalDate.of(1730, 1, 1));
+        Maternity maternity = newMaternity();
+        maternity.setPerson(wife);
+        maternity.setFather(husband);
+        maternity.setHavingRelations(true);
+        maternity.setFrequencyFactor(1.0);
+        maternity.setLastCheckDate(LocalDate.of(1750, 3, 1));
+
+        assertEquals(LocalDate.of(1750, 3, 2), maternity.calculateNextEventDate());
+
+        maternity.setConceptionDate(LocalDate.of(1750, 3, 1));
+        maternity.setDueDate(LocalDate.of(1750, 11, 22));
+        assertEquals(LocalDate.of(1750, 11, 22), maternity.calculateNextEventDate());
+        maternity.setMiscarriageDate(LocalDate.of(1750, 5, 1));
+        assertEquals(LocalDate.of(1750, 5, 1), maternity.calculateNextEventDate());
+
+        // A widow cannot conceive more than 3 days after her husband's death
+        maternity.clearPregnancyFields();
+        maternity.setLastCheckDate(LocalDate.of(1760, 1, 4));
+        assertNull(maternity.calculateNextEventDate());
+    }
+
+    @Test
+    public void nextEventDateIsThePlannedConceptionDayUntilTheHusbandChanges() {
+        Person husband = new Person();
+        husband.setGender(Gender.MALE);
+        husband.setDeathDate(LocalDate.of(1760, 1, 1));
+        Person wife = new Person();
+        wife.setGender(Gender.FEMALE);
+        wife.setBirthDate(LocalDate.of(1730, 1, 1));
+        Maternity maternity = newMaternity();
+        maternity.setPerson(wife);
+        maternity.setFather(husband);
+        maternity.setHavingRelations(true);
+        maternity.setFrequencyFactor(1.0);
+        maternity.setLastCheckDate(LocalDate.of(1750, 3, 1));
+
+        maternity.setPlannedConceptionDate(LocalDate.of(1750, 9, 10));
+        assertEquals(LocalDate.of(1750, 9, 10), maternity.calculateNextEventDate());
+
+        // A plan past the husband's death means she will not conceive again
+        maternity.setPlannedConceptionDate(LocalDate.of(1760, 1, 5));
+        assertNull(maternity.calculateNextEventDate());
+
+        maternity.setPlannedConceptionDate(LocalDate.of(1750, 9, 10));
+        Person secondHusband = new Person();
+        secondHusband.setGender(Gender.MALE);
+        maternity.setFather(secondHusband);
+        assertNull(maternity.getPlannedConceptionDate());
+        assertEquals(LocalDate.of(1750, 3, 2), maternity.calculateNextEventDate());
+    }
+
+    @Test
+    public void chanceOfConceptionIsTheSameOnEveryDayOfABand() {
+        LocalDate mothersBirthDate = LocalDate.of(1725, 2, 14);
+        LocalDate from = LocalDate.of(1750, 1, 10);
+        LocalDate to = LocalDate.of(1752, 6, 30);
+        Maternity maternity = newMaternity();
+        maternity.setFertilityFactor(1.0);
+        maternity.setFrequencyFactor(1.0);
+        maternity.setWithdrawalFactor(0.5);
+        maternity.setNumBirths(1);
+        maternity.setLastBirthDate(LocalDate.of(1749, 12, 20));
+        // A later pregnancy, so that the band also ends when she becomes pregnant and when she gives birth
+        maternity.setConceptionDate(LocalDate.of(1751, 4, 2));
+        maternity.setDueDate(LocalDate.of(1751, 12, 24));
+
+        int numBands = 0;
+        LocalDate day = from;
+        while (!day.isAfter(to)) {
+            LocalDate lastDay = maternity.getLastDayOfConceptionBand(mothersBirthDate, day);
+            assertFalse(lastDay.isBefore(day));
+            double chance = maternity.getConceptionProbability(mothersBirthDate, day);
+            for (LocalDate d = day; !d.isAfter(lastDay) && !d.isAfter(to); d = d.plusDays(1)) {
+                assertEquals(chance, maternity.getConceptionProbability(mothersBirthDate, d), "Chance changed on " + d);
+                maternity.checkDay(d);
+            }
+            day = lastDay.plusDays(1);
+            numBands++;
+        }
+
+        // Only the days of the fertile window each need a band of their own
+        assertTrue(numBands < DAYS.between(from, to) / 2, "Too many bands: " + numBands);
+    }
+
+    private static Maternity newMaternity() {
+        Maternity maternity = new Maternity();
+        maternity.setLastCycleDate(LocalDate.of(1750, 2, 1));
+        maternity.setBreastfeedingTill(LocalDate.of(1750, 5, 10));
+        return maternity;
+    }
+}
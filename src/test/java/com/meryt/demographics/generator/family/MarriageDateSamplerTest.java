@@ -0,0 +1,63 @@
+package com.meryt.demographics.generator.family;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+import com.meryt.demographics.domain.person.Gender;
+import com.meryt.demographics.domain.person.Person;
+import com.meryt.demographics.generator.random.PercentDie;
+import com.meryt.demographics.generator.random.Randomness;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class MarriageDateSamplerTest {
+
+    private static final int TRIALS = 4000;
+
+    @Test
+    public void samplesSameProbabilityOfMarryingWithinAYearAsDailyRolls() {
+        Person person = new Person();
+        person.setGender(Gender.FEMALE);
+        person.setDomesticity(1.0);
+        person.setBirthDate(LocalDate.of(1700, 8, 15));
+        LocalDate startDate = LocalDate.of(1720, 3, 1);
+        LocalDate endDate = startDate.plusDays(364);
+
+        Randomness.setSeed(12L);
+        int dailyHits = 0;
+        for (int i = 0; i < TRIALS; i++) {
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                if (PercentDie.roll() <= MatchMaker.getDesireToMarryProbability(person, date, 0, null, null)) {
+                    dailyHits++;
+                    break;
+                }
+            }
+        }
+
+        MarriageDateSampler sampler = new MarriageDateSampler(person, 0, null, null);
+        int sampledHits = 0;
+        for (int i = 0; i < TRIALS; i++) {
+            LocalDate date = sampler.nextDesireToMarryDate(startDate, endDate);
+            if (date != null) {
+                assertFalse(date.isBefore(startDate) || date.isAfter(endDate));
+                sampledHits++;
+            }
+        }
+
+        // About half should want to marry within the year; allow 3 standard errors of the difference
+        assertEquals((double) dailyHits / TRIALS, (double) sampledHits / TRIALS, 0.035);
+    }
+
+    @Test
+    public void personWithNoDomesticityNeverWantsToMarry() {
+        Person person = new Person();
+        person.setGender(Gender.MALE);
+        person.setDomesticity(0.0);
+        person.setBirthDate(LocalDate.of(1700, 1, 1));
+
+        MarriageDateSampler sampler = new MarriageDateSampler(person, 0, null, null);
+        assertNull(sampler.nextDesireToMarryDate(LocalDate.of(1720, 1, 1), LocalDate.of(1790, 1, 1)));
+    }
+}
@@ -0,0 +1,87 @@
+package com.meryt.demographics.generator.family;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import com.meryt.demographics.domain.family.Family;
+import com.meryt.demographics.domain.person.Gender;
+import com.meryt.demographics.domain.person.Person;
+import com.meryt.demographics.domain.person.SocialClass;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+public class MarriageMarketIndexTest {
+
+    private static final LocalDate SEARCH_DATE = LocalDate.of(1750, 6, 1);
+
+    @Test
+    public void findsLivingCandidatesInBirthAndRankRange() {
+        Person younger = person(1, Gender.FEMALE, LocalDate.of(1730, 3, 1), SocialClass.GENTLEMAN);
+        Person older = person(2, Gender.FEMALE, LocalDate.of(1728, 8, 1), SocialClass.YEOMAN_OR_MERCHANT);
+        Person dead = person(3, Gender.FEMALE, LocalDate.of(1729, 1, 1), SocialClass.GENTLEMAN);
+        dead.setDeathDate(LocalDate.of(1749, 1, 1));
+        Person tooYoung = person(4, Gender.FEMALE, LocalDate.of(1736, 1, 1), SocialClass.GENTLEMAN);
+        Person tooGrand = person(5, Gender.FEMALE, LocalDate.of(1729, 1, 1), SocialClass.EARL);
+        Person man = person(6, Gender.MALE, LocalDate.of(1729, 1, 1), SocialClass.GENTLEMAN);
+
+        MarriageMarketIndex index = new MarriageMarketIndex(Arrays.asList(younger, older, dead, tooYoung, tooGrand,
+                man));
+        List<Person> candidates = index.findCandidates(Gender.FEMALE, SEARCH_DATE, LocalDate.of(1720, 1, 1),
+                LocalDate.of(1735, 1, 1), SocialClass.LANDOWNER_OR_CRAFTSMAN.getRank(), SocialClass.BARONET.getRank());
+
+        assertEquals(Arrays.asList(older, younger), candidates);
+    }
+
+    @Test
+    public void updateRemovesMarriedAndFinishedPeople() {
+        Person man = person(1, Gender.MALE, LocalDate.of(1725, 1, 1), SocialClass.LABORER);
+        Person woman = person(2, Gender.FEMALE, LocalDate.of(1727, 1, 1), SocialClass.LABORER);
+        Person other = person(3, Gender.MALE, LocalDate.of(1726, 1, 1), SocialClass.LABORER);
+        MarriageMarketIndex index = new MarriageMarketIndex(Arrays.asList(man, woman, other));
+        assertEquals(3, index.size());
+
+        Family family = new Family();
+        family.setHusband(man);
+        family.setWife(woman);
+        family.setWeddingDate(SEARCH_DATE);
+        index.update(man);
+        index.update(woman);
+        other.setFinishedGeneration(true);
+        index.update(other);
+
+        // A woman married once may still remarry; a married man may not
+        assertEquals(1, index.size());
+        assertTrue(index.findCandidates(Gender.MALE, SEARCH_DATE, null, null, 0, 13).isEmpty());
+        assertEquals(1, index.findCandidates(Gender.FEMALE, SEARCH_DATE, null, null, 0, 13).size());
+    }
+
+    @Test
+    public void indexOfEligiblePeopleDoesNotLoadTheirFamilies() {
+        Person woman = spy(person(1, Gender.FEMALE, LocalDate.of(1728, 1, 1), SocialClass.LABORER));
+        Person man = spy(person(2, Gender.MALE, LocalDate.of(1725, 1, 1), SocialClass.LABORER));
+
+        MarriageMarketIndex index = MarriageMarketIndex.ofEligible(Arrays.asList(woman, man));
+        List<Person> candidates = index.findCandidates(Gender.FEMALE, SEARCH_DATE, null, null, 0, 13);
+
+        assertEquals(List.of(woman), candidates);
+        // The query that loaded them already checked their families
+        verify(woman, never()).getFamilies();
+        verify(man, never()).getFamilies();
+    }
+
+    private static Person person(long id, Gender gender, LocalDate birthDate, SocialClass socialClass) {
+        Person person = new Person();
+        person.setId(id);
+        person.setGender(gender);
+        person.setBirthDate(birthDate);
+        person.setDeathDate(birthDate.plusYears(60));
+        person.setSocialClass(socialClass);
+        return person;
+    }
+}
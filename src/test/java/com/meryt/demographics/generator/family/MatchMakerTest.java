@@ -1,10 +1,14 @@
 package com.meryt.demographics.generator.family;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
+import com.meryt.demographics.domain.person.Gender;
 import com.meryt.demographics.domain.person.Person;
+import com.meryt.demographics.domain.person.SocialClass;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class MatchMakerTest {
@@ -19,4 +23,35 @@ public class MatchMakerTest {
             assertTrue(percent > 0.0 && percent <= 1.0, String.format("Percent %4f is not between 0.0 and 1.0", percent));
         }
     }
+
+    @Test
+    public void scoreCompatibilityRanksDomesticSpousesHigherAndExcludesIneligible() {
+        LocalDate onDate = LocalDate.of(1725, 1, 1);
+        Person man = person(Gender.MALE, 0.6);
+        Person domesticWoman = person(Gender.FEMALE, 0.9);
+        Person undomesticWoman = person(Gender.FEMALE, 0.1);
+        Person otherMan = person(Gender.MALE, 0.9);
+        Person deadWoman = person(Gender.FEMALE, 0.9);
+        deadWoman.setDeathDate(LocalDate.of(1724, 1, 1));
+
+        double[] scores = MatchMaker.scoreCompatibility(man,
+                Arrays.asList(domesticWoman, undomesticWoman, otherMan, deadWoman), onDate);
+
+        assertTrue(scores[0] > scores[1]);
+        assertTrue(scores[0] <= 1.0 && scores[1] >= 0.0);
+        assertEquals(0.0, scores[2]);
+        assertEquals(0.0, scores[3]);
+    }
+
+    private static Person person(Gender gender, double domesticity) {
+        Person person = new Person();
+        person.setGender(gender);
+        person.setDomesticity(domesticity);
+        person.setComeliness(0.5);
+        person.setCharisma(0.5);
+        person.setSocialClass(SocialClass.YEOMAN_OR_MERCHANT);
+        person.setBirthDate(LocalDate.of(1700, 1, 1));
+        person.setDeathDate(LocalDate.of(1760, 1, 1));
+        return person;
+    }
 }
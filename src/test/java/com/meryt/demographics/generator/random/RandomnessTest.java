@@ -0,0 +1,60 @@
+package com.meryt.demographics.generator.random;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class RandomnessTest {
+
+    @Test
+    public void sameSeedGivesSameRolls() {
+        Randomness.setSeed(1234L);
+        int first = BetweenDie.roll(1, 1000);
+        double second = PercentDie.roll();
+
+        Randomness.setSeed(1234L);
+        assertEquals(first, BetweenDie.roll(1, 1000));
+        assertEquals(second, PercentDie.roll());
+    }
+
+    @Test
+    public void partitionStreamsDependOnlyOnSeedAndKeys() {
+        long streamKey = Randomness.streamKey(1, LocalDate.of(1750, 3, 25));
+
+        Randomness.setSeed(42L);
+        long a = Randomness.forPartition(streamKey, 7L).nextLong();
+        long b = Randomness.forPartition(streamKey, 8L).nextLong();
+        // Rolling on the calling thread must not change the partition streams
+        PercentDie.roll();
+        assertEquals(a, Randomness.forPartition(streamKey, 7L).nextLong());
+        assertNotEquals(a, b);
+    }
+
+    @Test
+    public void withStreamRestoresCallingThreadStream() {
+        Randomness.setSeed(99L);
+        double expected = Randomness.nextDouble();
+
+        Randomness.setSeed(99L);
+        Randomness.withStream(new SplittableRandom(5L), Randomness::nextDouble);
+        assertEquals(expected, Randomness.nextDouble());
+    }
+
+    @Test
+    public void geometricSkipHasTheMeanOfDailyRolls() {
+        Randomness.setSeed(7L);
+        double probability = 0.01;
+        int samples = 20000;
+        double total = 0;
+        for (int i = 0; i < samples; i++) {
+            total += Randomness.nextGeometric(probability);
+        }
+        // The number of failures before the first success has mean (1 - p) / p
+        assertEquals((1 - probability) / probability, total / samples, 3.0);
+        assertEquals(0, Randomness.nextGeometric(1.0));
+        assertEquals(Long.MAX_VALUE, Randomness.nextGeometric(0.0));
+    }
+}
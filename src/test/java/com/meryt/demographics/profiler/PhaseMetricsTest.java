@@ -0,0 +1,44 @@
+package com.meryt.demographics.profiler;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PhaseMetricsTest {
+
+    @Test
+    public void bucketsArePowersOfTwo() {
+        assertEquals(0, PhaseMetrics.bucketFor(0));
+        assertEquals(1, PhaseMetrics.bucketFor(1));
+        assertEquals(2, PhaseMetrics.bucketFor(2));
+        assertEquals(2, PhaseMetrics.bucketFor(3));
+        assertEquals(11, PhaseMetrics.bucketFor(1024));
+        assertEquals(63, PhaseMetrics.bucketFor(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void quantilesAreBoundedByBucketAndMax() {
+        PhaseMetrics metrics = new PhaseMetrics();
+        for (int i = 0; i < 99; i++) {
+            metrics.record(1000);
+        }
+        metrics.record(1_000_000);
+
+        assertEquals(100, metrics.getCount());
+        assertEquals(1_000_000, metrics.getMaxNanos());
+        long p50 = metrics.getQuantileNanos(0.5);
+        assertTrue(p50 >= 1000 && p50 < 2048, "p50 was " + p50);
+        assertEquals(1_000_000, metrics.getQuantileNanos(1.0));
+    }
+
+    @Test
+    public void resetClearsEverything() {
+        PhaseMetrics metrics = new PhaseMetrics();
+        metrics.record(500);
+        metrics.reset();
+        assertEquals(0, metrics.getCount());
+        assertEquals(0, metrics.getTotalNanos());
+        assertEquals(0, metrics.getQuantileNanos(0.5));
+    }
+}
@@ -0,0 +1,78 @@
+package com.meryt.demographics.repository;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the reference data of the in-memory profile against the Flyway migrations it is generated from
+ */
+public class ReferenceDataTest {
+
+    private static final Pattern MIGRATION_VERSION = Pattern.compile("^V(\\d+)__.*\\.sql$");
+    private static final Pattern SEED_VERSION = Pattern.compile("the migrations up to V(\\d+) have run");
+    private static final Pattern REFERENCE_TABLE = Pattern.compile(
+            "\\b(names_first|names_last|life_table|town_templates|town_house_templates|traits|occupations)\\b",
+            Pattern.CASE_INSENSITIVE);
+
+    @Test
+    public void noLaterMigrationChangesTheReferenceTables() throws IOException, URISyntaxException {
+        int seedVersion = getSeedVersion();
+
+        List<String> laterMigrations = new ArrayList<>();
+        try (Stream<Path> migrations = Files.list(resource("db/migration"))) {
+            for (Path migration : (Iterable<Path>) migrations::iterator) {
+                String fileName = migration.getFileName().toString();
+                Matcher matcher = MIGRATION_VERSION.matcher(fileName);
+                if (matcher.matches() && Integer.parseInt(matcher.group(1)) > seedVersion
+                        && REFERENCE_TABLE.matcher(Files.readString(migration)).find()) {
+                    laterMigrations.add(fileName);
+                }
+            }
+        }
+
+        assertEquals(List.of(), laterMigrations, "These migrations change reference tables, so reference-data.sql "
+                + "must be regenerated with generate-reference-data.sh");
+    }
+
+    /**
+     * Regenerates the reference data from a migrated database and compares it with the committed file. Runs only if
+     * REFERENCE_DB names a database that all the migrations have been run against, and needs psql.
+     */
+    @Test
+    @EnabledIfEnvironmentVariable(named = "REFERENCE_DB", matches = ".+")
+    public void referenceDataMatchesTheMigratedDatabase(@TempDir Path tempDir)
+            throws IOException, InterruptedException, URISyntaxException {
+        Path generated = tempDir.resolve("reference-data.sql");
+        ProcessBuilder builder = new ProcessBuilder("bash",
+                resource("db/inmemory/generate-reference-data.sh").toString(), generated.toString());
+        builder.environment().put("DEMO_DB", System.getenv("REFERENCE_DB"));
+        builder.inheritIO();
+
+        assertEquals(0, builder.start().waitFor(), "generate-reference-data.sh failed");
+        assertEquals(Files.readAllLines(resource("db/inmemory/reference-data.sql")), Files.readAllLines(generated));
+    }
+
+    private static int getSeedVersion() throws IOException, URISyntaxException {
+        String seed = Files.readString(resource("db/inmemory/reference-data.sql"));
+        Matcher matcher = SEED_VERSION.matcher(seed);
+        assertTrue(matcher.find(), "reference-data.sql does not say which migration it was generated from");
+        return Integer.parseInt(matcher.group(1));
+    }
+
+    private static Path resource(String name) throws URISyntaxException {
+        return Path.of(ReferenceDataTest.class.getClassLoader().getResource(name).toURI());
+    }
+}
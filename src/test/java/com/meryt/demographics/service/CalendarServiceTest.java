@@ -0,0 +1,92 @@
+package com.meryt.demographics.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FlushModeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import com.meryt.demographics.domain.person.Gender;
+import com.meryt.demographics.domain.person.Person;
+import com.meryt.demographics.generator.family.FamilyGenerator;
+import com.meryt.demographics.profiler.MetricsRegistry;
+import com.meryt.demographics.request.AdvanceToDatePost;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class CalendarServiceTest {
+
+    // The Black Death
+    private static final LocalDate PLAGUE_DAY = LocalDate.of(1350, 3, 2);
+
+    private ConfigurationService configurationService;
+    private PersonService personService;
+    private EntityManager entityManager;
+    private CalendarService service;
+
+    @BeforeEach
+    public void setUp() {
+        configurationService = mock(ConfigurationService.class);
+        personService = mock(PersonService.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> mock(TransactionStatus.class));
+        entityManager = mock(EntityManager.class);
+        when(entityManager.getFlushMode()).thenReturn(FlushModeType.AUTO);
+
+        service = new CalendarService(configurationService, personService, mock(FamilyGenerator.class),
+                mock(FertilityService.class), mock(FamilyService.class), mock(InheritanceService.class),
+                mock(OccupationService.class), mock(WealthService.class), mock(DwellingPlaceService.class),
+                mock(ImmigrationService.class), mock(HouseholdDwellingPlaceService.class), mock(TitleService.class),
+                mock(HouseholdService.class), mock(ParallelWorkService.class), transactionManager,
+                mock(MetricsRegistry.class));
+        ReflectionTestUtils.setField(service, "entityManager", entityManager);
+    }
+
+    @Test
+    public void plagueDeathsAreWrittenBeforeTheDayDeathsAreQueried() {
+        when(configurationService.getCurrentDate()).thenReturn(PLAGUE_DAY.minusDays(1));
+        // Enough people that some of them die of the plague on the day
+        when(personService.findAllLiving(any())).thenReturn(newPeople(20000));
+
+        service.advanceToDay(PLAGUE_DAY, newPost());
+
+        // Within a session queries do not flush, so the victims must be written before their deaths are looked up
+        InOrder inOrder = inOrder(personService, entityManager);
+        inOrder.verify(personService, atLeastOnce()).save(any());
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(personService).findByDeathDate(PLAGUE_DAY);
+    }
+
+    private static AdvanceToDatePost newPost() {
+        AdvanceToDatePost post = new AdvanceToDatePost();
+        post.setDate(PLAGUE_DAY);
+        post.setGenerateMarriages(false);
+        post.setProcessImmigrants(false);
+        post.setProcessQuarterDays(false);
+        post.setSessionFlushDays(10);
+        post.setRandomSeed(1L);
+        return post;
+    }
+
+    private static List<Person> newPeople(int count) {
+        List<Person> people = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Person person = new Person();
+            person.setId(i + 1);
+            person.setGender(i % 2 == 0 ? Gender.MALE : Gender.FEMALE);
+            person.setBirthDate(LocalDate.of(1300 + i % 40, 1 + i % 12, 1));
+            people.add(person);
+        }
+        return people;
+    }
+}
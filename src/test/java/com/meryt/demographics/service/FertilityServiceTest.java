@@ -0,0 +1,164 @@
+package com.meryt.demographics.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.meryt.demographics.domain.person.Gender;
+import com.meryt.demographics.domain.person.Person;
+import com.meryt.demographics.domain.person.fertility.Maternity;
+import com.meryt.demographics.domain.person.fertility.Paternity;
+import com.meryt.demographics.generator.person.PersonGenerator;
+import com.meryt.demographics.generator.random.Randomness;
+import com.meryt.demographics.repository.MaternityRepository;
+import com.meryt.demographics.response.calendar.CalendarDayEvent;
+import com.meryt.demographics.response.calendar.CalendarEventType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class FertilityServiceTest {
+
+    private static final LocalDate WEDDING_DATE = LocalDate.of(1750, 5, 1);
+    private static final long STREAM_KEY = Randomness.streamKey(3, WEDDING_DATE);
+
+    private FertilityService service;
+    private ParallelWorkService parallelWorkService;
+
+    @BeforeEach
+    public void setUp() {
+        Randomness.setSeed(1L);
+        service = new FertilityService(mock(FamilyService.class), mock(PersonService.class),
+                mock(PersonGenerator.class), mock(MaternityRepository.class), mock(HouseholdService.class));
+        parallelWorkService = new ParallelWorkService(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        parallelWorkService.shutdown();
+    }
+
+    @Test
+    public void cyclingInParallelChunksMatchesCyclingEachWomanInTurn() {
+        // Short enough that no one conceived in the range gives birth in it
+        LocalDate toDate = WEDDING_DATE.plusDays(184);
+        List<Person> serialWomen = newWomen(40);
+        List<Person> parallelWomen = newWomen(40);
+
+        List<List<CalendarDayEvent>> serialEvents = new ArrayList<>();
+        for (Person woman : serialWomen) {
+            serialEvents.add(Randomness.withStream(Randomness.forPartition(STREAM_KEY, woman.getId()),
+                    () -> service.cycleToDate(woman, toDate, true)));
+        }
+        SortedMap<Long, MaternityCycle> cycles = cycleInParallel(parallelWomen, toDate, true);
+
+        int conceptions = 0;
+        for (int i = 0; i < serialWomen.size(); i++) {
+            Maternity serial = serialWomen.get(i).getMaternity();
+            Maternity parallel = parallelWomen.get(i).getMaternity();
+            assertEquals(serial.getLastCheckDate(), parallel.getLastCheckDate());
+            assertEquals(serial.getLastCycleDate(), parallel.getLastCycleDate());
+            assertEquals(serial.getConceptionDate(), parallel.getConceptionDate());
+            assertEquals(serial.getMiscarriageDate(), parallel.getMiscarriageDate());
+            assertEquals(serial.getDueDate(), parallel.getDueDate());
+            assertEquals(serial.getNumMiscarriages(), parallel.getNumMiscarriages());
+            assertEquals(serial.getPlannedConceptionDate(), parallel.getPlannedConceptionDate());
+            assertEquals(describe(serialEvents.get(i)),
+                    describe(cycles.get(parallelWomen.get(i).getId()).getEvents()));
+            if (serial.getConceptionDate() != null) {
+                conceptions++;
+            }
+        }
+        assertTrue(conceptions > 0, "No one conceived, so nothing was compared");
+    }
+
+    @Test
+    public void miscarriageDeathIsReportedAsAnEvent() {
+        LocalDate miscarriageDate = WEDDING_DATE.plusDays(60);
+        LocalDate toDate = WEDDING_DATE.plusDays(90);
+        List<Person> women = newWomen(5000);
+        for (Person woman : women) {
+            Maternity maternity = woman.getMaternity();
+            maternity.setConceptionDate(WEDDING_DATE.minusDays(30));
+            maternity.setDueDate(WEDDING_DATE.plusDays(236));
+            maternity.setMiscarriageDate(miscarriageDate);
+        }
+
+        SortedMap<Long, MaternityCycle> cycles = cycleInParallel(women, toDate, true);
+
+        int deaths = 0;
+        for (MaternityCycle cycle : cycles.values()) {
+            Person woman = cycle.getWoman();
+            boolean hasDeathEvent = cycle.getEvents().stream()
+                    .anyMatch(e -> e.getType() == CalendarEventType.DEATH && e.getDate().equals(miscarriageDate));
+            if (miscarriageDate.equals(woman.getDeathDate())) {
+                deaths++;
+                // Her death is before the date cycled to, so the calendar relies on this event to process it
+                assertTrue(hasDeathEvent, "No death event for " + woman.getId());
+            } else {
+                assertFalse(hasDeathEvent, "Death event for surviving " + woman.getId());
+            }
+        }
+        assertTrue(deaths > 0, "No one died of a miscarriage");
+    }
+
+    private SortedMap<Long, MaternityCycle> cycleInParallel(List<Person> women,
+                                                            LocalDate toDate,
+                                                            boolean allowMaternalDeath) {
+        SortedMap<Long, MaternityCycle> cycles = new TreeMap<>();
+        for (Person woman : women) {
+            cycles.put(woman.getId(), service.startCycle(woman, toDate, allowMaternalDeath));
+        }
+        parallelWorkService.forEachInParallel(cycles, 8, STREAM_KEY, MaternityCycle::checkDaysUntilBirth);
+        service.finishCycles(new ArrayList<>(cycles.values()));
+        return cycles;
+    }
+
+    /**
+     * Creates married women of various ages and points in their cycles, each with her own husband
+     */
+    private static List<Person> newWomen(int count) {
+        List<Person> women = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Person husband = new Person();
+            husband.setId(2L * i + 1);
+            husband.setGender(Gender.MALE);
+            husband.setBirthDate(LocalDate.of(1720 + i % 10, 1 + i % 12, 1));
+            husband.setDeathDate(LocalDate.of(1790, 1, 1));
+            Paternity paternity = new Paternity();
+            paternity.setFertilityFactor(1.0);
+            husband.setPaternity(paternity);
+
+            Person wife = new Person();
+            wife.setId(2L * i + 2);
+            wife.setGender(Gender.FEMALE);
+            wife.setBirthDate(LocalDate.of(1725 + i % 10, 1 + (i * 5) % 12, 1));
+            wife.setDeathDate(LocalDate.of(1790, 1, 1));
+            Maternity maternity = new Maternity();
+            maternity.setFertilityFactor(1.0);
+            maternity.setFrequencyFactor(1.0);
+            maternity.setHavingRelations(true);
+            maternity.setLastCycleDate(WEDDING_DATE.minusDays(i % 28));
+            maternity.setLastCheckDate(WEDDING_DATE);
+            maternity.setFather(husband);
+            wife.setMaternity(maternity);
+            women.add(wife);
+        }
+        return women;
+    }
+
+    private static List<String> describe(List<CalendarDayEvent> events) {
+        List<String> descriptions = new ArrayList<>();
+        for (CalendarDayEvent event : events) {
+            descriptions.add(event.getType() + " " + event.getDate());
+        }
+        return descriptions;
+    }
+}
@@ -0,0 +1,81 @@
+package com.meryt.demographics.service;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.meryt.demographics.domain.person.Gender;
+import com.meryt.demographics.generator.random.Randomness;
+import com.meryt.demographics.repository.LifeTableRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class LifeTableServiceTest {
+
+    private static final LocalDate BIRTH_DATE = LocalDate.of(1720, 1, 1);
+
+    private LifeTableRepository mockLifeTableRepository;
+
+    private LifeTableService service;
+
+    @BeforeEach
+    public void setUp() {
+        Randomness.setSeed(1L);
+        mockLifeTableRepository = mock(LifeTableRepository.class);
+        when(mockLifeTableRepository.getLxValues(anyString(), any()))
+                .thenAnswer(invocation -> lxValues());
+        service = new LifeTableService(mockLifeTableRepository);
+    }
+
+    @Test
+    public void loadsEachLifeTableOnlyOnce() {
+        for (int i = 0; i < 100; i++) {
+            service.randomLifeExpectancy(BIRTH_DATE, null, null, Gender.MALE);
+            service.randomLifeExpectancy(BIRTH_DATE, 20, 60, Gender.FEMALE);
+        }
+
+        verify(mockLifeTableRepository, times(1)).getLxValues("victorian", Gender.MALE);
+        verify(mockLifeTableRepository, times(1)).getLxValues("victorian", Gender.FEMALE);
+    }
+
+    @Test
+    public void lifeExpectancyFallsWithinTheAgeWindow() {
+        // The table's tail is tiny, which would have rejection sampling spin for a very long time
+        for (int i = 0; i < 1000; i++) {
+            long days = service.randomLifeExpectancy(BIRTH_DATE, 95, 99, Gender.MALE);
+            long years = days / 364;
+            assertTrue(years >= 96 && years <= 100, "Age out of window: " + years);
+        }
+    }
+
+    @Test
+    public void findsTheFirstAgeBelowAValue() {
+        double[] lx = { 1.0, 0.8, 0.8, 0.5, 0.1 };
+
+        assertEquals(1, LifeTableService.findFirstAgeBelow(lx, 0.9));
+        assertEquals(3, LifeTableService.findFirstAgeBelow(lx, 0.8));
+        assertEquals(4, LifeTableService.findFirstAgeBelow(lx, 0.2));
+        assertEquals(5, LifeTableService.findFirstAgeBelow(lx, 0.1));
+        assertEquals(0, LifeTableService.findFirstAgeBelow(lx, 1.5));
+    }
+
+    /**
+     * A survival curve that drops steeply in old age, so that very few survive to 100
+     */
+    private static double[] lxValues() {
+        double[] lx = new double[101];
+        lx[0] = 1.0;
+        for (int age = 1; age < lx.length; age++) {
+            double hazard = 0.01 + 0.0005 * Math.exp(0.1 * age);
+            lx[age] = lx[age - 1] * Math.exp(-hazard);
+        }
+        return lx;
+    }
+}
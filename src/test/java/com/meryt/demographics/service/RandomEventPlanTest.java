@@ -0,0 +1,45 @@
+package com.meryt.demographics.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class RandomEventPlanTest {
+
+    private static final LocalDate DAY = LocalDate.of(1750, 3, 1);
+
+    @Test
+    public void redrawingASuitorReplacesTheirPlannedDate() {
+        RandomEventPlan plan = new RandomEventPlan();
+        plan.setSuitorDate(3L, DAY);
+        plan.setSuitorDate(1L, DAY);
+        plan.setSuitorDate(2L, DAY.plusDays(5));
+
+        assertEquals(List.of(1L, 3L), plan.getSuitorIds(DAY));
+
+        plan.setSuitorDate(1L, DAY.plusDays(5));
+        plan.setSuitorDate(3L, null);
+
+        assertEquals(List.of(), plan.getSuitorIds(DAY));
+        assertEquals(List.of(1L, 2L), plan.getSuitorIds(DAY.plusDays(5)));
+        assertEquals(DAY.plusDays(5), plan.getNextMarriageDate());
+    }
+
+    @Test
+    public void nextArrivalDateMovesOnWhenTheFirstIsRedrawn() {
+        RandomEventPlan plan = new RandomEventPlan();
+        plan.setArrivalDate(10L, DAY);
+        plan.setArrivalDate(20L, DAY.plusDays(30));
+
+        assertEquals(DAY, plan.getNextArrivalDate());
+
+        plan.setArrivalDate(10L, null);
+        assertEquals(DAY.plusDays(30), plan.getNextArrivalDate());
+
+        plan.setArrivalDate(20L, null);
+        assertNull(plan.getNextArrivalDate());
+    }
+}
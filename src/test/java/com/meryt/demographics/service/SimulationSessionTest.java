@@ -0,0 +1,124 @@
+package com.meryt.demographics.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FlushModeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SimulationSessionTest {
+
+    private static final LocalDate START = LocalDate.of(1750, 1, 1);
+
+    private PlatformTransactionManager transactionManager;
+    private EntityManager entityManager;
+    private List<LocalDate> workingSetLoads;
+
+    /**
+     * Stands in for the current date in the database: written within a chunk, and only kept if the chunk commits
+     */
+    private LocalDate pendingDate;
+    private LocalDate committedDate;
+
+    @BeforeEach
+    public void setUp() {
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> mock(TransactionStatus.class));
+        doAnswer(invocation -> committedDate = pendingDate).when(transactionManager).commit(any());
+        doAnswer(invocation -> pendingDate = committedDate).when(transactionManager).rollback(any());
+        entityManager = mock(EntityManager.class);
+        when(entityManager.getFlushMode()).thenReturn(FlushModeType.AUTO);
+        workingSetLoads = new ArrayList<>();
+        committedDate = START;
+        pendingDate = START;
+    }
+
+    @Test
+    public void chunkWritesItsChangesInBatchesAndReloadsTheWorkingSet() {
+        try (SimulationSession session = newSession(3)) {
+            for (int i = 1; i <= 7; i++) {
+                advanceOneDay(session, START.plusDays(i));
+            }
+            session.commit();
+        }
+
+        // One transaction per 3 days, each starting with a fresh working set
+        verify(transactionManager, times(3)).getTransaction(any());
+        verify(transactionManager, times(3)).commit(any());
+        assertEquals(List.of(START.plusDays(1), START.plusDays(4), START.plusDays(7)), workingSetLoads);
+        // Changes are written at the end of each day that does not end a chunk, not on every save or query
+        verify(entityManager, times(3)).setFlushMode(FlushModeType.COMMIT);
+        verify(entityManager, times(5)).flush();
+        // The context is emptied after every commit
+        verify(entityManager, times(3)).clear();
+        assertEquals(START.plusDays(7), committedDate);
+    }
+
+    @Test
+    public void contextIsClearedAfterTheChunkCommits() {
+        try (SimulationSession session = newSession(1)) {
+            advanceOneDay(session, START.plusDays(1));
+
+            InOrder inOrder = inOrder(transactionManager, entityManager);
+            inOrder.verify(transactionManager).commit(any());
+            inOrder.verify(entityManager).clear();
+            inOrder.verify(entityManager).setFlushMode(FlushModeType.AUTO);
+        }
+    }
+
+    @Test
+    public void rollbackLeavesTheCurrentDateAtTheLastCheckpoint() {
+        assertThrows(IllegalStateException.class, () -> {
+            try (SimulationSession session = newSession(3)) {
+                for (int i = 1; i <= 7; i++) {
+                    if (i == 5) {
+                        throw new IllegalStateException("Failed on day 5");
+                    }
+                    advanceOneDay(session, START.plusDays(i));
+                }
+            }
+        });
+
+        verify(transactionManager).rollback(any());
+        assertEquals(START.plusDays(3), committedDate);
+        assertEquals(START.plusDays(3), pendingDate);
+    }
+
+    @Test
+    public void disabledSessionDoesNothing() {
+        try (SimulationSession session = newSession(0)) {
+            advanceOneDay(session, START.plusDays(1));
+            session.commit();
+        }
+
+        verify(transactionManager, never()).getTransaction(any());
+        verify(entityManager, never()).flush();
+        assertEquals(List.of(), workingSetLoads);
+    }
+
+    private SimulationSession newSession(int flushDays) {
+        return new SimulationSession(transactionManager, entityManager, flushDays, workingSetLoads::add);
+    }
+
+    private void advanceOneDay(SimulationSession session, LocalDate date) {
+        session.beforeDay(date);
+        pendingDate = date;
+        session.afterDay(date);
+    }
+}